@@ -0,0 +1,152 @@
+package com.stsmod.ascension100.bench;
+
+import com.megacrit.cardcrawl.actions.AbstractGameAction;
+import com.megacrit.cardcrawl.actions.common.ApplyPowerAction;
+import com.megacrit.cardcrawl.actions.common.DamageAction;
+import com.megacrit.cardcrawl.actions.common.GainBlockAction;
+import com.megacrit.cardcrawl.cards.DamageInfo;
+import com.megacrit.cardcrawl.characters.AbstractPlayer;
+import com.megacrit.cardcrawl.characters.Ironclad;
+import com.megacrit.cardcrawl.core.AbstractCreature;
+import com.megacrit.cardcrawl.monsters.AbstractMonster;
+import com.megacrit.cardcrawl.monsters.exordium.Cultist;
+import com.megacrit.cardcrawl.monsters.exordium.JawWorm;
+import com.megacrit.cardcrawl.monsters.exordium.LouseDefensive;
+import com.megacrit.cardcrawl.monsters.exordium.LouseNormal;
+import com.megacrit.cardcrawl.powers.CurlUpPower;
+import com.stsmod.ascension100.patches.levels.Level51;
+import com.stsmod.ascension100.patches.levels.Level83;
+import com.stsmod.ascension100.patches.levels.LouseCurlUpPatch;
+import com.stsmod.ascension100.util.AscensionRuleSet;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Action constructor postfixes, run on every action of every combat
+ *
+ * - GainBlockAction: Level83 (+10% monster block)
+ * - ApplyPowerAction: LouseCurlUpPatch
+ * - DamageAction: Level51 ExploderExplosionDamage
+ *
+ * Each benchmark calls the real Postfix on an action, its target creature and
+ * power / damage info allocated without their constructors (see
+ * DungeonStatics), and walks the same mix of mostly non-matching actions the
+ * hooks see in a real fight. The amounts a postfix changes are reset before
+ * each call.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ActionHookBenchmark {
+
+    /** Block amounts of monster GainBlockActions (target is a monster every other time) */
+    static final int[] BLOCK_AMOUNTS = {5, 6, 9, 12, 15, 20, 4, 30};
+
+    /** Target ids of ApplyPowerActions carrying CurlUpPower */
+    static final String[] POWER_TARGETS = {"FuzzyLouseNormal", "JawWorm", "FuzzyLouseDefensive", "Cultist"};
+
+    /** DamageAction infos: mostly player attacks, one ExplosivePower hit */
+    static final DamageInfo.DamageType[] DAMAGE_TYPES = {
+        DamageInfo.DamageType.NORMAL, DamageInfo.DamageType.NORMAL,
+        DamageInfo.DamageType.THORNS, DamageInfo.DamageType.THORNS
+    };
+    static final int[] DAMAGE_BASES = {6, 9, 3, 30};
+    static final boolean[] DAMAGE_TO_PLAYER = {false, true, false, true};
+
+    static final int CURL_UP_AMOUNT = 5;
+
+    @Param({"0", "20", "50", "100"})
+    public int ascensionLevel;
+
+    private int next;
+
+    private AbstractPlayer player;
+    private AbstractMonster monster;
+    private GainBlockAction blockAction;
+    private ApplyPowerAction powerAction;
+    private AbstractMonster[] powerTargets;
+    private CurlUpPower curlUp;
+    private DamageAction damageAction;
+    private DamageInfo[] damageInfos;
+    private AbstractCreature[] damageTargets;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        AscensionRuleSet.install(AscensionRuleSet.compile(ascensionLevel > 0, ascensionLevel));
+
+        player = DungeonStatics.allocate(Ironclad.class);
+        player.isPlayer = true;
+        player.id = "Ironclad";
+        monster = monster(JawWorm.class, "JawWorm");
+
+        blockAction = DungeonStatics.allocate(GainBlockAction.class);
+
+        powerAction = DungeonStatics.allocate(ApplyPowerAction.class);
+        powerTargets = new AbstractMonster[] {
+            monster(LouseNormal.class, POWER_TARGETS[0]),
+            monster(JawWorm.class, POWER_TARGETS[1]),
+            monster(LouseDefensive.class, POWER_TARGETS[2]),
+            monster(Cultist.class, POWER_TARGETS[3])
+        };
+        curlUp = DungeonStatics.allocate(CurlUpPower.class);
+
+        damageAction = DungeonStatics.allocate(DamageAction.class);
+        damageInfos = new DamageInfo[DAMAGE_BASES.length];
+        damageTargets = new AbstractCreature[DAMAGE_BASES.length];
+        for (int i = 0; i < DAMAGE_BASES.length; i++) {
+            boolean toPlayer = DAMAGE_TO_PLAYER[i];
+            damageInfos[i] = new DamageInfo(toPlayer ? monster : player, DAMAGE_BASES[i], DAMAGE_TYPES[i]);
+            damageTargets[i] = toPlayer ? player : monster;
+        }
+    }
+
+    private static AbstractMonster monster(Class<? extends AbstractMonster> monsterClass, String id) {
+        AbstractMonster m = DungeonStatics.allocate(monsterClass);
+        m.id = id;
+        m.name = id;
+        return m;
+    }
+
+    @Benchmark
+    public int gainBlock() {
+        int i = next++ & 7;
+        AbstractCreature target = (i & 1) == 0 ? monster : player;
+        blockAction.amount = BLOCK_AMOUNTS[i];
+        Level83.IncreaseMonsterBlockAmount2.Postfix(blockAction, target, target, BLOCK_AMOUNTS[i]);
+        return blockAction.amount;
+    }
+
+    @Benchmark
+    public int applyCurlUp() {
+        AbstractMonster target = powerTargets[next++ & 3];
+        curlUp.amount = CURL_UP_AMOUNT;
+        LouseCurlUpPatch.IncreaseLouseCurlUp.Postfix(powerAction, target, target, curlUp);
+        return curlUp.amount;
+    }
+
+    @Benchmark
+    public int damageAction() {
+        int i = next++ & 3;
+        DamageInfo info = damageInfos[i];
+        info.base = DAMAGE_BASES[i];
+        info.output = DAMAGE_BASES[i];
+        Level51.ExploderExplosionDamage.Postfix(damageAction, damageTargets[i], info,
+            AbstractGameAction.AttackEffect.NONE, false);
+        return info.output;
+    }
+}
@@ -0,0 +1,104 @@
+package com.stsmod.ascension100.bench;
+
+import com.megacrit.cardcrawl.dungeons.AbstractDungeon;
+import com.stsmod.ascension100.util.AscensionRuleSet;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-monster-init guard cost: AbstractDungeon static field guards vs AscensionRuleSet
+ *
+ * Models the AbstractMonster.init postfix chain (Level21/22/24/35/52/53/57/58/
+ * 59/61/62/63/64/67/68/69/92): every hook runs its ascension guard and then a
+ * monster type branch. legacyGuards is the baseline guard, reading the real
+ * AbstractDungeon.isAscensionMode / ascensionLevel statics (see
+ * DungeonStatics); ruleSetLookup is AscensionRuleSet.isActive on the rule set
+ * that refresh() compiles from those same statics.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class AscensionRuleSetBenchmark {
+
+    /** Levels with an AbstractMonster.init hook */
+    static final int[] INIT_HOOK_LEVELS = {21, 22, 24, 35, 52, 53, 57, 58, 59, 61, 62, 63, 64, 67, 68, 69, 92};
+
+    static final int NORMAL = 0;
+    static final int ELITE = 1;
+    static final int BOSS = 2;
+
+    @Param({"0", "20", "50", "100"})
+    public int ascensionLevel;
+
+    @Param({"0", "1", "2"})
+    public int monsterType;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        DungeonStatics.init();
+        AbstractDungeon.isAscensionMode = ascensionLevel > 0;
+        AbstractDungeon.ascensionLevel = ascensionLevel;
+        AscensionRuleSet.refresh();
+    }
+
+    @Benchmark
+    public int legacyGuards() {
+        int applied = 0;
+        for (int level : INIT_HOOK_LEVELS) {
+            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < level) {
+                continue;
+            }
+            if (typeMatches(level, monsterType)) {
+                applied++;
+            }
+        }
+        return applied;
+    }
+
+    @Benchmark
+    public int ruleSetLookup() {
+        int applied = 0;
+        for (int level : INIT_HOOK_LEVELS) {
+            if (!AscensionRuleSet.isActive(level)) {
+                continue;
+            }
+            if (typeMatches(level, monsterType)) {
+                applied++;
+            }
+        }
+        return applied;
+    }
+
+    private static boolean typeMatches(int level, int type) {
+        switch (level) {
+            case 21:
+            case 59:
+                return type == ELITE;
+            case 63:
+            case 64:
+            case 69:
+                return type == BOSS;
+            case 68:
+                return type != BOSS;
+            case 92:
+                return true;
+            default:
+                return type == NORMAL;
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.stsmod.ascension100.bench;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Compare two JMH JSON result files (-rf json) benchmark by benchmark
+ *
+ * Usage: BenchmarkCompare <baseline.json> <current.json>
+ * Rows are keyed by benchmark name plus parameters; the change is reported as
+ * current / baseline of the primary score.
+ *
+ * 두 커밋의 JMH 결과 비교
+ */
+public class BenchmarkCompare {
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            System.err.println("Usage: BenchmarkCompare <baseline.json> <current.json>");
+            System.exit(2);
+        }
+
+        Map<String, Double> baseline = read(args[0]);
+        Map<String, Double> current = read(args[1]);
+
+        System.out.println(String.format("%-70s %12s %12s %8s", "Benchmark", "Baseline", "Current", "Change"));
+        for (Map.Entry<String, Double> entry : current.entrySet()) {
+            double now = entry.getValue();
+            Double before = baseline.remove(entry.getKey());
+            if (before == null) {
+                System.out.println(String.format(Locale.ROOT, "%-70s %12s %12.3f %8s",
+                    entry.getKey(), "-", now, "new"));
+                continue;
+            }
+            System.out.println(String.format(Locale.ROOT, "%-70s %12.3f %12.3f %7.1f%%",
+                entry.getKey(), before, now, (now / before - 1.0) * 100.0));
+        }
+        for (Map.Entry<String, Double> entry : baseline.entrySet()) {
+            System.out.println(String.format(Locale.ROOT, "%-70s %12.3f %12s %8s",
+                entry.getKey(), entry.getValue(), "-", "removed"));
+        }
+    }
+
+    /**
+     * @return "Class.method{param=value,...}" -> primary score
+     */
+    private static Map<String, Double> read(String file) throws IOException {
+        Map<String, Double> scores = new TreeMap<>();
+        try (Reader reader = Files.newBufferedReader(Paths.get(file), StandardCharsets.UTF_8)) {
+            JsonArray runs = new JsonParser().parse(reader).getAsJsonArray();
+            for (JsonElement element : runs) {
+                JsonObject run = element.getAsJsonObject();
+                String name = run.get("benchmark").getAsString();
+                name = name.substring(name.lastIndexOf('.', name.lastIndexOf('.') - 1) + 1);
+
+                if (run.has("params")) {
+                    Map<String, String> params = new TreeMap<>();
+                    for (Map.Entry<String, JsonElement> param : run.getAsJsonObject("params").entrySet()) {
+                        params.put(param.getKey(), param.getValue().getAsString());
+                    }
+                    name += params.toString().replace(", ", ",");
+                }
+
+                scores.put(name, run.getAsJsonObject("primaryMetric").get("score").getAsDouble());
+            }
+        }
+        return scores;
+    }
+}
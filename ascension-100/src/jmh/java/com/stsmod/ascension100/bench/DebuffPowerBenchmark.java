@@ -0,0 +1,137 @@
+package com.stsmod.ascension100.bench;
+
+import com.megacrit.cardcrawl.cards.DamageInfo;
+import com.megacrit.cardcrawl.characters.AbstractPlayer;
+import com.megacrit.cardcrawl.characters.Ironclad;
+import com.megacrit.cardcrawl.dungeons.AbstractDungeon;
+import com.megacrit.cardcrawl.monsters.AbstractMonster;
+import com.megacrit.cardcrawl.monsters.exordium.JawWorm;
+import com.megacrit.cardcrawl.powers.FrailPower;
+import com.megacrit.cardcrawl.powers.VulnerablePower;
+import com.megacrit.cardcrawl.powers.WeakPower;
+import com.stsmod.ascension100.patches.levels.Level56;
+import com.stsmod.ascension100.util.AscensionRuleSet;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Level56 debuff patches: VulnerablePower.atDamageReceive,
+ * WeakPower.atDamageGive, FrailPower.modifyBlock
+ *
+ * These run for every damage / block preview each frame a card is hovered.
+ * The powers, their monster owner and AbstractDungeon.player (no relics) are
+ * allocated without their constructors (see DungeonStatics). "vanilla" calls
+ * the game's own method; the postfix benchmarks run that method's body as the
+ * Level56 instrument patch rewrites it (hasRelic redirected to
+ * Level56.RelicFlags) and then the real Postfix, which reads the relic
+ * snapshot through RelicFlags.get().
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class DebuffPowerBenchmark {
+
+    @Param({"0", "20", "50", "100"})
+    public int ascensionLevel;
+
+    public float damage = 12.0F;
+
+    private VulnerablePower vulnerable;
+    private WeakPower weak;
+    private FrailPower frail;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        AscensionRuleSet.install(AscensionRuleSet.compile(ascensionLevel > 0, ascensionLevel));
+
+        AbstractPlayer player = DungeonStatics.allocate(Ironclad.class);
+        player.isPlayer = true;
+        player.relics = new ArrayList<>();
+        AbstractDungeon.player = player;
+        Level56.RelicFlags.invalidate();
+
+        AbstractMonster owner = DungeonStatics.allocate(JawWorm.class);
+        owner.id = "JawWorm";
+        vulnerable = DungeonStatics.allocate(VulnerablePower.class);
+        vulnerable.owner = owner;
+        weak = DungeonStatics.allocate(WeakPower.class);
+        weak.owner = owner;
+        frail = DungeonStatics.allocate(FrailPower.class);
+        frail.owner = player;
+    }
+
+    @Benchmark
+    public float vanillaVulnerable() {
+        return vulnerable.atDamageReceive(damage, DamageInfo.DamageType.NORMAL);
+    }
+
+    @Benchmark
+    public float vulnerablePostfix() {
+        float result = instrumentedVulnerable(vulnerable, damage);
+        return Level56.EnhancedVulnerable.Postfix(result, vulnerable, damage, DamageInfo.DamageType.NORMAL);
+    }
+
+    @Benchmark
+    public float vanillaWeak() {
+        return weak.atDamageGive(damage, DamageInfo.DamageType.NORMAL);
+    }
+
+    @Benchmark
+    public float weakPostfix() {
+        float result = instrumentedWeak(weak, damage);
+        return Level56.EnhancedWeak.Postfix(result, weak, damage, DamageInfo.DamageType.NORMAL);
+    }
+
+    @Benchmark
+    public float frailPostfix() {
+        float result = frail.modifyBlock(damage);
+        return Level56.EnhancedFrail.Postfix(result, frail, damage);
+    }
+
+    /**
+     * VulnerablePower.atDamageReceive (NORMAL damage) after Level56's
+     * RelicCheckEditor
+     */
+    private static float instrumentedVulnerable(VulnerablePower power, float damage) {
+        if (power.owner.isPlayer && hasRelic("Odd Mushroom")) {
+            return damage * 1.25F;
+        }
+        if (power.owner != null && !power.owner.isPlayer && hasRelic("Paper Frog")) {
+            return damage * 1.75F;
+        }
+        return damage * 1.5F;
+    }
+
+    /**
+     * WeakPower.atDamageGive (NORMAL damage) after Level56's RelicCheckEditor
+     */
+    private static float instrumentedWeak(WeakPower power, float damage) {
+        if (!power.owner.isPlayer && hasRelic("Paper Crane")) {
+            return damage * 0.6F;
+        }
+        return damage * 0.75F;
+    }
+
+    private static boolean hasRelic(String relicId) {
+        if (AscensionRuleSet.isActive(56)) {
+            return Level56.RelicFlags.has(AbstractDungeon.player, relicId);
+        }
+        return AbstractDungeon.player.hasRelic(relicId);
+    }
+}
@@ -0,0 +1,154 @@
+package com.stsmod.ascension100.bench;
+
+import com.megacrit.cardcrawl.core.CardCrawlGame;
+import com.megacrit.cardcrawl.dungeons.AbstractDungeon;
+import com.megacrit.cardcrawl.localization.LocalizedStrings;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Loads the real AbstractDungeon class outside the game
+ *
+ * AbstractDungeon's static initializer reads its UI strings from
+ * CardCrawlGame.languagePack, which only exists once the game has loaded its
+ * localization files. Benchmarks that touch AbstractDungeon statics call
+ * init() first: it installs a language pack with empty strings (built without
+ * running the file-loading constructor), then forces AbstractDungeon to
+ * initialize, so the measured code reads the game's own static fields.
+ *
+ * allocate() builds game objects (monsters, powers, actions, rooms) without
+ * running their constructors, which load textures and animations. Benchmarks
+ * fill in the public fields the measured hooks read and then call the mod's
+ * real patch methods on them.
+ */
+final class DungeonStatics {
+    private static boolean ready = false;
+    private static Object unsafe;
+    private static Method allocateInstance;
+
+    private DungeonStatics() {
+    }
+
+    static synchronized void init() {
+        if (ready) {
+            return;
+        }
+        try {
+            if (CardCrawlGame.languagePack == null) {
+                CardCrawlGame.languagePack = emptyLanguagePack();
+            }
+            Class.forName(AbstractDungeon.class.getName(), true, DungeonStatics.class.getClassLoader());
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Cannot initialize AbstractDungeon for benchmarks", e);
+        }
+        ready = true;
+    }
+
+    /**
+     * An instance of a game class built without running its constructor
+     * (fields keep their default values; the class itself is initialized)
+     */
+    static synchronized <T> T allocate(Class<T> type) {
+        init();
+        try {
+            return allocateInstance(type);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Cannot allocate " + type.getName() + " for benchmarks", e);
+        }
+    }
+
+    private static <T> T allocateInstance(Class<T> type) throws ReflectiveOperationException {
+        if (allocateInstance == null) {
+            Field unsafeField = Class.forName("sun.misc.Unsafe").getDeclaredField("theUnsafe");
+            unsafeField.setAccessible(true);
+            unsafe = unsafeField.get(null);
+            allocateInstance = unsafe.getClass().getMethod("allocateInstance", Class.class);
+        }
+        return type.cast(allocateInstance.invoke(unsafe, type));
+    }
+
+    /**
+     * A LocalizedStrings whose static string tables answer every key with an
+     * empty entry (empty strings, arrays of empty strings), so the static
+     * initializers of AbstractDungeon, monsters and powers can run
+     */
+    private static LocalizedStrings emptyLanguagePack() throws ReflectiveOperationException {
+        LocalizedStrings pack = allocateInstance(LocalizedStrings.class);
+
+        for (Field field : LocalizedStrings.class.getDeclaredFields()) {
+            if (!Modifier.isStatic(field.getModifiers()) || !Map.class.isAssignableFrom(field.getType())) {
+                continue;
+            }
+            field.setAccessible(true);
+            if (field.get(null) != null) {
+                continue;
+            }
+            Class<?> valueType = valueType(field);
+            field.set(null, valueType != null ? new EmptyStrings(valueType) : new HashMap<>());
+        }
+        return pack;
+    }
+
+    private static Class<?> valueType(Field field) {
+        Type type = field.getGenericType();
+        if (!(type instanceof ParameterizedType)) {
+            return null;
+        }
+        Type[] args = ((ParameterizedType) type).getActualTypeArguments();
+        return args.length == 2 && args[1] instanceof Class ? (Class<?>) args[1] : null;
+    }
+
+    /**
+     * String table that creates an empty entry for every key it is asked for
+     */
+    private static final class EmptyStrings extends HashMap<String, Object> {
+        private final Class<?> valueType;
+
+        EmptyStrings(Class<?> valueType) {
+            this.valueType = valueType;
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return true;
+        }
+
+        @Override
+        public Object get(Object key) {
+            Object value = super.get(key);
+            if (value == null) {
+                value = emptyEntry(valueType);
+                put((String) key, value);
+            }
+            return value;
+        }
+    }
+
+    private static Object emptyEntry(Class<?> valueType) {
+        try {
+            Object entry = valueType.newInstance();
+            for (Field field : valueType.getFields()) {
+                if (Modifier.isStatic(field.getModifiers()) || Modifier.isFinal(field.getModifiers())) {
+                    continue;
+                }
+                if (field.getType() == String.class) {
+                    field.set(entry, "");
+                } else if (field.getType() == String[].class) {
+                    String[] text = new String[64];
+                    Arrays.fill(text, "");
+                    field.set(entry, text);
+                }
+            }
+            return entry;
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Cannot build an empty " + valueType.getName(), e);
+        }
+    }
+}
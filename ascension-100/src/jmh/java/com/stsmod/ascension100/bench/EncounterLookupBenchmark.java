@@ -0,0 +1,93 @@
+package com.stsmod.ascension100.bench;
+
+import com.stsmod.ascension100.util.EncounterClass;
+import com.stsmod.ascension100.util.EncounterHelper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * EncounterHelper.lookup vs the per-call List.contains scans it replaced
+ *
+ * Only registered keys are used, so lookup never falls through to BaseMod.
+ * The ascension level does not change the lookup; it is a parameter so the
+ * results line up with the other hook benchmarks.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class EncounterLookupBenchmark {
+
+    @Param({"0", "20", "50", "100"})
+    public int ascensionLevel;
+
+    private int[] acts;
+    private String[] keys;
+    private List<List<String>> legacyWeak;
+    private List<List<String>> legacyStrong;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        List<Integer> actList = new ArrayList<>();
+        List<String> keyList = new ArrayList<>();
+        legacyWeak = new ArrayList<>();
+        legacyStrong = new ArrayList<>();
+        for (int act = 0; act <= 3; act++) {
+            List<String> weak = new ArrayList<>();
+            List<String> strong = new ArrayList<>();
+            for (Map.Entry<String, EncounterClass> entry : EncounterHelper.getRegisteredEncounters(act).entrySet()) {
+                (entry.getValue() == EncounterClass.WEAK ? weak : strong).add(entry.getKey());
+                if (act > 0) {
+                    actList.add(act);
+                    keyList.add(entry.getKey());
+                }
+            }
+            legacyWeak.add(weak);
+            legacyStrong.add(strong);
+        }
+
+        acts = new int[actList.size()];
+        for (int i = 0; i < acts.length; i++) {
+            acts[i] = actList.get(i);
+        }
+        keys = keyList.toArray(new String[0]);
+    }
+
+    @Benchmark
+    public EncounterClass lookup() {
+        int i = next;
+        next = (next + 1) % keys.length;
+        return EncounterHelper.lookup(acts[i], keys[i]);
+    }
+
+    @Benchmark
+    public EncounterClass legacyListScan() {
+        int i = next;
+        next = (next + 1) % keys.length;
+        if (legacyWeak.get(acts[i]).contains(keys[i])) {
+            return EncounterClass.WEAK;
+        }
+        if (legacyStrong.get(acts[i]).contains(keys[i])) {
+            return EncounterClass.STRONG;
+        }
+        return EncounterClass.UNKNOWN;
+    }
+}
@@ -0,0 +1,225 @@
+package com.stsmod.ascension100.bench;
+
+import com.megacrit.cardcrawl.cards.DamageInfo;
+import com.megacrit.cardcrawl.dungeons.AbstractDungeon;
+import com.megacrit.cardcrawl.map.MapRoomNode;
+import com.megacrit.cardcrawl.monsters.AbstractMonster;
+import com.megacrit.cardcrawl.monsters.beyond.GiantHead;
+import com.megacrit.cardcrawl.monsters.beyond.Reptomancer;
+import com.megacrit.cardcrawl.monsters.beyond.Transient;
+import com.megacrit.cardcrawl.monsters.city.BookOfStabbing;
+import com.megacrit.cardcrawl.monsters.city.Byrd;
+import com.megacrit.cardcrawl.monsters.city.Champ;
+import com.megacrit.cardcrawl.monsters.ending.CorruptHeart;
+import com.megacrit.cardcrawl.monsters.exordium.GremlinNob;
+import com.megacrit.cardcrawl.monsters.exordium.JawWorm;
+import com.megacrit.cardcrawl.monsters.exordium.LouseDefensive;
+import com.megacrit.cardcrawl.monsters.exordium.LouseNormal;
+import com.megacrit.cardcrawl.rooms.AbstractRoom;
+import com.megacrit.cardcrawl.rooms.MonsterRoom;
+import com.megacrit.cardcrawl.rooms.MonsterRoomBoss;
+import com.megacrit.cardcrawl.rooms.MonsterRoomElite;
+import com.stsmod.ascension100.patches.unified.MonsterStatContext;
+import com.stsmod.ascension100.patches.unified.MonsterStatModifier;
+import com.stsmod.ascension100.patches.unified.MonsterStatPipeline;
+import com.stsmod.ascension100.util.AscensionRuleSet;
+import com.stsmod.ascension100.util.CombatScopedState;
+import com.stsmod.ascension100.util.EncounterClass;
+import com.stsmod.ascension100.util.EncounterHelper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * AbstractMonster.init postfix chain (MonsterStatPipeline)
+ *
+ * Runs the real stat rules over a mix of monster contexts: the cached lookup
+ * the init Prefix uses and the uncached fold it replaces on a cache miss.
+ * initPrefix runs the real init Prefix (MonsterDispatch, the
+ * CombatScopedState guard, the cached lookup and the HP / damage list pass)
+ * on monsters allocated without their constructors (see DungeonStatics),
+ * walking one act's worth of combats. Each call first restores the monster's
+ * base HP and damage, and clears CombatScopedState afterwards so the same
+ * instance is modified again; initReset measures that bookkeeping alone.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MonsterInitBenchmark {
+
+    private static final int ROOM_MONSTER = MonsterStatContext.ROOM_MONSTER;
+    private static final int ROOM_ELITE = MonsterStatContext.ROOM_MONSTER | MonsterStatContext.ROOM_BOSS_OR_ELITE;
+
+    /** One act of monsters: normal (weak / strong pools), elites, a boss and special cases */
+    static final MonsterStatContext[] CONTEXTS = {
+        new MonsterStatContext("JawWorm", AbstractMonster.EnemyType.NORMAL, 1, EncounterClass.WEAK, ROOM_MONSTER),
+        new MonsterStatContext("FuzzyLouseNormal", AbstractMonster.EnemyType.NORMAL, 1, EncounterClass.STRONG, ROOM_MONSTER),
+        new MonsterStatContext("GremlinNob", AbstractMonster.EnemyType.ELITE, 1, EncounterClass.UNKNOWN, ROOM_ELITE),
+        new MonsterStatContext("Byrd", AbstractMonster.EnemyType.NORMAL, 2, EncounterClass.WEAK, ROOM_MONSTER),
+        new MonsterStatContext("BookOfStabbing", AbstractMonster.EnemyType.ELITE, 2, EncounterClass.UNKNOWN, ROOM_ELITE),
+        new MonsterStatContext("Champ", AbstractMonster.EnemyType.BOSS, 2, EncounterClass.UNKNOWN, ROOM_ELITE),
+        new MonsterStatContext("Transient", AbstractMonster.EnemyType.NORMAL, 3, EncounterClass.STRONG, ROOM_MONSTER),
+        new MonsterStatContext("GiantHead", AbstractMonster.EnemyType.ELITE, 3, EncounterClass.UNKNOWN, ROOM_ELITE),
+        new MonsterStatContext("Reptomancer", AbstractMonster.EnemyType.ELITE, 3, EncounterClass.UNKNOWN, ROOM_ELITE),
+        new MonsterStatContext("CorruptHeart", AbstractMonster.EnemyType.BOSS, 4, EncounterClass.UNKNOWN, ROOM_ELITE)
+    };
+
+    @Param({"0", "20", "50", "100"})
+    public int ascensionLevel;
+
+    private int next;
+
+    private Spawn[] spawns;
+    private int nextSpawn;
+    private Combat currentCombat;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        AscensionRuleSet.install(AscensionRuleSet.compile(ascensionLevel > 0, ascensionLevel));
+
+        List<Spawn> list = new ArrayList<>();
+        Combat combat = new Combat(1, "Jaw Worm", MonsterRoom.class);
+        list.add(new Spawn(combat, JawWorm.class, "JawWorm", AbstractMonster.EnemyType.NORMAL, 42, 11, 7, 5));
+        combat = new Combat(1, "3 Louse", MonsterRoom.class);
+        list.add(new Spawn(combat, LouseNormal.class, "FuzzyLouseNormal", AbstractMonster.EnemyType.NORMAL, 12, 6));
+        list.add(new Spawn(combat, LouseNormal.class, "FuzzyLouseNormal", AbstractMonster.EnemyType.NORMAL, 13, 7));
+        list.add(new Spawn(combat, LouseDefensive.class, "FuzzyLouseDefensive", AbstractMonster.EnemyType.NORMAL, 14, 6));
+        combat = new Combat(1, "Gremlin Nob", MonsterRoomElite.class);
+        list.add(new Spawn(combat, GremlinNob.class, "GremlinNob", AbstractMonster.EnemyType.ELITE, 86, 14, 6));
+        combat = new Combat(2, "3 Byrds", MonsterRoom.class);
+        for (int i = 0; i < 3; i++) {
+            list.add(new Spawn(combat, Byrd.class, "Byrd", AbstractMonster.EnemyType.NORMAL, 26, 1, 12, 3));
+        }
+        combat = new Combat(2, "Book of Stabbing", MonsterRoomElite.class);
+        list.add(new Spawn(combat, BookOfStabbing.class, "BookOfStabbing", AbstractMonster.EnemyType.ELITE, 162, 6, 21));
+        combat = new Combat(2, "Champ", MonsterRoomBoss.class);
+        list.add(new Spawn(combat, Champ.class, "Champ", AbstractMonster.EnemyType.BOSS, 420, 16, 12, 22));
+        combat = new Combat(3, "Transient", MonsterRoom.class);
+        list.add(new Spawn(combat, Transient.class, "Transient", AbstractMonster.EnemyType.NORMAL, 999, 30));
+        combat = new Combat(3, "Giant Head", MonsterRoomElite.class);
+        list.add(new Spawn(combat, GiantHead.class, "GiantHead", AbstractMonster.EnemyType.ELITE, 500, 13, 30));
+        combat = new Combat(3, "Reptomancer", MonsterRoomElite.class);
+        list.add(new Spawn(combat, Reptomancer.class, "Reptomancer", AbstractMonster.EnemyType.ELITE, 180, 13, 30));
+        combat = new Combat(4, "The Heart", MonsterRoomBoss.class);
+        list.add(new Spawn(combat, CorruptHeart.class, "CorruptHeart", AbstractMonster.EnemyType.BOSS, 750, 2, 40));
+        spawns = list.toArray(new Spawn[0]);
+        currentCombat = null;
+    }
+
+    /** One combat: the dungeon state MonsterStatPipeline.contextOf reads */
+    private static final class Combat {
+        final int act;
+        final String key;
+        final MapRoomNode node;
+
+        Combat(int act, String key, Class<? extends AbstractRoom> roomClass) {
+            this.act = act;
+            this.key = key;
+            this.node = DungeonStatics.allocate(MapRoomNode.class);
+            this.node.setRoom(DungeonStatics.allocate(roomClass));
+        }
+    }
+
+    /** A monster of a combat and its base stats */
+    private static final class Spawn {
+        final Combat combat;
+        final AbstractMonster monster;
+        final int health;
+        final int[] damage;
+
+        Spawn(Combat combat, Class<? extends AbstractMonster> monsterClass, String id,
+              AbstractMonster.EnemyType type, int health, int... damage) {
+            this.combat = combat;
+            this.monster = DungeonStatics.allocate(monsterClass);
+            this.monster.id = id;
+            this.monster.name = id;
+            this.monster.type = type;
+            this.monster.damage = new ArrayList<>();
+            for (int base : damage) {
+                this.monster.damage.add(new DamageInfo(this.monster, base));
+            }
+            this.health = health;
+            this.damage = damage;
+        }
+
+        void reset() {
+            monster.maxHealth = health;
+            monster.currentHealth = health;
+            for (int i = 0; i < damage.length; i++) {
+                DamageInfo info = monster.damage.get(i);
+                info.base = damage[i];
+                info.output = damage[i];
+            }
+        }
+    }
+
+    private MonsterStatContext nextContext() {
+        MonsterStatContext ctx = CONTEXTS[next];
+        next = (next + 1) % CONTEXTS.length;
+        return ctx;
+    }
+
+    /** What the init Prefix does per monster after the first of its kind */
+    @Benchmark
+    public MonsterStatModifier cachedModifier() {
+        return MonsterStatPipeline.getModifier(nextContext());
+    }
+
+    /** Asking every active level again (cache miss) */
+    @Benchmark
+    public MonsterStatModifier collectModifier() {
+        return MonsterStatPipeline.collect(nextContext());
+    }
+
+    /** The real init Prefix on the next monster */
+    @Benchmark
+    public int initPrefix() {
+        Spawn spawn = nextSpawn();
+        spawn.reset();
+        MonsterStatPipeline.ApplyStatModifiers.Prefix(spawn.monster);
+        CombatScopedState.clearAll("benchmark");
+        return spawn.monster.maxHealth + spawn.monster.damage.get(0).base;
+    }
+
+    /** initPrefix without the Prefix: subtract from initPrefix */
+    @Benchmark
+    public int initReset() {
+        Spawn spawn = nextSpawn();
+        spawn.reset();
+        CombatScopedState.clearAll("benchmark");
+        return spawn.monster.maxHealth + spawn.monster.damage.get(0).base;
+    }
+
+    /**
+     * Next monster; entering a new combat sets the dungeon statics and
+     * classifies the encounter, as MonsterGroup.init does in the game
+     */
+    private Spawn nextSpawn() {
+        Spawn spawn = spawns[nextSpawn];
+        nextSpawn = (nextSpawn + 1) % spawns.length;
+        if (spawn.combat != currentCombat) {
+            currentCombat = spawn.combat;
+            AbstractDungeon.actNum = currentCombat.act;
+            AbstractDungeon.lastCombatMetricKey = currentCombat.key;
+            AbstractDungeon.currMapNode = currentCombat.node;
+            EncounterHelper.classify();
+        }
+        return spawn;
+    }
+}
@@ -15,6 +15,16 @@ import com.megacrit.cardcrawl.core.Settings;
 import com.megacrit.cardcrawl.helpers.FontHelper;
 import com.megacrit.cardcrawl.helpers.ImageMaster;
 import com.megacrit.cardcrawl.localization.*;
+import com.stsmod.ascension100.patches.levels.Level99;
+import com.stsmod.ascension100.patches.unified.SharedHooks;
+import com.stsmod.ascension100.util.AscensionDescriptions;
+import com.stsmod.ascension100.util.AscensionLog;
+import com.stsmod.ascension100.util.DeferredSaver;
+import com.stsmod.ascension100.util.ModStrings;
+import com.stsmod.ascension100.util.ReflectionCache;
+import com.stsmod.ascension100.util.RngRecorder;
+import com.stsmod.ascension100.util.StartupProfiler;
+import com.stsmod.ascension100.util.Telemetry;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -71,7 +81,10 @@ public class Ascension100Mod implements
      */
     public static void initialize() {
         logger.info("Initializing " + MOD_NAME);
+        StartupProfiler.markInitialize();
+        long start = StartupProfiler.begin();
         Ascension100Mod mod = new Ascension100Mod();
+        StartupProfiler.end("constructor", start);
         logger.info(MOD_NAME + " initialization complete");
     }
 
@@ -85,16 +98,24 @@ public class Ascension100Mod implements
         BaseMod.subscribe(this);
 
         // Initialize config
+        long configStart = StartupProfiler.begin();
         try {
             config = new SpireConfig(MOD_ID, "config");
 
             // Initialize progress tracking config
             progressConfig = new SpireConfig(MOD_ID, "progress");
+
+            AscensionLog.load(config);
+            Telemetry.load(config);
             logger.info("Config loaded");
 
         } catch (IOException e) {
             logger.error("Failed to load config", e);
         }
+        StartupProfiler.end("configLoad", configStart);
+
+        // RNG draws of level patches: optional replay (-Dascension100.rngReplay)
+        RngRecorder.loadReplayFromProperty();
 
         logger.info("Ascension 100 mod loaded - extends ascension to level 100");
     }
@@ -104,6 +125,20 @@ public class Ascension100Mod implements
      */
     @Override
     public void receivePostInitialize() {
+        long start = StartupProfiler.begin();
+
+        // Resolve every reflective accessor now; a missing game member stops the game here
+        ReflectionCache.init();
+
+        // Localization is loaded by now; precompute character select descriptions
+        AscensionDescriptions.build();
+
+        // Level listeners for the shared hooks; linked per run by AscensionRuleSet
+        SharedHooks.registerAll();
+
+        // Per-run state kept in the save file
+        Level99.registerSaveField();
+
         logger.info("Setting up mod panel");
 
         // Create mod settings panel
@@ -293,6 +328,42 @@ public class Ascension100Mod implements
         );
         settingsPanel.addUIElement(increaseLargeLabel);
 
+        // ========================================
+        // Logging
+        // ========================================
+
+        // Per-event trace logging (off by default, logs every modified action/power)
+        ModLabeledToggleButton traceToggle = new ModLabeledToggleButton(
+                "Log every ascension modifier (trace)",
+                baseX, 380.0f,
+                Settings.CREAM_COLOR,
+                FontHelper.charDescFont,
+                AscensionLog.isTracing(),
+                settingsPanel,
+                (label) -> {},
+                (button) -> {
+                    AscensionLog.setTracing(button.enabled);
+                    saveTraceSetting();
+                }
+        );
+        settingsPanel.addUIElement(traceToggle);
+
+        // Binary per-run telemetry (config dir, telemetry/run-<seed>.bin)
+        ModLabeledToggleButton telemetryToggle = new ModLabeledToggleButton(
+                "Record rule telemetry per run",
+                baseX, 330.0f,
+                Settings.CREAM_COLOR,
+                FontHelper.charDescFont,
+                Telemetry.isEnabled(),
+                settingsPanel,
+                (label) -> {},
+                (button) -> {
+                    Telemetry.setEnabled(button.enabled);
+                    saveTelemetrySetting();
+                }
+        );
+        settingsPanel.addUIElement(telemetryToggle);
+
         // Try to load badge image
         Texture badgeTexture = null;
         try {
@@ -330,6 +401,9 @@ public class Ascension100Mod implements
         logger.info("Mod badge registered with settings panel");
 
         logger.info("Mod panel setup complete");
+
+        StartupProfiler.end("receivePostInitialize", start);
+        StartupProfiler.writeReport();
     }
 
     /**
@@ -337,53 +411,37 @@ public class Ascension100Mod implements
      */
     @Override
     public void receiveEditStrings() {
+        long start = StartupProfiler.begin();
         logger.info("Loading localization strings");
 
-        // Load UI strings based on game language
+        // Resolve the language once; each file falls back to English on its own
         String language = getLangString();
-        String localizationPath = getModPath(UI_STRINGS.replace("eng", language));
-
-        // Check if localization file exists, fallback to English if not
-        if (!Gdx.files.internal(localizationPath).exists()) {
-            logger.warn("Localization file not found: " + localizationPath);
-            logger.info("Falling back to English localization");
-            language = "eng";
-            localizationPath = getModPath(UI_STRINGS.replace("eng", language));
-        }
+        loadStrings(UIStrings.class, UI_STRINGS, language);
+        loadStrings(PowerStrings.class, POWER_STRINGS, language);
+        loadStrings(CardStrings.class, CARD_STRINGS, language);
 
-        // Load UI strings
-        BaseMod.loadCustomStringsFile(
-                UIStrings.class,
-                localizationPath
-        );
+        // Look up every string the mod uses once, reporting missing keys now
+        ModStrings.resolve();
 
-        // Load Power strings
-        String powerStringsPath = getModPath(POWER_STRINGS.replace("eng", language));
-        if (!Gdx.files.internal(powerStringsPath).exists()) {
-            logger.warn("Power strings file not found: " + powerStringsPath);
-            logger.info("Falling back to English power strings");
-            powerStringsPath = getModPath(POWER_STRINGS);
-        }
-
-        BaseMod.loadCustomStringsFile(
-                PowerStrings.class,
-                powerStringsPath
-        );
+        logger.info("Localization strings loaded for language: " + language);
+        StartupProfiler.end("receiveEditStrings", start);
+    }
 
-        // Load Card strings
-        String cardStringsPath = getModPath(CARD_STRINGS.replace("eng", language));
-        if (!Gdx.files.internal(cardStringsPath).exists()) {
-            logger.warn("Card strings file not found: " + cardStringsPath);
-            logger.info("Falling back to English card strings");
-            cardStringsPath = getModPath(CARD_STRINGS);
+    /**
+     * Load one strings file for the language, or the English one when missing
+     * English needs no existence probe
+     */
+    private static void loadStrings(Class<?> stringType, String englishFile, String language) {
+        String path = getModPath(englishFile);
+        if (!"eng".equals(language)) {
+            String localized = getModPath(englishFile.replace("eng", language));
+            if (Gdx.files.internal(localized).exists()) {
+                path = localized;
+            } else {
+                logger.warn("Localization file not found, falling back to English: " + localized);
+            }
         }
-
-        BaseMod.loadCustomStringsFile(
-                CardStrings.class,
-                cardStringsPath
-        );
-
-        logger.info("Localization strings loaded for language: " + language);
+        BaseMod.loadCustomStringsFile(stringType, path);
     }
 
     /**
@@ -489,7 +547,7 @@ public class Ascension100Mod implements
 
             if (player != null && player.getPrefs() != null) {
                 player.getPrefs().putInteger("ASCENSION_LEVEL", editingLevel);
-                player.getPrefs().flush();
+                DeferredSaver.save(player.getPrefs());
                 logger.info("Applied level " + editingLevel + " to " + CHARACTER_NAMES[selectedCharacterIndex]);
             }
         } catch (Exception e) {
@@ -497,6 +555,40 @@ public class Ascension100Mod implements
         }
     }
 
+    /**
+     * Persist the trace logging toggle
+     */
+    private static void saveTraceSetting() {
+        if (config == null) {
+            return;
+        }
+
+        try {
+            config.setBool(AscensionLog.CONFIG_KEY, AscensionLog.isTracing());
+            config.save();
+            logger.info("Trace logging " + (AscensionLog.isTracing() ? "enabled" : "disabled"));
+        } catch (IOException e) {
+            logger.error("Failed to save trace logging setting", e);
+        }
+    }
+
+    /**
+     * Save telemetry setting to config
+     */
+    private static void saveTelemetrySetting() {
+        if (config == null) {
+            return;
+        }
+
+        try {
+            config.setBool(Telemetry.CONFIG_KEY, Telemetry.isEnabled());
+            config.save();
+            logger.info("Telemetry " + (Telemetry.isEnabled() ? "enabled" : "disabled"));
+        } catch (IOException e) {
+            logger.error("Failed to save telemetry setting", e);
+        }
+    }
+
     /**
      * Apply the selected ascension level to all characters
      */
@@ -516,7 +608,7 @@ public class Ascension100Mod implements
                         com.megacrit.cardcrawl.helpers.Prefs prefs = player.getPrefs();
                         if (prefs != null) {
                             prefs.putInteger("ASCENSION_LEVEL", level);
-                            prefs.flush();
+                            DeferredSaver.save(prefs);
                             logger.info("Set " + playerClass.name() + " to ascension " + level);
                         }
                     }
@@ -7,6 +7,7 @@ import com.megacrit.cardcrawl.dungeons.AbstractDungeon;
 import com.megacrit.cardcrawl.screens.CardRewardScreen;
 import com.megacrit.cardcrawl.vfx.cardManip.ShowCardAndAddToDiscardEffect;
 import com.megacrit.cardcrawl.vfx.cardManip.ShowCardAndAddToHandEffect;
+import com.stsmod.ascension100.util.CardPoolIndex;
 
 import java.util.ArrayList;
 
@@ -50,14 +51,15 @@ public class ReducedDiscoveryAction extends AbstractGameAction {
 
     @Override
     public void update() {
-        ArrayList<AbstractCard> generatedCards;
-        if (this.returnColorless) {
-            generatedCards = generateColorlessCardChoices();
-        } else {
-            generatedCards = generateCardChoices(this.cardType);
-        }
-
         if (this.duration == Settings.ACTION_DUR_FAST) {
+            // Choices are rolled once, when the screen opens
+            ArrayList<AbstractCard> generatedCards;
+            if (this.returnColorless) {
+                generatedCards = generateColorlessCardChoices();
+            } else {
+                generatedCards = generateCardChoices(this.cardType);
+            }
+
             AbstractDungeon.cardRewardScreen.customCombatOpen(
                 generatedCards,
                 CardRewardScreen.TEXT[1],
@@ -70,20 +72,11 @@ public class ReducedDiscoveryAction extends AbstractGameAction {
 
         if (!this.retrieveCard) {
             if (AbstractDungeon.cardRewardScreen.discoveryCard != null) {
-                AbstractCard disCard = AbstractDungeon.cardRewardScreen.discoveryCard.makeStatEquivalentCopy();
-                AbstractCard disCard2 = AbstractDungeon.cardRewardScreen.discoveryCard.makeStatEquivalentCopy();
-
-                // Master Reality power upgrades discovered cards
-                if (AbstractDungeon.player.hasPower("MasterRealityPower")) {
-                    disCard.upgrade();
-                    disCard2.upgrade();
-                }
-
-                disCard.setCostForTurn(0);
-                disCard2.setCostForTurn(0);
-
-                disCard.current_x = -1000.0F * Settings.xScale;
-                disCard2.current_x = -1000.0F * Settings.xScale + AbstractCard.IMG_HEIGHT_S;
+                AbstractCard disCard = discoveredCopy(-1000.0F * Settings.xScale);
+                // The second copy is only needed with Sacred Bark
+                AbstractCard disCard2 = this.amount == 1
+                    ? null
+                    : discoveredCopy(-1000.0F * Settings.xScale + AbstractCard.IMG_HEIGHT_S);
 
                 if (this.amount == 1) {
                     if (AbstractDungeon.player.hand.size() < 10) {
@@ -99,7 +92,6 @@ public class ReducedDiscoveryAction extends AbstractGameAction {
                             Settings.HEIGHT / 2.0F
                         ));
                     }
-                    disCard2 = null;
                 } else if (AbstractDungeon.player.hand.size() + this.amount <= 10) {
                     AbstractDungeon.effectList.add(new ShowCardAndAddToHandEffect(
                         disCard,
@@ -144,54 +136,33 @@ public class ReducedDiscoveryAction extends AbstractGameAction {
     }
 
     /**
-     * Generate colorless card choices (with custom count)
+     * Copy of the picked card, upgraded with Master Reality and free this turn
      */
-    private ArrayList<AbstractCard> generateColorlessCardChoices() {
-        ArrayList<AbstractCard> cards = new ArrayList<>();
+    private AbstractCard discoveredCopy(float x) {
+        AbstractCard card = AbstractDungeon.cardRewardScreen.discoveryCard.makeStatEquivalentCopy();
 
-        while (cards.size() != this.numCards) {
-            boolean dupe = false;
-
-            AbstractCard tmp = AbstractDungeon.returnTrulyRandomColorlessCardInCombat();
-            for (AbstractCard c : cards) {
-                if (c.cardID.equals(tmp.cardID)) {
-                    dupe = true;
-                    break;
-                }
-            }
-            if (!dupe) {
-                cards.add(tmp.makeCopy());
-            }
+        // Master Reality power upgrades discovered cards
+        if (AbstractDungeon.player.hasPower("MasterRealityPower")) {
+            card.upgrade();
         }
+        card.setCostForTurn(0);
+        card.current_x = x;
+        return card;
+    }
 
-        return cards;
+    /**
+     * Generate colorless card choices (with custom count)
+     * Drawn from the cached colorless pool, no duplicates
+     */
+    private ArrayList<AbstractCard> generateColorlessCardChoices() {
+        return CardPoolIndex.pickDistinct(CardPoolIndex.colorlessPool(), this.numCards, AbstractDungeon.cardRandomRng);
     }
 
     /**
      * Generate card choices by type (with custom count)
+     * Drawn from the cached pool of that type (any type when null), no duplicates
      */
     private ArrayList<AbstractCard> generateCardChoices(AbstractCard.CardType type) {
-        ArrayList<AbstractCard> cards = new ArrayList<>();
-
-        while (cards.size() != this.numCards) {
-            boolean dupe = false;
-            AbstractCard tmp = null;
-            if (type == null) {
-                tmp = AbstractDungeon.returnTrulyRandomCardInCombat();
-            } else {
-                tmp = AbstractDungeon.returnTrulyRandomCardInCombat(type);
-            }
-            for (AbstractCard c : cards) {
-                if (c.cardID.equals(tmp.cardID)) {
-                    dupe = true;
-                    break;
-                }
-            }
-            if (!dupe) {
-                cards.add(tmp.makeCopy());
-            }
-        }
-
-        return cards;
+        return CardPoolIndex.pickDistinct(CardPoolIndex.combatPool(type), this.numCards, AbstractDungeon.cardRandomRng);
     }
 }
@@ -5,9 +5,9 @@ import com.evacipated.cardcrawl.modthespire.lib.SpireInsertPatch;
 import com.evacipated.cardcrawl.modthespire.lib.SpirePatch;
 import com.evacipated.cardcrawl.modthespire.lib.SpireReturn;
 import com.megacrit.cardcrawl.core.CardCrawlGame;
-import com.megacrit.cardcrawl.localization.UIStrings;
 import com.megacrit.cardcrawl.screens.charSelect.CharacterOption;
 import com.stsmod.ascension100.Ascension100Mod;
+import com.stsmod.ascension100.util.AscensionDescriptions;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -18,16 +18,6 @@ public class Ascension100Patches {
 
     private static final Logger logger = LogManager.getLogger(Ascension100Patches.class.getName());
 
-    // Load UI strings for ascension descriptions
-    private static UIStrings getAscensionStrings() {
-        try {
-            return CardCrawlGame.languagePack.getUIString("AscensionModeDescriptions");
-        } catch (Exception e) {
-            logger.error("Failed to load ascension strings", e);
-            return null;
-        }
-    }
-
     /**
      * Patch to allow incrementing ascension level beyond 20 up to 100
      */
@@ -50,11 +40,8 @@ public class Ascension100Patches {
 
             // For levels >= 20, handle description ourselves
             if (level[0] >= 20) {
-                UIStrings ascStrings = getAscensionStrings();
-                if (ascStrings != null && level[0] > 0 && level[0] <= ascStrings.TEXT.length) {
-                    CardCrawlGame.mainMenuScreen.charSelectScreen.ascLevelInfoString =
-                        ascStrings.TEXT[level[0] - 1];
-                }
+                CardCrawlGame.mainMenuScreen.charSelectScreen.ascLevelInfoString =
+                    AscensionDescriptions.get(level[0]);
                 logger.info("Ascension level set to: " + level[0]);
                 return SpireReturn.Return(null);
             }
@@ -86,11 +73,8 @@ public class Ascension100Patches {
 
             // For levels >= 20, handle description ourselves
             if (level[0] >= 20) {
-                UIStrings ascStrings = getAscensionStrings();
-                if (ascStrings != null && level[0] > 0 && level[0] <= ascStrings.TEXT.length) {
-                    CardCrawlGame.mainMenuScreen.charSelectScreen.ascLevelInfoString =
-                        ascStrings.TEXT[level[0] - 1];
-                }
+                CardCrawlGame.mainMenuScreen.charSelectScreen.ascLevelInfoString =
+                    AscensionDescriptions.get(level[0]);
                 logger.info("Ascension level set to: " + level[0]);
                 return SpireReturn.Return(null);
             } else if (level[0] == 0) {
@@ -131,16 +115,11 @@ public class Ascension100Patches {
             // Update stored level
             Ascension100Mod.currentAscensionLevel = CardCrawlGame.mainMenuScreen.charSelectScreen.ascensionLevel;
 
-            // Update description string for levels >= 20
+            // Update description string only when the level (or vanilla code) changed it
             int level = CardCrawlGame.mainMenuScreen.charSelectScreen.ascensionLevel;
-            if (level > 0) {
-                UIStrings ascStrings = getAscensionStrings();
-                if (ascStrings != null && level <= ascStrings.TEXT.length) {
-                    CardCrawlGame.mainMenuScreen.charSelectScreen.ascLevelInfoString =
-                        ascStrings.TEXT[level - 1];
-                }
-            } else {
-                CardCrawlGame.mainMenuScreen.charSelectScreen.ascLevelInfoString = "";
+            String description = AscensionDescriptions.get(level);
+            if (CardCrawlGame.mainMenuScreen.charSelectScreen.ascLevelInfoString != description) {
+                CardCrawlGame.mainMenuScreen.charSelectScreen.ascLevelInfoString = description;
             }
         }
     }
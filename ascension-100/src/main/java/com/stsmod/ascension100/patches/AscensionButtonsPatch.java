@@ -9,6 +9,8 @@ import com.megacrit.cardcrawl.helpers.Hitbox;
 import com.megacrit.cardcrawl.helpers.input.InputHelper;
 import com.megacrit.cardcrawl.screens.charSelect.CharacterSelectScreen;
 import com.stsmod.ascension100.Ascension100Mod;
+import com.stsmod.ascension100.util.FieldAccessor;
+import com.stsmod.ascension100.util.ReflectionCache;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -56,10 +58,8 @@ public class AscensionButtonsPatch {
                 }
 
                 // Get the existing left/right hitboxes using reflection
-                java.lang.reflect.Field ascLeftHbField = CharacterSelectScreen.class.getDeclaredField("ascLeftHb");
-                java.lang.reflect.Field ascRightHbField = CharacterSelectScreen.class.getDeclaredField("ascRightHb");
-                ascLeftHbField.setAccessible(true);
-                ascRightHbField.setAccessible(true);
+                FieldAccessor ascLeftHbField = ReflectionCache.CHARACTER_SELECT_SCREEN_ASC_LEFT_HB;
+                FieldAccessor ascRightHbField = ReflectionCache.CHARACTER_SELECT_SCREEN_ASC_RIGHT_HB;
 
                 Hitbox ascLeftHb = (Hitbox) ascLeftHbField.get(__instance);
                 Hitbox ascRightHb = (Hitbox) ascRightHbField.get(__instance);
@@ -0,0 +1,108 @@
+package com.stsmod.ascension100.patches;
+
+import com.evacipated.cardcrawl.modthespire.lib.SpirePatch;
+import com.evacipated.cardcrawl.modthespire.lib.SpirePostfixPatch;
+import com.evacipated.cardcrawl.modthespire.lib.SpirePrefixPatch;
+import com.megacrit.cardcrawl.characters.AbstractPlayer;
+import com.megacrit.cardcrawl.core.CardCrawlGame;
+import com.megacrit.cardcrawl.core.Settings;
+import com.megacrit.cardcrawl.dungeons.AbstractDungeon;
+import com.megacrit.cardcrawl.saveAndContinue.SaveFile;
+import com.stsmod.ascension100.util.AscensionRuleSet;
+import com.stsmod.ascension100.util.RngRecorder;
+import com.stsmod.ascension100.util.Telemetry;
+
+import java.util.ArrayList;
+
+/**
+ * Recompile AscensionRuleSet whenever a dungeon (act) is created
+ *
+ * Runs as a prefix so that every hook inside the constructor chain
+ * (dungeonTransitionSetup, generateMonsters, generateMap, ...) already sees
+ * the rule set of the new run. Back at the main menu (AbstractDungeon.reset)
+ * the empty rule set is installed, which unlinks every LevelHook listener.
+ * The run's Telemetry file is opened and closed at the same points, and the
+ * RngRecorder buffer is restarted on load and dumped at the run end.
+ *
+ * 새 런 / 새 막이 생성될 때 승천 규칙 테이블을 다시 계산
+ */
+public class AscensionRuleSetPatch {
+
+    /**
+     * New run or next act
+     */
+    @SpirePatch(
+        clz = AbstractDungeon.class,
+        method = SpirePatch.CONSTRUCTOR,
+        paramtypez = {String.class, String.class, AbstractPlayer.class, ArrayList.class}
+    )
+    public static class RefreshOnNewDungeon {
+        @SpirePrefixPatch
+        public static void Prefix(AbstractDungeon __instance) {
+            AscensionRuleSet.refresh();
+            beginTelemetry();
+        }
+    }
+
+    /**
+     * Continue from save
+     */
+    @SpirePatch(
+        clz = AbstractDungeon.class,
+        method = SpirePatch.CONSTRUCTOR,
+        paramtypez = {String.class, AbstractPlayer.class, SaveFile.class}
+    )
+    public static class RefreshOnLoadDungeon {
+        @SpirePrefixPatch
+        public static void Prefix(AbstractDungeon __instance) {
+            AscensionRuleSet.refresh();
+            RngRecorder.continueRun(Settings.seed != null ? Settings.seed : 0L, AscensionRuleSet.level());
+            beginTelemetry();
+        }
+    }
+
+    /**
+     * New character for a new run (before the dungeon exists)
+     * Player setup hooks (initializeClass) already see the selected level;
+     * a loaded save only knows its level after loadPlayerSave, see above.
+     * Also starts a fresh RngRecorder buffer (and a pending replay) for the run
+     */
+    @SpirePatch(
+        clz = CardCrawlGame.class,
+        method = "createCharacter"
+    )
+    public static class RefreshOnCreateCharacter {
+        @SpirePrefixPatch
+        public static void Prefix(AbstractPlayer.PlayerClass selection) {
+            if (!CardCrawlGame.loadingSave) {
+                AscensionRuleSet.refresh();
+                RngRecorder.startRun(Settings.seed != null ? Settings.seed : 0L, AscensionRuleSet.level());
+            }
+        }
+    }
+
+    /**
+     * Run ended (back to the main menu)
+     */
+    @SpirePatch(
+        clz = AbstractDungeon.class,
+        method = "reset"
+    )
+    public static class UnlinkOnReset {
+        @SpirePostfixPatch
+        public static void Postfix() {
+            AscensionRuleSet.install(AscensionRuleSet.NONE);
+            RngRecorder.dumpRunEnd();
+            Telemetry.endRun();
+        }
+    }
+
+    /**
+     * Telemetry file of the current run (only runs with Ascension 100 rules)
+     */
+    private static void beginTelemetry() {
+        if (AscensionRuleSet.isActive(21)) {
+            Telemetry.beginRun(Settings.seed != null ? Settings.seed : 0L, AscensionRuleSet.level());
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.stsmod.ascension100.patches;
+
+import com.evacipated.cardcrawl.modthespire.lib.SpirePatch;
+import com.evacipated.cardcrawl.modthespire.lib.SpirePostfixPatch;
+import com.evacipated.cardcrawl.modthespire.lib.SpirePrefixPatch;
+import com.megacrit.cardcrawl.characters.AbstractPlayer;
+import com.megacrit.cardcrawl.dungeons.AbstractDungeon;
+import com.megacrit.cardcrawl.rooms.AbstractRoom;
+import com.megacrit.cardcrawl.saveAndContinue.SaveFile;
+import com.stsmod.ascension100.util.CombatScopedState;
+
+import java.util.ArrayList;
+
+/**
+ * Clear every CombatScopedState at the end of a combat and of a run
+ *
+ * Combats lost to death or abandoned runs never reach endBattle; their state
+ * is dropped by AbstractDungeon.reset (back to the main menu) or by the next
+ * dungeon being created.
+ *
+ * 전투 / 런 종료 시 전투 단위 상태 초기화
+ */
+public class CombatScopedStatePatch {
+
+    @SpirePatch(
+        clz = AbstractRoom.class,
+        method = "endBattle"
+    )
+    public static class ClearOnEndBattle {
+        @SpirePostfixPatch
+        public static void Postfix(AbstractRoom __instance) {
+            CombatScopedState.clearAll("end of combat");
+        }
+    }
+
+    @SpirePatch(
+        clz = AbstractDungeon.class,
+        method = "reset"
+    )
+    public static class ClearOnReset {
+        @SpirePostfixPatch
+        public static void Postfix() {
+            CombatScopedState.clearAll("run reset");
+        }
+    }
+
+    @SpirePatch(
+        clz = AbstractDungeon.class,
+        method = SpirePatch.CONSTRUCTOR,
+        paramtypez = {String.class, String.class, AbstractPlayer.class, ArrayList.class}
+    )
+    public static class ClearOnNewDungeon {
+        @SpirePrefixPatch
+        public static void Prefix(AbstractDungeon __instance) {
+            CombatScopedState.clearAll("new dungeon");
+        }
+    }
+
+    @SpirePatch(
+        clz = AbstractDungeon.class,
+        method = SpirePatch.CONSTRUCTOR,
+        paramtypez = {String.class, AbstractPlayer.class, SaveFile.class}
+    )
+    public static class ClearOnLoadDungeon {
+        @SpirePrefixPatch
+        public static void Prefix(AbstractDungeon __instance) {
+            CombatScopedState.clearAll("dungeon loaded");
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.stsmod.ascension100.patches;
+
+import com.evacipated.cardcrawl.modthespire.lib.SpirePatch;
+import com.evacipated.cardcrawl.modthespire.lib.SpirePrefixPatch;
+import com.megacrit.cardcrawl.core.CardCrawlGame;
+import com.stsmod.ascension100.util.DeferredSaver;
+import com.stsmod.ascension100.util.Telemetry;
+
+/**
+ * Write pending DeferredSaver files when the game closes
+ *
+ * Runs on the game thread before the game shuts down, so Prefs changed in
+ * the last IDLE_MS are flushed together with the vanilla save files. The
+ * Telemetry file of a run quit from inside the run is closed here as well.
+ *
+ * 게임 종료 시 대기 중인 설정 파일 저장
+ */
+public class DeferredSaverPatch {
+
+    @SpirePatch(
+        clz = CardCrawlGame.class,
+        method = "dispose"
+    )
+    public static class FlushOnExit {
+        @SpirePrefixPatch
+        public static void Prefix(CardCrawlGame __instance) {
+            DeferredSaver.flushAll();
+            Telemetry.shutdown();
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.stsmod.ascension100.patches;
+
+import com.evacipated.cardcrawl.modthespire.lib.SpirePatch;
+import com.evacipated.cardcrawl.modthespire.lib.SpirePrefixPatch;
+import com.megacrit.cardcrawl.monsters.MonsterGroup;
+import com.stsmod.ascension100.util.EncounterHelper;
+
+/**
+ * Classify the encounter once when a combat's MonsterGroup is initialized
+ *
+ * Runs as a prefix so that every AbstractMonster.init hook and every
+ * MonsterGroup.init postfix (Level45, Level76, ...) reads the cached class.
+ *
+ * 전투 시작 시 한 번만 전투 종류를 판별
+ */
+public class EncounterClassPatch {
+
+    @SpirePatch(
+        clz = MonsterGroup.class,
+        method = "init"
+    )
+    public static class ClassifyOnInit {
+        @SpirePrefixPatch
+        public static void Prefix(MonsterGroup __instance) {
+            EncounterHelper.classify();
+        }
+    }
+}
@@ -7,6 +7,9 @@ import com.megacrit.cardcrawl.dungeons.AbstractDungeon;
 import com.megacrit.cardcrawl.helpers.Prefs;
 import com.megacrit.cardcrawl.screens.stats.CharStat;
 import com.stsmod.ascension100.Ascension100Mod;
+import com.stsmod.ascension100.util.DeferredSaver;
+import com.stsmod.ascension100.util.FieldAccessor;
+import com.stsmod.ascension100.util.ReflectionCache;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -32,8 +35,7 @@ public class IncrementAscensionPatch {
 
             try {
                 // Get preferences using reflection
-                java.lang.reflect.Field prefField = CharStat.class.getDeclaredField("pref");
-                prefField.setAccessible(true);
+                FieldAccessor prefField = ReflectionCache.CHAR_STAT_PREF;
                 Prefs pref = (Prefs) prefField.get(__instance);
 
                 int currentMax = pref.getInteger("ASCENSION_LEVEL", 1);
@@ -68,7 +70,7 @@ public class IncrementAscensionPatch {
                 // Save new ascension level
                 pref.putInteger("ASCENSION_LEVEL", newLevel);
                 pref.putInteger("LAST_ASCENSION_LEVEL", newLevel);
-                pref.flush();
+                DeferredSaver.save(pref);
 
                 // Save actual cleared level to progress config (for tracking real progress)
                 if (Ascension100Mod.progressConfig != null && playedLevel >= currentMax) {
@@ -79,7 +81,7 @@ public class IncrementAscensionPatch {
                     // Update if this is higher than recorded
                     if (playedLevel > actualMax) {
                         Ascension100Mod.progressConfig.setInt(characterKey, playedLevel);
-                        Ascension100Mod.progressConfig.save();
+                        DeferredSaver.save(Ascension100Mod.progressConfig);
                         logger.info("Saved actual clear progress: " + characterKey + " = " + playedLevel);
                     }
                 }
@@ -5,6 +5,8 @@ import com.megacrit.cardcrawl.core.CardCrawlGame;
 import com.megacrit.cardcrawl.helpers.Prefs;
 import com.megacrit.cardcrawl.screens.charSelect.CharacterOption;
 import com.stsmod.ascension100.Ascension100Mod;
+import com.stsmod.ascension100.util.FieldAccessor;
+import com.stsmod.ascension100.util.ReflectionCache;
 import javassist.CtBehavior;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -29,13 +31,11 @@ public class MaxAscensionLevelPatch {
         public static void Prefix(CharacterOption __instance) {
             try {
                 // Get maxAscensionLevel field
-                java.lang.reflect.Field maxAscensionField = CharacterOption.class.getDeclaredField("maxAscensionLevel");
-                maxAscensionField.setAccessible(true);
+                FieldAccessor maxAscensionField = ReflectionCache.CHARACTER_OPTION_MAX_ASCENSION_LEVEL;
                 int currentMax = maxAscensionField.getInt(__instance);
 
                 // Get the character field to access prefs
-                java.lang.reflect.Field charField = CharacterOption.class.getDeclaredField("c");
-                charField.setAccessible(true);
+                FieldAccessor charField = ReflectionCache.CHARACTER_OPTION_C;
                 com.megacrit.cardcrawl.characters.AbstractPlayer player =
                     (com.megacrit.cardcrawl.characters.AbstractPlayer) charField.get(__instance);
 
@@ -73,8 +73,7 @@ public class MaxAscensionLevelPatch {
         public static SpireReturn<Void> Prefix(CharacterOption __instance, int level) {
             try {
                 // Get maxAscensionLevel field
-                java.lang.reflect.Field maxAscensionField = CharacterOption.class.getDeclaredField("maxAscensionLevel");
-                maxAscensionField.setAccessible(true);
+                FieldAccessor maxAscensionField = ReflectionCache.CHARACTER_OPTION_MAX_ASCENSION_LEVEL;
                 int maxLevel = maxAscensionField.getInt(__instance);
 
                 // Check against actual max (up to 100)
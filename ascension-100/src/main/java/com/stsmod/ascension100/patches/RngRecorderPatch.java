@@ -0,0 +1,31 @@
+package com.stsmod.ascension100.patches;
+
+import com.evacipated.cardcrawl.modthespire.lib.SpirePatch;
+import com.evacipated.cardcrawl.modthespire.lib.SpirePrefixPatch;
+import com.megacrit.cardcrawl.core.ExceptionHandler;
+import com.stsmod.ascension100.util.RngRecorder;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Dump the RngRecorder buffer when the game crashes
+ *
+ * CardCrawlGame.render catches its own exceptions and hands them to
+ * ExceptionHandler.handleException before exiting, so a crash never reaches
+ * the thread's uncaught exception handler. The dump is written here, before
+ * the game logs the error and closes.
+ *
+ * 게임 오류 발생 시 RNG 기록 저장
+ */
+public class RngRecorderPatch {
+
+    @SpirePatch(
+        clz = ExceptionHandler.class,
+        method = "handleException"
+    )
+    public static class DumpOnCrash {
+        @SpirePrefixPatch
+        public static void Prefix(Exception e, Logger logger) {
+            RngRecorder.dump("crash");
+        }
+    }
+}
@@ -7,6 +7,8 @@ import com.megacrit.cardcrawl.core.AbstractCreature;
 import com.megacrit.cardcrawl.dungeons.AbstractDungeon;
 import com.megacrit.cardcrawl.monsters.ending.CorruptHeart;
 import com.megacrit.cardcrawl.powers.TimeWarpPower;
+import com.stsmod.ascension100.util.AscensionLog;
+import com.stsmod.ascension100.util.AscensionRuleSet;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -31,7 +33,7 @@ public class Level100 {
     public static class ApplyTimeWarpPower {
         @SpirePostfixPatch
         public static void Postfix(CorruptHeart __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 100) {
+            if (!AscensionRuleSet.isActive(100)) {
                 return;
             }
 
@@ -45,7 +47,7 @@ public class Level100 {
                 )
             );
 
-            logger.info("Ascension 100: Applied Time Warp power to Corrupt Heart");
+            AscensionLog.trace(logger, "Ascension 100: Applied Time Warp power to Corrupt Heart");
         }
     }
 }
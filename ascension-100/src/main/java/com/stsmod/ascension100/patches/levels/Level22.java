@@ -1,41 +1,19 @@
 package com.stsmod.ascension100.patches.levels;
 
-import com.badlogic.gdx.math.MathUtils;
-import com.evacipated.cardcrawl.modthespire.lib.SpirePatch;
-import com.evacipated.cardcrawl.modthespire.lib.SpirePostfixPatch;
-import com.megacrit.cardcrawl.dungeons.AbstractDungeon;
-import com.megacrit.cardcrawl.monsters.AbstractMonster;
-import org.apache.logging.log4j.LogManager;
-import org.apache.logging.log4j.Logger;
+import com.stsmod.ascension100.patches.unified.MonsterStatContext;
+import com.stsmod.ascension100.patches.unified.MonsterStatModifier;
 
 /**
  * Ascension Level 22: Normal enemies have 4% more HP
  * 일반 적들의 체력이 4% 증가합니다.
+ *
+ * Applied by MonsterStatPipeline
  */
 public class Level22 {
-    private static final Logger logger = LogManager.getLogger(Level22.class.getName());
 
-    @SpirePatch(
-        clz = AbstractMonster.class,
-        method = "init"
-    )
-    public static class NormalHealthIncrease {
-        @SpirePostfixPatch
-        public static void Postfix(AbstractMonster __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 22) {
-                return;
-            }
-
-            if (__instance.type == AbstractMonster.EnemyType.NORMAL) {
-                int originalMaxHP = __instance.maxHealth;
-                __instance.maxHealth = MathUtils.ceil(__instance.maxHealth * 1.04f);
-                __instance.currentHealth = MathUtils.ceil(__instance.currentHealth * 1.04f);
-
-                logger.info(String.format(
-                    "Ascension 22: Normal %s HP increased from %d to %d (+4%%)",
-                    __instance.name, originalMaxHP, __instance.maxHealth
-                ));
-            }
+    public static void modifyStats(MonsterStatContext ctx, MonsterStatModifier mod) {
+        if (ctx.isNormal()) {
+            mod.multiplyHealth(22, 1.04f);
         }
     }
 }
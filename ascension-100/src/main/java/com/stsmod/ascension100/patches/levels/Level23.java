@@ -16,6 +16,10 @@ import com.megacrit.cardcrawl.monsters.beyond.GiantHead;
 import com.megacrit.cardcrawl.monsters.beyond.Nemesis;
 import com.megacrit.cardcrawl.monsters.beyond.Reptomancer;
 import com.megacrit.cardcrawl.powers.StrengthPower;
+import com.stsmod.ascension100.util.AscensionLog;
+import com.stsmod.ascension100.util.AscensionRuleSet;
+import com.stsmod.ascension100.util.FieldAccessor;
+import com.stsmod.ascension100.util.ReflectionCache;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -49,7 +53,7 @@ public class Level23 {
     public static class GremlinNobDamagePatch {
         @SpirePostfixPatch
         public static void Postfix(GremlinNob __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 23) {
+            if (!AscensionRuleSet.isActive(23)) {
                 return;
             }
 
@@ -58,7 +62,7 @@ public class Level23 {
                     damageInfo.base += 1;
                 }
             }
-            logger.info("Ascension 23: Gremlin Nob damage +1");
+            AscensionLog.trace(logger, "Ascension 23: Gremlin Nob damage +1");
         }
     }
 
@@ -73,7 +77,7 @@ public class Level23 {
     public static class LagavulinDamagePatch {
         @SpirePostfixPatch
         public static void Postfix(Lagavulin __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 23) {
+            if (!AscensionRuleSet.isActive(23)) {
                 return;
             }
 
@@ -82,7 +86,7 @@ public class Level23 {
                     damageInfo.base += 2;
                 }
             }
-            logger.info("Ascension 23: Lagavulin damage +2");
+            AscensionLog.trace(logger, "Ascension 23: Lagavulin damage +2");
         }
     }
 
@@ -97,7 +101,7 @@ public class Level23 {
     public static class SentryDamagePatch {
         @SpirePostfixPatch
         public static void Postfix(Sentry __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 23) {
+            if (!AscensionRuleSet.isActive(23)) {
                 return;
             }
 
@@ -106,7 +110,7 @@ public class Level23 {
                     damageInfo.base += 1;
                 }
             }
-            logger.info("Ascension 23: Sentry damage +1");
+            AscensionLog.trace(logger, "Ascension 23: Sentry damage +1");
         }
     }
 
@@ -124,7 +128,7 @@ public class Level23 {
     public static class TaskmasterDamagePatch {
         @SpirePostfixPatch
         public static void Postfix(Taskmaster __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 23) {
+            if (!AscensionRuleSet.isActive(23)) {
                 return;
             }
 
@@ -133,7 +137,7 @@ public class Level23 {
                     damageInfo.base += 3;
                 }
             }
-            logger.info("Ascension 23: Taskmaster damage +3");
+            AscensionLog.trace(logger, "Ascension 23: Taskmaster damage +3");
         }
     }
 
@@ -147,7 +151,7 @@ public class Level23 {
     public static class TaskmasterGetMoveFix {
         @SpirePostfixPatch
         public static void Postfix(Taskmaster __instance, int num) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 23) {
+            if (!AscensionRuleSet.isActive(23)) {
                 return;
             }
 
@@ -157,7 +161,9 @@ public class Level23 {
             int actualDamage = __instance.damage.get(1).base;  // This is 10 after our +3 patch
             __instance.setMove((byte)2, AbstractMonster.Intent.ATTACK_DEBUFF, actualDamage);
 
-            logger.info(String.format("Ascension 23: Taskmaster getMove fixed to use damage %d", actualDamage));
+            if (AscensionLog.isTracing()) {
+                logger.info(String.format("Ascension 23: Taskmaster getMove fixed to use damage %d", actualDamage));
+            }
         }
     }
 
@@ -181,7 +187,7 @@ public class Level23 {
     public static class GiantHeadDamagePatch {
         @SpirePostfixPatch
         public static void Postfix(GiantHead __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 23) {
+            if (!AscensionRuleSet.isActive(23)) {
                 return;
             }
 
@@ -196,11 +202,10 @@ public class Level23 {
 
             // Update startingDeathDmg field for getMove() Intent calculation
             try {
-                java.lang.reflect.Field startingDeathDmgField = GiantHead.class.getDeclaredField("startingDeathDmg");
-                startingDeathDmgField.setAccessible(true);
+                FieldAccessor startingDeathDmgField = ReflectionCache.GIANT_HEAD_STARTING_DEATH_DMG;
                 int currentDeathDmg = startingDeathDmgField.getInt(__instance);
                 startingDeathDmgField.setInt(__instance, currentDeathDmg + 10);
-                logger.info("Ascension 23: Giant Head IT IS TIME damage +10 (damage[1-7] + startingDeathDmg)");
+                AscensionLog.trace(logger, "Ascension 23: Giant Head IT IS TIME damage +10 (damage[1-7] + startingDeathDmg)");
             } catch (Exception e) {
                 logger.error("Failed to update GiantHead startingDeathDmg field", e);
             }
@@ -223,20 +228,18 @@ public class Level23 {
     public static class GiantHeadGetMoveFix {
         @SpirePostfixPatch
         public static void Postfix(GiantHead __instance, int num) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 23) {
+            if (!AscensionRuleSet.isActive(23)) {
                 return;
             }
 
             try {
                 // Check if IT IS TIME move was set
-                java.lang.reflect.Field nextMoveField = AbstractMonster.class.getDeclaredField("nextMove");
-                nextMoveField.setAccessible(true);
+                FieldAccessor nextMoveField = ReflectionCache.ABSTRACT_MONSTER_NEXT_MOVE;
                 byte nextMove = nextMoveField.getByte(__instance);
 
                 if (nextMove == 2) { // IT_IS_TIME
                     // Get count to calculate damage index
-                    java.lang.reflect.Field countField = GiantHead.class.getDeclaredField("count");
-                    countField.setAccessible(true);
+                    FieldAccessor countField = ReflectionCache.GIANT_HEAD_COUNT;
                     int count = countField.getInt(__instance);
 
                     // takeTurn() uses: index = 1 - count
@@ -249,8 +252,10 @@ public class Level23 {
                     int actualDamage = __instance.damage.get(index).base;
                     __instance.setMove((byte)2, AbstractMonster.Intent.ATTACK, actualDamage);
 
-                    logger.info(String.format("Ascension 23: Giant Head IT IS TIME Intent updated to %d (count=%d, index=%d)",
-                        actualDamage, count, index));
+                    if (AscensionLog.isTracing()) {
+                        logger.info(String.format("Ascension 23: Giant Head IT IS TIME Intent updated to %d (count=%d, index=%d)",
+                            actualDamage, count, index));
+                    }
                 }
             } catch (Exception e) {
                 logger.error("Failed to fix Giant Head IT IS TIME Intent", e);
@@ -269,7 +274,7 @@ public class Level23 {
     public static class NemesisDamagePatch {
         @SpirePostfixPatch
         public static void Postfix(Nemesis __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 23) {
+            if (!AscensionRuleSet.isActive(23)) {
                 return;
             }
 
@@ -281,12 +286,13 @@ public class Level23 {
 
             // Also update fireDmg field (used in Burns attack - move 2)
             try {
-                java.lang.reflect.Field fireDmgField = Nemesis.class.getDeclaredField("fireDmg");
-                fireDmgField.setAccessible(true);
+                FieldAccessor fireDmgField = ReflectionCache.NEMESIS_FIRE_DMG;
                 int currentFireDmg = fireDmgField.getInt(__instance);
                 fireDmgField.setInt(__instance, currentFireDmg + 5);
-                logger.info(String.format("Ascension 23: Nemesis damage +5 (Scythe: %d, Burns: %d)",
-                    __instance.damage.get(0).base, currentFireDmg + 5));
+                if (AscensionLog.isTracing()) {
+                    logger.info(String.format("Ascension 23: Nemesis damage +5 (Scythe: %d, Burns: %d)",
+                        __instance.damage.get(0).base, currentFireDmg + 5));
+                }
             } catch (Exception e) {
                 logger.error("Failed to modify Nemesis fireDmg field", e);
             }
@@ -305,7 +311,7 @@ public class Level23 {
     public static class NemesisGetMoveFix {
         @SpirePostfixPatch
         public static void Postfix(Nemesis __instance, int num) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 23) {
+            if (!AscensionRuleSet.isActive(23)) {
                 return;
             }
 
@@ -313,14 +319,15 @@ public class Level23 {
             // But getMove() hardcodes damage value as 45 (lines 168, 193, 205)
             // We need to override it with the actual modified damage value
             try {
-                java.lang.reflect.Field nextMoveField = AbstractMonster.class.getDeclaredField("nextMove");
-                nextMoveField.setAccessible(true);
+                FieldAccessor nextMoveField = ReflectionCache.ABSTRACT_MONSTER_NEXT_MOVE;
                 byte nextMove = nextMoveField.getByte(__instance);
 
                 if (nextMove == 3) { // Scythe attack
                     int actualDamage = __instance.damage.get(0).base;  // This is 50 after our +5 patch
                     __instance.setMove((byte)3, AbstractMonster.Intent.ATTACK, actualDamage);
-                    logger.info(String.format("Ascension 23: Nemesis Scythe getMove fixed to use damage %d", actualDamage));
+                    if (AscensionLog.isTracing()) {
+                        logger.info(String.format("Ascension 23: Nemesis Scythe getMove fixed to use damage %d", actualDamage));
+                    }
                 }
                 // Move 2 (Burns) uses fireDmg field which is already fixed in constructor, no need to fix here
             } catch (Exception e) {
@@ -340,7 +347,7 @@ public class Level23 {
     public static class ReptomancerDamagePatch {
         @SpirePostfixPatch
         public static void Postfix(Reptomancer __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 23) {
+            if (!AscensionRuleSet.isActive(23)) {
                 return;
             }
 
@@ -349,7 +356,7 @@ public class Level23 {
                     damageInfo.base += 2;
                 }
             }
-            logger.info("Ascension 23: Reptomancer damage +2");
+            AscensionLog.trace(logger, "Ascension 23: Reptomancer damage +2");
         }
     }
 
@@ -363,14 +370,13 @@ public class Level23 {
     public static class GremlinLeaderEncourageBuff {
         @SpirePostfixPatch
         public static void Postfix(GremlinLeader __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 23) {
+            if (!AscensionRuleSet.isActive(23)) {
                 return;
             }
 
             // Check if Gremlin Leader just used Encourage move (byte 3)
             try {
-                java.lang.reflect.Field nextMoveField = AbstractMonster.class.getDeclaredField("nextMove");
-                nextMoveField.setAccessible(true);
+                FieldAccessor nextMoveField = ReflectionCache.ABSTRACT_MONSTER_NEXT_MOVE;
                 byte nextMove = nextMoveField.getByte(__instance);
 
                 if (nextMove == 3) { // Encourage move
@@ -384,7 +390,7 @@ public class Level23 {
                         }
                     }
 
-                    logger.info("Ascension 23: Gremlin Leader Encourage +1 Strength to minions");
+                    AscensionLog.trace(logger, "Ascension 23: Gremlin Leader Encourage +1 Strength to minions");
                 }
             } catch (Exception e) {
                 logger.error("Failed to modify Gremlin Leader Encourage pattern", e);
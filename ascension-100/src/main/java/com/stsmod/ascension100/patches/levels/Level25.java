@@ -3,8 +3,8 @@ package com.stsmod.ascension100.patches.levels;
 import com.evacipated.cardcrawl.modthespire.lib.SpirePatch;
 import com.evacipated.cardcrawl.modthespire.lib.SpirePostfixPatch;
 import com.megacrit.cardcrawl.characters.AbstractPlayer;
-import com.megacrit.cardcrawl.dungeons.AbstractDungeon;
 import com.megacrit.cardcrawl.potions.*;
+import com.stsmod.ascension100.util.AscensionRuleSet;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -56,7 +56,7 @@ public class Level25 {
     public static class EssenceOfSteelPatch {
         @SpirePostfixPatch
         public static int Postfix(int __result) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 25) {
+            if (!AscensionRuleSet.isActive(25)) {
                 return __result;
             }
             return Math.max(0, __result - 1); // 4 → 3
@@ -74,7 +74,7 @@ public class Level25 {
     public static class LiquidBronzePatch {
         @SpirePostfixPatch
         public static int Postfix(int __result) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 25) {
+            if (!AscensionRuleSet.isActive(25)) {
                 return __result;
             }
             return Math.max(0, __result - 1); // 3 → 2
@@ -92,7 +92,7 @@ public class Level25 {
     public static class DistilledChaosPatch {
         @SpirePostfixPatch
         public static int Postfix(int __result) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 25) {
+            if (!AscensionRuleSet.isActive(25)) {
                 return __result;
             }
             return Math.max(0, __result - 1); // 3 → 2
@@ -110,7 +110,7 @@ public class Level25 {
     public static class RegenPotionPatch {
         @SpirePostfixPatch
         public static int Postfix(int __result) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 25) {
+            if (!AscensionRuleSet.isActive(25)) {
                 return __result;
             }
             return Math.max(0, __result - 1); // 5 → 4
@@ -128,7 +128,7 @@ public class Level25 {
     public static class PotionOfCapacityPatch {
         @SpirePostfixPatch
         public static int Postfix(int __result) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 25) {
+            if (!AscensionRuleSet.isActive(25)) {
                 return __result;
             }
             return Math.max(1, __result - 1); // 2 → 1 (minimum 1)
@@ -146,7 +146,7 @@ public class Level25 {
     public static class CunningPotionPatch {
         @SpirePostfixPatch
         public static int Postfix(int __result) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 25) {
+            if (!AscensionRuleSet.isActive(25)) {
                 return __result;
             }
             return Math.max(0, __result - 1); // 3 → 2
@@ -164,7 +164,7 @@ public class Level25 {
     public static class SwiftPotionPatch {
         @SpirePostfixPatch
         public static int Postfix(int __result) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 25) {
+            if (!AscensionRuleSet.isActive(25)) {
                 return __result;
             }
             return Math.max(0, __result - 1); // 3 → 2
@@ -182,7 +182,7 @@ public class Level25 {
     public static class SpeedPotionPatch {
         @SpirePostfixPatch
         public static int Postfix(int __result) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 25) {
+            if (!AscensionRuleSet.isActive(25)) {
                 return __result;
             }
             return Math.max(0, __result - 1); // 5 → 4
@@ -200,7 +200,7 @@ public class Level25 {
     public static class SteroidPotionPatch {
         @SpirePostfixPatch
         public static int Postfix(int __result) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 25) {
+            if (!AscensionRuleSet.isActive(25)) {
                 return __result;
             }
             return Math.max(0, __result - 1); // 2 → 1
@@ -218,7 +218,7 @@ public class Level25 {
     public static class BlockPotionPatch {
         @SpirePostfixPatch
         public static int Postfix(int __result) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 25) {
+            if (!AscensionRuleSet.isActive(25)) {
                 return __result;
             }
             return Math.max(0, __result - 3); // 12 → 9
@@ -236,7 +236,7 @@ public class Level25 {
     public static class FearPotionPatch {
         @SpirePostfixPatch
         public static int Postfix(int __result) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 25) {
+            if (!AscensionRuleSet.isActive(25)) {
                 return __result;
             }
             return Math.max(0, __result - 1); // 3 → 2
@@ -254,7 +254,7 @@ public class Level25 {
     public static class WeakPotionPatch {
         @SpirePostfixPatch
         public static int Postfix(int __result) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 25) {
+            if (!AscensionRuleSet.isActive(25)) {
                 return __result;
             }
             return Math.max(0, __result - 1); // 3 → 2
@@ -272,7 +272,7 @@ public class Level25 {
     public static class FirePotionPatch {
         @SpirePostfixPatch
         public static int Postfix(int __result) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 25) {
+            if (!AscensionRuleSet.isActive(25)) {
                 return __result;
             }
             return Math.max(0, __result - 5); // 20 → 15
@@ -290,7 +290,7 @@ public class Level25 {
     public static class ExplosivePotionPatch {
         @SpirePostfixPatch
         public static int Postfix(int __result) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 25) {
+            if (!AscensionRuleSet.isActive(25)) {
                 return __result;
             }
             return Math.max(0, __result - 2); // 10 → 8
@@ -308,7 +308,7 @@ public class Level25 {
     public static class BloodPotionPatch {
         @SpirePostfixPatch
         public static int Postfix(int __result) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 25) {
+            if (!AscensionRuleSet.isActive(25)) {
                 return __result;
             }
             return Math.max(0, __result - 5); // 20% → 15%
@@ -326,7 +326,7 @@ public class Level25 {
     public static class PoisonPotionPatch {
         @SpirePostfixPatch
         public static int Postfix(int __result) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 25) {
+            if (!AscensionRuleSet.isActive(25)) {
                 return __result;
             }
             return Math.max(0, __result - 1); // 6 → 5
@@ -356,7 +356,7 @@ public class Level25 {
     public static class HeartOfIronPatch {
         @SpirePostfixPatch
         public static int Postfix(int __result) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 25) {
+            if (!AscensionRuleSet.isActive(25)) {
                 return __result;
             }
             return Math.max(0, __result - 2); // 6 → 4
@@ -374,7 +374,7 @@ public class Level25 {
     public static class FruitJuicePatch {
         @SpirePostfixPatch
         public static int Postfix(int __result) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 25) {
+            if (!AscensionRuleSet.isActive(25)) {
                 return __result;
             }
             return Math.max(0, __result - 2); // 5 → 3
@@ -392,7 +392,7 @@ public class Level25 {
     public static class SneckoOilPatch {
         @SpirePostfixPatch
         public static int Postfix(int __result) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 25) {
+            if (!AscensionRuleSet.isActive(25)) {
                 return __result;
             }
             return Math.max(0, __result - 1); // 5 → 4
@@ -410,7 +410,7 @@ public class Level25 {
     public static class FairyPotionPatch {
         @SpirePostfixPatch
         public static int Postfix(int __result) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 25) {
+            if (!AscensionRuleSet.isActive(25)) {
                 return __result;
             }
             return Math.max(0, __result - 10); // 30% → 20%
@@ -18,11 +18,16 @@ import com.megacrit.cardcrawl.monsters.exordium.*;
 import com.megacrit.cardcrawl.monsters.city.*;
 import com.megacrit.cardcrawl.monsters.beyond.*;
 import com.megacrit.cardcrawl.powers.*;
+import com.stsmod.ascension100.patches.unified.MonsterDispatch;
+import com.stsmod.ascension100.patches.unified.MonsterStatContext;
+import com.stsmod.ascension100.patches.unified.MonsterStatModifier;
+import com.stsmod.ascension100.util.AscensionLog;
+import com.stsmod.ascension100.util.AscensionRuleSet;
+import com.stsmod.ascension100.util.FieldAccessor;
+import com.stsmod.ascension100.util.ReflectionCache;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
-import java.lang.reflect.Field;
-
 /**
  * Ascension Level 26: Enemy pattern enhancements
  *
@@ -32,6 +37,49 @@ public class Level26 {
     private static final Logger logger = LogManager.getLogger(Level26.class.getName());
     private static final float COMPOUND_RATE = 1.24f;  // 24% compound interest for Slow (Giant Head)
 
+    /**
+     * Per-class monster changes, applied by MonsterDispatch at init,
+     * around usePreBattleAction and around takeTurn
+     */
+    public static void registerMonsterModifiers(MonsterDispatch.Registry registry) {
+        registry.add(26, Cultist.class, Level26::cultistDamage);
+        registry.add(26, GremlinWarrior.class, Level26::gremlinWarriorHP);
+        registry.add(26, GremlinFat.class, Level26::gremlinFatHP);
+        registry.add(26, GremlinWizard.class, Level26::gremlinWizardDamage);
+        registry.add(26, Chosen.class, Level26::chosenDamage);
+        registry.add(26, Centurion.class, Level26::centurionDefend);
+        registry.add(26, Snecko.class, Level26::sneckoDamage);
+        registry.add(26, BanditBear.class, Level26::banditBearHP);
+        registry.add(26, BanditPointy.class, Level26::banditPointyDamage);
+        registry.add(26, Spiker.class, Level26::spikerHP);
+        registry.add(26, Exploder.class, Level26::exploderHP);
+        registry.add(26, OrbWalker.class, Level26::orbWalkerHP);
+        registry.add(26, Darkling.class, Level26::darklingHP);
+        registry.add(26, Maw.class, Level26::mawHP);
+        registry.add(26, SpireGrowth.class, Level26::spireGrowthDamage);
+        registry.add(26, GremlinTsundere.class, Level26::gremlinTsundereBlock);
+        registry.add(26, GremlinThief.class, Level26::gremlinThiefDamage);
+        registry.add(26, Looter.class, Level26::looterThieft);
+        registry.add(26, SlaverBlue.class, Level26::slaverBlueDamage);
+        registry.add(26, SphericGuardian.class, Level26::sphericGuardianStats);
+        registry.add(26, Mugger.class, Level26::muggerThieft);
+
+        registry.beforeTurn(26, Cultist.class, CultistRitualPatch::beforeTurn);
+        registry.afterTurn(26, Cultist.class, CultistRitualPatch::afterTurn);
+        registry.afterTurn(26, JawWorm.class, JawWormDefensePatch::afterTurn);
+        registry.afterTurn(26, SpikeSlime_M.class, SpikeSlimeMediumSlimedPatch::afterTurn);
+        registry.afterTurn(26, SpikeSlime_L.class, SpikeSlimeLargeSlimedPatch::afterTurn);
+        registry.afterTurn(26, AcidSlime_M.class, AcidSlimeMediumSlimedPatch::afterTurn);
+        registry.afterTurn(26, AcidSlime_L.class, AcidSlimeLargeSlimedPatch::afterTurn);
+        registry.afterTurn(26, Repulsor.class, RepulsorDazedPatch::afterTurn);
+        registry.afterPreBattle(26, ShelledParasite.class, ShelledParasitePatch::afterPreBattle);
+        registry.beforeTurn(26, Byrd.class, ByrdStrengthPatch::beforeTurn);
+        registry.afterTurn(26, Byrd.class, ByrdStrengthPatch::afterTurn);
+        registry.afterTurn(26, Healer.class, HealerAlonePatch::afterTurn);
+        registry.afterTurn(26, SlaverRed.class, SlaverRedEntanglePatch::afterTurn);
+        registry.afterPreBattle(26, SphericGuardian.class, SphericGuardianBlockPatch::afterPreBattle);
+    }
+
     // ========================================
     // 1막 적들
     // ========================================
@@ -42,25 +90,17 @@ public class Level26 {
     /**
      * Cultist: Damage -4 (rituals stronger, attacks weaker)
      */
-    @SpirePatch(
-        clz = Cultist.class,
-        method = SpirePatch.CONSTRUCTOR,
-        paramtypez = { float.class, float.class, boolean.class }
-    )
-    public static class CultistDamagePatch {
-        @SpirePostfixPatch
-        public static void Postfix(Cultist __instance, float x, float y, boolean talk) {
-            if (AbstractDungeon.isAscensionMode && AbstractDungeon.ascensionLevel >= 26) {
-                if (!__instance.damage.isEmpty()) {
-                    DamageInfo damageInfo = __instance.damage.get(0);
-                    int originalDamage = damageInfo.base;
-                    damageInfo.base = Math.max(1, originalDamage - 4);
-                    logger.info(String.format(
-                        "Ascension 26: Cultist damage reduced from %d to %d",
-                        originalDamage,
-                        damageInfo.base
-                    ));
-                }
+    private static void cultistDamage(Cultist monster) {
+        if (!monster.damage.isEmpty()) {
+            DamageInfo damageInfo = monster.damage.get(0);
+            int originalDamage = damageInfo.base;
+            damageInfo.base = Math.max(1, originalDamage - 4);
+            if (AscensionLog.isTracing()) {
+                logger.info(String.format(
+                    "Ascension 26: Cultist damage reduced from %d to %d",
+                    originalDamage,
+                    damageInfo.base
+                ));
             }
         }
     }
@@ -68,60 +108,46 @@ public class Level26 {
     /**
      * Cultist: Incantation pattern grants additional Ritual (in one application)
      * +1 if floor <= 3, +2 otherwise
-     * Uses Prefix to modify the ritualAmount field BEFORE takeTurn applies it
+     * Uses beforeTurn to modify the ritualAmount field BEFORE takeTurn applies it
      */
-    @SpirePatch(
-        clz = Cultist.class,
-        method = "takeTurn"
-    )
     public static class CultistRitualPatch {
         private static ThreadLocal<Integer> bonusAmount = ThreadLocal.withInitial(() -> 0);
 
-        @SpirePrefixPatch
-        public static void Prefix(Cultist __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 26) {
-                return;
-            }
-
+        public static void beforeTurn(Cultist monster) {
             // Check if about to use Incantation (move 3)
-            if (__instance.nextMove == 3) {
+            if (monster.nextMove == 3) {
                 try {
                     // Determine bonus based on floor
                     int bonus = (AbstractDungeon.floorNum <= 3) ? 1 : 2;
                     bonusAmount.set(bonus);
 
                     // Access private ritualAmount field and increase it
-                    Field ritualAmountField = Cultist.class.getDeclaredField("ritualAmount");
-                    ritualAmountField.setAccessible(true);
-                    int currentAmount = ritualAmountField.getInt(__instance);
-                    ritualAmountField.setInt(__instance, currentAmount + bonus);
+                    FieldAccessor ritualAmountField = ReflectionCache.CULTIST_RITUAL_AMOUNT;
+                    int currentAmount = ritualAmountField.getInt(monster);
+                    ritualAmountField.setInt(monster, currentAmount + bonus);
 
-                    logger.info(String.format(
-                        "Ascension 26: Cultist Ritual amount increased from %d to %d (+%d, floor %d)",
-                        currentAmount, currentAmount + bonus, bonus, AbstractDungeon.floorNum
-                    ));
+                    if (AscensionLog.isTracing()) {
+                        logger.info(String.format(
+                            "Ascension 26: Cultist Ritual amount increased from %d to %d (+%d, floor %d)",
+                            currentAmount, currentAmount + bonus, bonus, AbstractDungeon.floorNum
+                        ));
+                    }
                 } catch (Exception e) {
                     logger.error("Failed to modify Cultist ritualAmount", e);
                 }
             }
         }
 
-        @SpirePostfixPatch
-        public static void Postfix(Cultist __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 26) {
-                return;
-            }
-
+        public static void afterTurn(Cultist monster) {
             // Reset ritualAmount back to original after Incantation is used
-            if (__instance.nextMove == 3) {
+            if (monster.nextMove == 3) {
                 try {
                     int bonus = bonusAmount.get();
-                    Field ritualAmountField = Cultist.class.getDeclaredField("ritualAmount");
-                    ritualAmountField.setAccessible(true);
-                    int currentAmount = ritualAmountField.getInt(__instance);
-                    ritualAmountField.setInt(__instance, currentAmount - bonus);
+                    FieldAccessor ritualAmountField = ReflectionCache.CULTIST_RITUAL_AMOUNT;
+                    int currentAmount = ritualAmountField.getInt(monster);
+                    ritualAmountField.setInt(monster, currentAmount - bonus);
 
-                    logger.info("Ascension 26: Cultist Ritual amount reset to original");
+                    AscensionLog.trace(logger, "Ascension 26: Cultist Ritual amount reset to original");
                     bonusAmount.remove();
                 } catch (Exception e) {
                     logger.error("Failed to reset Cultist ritualAmount", e);
@@ -140,7 +166,7 @@ public class Level26 {
     public static class FungiBeastSporeCloudPatch {
         @SpirePostfixPatch
         public static void Postfix(SporeCloudPower __instance, AbstractCreature owner, int amount) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 26) {
+            if (!AscensionRuleSet.isActive(26)) {
                 return;
             }
 
@@ -148,10 +174,12 @@ public class Level26 {
             if (owner instanceof FungiBeast) {
                 __instance.amount += 1;
                 __instance.updateDescription();
-                logger.info(String.format(
-                    "Ascension 26: FungiBeast SporeCloud constructor intercepted, increased from %d to %d",
-                    amount, __instance.amount
-                ));
+                if (AscensionLog.isTracing()) {
+                    logger.info(String.format(
+                        "Ascension 26: FungiBeast SporeCloud constructor intercepted, increased from %d to %d",
+                        amount, __instance.amount
+                    ));
+                }
             }
         }
     }
@@ -159,20 +187,13 @@ public class Level26 {
     /**
      * Jaw Worm: Defense +3 on Strength gain
      */
-    @SpirePatch(
-        clz = JawWorm.class,
-        method = "takeTurn"
-    )
     public static class JawWormDefensePatch {
-        @SpirePostfixPatch
-        public static void Postfix(JawWorm __instance) {
-            if (AbstractDungeon.isAscensionMode && AbstractDungeon.ascensionLevel >= 26) {
-                if (__instance.nextMove == 2) { // Bellow move
-                    AbstractDungeon.actionManager.addToBottom(
-                        new com.megacrit.cardcrawl.actions.common.GainBlockAction(__instance, __instance, 3)
-                    );
-                    logger.info("Ascension 26: JawWorm gained 3 Block on Strength gain");
-                }
+        public static void afterTurn(JawWorm monster) {
+            if (monster.nextMove == 2) { // Bellow move
+                AbstractDungeon.actionManager.addToBottom(
+                    new com.megacrit.cardcrawl.actions.common.GainBlockAction(monster, monster, 3)
+                );
+                AscensionLog.trace(logger, "Ascension 26: JawWorm gained 3 Block on Strength gain");
             }
         }
     }
@@ -184,37 +205,19 @@ public class Level26 {
     /**
      * Gremlin Warrior: HP +3
      */
-    @SpirePatch(
-        clz = GremlinWarrior.class,
-        method = SpirePatch.CONSTRUCTOR
-    )
-    public static class GremlinWarriorHPPatch {
-        @SpirePostfixPatch
-        public static void Postfix(GremlinWarrior __instance) {
-            if (AbstractDungeon.isAscensionMode && AbstractDungeon.ascensionLevel >= 26) {
-                __instance.maxHealth += 3;
-                __instance.currentHealth += 3;
-                logger.info("Ascension 26: GremlinWarrior HP +3");
-            }
-        }
+    private static void gremlinWarriorHP(GremlinWarrior monster) {
+        monster.maxHealth += 3;
+        monster.currentHealth += 3;
+        AscensionLog.trace(logger, "Ascension 26: GremlinWarrior HP +3");
     }
 
     /**
      * Gremlin Fat: HP +2
      */
-    @SpirePatch(
-        clz = GremlinFat.class,
-        method = SpirePatch.CONSTRUCTOR
-    )
-    public static class GremlinFatHPPatch {
-        @SpirePostfixPatch
-        public static void Postfix(GremlinFat __instance) {
-            if (AbstractDungeon.isAscensionMode && AbstractDungeon.ascensionLevel >= 26) {
-                __instance.maxHealth += 2;
-                __instance.currentHealth += 2;
-                logger.info("Ascension 26: GremlinFat HP +2");
-            }
-        }
+    private static void gremlinFatHP(GremlinFat monster) {
+        monster.maxHealth += 2;
+        monster.currentHealth += 2;
+        AscensionLog.trace(logger, "Ascension 26: GremlinFat HP +2");
     }
 
     // GremlinThief patch moved to line 738 (GremlinThiefDamagePatch25) to avoid duplication
@@ -222,22 +225,13 @@ public class Level26 {
     /**
      * Gremlin Wizard: Damage +3
      */
-    @SpirePatch(
-        clz = GremlinWizard.class,
-        method = SpirePatch.CONSTRUCTOR
-    )
-    public static class GremlinWizardDamagePatch {
-        @SpirePostfixPatch
-        public static void Postfix(GremlinWizard __instance) {
-            if (AbstractDungeon.isAscensionMode && AbstractDungeon.ascensionLevel >= 26) {
-                __instance.damage.forEach(damageInfo -> {
-                    if (damageInfo != null && damageInfo.base > 0) {
-                        damageInfo.base += 3;
-                    }
-                });
-                logger.info("Ascension 26: GremlinWizard Damage +3");
+    private static void gremlinWizardDamage(GremlinWizard monster) {
+        monster.damage.forEach(damageInfo -> {
+            if (damageInfo != null && damageInfo.base > 0) {
+                damageInfo.base += 3;
             }
-        }
+        });
+        AscensionLog.trace(logger, "Ascension 26: GremlinWizard Damage +3");
     }
 
     // ========================================
@@ -247,20 +241,13 @@ public class Level26 {
     /**
      * SpikeSlime_M (가시슬라임 중): Flame Tackle adds 1 extra Slimed
      */
-    @SpirePatch(
-        clz = SpikeSlime_M.class,
-        method = "takeTurn"
-    )
     public static class SpikeSlimeMediumSlimedPatch {
-        @SpirePostfixPatch
-        public static void Postfix(SpikeSlime_M __instance) {
-            if (AbstractDungeon.isAscensionMode && AbstractDungeon.ascensionLevel >= 26) {
-                if (__instance.nextMove == 1) { // Flame Tackle (불꽃 태클)
-                    AbstractDungeon.actionManager.addToBottom(
-                        new MakeTempCardInDiscardAction(new Slimed(), 1)
-                    );
-                    logger.info("Ascension 26: Spike Slime (M) Flame Tackle added 1 extra Slimed card");
-                }
+        public static void afterTurn(SpikeSlime_M monster) {
+            if (monster.nextMove == 1) { // Flame Tackle (불꽃 태클)
+                AbstractDungeon.actionManager.addToBottom(
+                    new MakeTempCardInDiscardAction(new Slimed(), 1)
+                );
+                AscensionLog.trace(logger, "Ascension 26: Spike Slime (M) Flame Tackle added 1 extra Slimed card");
             }
         }
     }
@@ -268,20 +255,13 @@ public class Level26 {
     /**
      * SpikeSlime_L (가시슬라임 대): Flame Tackle adds 1 extra Slimed
      */
-    @SpirePatch(
-        clz = SpikeSlime_L.class,
-        method = "takeTurn"
-    )
     public static class SpikeSlimeLargeSlimedPatch {
-        @SpirePostfixPatch
-        public static void Postfix(SpikeSlime_L __instance) {
-            if (AbstractDungeon.isAscensionMode && AbstractDungeon.ascensionLevel >= 26) {
-                if (__instance.nextMove == 1) { // Flame Tackle (불꽃 태클)
-                    AbstractDungeon.actionManager.addToBottom(
-                        new MakeTempCardInDiscardAction(new Slimed(), 1)
-                    );
-                    logger.info("Ascension 26: Spike Slime (L) Flame Tackle added 1 extra Slimed card");
-                }
+        public static void afterTurn(SpikeSlime_L monster) {
+            if (monster.nextMove == 1) { // Flame Tackle (불꽃 태클)
+                AbstractDungeon.actionManager.addToBottom(
+                    new MakeTempCardInDiscardAction(new Slimed(), 1)
+                );
+                AscensionLog.trace(logger, "Ascension 26: Spike Slime (L) Flame Tackle added 1 extra Slimed card");
             }
         }
     }
@@ -289,20 +269,13 @@ public class Level26 {
     /**
      * AcidSlime_M (산성슬라임 중): Corrosive Spit adds 1 extra Slimed
      */
-    @SpirePatch(
-        clz = AcidSlime_M.class,
-        method = "takeTurn"
-    )
     public static class AcidSlimeMediumSlimedPatch {
-        @SpirePostfixPatch
-        public static void Postfix(AcidSlime_M __instance) {
-            if (AbstractDungeon.isAscensionMode && AbstractDungeon.ascensionLevel >= 26) {
-                if (__instance.nextMove == 1) { // Corrosive Spit (부식의 침)
-                    AbstractDungeon.actionManager.addToBottom(
-                        new MakeTempCardInDiscardAction(new Slimed(), 1)
-                    );
-                    logger.info("Ascension 26: Acid Slime (M) Corrosive Spit added 1 extra Slimed card");
-                }
+        public static void afterTurn(AcidSlime_M monster) {
+            if (monster.nextMove == 1) { // Corrosive Spit (부식의 침)
+                AbstractDungeon.actionManager.addToBottom(
+                    new MakeTempCardInDiscardAction(new Slimed(), 1)
+                );
+                AscensionLog.trace(logger, "Ascension 26: Acid Slime (M) Corrosive Spit added 1 extra Slimed card");
             }
         }
     }
@@ -310,20 +283,13 @@ public class Level26 {
     /**
      * AcidSlime_L (산성슬라임 대): Corrosive Spit adds 1 extra Slimed
      */
-    @SpirePatch(
-        clz = AcidSlime_L.class,
-        method = "takeTurn"
-    )
     public static class AcidSlimeLargeSlimedPatch {
-        @SpirePostfixPatch
-        public static void Postfix(AcidSlime_L __instance) {
-            if (AbstractDungeon.isAscensionMode && AbstractDungeon.ascensionLevel >= 26) {
-                if (__instance.nextMove == 1) { // Corrosive Spit (부식의 침)
-                    AbstractDungeon.actionManager.addToBottom(
-                        new MakeTempCardInDiscardAction(new Slimed(), 1)
-                    );
-                    logger.info("Ascension 26: Acid Slime (L) Corrosive Spit added 1 extra Slimed card");
-                }
+        public static void afterTurn(AcidSlime_L monster) {
+            if (monster.nextMove == 1) { // Corrosive Spit (부식의 침)
+                AbstractDungeon.actionManager.addToBottom(
+                    new MakeTempCardInDiscardAction(new Slimed(), 1)
+                );
+                AscensionLog.trace(logger, "Ascension 26: Acid Slime (L) Corrosive Spit added 1 extra Slimed card");
             }
         }
     }
@@ -332,21 +298,14 @@ public class Level26 {
      * Repulsor: Repulse pattern adds 1 extra Dazed
      * 현혹기(Repulsor): 어지러움(Repulse) 패턴에서 Dazed 카드 +1장 추가
      */
-    @SpirePatch(
-        clz = Repulsor.class,
-        method = "takeTurn"
-    )
     public static class RepulsorDazedPatch {
-        @SpirePostfixPatch
-        public static void Postfix(Repulsor __instance) {
-            if (AbstractDungeon.isAscensionMode && AbstractDungeon.ascensionLevel >= 26) {
-                // The Repulse move is ID 2
-                if (__instance.nextMove == 2) {
-                    AbstractDungeon.actionManager.addToBottom(
-                        new MakeTempCardInDiscardAction(new Dazed(), 1)
-                    );
-                    logger.info("Ascension 26: Repulsor added 1 extra Dazed card on Repulse");
-                }
+        public static void afterTurn(Repulsor monster) {
+            // The Repulse move is ID 2
+            if (monster.nextMove == 2) {
+                AbstractDungeon.actionManager.addToBottom(
+                    new MakeTempCardInDiscardAction(new Dazed(), 1)
+                );
+                AscensionLog.trace(logger, "Ascension 26: Repulsor added 1 extra Dazed card on Repulse");
             }
         }
     }
@@ -358,78 +317,46 @@ public class Level26 {
     /**
      * Shelled Parasite: Plated Armor +2
      */
-    @SpirePatch(
-        clz = ShelledParasite.class,
-        method = "usePreBattleAction"
-    )
     public static class ShelledParasitePatch {
-        @SpirePostfixPatch
-        public static void Postfix(ShelledParasite __instance) {
-            if (AbstractDungeon.isAscensionMode && AbstractDungeon.ascensionLevel >= 26) {
-                AbstractDungeon.actionManager.addToBottom(
-                    new ApplyPowerAction(__instance, __instance,
-                        new PlatedArmorPower(__instance, 2), 2)
-                );
-                logger.info("Ascension 26: ShelledParasite Plated Armor +2");
-            }
+        public static void afterPreBattle(ShelledParasite monster) {
+            AbstractDungeon.actionManager.addToBottom(
+                new ApplyPowerAction(monster, monster,
+                    new PlatedArmorPower(monster, 2), 2)
+            );
+            AscensionLog.trace(logger, "Ascension 26: ShelledParasite Plated Armor +2");
         }
     }
 
     /**
      * Chosen: Damage +2
      */
-    @SpirePatch(
-        clz = Chosen.class,
-        method = SpirePatch.CONSTRUCTOR,
-        paramtypez = { float.class, float.class }
-    )
-    public static class ChosenDamagePatch {
-        @SpirePostfixPatch
-        public static void Postfix(Chosen __instance, float x, float y) {
-            if (AbstractDungeon.isAscensionMode && AbstractDungeon.ascensionLevel >= 26) {
-                __instance.damage.forEach(damageInfo -> {
-                    if (damageInfo != null && damageInfo.base > 0) {
-                        damageInfo.base += 2;
-                    }
-                });
-                logger.info("Ascension 26: Chosen Damage +2");
+    private static void chosenDamage(Chosen monster) {
+        monster.damage.forEach(damageInfo -> {
+            if (damageInfo != null && damageInfo.base > 0) {
+                damageInfo.base += 2;
             }
-        }
+        });
+        AscensionLog.trace(logger, "Ascension 26: Chosen Damage +2");
     }
 
     /**
      * Byrd: Strength gain +1
      */
-    @SpirePatch(
-        clz = Byrd.class,
-        method = "takeTurn"
-    )
     public static class ByrdStrengthPatch {
         private static final ThreadLocal<Byte> lastMove = new ThreadLocal<>();
 
-        @SpirePrefixPatch
-        public static void Prefix(Byrd __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 26) {
-                return;
-            }
-
+        public static void beforeTurn(Byrd monster) {
             try {
                 // Store the current move before takeTurn executes
-                java.lang.reflect.Field nextMoveField = AbstractMonster.class.getDeclaredField("nextMove");
-                nextMoveField.setAccessible(true);
-                byte move = nextMoveField.getByte(__instance);
+                FieldAccessor nextMoveField = ReflectionCache.ABSTRACT_MONSTER_NEXT_MOVE;
+                byte move = nextMoveField.getByte(monster);
                 lastMove.set(move);
             } catch (Exception e) {
                 logger.error("Failed to get Byrd move", e);
             }
         }
 
-        @SpirePostfixPatch
-        public static void Postfix(Byrd __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 26) {
-                return;
-            }
-
+        public static void afterTurn(Byrd monster) {
             Byte move = lastMove.get();
             if (move != null && move == 6) { // Strength gain move (Caw pattern)
                 // Find and modify the last ApplyPowerAction with StrengthPower
@@ -438,22 +365,22 @@ public class Level26 {
                         AbstractGameAction action = AbstractDungeon.actionManager.actions.get(i);
 
                         if (action instanceof ApplyPowerAction) {
-                            java.lang.reflect.Field powerToApplyField = ApplyPowerAction.class.getDeclaredField("powerToApply");
-                            powerToApplyField.setAccessible(true);
+                            FieldAccessor powerToApplyField = ReflectionCache.APPLY_POWER_ACTION_POWER_TO_APPLY;
                             AbstractPower power = (AbstractPower) powerToApplyField.get(action);
 
-                            if (power instanceof StrengthPower && power.owner == __instance) {
+                            if (power instanceof StrengthPower && power.owner == monster) {
                                 power.amount += 1;
 
-                                java.lang.reflect.Field amountField = ApplyPowerAction.class.getDeclaredField("amount");
-                                amountField.setAccessible(true);
+                                FieldAccessor amountField = ReflectionCache.APPLY_POWER_ACTION_AMOUNT;
                                 int currentAmount = amountField.getInt(action);
                                 amountField.setInt(action, currentAmount + 1);
 
-                                logger.info(String.format(
-                                    "Ascension 26: Byrd Strength increased by +1 (total: %d)",
-                                    power.amount
-                                ));
+                                if (AscensionLog.isTracing()) {
+                                    logger.info(String.format(
+                                        "Ascension 26: Byrd Strength increased by +1 (total: %d)",
+                                        power.amount
+                                    ));
+                                }
                                 break;
                             }
                         }
@@ -470,64 +397,51 @@ public class Level26 {
     /**
      * Centurion: Defend pattern block +5
      */
-    @SpirePatch(
-        clz = Centurion.class,
-        method = SpirePatch.CONSTRUCTOR
-    )
-    public static class CenturionDefendPatch {
-        @SpirePostfixPatch
-        public static void Postfix(Centurion __instance, float x, float y) {
-            if (AbstractDungeon.isAscensionMode && AbstractDungeon.ascensionLevel >= 26) {
-                try {
-                    // Increase blockAmount field by 5
-                    java.lang.reflect.Field blockAmountField = Centurion.class.getDeclaredField("blockAmount");
-                    blockAmountField.setAccessible(true);
-                    int currentBlock = blockAmountField.getInt(__instance);
-                    blockAmountField.setInt(__instance, currentBlock + 5);
+    private static void centurionDefend(Centurion monster) {
+        try {
+            // Increase blockAmount field by 5
+            FieldAccessor blockAmountField = ReflectionCache.CENTURION_BLOCK_AMOUNT;
+            int currentBlock = blockAmountField.getInt(monster);
+            blockAmountField.setInt(monster, currentBlock + 5);
 
-                    logger.info(String.format(
-                        "Ascension 26: Centurion defend block increased from %d to %d",
-                        currentBlock, currentBlock + 5
-                    ));
-                } catch (Exception e) {
-                    logger.error("Failed to modify Centurion blockAmount", e);
-                }
+            if (AscensionLog.isTracing()) {
+                logger.info(String.format(
+                    "Ascension 26: Centurion defend block increased from %d to %d",
+                    currentBlock, currentBlock + 5
+                ));
             }
+        } catch (Exception e) {
+            logger.error("Failed to modify Centurion blockAmount", e);
         }
     }
 
     /**
      * Healer: When alone, gains Strength +2 and heals 10% HP each turn
      */
-    @SpirePatch(
-        clz = Healer.class,
-        method = "takeTurn"
-    )
     public static class HealerAlonePatch {
-        @SpirePostfixPatch
-        public static void Postfix(Healer __instance) {
-            if (AbstractDungeon.isAscensionMode && AbstractDungeon.ascensionLevel >= 26) {
-                boolean isAlone = true;
-                for (AbstractMonster m : AbstractDungeon.getMonsters().monsters) {
-                    if (m != __instance && !m.isDying && !m.isEscaping) {
-                        isAlone = false;
-                        break;
-                    }
+        public static void afterTurn(Healer monster) {
+            boolean isAlone = true;
+            for (AbstractMonster m : AbstractDungeon.getMonsters().monsters) {
+                if (m != monster && !m.isDying && !m.isEscaping) {
+                    isAlone = false;
+                    break;
                 }
+            }
 
-                if (isAlone) {
-                    // Gain Strength +2
-                    AbstractDungeon.actionManager.addToBottom(
-                        new ApplyPowerAction(__instance, __instance,
-                            new StrengthPower(__instance, 2), 2)
-                    );
+            if (isAlone) {
+                // Gain Strength +2
+                AbstractDungeon.actionManager.addToBottom(
+                    new ApplyPowerAction(monster, monster,
+                        new StrengthPower(monster, 2), 2)
+                );
 
-                    // Heal 10% max HP
-                    int healAmount = (int) (__instance.maxHealth * 0.1f);
-                    AbstractDungeon.actionManager.addToBottom(
-                        new HealAction(__instance, __instance, healAmount)
-                    );
+                // Heal 10% max HP
+                int healAmount = (int) (monster.maxHealth * 0.1f);
+                AbstractDungeon.actionManager.addToBottom(
+                    new HealAction(monster, monster, healAmount)
+                );
 
+                if (AscensionLog.isTracing()) {
                     logger.info(String.format(
                         "Ascension 26: Healer is alone, gained Strength +2 and healed %d HP (10%%)",
                         healAmount
@@ -540,23 +454,13 @@ public class Level26 {
     /**
      * Snecko: Damage +2
      */
-    @SpirePatch(
-        clz = Snecko.class,
-        method = SpirePatch.CONSTRUCTOR,
-        paramtypez = { float.class, float.class }
-    )
-    public static class SneckoDamagePatch {
-        @SpirePostfixPatch
-        public static void Postfix(Snecko __instance, float x, float y) {
-            if (AbstractDungeon.isAscensionMode && AbstractDungeon.ascensionLevel >= 26) {
-                __instance.damage.forEach(damageInfo -> {
-                    if (damageInfo != null && damageInfo.base > 0) {
-                        damageInfo.base += 2;
-                    }
-                });
-                logger.info("Ascension 26: Snecko Damage +2");
+    private static void sneckoDamage(Snecko monster) {
+        monster.damage.forEach(damageInfo -> {
+            if (damageInfo != null && damageInfo.base > 0) {
+                damageInfo.base += 2;
             }
-        }
+        });
+        AscensionLog.trace(logger, "Ascension 26: Snecko Damage +2");
     }
 
     /**
@@ -571,7 +475,7 @@ public class Level26 {
     public static class SnakePlantMalleablePatch {
         @SpirePostfixPatch
         public static void Postfix(com.megacrit.cardcrawl.powers.MalleablePower __instance, AbstractCreature owner) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 26) {
+            if (!AscensionRuleSet.isActive(26)) {
                 return;
             }
 
@@ -580,18 +484,19 @@ public class Level26 {
                 // Increase both amount and basePower by 1
                 __instance.amount += 1;
                 try {
-                    java.lang.reflect.Field basePowerField = com.megacrit.cardcrawl.powers.MalleablePower.class.getDeclaredField("basePower");
-                    basePowerField.setAccessible(true);
+                    FieldAccessor basePowerField = ReflectionCache.MALLEABLE_POWER_BASE_POWER;
                     int currentBasePower = basePowerField.getInt(__instance);
                     basePowerField.setInt(__instance, currentBasePower + 1);
                 } catch (Exception e) {
                     logger.error("Failed to modify MalleablePower basePower", e);
                 }
                 __instance.updateDescription();
-                logger.info(String.format(
-                    "Ascension 26: SnakePlant Malleable increased to %d (base: %d)",
-                    __instance.amount, __instance.amount
-                ));
+                if (AscensionLog.isTracing()) {
+                    logger.info(String.format(
+                        "Ascension 26: SnakePlant Malleable increased to %d (base: %d)",
+                        __instance.amount, __instance.amount
+                    ));
+                }
             }
         }
     }
@@ -603,40 +508,22 @@ public class Level26 {
     /**
      * Bandit Bear: HP +6
      */
-    @SpirePatch(
-        clz = BanditBear.class,
-        method = SpirePatch.CONSTRUCTOR
-    )
-    public static class BanditBearHPPatch {
-        @SpirePostfixPatch
-        public static void Postfix(BanditBear __instance) {
-            if (AbstractDungeon.isAscensionMode && AbstractDungeon.ascensionLevel >= 26) {
-                __instance.maxHealth += 6;
-                __instance.currentHealth += 6;
-                logger.info("Ascension 26: BanditBear HP +6");
-            }
-        }
+    private static void banditBearHP(BanditBear monster) {
+        monster.maxHealth += 6;
+        monster.currentHealth += 6;
+        AscensionLog.trace(logger, "Ascension 26: BanditBear HP +6");
     }
 
     /**
      * Bandit Pointy: Damage +1
      */
-    @SpirePatch(
-        clz = BanditPointy.class,
-        method = SpirePatch.CONSTRUCTOR
-    )
-    public static class BanditPointyDamagePatch {
-        @SpirePostfixPatch
-        public static void Postfix(BanditPointy __instance) {
-            if (AbstractDungeon.isAscensionMode && AbstractDungeon.ascensionLevel >= 26) {
-                __instance.damage.forEach(damageInfo -> {
-                    if (damageInfo != null && damageInfo.base > 0) {
-                        damageInfo.base += 1;
-                    }
-                });
-                logger.info("Ascension 26: BanditPointy Damage +1");
+    private static void banditPointyDamage(BanditPointy monster) {
+        monster.damage.forEach(damageInfo -> {
+            if (damageInfo != null && damageInfo.base > 0) {
+                damageInfo.base += 1;
             }
-        }
+        });
+        AscensionLog.trace(logger, "Ascension 26: BanditPointy Damage +1");
     }
 
     // ========================================
@@ -646,112 +533,58 @@ public class Level26 {
     /**
      * Spiker: HP +5
      */
-    @SpirePatch(
-        clz = Spiker.class,
-        method = SpirePatch.CONSTRUCTOR
-    )
-    public static class SpikerHPPatch {
-        @SpirePostfixPatch
-        public static void Postfix(Spiker __instance) {
-            if (AbstractDungeon.isAscensionMode && AbstractDungeon.ascensionLevel >= 26) {
-                __instance.maxHealth += 5;
-                __instance.currentHealth += 5;
-                logger.info("Ascension 26: Spiker HP +5");
-            }
-        }
+    private static void spikerHP(Spiker monster) {
+        monster.maxHealth += 5;
+        monster.currentHealth += 5;
+        AscensionLog.trace(logger, "Ascension 26: Spiker HP +5");
     }
 
     /**
      * Exploder: HP +5
      */
-    @SpirePatch(
-        clz = Exploder.class,
-        method = SpirePatch.CONSTRUCTOR
-    )
-    public static class ExploderHPPatch {
-        @SpirePostfixPatch
-        public static void Postfix(Exploder __instance) {
-            if (AbstractDungeon.isAscensionMode && AbstractDungeon.ascensionLevel >= 26) {
-                __instance.maxHealth += 5;
-                __instance.currentHealth += 5;
-                logger.info("Ascension 26: Exploder HP +5");
-            }
-        }
+    private static void exploderHP(Exploder monster) {
+        monster.maxHealth += 5;
+        monster.currentHealth += 5;
+        AscensionLog.trace(logger, "Ascension 26: Exploder HP +5");
     }
 
     /**
      * Orb Walker: HP +6
      */
-    @SpirePatch(
-        clz = OrbWalker.class,
-        method = SpirePatch.CONSTRUCTOR
-    )
-    public static class OrbWalkerHPPatch {
-        @SpirePostfixPatch
-        public static void Postfix(OrbWalker __instance) {
-            if (AbstractDungeon.isAscensionMode && AbstractDungeon.ascensionLevel >= 26) {
-                __instance.maxHealth += 6;
-                __instance.currentHealth += 6;
-                logger.info("Ascension 26: OrbWalker HP +6");
-            }
-        }
+    private static void orbWalkerHP(OrbWalker monster) {
+        monster.maxHealth += 6;
+        monster.currentHealth += 6;
+        AscensionLog.trace(logger, "Ascension 26: OrbWalker HP +6");
     }
 
     /**
      * Darkling: HP +10
      */
-    @SpirePatch(
-        clz = Darkling.class,
-        method = SpirePatch.CONSTRUCTOR
-    )
-    public static class DarklingHPPatch {
-        @SpirePostfixPatch
-        public static void Postfix(Darkling __instance) {
-            if (AbstractDungeon.isAscensionMode && AbstractDungeon.ascensionLevel >= 26) {
-                __instance.maxHealth += 10;
-                __instance.currentHealth += 10;
-                logger.info("Ascension 26: Darkling HP +10");
-            }
-        }
+    private static void darklingHP(Darkling monster) {
+        monster.maxHealth += 10;
+        monster.currentHealth += 10;
+        AscensionLog.trace(logger, "Ascension 26: Darkling HP +10");
     }
 
     /**
      * Maw: HP +50
      */
-    @SpirePatch(
-        clz = Maw.class,
-        method = SpirePatch.CONSTRUCTOR
-    )
-    public static class MawHPPatch {
-        @SpirePostfixPatch
-        public static void Postfix(Maw __instance) {
-            if (AbstractDungeon.isAscensionMode && AbstractDungeon.ascensionLevel >= 26) {
-                __instance.maxHealth += 50;
-                __instance.currentHealth += 50;
-                logger.info("Ascension 26: Maw HP +50");
-            }
-        }
+    private static void mawHP(Maw monster) {
+        monster.maxHealth += 50;
+        monster.currentHealth += 50;
+        AscensionLog.trace(logger, "Ascension 26: Maw HP +50");
     }
 
     /**
      * Spire Growth: Damage +5
      */
-    @SpirePatch(
-        clz = SpireGrowth.class,
-        method = SpirePatch.CONSTRUCTOR
-    )
-    public static class SpireGrowthDamagePatch {
-        @SpirePostfixPatch
-        public static void Postfix(SpireGrowth __instance) {
-            if (AbstractDungeon.isAscensionMode && AbstractDungeon.ascensionLevel >= 26) {
-                __instance.damage.forEach(damageInfo -> {
-                    if (damageInfo != null && damageInfo.base > 0) {
-                        damageInfo.base += 5;
-                    }
-                });
-                logger.info("Ascension 26: SpireGrowth Damage +5");
+    private static void spireGrowthDamage(SpireGrowth monster) {
+        monster.damage.forEach(damageInfo -> {
+            if (damageInfo != null && damageInfo.base > 0) {
+                damageInfo.base += 5;
             }
-        }
+        });
+        AscensionLog.trace(logger, "Ascension 26: SpireGrowth Damage +5");
     }
 
     // ========================================
@@ -761,116 +594,85 @@ public class Level26 {
     /**
      * GremlinTsundere (방패 그렘린): Block amount +5
      */
-    @SpirePatch(
-        clz = GremlinTsundere.class,
-        method = SpirePatch.CONSTRUCTOR
-    )
-    public static class GremlinTsundereBlockPatch {
-        @SpirePostfixPatch
-        public static void Postfix(GremlinTsundere __instance) {
-            if (AbstractDungeon.isAscensionMode && AbstractDungeon.ascensionLevel >= 26) {
-                try {
-                    // Increase blockAmt field by 5
-                    java.lang.reflect.Field blockAmtField = GremlinTsundere.class.getDeclaredField("blockAmt");
-                    blockAmtField.setAccessible(true);
-                    int currentBlockAmt = blockAmtField.getInt(__instance);
-                    blockAmtField.setInt(__instance, currentBlockAmt + 5);
+    private static void gremlinTsundereBlock(GremlinTsundere monster) {
+        try {
+            // Increase blockAmt field by 5
+            FieldAccessor blockAmtField = ReflectionCache.GREMLIN_TSUNDERE_BLOCK_AMT;
+            int currentBlockAmt = blockAmtField.getInt(monster);
+            blockAmtField.setInt(monster, currentBlockAmt + 5);
 
-                    logger.info(String.format(
-                        "Ascension 26: GremlinTsundere blockAmt increased from %d to %d",
-                        currentBlockAmt, currentBlockAmt + 5
-                    ));
-                } catch (Exception e) {
-                    logger.error("Failed to modify GremlinTsundere blockAmt", e);
-                }
+            if (AscensionLog.isTracing()) {
+                logger.info(String.format(
+                    "Ascension 26: GremlinTsundere blockAmt increased from %d to %d",
+                    currentBlockAmt, currentBlockAmt + 5
+                ));
             }
+        } catch (Exception e) {
+            logger.error("Failed to modify GremlinTsundere blockAmt", e);
         }
     }
 
     /**
      * GremlinThief (교활한 그렘린): Damage +1
      */
-    @SpirePatch(
-        clz = GremlinThief.class,
-        method = SpirePatch.CONSTRUCTOR
-    )
-    public static class GremlinThiefDamagePatch25 {
-        @SpirePostfixPatch
-        public static void Postfix(GremlinThief __instance) {
-            if (AbstractDungeon.isAscensionMode && AbstractDungeon.ascensionLevel >= 26) {
-                try {
-                    // Increase thiefDamage field by 1
-                    java.lang.reflect.Field thiefDamageField = GremlinThief.class.getDeclaredField("thiefDamage");
-                    thiefDamageField.setAccessible(true);
-                    int currentDamage = thiefDamageField.getInt(__instance);
-                    thiefDamageField.setInt(__instance, currentDamage + 1);
-
-                    // Update damage info
-                    if (!__instance.damage.isEmpty()) {
-                        __instance.damage.get(0).base += 1;
-                    }
+    private static void gremlinThiefDamage(GremlinThief monster) {
+        try {
+            // Increase thiefDamage field by 1
+            FieldAccessor thiefDamageField = ReflectionCache.GREMLIN_THIEF_THIEF_DAMAGE;
+            int currentDamage = thiefDamageField.getInt(monster);
+            thiefDamageField.setInt(monster, currentDamage + 1);
 
-                    logger.info(String.format(
-                        "Ascension 26: GremlinThief damage increased from %d to %d",
-                        currentDamage, currentDamage + 1
-                    ));
-                } catch (Exception e) {
-                    logger.error("Failed to modify GremlinThief damage", e);
-                }
+            // Update damage info
+            if (!monster.damage.isEmpty()) {
+                monster.damage.get(0).base += 1;
+            }
+
+            if (AscensionLog.isTracing()) {
+                logger.info(String.format(
+                    "Ascension 26: GremlinThief damage increased from %d to %d",
+                    currentDamage, currentDamage + 1
+                ));
             }
+        } catch (Exception e) {
+            logger.error("Failed to modify GremlinThief damage", e);
         }
     }
 
     /**
      * Looter (도적): Thief +5
      */
-    @SpirePatch(
-        clz = Looter.class,
-        method = SpirePatch.CONSTRUCTOR
-    )
-    public static class LooterThieftPatch {
-        @SpirePostfixPatch
-        public static void Postfix(Looter __instance, float x, float y) {
-            if (AbstractDungeon.isAscensionMode && AbstractDungeon.ascensionLevel >= 26) {
-                // Increase goldAmt by 5 (this determines Thievery power amount)
-                try {
-                    java.lang.reflect.Field goldAmtField = Looter.class.getDeclaredField("goldAmt");
-                    goldAmtField.setAccessible(true);
-                    int currentGoldAmt = goldAmtField.getInt(__instance);
-                    goldAmtField.setInt(__instance, currentGoldAmt + 5);
-                    logger.info(String.format(
-                        "Ascension 26: Looter goldAmt (Thievery) increased from %d to %d (+5)",
-                        currentGoldAmt, currentGoldAmt + 5
-                    ));
-                } catch (Exception e) {
-                    logger.error("Failed to modify Looter goldAmt", e);
-                }
+    private static void looterThieft(Looter monster) {
+        // Increase goldAmt by 5 (this determines Thievery power amount)
+        try {
+            FieldAccessor goldAmtField = ReflectionCache.LOOTER_GOLD_AMT;
+            int currentGoldAmt = goldAmtField.getInt(monster);
+            goldAmtField.setInt(monster, currentGoldAmt + 5);
+            if (AscensionLog.isTracing()) {
+                logger.info(String.format(
+                    "Ascension 26: Looter goldAmt (Thievery) increased from %d to %d (+5)",
+                    currentGoldAmt, currentGoldAmt + 5
+                ));
             }
+        } catch (Exception e) {
+            logger.error("Failed to modify Looter goldAmt", e);
         }
     }
 
     /**
      * Slaver Blue (푸른색 노예 상인): Damage +1
      */
-    @SpirePatch(
-        clz = SlaverBlue.class,
-        method = SpirePatch.CONSTRUCTOR
-    )
-    public static class SlaverBlueDamagePatch {
-        @SpirePostfixPatch
-        public static void Postfix(SlaverBlue __instance, float x, float y) {
-            if (AbstractDungeon.isAscensionMode && AbstractDungeon.ascensionLevel >= 26) {
-                // Increase Stab damage (+1)
-                if (!__instance.damage.isEmpty()) {
-                    DamageInfo stabDamage = __instance.damage.get(0); // Stab attack
-                    int originalDamage = stabDamage.base;
-                    stabDamage.base += 1;
+    private static void slaverBlueDamage(SlaverBlue monster) {
+        // Increase Stab damage (+1)
+        if (!monster.damage.isEmpty()) {
+            DamageInfo stabDamage = monster.damage.get(0); // Stab attack
+            int originalDamage = stabDamage.base;
+            stabDamage.base += 1;
 
-                    logger.info(String.format(
-                        "Ascension 26: Slaver Blue Stab damage increased from %d to %d",
-                        originalDamage, stabDamage.base
-                    ));
-                }
+            if (AscensionLog.isTracing()) {
+                logger.info(String.format(
+                    "Ascension 26: Slaver Blue Stab damage increased from %d to %d",
+                    originalDamage, stabDamage.base
+                ));
             }
         }
     }
@@ -878,30 +680,19 @@ public class Level26 {
     /**
      * Slaver Red (붉은색 노예 상인): Unlimited Entangle usage
      */
-    @SpirePatch(
-        clz = SlaverRed.class,
-        method = "takeTurn"
-    )
     public static class SlaverRedEntanglePatch {
-        @SpirePostfixPatch
-        public static void Postfix(SlaverRed __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 26) {
-                return;
-            }
-
+        public static void afterTurn(SlaverRed monster) {
             try {
                 // Check if Entangle move (byte 2) was just used
-                java.lang.reflect.Field nextMoveField = AbstractMonster.class.getDeclaredField("nextMove");
-                nextMoveField.setAccessible(true);
-                byte nextMove = nextMoveField.getByte(__instance);
+                FieldAccessor nextMoveField = ReflectionCache.ABSTRACT_MONSTER_NEXT_MOVE;
+                byte nextMove = nextMoveField.getByte(monster);
 
                 if (nextMove == 2) { // Entangle move
                     // Reset usedEntangle flag to allow unlimited use
-                    java.lang.reflect.Field usedEntangleField = SlaverRed.class.getDeclaredField("usedEntangle");
-                    usedEntangleField.setAccessible(true);
-                    usedEntangleField.setBoolean(__instance, false);
+                    FieldAccessor usedEntangleField = ReflectionCache.SLAVER_RED_USED_ENTANGLE;
+                    usedEntangleField.setBoolean(monster, false);
 
-                    logger.info("Ascension 26: Slaver Red Entangle flag reset - unlimited usage enabled");
+                    AscensionLog.trace(logger, "Ascension 26: Slaver Red Entangle flag reset - unlimited usage enabled");
                 }
             } catch (Exception e) {
                 logger.error("Failed to reset Slaver Red usedEntangle flag", e);
@@ -916,65 +707,40 @@ public class Level26 {
     /**
      * SphericGuardian (구체형 수호기): Block +15, HP -5
      */
-    @SpirePatch(
-        clz = SphericGuardian.class,
-        method = SpirePatch.CONSTRUCTOR,
-        paramtypez = {float.class, float.class}
-    )
-    public static class SphericGuardianStatsPatch {
-        @SpirePostfixPatch
-        public static void Postfix(SphericGuardian __instance, float x, float y) {
-            if (AbstractDungeon.isAscensionMode && AbstractDungeon.ascensionLevel >= 26) {
-                // Reduce HP by 5
-                __instance.maxHealth -= 5;
-                __instance.currentHealth -= 5;
-                logger.info("Ascension 26: SphericGuardian HP -5");
-            }
-        }
+    private static void sphericGuardianStats(SphericGuardian monster) {
+        // Reduce HP by 5
+        monster.maxHealth -= 5;
+        monster.currentHealth -= 5;
+        AscensionLog.trace(logger, "Ascension 26: SphericGuardian HP -5");
     }
 
-    @SpirePatch(
-        clz = SphericGuardian.class,
-        method = "usePreBattleAction"
-    )
     public static class SphericGuardianBlockPatch {
-        @SpirePostfixPatch
-        public static void Postfix(SphericGuardian __instance) {
-            if (AbstractDungeon.isAscensionMode && AbstractDungeon.ascensionLevel >= 26) {
-                // Add extra 15 block to the initial 40 block (total 55)
-                AbstractDungeon.actionManager.addToBottom(
-                    new com.megacrit.cardcrawl.actions.common.GainBlockAction(__instance, __instance, 15)
-                );
-                logger.info("Ascension 26: SphericGuardian gained +15 initial block (total 55)");
-            }
+        public static void afterPreBattle(SphericGuardian monster) {
+            // Add extra 15 block to the initial 40 block (total 55)
+            AbstractDungeon.actionManager.addToBottom(
+                new com.megacrit.cardcrawl.actions.common.GainBlockAction(monster, monster, 15)
+            );
+            AscensionLog.trace(logger, "Ascension 26: SphericGuardian gained +15 initial block (total 55)");
         }
     }
 
     /**
      * Mugger (강도): Thief +10
      */
-    @SpirePatch(
-        clz = Mugger.class,
-        method = SpirePatch.CONSTRUCTOR
-    )
-    public static class MuggerThieftPatch {
-        @SpirePostfixPatch
-        public static void Postfix(Mugger __instance, float x, float y) {
-            if (AbstractDungeon.isAscensionMode && AbstractDungeon.ascensionLevel >= 26) {
-                // Increase goldAmt by 10 (this determines Thievery power amount)
-                try {
-                    java.lang.reflect.Field goldAmtField = Mugger.class.getDeclaredField("goldAmt");
-                    goldAmtField.setAccessible(true);
-                    int currentGoldAmt = goldAmtField.getInt(__instance);
-                    goldAmtField.setInt(__instance, currentGoldAmt + 10);
-                    logger.info(String.format(
-                        "Ascension 26: Mugger goldAmt (Thievery) increased from %d to %d (+10)",
-                        currentGoldAmt, currentGoldAmt + 10
-                    ));
-                } catch (Exception e) {
-                    logger.error("Failed to modify Mugger goldAmt", e);
-                }
+    private static void muggerThieft(Mugger monster) {
+        // Increase goldAmt by 10 (this determines Thievery power amount)
+        try {
+            FieldAccessor goldAmtField = ReflectionCache.MUGGER_GOLD_AMT;
+            int currentGoldAmt = goldAmtField.getInt(monster);
+            goldAmtField.setInt(monster, currentGoldAmt + 10);
+            if (AscensionLog.isTracing()) {
+                logger.info(String.format(
+                    "Ascension 26: Mugger goldAmt (Thievery) increased from %d to %d (+10)",
+                    currentGoldAmt, currentGoldAmt + 10
+                ));
             }
+        } catch (Exception e) {
+            logger.error("Failed to modify Mugger goldAmt", e);
         }
     }
 
@@ -997,24 +763,25 @@ public class Level26 {
     public static class WrithingMassParasitePatch {
         @SpirePrefixPatch
         public static void Prefix(WrithingMass __instance, @com.evacipated.cardcrawl.modthespire.lib.ByRef int[] num) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 26) {
+            if (!AscensionRuleSet.isActive(26)) {
                 return;
             }
 
             try {
                 // Check if firstMove is false (not the first turn)
-                java.lang.reflect.Field firstMoveField = WrithingMass.class.getDeclaredField("firstMove");
-                firstMoveField.setAccessible(true);
+                FieldAccessor firstMoveField = ReflectionCache.WRITHING_MASS_FIRST_MOVE;
                 boolean firstMove = firstMoveField.getBoolean(__instance);
 
                 if (!firstMove && num[0] >= 20 && num[0] < 35) {
                     // 60% chance to shift num into parasite spawn range (10-19)
                     if (com.badlogic.gdx.math.MathUtils.randomBoolean(0.6f)) {
                         num[0] = com.badlogic.gdx.math.MathUtils.random(10, 19);
-                        logger.info(String.format(
-                            "Ascension 26: WrithingMass getMove adjusted to %d (increased parasite probability)",
-                            num[0]
-                        ));
+                        if (AscensionLog.isTracing()) {
+                            logger.info(String.format(
+                                "Ascension 26: WrithingMass getMove adjusted to %d (increased parasite probability)",
+                                num[0]
+                            ));
+                        }
                     }
                 }
             } catch (Exception e) {
@@ -1038,7 +805,7 @@ public class Level26 {
     public static class GiantHeadSlowPowerCompound {
         @SpirePrefixPatch
         public static SpireReturn<Float> Prefix(SlowPower __instance, float damage, DamageInfo.DamageType type) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 26) {
+            if (!AscensionRuleSet.isActive(26)) {
                 return SpireReturn.Continue();
             }
 
@@ -1046,10 +813,12 @@ public class Level26 {
                 float multiplier = (float) Math.pow(COMPOUND_RATE, __instance.amount);
                 float newDamage = damage * multiplier;
 
-                logger.info(String.format(
-                    "Ascension 26: Giant Head Slow debuff (compound) - stacks: %d, multiplier: %.2f, damage: %.1f → %.1f",
-                    __instance.amount, multiplier, damage, newDamage
-                ));
+                if (AscensionLog.isTracing()) {
+                    logger.info(String.format(
+                        "Ascension 26: Giant Head Slow debuff (compound) - stacks: %d, multiplier: %.2f, damage: %.1f → %.1f",
+                        __instance.amount, multiplier, damage, newDamage
+                    ));
+                }
 
                 return SpireReturn.Return(newDamage);
             }
@@ -1061,29 +830,11 @@ public class Level26 {
     /**
      * Giant Head: HP increased by 100%
      * 거인의 머리(Giant Head): 체력이 100% 증가
+     * Applied by MonsterStatPipeline
      */
-    @SpirePatch(
-        clz = AbstractMonster.class,
-        method = "init"
-    )
-    public static class GiantHeadHPIncrease {
-        @SpirePostfixPatch
-        public static void Postfix(AbstractMonster __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 26) {
-                return;
-            }
-
-            if (__instance.id != null && __instance.id.equals("GiantHead")) {
-                // Giant Head gets 100% HP increase
-                int originalHP = __instance.maxHealth;
-                __instance.maxHealth *= 2;
-                __instance.currentHealth *= 2;
-
-                logger.info(String.format(
-                    "Ascension 26: %s HP doubled from %d to %d",
-                    __instance.name, originalHP, __instance.maxHealth
-                ));
-            }
+    public static void modifyStats(MonsterStatContext ctx, MonsterStatModifier mod) {
+        if (ctx.isMonster("GiantHead")) {
+            mod.multiplyHealth(26, 2.0f);
         }
     }
 }
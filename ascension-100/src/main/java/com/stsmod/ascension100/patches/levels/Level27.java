@@ -14,6 +14,8 @@ import com.megacrit.cardcrawl.monsters.beyond.TimeEater;
 import com.megacrit.cardcrawl.monsters.beyond.Donu;
 import com.megacrit.cardcrawl.monsters.beyond.Deca;
 import com.megacrit.cardcrawl.monsters.ending.CorruptHeart;
+import com.stsmod.ascension100.util.AscensionLog;
+import com.stsmod.ascension100.util.AscensionRuleSet;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -35,15 +37,17 @@ public class Level27 {
     public static class SlimeBossHPPatch {
         @SpirePostfixPatch
         public static void Postfix(SlimeBoss __instance) {
-            if (AbstractDungeon.isAscensionMode && AbstractDungeon.ascensionLevel >= 27) {
+            if (AscensionRuleSet.isActive(27)) {
                 int originalHP = __instance.maxHealth;
                 __instance.maxHealth += 10;
                 __instance.currentHealth += 10;
-                logger.info(String.format(
-                    "Ascension 27: SlimeBoss HP increased from %d to %d (+10)",
-                    originalHP,
-                    __instance.maxHealth
-                ));
+                if (AscensionLog.isTracing()) {
+                    logger.info(String.format(
+                        "Ascension 27: SlimeBoss HP increased from %d to %d (+10)",
+                        originalHP,
+                        __instance.maxHealth
+                    ));
+                }
             }
         }
     }
@@ -58,15 +62,17 @@ public class Level27 {
     public static class GuardianHPPatch {
         @SpirePostfixPatch
         public static void Postfix(TheGuardian __instance) {
-            if (AbstractDungeon.isAscensionMode && AbstractDungeon.ascensionLevel >= 27) {
+            if (AscensionRuleSet.isActive(27)) {
                 int originalHP = __instance.maxHealth;
                 __instance.maxHealth += 20;
                 __instance.currentHealth += 20;
-                logger.info(String.format(
-                    "Ascension 27: TheGuardian HP increased from %d to %d (+20)",
-                    originalHP,
-                    __instance.maxHealth
-                ));
+                if (AscensionLog.isTracing()) {
+                    logger.info(String.format(
+                        "Ascension 27: TheGuardian HP increased from %d to %d (+20)",
+                        originalHP,
+                        __instance.maxHealth
+                    ));
+                }
             }
         }
     }
@@ -81,15 +87,17 @@ public class Level27 {
     public static class HexaghostHPPatch {
         @SpirePostfixPatch
         public static void Postfix(Hexaghost __instance) {
-            if (AbstractDungeon.isAscensionMode && AbstractDungeon.ascensionLevel >= 27) {
+            if (AscensionRuleSet.isActive(27)) {
                 int originalHP = __instance.maxHealth;
                 __instance.maxHealth += 20;
                 __instance.currentHealth += 20;
-                logger.info(String.format(
-                    "Ascension 27: Hexaghost HP increased from %d to %d (+20)",
-                    originalHP,
-                    __instance.maxHealth
-                ));
+                if (AscensionLog.isTracing()) {
+                    logger.info(String.format(
+                        "Ascension 27: Hexaghost HP increased from %d to %d (+20)",
+                        originalHP,
+                        __instance.maxHealth
+                    ));
+                }
             }
         }
     }
@@ -104,7 +112,7 @@ public class Level27 {
     public static class BronzeAutomatonPatch {
         @SpirePostfixPatch
         public static void Postfix(BronzeAutomaton __instance) {
-            if (AbstractDungeon.isAscensionMode && AbstractDungeon.ascensionLevel >= 27) {
+            if (AscensionRuleSet.isActive(27)) {
                 int originalHP = __instance.maxHealth;
                 __instance.maxHealth += 20;
                 __instance.currentHealth += 20;
@@ -116,11 +124,13 @@ public class Level27 {
                     }
                 });
 
-                logger.info(String.format(
-                    "Ascension 27: BronzeAutomaton HP increased from %d to %d (+20), damage +2",
-                    originalHP,
-                    __instance.maxHealth
-                ));
+                if (AscensionLog.isTracing()) {
+                    logger.info(String.format(
+                        "Ascension 27: BronzeAutomaton HP increased from %d to %d (+20), damage +2",
+                        originalHP,
+                        __instance.maxHealth
+                    ));
+                }
             }
         }
     }
@@ -135,14 +145,14 @@ public class Level27 {
     public static class BronzeAutomatonArtifactPatch {
         @SpirePostfixPatch
         public static void Postfix(BronzeAutomaton __instance) {
-            if (AbstractDungeon.isAscensionMode && AbstractDungeon.ascensionLevel >= 27) {
+            if (AscensionRuleSet.isActive(27)) {
                 AbstractDungeon.actionManager.addToBottom(
                     new com.megacrit.cardcrawl.actions.common.ApplyPowerAction(
                         __instance, __instance,
                         new com.megacrit.cardcrawl.powers.ArtifactPower(__instance, 1), 1
                     )
                 );
-                logger.info("Ascension 27: BronzeAutomaton gained +1 Artifact (total 4)");
+                AscensionLog.trace(logger, "Ascension 27: BronzeAutomaton gained +1 Artifact (total 4)");
             }
         }
     }
@@ -157,7 +167,7 @@ public class Level27 {
     public static class ChampDamagePatch {
         @SpirePostfixPatch
         public static void Postfix(Champ __instance) {
-            if (AbstractDungeon.isAscensionMode && AbstractDungeon.ascensionLevel >= 27) {
+            if (AscensionRuleSet.isActive(27)) {
                 // Increase damage
                 __instance.damage.forEach(damageInfo -> {
                     if (damageInfo != null && damageInfo.base > 0) {
@@ -165,7 +175,7 @@ public class Level27 {
                     }
                 });
 
-                logger.info("Ascension 27: Champ damage +2");
+                AscensionLog.trace(logger, "Ascension 27: Champ damage +2");
             }
         }
     }
@@ -180,16 +190,18 @@ public class Level27 {
     public static class CollectorHPPatch {
         @SpirePostfixPatch
         public static void Postfix(TheCollector __instance) {
-            if (AbstractDungeon.isAscensionMode && AbstractDungeon.ascensionLevel >= 27) {
+            if (AscensionRuleSet.isActive(27)) {
                 int originalHP = __instance.maxHealth;
                 __instance.maxHealth += 40;
                 __instance.currentHealth += 40;
 
-                logger.info(String.format(
-                    "Ascension 27: TheCollector HP increased from %d to %d (+40)",
-                    originalHP,
-                    __instance.maxHealth
-                ));
+                if (AscensionLog.isTracing()) {
+                    logger.info(String.format(
+                        "Ascension 27: TheCollector HP increased from %d to %d (+40)",
+                        originalHP,
+                        __instance.maxHealth
+                    ));
+                }
             }
         }
     }
@@ -204,17 +216,19 @@ public class Level27 {
     public static class AwakenedOneHPPatch {
         @SpirePostfixPatch
         public static void Postfix(AwakenedOne __instance) {
-            if (AbstractDungeon.isAscensionMode && AbstractDungeon.ascensionLevel >= 27) {
+            if (AscensionRuleSet.isActive(27)) {
                 // Phase 1 HP +30
                 int originalHP = __instance.maxHealth;
                 __instance.maxHealth += 30;
                 __instance.currentHealth += 30;
 
-                logger.info(String.format(
-                    "Ascension 27: AwakenedOne Phase 1 HP increased from %d to %d (+30)",
-                    originalHP,
-                    __instance.maxHealth
-                ));
+                if (AscensionLog.isTracing()) {
+                    logger.info(String.format(
+                        "Ascension 27: AwakenedOne Phase 1 HP increased from %d to %d (+30)",
+                        originalHP,
+                        __instance.maxHealth
+                    ));
+                }
             }
         }
     }
@@ -229,16 +243,18 @@ public class Level27 {
     public static class TimeEaterHPPatch {
         @SpirePostfixPatch
         public static void Postfix(TimeEater __instance) {
-            if (AbstractDungeon.isAscensionMode && AbstractDungeon.ascensionLevel >= 27) {
+            if (AscensionRuleSet.isActive(27)) {
                 int originalHP = __instance.maxHealth;
                 __instance.maxHealth += 40;
                 __instance.currentHealth += 40;
 
-                logger.info(String.format(
-                    "Ascension 27: TimeEater HP increased from %d to %d (+40)",
-                    originalHP,
-                    __instance.maxHealth
-                ));
+                if (AscensionLog.isTracing()) {
+                    logger.info(String.format(
+                        "Ascension 27: TimeEater HP increased from %d to %d (+40)",
+                        originalHP,
+                        __instance.maxHealth
+                    ));
+                }
             }
         }
     }
@@ -253,16 +269,18 @@ public class Level27 {
     public static class DonuHPPatch {
         @SpirePostfixPatch
         public static void Postfix(Donu __instance) {
-            if (AbstractDungeon.isAscensionMode && AbstractDungeon.ascensionLevel >= 27) {
+            if (AscensionRuleSet.isActive(27)) {
                 int originalHP = __instance.maxHealth;
                 __instance.maxHealth += 35;
                 __instance.currentHealth += 35;
 
-                logger.info(String.format(
-                    "Ascension 27: Donu HP increased from %d to %d (+35)",
-                    originalHP,
-                    __instance.maxHealth
-                ));
+                if (AscensionLog.isTracing()) {
+                    logger.info(String.format(
+                        "Ascension 27: Donu HP increased from %d to %d (+35)",
+                        originalHP,
+                        __instance.maxHealth
+                    ));
+                }
             }
         }
     }
@@ -277,16 +295,18 @@ public class Level27 {
     public static class DecaHPPatch {
         @SpirePostfixPatch
         public static void Postfix(Deca __instance) {
-            if (AbstractDungeon.isAscensionMode && AbstractDungeon.ascensionLevel >= 27) {
+            if (AscensionRuleSet.isActive(27)) {
                 int originalHP = __instance.maxHealth;
                 __instance.maxHealth += 35;
                 __instance.currentHealth += 35;
 
-                logger.info(String.format(
-                    "Ascension 27: Deca HP increased from %d to %d (+35)",
-                    originalHP,
-                    __instance.maxHealth
-                ));
+                if (AscensionLog.isTracing()) {
+                    logger.info(String.format(
+                        "Ascension 27: Deca HP increased from %d to %d (+35)",
+                        originalHP,
+                        __instance.maxHealth
+                    ));
+                }
             }
         }
     }
@@ -301,16 +321,18 @@ public class Level27 {
     public static class CorruptHeartHPPatch {
         @SpirePostfixPatch
         public static void Postfix(CorruptHeart __instance) {
-            if (AbstractDungeon.isAscensionMode && AbstractDungeon.ascensionLevel >= 27) {
+            if (AscensionRuleSet.isActive(27)) {
                 int originalHP = __instance.maxHealth;
                 __instance.maxHealth += 50;
                 __instance.currentHealth += 50;
 
-                logger.info(String.format(
-                    "Ascension 27: CorruptHeart HP increased from %d to %d (+50)",
-                    originalHP,
-                    __instance.maxHealth
-                ));
+                if (AscensionLog.isTracing()) {
+                    logger.info(String.format(
+                        "Ascension 27: CorruptHeart HP increased from %d to %d (+50)",
+                        originalHP,
+                        __instance.maxHealth
+                    ));
+                }
             }
         }
     }
@@ -21,6 +21,10 @@ import com.megacrit.cardcrawl.powers.VulnerablePower;
 import com.megacrit.cardcrawl.powers.FrailPower;
 import com.megacrit.cardcrawl.powers.StrengthPower;
 import com.megacrit.cardcrawl.powers.InvinciblePower;
+import com.stsmod.ascension100.util.AscensionLog;
+import com.stsmod.ascension100.util.AscensionRuleSet;
+import com.stsmod.ascension100.util.FieldAccessor;
+import com.stsmod.ascension100.util.ReflectionCache;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -46,13 +50,12 @@ public class Level28 {
 
         @SpirePrefixPatch
         public static void Prefix(Hexaghost __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 28) {
+            if (!AscensionRuleSet.isActive(28)) {
                 return;
             }
 
             try {
-                java.lang.reflect.Field nextMoveField = com.megacrit.cardcrawl.monsters.AbstractMonster.class.getDeclaredField("nextMove");
-                nextMoveField.setAccessible(true);
+                FieldAccessor nextMoveField = ReflectionCache.ABSTRACT_MONSTER_NEXT_MOVE;
                 byte move = nextMoveField.getByte(__instance);
                 lastMove.set(move);
             } catch (Exception e) {
@@ -62,7 +65,7 @@ public class Level28 {
 
         @SpirePostfixPatch
         public static void Postfix(Hexaghost __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 28) {
+            if (!AscensionRuleSet.isActive(28)) {
                 return;
             }
 
@@ -74,22 +77,22 @@ public class Level28 {
                         com.megacrit.cardcrawl.actions.AbstractGameAction action = AbstractDungeon.actionManager.actions.get(i);
 
                         if (action instanceof ApplyPowerAction) {
-                            java.lang.reflect.Field powerToApplyField = ApplyPowerAction.class.getDeclaredField("powerToApply");
-                            powerToApplyField.setAccessible(true);
+                            FieldAccessor powerToApplyField = ReflectionCache.APPLY_POWER_ACTION_POWER_TO_APPLY;
                             com.megacrit.cardcrawl.powers.AbstractPower power = (com.megacrit.cardcrawl.powers.AbstractPower) powerToApplyField.get(action);
 
                             if (power instanceof StrengthPower && power.owner == __instance) {
                                 power.amount += 1;
 
-                                java.lang.reflect.Field amountField = ApplyPowerAction.class.getDeclaredField("amount");
-                                amountField.setAccessible(true);
+                                FieldAccessor amountField = ReflectionCache.APPLY_POWER_ACTION_AMOUNT;
                                 int currentAmount = amountField.getInt(action);
                                 amountField.setInt(action, currentAmount + 1);
 
-                                logger.info(String.format(
-                                    "Ascension 28: Hexaghost Inflame Strength increased by +1 (total: %d)",
-                                    power.amount
-                                ));
+                                if (AscensionLog.isTracing()) {
+                                    logger.info(String.format(
+                                        "Ascension 28: Hexaghost Inflame Strength increased by +1 (total: %d)",
+                                        power.amount
+                                    ));
+                                }
                                 break;
                             }
                         }
@@ -115,13 +118,13 @@ public class Level28 {
     public static class AwakenedOneCuriosityPatch {
         @SpirePostfixPatch
         public static void Postfix(AwakenedOne __instance) {
-            if (AbstractDungeon.isAscensionMode && AbstractDungeon.ascensionLevel >= 28) {
+            if (AscensionRuleSet.isActive(28)) {
                 // Add 1 Curiosity (base game gives 2 at Asc 19+, so total becomes 3)
                 AbstractDungeon.actionManager.addToBottom(
                     new ApplyPowerAction(__instance, __instance,
                         new CuriosityPower(__instance, 1), 1)
                 );
-                logger.info("Ascension 28: AwakenedOne Curiosity +1 (total: 3)");
+                AscensionLog.trace(logger, "Ascension 28: AwakenedOne Curiosity +1 (total: 3)");
             }
         }
     }
@@ -138,13 +141,12 @@ public class Level28 {
 
         @SpirePrefixPatch
         public static void Prefix(SlimeBoss __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 28) {
+            if (!AscensionRuleSet.isActive(28)) {
                 return;
             }
 
             try {
-                java.lang.reflect.Field nextMoveField = com.megacrit.cardcrawl.monsters.AbstractMonster.class.getDeclaredField("nextMove");
-                nextMoveField.setAccessible(true);
+                FieldAccessor nextMoveField = ReflectionCache.ABSTRACT_MONSTER_NEXT_MOVE;
                 byte move = nextMoveField.getByte(__instance);
                 lastMove.set(move);
             } catch (Exception e) {
@@ -154,7 +156,7 @@ public class Level28 {
 
         @SpirePostfixPatch
         public static void Postfix(SlimeBoss __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 28) {
+            if (!AscensionRuleSet.isActive(28)) {
                 return;
             }
 
@@ -163,7 +165,7 @@ public class Level28 {
                 AbstractDungeon.actionManager.addToBottom(
                     new MakeTempCardInDiscardAction(new Slimed(), 1)
                 );
-                logger.info("Ascension 28: SlimeBoss Goop Spray added 1 extra Slimed card");
+                AscensionLog.trace(logger, "Ascension 28: SlimeBoss Goop Spray added 1 extra Slimed card");
             }
 
             lastMove.remove();
@@ -182,13 +184,12 @@ public class Level28 {
 
         @SpirePrefixPatch
         public static void Prefix(TheGuardian __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 28) {
+            if (!AscensionRuleSet.isActive(28)) {
                 return;
             }
 
             try {
-                java.lang.reflect.Field nextMoveField = com.megacrit.cardcrawl.monsters.AbstractMonster.class.getDeclaredField("nextMove");
-                nextMoveField.setAccessible(true);
+                FieldAccessor nextMoveField = ReflectionCache.ABSTRACT_MONSTER_NEXT_MOVE;
                 byte move = nextMoveField.getByte(__instance);
                 lastMove.set(move);
             } catch (Exception e) {
@@ -198,7 +199,7 @@ public class Level28 {
 
         @SpirePostfixPatch
         public static void Postfix(TheGuardian __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 28) {
+            if (!AscensionRuleSet.isActive(28)) {
                 return;
             }
 
@@ -212,7 +213,7 @@ public class Level28 {
                     new ApplyPowerAction(AbstractDungeon.player, __instance,
                         new VulnerablePower(AbstractDungeon.player, 1, true), 1)
                 );
-                logger.info("Ascension 28: TheGuardian Vent added +1 Weak and +1 Vulnerable");
+                AscensionLog.trace(logger, "Ascension 28: TheGuardian Vent added +1 Weak and +1 Vulnerable");
             }
 
             lastMove.remove();
@@ -231,13 +232,12 @@ public class Level28 {
 
         @SpirePrefixPatch
         public static void Prefix(Champ __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 28) {
+            if (!AscensionRuleSet.isActive(28)) {
                 return;
             }
 
             try {
-                java.lang.reflect.Field nextMoveField = com.megacrit.cardcrawl.monsters.AbstractMonster.class.getDeclaredField("nextMove");
-                nextMoveField.setAccessible(true);
+                FieldAccessor nextMoveField = ReflectionCache.ABSTRACT_MONSTER_NEXT_MOVE;
                 byte move = nextMoveField.getByte(__instance);
                 lastMove.set(move);
             } catch (Exception e) {
@@ -247,7 +247,7 @@ public class Level28 {
 
         @SpirePostfixPatch
         public static void Postfix(Champ __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 28) {
+            if (!AscensionRuleSet.isActive(28)) {
                 return;
             }
 
@@ -257,7 +257,7 @@ public class Level28 {
                     new ApplyPowerAction(__instance, __instance,
                         new StrengthPower(__instance, 1), 1)
                 );
-                logger.info("Ascension 28: Champ Gloat gained +1 additional Strength");
+                AscensionLog.trace(logger, "Ascension 28: Champ Gloat gained +1 additional Strength");
             }
 
             lastMove.remove();
@@ -278,13 +278,12 @@ public class Level28 {
 
         @SpirePrefixPatch
         public static void Prefix(TheCollector __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 28) {
+            if (!AscensionRuleSet.isActive(28)) {
                 return;
             }
 
             try {
-                java.lang.reflect.Field nextMoveField = com.megacrit.cardcrawl.monsters.AbstractMonster.class.getDeclaredField("nextMove");
-                nextMoveField.setAccessible(true);
+                FieldAccessor nextMoveField = ReflectionCache.ABSTRACT_MONSTER_NEXT_MOVE;
                 byte move = nextMoveField.getByte(__instance);
                 lastMove.set(move);
             } catch (Exception e) {
@@ -294,7 +293,7 @@ public class Level28 {
 
         @SpirePostfixPatch
         public static void Postfix(TheCollector __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 28) {
+            if (!AscensionRuleSet.isActive(28)) {
                 return;
             }
 
@@ -314,7 +313,7 @@ public class Level28 {
                     new ApplyPowerAction(AbstractDungeon.player, __instance,
                         new FrailPower(AbstractDungeon.player, 3, true), 3)
                 );
-                logger.info("Ascension 28: TheCollector applied second set of debuffs (Weak/Vulnerable/Frail 3 each, total 6 each)");
+                AscensionLog.trace(logger, "Ascension 28: TheCollector applied second set of debuffs (Weak/Vulnerable/Frail 3 each, total 6 each)");
             }
 
             lastMove.remove();
@@ -334,7 +333,7 @@ public class Level28 {
     public static class DonuMalleablePatch {
         @SpirePostfixPatch
         public static void Postfix(Donu __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 28) {
+            if (!AscensionRuleSet.isActive(28)) {
                 return;
             }
 
@@ -348,7 +347,7 @@ public class Level28 {
                 )
             );
 
-            logger.info("Ascension 28: Donu starts battle with Malleable 1");
+            AscensionLog.trace(logger, "Ascension 28: Donu starts battle with Malleable 1");
         }
     }
 
@@ -362,16 +361,18 @@ public class Level28 {
     public static class BronzeOrbHPPatch {
         @SpirePostfixPatch
         public static void Postfix(com.megacrit.cardcrawl.monsters.AbstractMonster __instance) {
-            if (AbstractDungeon.isAscensionMode && AbstractDungeon.ascensionLevel >= 28) {
+            if (AscensionRuleSet.isActive(28)) {
                 int originalHP = __instance.maxHealth;
                 __instance.maxHealth += 20;
                 __instance.currentHealth += 20;
 
-                logger.info(String.format(
-                    "Ascension 28: BronzeOrb HP increased from %d to %d (+20)",
-                    originalHP,
-                    __instance.maxHealth
-                ));
+                if (AscensionLog.isTracing()) {
+                    logger.info(String.format(
+                        "Ascension 28: BronzeOrb HP increased from %d to %d (+20)",
+                        originalHP,
+                        __instance.maxHealth
+                    ));
+                }
             }
         }
     }
@@ -388,7 +389,7 @@ public class Level28 {
             locator = TimeEaterHealLocator.class
         )
         public static void Insert(TimeEater __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 28) {
+            if (!AscensionRuleSet.isActive(28)) {
                 return;
             }
 
@@ -400,10 +401,12 @@ public class Level28 {
                 )
             );
 
-            logger.info(String.format(
-                "Ascension 28: TimeEater will heal additional %d HP (to 70%% instead of 50%%)",
-                additionalHeal
-            ));
+            if (AscensionLog.isTracing()) {
+                logger.info(String.format(
+                    "Ascension 28: TimeEater will heal additional %d HP (to 70%% instead of 50%%)",
+                    additionalHeal
+                ));
+            }
         }
 
         private static class TimeEaterHealLocator extends SpireInsertLocator {
@@ -428,17 +431,19 @@ public class Level28 {
     public static class CorruptHeartInvinciblePatch {
         @SpirePostfixPatch
         public static void Postfix(CorruptHeart __instance) {
-            if (AbstractDungeon.isAscensionMode && AbstractDungeon.ascensionLevel >= 28) {
+            if (AscensionRuleSet.isActive(28)) {
                 // At A19+, Corrupt Heart has 200 Invincible (300 - 100)
                 // We reduce it by 20 to make it 180
                 com.megacrit.cardcrawl.powers.AbstractPower invinciblePower = __instance.getPower("Invincible");
                 if (invinciblePower != null) {
                     invinciblePower.amount -= 20;
                     invinciblePower.updateDescription();
-                    logger.info(String.format(
-                        "Ascension 28: CorruptHeart Invincible reduced to %d (from 200)",
-                        invinciblePower.amount
-                    ));
+                    if (AscensionLog.isTracing()) {
+                        logger.info(String.format(
+                            "Ascension 28: CorruptHeart Invincible reduced to %d (from 200)",
+                            invinciblePower.amount
+                        ));
+                    }
                 }
             }
         }
@@ -2,8 +2,10 @@ package com.stsmod.ascension100.patches.levels;
 
 import com.badlogic.gdx.math.MathUtils;
 import com.evacipated.cardcrawl.modthespire.lib.*;
-import com.megacrit.cardcrawl.dungeons.AbstractDungeon;
 import com.megacrit.cardcrawl.rewards.RewardItem;
+import com.stsmod.ascension100.util.AscensionLog;
+import com.stsmod.ascension100.util.AscensionRuleSet;
+import com.stsmod.ascension100.util.Telemetry;
 import javassist.CtBehavior;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -29,17 +31,20 @@ public class Level29 {
             locator = GoldConstructorLocator.class
         )
         public static void Insert(RewardItem __instance, @ByRef int[] goldAmount) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 29) {
+            if (!AscensionRuleSet.isActive(29)) {
                 return;
             }
 
             int originalGold = goldAmount[0];
             goldAmount[0] = MathUtils.floor(goldAmount[0] * 0.9f);
+            Telemetry.record(Telemetry.Event.GOLD_REWARD, 29, originalGold, goldAmount[0]);
 
-            logger.info(String.format(
-                "Ascension 29: Combat gold reduced from %d to %d (-10%%)",
-                originalGold, goldAmount[0]
-            ));
+            if (AscensionLog.isTracing()) {
+                logger.info(String.format(
+                    "Ascension 29: Combat gold reduced from %d to %d (-10%%)",
+                    originalGold, goldAmount[0]
+                ));
+            }
         }
 
         private static class GoldConstructorLocator extends SpireInsertLocator {
@@ -7,6 +7,10 @@ import com.megacrit.cardcrawl.dungeons.Exordium;
 import com.megacrit.cardcrawl.dungeons.TheCity;
 import com.megacrit.cardcrawl.dungeons.TheBeyond;
 import com.megacrit.cardcrawl.dungeons.TheEnding;
+import com.stsmod.ascension100.util.AscensionLog;
+import com.stsmod.ascension100.util.AscensionRuleSet;
+import com.stsmod.ascension100.util.FieldAccessor;
+import com.stsmod.ascension100.util.ReflectionCache;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -36,7 +40,7 @@ public class Level30 {
      * Note: The card's display name is "Rushdown", but the internal ID is "Adaptation"
      */
     private static void removeRushdownFromCardPools() {
-        if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 30) {
+        if (!AscensionRuleSet.isActive(30)) {
             return;
         }
 
@@ -46,7 +50,9 @@ public class Level30 {
             boolean removedFromCurrent = AbstractDungeon.uncommonCardPool.removeCard(RUSHDOWN_CARD_ID);
 
             if (removedFromSrc || removedFromCurrent) {
-                logger.info("Ascension 30: Rushdown card (ID: " + RUSHDOWN_CARD_ID + ") removed from card pools (hidden change)");
+                if (AscensionLog.isTracing()) {
+                    logger.info("Ascension 30: Rushdown card (ID: " + RUSHDOWN_CARD_ID + ") removed from card pools (hidden change)");
+                }
             } else {
                 logger.warn("Ascension 30: Rushdown card not found in pools");
             }
@@ -59,19 +65,16 @@ public class Level30 {
      * Adjust relic probabilities for all dungeons
      */
     private static void adjustRelicProbabilities() {
-        if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 30) {
+        if (!AscensionRuleSet.isActive(30)) {
             return;
         }
 
         try {
             // Access the protected static fields via reflection
-            java.lang.reflect.Field commonField = AbstractDungeon.class.getDeclaredField("commonRelicChance");
-            java.lang.reflect.Field uncommonField = AbstractDungeon.class.getDeclaredField("uncommonRelicChance");
-            java.lang.reflect.Field rareField = AbstractDungeon.class.getDeclaredField("rareRelicChance");
+            FieldAccessor commonField = ReflectionCache.ABSTRACT_DUNGEON_COMMON_RELIC_CHANCE;
+            FieldAccessor uncommonField = ReflectionCache.ABSTRACT_DUNGEON_UNCOMMON_RELIC_CHANCE;
+            FieldAccessor rareField = ReflectionCache.ABSTRACT_DUNGEON_RARE_RELIC_CHANCE;
 
-            commonField.setAccessible(true);
-            uncommonField.setAccessible(true);
-            rareField.setAccessible(true);
 
             // Set new probabilities
             // Common: 50% (unchanged)
@@ -81,7 +84,7 @@ public class Level30 {
             uncommonField.setInt(null, 35);
             rareField.setInt(null, 15);
 
-            logger.info("Ascension 30: Relic probabilities adjusted to Common 50%, Uncommon 35%, Rare 15%");
+            AscensionLog.trace(logger, "Ascension 30: Relic probabilities adjusted to Common 50%, Uncommon 35%, Rare 15%");
         } catch (Exception e) {
             logger.error("Failed to adjust relic probabilities", e);
         }
@@ -12,6 +12,8 @@ import com.megacrit.cardcrawl.monsters.city.BronzeAutomaton;
 import com.megacrit.cardcrawl.monsters.beyond.Donu;
 import com.megacrit.cardcrawl.monsters.beyond.Deca;
 import com.megacrit.cardcrawl.powers.ArtifactPower;
+import com.stsmod.ascension100.util.AscensionLog;
+import com.stsmod.ascension100.util.AscensionRuleSet;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -35,7 +37,7 @@ public class Level31 {
     public static class SentryArtifactPatch {
         @SpirePostfixPatch
         public static void Postfix(Sentry __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 31) {
+            if (!AscensionRuleSet.isActive(31)) {
                 return;
             }
 
@@ -46,7 +48,7 @@ public class Level31 {
                     new ArtifactPower(__instance, 1), 1)
             );
 
-            logger.info("Ascension 31: Sentry gained +1 Artifact (total: 2)");
+            AscensionLog.trace(logger, "Ascension 31: Sentry gained +1 Artifact (total: 2)");
         }
     }
 
@@ -60,7 +62,7 @@ public class Level31 {
     public static class SpireSpearArtifactPatch {
         @SpirePostfixPatch
         public static void Postfix(SpireSpear __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 31) {
+            if (!AscensionRuleSet.isActive(31)) {
                 return;
             }
 
@@ -70,7 +72,7 @@ public class Level31 {
                     new ArtifactPower(__instance, 1), 1)
             );
 
-            logger.info("Ascension 31: Spire Spear gained +1 Artifact");
+            AscensionLog.trace(logger, "Ascension 31: Spire Spear gained +1 Artifact");
         }
     }
 
@@ -84,7 +86,7 @@ public class Level31 {
     public static class SpireShieldArtifactPatch {
         @SpirePostfixPatch
         public static void Postfix(SpireShield __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 31) {
+            if (!AscensionRuleSet.isActive(31)) {
                 return;
             }
 
@@ -94,7 +96,7 @@ public class Level31 {
                     new ArtifactPower(__instance, 1), 1)
             );
 
-            logger.info("Ascension 31: Spire Shield gained +1 Artifact");
+            AscensionLog.trace(logger, "Ascension 31: Spire Shield gained +1 Artifact");
         }
     }
 
@@ -108,7 +110,7 @@ public class Level31 {
     public static class SphericGuardianArtifactPatch {
         @SpirePostfixPatch
         public static void Postfix(SphericGuardian __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 31) {
+            if (!AscensionRuleSet.isActive(31)) {
                 return;
             }
 
@@ -118,7 +120,7 @@ public class Level31 {
                     new ArtifactPower(__instance, 1), 1)
             );
 
-            logger.info("Ascension 31: Spheric Guardian gained +1 Artifact (total: 4)");
+            AscensionLog.trace(logger, "Ascension 31: Spheric Guardian gained +1 Artifact (total: 4)");
         }
     }
 
@@ -132,7 +134,7 @@ public class Level31 {
     public static class BronzeAutomatonArtifactPatch {
         @SpirePostfixPatch
         public static void Postfix(BronzeAutomaton __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 31) {
+            if (!AscensionRuleSet.isActive(31)) {
                 return;
             }
 
@@ -143,7 +145,7 @@ public class Level31 {
                     new ArtifactPower(__instance, 1), 1)
             );
 
-            logger.info("Ascension 31: Bronze Automaton gained +1 Artifact (total: 5 at A31+)");
+            AscensionLog.trace(logger, "Ascension 31: Bronze Automaton gained +1 Artifact (total: 5 at A31+)");
         }
     }
 
@@ -157,7 +159,7 @@ public class Level31 {
     public static class DonuArtifactPatch {
         @SpirePostfixPatch
         public static void Postfix(Donu __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 31) {
+            if (!AscensionRuleSet.isActive(31)) {
                 return;
             }
 
@@ -167,7 +169,7 @@ public class Level31 {
                     new ArtifactPower(__instance, 1), 1)
             );
 
-            logger.info("Ascension 31: Donu gained +1 Artifact (total: 3 at A19-30, 4 at A31+)");
+            AscensionLog.trace(logger, "Ascension 31: Donu gained +1 Artifact (total: 3 at A19-30, 4 at A31+)");
         }
     }
 
@@ -181,7 +183,7 @@ public class Level31 {
     public static class DecaArtifactPatch {
         @SpirePostfixPatch
         public static void Postfix(Deca __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 31) {
+            if (!AscensionRuleSet.isActive(31)) {
                 return;
             }
 
@@ -191,7 +193,7 @@ public class Level31 {
                     new ArtifactPower(__instance, 1), 1)
             );
 
-            logger.info("Ascension 31: Deca gained +1 Artifact (total: 3 at A19-30, 4 at A31+)");
+            AscensionLog.trace(logger, "Ascension 31: Deca gained +1 Artifact (total: 3 at A19-30, 4 at A31+)");
         }
     }
 }
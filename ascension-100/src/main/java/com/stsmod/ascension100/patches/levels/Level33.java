@@ -31,6 +31,11 @@ import com.megacrit.cardcrawl.monsters.exordium.SlaverRed;
 import com.megacrit.cardcrawl.powers.*;
 import com.megacrit.cardcrawl.rooms.MonsterRoomElite;
 import com.megacrit.cardcrawl.vfx.combat.ShockWaveEffect;
+import com.stsmod.ascension100.util.AscensionLog;
+import com.stsmod.ascension100.util.AscensionRuleSet;
+import com.stsmod.ascension100.util.FieldAccessor;
+import com.stsmod.ascension100.util.MethodAccessor;
+import com.stsmod.ascension100.util.ReflectionCache;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -72,7 +77,7 @@ public class Level33 {
     public static class GremlinNobBellowPatch {
         @SpirePostfixPatch
         public static void Postfix(GremlinNob __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 33) {
+            if (!AscensionRuleSet.isActive(33)) {
                 return;
             }
 
@@ -87,7 +92,7 @@ public class Level33 {
                     new ApplyPowerAction(__instance, __instance,
                         new AngerPower(__instance, 2), 2)
                 );
-                logger.info("Ascension 33: Burning Elite Gremlin Nob gained +2 Anger from Bellow");
+                AscensionLog.trace(logger, "Ascension 33: Burning Elite Gremlin Nob gained +2 Anger from Bellow");
             }
         }
     }
@@ -103,7 +108,7 @@ public class Level33 {
     public static class LagavulinEnhancementPatch {
         @SpirePostfixPatch
         public static void Postfix(Lagavulin __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 33) {
+            if (!AscensionRuleSet.isActive(33)) {
                 return;
             }
 
@@ -127,7 +132,7 @@ public class Level33 {
                         new FocusPower(AbstractDungeon.player, -1), -1)
                 );
 
-                logger.info("Ascension 33: Burning Elite Lagavulin Siphon Soul enhanced - Str/Dex/Focus -1");
+                AscensionLog.trace(logger, "Ascension 33: Burning Elite Lagavulin Siphon Soul enhanced - Str/Dex/Focus -1");
             }
         }
     }
@@ -142,7 +147,7 @@ public class Level33 {
     public static class LagavulinMetallicizePatch {
         @SpirePrefixPatch
         public static SpireReturn<Void> Prefix(Lagavulin __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 33) {
+            if (!AscensionRuleSet.isActive(33)) {
                 return SpireReturn.Continue();
             }
 
@@ -152,8 +157,7 @@ public class Level33 {
 
             try {
                 // Check if Lagavulin is asleep using reflection
-                java.lang.reflect.Field asleepField = Lagavulin.class.getDeclaredField("asleep");
-                asleepField.setAccessible(true);
+                FieldAccessor asleepField = ReflectionCache.LAGAVULIN_ASLEEP;
                 boolean asleep = asleepField.getBoolean(__instance);
 
                 if (asleep) {
@@ -166,7 +170,7 @@ public class Level33 {
                         new ApplyPowerAction(__instance, __instance,
                             new MetallicizePower(__instance, 3), 3)
                     );
-                    logger.info("Ascension 33: Burning Elite Lagavulin starts with Metallicize 3 (reduced from 8)");
+                    AscensionLog.trace(logger, "Ascension 33: Burning Elite Lagavulin starts with Metallicize 3 (reduced from 8)");
                     return SpireReturn.Return(null); // Skip original method
                 }
             } catch (Exception e) {
@@ -187,7 +191,7 @@ public class Level33 {
     public static class SentryArtifactPatch {
         @SpirePostfixPatch
         public static void Postfix(Sentry __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 33) {
+            if (!AscensionRuleSet.isActive(33)) {
                 return;
             }
 
@@ -200,7 +204,7 @@ public class Level33 {
                 new ApplyPowerAction(__instance, __instance,
                     new ArtifactPower(__instance, 3), 3)
             );
-            logger.info("Ascension 33: Burning Elite Sentry gained +3 Artifact");
+            AscensionLog.trace(logger, "Ascension 33: Burning Elite Sentry gained +3 Artifact");
         }
     }
 
@@ -214,7 +218,7 @@ public class Level33 {
     public static class BookOfStabbingWeakPatch {
         @SpirePostfixPatch
         public static void Postfix(BookOfStabbing __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 33) {
+            if (!AscensionRuleSet.isActive(33)) {
                 return;
             }
 
@@ -228,7 +232,7 @@ public class Level33 {
                     new ApplyPowerAction(AbstractDungeon.player, __instance,
                         new WeakPower(AbstractDungeon.player, 1, true), 1)
                 );
-                logger.info("Ascension 33: Burning Elite Book of Stabbing Big Stab applied Weak");
+                AscensionLog.trace(logger, "Ascension 33: Burning Elite Book of Stabbing Big Stab applied Weak");
             }
         }
     }
@@ -244,7 +248,7 @@ public class Level33 {
     public static class BookOfStabbingIntentPatch {
         @SpirePrefixPatch
         public static SpireReturn<Void> Prefix(BookOfStabbing __instance, int num) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 33) {
+            if (!AscensionRuleSet.isActive(33)) {
                 return SpireReturn.Continue();
             }
 
@@ -255,17 +259,14 @@ public class Level33 {
             // Replicate getMove logic but use ATTACK_DEBUFF for Big Stab (move 2)
             try {
                 // Access private stabCount field
-                java.lang.reflect.Field stabCountField = BookOfStabbing.class.getDeclaredField("stabCount");
-                stabCountField.setAccessible(true);
+                FieldAccessor stabCountField = ReflectionCache.BOOK_OF_STABBING_STAB_COUNT;
                 int stabCount = stabCountField.getInt(__instance);
 
                 // Access protected lastMove method
-                java.lang.reflect.Method lastMoveMethod = AbstractMonster.class.getDeclaredMethod("lastMove", byte.class);
-                lastMoveMethod.setAccessible(true);
+                MethodAccessor lastMoveMethod = ReflectionCache.ABSTRACT_MONSTER_LAST_MOVE;
 
                 // Access protected lastTwoMoves method
-                java.lang.reflect.Method lastTwoMovesMethod = AbstractMonster.class.getDeclaredMethod("lastTwoMoves", byte.class);
-                lastTwoMovesMethod.setAccessible(true);
+                MethodAccessor lastTwoMovesMethod = ReflectionCache.ABSTRACT_MONSTER_LAST_TWO_MOVES;
 
                 if (num < 15) {
                     boolean lastMoveWasTwo = (Boolean) lastMoveMethod.invoke(__instance, (byte)2);
@@ -282,7 +283,7 @@ public class Level33 {
                             stabCount++;
                             stabCountField.setInt(__instance, stabCount);
                         }
-                        logger.info("Ascension 33: Burning Elite Book of Stabbing Big Stab Intent set to ATTACK_DEBUFF");
+                        AscensionLog.trace(logger, "Ascension 33: Burning Elite Book of Stabbing Big Stab Intent set to ATTACK_DEBUFF");
                     }
                 } else {
                     boolean lastTwoMovesWereOne = (Boolean) lastTwoMovesMethod.invoke(__instance, (byte)1);
@@ -294,7 +295,7 @@ public class Level33 {
                             stabCount++;
                             stabCountField.setInt(__instance, stabCount);
                         }
-                        logger.info("Ascension 33: Burning Elite Book of Stabbing Big Stab Intent set to ATTACK_DEBUFF");
+                        AscensionLog.trace(logger, "Ascension 33: Burning Elite Book of Stabbing Big Stab Intent set to ATTACK_DEBUFF");
                     } else {
                         stabCount++;
                         stabCountField.setInt(__instance, stabCount);
@@ -321,7 +322,7 @@ public class Level33 {
     public static class GremlinLeaderRegenPatch {
         @SpirePostfixPatch
         public static void Postfix(GremlinLeader __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 33) {
+            if (!AscensionRuleSet.isActive(33)) {
                 return;
             }
 
@@ -340,7 +341,7 @@ public class Level33 {
                         );
                     }
                 }
-                logger.info("Ascension 33: Burning Elite Gremlin Leader Encourage gave +2 Regeneration to all monsters");
+                AscensionLog.trace(logger, "Ascension 33: Burning Elite Gremlin Leader Encourage gave +2 Regeneration to all monsters");
             }
         }
     }
@@ -356,7 +357,7 @@ public class Level33 {
     public static class SlaverHPPatch {
         @SpirePostfixPatch
         public static void Postfix(AbstractMonster __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 33) {
+            if (!AscensionRuleSet.isActive(33)) {
                 return;
             }
 
@@ -370,10 +371,12 @@ public class Level33 {
                 int originalHP = __instance.maxHealth;
                 __instance.maxHealth = (int)(__instance.maxHealth * 1.05f);
                 __instance.currentHealth = (int)(__instance.currentHealth * 1.05f);
-                logger.info(String.format(
-                    "Ascension 33: Burning Elite %s HP %d -> %d (+5%%)",
-                    __instance.name, originalHP, __instance.maxHealth
-                ));
+                if (AscensionLog.isTracing()) {
+                    logger.info(String.format(
+                        "Ascension 33: Burning Elite %s HP %d -> %d (+5%%)",
+                        __instance.name, originalHP, __instance.maxHealth
+                    ));
+                }
             }
         }
     }
@@ -388,7 +391,7 @@ public class Level33 {
     public static class GiantHeadMetallicizePatch {
         @SpirePostfixPatch
         public static void Postfix(GiantHead __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 33) {
+            if (!AscensionRuleSet.isActive(33)) {
                 return;
             }
 
@@ -401,7 +404,7 @@ public class Level33 {
                 new ApplyPowerAction(__instance, __instance,
                     new MetallicizePower(__instance, 2), 2)
             );
-            logger.info("Ascension 33: Burning Elite Giant Head gained +2 Metallicize");
+            AscensionLog.trace(logger, "Ascension 33: Burning Elite Giant Head gained +2 Metallicize");
         }
     }
 
@@ -415,7 +418,7 @@ public class Level33 {
     public static class NemesisBurnPlusPatch {
         @SpirePrefixPatch
         public static SpireReturn<Void> Prefix(Nemesis __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 33) {
+            if (!AscensionRuleSet.isActive(33)) {
                 return SpireReturn.Continue();
             }
 
@@ -454,7 +457,9 @@ public class Level33 {
                 // Roll next move
                 AbstractDungeon.actionManager.addToBottom(new RollMoveAction(__instance));
 
-                logger.info("Ascension 33: Burning Elite Nemesis added " + burnCount + " Burn cards to draw pile");
+                if (AscensionLog.isTracing()) {
+                    logger.info("Ascension 33: Burning Elite Nemesis added " + burnCount + " Burn cards to draw pile");
+                }
 
                 // Return early to skip the base game's takeTurn logic for this move
                 return SpireReturn.Return(null);
@@ -474,7 +479,7 @@ public class Level33 {
     public static class ReptomancerDaggerExplodePatch {
         @SpirePrefixPatch
         public static SpireReturn<Void> Prefix(com.megacrit.cardcrawl.monsters.beyond.SnakeDagger __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 33) {
+            if (!AscensionRuleSet.isActive(33)) {
                 return SpireReturn.Continue();
             }
 
@@ -503,7 +508,7 @@ public class Level33 {
                 // Roll next move
                 AbstractDungeon.actionManager.addToBottom(new RollMoveAction(__instance));
 
-                logger.info("Ascension 33: Burning Elite Dagger Explode - prevented suicide");
+                AscensionLog.trace(logger, "Ascension 33: Burning Elite Dagger Explode - prevented suicide");
 
                 // Return early to skip the base game's takeTurn logic for this move
                 return SpireReturn.Return(null);
@@ -4,11 +4,13 @@ import com.evacipated.cardcrawl.modthespire.lib.SpireInsertPatch;
 import com.evacipated.cardcrawl.modthespire.lib.SpirePatch;
 import com.evacipated.cardcrawl.modthespire.lib.SpirePostfixPatch;
 import com.megacrit.cardcrawl.actions.common.MakeTempCardInDiscardAction;
+import com.megacrit.cardcrawl.cards.AbstractCard;
 import com.megacrit.cardcrawl.cards.curses.AscendersBane;
 import com.megacrit.cardcrawl.cards.curses.Clumsy;
-import com.megacrit.cardcrawl.core.CardCrawlGame;
 import com.megacrit.cardcrawl.dungeons.AbstractDungeon;
-import com.megacrit.cardcrawl.localization.CardStrings;
+import com.stsmod.ascension100.util.AscensionLog;
+import com.stsmod.ascension100.util.AscensionRuleSet;
+import com.stsmod.ascension100.util.ModStrings;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -36,19 +38,14 @@ public class Level34 {
     public static class ModifyAscendersBane {
         @SpirePostfixPatch
         public static void Postfix(AscendersBane __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 34 || AbstractDungeon.ascensionLevel >= 80) {
+            if (!AscensionRuleSet.isActive(34) || AscensionRuleSet.isActive(80)) {
                 return;
             }
 
-            // Load localized description from CardStrings
-            CardStrings cardStrings = CardCrawlGame.languagePack.getCardStrings("Ascension100:AscendersBaneLevel30");
-            if (cardStrings != null && cardStrings.DESCRIPTION != null) {
-                __instance.rawDescription = cardStrings.DESCRIPTION;
-                __instance.initializeDescription();
-                logger.info("Ascension 34: AscendersBane description updated (adds Clumsy at end of turn)");
-            } else {
-                logger.error("Failed to load CardStrings for AscendersBane Level 34");
-            }
+            // Localized description, resolved once by ModStrings
+            __instance.rawDescription = ModStrings.ascendersBane34Description;
+            __instance.initializeDescription();
+            AscensionLog.trace(logger, "Ascension 34: AscendersBane description updated (adds Clumsy at end of turn)");
         }
     }
 
@@ -66,15 +63,16 @@ public class Level34 {
     public static class AddClumsyOnEndOfTurn {
         @SpirePostfixPatch
         public static void Postfix(com.megacrit.cardcrawl.actions.GameActionManager __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 34 || AbstractDungeon.ascensionLevel >= 80) {
+            if (!AscensionRuleSet.isActive(34) || AscensionRuleSet.isActive(80)) {
                 return;
             }
 
             // Check if AscendersBane is in hand
             // This happens after triggerOnEndOfTurnForPlayingCard is called for all cards
+            // The hand holds at most 10 cards, so a scan is cheaper than tracking it
             boolean hasAscendersBane = false;
-            for (com.megacrit.cardcrawl.cards.AbstractCard card : AbstractDungeon.player.hand.group) {
-                if (card.cardID != null && card.cardID.equals(AscendersBane.ID)) {
+            for (AbstractCard card : AbstractDungeon.player.hand.group) {
+                if (AscendersBane.ID.equals(card.cardID)) {
                     hasAscendersBane = true;
                     break;
                 }
@@ -86,7 +84,7 @@ public class Level34 {
                     new MakeTempCardInDiscardAction(new Clumsy(), 1)
                 );
 
-                logger.info("Ascension 34: Added Clumsy to discard pile (AscendersBane in hand at end of turn)");
+                AscensionLog.trace(logger, "Ascension 34: Added Clumsy to discard pile (AscendersBane in hand at end of turn)");
             }
         }
     }
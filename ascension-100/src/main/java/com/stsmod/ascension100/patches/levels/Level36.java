@@ -38,11 +38,13 @@ import com.megacrit.cardcrawl.cards.AbstractCard;
 import com.megacrit.cardcrawl.cards.status.Wound;
 import com.megacrit.cardcrawl.cards.status.Burn;
 import com.megacrit.cardcrawl.actions.unique.SummonGremlinAction;
+import com.stsmod.ascension100.util.AscensionLog;
+import com.stsmod.ascension100.util.AscensionRuleSet;
+import com.stsmod.ascension100.util.FieldAccessor;
+import com.stsmod.ascension100.util.ReflectionCache;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
-import java.lang.reflect.Field;
-
 /**
  * Ascension Level 36: Elite monster enhancements
  *
@@ -76,7 +78,7 @@ public class Level36 {
     public static class GremlinNobDamagePatch {
         @SpirePrefixPatch
         public static void Prefix(GremlinNob __instance, float x, float y) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 36) {
+            if (!AscensionRuleSet.isActive(36)) {
                 return;
             }
 
@@ -96,10 +98,12 @@ public class Level36 {
                     // Skull Bash -5
                     bashDmg.base = Math.max(1, bashDmg.base - 5);
 
-                    logger.info(String.format(
-                        "Ascension 36: Gremlin Nob damage adjusted - Rush: %d→%d (+3), Skull Bash: %d→%d (-5)",
-                        originalRush, rushDmg.base, originalBash, bashDmg.base
-                    ));
+                    if (AscensionLog.isTracing()) {
+                        logger.info(String.format(
+                            "Ascension 36: Gremlin Nob damage adjusted - Rush: %d→%d (+3), Skull Bash: %d→%d (-5)",
+                            originalRush, rushDmg.base, originalBash, bashDmg.base
+                        ));
+                    }
                 }
             } catch (Exception e) {
                 logger.error("Failed to modify Gremlin Nob damage", e);
@@ -108,7 +112,7 @@ public class Level36 {
 
         @SpirePostfixPatch
         public static void Postfix(GremlinNob __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 36) {
+            if (!AscensionRuleSet.isActive(36)) {
                 return;
             }
 
@@ -117,10 +121,12 @@ public class Level36 {
             __instance.maxHealth = MathUtils.ceil(__instance.maxHealth * 1.10f);
             __instance.currentHealth = MathUtils.ceil(__instance.currentHealth * 1.10f);
 
-            logger.info(String.format(
-                "Ascension 36: Gremlin Nob HP increased from %d to %d (+10%%)",
-                originalHP, __instance.maxHealth
-            ));
+            if (AscensionLog.isTracing()) {
+                logger.info(String.format(
+                    "Ascension 36: Gremlin Nob HP increased from %d to %d (+10%%)",
+                    originalHP, __instance.maxHealth
+                ));
+            }
         }
     }
 
@@ -134,7 +140,7 @@ public class Level36 {
     public static class GremlinNobBellowPatch {
         @SpirePostfixPatch
         public static void Postfix(GremlinNob __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 36) {
+            if (!AscensionRuleSet.isActive(36)) {
                 return;
             }
 
@@ -147,7 +153,7 @@ public class Level36 {
                     )
                 );
 
-                logger.info("Ascension 36: Gremlin Nob applied Vulnerable 1 to self on Bellow");
+                AscensionLog.trace(logger, "Ascension 36: Gremlin Nob applied Vulnerable 1 to self on Bellow");
             }
         }
     }
@@ -167,7 +173,7 @@ public class Level36 {
     public static class LagavulinHPPatch {
         @SpirePostfixPatch
         public static void Postfix(Lagavulin __instance, boolean setAsleep) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 36) {
+            if (!AscensionRuleSet.isActive(36)) {
                 return;
             }
 
@@ -175,10 +181,12 @@ public class Level36 {
             __instance.maxHealth = MathUtils.ceil(__instance.maxHealth * 1.05f);
             __instance.currentHealth = MathUtils.ceil(__instance.currentHealth * 1.05f);
 
-            logger.info(String.format(
-                "Ascension 36: Lagavulin HP increased from %d to %d (+5%%)",
-                originalHP, __instance.maxHealth
-            ));
+            if (AscensionLog.isTracing()) {
+                logger.info(String.format(
+                    "Ascension 36: Lagavulin HP increased from %d to %d (+5%%)",
+                    originalHP, __instance.maxHealth
+                ));
+            }
         }
     }
 
@@ -195,7 +203,7 @@ public class Level36 {
     public static class LagavulinSleepPatch {
         @SpirePrefixPatch
         public static void Prefix(Lagavulin __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 36) {
+            if (!AscensionRuleSet.isActive(36)) {
                 return;
             }
 
@@ -203,8 +211,7 @@ public class Level36 {
                 // IDLE = byte 5
                 if (__instance.nextMove == 5) {
                     // Access private idleCount field
-                    Field idleCountField = Lagavulin.class.getDeclaredField("idleCount");
-                    idleCountField.setAccessible(true);
+                    FieldAccessor idleCountField = ReflectionCache.LAGAVULIN_IDLE_COUNT;
                     int currentIdleCount = idleCountField.getInt(__instance);
 
                     // When idleCount == 2 (would become 3 this turn), reset to 1 (once only)
@@ -212,7 +219,7 @@ public class Level36 {
                     if (currentIdleCount == 2 && !lagavulinSleepExtended.getOrDefault(__instance, false)) {
                         idleCountField.setInt(__instance, 1);
                         lagavulinSleepExtended.put(__instance, true);
-                        logger.info("Ascension 36: Lagavulin sleep extended by 1 turn (idleCount reset 2→1 before takeTurn)");
+                        AscensionLog.trace(logger, "Ascension 36: Lagavulin sleep extended by 1 turn (idleCount reset 2→1 before takeTurn)");
                     }
                 }
             } catch (Exception e) {
@@ -236,7 +243,7 @@ public class Level36 {
     public static class SentryCenterStatsPatch {
         @SpirePostfixPatch
         public static void Postfix(Sentry __instance, float x, float y) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 36) {
+            if (!AscensionRuleSet.isActive(36)) {
                 return;
             }
 
@@ -254,10 +261,12 @@ public class Level36 {
                     int originalDmg = beamDmg.base;
                     beamDmg.base += 1;
 
-                    logger.info(String.format(
-                        "Ascension 36: Center Sentry enhanced - HP: %d→%d (+10), Beam attack: %d→%d (+1)",
-                        originalHP, __instance.maxHealth, originalDmg, beamDmg.base
-                    ));
+                    if (AscensionLog.isTracing()) {
+                        logger.info(String.format(
+                            "Ascension 36: Center Sentry enhanced - HP: %d→%d (+10), Beam attack: %d→%d (+1)",
+                            originalHP, __instance.maxHealth, originalDmg, beamDmg.base
+                        ));
+                    }
                 }
             }
         }
@@ -277,7 +286,7 @@ public class Level36 {
     public static class BookOfStabbingPatch {
         @SpirePostfixPatch
         public static void Postfix(BookOfStabbing __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 36) {
+            if (!AscensionRuleSet.isActive(36)) {
                 return;
             }
 
@@ -289,18 +298,19 @@ public class Level36 {
                     stabDmg.base = Math.max(1, stabDmg.base - 2);
                     stabDmg.output = stabDmg.base; // Update output too
 
-                    logger.info(String.format(
-                        "Ascension 36: Book of Stabbing stab damage reduced from %d to %d (-2)",
-                        originalDmg, stabDmg.base
-                    ));
+                    if (AscensionLog.isTracing()) {
+                        logger.info(String.format(
+                            "Ascension 36: Book of Stabbing stab damage reduced from %d to %d (-2)",
+                            originalDmg, stabDmg.base
+                        ));
+                    }
                 }
 
                 // Increase initial stabCount from 1 to 2
-                Field stabCountField = BookOfStabbing.class.getDeclaredField("stabCount");
-                stabCountField.setAccessible(true);
+                FieldAccessor stabCountField = ReflectionCache.BOOK_OF_STABBING_STAB_COUNT;
                 stabCountField.setInt(__instance, 2);
 
-                logger.info("Ascension 36: Book of Stabbing initial stab count set to 2 (+1)");
+                AscensionLog.trace(logger, "Ascension 36: Book of Stabbing initial stab count set to 2 (+1)");
             } catch (Exception e) {
                 logger.error("Failed to modify Book of Stabbing stats", e);
             }
@@ -317,7 +327,7 @@ public class Level36 {
     public static class BookOfStabbingSingleStabPatch {
         @SpirePostfixPatch
         public static void Postfix(BookOfStabbing __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 36) {
+            if (!AscensionRuleSet.isActive(36)) {
                 return;
             }
 
@@ -330,7 +340,7 @@ public class Level36 {
                     )
                 );
 
-                logger.info("Ascension 36: Book of Stabbing Single Stab grants Strength 1");
+                AscensionLog.trace(logger, "Ascension 36: Book of Stabbing Single Stab grants Strength 1");
             }
         }
     }
@@ -352,14 +362,14 @@ public class Level36 {
                 return;
             }
 
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 36) {
+            if (!AscensionRuleSet.isActive(36)) {
                 return;
             }
 
             // If this is BIG_STAB move (byte 2), change Intent to ATTACK_BUFF
             if (nextMove == 2 && intent[0] == AbstractMonster.Intent.ATTACK) {
                 intent[0] = AbstractMonster.Intent.ATTACK_BUFF;
-                logger.info("Ascension 36: Book of Stabbing Single Stab Intent changed to ATTACK_BUFF");
+                AscensionLog.trace(logger, "Ascension 36: Book of Stabbing Single Stab Intent changed to ATTACK_BUFF");
             }
         }
     }
@@ -378,21 +388,22 @@ public class Level36 {
     public static class GremlinLeaderBlockPatch {
         @SpirePostfixPatch
         public static void Postfix(GremlinLeader __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 36) {
+            if (!AscensionRuleSet.isActive(36)) {
                 return;
             }
 
             try {
                 // Set blockAmt to 5
-                Field blockAmtField = GremlinLeader.class.getDeclaredField("blockAmt");
-                blockAmtField.setAccessible(true);
+                FieldAccessor blockAmtField = ReflectionCache.GREMLIN_LEADER_BLOCK_AMT;
                 int originalBlock = blockAmtField.getInt(__instance);
                 blockAmtField.setInt(__instance, 5);
 
-                logger.info(String.format(
-                    "Ascension 36: Gremlin Leader Rally block amount changed from %d to 5",
-                    originalBlock
-                ));
+                if (AscensionLog.isTracing()) {
+                    logger.info(String.format(
+                        "Ascension 36: Gremlin Leader Rally block amount changed from %d to 5",
+                        originalBlock
+                    ));
+                }
             } catch (Exception e) {
                 logger.error("Failed to modify Gremlin Leader blockAmt", e);
             }
@@ -410,7 +421,7 @@ public class Level36 {
     public static class GremlinLeaderRallyPatch {
         @SpirePostfixPatch
         public static void Postfix(GremlinLeader __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 36) {
+            if (!AscensionRuleSet.isActive(36)) {
                 return;
             }
 
@@ -418,8 +429,7 @@ public class Level36 {
                 // ENCOURAGE = byte 3
                 if (__instance.nextMove == 3) {
                     // Get blockAmt field
-                    Field blockAmtField = GremlinLeader.class.getDeclaredField("blockAmt");
-                    blockAmtField.setAccessible(true);
+                    FieldAccessor blockAmtField = ReflectionCache.GREMLIN_LEADER_BLOCK_AMT;
                     int blockAmt = blockAmtField.getInt(__instance);
 
                     // Add block to the leader (in vanilla, leader only gets Strength)
@@ -427,10 +437,12 @@ public class Level36 {
                         new GainBlockAction(__instance, __instance, blockAmt)
                     );
 
-                    logger.info(String.format(
-                        "Ascension 36: Gremlin Leader Rally now gives %d block to all allies (including self)",
-                        blockAmt
-                    ));
+                    if (AscensionLog.isTracing()) {
+                        logger.info(String.format(
+                            "Ascension 36: Gremlin Leader Rally now gives %d block to all allies (including self)",
+                            blockAmt
+                        ));
+                    }
                 }
             } catch (Exception e) {
                 logger.error("Failed to add Rally block to Gremlin Leader", e);
@@ -448,7 +460,7 @@ public class Level36 {
     public static class GremlinLeaderHPPatch {
         @SpirePostfixPatch
         public static void Postfix(GremlinLeader __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 36) {
+            if (!AscensionRuleSet.isActive(36)) {
                 return;
             }
 
@@ -456,10 +468,12 @@ public class Level36 {
             __instance.maxHealth = MathUtils.ceil(__instance.maxHealth * 1.05f);
             __instance.currentHealth = MathUtils.ceil(__instance.currentHealth * 1.05f);
 
-            logger.info(String.format(
-                "Ascension 36: Gremlin Leader HP increased from %d to %d (+5%%)",
-                originalHP, __instance.maxHealth
-            ));
+            if (AscensionLog.isTracing()) {
+                logger.info(String.format(
+                    "Ascension 36: Gremlin Leader HP increased from %d to %d (+5%%)",
+                    originalHP, __instance.maxHealth
+                ));
+            }
         }
     }
 
@@ -473,7 +487,7 @@ public class Level36 {
     public static class GremlinMinionHPPatch {
         @SpirePostfixPatch
         public static void Postfix(AbstractMonster __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 36) {
+            if (!AscensionRuleSet.isActive(36)) {
                 return;
             }
 
@@ -488,10 +502,12 @@ public class Level36 {
                 __instance.maxHealth = MathUtils.ceil(__instance.maxHealth * 0.75f);
                 __instance.currentHealth = MathUtils.ceil(__instance.currentHealth * 0.75f);
 
-                logger.info(String.format(
-                    "Ascension 36: Gremlin minion %s HP decreased from %d to %d (-25%%)",
-                    __instance.name, originalHP, __instance.maxHealth
-                ));
+                if (AscensionLog.isTracing()) {
+                    logger.info(String.format(
+                        "Ascension 36: Gremlin minion %s HP decreased from %d to %d (-25%%)",
+                        __instance.name, originalHP, __instance.maxHealth
+                    ));
+                }
             }
         }
     }
@@ -506,7 +522,7 @@ public class Level36 {
     public static class GremlinLeaderRallySummonPatch {
         @SpirePostfixPatch
         public static void Postfix(GremlinLeader __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 36) {
+            if (!AscensionRuleSet.isActive(36)) {
                 return;
             }
 
@@ -514,8 +530,7 @@ public class Level36 {
                 // RALLY = byte 2
                 if (__instance.nextMove == 2) {
                     // Access gremlins array field
-                    Field gremlinsField = GremlinLeader.class.getDeclaredField("gremlins");
-                    gremlinsField.setAccessible(true);
+                    FieldAccessor gremlinsField = ReflectionCache.GREMLIN_LEADER_GREMLINS;
                     AbstractMonster[] gremlins = (AbstractMonster[]) gremlinsField.get(__instance);
 
                     // Count available slots in gremlins array (null or isDying)
@@ -546,10 +561,12 @@ public class Level36 {
                             );
                         }
 
-                        logger.info(String.format(
-                            "Ascension 36: Gremlin Leader Rally summoning %d gremlins (alive: %d, slots: %d, target: 3)",
-                            toSummon, aliveMinions, availableSlots
-                        ));
+                        if (AscensionLog.isTracing()) {
+                            logger.info(String.format(
+                                "Ascension 36: Gremlin Leader Rally summoning %d gremlins (alive: %d, slots: %d, target: 3)",
+                                toSummon, aliveMinions, availableSlots
+                            ));
+                        }
                     }
                 }
             } catch (Exception e) {
@@ -572,7 +589,7 @@ public class Level36 {
     public static class TaskmasterWoundPatch {
         @SpirePostfixPatch
         public static void Postfix(Taskmaster __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 36) {
+            if (!AscensionRuleSet.isActive(36)) {
                 return;
             }
 
@@ -582,7 +599,7 @@ public class Level36 {
                     new MakeTempCardInDiscardAction(new Wound(), 1)
                 );
 
-                logger.info("Ascension 36: Taskmaster Scouring Whip added 1 extra Wound");
+                AscensionLog.trace(logger, "Ascension 36: Taskmaster Scouring Whip added 1 extra Wound");
             }
         }
     }
@@ -601,7 +618,7 @@ public class Level36 {
     public static class GiantHeadHPPatch {
         @SpirePostfixPatch
         public static void Postfix(GiantHead __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 36) {
+            if (!AscensionRuleSet.isActive(36)) {
                 return;
             }
 
@@ -609,10 +626,12 @@ public class Level36 {
             __instance.maxHealth = MathUtils.ceil(__instance.maxHealth * 1.201f);
             __instance.currentHealth = MathUtils.ceil(__instance.currentHealth * 1.201f);
 
-            logger.info(String.format(
-                "Ascension 36: Giant Head HP increased from %d to %d (+20.1%%)",
-                originalHP, __instance.maxHealth
-            ));
+            if (AscensionLog.isTracing()) {
+                logger.info(String.format(
+                    "Ascension 36: Giant Head HP increased from %d to %d (+20.1%%)",
+                    originalHP, __instance.maxHealth
+                ));
+            }
         }
     }
 
@@ -630,11 +649,13 @@ public class Level36 {
     public static class NemesisExtraBurnPatch {
         @SpirePostfixPatch
         public static void Postfix(Nemesis __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 36) {
+            if (!AscensionRuleSet.isActive(36)) {
                 return;
             }
 
-            logger.info("Ascension 36: Nemesis takeTurn() called, nextMove = " + __instance.nextMove);
+            if (AscensionLog.isTracing()) {
+                logger.info("Ascension 36: Nemesis takeTurn() called, nextMove = " + __instance.nextMove);
+            }
 
             // TRI_BURN = byte 4
             if (__instance.nextMove == 4) {
@@ -643,7 +664,7 @@ public class Level36 {
                     new MakeTempCardInDrawPileAction(new Burn(), 1, true, true)
                 );
 
-                logger.info("Ascension 36: Nemesis Debuff added 1 extra Burn card to draw pile");
+                AscensionLog.trace(logger, "Ascension 36: Nemesis Debuff added 1 extra Burn card to draw pile");
             }
         }
     }
@@ -663,7 +684,7 @@ public class Level36 {
     public static class ReptomancerWeakPatch {
         @SpirePostfixPatch
         public static void Postfix(Reptomancer __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 36) {
+            if (!AscensionRuleSet.isActive(36)) {
                 return;
             }
 
@@ -676,14 +697,13 @@ public class Level36 {
                         ApplyPowerAction applyAction = (ApplyPowerAction) action;
                         // Check if it's applying WeakPower with amount 1
                         try {
-                            Field powerField = ApplyPowerAction.class.getDeclaredField("powerToApply");
-                            powerField.setAccessible(true);
+                            FieldAccessor powerField = ReflectionCache.APPLY_POWER_ACTION_POWER_TO_APPLY;
                             AbstractPower power = (AbstractPower) powerField.get(applyAction);
 
                             if (power instanceof WeakPower && power.amount == 1) {
                                 // Change the amount from 1 to 2
                                 power.amount = 2;
-                                logger.info("Ascension 36: Reptomancer Snake Strike Weak increased from 1 to 2");
+                                AscensionLog.trace(logger, "Ascension 36: Reptomancer Snake Strike Weak increased from 1 to 2");
                                 break;
                             }
                         } catch (Exception e) {
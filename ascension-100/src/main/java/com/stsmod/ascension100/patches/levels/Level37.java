@@ -27,11 +27,14 @@ import com.megacrit.cardcrawl.monsters.exordium.SlimeBoss;
 import com.megacrit.cardcrawl.monsters.exordium.TheGuardian;
 import com.megacrit.cardcrawl.powers.*;
 import com.megacrit.cardcrawl.powers.MalleablePower;
+import com.stsmod.ascension100.util.AscensionLog;
+import com.stsmod.ascension100.util.AscensionRuleSet;
+import com.stsmod.ascension100.util.FieldAccessor;
+import com.stsmod.ascension100.util.ReflectionCache;
 import javassist.CtBehavior;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
-import java.lang.reflect.Field;
 import java.util.ArrayList;
 
 /**
@@ -47,7 +50,7 @@ public class Level37 {
     public static class SlimeBossStatsPatch {
         @SpirePostfixPatch
         public static void Postfix(SlimeBoss __instance) throws Exception {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 37) {
+            if (!AscensionRuleSet.isActive(37)) {
                 return;
             }
 
@@ -56,19 +59,19 @@ public class Level37 {
             __instance.maxHealth += 10;
             __instance.currentHealth += 10;
 
-            logger.info(String.format(
-                "Ascension 37: Slime Boss HP increased from %d to %d (+10)",
-                originalMaxHP, __instance.maxHealth
-            ));
+            if (AscensionLog.isTracing()) {
+                logger.info(String.format(
+                    "Ascension 37: Slime Boss HP increased from %d to %d (+10)",
+                    originalMaxHP, __instance.maxHealth
+                ));
+            }
 
             // Damage -12
-            Field tackleDmgField = SlimeBoss.class.getDeclaredField("tackleDmg");
-            tackleDmgField.setAccessible(true);
+            FieldAccessor tackleDmgField = ReflectionCache.SLIME_BOSS_TACKLE_DMG;
             int tackleDmg = tackleDmgField.getInt(__instance);
             tackleDmgField.setInt(__instance, Math.max(1, tackleDmg - 12));
 
-            Field slamDmgField = SlimeBoss.class.getDeclaredField("slamDmg");
-            slamDmgField.setAccessible(true);
+            FieldAccessor slamDmgField = ReflectionCache.SLIME_BOSS_SLAM_DMG;
             int slamDmg = slamDmgField.getInt(__instance);
             slamDmgField.setInt(__instance, Math.max(1, slamDmg - 12));
 
@@ -78,7 +81,7 @@ public class Level37 {
                 __instance.damage.get(1).base = Math.max(1, __instance.damage.get(1).base - 12);
             }
 
-            logger.info("Ascension 37: Slime Boss damage decreased by 12");
+            AscensionLog.trace(logger, "Ascension 37: Slime Boss damage decreased by 12");
         }
     }
 
@@ -86,7 +89,7 @@ public class Level37 {
     public static class SlimeBossVulnerablePatch {
         @SpirePostfixPatch
         public static void Postfix(SlimeBoss __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 37) {
+            if (!AscensionRuleSet.isActive(37)) {
                 return;
             }
 
@@ -96,7 +99,7 @@ public class Level37 {
                     new VulnerablePower(AbstractDungeon.player, 2, true), 2
                 ));
 
-                logger.info("Ascension 37: Slime Boss Goop Spray applies Vulnerable 2");
+                AscensionLog.trace(logger, "Ascension 37: Slime Boss Goop Spray applies Vulnerable 2");
             }
         }
     }
@@ -107,7 +110,7 @@ public class Level37 {
     public static class GuardianStatsPatch {
         @SpirePostfixPatch
         public static void Postfix(TheGuardian __instance) throws Exception {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 37) {
+            if (!AscensionRuleSet.isActive(37)) {
                 return;
             }
 
@@ -116,17 +119,18 @@ public class Level37 {
             __instance.maxHealth += 10;
             __instance.currentHealth += 10;
 
-            logger.info(String.format(
-                "Ascension 37: Guardian HP increased from %d to %d (+10)",
-                originalMaxHP, __instance.maxHealth
-            ));
+            if (AscensionLog.isTracing()) {
+                logger.info(String.format(
+                    "Ascension 37: Guardian HP increased from %d to %d (+10)",
+                    originalMaxHP, __instance.maxHealth
+                ));
+            }
 
             // Mode shift increase: 10 → 15
-            Field dmgThresholdIncreaseField = TheGuardian.class.getDeclaredField("dmgThresholdIncrease");
-            dmgThresholdIncreaseField.setAccessible(true);
+            FieldAccessor dmgThresholdIncreaseField = ReflectionCache.THE_GUARDIAN_DMG_THRESHOLD_INCREASE;
             dmgThresholdIncreaseField.setInt(__instance, 15);
 
-            logger.info("Ascension 37: Guardian mode shift increase changed from 10 to 15");
+            AscensionLog.trace(logger, "Ascension 37: Guardian mode shift increase changed from 10 to 15");
         }
     }
 
@@ -134,7 +138,7 @@ public class Level37 {
     public static class GuardianBarricadePatch {
         @SpirePostfixPatch
         public static void Postfix(TheGuardian __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 37) {
+            if (!AscensionRuleSet.isActive(37)) {
                 return;
             }
 
@@ -143,7 +147,7 @@ public class Level37 {
                 new BarricadePower(__instance)
             ));
 
-            logger.info("Ascension 37: Guardian gains Barricade");
+            AscensionLog.trace(logger, "Ascension 37: Guardian gains Barricade");
         }
     }
 
@@ -153,7 +157,7 @@ public class Level37 {
     public static class HexaghostStatsPatch {
         @SpirePostfixPatch
         public static void Postfix(Hexaghost __instance) throws Exception {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 37) {
+            if (!AscensionRuleSet.isActive(37)) {
                 return;
             }
 
@@ -162,14 +166,15 @@ public class Level37 {
             __instance.maxHealth += 16;
             __instance.currentHealth += 16;
 
-            logger.info(String.format(
-                "Ascension 37: Hexaghost HP increased from %d to %d (+16)",
-                originalMaxHP, __instance.maxHealth
-            ));
+            if (AscensionLog.isTracing()) {
+                logger.info(String.format(
+                    "Ascension 37: Hexaghost HP increased from %d to %d (+16)",
+                    originalMaxHP, __instance.maxHealth
+                ));
+            }
 
             // Inferno damage +1
-            Field infernoDmgField = Hexaghost.class.getDeclaredField("infernoDmg");
-            infernoDmgField.setAccessible(true);
+            FieldAccessor infernoDmgField = ReflectionCache.HEXAGHOST_INFERNO_DMG;
             int infernoDmg = infernoDmgField.getInt(__instance);
             infernoDmgField.setInt(__instance, infernoDmg + 1);
 
@@ -178,7 +183,7 @@ public class Level37 {
                 __instance.damage.get(3).base += 1;
             }
 
-            logger.info("Ascension 37: Hexaghost Inferno damage +1");
+            AscensionLog.trace(logger, "Ascension 37: Hexaghost Inferno damage +1");
         }
     }
 
@@ -188,7 +193,7 @@ public class Level37 {
     public static class BronzeOrbHPPatch {
         @SpirePostfixPatch
         public static void Postfix(BronzeOrb __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 37) {
+            if (!AscensionRuleSet.isActive(37)) {
                 return;
             }
 
@@ -196,10 +201,12 @@ public class Level37 {
             __instance.maxHealth = MathUtils.ceil(__instance.maxHealth * 1.30f);
             __instance.currentHealth = MathUtils.ceil(__instance.currentHealth * 1.30f);
 
-            logger.info(String.format(
-                "Ascension 37: Bronze Orb HP increased from %d to %d (+30%%)",
-                originalMaxHP, __instance.maxHealth
-            ));
+            if (AscensionLog.isTracing()) {
+                logger.info(String.format(
+                    "Ascension 37: Bronze Orb HP increased from %d to %d (+30%%)",
+                    originalMaxHP, __instance.maxHealth
+                ));
+            }
         }
     }
 
@@ -207,7 +214,7 @@ public class Level37 {
     public static class BronzeOrbDamagePatch {
         @SpirePostfixPatch
         public static void Postfix(BronzeOrb __instance, float x, float y, int count) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 37) {
+            if (!AscensionRuleSet.isActive(37)) {
                 return;
             }
 
@@ -217,10 +224,12 @@ public class Level37 {
                 __instance.damage.get(0).base = Math.max(1, originalDmg - 2);
                 __instance.damage.get(0).output = __instance.damage.get(0).base;
 
-                logger.info(String.format(
-                    "Ascension 37: Bronze Orb attack damage reduced from %d to %d (-2)",
-                    originalDmg, __instance.damage.get(0).base
-                ));
+                if (AscensionLog.isTracing()) {
+                    logger.info(String.format(
+                        "Ascension 37: Bronze Orb attack damage reduced from %d to %d (-2)",
+                        originalDmg, __instance.damage.get(0).base
+                    ));
+                }
             }
         }
     }
@@ -229,7 +238,7 @@ public class Level37 {
     public static class BronzeOrbArtifactPatch {
         @SpirePostfixPatch
         public static void Postfix(BronzeOrb __instance, float x, float y, int count) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 37) {
+            if (!AscensionRuleSet.isActive(37)) {
                 return;
             }
 
@@ -239,7 +248,7 @@ public class Level37 {
                 new ArtifactPower(__instance, 2), 2
             ));
 
-            logger.info("Ascension 37: Bronze Orb gains 2 Artifact on spawn");
+            AscensionLog.trace(logger, "Ascension 37: Bronze Orb gains 2 Artifact on spawn");
         }
     }
 
@@ -261,17 +270,19 @@ public class Level37 {
                 return;
             }
 
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 37) {
+            if (!AscensionRuleSet.isActive(37)) {
                 return;
             }
 
             // If this is the BEAM move (byte 1) with hardcoded damage 8, correct it
             if (nextMove == 1 && damage[0] == 8 && !__instance.damage.isEmpty()) {
                 int correctedDamage = __instance.damage.get(0).base;
-                logger.info(String.format(
-                    "Ascension 37: Bronze Orb setMove intercepted - correcting damage %d → %d",
-                    damage[0], correctedDamage
-                ));
+                if (AscensionLog.isTracing()) {
+                    logger.info(String.format(
+                        "Ascension 37: Bronze Orb setMove intercepted - correcting damage %d → %d",
+                        damage[0], correctedDamage
+                    ));
+                }
                 damage[0] = correctedDamage;
             }
         }
@@ -283,13 +294,12 @@ public class Level37 {
     public static class ChampAngerThresholdPatch {
         @SpirePrefixPatch
         public static SpireReturn<Void> Prefix(Champ __instance, int num) throws Exception {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 37) {
+            if (!AscensionRuleSet.isActive(37)) {
                 return SpireReturn.Continue();
             }
 
             // Check if health is below 60% instead of 50%
-            Field thresholdReachedField = Champ.class.getDeclaredField("thresholdReached");
-            thresholdReachedField.setAccessible(true);
+            FieldAccessor thresholdReachedField = ReflectionCache.CHAMP_THRESHOLD_REACHED;
             boolean thresholdReached = thresholdReachedField.getBoolean(__instance);
 
             if (!thresholdReached && __instance.currentHealth < __instance.maxHealth * 0.6f) {
@@ -297,7 +307,7 @@ public class Level37 {
                 __instance.setMove((byte)7, AbstractMonster.Intent.BUFF);
                 __instance.createIntent();
 
-                logger.info("Ascension 37: Champ Anger threshold changed to 60%");
+                AscensionLog.trace(logger, "Ascension 37: Champ Anger threshold changed to 60%");
 
                 // Return early to prevent getMove from continuing (like original code)
                 return SpireReturn.Return(null);
@@ -313,7 +323,7 @@ public class Level37 {
     public static class TorchHeadStatsPatch {
         @SpirePostfixPatch
         public static void Postfix(TorchHead __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 37) {
+            if (!AscensionRuleSet.isActive(37)) {
                 return;
             }
 
@@ -328,10 +338,12 @@ public class Level37 {
                 __instance.damage.get(0).base += 2;
                 __instance.damage.get(0).output = __instance.damage.get(0).base;
 
-                logger.info(String.format(
-                    "Ascension 37: Torch Head stats increased - HP: %d→%d (+5), Tackle damage: %d→%d (+2)",
-                    originalMaxHP, __instance.maxHealth, originalDmg, __instance.damage.get(0).base
-                ));
+                if (AscensionLog.isTracing()) {
+                    logger.info(String.format(
+                        "Ascension 37: Torch Head stats increased - HP: %d→%d (+5), Tackle damage: %d→%d (+2)",
+                        originalMaxHP, __instance.maxHealth, originalDmg, __instance.damage.get(0).base
+                    ));
+                }
             }
         }
     }
@@ -343,7 +355,7 @@ public class Level37 {
     public static class TorchHeadGetMovePatch {
         @SpirePostfixPatch
         public static void Postfix(TorchHead __instance, int num) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 37) {
+            if (!AscensionRuleSet.isActive(37)) {
                 return;
             }
 
@@ -353,10 +365,12 @@ public class Level37 {
             __instance.setMove((byte)1, AbstractMonster.Intent.ATTACK, correctedDamage);
             __instance.createIntent();
 
-            logger.info(String.format(
-                "Ascension 37: Torch Head getMove intent corrected to %d damage",
-                correctedDamage
-            ));
+            if (AscensionLog.isTracing()) {
+                logger.info(String.format(
+                    "Ascension 37: Torch Head getMove intent corrected to %d damage",
+                    correctedDamage
+                ));
+            }
         }
     }
 
@@ -368,7 +382,7 @@ public class Level37 {
     public static class TorchHeadTakeTurnPatch {
         @SpirePostfixPatch
         public static void Postfix(TorchHead __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 37) {
+            if (!AscensionRuleSet.isActive(37)) {
                 return;
             }
 
@@ -381,8 +395,7 @@ public class Level37 {
                 if (action instanceof com.megacrit.cardcrawl.actions.common.SetMoveAction) {
                     try {
                         // Access private fields to modify the SetMoveAction
-                        java.lang.reflect.Field theNextDamageField = com.megacrit.cardcrawl.actions.common.SetMoveAction.class.getDeclaredField("theNextDamage");
-                        theNextDamageField.setAccessible(true);
+                        FieldAccessor theNextDamageField = ReflectionCache.SET_MOVE_ACTION_THE_NEXT_DAMAGE;
 
                         // Get current damage value
                         int currentDamage = theNextDamageField.getInt(action);
@@ -392,10 +405,12 @@ public class Level37 {
                             int correctedDamage = __instance.damage.get(0).base;
                             theNextDamageField.setInt(action, correctedDamage);
 
-                            logger.info(String.format(
-                                "Ascension 37: Torch Head SetMoveAction theNextDamage corrected from 7 to %d",
-                                correctedDamage
-                            ));
+                            if (AscensionLog.isTracing()) {
+                                logger.info(String.format(
+                                    "Ascension 37: Torch Head SetMoveAction theNextDamage corrected from 7 to %d",
+                                    correctedDamage
+                                ));
+                            }
                             break;
                         }
                     } catch (Exception e) {
@@ -422,7 +437,7 @@ public class Level37 {
                 return;
             }
 
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 37) {
+            if (!AscensionRuleSet.isActive(37)) {
                 return;
             }
 
@@ -461,7 +476,7 @@ public class Level37 {
                         new SetMoveAction(__instance, (byte)99, AbstractMonster.Intent.UNKNOWN)
                     );
 
-                    logger.info("Ascension 37: Cultist is now half dead, set ??? intent");
+                    AscensionLog.trace(logger, "Ascension 37: Cultist is now half dead, set ??? intent");
                 }
             } catch (Exception e) {
                 logger.error("Ascension 37: Error in Cultist damage patch", e);
@@ -476,7 +491,7 @@ public class Level37 {
     public static class CultistCannotDie {
         @SpirePrefixPatch
         public static SpireReturn<Void> Prefix(Cultist __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 37) {
+            if (!AscensionRuleSet.isActive(37)) {
                 return SpireReturn.Continue();
             }
 
@@ -491,7 +506,7 @@ public class Level37 {
 
             // If Awakened One is alive, prevent Cultist death
             if (awakenedAlive) {
-                logger.info("Ascension 37: Cultist die() blocked - Awakened One is alive");
+                AscensionLog.trace(logger, "Ascension 37: Cultist die() blocked - Awakened One is alive");
                 return SpireReturn.Return();
             }
 
@@ -507,15 +522,17 @@ public class Level37 {
     public static class CultistReviveTakeTurn {
         @SpirePrefixPatch
         public static SpireReturn<Void> Prefix(Cultist __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 37) {
+            if (!AscensionRuleSet.isActive(37)) {
                 return SpireReturn.Continue();
             }
 
-            logger.info("Ascension 37: Cultist takeTurn() called, nextMove = " + __instance.nextMove);
+            if (AscensionLog.isTracing()) {
+                logger.info("Ascension 37: Cultist takeTurn() called, nextMove = " + __instance.nextMove);
+            }
 
             // Case 99: Death turn - do nothing, just wait
             if (__instance.nextMove == 99) {
-                logger.info("Ascension 37: Cultist death turn - doing nothing");
+                AscensionLog.trace(logger, "Ascension 37: Cultist death turn - doing nothing");
                 AbstractDungeon.actionManager.addToBottom(
                     new RollMoveAction(__instance)
                 );
@@ -524,7 +541,7 @@ public class Level37 {
 
             // Case 98: Revival turn - actually revive
             if (__instance.nextMove == 98) {
-                logger.info("Ascension 37: Cultist revival turn - reviving now");
+                AscensionLog.trace(logger, "Ascension 37: Cultist revival turn - reviving now");
 
                 // Revive with full HP
                 __instance.currentHealth = 0;
@@ -537,8 +554,7 @@ public class Level37 {
 
                 // Reset firstMove flag to start with Incantation
                 try {
-                    Field firstMoveField = Cultist.class.getDeclaredField("firstMove");
-                    firstMoveField.setAccessible(true);
+                    FieldAccessor firstMoveField = ReflectionCache.CULTIST_FIRST_MOVE;
                     firstMoveField.setBoolean(__instance, true);
                 } catch (Exception e) {
                     logger.error("Ascension 37: Failed to reset Cultist firstMove", e);
@@ -549,7 +565,7 @@ public class Level37 {
                     new RollMoveAction(__instance)
                 );
 
-                logger.info("Ascension 37: Cultist revived with full HP, starting with Incantation");
+                AscensionLog.trace(logger, "Ascension 37: Cultist revived with full HP, starting with Incantation");
                 return SpireReturn.Return();
             }
 
@@ -564,12 +580,12 @@ public class Level37 {
     public static class CultistReviveGetMove {
         @SpirePrefixPatch
         public static SpireReturn<Void> Prefix(Cultist __instance, int num) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 37) {
+            if (!AscensionRuleSet.isActive(37)) {
                 return SpireReturn.Continue();
             }
 
             if (__instance.halfDead) {
-                logger.info("Ascension 37: Cultist getMove() while halfDead - setting revival intent");
+                AscensionLog.trace(logger, "Ascension 37: Cultist getMove() while halfDead - setting revival intent");
                 __instance.setMove((byte)98, AbstractMonster.Intent.BUFF);
                 return SpireReturn.Return();
             }
@@ -584,7 +600,7 @@ public class Level37 {
     public static class TimeEaterHPPatch {
         @SpirePostfixPatch
         public static void Postfix(TimeEater __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 37) {
+            if (!AscensionRuleSet.isActive(37)) {
                 return;
             }
 
@@ -592,10 +608,12 @@ public class Level37 {
             __instance.maxHealth += 30;
             __instance.currentHealth += 30;
 
-            logger.info(String.format(
-                "Ascension 37: Time Eater HP increased from %d to %d (+30)",
-                originalMaxHP, __instance.maxHealth
-            ));
+            if (AscensionLog.isTracing()) {
+                logger.info(String.format(
+                    "Ascension 37: Time Eater HP increased from %d to %d (+30)",
+                    originalMaxHP, __instance.maxHealth
+                ));
+            }
         }
     }
 
@@ -605,7 +623,7 @@ public class Level37 {
     public static class DonuMalleablePatch {
         @SpirePostfixPatch
         public static void Postfix(Donu __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 37) {
+            if (!AscensionRuleSet.isActive(37)) {
                 return;
             }
 
@@ -615,7 +633,7 @@ public class Level37 {
                 new MalleablePower(__instance, 2), 2
             ));
 
-            logger.info("Ascension 37: Donu gains 2 Malleable at battle start");
+            AscensionLog.trace(logger, "Ascension 37: Donu gains 2 Malleable at battle start");
         }
     }
 
@@ -625,7 +643,7 @@ public class Level37 {
     public static class DecaPlatedArmorPatch {
         @SpirePostfixPatch
         public static void Postfix(Deca __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 37) {
+            if (!AscensionRuleSet.isActive(37)) {
                 return;
             }
 
@@ -638,7 +656,7 @@ public class Level37 {
                     ));
                 }
 
-                logger.info("Ascension 37: Deca Square of Protection grants +2 extra Plated Armor");
+                AscensionLog.trace(logger, "Ascension 37: Deca Square of Protection grants +2 extra Plated Armor");
             }
         }
     }
@@ -3,6 +3,8 @@ package com.stsmod.ascension100.patches.levels;
 import com.badlogic.gdx.math.MathUtils;
 import com.evacipated.cardcrawl.modthespire.lib.*;
 import com.megacrit.cardcrawl.dungeons.AbstractDungeon;
+import com.stsmod.ascension100.util.AscensionLog;
+import com.stsmod.ascension100.util.AscensionRuleSet;
 import javassist.CtBehavior;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -41,7 +43,7 @@ public class Level38 {
             locator = HealLocator.class
         )
         public static void Insert() {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 38) {
+            if (!AscensionRuleSet.isActive(38)) {
                 return;
             }
 
@@ -66,10 +68,12 @@ public class Level38 {
                     AbstractDungeon.player.currentHealth = 1;
                 }
 
-                logger.info(String.format(
-                    "Ascension 38: Boss heal reduced by %d HP (75%% → 70%%). Will heal %d instead of %d",
-                    reduction, reducedHeal, vanillaHeal
-                ));
+                if (AscensionLog.isTracing()) {
+                    logger.info(String.format(
+                        "Ascension 38: Boss heal reduced by %d HP (75%% → 70%%). Will heal %d instead of %d",
+                        reduction, reducedHeal, vanillaHeal
+                    ));
+                }
             }
         }
     }
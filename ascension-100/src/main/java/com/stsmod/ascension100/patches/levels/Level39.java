@@ -5,6 +5,8 @@ import com.evacipated.cardcrawl.modthespire.lib.SpirePatch;
 import com.evacipated.cardcrawl.modthespire.lib.SpirePostfixPatch;
 import com.megacrit.cardcrawl.dungeons.AbstractDungeon;
 import com.megacrit.cardcrawl.vfx.campfire.CampfireSleepEffect;
+import com.stsmod.ascension100.util.AscensionLog;
+import com.stsmod.ascension100.util.AscensionRuleSet;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -32,7 +34,7 @@ public class Level39 {
     public static class RestHealReduction {
         @SpirePostfixPatch
         public static void Postfix(CampfireSleepEffect __instance, @ByRef int[] ___healAmount) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 39) {
+            if (!AscensionRuleSet.isActive(39)) {
                 return;
             }
 
@@ -40,10 +42,12 @@ public class Level39 {
             int reduction = (int)(AbstractDungeon.player.maxHealth * HEAL_REDUCTION);
             ___healAmount[0] = Math.max(1, originalHeal - reduction);
 
-            logger.info(String.format(
-                "Ascension 39: Rest heal reduced from %d to %d (-%d, -3%%)",
-                originalHeal, ___healAmount[0], reduction
-            ));
+            if (AscensionLog.isTracing()) {
+                logger.info(String.format(
+                    "Ascension 39: Rest heal reduced from %d to %d (-%d, -3%%)",
+                    originalHeal, ___healAmount[0], reduction
+                ));
+            }
         }
     }
 }
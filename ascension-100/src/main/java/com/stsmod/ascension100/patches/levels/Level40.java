@@ -12,11 +12,14 @@ import com.megacrit.cardcrawl.monsters.AbstractMonster;
 import com.megacrit.cardcrawl.monsters.beyond.WrithingMass;
 import com.megacrit.cardcrawl.powers.AbstractPower;
 import com.megacrit.cardcrawl.powers.ReactivePower;
+import com.stsmod.ascension100.util.AscensionLog;
+import com.stsmod.ascension100.util.AscensionRuleSet;
+import com.stsmod.ascension100.util.MethodAccessor;
+import com.stsmod.ascension100.util.ReflectionCache;
+import com.stsmod.ascension100.util.RngRecorder;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
-import java.lang.reflect.Method;
-
 /**
  * Ascension Level 40: Enemy actions adapt to player situation
  * 적들의 행동이 때때로 당신의 상황에 맞춰 결정됩니다.
@@ -28,6 +31,10 @@ import java.lang.reflect.Method;
 public class Level40 {
     private static final Logger logger = LogManager.getLogger(Level40.class.getName());
 
+    // RNG call sites (see RngRecorder)
+    private static final int WRITHING_MASS_MOVE = RngRecorder.site("Level40.writhingMassMove", RngRecorder.Stream.AI);
+    private static final int WRITHING_MASS_SIDE = RngRecorder.site("Level40.writhingMassSide", RngRecorder.Stream.AI);
+
     /**
      * Patch WrithingMass ReactivePower to adapt pattern based on player state
      */
@@ -43,7 +50,7 @@ public class Level40 {
             int damageAmount
         ) {
             // Only apply on ascension 40+
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 40) {
+            if (!AscensionRuleSet.isActive(40)) {
                 return SpireReturn.Continue();
             }
 
@@ -71,20 +78,20 @@ public class Level40 {
 
                 if (shouldUseImplant) {
                     // Force MEGA_DEBUFF pattern (10-19 range)
-                    targetMove = AbstractDungeon.aiRng.random(10, 19);
-                    logger.info("[Asc40] WrithingMass: Forcing IMPLANT pattern");
+                    targetMove = RngRecorder.random(WRITHING_MASS_MOVE, AbstractDungeon.aiRng, 10, 19);
+                    AscensionLog.trace(logger, "[Asc40] WrithingMass: Forcing IMPLANT pattern");
                 } else if (shouldAvoidMultiHit) {
                     // Avoid MULTI_HIT pattern (40-69 range)
                     // Use 0-39 or 70-99 instead
-                    if (AbstractDungeon.aiRng.randomBoolean()) {
-                        targetMove = AbstractDungeon.aiRng.random(0, 39);
+                    if (RngRecorder.randomBoolean(WRITHING_MASS_SIDE, AbstractDungeon.aiRng)) {
+                        targetMove = RngRecorder.random(WRITHING_MASS_MOVE, AbstractDungeon.aiRng, 0, 39);
                     } else {
-                        targetMove = AbstractDungeon.aiRng.random(70, 99);
+                        targetMove = RngRecorder.random(WRITHING_MASS_MOVE, AbstractDungeon.aiRng, 70, 99);
                     }
-                    logger.info("[Asc40] WrithingMass: Avoiding MULTI_HIT pattern due to low strength");
+                    AscensionLog.trace(logger, "[Asc40] WrithingMass: Avoiding MULTI_HIT pattern due to low strength");
                 } else {
                     // Normal random
-                    targetMove = AbstractDungeon.aiRng.random(0, 99);
+                    targetMove = RngRecorder.random(WRITHING_MASS_MOVE, AbstractDungeon.aiRng, 0, 99);
                 }
 
                 // Call getMove with calculated number
@@ -119,17 +126,21 @@ public class Level40 {
             boolean highBlock = (monster.currentBlock >= 20);
 
             if (noAttackCards) {
-                logger.info(String.format(
-                    "[Asc40] IMPLANT trigger: No attack cards in hand (hand size: %d)",
-                    hand.group.size()
-                ));
+                if (AscensionLog.isTracing()) {
+                    logger.info(String.format(
+                        "[Asc40] IMPLANT trigger: No attack cards in hand (hand size: %d)",
+                        hand.group.size()
+                    ));
+                }
             }
 
             if (highBlock) {
-                logger.info(String.format(
-                    "[Asc40] IMPLANT trigger: High block (%d >= 20)",
-                    monster.currentBlock
-                ));
+                if (AscensionLog.isTracing()) {
+                    logger.info(String.format(
+                        "[Asc40] IMPLANT trigger: High block (%d >= 20)",
+                        monster.currentBlock
+                    ));
+                }
             }
 
             return noAttackCards || highBlock;
@@ -143,10 +154,12 @@ public class Level40 {
             AbstractPower strengthPower = AbstractDungeon.player.getPower("Strength");
 
             if (strengthPower != null && strengthPower.amount < -2) {
-                logger.info(String.format(
-                    "[Asc40] Avoiding MULTI_HIT: Player strength is %d (< -2)",
-                    strengthPower.amount
-                ));
+                if (AscensionLog.isTracing()) {
+                    logger.info(String.format(
+                        "[Asc40] Avoiding MULTI_HIT: Player strength is %d (< -2)",
+                        strengthPower.amount
+                    ));
+                }
                 return true;
             }
 
@@ -158,15 +171,15 @@ public class Level40 {
          */
         private static void invokeGetMove(AbstractMonster monster, int num) {
             try {
-                Method getMove = monster.getClass()
-                    .getDeclaredMethod("getMove", int.class);
-                getMove.setAccessible(true);
+                MethodAccessor getMove = ReflectionCache.ABSTRACT_MONSTER_GET_MOVE;
                 getMove.invoke(monster, num);
 
-                logger.info(String.format(
-                    "[Asc40] getMove(%d) invoked successfully",
-                    num
-                ));
+                if (AscensionLog.isTracing()) {
+                    logger.info(String.format(
+                        "[Asc40] getMove(%d) invoked successfully",
+                        num
+                    ));
+                }
             } catch (Exception e) {
                 logger.error("[Asc40] Failed to invoke getMove: " + e.getMessage());
                 // Fallback to original behavior
@@ -1,16 +1,10 @@
 package com.stsmod.ascension100.patches.levels;
 
-import com.evacipated.cardcrawl.modthespire.lib.SpirePatch;
-import com.evacipated.cardcrawl.modthespire.lib.SpirePostfixPatch;
-import com.megacrit.cardcrawl.dungeons.AbstractDungeon;
-import com.megacrit.cardcrawl.map.MapRoomNode;
+import com.megacrit.cardcrawl.random.Random;
+import com.megacrit.cardcrawl.rooms.AbstractRoom;
 import com.megacrit.cardcrawl.rooms.EventRoom;
 import com.megacrit.cardcrawl.rooms.MonsterRoomElite;
-import org.apache.logging.log4j.LogManager;
-import org.apache.logging.log4j.Logger;
-
-import java.lang.reflect.Field;
-import java.util.ArrayList;
+import com.stsmod.ascension100.util.RngRecorder;
 
 /**
  * Ascension Level 41: More elites appear
@@ -20,73 +14,20 @@ import java.util.ArrayList;
  * When the map is generated, ? rooms have a 10% chance to become Elite rooms.
  */
 public class Level41 {
-    private static final Logger logger = LogManager.getLogger(Level41.class.getName());
     private static final float EVENT_TO_ELITE_CHANCE = 0.10f; // 10% chance
 
+    // RNG call sites (see RngRecorder)
+    private static final int EVENT_TO_ELITE_ROLL = RngRecorder.site("Level41.eventToElite", RngRecorder.Stream.MAP);
+
     /**
-     * After map generation, convert some EventRooms to MonsterRoomElite
+     * EventRoom -> MonsterRoomElite
+     * Applied by MapMutationPipeline after map generation
      */
-    @SpirePatch(
-        clz = AbstractDungeon.class,
-        method = "generateMap"
-    )
-    public static class ConvertEventRoomsToElite {
-        @SpirePostfixPatch
-        public static void Postfix() {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 41) {
-                return;
-            }
-
-            try {
-                // Access the map field via reflection
-                Field mapField = AbstractDungeon.class.getDeclaredField("map");
-                mapField.setAccessible(true);
-                @SuppressWarnings("unchecked")
-                ArrayList<ArrayList<MapRoomNode>> map = (ArrayList<ArrayList<MapRoomNode>>) mapField.get(null);
-
-                if (map == null) {
-                    logger.warn("Ascension 41: Map is null, cannot convert EventRooms");
-                    return;
-                }
-
-                int totalEventRooms = 0;
-                int convertedRooms = 0;
-
-                // Iterate through all nodes in the map
-                for (ArrayList<MapRoomNode> row : map) {
-                    for (MapRoomNode node : row) {
-                        // Check if this node is an EventRoom
-                        if (node != null && node.room instanceof EventRoom) {
-                            totalEventRooms++;
-
-                            // 10% chance to convert to Elite room
-                            // Use mapRng for consistency with map generation
-                            if (AbstractDungeon.mapRng.randomBoolean(EVENT_TO_ELITE_CHANCE)) {
-                                // Replace EventRoom with MonsterRoomElite
-                                node.room = new MonsterRoomElite();
-                                convertedRooms++;
-
-                                logger.info(String.format(
-                                    "Ascension 41: Converted EventRoom to Elite at position (x=%d, y=%d)",
-                                    node.x, node.y
-                                ));
-                            }
-                        }
-                    }
-                }
-
-                logger.info(String.format(
-                    "Ascension 41: Map generation complete - Converted %d/%d EventRooms to Elite (%.1f%%)",
-                    convertedRooms, totalEventRooms, (totalEventRooms > 0 ? (convertedRooms * 100.0 / totalEventRooms) : 0.0)
-                ));
-
-            } catch (NoSuchFieldException e) {
-                logger.error("Ascension 41: Could not find 'map' field in AbstractDungeon", e);
-            } catch (IllegalAccessException e) {
-                logger.error("Ascension 41: Could not access 'map' field in AbstractDungeon", e);
-            } catch (Exception e) {
-                logger.error("Ascension 41: Unexpected error during EventRoom to Elite conversion", e);
-            }
+    public static AbstractRoom convertRoom(AbstractRoom room, Random mapRng) {
+        // Use mapRng for consistency with map generation
+        if (room instanceof EventRoom && RngRecorder.randomBoolean(EVENT_TO_ELITE_ROLL, mapRng, EVENT_TO_ELITE_CHANCE)) {
+            return new MonsterRoomElite();
         }
+        return null;
     }
 }
@@ -5,11 +5,13 @@ import com.evacipated.cardcrawl.modthespire.lib.SpirePatch;
 import com.evacipated.cardcrawl.modthespire.lib.SpirePrefixPatch;
 import com.megacrit.cardcrawl.dungeons.AbstractDungeon;
 import com.megacrit.cardcrawl.events.shrines.GremlinWheelGame;
+import com.stsmod.ascension100.util.AscensionLog;
+import com.stsmod.ascension100.util.AscensionRuleSet;
+import com.stsmod.ascension100.util.FieldAccessor;
+import com.stsmod.ascension100.util.ReflectionCache;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
-import java.lang.reflect.Field;
-
 /**
  * Ascension Level 43: Wheel event adapts to player HP
  *
@@ -39,14 +41,13 @@ public class Level43 {
     public static class ForceResultByHP {
         @SpirePrefixPatch
         public static void Prefix(GremlinWheelGame __instance, int buttonPressed) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 43) {
+            if (!AscensionRuleSet.isActive(43)) {
                 return;
             }
 
             try {
                 // Get screen field to check if we're in INTRO state
-                Field screenField = GremlinWheelGame.class.getDeclaredField("screen");
-                screenField.setAccessible(true);
+                FieldAccessor screenField = ReflectionCache.GREMLIN_WHEEL_GAME_SCREEN;
                 Object screen = screenField.get(__instance);
 
                 // Only apply when player presses the spin button (INTRO screen, button 0)
@@ -56,37 +57,42 @@ public class Level43 {
                                      AbstractDungeon.player.maxHealth;
 
                     // Get result field
-                    Field resultField = GremlinWheelGame.class.getDeclaredField("result");
-                    resultField.setAccessible(true);
+                    FieldAccessor resultField = ReflectionCache.GREMLIN_WHEEL_GAME_RESULT;
 
                     int forcedResult = -1;
 
                     if (hpPercent < 0.15f) {
                         // HP < 15%: Force damage result (5)
                         forcedResult = 5;
-                        logger.info(String.format(
-                            "Ascension 43: Wheel forced to DAMAGE (HP: %d/%d = %.1f%% < 15%%)",
-                            AbstractDungeon.player.currentHealth,
-                            AbstractDungeon.player.maxHealth,
-                            hpPercent * 100
-                        ));
+                        if (AscensionLog.isTracing()) {
+                            logger.info(String.format(
+                                "Ascension 43: Wheel forced to DAMAGE (HP: %d/%d = %.1f%% < 15%%)",
+                                AbstractDungeon.player.currentHealth,
+                                AbstractDungeon.player.maxHealth,
+                                hpPercent * 100
+                            ));
+                        }
                     } else if (hpPercent >= 0.80f) {
                         // HP >= 80%: Force heal result (2)
                         forcedResult = 2;
-                        logger.info(String.format(
-                            "Ascension 43: Wheel forced to HEAL (HP: %d/%d = %.1f%% >= 80%%)",
-                            AbstractDungeon.player.currentHealth,
-                            AbstractDungeon.player.maxHealth,
-                            hpPercent * 100
-                        ));
+                        if (AscensionLog.isTracing()) {
+                            logger.info(String.format(
+                                "Ascension 43: Wheel forced to HEAL (HP: %d/%d = %.1f%% >= 80%%)",
+                                AbstractDungeon.player.currentHealth,
+                                AbstractDungeon.player.maxHealth,
+                                hpPercent * 100
+                            ));
+                        }
                     } else {
                         // Normal range: Let random work normally
-                        logger.info(String.format(
-                            "Ascension 43: Wheel using normal random (HP: %d/%d = %.1f%%)",
-                            AbstractDungeon.player.currentHealth,
-                            AbstractDungeon.player.maxHealth,
-                            hpPercent * 100
-                        ));
+                        if (AscensionLog.isTracing()) {
+                            logger.info(String.format(
+                                "Ascension 43: Wheel using normal random (HP: %d/%d = %.1f%%)",
+                                AbstractDungeon.player.currentHealth,
+                                AbstractDungeon.player.maxHealth,
+                                hpPercent * 100
+                            ));
+                        }
                         return;
                     }
 
@@ -95,19 +101,18 @@ public class Level43 {
 
                     // Also set the result angle to match the forced result
                     // Each result is 60 degrees apart (360 / 6 = 60)
-                    Field resultAngleField = GremlinWheelGame.class.getDeclaredField("resultAngle");
-                    resultAngleField.setAccessible(true);
+                    FieldAccessor resultAngleField = ReflectionCache.GREMLIN_WHEEL_GAME_RESULT_ANGLE;
                     float angle = forcedResult * 60.0F + MathUtils.random(-10.0F, 10.0F);
                     resultAngleField.setFloat(__instance, angle);
 
-                    logger.info(String.format(
-                        "Ascension 43: Set wheel result to %d, angle to %.1f degrees",
-                        forcedResult, angle
-                    ));
+                    if (AscensionLog.isTracing()) {
+                        logger.info(String.format(
+                            "Ascension 43: Set wheel result to %d, angle to %.1f degrees",
+                            forcedResult, angle
+                        ));
+                    }
                 }
-            } catch (NoSuchFieldException e) {
-                logger.error("Ascension 43: Could not find field in GremlinWheelGame", e);
-            } catch (IllegalAccessException e) {
+            } catch (IllegalStateException e) {
                 logger.error("Ascension 43: Could not access field in GremlinWheelGame", e);
             } catch (Exception e) {
                 logger.error("Ascension 43: Unexpected error modifying wheel result", e);
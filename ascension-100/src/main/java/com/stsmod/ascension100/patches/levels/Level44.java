@@ -3,15 +3,16 @@ package com.stsmod.ascension100.patches.levels;
 import com.evacipated.cardcrawl.modthespire.lib.SpirePatch;
 import com.evacipated.cardcrawl.modthespire.lib.SpirePrefixPatch;
 import com.evacipated.cardcrawl.modthespire.lib.SpirePostfixPatch;
-import com.megacrit.cardcrawl.dungeons.AbstractDungeon;
 import com.megacrit.cardcrawl.monsters.city.Mugger;
 import com.megacrit.cardcrawl.monsters.exordium.Looter;
 import com.megacrit.cardcrawl.powers.AbstractPower;
+import com.stsmod.ascension100.util.AscensionLog;
+import com.stsmod.ascension100.util.AscensionRuleSet;
+import com.stsmod.ascension100.util.FieldAccessor;
+import com.stsmod.ascension100.util.ReflectionCache;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
-import java.lang.reflect.Field;
-
 /**
  * Ascension Level 44: Thieves steal more gold
  *
@@ -37,21 +38,22 @@ public class Level44 {
     public static class LooterThieveryIncrease {
         @SpirePrefixPatch
         public static void Prefix(Looter __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 44) {
+            if (!AscensionRuleSet.isActive(44)) {
                 return;
             }
 
             try {
                 // Increase goldAmt BEFORE ThieveryPower is created
-                java.lang.reflect.Field goldAmtField = Looter.class.getDeclaredField("goldAmt");
-                goldAmtField.setAccessible(true);
+                FieldAccessor goldAmtField = ReflectionCache.LOOTER_GOLD_AMT;
                 int currentGoldAmt = goldAmtField.getInt(__instance);
                 goldAmtField.setInt(__instance, currentGoldAmt + 25);
 
-                logger.info(String.format(
-                    "Ascension 44: Looter goldAmt increased from %d to %d (Thievery will be %d)",
-                    currentGoldAmt, currentGoldAmt + 25, currentGoldAmt + 25
-                ));
+                if (AscensionLog.isTracing()) {
+                    logger.info(String.format(
+                        "Ascension 44: Looter goldAmt increased from %d to %d (Thievery will be %d)",
+                        currentGoldAmt, currentGoldAmt + 25, currentGoldAmt + 25
+                    ));
+                }
             } catch (Exception e) {
                 logger.error("Failed to modify Looter goldAmt", e);
             }
@@ -59,18 +61,17 @@ public class Level44 {
 
         @SpirePostfixPatch
         public static void Postfix(Looter __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 44) {
+            if (!AscensionRuleSet.isActive(44)) {
                 return;
             }
 
             try {
                 // Reset goldAmt back to original after ThieveryPower is created
-                java.lang.reflect.Field goldAmtField = Looter.class.getDeclaredField("goldAmt");
-                goldAmtField.setAccessible(true);
+                FieldAccessor goldAmtField = ReflectionCache.LOOTER_GOLD_AMT;
                 int currentGoldAmt = goldAmtField.getInt(__instance);
                 goldAmtField.setInt(__instance, currentGoldAmt - 25);
 
-                logger.info("Ascension 44: Looter goldAmt reset to original (Thievery amount remains increased)");
+                AscensionLog.trace(logger, "Ascension 44: Looter goldAmt reset to original (Thievery amount remains increased)");
             } catch (Exception e) {
                 logger.error("Failed to reset Looter goldAmt", e);
             }
@@ -89,21 +90,22 @@ public class Level44 {
     public static class MuggerThieveryIncrease {
         @SpirePrefixPatch
         public static void Prefix(Mugger __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 44) {
+            if (!AscensionRuleSet.isActive(44)) {
                 return;
             }
 
             try {
                 // Increase goldAmt BEFORE ThieveryPower is created
-                java.lang.reflect.Field goldAmtField = Mugger.class.getDeclaredField("goldAmt");
-                goldAmtField.setAccessible(true);
+                FieldAccessor goldAmtField = ReflectionCache.MUGGER_GOLD_AMT;
                 int currentGoldAmt = goldAmtField.getInt(__instance);
                 goldAmtField.setInt(__instance, currentGoldAmt + 25);
 
-                logger.info(String.format(
-                    "Ascension 44: Mugger goldAmt increased from %d to %d (Thievery will be %d)",
-                    currentGoldAmt, currentGoldAmt + 25, currentGoldAmt + 25
-                ));
+                if (AscensionLog.isTracing()) {
+                    logger.info(String.format(
+                        "Ascension 44: Mugger goldAmt increased from %d to %d (Thievery will be %d)",
+                        currentGoldAmt, currentGoldAmt + 25, currentGoldAmt + 25
+                    ));
+                }
             } catch (Exception e) {
                 logger.error("Failed to modify Mugger goldAmt", e);
             }
@@ -111,18 +113,17 @@ public class Level44 {
 
         @SpirePostfixPatch
         public static void Postfix(Mugger __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 44) {
+            if (!AscensionRuleSet.isActive(44)) {
                 return;
             }
 
             try {
                 // Reset goldAmt back to original after ThieveryPower is created
-                java.lang.reflect.Field goldAmtField = Mugger.class.getDeclaredField("goldAmt");
-                goldAmtField.setAccessible(true);
+                FieldAccessor goldAmtField = ReflectionCache.MUGGER_GOLD_AMT;
                 int currentGoldAmt = goldAmtField.getInt(__instance);
                 goldAmtField.setInt(__instance, currentGoldAmt - 25);
 
-                logger.info("Ascension 44: Mugger goldAmt reset to original (Thievery amount remains increased)");
+                AscensionLog.trace(logger, "Ascension 44: Mugger goldAmt reset to original (Thievery amount remains increased)");
             } catch (Exception e) {
                 logger.error("Failed to reset Mugger goldAmt", e);
             }
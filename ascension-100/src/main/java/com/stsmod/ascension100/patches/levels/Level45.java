@@ -1,14 +1,16 @@
 package com.stsmod.ascension100.patches.levels;
 
-import com.evacipated.cardcrawl.modthespire.lib.SpirePatch;
-import com.evacipated.cardcrawl.modthespire.lib.SpirePostfixPatch;
 import com.megacrit.cardcrawl.dungeons.AbstractDungeon;
 import com.megacrit.cardcrawl.monsters.AbstractMonster;
 import com.megacrit.cardcrawl.monsters.MonsterGroup;
 import com.megacrit.cardcrawl.monsters.exordium.*;
 import com.megacrit.cardcrawl.monsters.city.*;
 import com.megacrit.cardcrawl.monsters.beyond.*;
+import com.stsmod.ascension100.patches.unified.SharedHooks;
+import com.stsmod.ascension100.util.AscensionLog;
 import com.stsmod.ascension100.util.EncounterHelper;
+import com.stsmod.ascension100.util.RngRecorder;
+import com.stsmod.ascension100.util.Telemetry;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -27,125 +29,134 @@ import org.apache.logging.log4j.Logger;
 public class Level45 {
     private static final Logger logger = LogManager.getLogger(Level45.class.getName());
 
-    @SpirePatch(
-        clz = MonsterGroup.class,
-        method = "init"
-    )
-    public static class AddExtraMonsterToStrongEncounters {
-        @SpirePostfixPatch
-        public static void Postfix(MonsterGroup __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 45) {
-                return;
-            }
+    // RNG call sites (see RngRecorder)
+    private static final int EXTRA_MONSTER_ROLL = RngRecorder.site("Level45.extraMonsterRoll", RngRecorder.Stream.MONSTER);
+    private static final int EXTRA_MONSTER_CHOICE = RngRecorder.site("Level45.extraMonsterChoice", RngRecorder.Stream.MONSTER);
 
-            // Only apply to non-elite, non-boss encounters
-            if (__instance.monsters == null || __instance.monsters.isEmpty()) {
-                return;
-            }
+    /**
+     * Listeners for SharedHooks, linked only while this level is active
+     */
+    public static void registerHooks() {
+        SharedHooks.GROUP_INIT.register(45, Level45::addExtraMonsterToStrongEncounters);
+    }
 
-            // Skip elite and boss encounters
-            for (AbstractMonster m : __instance.monsters) {
-                if (m != null && (m.type == AbstractMonster.EnemyType.ELITE ||
-                                  m.type == AbstractMonster.EnemyType.BOSS)) {
-                    return;
-                }
-            }
+    private static void addExtraMonsterToStrongEncounters(MonsterGroup group) {
+        // Only apply to non-elite, non-boss encounters
+        if (group.monsters == null || group.monsters.isEmpty()) {
+            return;
+        }
 
-            // Check if this is a Strong Enemy encounter
-            if (!EncounterHelper.isStrongEncounter()) {
+        // Skip elite and boss encounters
+        for (AbstractMonster m : group.monsters) {
+            if (m != null && (m.type == AbstractMonster.EnemyType.ELITE ||
+                              m.type == AbstractMonster.EnemyType.BOSS)) {
                 return;
             }
+        }
 
-            int actNum = AbstractDungeon.actNum;
-            int roll = AbstractDungeon.monsterRng.random(0, 99);
-
-            // 20% chance to add extra monster
-            if (roll < 20) {
-                AbstractMonster extraMonster = null;
-                float xPos = 200.0f;
-
-                switch (actNum) {
-                    case 1:
-                        // Act 1: Add Gremlin or Small Slime (random choice)
-                        int act1Choice = AbstractDungeon.monsterRng.random(0, 4);
-                        switch (act1Choice) {
-                            case 0:
-                                extraMonster = new GremlinWarrior(xPos, 0.0f);
-                                break;
-                            case 1:
-                                extraMonster = new GremlinThief(xPos, 0.0f);
-                                break;
-                            case 2:
-                                extraMonster = new GremlinFat(xPos, 0.0f);
-                                break;
-                            case 3:
-                                extraMonster = new AcidSlime_S(xPos, 0.0f, 0);
-                                break;
-                            case 4:
-                                extraMonster = new SpikeSlime_S(xPos, 0.0f, 0);
-                                break;
-                        }
+        // Check if this is a Strong Enemy encounter
+        if (!EncounterHelper.isStrongEncounter()) {
+            return;
+        }
+
+        int actNum = AbstractDungeon.actNum;
+        int roll = RngRecorder.random(EXTRA_MONSTER_ROLL, AbstractDungeon.monsterRng, 0, 99);
+        Telemetry.record(Telemetry.Event.ROLL, 45, roll, 20);
+
+        // 20% chance to add extra monster
+        if (roll < 20) {
+            AbstractMonster extraMonster = null;
+            float xPos = 200.0f;
+
+            switch (actNum) {
+                case 1:
+                    // Act 1: Add Gremlin or Small Slime (random choice)
+                    int act1Choice = RngRecorder.random(EXTRA_MONSTER_CHOICE, AbstractDungeon.monsterRng, 0, 4);
+                    switch (act1Choice) {
+                        case 0:
+                            extraMonster = new GremlinWarrior(xPos, 0.0f);
+                            break;
+                        case 1:
+                            extraMonster = new GremlinThief(xPos, 0.0f);
+                            break;
+                        case 2:
+                            extraMonster = new GremlinFat(xPos, 0.0f);
+                            break;
+                        case 3:
+                            extraMonster = new AcidSlime_S(xPos, 0.0f, 0);
+                            break;
+                        case 4:
+                            extraMonster = new SpikeSlime_S(xPos, 0.0f, 0);
+                            break;
+                    }
+                    if (AscensionLog.isTracing()) {
                         logger.info(String.format(
                             "Ascension 45: Adding %s to Act 1 battle (Roll: %d < 20)",
                             extraMonster != null ? extraMonster.name : "unknown", roll
                         ));
-                        break;
-
-                    case 2:
-                        // Act 2: Add Medium Slime (random choice)
-                        int act2Choice = AbstractDungeon.monsterRng.random(0, 1);
-                        switch (act2Choice) {
-                            case 0:
-                                extraMonster = new AcidSlime_M(xPos, 0.0f);
-                                break;
-                            case 1:
-                                extraMonster = new SpikeSlime_M(xPos, 0.0f);
-                                break;
-                        }
+                    }
+                    break;
+
+                case 2:
+                    // Act 2: Add Medium Slime (random choice)
+                    int act2Choice = RngRecorder.random(EXTRA_MONSTER_CHOICE, AbstractDungeon.monsterRng, 0, 1);
+                    switch (act2Choice) {
+                        case 0:
+                            extraMonster = new AcidSlime_M(xPos, 0.0f);
+                            break;
+                        case 1:
+                            extraMonster = new SpikeSlime_M(xPos, 0.0f);
+                            break;
+                    }
+                    if (AscensionLog.isTracing()) {
                         logger.info(String.format(
                             "Ascension 45: Adding %s to Act 2 battle (Roll: %d < 20)",
                             extraMonster != null ? extraMonster.name : "unknown", roll
                         ));
-                        break;
-
-                    case 3:
-                        // Act 3: Add Fat Gremlin, Shelled Parasite, or Exploder (random choice)
-                        int act3Choice = AbstractDungeon.monsterRng.random(0, 2);
-                        switch (act3Choice) {
-                            case 0:
-                                extraMonster = new GremlinFat(xPos, 0.0f);
-                                break;
-                            case 1:
-                                extraMonster = new ShelledParasite(xPos, 0.0f);
-                                break;
-                            case 2:
-                                extraMonster = new Exploder(xPos, 0.0f);
-                                break;
-                        }
+                    }
+                    break;
+
+                case 3:
+                    // Act 3: Add Fat Gremlin, Shelled Parasite, or Exploder (random choice)
+                    int act3Choice = RngRecorder.random(EXTRA_MONSTER_CHOICE, AbstractDungeon.monsterRng, 0, 2);
+                    switch (act3Choice) {
+                        case 0:
+                            extraMonster = new GremlinFat(xPos, 0.0f);
+                            break;
+                        case 1:
+                            extraMonster = new ShelledParasite(xPos, 0.0f);
+                            break;
+                        case 2:
+                            extraMonster = new Exploder(xPos, 0.0f);
+                            break;
+                    }
+                    if (AscensionLog.isTracing()) {
                         logger.info(String.format(
                             "Ascension 45: Adding %s to Act 3 battle (Roll: %d < 20)",
                             extraMonster != null ? extraMonster.name : "unknown", roll
                         ));
-                        break;
-                }
+                    }
+                    break;
+            }
 
-                if (extraMonster != null) {
-                    // Apply 30% max HP cap to spawned enemies
-                    int originalMaxHP = extraMonster.maxHealth;
-                    int reducedMaxHP = Math.max(1, (int)(originalMaxHP * 0.3f));
+            if (extraMonster != null) {
+                // Apply 30% max HP cap to spawned enemies
+                int originalMaxHP = extraMonster.maxHealth;
+                int reducedMaxHP = Math.max(1, (int)(originalMaxHP * 0.3f));
 
-                    extraMonster.maxHealth = reducedMaxHP;
-                    extraMonster.currentHealth = reducedMaxHP;
+                extraMonster.maxHealth = reducedMaxHP;
+                extraMonster.currentHealth = reducedMaxHP;
 
+                if (AscensionLog.isTracing()) {
                     logger.info(String.format(
                         "Ascension 45: %s HP reduced from %d to %d (30%% cap)",
                         extraMonster.name, originalMaxHP, reducedMaxHP
                     ));
-
-                    __instance.addMonster(extraMonster);
-                    extraMonster.init();
-                    extraMonster.applyPowers();
                 }
+
+                group.addMonster(extraMonster);
+                extraMonster.init();
+                extraMonster.applyPowers();
             }
         }
     }
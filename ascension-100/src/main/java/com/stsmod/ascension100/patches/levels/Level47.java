@@ -4,6 +4,8 @@ import com.evacipated.cardcrawl.modthespire.lib.SpirePatch;
 import com.evacipated.cardcrawl.modthespire.lib.SpirePostfixPatch;
 import com.megacrit.cardcrawl.dungeons.AbstractDungeon;
 import com.megacrit.cardcrawl.ui.campfire.RestOption;
+import com.stsmod.ascension100.util.AscensionLog;
+import com.stsmod.ascension100.util.AscensionRuleSet;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -23,17 +25,19 @@ public class Level47 {
     public static class RestMaxHPPenalty {
         @SpirePostfixPatch
         public static void Postfix(Object __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 47) {
+            if (!AscensionRuleSet.isActive(47)) {
                 return;
             }
 
             // Decrease max HP by 2
             AbstractDungeon.player.decreaseMaxHealth(2);
 
-            logger.info(String.format(
-                "Ascension 47: Max HP reduced by 2 from resting (new max: %d)",
-                AbstractDungeon.player.maxHealth
-            ));
+            if (AscensionLog.isTracing()) {
+                logger.info(String.format(
+                    "Ascension 47: Max HP reduced by 2 from resting (new max: %d)",
+                    AbstractDungeon.player.maxHealth
+                ));
+            }
         }
     }
 }
@@ -4,6 +4,10 @@ import com.evacipated.cardcrawl.modthespire.lib.*;
 import com.megacrit.cardcrawl.cards.DamageInfo;
 import com.megacrit.cardcrawl.dungeons.AbstractDungeon;
 import com.megacrit.cardcrawl.neow.NeowReward;
+import com.stsmod.ascension100.util.AscensionLog;
+import com.stsmod.ascension100.util.AscensionRuleSet;
+import com.stsmod.ascension100.util.FieldAccessor;
+import com.stsmod.ascension100.util.ReflectionCache;
 import javassist.expr.ExprEditor;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -36,20 +40,18 @@ public class Level48 {
     public static class ModifyConstructor1 {
         @SpirePostfixPatch
         public static void Postfix(NeowReward __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 48) {
+            if (!AscensionRuleSet.isActive(48)) {
                 return;
             }
 
             try {
                 // Recalculate hp_bonus: 10% -> 8%
-                java.lang.reflect.Field hpBonusField = NeowReward.class.getDeclaredField("hp_bonus");
-                hpBonusField.setAccessible(true);
+                FieldAccessor hpBonusField = ReflectionCache.NEOW_REWARD_HP_BONUS;
                 int newHpBonus = (int)(AbstractDungeon.player.maxHealth * 0.08F);
                 hpBonusField.setInt(__instance, newHpBonus);
 
                 // Update optionLabel text
-                java.lang.reflect.Field optionLabelField = NeowReward.class.getDeclaredField("optionLabel");
-                optionLabelField.setAccessible(true);
+                FieldAccessor optionLabelField = ReflectionCache.NEOW_REWARD_OPTION_LABEL;
                 String optionLabel = (String) optionLabelField.get(__instance);
 
                 // Replace hp_bonus value in text (10% value -> 8% value)
@@ -61,10 +63,12 @@ public class Level48 {
 
                 optionLabelField.set(__instance, optionLabel);
 
-                logger.info(String.format(
-                    "Ascension 48: Modified Constructor1 - hp_bonus: %d -> %d, optionLabel: %s",
-                    oldHpBonus, newHpBonus, optionLabel
-                ));
+                if (AscensionLog.isTracing()) {
+                    logger.info(String.format(
+                        "Ascension 48: Modified Constructor1 - hp_bonus: %d -> %d, optionLabel: %s",
+                        oldHpBonus, newHpBonus, optionLabel
+                    ));
+                }
             } catch (Exception e) {
                 logger.error("Failed to modify NeowReward constructor (boolean)", e);
             }
@@ -84,21 +88,19 @@ public class Level48 {
     public static class ModifyConstructor2 {
         @SpirePostfixPatch
         public static void Postfix(NeowReward __instance, int category) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 48) {
+            if (!AscensionRuleSet.isActive(48)) {
                 return;
             }
 
             try {
                 // Recalculate hp_bonus: 10% -> 8%
-                java.lang.reflect.Field hpBonusField = NeowReward.class.getDeclaredField("hp_bonus");
-                hpBonusField.setAccessible(true);
+                FieldAccessor hpBonusField = ReflectionCache.NEOW_REWARD_HP_BONUS;
                 int newHpBonus = (int)(AbstractDungeon.player.maxHealth * 0.08F);
                 int oldHpBonus = (int)(AbstractDungeon.player.maxHealth * 0.1F);
                 hpBonusField.setInt(__instance, newHpBonus);
 
                 // Update optionLabel text
-                java.lang.reflect.Field optionLabelField = NeowReward.class.getDeclaredField("optionLabel");
-                optionLabelField.setAccessible(true);
+                FieldAccessor optionLabelField = ReflectionCache.NEOW_REWARD_OPTION_LABEL;
                 String optionLabel = (String) optionLabelField.get(__instance);
 
                 // For category 2 (drawbacks), optionLabel contains both drawback and reward
@@ -123,17 +125,18 @@ public class Level48 {
                 // Only replace if this is a drawback option (category 2)
                 if (category == 2) {
                     // Check if this reward has TEN_PERCENT_HP_LOSS drawback
-                    java.lang.reflect.Field drawbackField = NeowReward.class.getDeclaredField("drawback");
-                    drawbackField.setAccessible(true);
+                    FieldAccessor drawbackField = ReflectionCache.NEOW_REWARD_DRAWBACK;
                     Object drawback = drawbackField.get(__instance);
 
                     if (drawback.toString().equals("TEN_PERCENT_HP_LOSS")) {
                         // Replace first occurrence (drawback part) with 15% value
                         optionLabel = optionLabel.replaceFirst(oldDrawbackText, newDrawbackText);
-                        logger.info(String.format(
-                            "Ascension 48: Updated TEN_PERCENT_HP_LOSS drawback text: %d -> %d",
-                            oldHpBonus, hp15Percent
-                        ));
+                        if (AscensionLog.isTracing()) {
+                            logger.info(String.format(
+                                "Ascension 48: Updated TEN_PERCENT_HP_LOSS drawback text: %d -> %d",
+                                oldHpBonus, hp15Percent
+                            ));
+                        }
                     }
 
                     // 3. Update PERCENT_DAMAGE drawback: 30% -> 40%
@@ -141,10 +144,12 @@ public class Level48 {
                         int old30Percent = AbstractDungeon.player.currentHealth / 10 * 3;
                         int new40Percent = AbstractDungeon.player.currentHealth / 10 * 4;
                         optionLabel = optionLabel.replace(String.valueOf(old30Percent), String.valueOf(new40Percent));
-                        logger.info(String.format(
-                            "Ascension 48: Updated PERCENT_DAMAGE drawback text: %d -> %d",
-                            old30Percent, new40Percent
-                        ));
+                        if (AscensionLog.isTracing()) {
+                            logger.info(String.format(
+                                "Ascension 48: Updated PERCENT_DAMAGE drawback text: %d -> %d",
+                                old30Percent, new40Percent
+                            ));
+                        }
                     }
                 }
 
@@ -157,18 +162,22 @@ public class Level48 {
                 optionLabel = optionLabel.replace("100", "80");  // Universal number replacement
 
                 if (!originalLabel.equals(optionLabel)) {
-                    logger.info(String.format(
-                        "Ascension 48: Updated HUNDRED_GOLD text: '%s' -> '%s'",
-                        originalLabel, optionLabel
-                    ));
+                    if (AscensionLog.isTracing()) {
+                        logger.info(String.format(
+                            "Ascension 48: Updated HUNDRED_GOLD text: '%s' -> '%s'",
+                            originalLabel, optionLabel
+                        ));
+                    }
                 }
 
                 optionLabelField.set(__instance, optionLabel);
 
-                logger.info(String.format(
-                    "Ascension 48: Modified Constructor2(category=%d) - hp_bonus: %d -> %d, optionLabel updated",
-                    category, oldHpBonus, newHpBonus
-                ));
+                if (AscensionLog.isTracing()) {
+                    logger.info(String.format(
+                        "Ascension 48: Modified Constructor2(category=%d) - hp_bonus: %d -> %d, optionLabel updated",
+                        category, oldHpBonus, newHpBonus
+                    ));
+                }
             } catch (Exception e) {
                 logger.error("Failed to modify NeowReward constructor (int)", e);
             }
@@ -187,7 +196,7 @@ public class Level48 {
     public static class ModifyRewardOptionsText {
         @SpirePostfixPatch
         public static Object Postfix(Object __result, NeowReward __instance, int category) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 48) {
+            if (!AscensionRuleSet.isActive(48)) {
                 return __result;
             }
 
@@ -196,10 +205,8 @@ public class Level48 {
                 java.util.ArrayList<Object> rewardOptions = (java.util.ArrayList<Object>) __result;
 
                 for (Object rewardDef : rewardOptions) {
-                    java.lang.reflect.Field typeField = rewardDef.getClass().getDeclaredField("type");
-                    java.lang.reflect.Field descField = rewardDef.getClass().getDeclaredField("desc");
-                    typeField.setAccessible(true);
-                    descField.setAccessible(true);
+                    FieldAccessor typeField = ReflectionCache.NEOW_REWARD_DEF_TYPE;
+                    FieldAccessor descField = ReflectionCache.NEOW_REWARD_DEF_DESC;
 
                     Object type = typeField.get(rewardDef);
                     String desc = (String) descField.get(rewardDef);
@@ -212,10 +219,12 @@ public class Level48 {
                         desc = desc.replace("d", "80");
                         desc = desc.replace("100", "80");
                         descField.set(rewardDef, desc);
-                        logger.info(String.format(
-                            "Ascension 48: Modified HUNDRED_GOLD option text: '%s' -> '%s'",
-                            originalDesc, desc
-                        ));
+                        if (AscensionLog.isTracing()) {
+                            logger.info(String.format(
+                                "Ascension 48: Modified HUNDRED_GOLD option text: '%s' -> '%s'",
+                                originalDesc, desc
+                            ));
+                        }
                     }
 
                     // Also update hp_bonus related text
@@ -249,7 +258,7 @@ public class Level48 {
     public static class ModifyDrawbackOptionsText {
         @SpirePostfixPatch
         public static Object Postfix(Object __result, NeowReward __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 48) {
+            if (!AscensionRuleSet.isActive(48)) {
                 return __result;
             }
 
@@ -261,10 +270,8 @@ public class Level48 {
                 int hp15Percent = (int)(AbstractDungeon.player.maxHealth * 0.15F);
 
                 for (Object drawbackDef : drawbackOptions) {
-                    java.lang.reflect.Field typeField = drawbackDef.getClass().getDeclaredField("type");
-                    java.lang.reflect.Field descField = drawbackDef.getClass().getDeclaredField("desc");
-                    typeField.setAccessible(true);
-                    descField.setAccessible(true);
+                    FieldAccessor typeField = ReflectionCache.NEOW_REWARD_DRAWBACK_DEF_TYPE;
+                    FieldAccessor descField = ReflectionCache.NEOW_REWARD_DRAWBACK_DEF_DESC;
 
                     Object type = typeField.get(drawbackDef);
                     String desc = (String) descField.get(drawbackDef);
@@ -275,10 +282,12 @@ public class Level48 {
                         // Replace old hp_bonus (10%) with 15%
                         desc = desc.replace(String.valueOf(oldHpBonus), String.valueOf(hp15Percent));
                         descField.set(drawbackDef, desc);
-                        logger.info(String.format(
-                            "Ascension 48: Modified TEN_PERCENT_HP_LOSS drawback option: '%s' -> '%s'",
-                            originalDesc, desc
-                        ));
+                        if (AscensionLog.isTracing()) {
+                            logger.info(String.format(
+                                "Ascension 48: Modified TEN_PERCENT_HP_LOSS drawback option: '%s' -> '%s'",
+                                originalDesc, desc
+                            ));
+                        }
                     }
 
                     // PERCENT_DAMAGE: 30% -> 40%
@@ -288,10 +297,12 @@ public class Level48 {
                         int new40Percent = AbstractDungeon.player.currentHealth / 10 * 4;
                         desc = desc.replace(String.valueOf(old30Percent), String.valueOf(new40Percent));
                         descField.set(drawbackDef, desc);
-                        logger.info(String.format(
-                            "Ascension 48: Modified PERCENT_DAMAGE drawback option: '%s' -> '%s'",
-                            originalDesc, desc
-                        ));
+                        if (AscensionLog.isTracing()) {
+                            logger.info(String.format(
+                                "Ascension 48: Modified PERCENT_DAMAGE drawback option: '%s' -> '%s'",
+                                originalDesc, desc
+                            ));
+                        }
                     }
                 }
             } catch (Exception e) {
@@ -318,8 +329,7 @@ public class Level48 {
                     if (m.getMethodName().equals("gainGold")) {
                         // Change gainGold(100) to gainGold(80)
                         m.replace("{ " +
-                            "if (!com.megacrit.cardcrawl.dungeons.AbstractDungeon.isAscensionMode || " +
-                            "    com.megacrit.cardcrawl.dungeons.AbstractDungeon.ascensionLevel < 48) { " +
+                            "if (!com.stsmod.ascension100.util.AscensionRuleSet.isActive(48)) { " +
                             "  $_ = $proceed($$); " +
                             "} else if ($1 == 100) { " +
                             "  $_ = $proceed(80); " +
@@ -344,13 +354,12 @@ public class Level48 {
     public static class ModifyDrawbackPenalties {
         @SpirePostfixPatch
         public static void Postfix(NeowReward __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 48) {
+            if (!AscensionRuleSet.isActive(48)) {
                 return;
             }
 
             try {
-                java.lang.reflect.Field drawbackField = NeowReward.class.getDeclaredField("drawback");
-                drawbackField.setAccessible(true);
+                FieldAccessor drawbackField = ReflectionCache.NEOW_REWARD_DRAWBACK;
                 Object drawback = drawbackField.get(__instance);
 
                 // TEN_PERCENT_HP_LOSS: Already decreased by hp_bonus (8%)
@@ -358,10 +367,12 @@ public class Level48 {
                 if (drawback.toString().equals("TEN_PERCENT_HP_LOSS")) {
                     int additionalDecrease = (int)(AbstractDungeon.player.maxHealth * 0.07F);
                     AbstractDungeon.player.decreaseMaxHealth(additionalDecrease);
-                    logger.info(String.format(
-                        "Ascension 48: Applied additional -%d max HP for TEN_PERCENT_HP_LOSS (total -15%%)",
-                        additionalDecrease
-                    ));
+                    if (AscensionLog.isTracing()) {
+                        logger.info(String.format(
+                            "Ascension 48: Applied additional -%d max HP for TEN_PERCENT_HP_LOSS (total -15%%)",
+                            additionalDecrease
+                        ));
+                    }
                 }
 
                 // PERCENT_DAMAGE: Already applied 30% damage (currentHealth / 10 * 3)
@@ -369,10 +380,12 @@ public class Level48 {
                 if (drawback.toString().equals("PERCENT_DAMAGE")) {
                     int additionalDamage = AbstractDungeon.player.currentHealth / 10;
                     AbstractDungeon.player.damage(new DamageInfo(null, additionalDamage, DamageInfo.DamageType.HP_LOSS));
-                    logger.info(String.format(
-                        "Ascension 48: Applied additional %d HP damage for PERCENT_DAMAGE (total 40%%)",
-                        additionalDamage
-                    ));
+                    if (AscensionLog.isTracing()) {
+                        logger.info(String.format(
+                            "Ascension 48: Applied additional %d HP damage for PERCENT_DAMAGE (total 40%%)",
+                            additionalDamage
+                        ));
+                    }
                 }
 
             } catch (Exception e) {
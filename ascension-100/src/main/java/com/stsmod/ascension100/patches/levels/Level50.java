@@ -11,6 +11,8 @@ import com.megacrit.cardcrawl.core.Settings;
 import com.megacrit.cardcrawl.dungeons.AbstractDungeon;
 import com.megacrit.cardcrawl.monsters.MonsterGroup;
 import com.megacrit.cardcrawl.rooms.MonsterRoomBoss;
+import com.stsmod.ascension100.patches.unified.SharedHooks;
+import com.stsmod.ascension100.util.AscensionLog;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -28,99 +30,98 @@ import org.apache.logging.log4j.Logger;
 public class Level50 {
     private static final Logger logger = LogManager.getLogger(Level50.class.getName());
 
+    /**
+     * Listeners for SharedHooks, linked only while this level is active
+     */
+    public static void registerHooks() {
+        SharedHooks.GROUP_PRE_BATTLE.register(50, Level50::applyPreBattlePunishment);
+    }
+
     private static boolean punishmentApplied = false;
 
     /**
      * Apply punishment during pre-battle phase when action manager is ready
      */
-    @SpirePatch(
-        clz = MonsterGroup.class,
-        method = "usePreBattleAction"
-    )
-    public static class ApplyPreBattlePunishment {
-        @SpirePostfixPatch
-        public static void Postfix(MonsterGroup __instance) {
-            // Only apply on ascension 50+
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 50) {
-                return;
-            }
-
-            // Only apply in Act 3 boss room
-            if (AbstractDungeon.actNum != 3 || !(AbstractDungeon.getCurrRoom() instanceof MonsterRoomBoss)) {
-                return;
-            }
+    private static void applyPreBattlePunishment(MonsterGroup group) {
+        // Only apply in Act 3 boss room
+        if (AbstractDungeon.actNum != 3 || !(AbstractDungeon.getCurrRoom() instanceof MonsterRoomBoss)) {
+            return;
+        }
 
-            // Only apply once per boss fight
-            if (punishmentApplied) {
-                return;
-            }
+        // Only apply once per boss fight
+        if (punishmentApplied) {
+            return;
+        }
 
-            AbstractPlayer player = AbstractDungeon.player;
+        AbstractPlayer player = AbstractDungeon.player;
 
-            // Check if player has all 3 keys (stored in Settings flags)
-            boolean hasRubyKey = Settings.hasRubyKey;
-            boolean hasEmeraldKey = Settings.hasEmeraldKey;
-            boolean hasSapphireKey = Settings.hasSapphireKey;
+        // Check if player has all 3 keys (stored in Settings flags)
+        boolean hasRubyKey = Settings.hasRubyKey;
+        boolean hasEmeraldKey = Settings.hasEmeraldKey;
+        boolean hasSapphireKey = Settings.hasSapphireKey;
 
-            boolean hasAllKeys = hasRubyKey && hasEmeraldKey && hasSapphireKey;
+        boolean hasAllKeys = hasRubyKey && hasEmeraldKey && hasSapphireKey;
 
-            if (!hasAllKeys) {
-                logger.warn(String.format(
-                    "[Asc50] Act 3 Boss without all keys! Ruby: %b, Emerald: %b, Sapphire: %b",
-                    hasRubyKey, hasEmeraldKey, hasSapphireKey
-                ));
+        if (!hasAllKeys) {
+            logger.warn(String.format(
+                "[Asc50] Act 3 Boss without all keys! Ruby: %b, Emerald: %b, Sapphire: %b",
+                hasRubyKey, hasEmeraldKey, hasSapphireKey
+            ));
 
-                // Punishment 0: Remove revival items first
-                // Remove all Fairy Potions
-                for (int i = player.potions.size() - 1; i >= 0; i--) {
-                    com.megacrit.cardcrawl.potions.AbstractPotion potion = player.potions.get(i);
-                    if (potion.ID != null && potion.ID.equals("FairyPotion")) {
-                        player.removePotion(potion);
+            // Punishment 0: Remove revival items first
+            // Remove all Fairy Potions
+            for (int i = player.potions.size() - 1; i >= 0; i--) {
+                com.megacrit.cardcrawl.potions.AbstractPotion potion = player.potions.get(i);
+                if (potion.ID != null && potion.ID.equals("FairyPotion")) {
+                    player.removePotion(potion);
+                    if (AscensionLog.isTracing()) {
                         logger.info("[Asc50] Removed Fairy Potion from slot " + i);
                     }
                 }
+            }
 
-                // Remove Lizard Tail if present
-                if (player.hasRelic("Lizard Tail")) {
-                    player.loseRelic("Lizard Tail");
-                    logger.info("[Asc50] Removed Lizard Tail relic");
-                }
+            // Remove Lizard Tail if present
+            if (player.hasRelic("Lizard Tail")) {
+                player.loseRelic("Lizard Tail");
+                AscensionLog.trace(logger, "[Asc50] Removed Lizard Tail relic");
+            }
 
-                // Punishment 1: Set HP to 1
-                int hpLoss = player.currentHealth - 1;
-                if (hpLoss > 0) {
-                    player.currentHealth = 1;
-                    player.healthBarUpdatedEvent();
+            // Punishment 1: Set HP to 1
+            int hpLoss = player.currentHealth - 1;
+            if (hpLoss > 0) {
+                player.currentHealth = 1;
+                player.healthBarUpdatedEvent();
+                if (AscensionLog.isTracing()) {
                     logger.info(String.format(
                         "[Asc50] Set player HP to 1 (lost %d HP)",
                         hpLoss
                     ));
                 }
+            }
 
-                // Punishment 2: Set energy to 0
-                player.energy.energy = 0;
-                logger.info("[Asc50] Set player energy to 0");
+            // Punishment 2: Set energy to 0
+            player.energy.energy = 0;
+            AscensionLog.trace(logger, "[Asc50] Set player energy to 0");
 
-                // Punishment 3: Deal massive damage to guarantee death
-                // Use 9999 damage to ensure death even with any protection
-                AbstractDungeon.actionManager.addToBottom(
-                    new DamageAction(
+            // Punishment 3: Deal massive damage to guarantee death
+            // Use 9999 damage to ensure death even with any protection
+            AbstractDungeon.actionManager.addToBottom(
+                new DamageAction(
+                    (AbstractCreature) player,
+                    new DamageInfo(
                         (AbstractCreature) player,
-                        new DamageInfo(
-                            (AbstractCreature) player,
-                            9999,
-                            DamageInfo.DamageType.HP_LOSS
-                        ),
-                        AbstractGameAction.AttackEffect.FIRE,
-                        true
-                    )
-                );
-
-                logger.warn("[Asc50] Applied 9999 HP LOSS damage - Player will die");
-                punishmentApplied = true;
-            } else {
-                logger.info("[Asc50] Player has all 3 keys - no punishment");
-            }
+                        9999,
+                        DamageInfo.DamageType.HP_LOSS
+                    ),
+                    AbstractGameAction.AttackEffect.FIRE,
+                    true
+                )
+            );
+
+            logger.warn("[Asc50] Applied 9999 HP LOSS damage - Player will die");
+            punishmentApplied = true;
+        } else {
+            AscensionLog.trace(logger, "[Asc50] Player has all 3 keys - no punishment");
         }
     }
 
@@ -37,11 +37,15 @@ import com.megacrit.cardcrawl.powers.ExplosivePower;
 import com.megacrit.cardcrawl.powers.StrengthPower;
 import com.megacrit.cardcrawl.powers.PlatedArmorPower;
 import com.megacrit.cardcrawl.powers.SporeCloudPower;
+import com.stsmod.ascension100.patches.unified.MonsterDispatch;
+import com.stsmod.ascension100.util.AscensionLog;
+import com.stsmod.ascension100.util.AscensionRuleSet;
+import com.stsmod.ascension100.util.CombatScopedState;
+import com.stsmod.ascension100.util.FieldAccessor;
+import com.stsmod.ascension100.util.ReflectionCache;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
-import java.lang.reflect.Field;
-
 /**
  * Ascension Level 51: Enemy action patterns enhanced
  * 모든 적의 행동 패턴이 강화됩니다.
@@ -56,39 +60,79 @@ import java.lang.reflect.Field;
 public class Level51 {
     private static final Logger logger = LogManager.getLogger(Level51.class.getName());
 
+    /**
+     * Per-class monster changes, applied by MonsterDispatch at init,
+     * around usePreBattleAction and around takeTurn
+     */
+    public static void registerMonsterModifiers(MonsterDispatch.Registry registry) {
+        registry.add(51, SlaverBlue.class, Level51::slaverBlueDamage);
+        registry.add(51, SlaverRed.class, Level51::slaverRedDamage);
+        registry.add(51, GremlinTsundere.class, Level51::gremlinTsundereBlock);
+        registry.add(51, GremlinThief.class, Level51::gremlinThiefDamage);
+        registry.add(51, GremlinWizard.class, Level51::gremlinWizardDamage);
+        registry.add(51, GremlinWarrior.class, Level51::gremlinWarriorHP);
+        registry.add(51, GremlinFat.class, Level51::gremlinFatHP);
+        registry.add(51, Chosen.class, Level51::chosenDamage);
+        registry.add(51, Centurion.class, Level51::centurionHP);
+        registry.add(51, Snecko.class, Level51::sneckoDamage);
+        registry.add(51, BanditPointy.class, Level51::banditPointyDamage);
+        registry.add(51, BanditLeader.class, Level51::banditLeaderHP);
+        registry.add(51, Repulsor.class, Level51::repulsorDamage);
+        registry.add(51, OrbWalker.class, Level51::orbWalkerHP);
+        registry.add(51, Transient.class, Level51::transientDamage);
+        registry.add(51, SpireGrowth.class, Level51::spireGrowthHP);
+
+        registry.afterTurn(51, WrithingMass.class, AllowTwoImplants::afterTurn);
+        registry.afterPreBattle(51, WrithingMass.class, ResetBattleCounter::afterPreBattle);
+        registry.beforePreBattle(51, Mugger.class, MuggerThieveryIncrease::beforePreBattle);
+        registry.afterPreBattle(51, Mugger.class, MuggerThieveryIncrease::afterPreBattle);
+        registry.afterTurn(51, com.megacrit.cardcrawl.monsters.exordium.Looter.class, LooterSmokeBombBlockIncrease::afterTurn);
+        registry.afterTurn(51, Mugger.class, MuggerSmokeBombBlockIncrease::afterTurn);
+        registry.beforeTurn(51, com.megacrit.cardcrawl.monsters.city.Healer.class, HealerHealAmountIncrease::beforeTurn);
+        registry.afterTurn(51, com.megacrit.cardcrawl.monsters.city.Healer.class, HealerHealAmountIncrease::afterTurn);
+        registry.afterTurn(51, com.megacrit.cardcrawl.monsters.city.BanditBear.class, BanditBearBearHugDebuffIncrease::afterTurn);
+        registry.beforeTurn(51, com.megacrit.cardcrawl.monsters.beyond.Spiker.class, SpikerThornsPowerIncrease::beforeTurn);
+        registry.afterTurn(51, com.megacrit.cardcrawl.monsters.beyond.Spiker.class, SpikerThornsPowerIncrease::afterTurn);
+        registry.afterTurn(51, com.megacrit.cardcrawl.monsters.beyond.Darkling.class, DarklingReviveStrengthGain::afterTurn);
+        registry.afterTurn(51, com.megacrit.cardcrawl.monsters.beyond.Maw.class, MawRoarDebuffIncrease::afterTurn);
+        registry.beforeTurn(51, LouseNormal.class, LouseNormalGrowStrengthBonus::beforeTurn);
+        registry.afterTurn(51, LouseNormal.class, LouseNormalGrowStrengthBonus::afterTurn);
+        registry.beforeTurn(51, LouseDefensive.class, LouseDefensiveGrowStrengthBonus::beforeTurn);
+        registry.afterTurn(51, LouseDefensive.class, LouseDefensiveGrowStrengthBonus::afterTurn);
+        registry.afterPreBattle(51, JawWorm.class, JawWormFirstTurnBlock::afterPreBattle);
+        registry.afterPreBattle(51, ShelledParasite.class, ShelledParasitePlatedArmorIncrease::afterPreBattle);
+        registry.afterPreBattle(51, SphericGuardian.class, SphericGuardianBlockIncrease::afterPreBattle);
+    }
+
     /**
      * Allow WrithingMass to use IMPLANT pattern twice instead of once
      */
-    @SpirePatch(clz = WrithingMass.class, method = "takeTurn")
     public static class AllowTwoImplants {
-        private static boolean hasResetOnce = false;
-
-        @SpirePostfixPatch
-        public static void Postfix(WrithingMass __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 51) {
-                return;
-            }
+        // Writhing Masses whose IMPLANT flag was already reset once this combat
+        private static final CombatScopedState<WrithingMass, Boolean> hasResetOnce =
+            CombatScopedState.create("Level51.AllowTwoImplants", 4);
 
+        public static void afterTurn(WrithingMass monster) {
             // MEGA_DEBUFF (case 4) 사용 직후
-            if (__instance.nextMove == 4 && !hasResetOnce) {
+            if (monster.nextMove == 4 && !hasResetOnce.containsKey(monster)) {
                 try {
                     // usedMegaDebuff 필드 접근
-                    Field usedMegaDebuff = WrithingMass.class
-                            .getDeclaredField("usedMegaDebuff");
-                    usedMegaDebuff.setAccessible(true);
+                    FieldAccessor usedMegaDebuff = ReflectionCache.WRITHING_MASS_USED_MEGA_DEBUFF;
 
                     // 플래그 리셋 (재사용 허용)
-                    usedMegaDebuff.setBoolean(__instance, false);
+                    usedMegaDebuff.setBoolean(monster, false);
 
-                    hasResetOnce = true;
+                    hasResetOnce.put(monster, Boolean.TRUE);
 
-                    logger.info(String.format(
-                            "[Asc51] WrithingMass IMPLANT flag reset - can use one more time (1/2 used)"));
+                    if (AscensionLog.isTracing()) {
+                        logger.info(String.format(
+                                "[Asc51] WrithingMass IMPLANT flag reset - can use one more time (1/2 used)"));
+                    }
                 } catch (Exception e) {
                     logger.error("[Asc51] Failed to reset usedMegaDebuff flag: " + e.getMessage());
                 }
-            } else if (__instance.nextMove == 4 && hasResetOnce) {
-                logger.info("[Asc51] WrithingMass IMPLANT used 2/2 times - no more uses");
+            } else if (monster.nextMove == 4) {
+                AscensionLog.trace(logger, "[Asc51] WrithingMass IMPLANT used 2/2 times - no more uses");
             }
         }
     }
@@ -96,18 +140,12 @@ public class Level51 {
     /**
      * Reset the flag counter at the start of each battle
      */
-    @SpirePatch(clz = WrithingMass.class, method = "usePreBattleAction")
     public static class ResetBattleCounter {
-        @SpirePostfixPatch
-        public static void Postfix(WrithingMass __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 51) {
-                return;
-            }
-
+        public static void afterPreBattle(WrithingMass monster) {
             // 전투 시작 시 카운터 초기화
-            AllowTwoImplants.hasResetOnce = false;
+            AllowTwoImplants.hasResetOnce.remove(monster);
 
-            logger.info("[Asc51] WrithingMass battle started - IMPLANT counter reset (0/2 used)");
+            AscensionLog.trace(logger, "[Asc51] WrithingMass battle started - IMPLANT counter reset (0/2 used)");
         }
     }
 
@@ -131,30 +169,43 @@ public class Level51 {
                 DamageInfo info,
                 com.megacrit.cardcrawl.actions.AbstractGameAction.AttackEffect effect,
                 boolean superFast) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 51) {
+            if (!AscensionRuleSet.isActive(51)) {
                 return;
             }
 
             // Only modify ExplosivePower explosion damage (THORNS type, 30 base damage,
             // target is player)
-            if (info.type == DamageInfo.DamageType.THORNS &&
-                    info.base == 30 &&
-                    target != null && target.isPlayer &&
-                    info.owner != null && !info.owner.isPlayer) {
-
-                if (AbstractDungeon.ascensionLevel >= 86) {
-                    // Level 86+: 60 damage
-                    info.base = 60;
-                    info.output = 60;
-                    logger.info("Ascension 86: ExplosivePower explosion damage increased from 30 to 60");
-                } else {
-                    // Level 53-85: 50 damage
-                    info.base = 50;
-                    info.output = 50;
-                    logger.info("Ascension 51: ExplosivePower explosion damage increased from 30 to 50");
+            if (isExplosion(info.type, info.base,
+                    target != null && target.isPlayer,
+                    info.owner != null && !info.owner.isPlayer)) {
+                int damage = getExplosionDamage();
+                info.base = damage;
+                info.output = damage;
+                if (AscensionLog.isTracing()) {
+                    logger.info(String.format(
+                        "Ascension %d: ExplosivePower explosion damage increased from 30 to %d",
+                        AscensionRuleSet.isActive(86) ? 86 : 51, damage
+                    ));
                 }
             }
         }
+
+        /**
+         * ExplosivePower's hit: THORNS, 30 base, monster -> player
+         */
+        public static boolean isExplosion(DamageInfo.DamageType type, int base,
+                                          boolean targetIsPlayer, boolean ownerIsMonster) {
+            return type == DamageInfo.DamageType.THORNS && base == 30 && targetIsPlayer && ownerIsMonster;
+        }
+
+        /**
+         * Explosion damage for the current level
+         * - Level 51-85: 50
+         * - Level 86+: 60
+         */
+        public static int getExplosionDamage() {
+            return AscensionRuleSet.isActive(86) ? 60 : 50;
+        }
     }
 
     /**
@@ -168,26 +219,25 @@ public class Level51 {
     public static class ExplosivePowerTooltipFix {
         @SpirePostfixPatch
         public static void Postfix(ExplosivePower __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 51) {
+            if (!AscensionRuleSet.isActive(51)) {
                 return;
             }
 
             try {
                 // Get the current description
-                Field descriptionField = AbstractPower.class.getDeclaredField("description");
-                descriptionField.setAccessible(true);
+                FieldAccessor descriptionField = ReflectionCache.ABSTRACT_POWER_DESCRIPTION;
                 String currentDescription = (String) descriptionField.get(__instance);
 
                 // Replace damage value in tooltip
                 String newDescription;
-                if (AbstractDungeon.ascensionLevel >= 86) {
+                if (AscensionRuleSet.isActive(86)) {
                     // Level 86+: Replace "30" with "60"
                     newDescription = currentDescription.replace(" 30 ", " 60 ");
-                    logger.info("Ascension 86: ExplosivePower tooltip updated to show 60 damage");
+                    AscensionLog.trace(logger, "Ascension 86: ExplosivePower tooltip updated to show 60 damage");
                 } else {
                     // Level 53-85: Replace "30" with "50"
                     newDescription = currentDescription.replace(" 30 ", " 50 ");
-                    logger.info("Ascension 51: ExplosivePower tooltip updated to show 50 damage");
+                    AscensionLog.trace(logger, "Ascension 51: ExplosivePower tooltip updated to show 50 damage");
                 }
 
                 descriptionField.set(__instance, newDescription);
@@ -200,62 +250,52 @@ public class Level51 {
     /**
      * Slaver Blue (푸른색 노예 상인): Damage +1
      */
-    @SpirePatch(clz = SlaverBlue.class, method = SpirePatch.CONSTRUCTOR, paramtypez = { float.class, float.class })
-    public static class SlaverBlueDamagePatch {
-        @SpirePostfixPatch
-        public static void Postfix(SlaverBlue __instance, float x, float y) {
-            if (AbstractDungeon.isAscensionMode && AbstractDungeon.ascensionLevel >= 51) {
-                try {
-                    // Increase stabDmg field (+1) - used in getMove() line 124
-                    Field stabDmgField = SlaverBlue.class.getDeclaredField("stabDmg");
-                    stabDmgField.setAccessible(true);
-                    int currentStabDmg = stabDmgField.getInt(__instance);
-                    stabDmgField.setInt(__instance, currentStabDmg + 1);
-
-                    // Also increase damage.get(0).base for consistency
-                    if (!__instance.damage.isEmpty()) {
-                        DamageInfo stabDamage = __instance.damage.get(0);
-                        stabDamage.base += 1;
-                    }
+    private static void slaverBlueDamage(SlaverBlue monster) {
+        try {
+            // Increase stabDmg field (+1) - used in getMove() line 124
+            FieldAccessor stabDmgField = ReflectionCache.SLAVER_BLUE_STAB_DMG;
+            int currentStabDmg = stabDmgField.getInt(monster);
+            stabDmgField.setInt(monster, currentStabDmg + 1);
 
-                    logger.info(String.format(
-                            "Ascension 51: Slaver Blue Stab damage increased from %d to %d",
-                            currentStabDmg, currentStabDmg + 1));
-                } catch (Exception e) {
-                    logger.error("Failed to modify Slaver Blue damage", e);
-                }
+            // Also increase damage.get(0).base for consistency
+            if (!monster.damage.isEmpty()) {
+                DamageInfo stabDamage = monster.damage.get(0);
+                stabDamage.base += 1;
+            }
+
+            if (AscensionLog.isTracing()) {
+                logger.info(String.format(
+                        "Ascension 51: Slaver Blue Stab damage increased from %d to %d",
+                        currentStabDmg, currentStabDmg + 1));
             }
+        } catch (Exception e) {
+            logger.error("Failed to modify Slaver Blue damage", e);
         }
     }
 
     /**
      * Slaver Red (붉은색 노예 상인): Damage +1
      */
-    @SpirePatch(clz = SlaverRed.class, method = SpirePatch.CONSTRUCTOR, paramtypez = { float.class, float.class })
-    public static class SlaverRedDamagePatch {
-        @SpirePostfixPatch
-        public static void Postfix(SlaverRed __instance, float x, float y) {
-            if (AbstractDungeon.isAscensionMode && AbstractDungeon.ascensionLevel >= 51) {
-                try {
-                    // Increase stabDmg field (+1) - used in getMove() line 155
-                    Field stabDmgField = SlaverRed.class.getDeclaredField("stabDmg");
-                    stabDmgField.setAccessible(true);
-                    int currentStabDmg = stabDmgField.getInt(__instance);
-                    stabDmgField.setInt(__instance, currentStabDmg + 1);
-
-                    // Also increase damage.get(0).base for consistency
-                    if (!__instance.damage.isEmpty()) {
-                        DamageInfo stabDamage = __instance.damage.get(0);
-                        stabDamage.base += 1;
-                    }
+    private static void slaverRedDamage(SlaverRed monster) {
+        try {
+            // Increase stabDmg field (+1) - used in getMove() line 155
+            FieldAccessor stabDmgField = ReflectionCache.SLAVER_RED_STAB_DMG;
+            int currentStabDmg = stabDmgField.getInt(monster);
+            stabDmgField.setInt(monster, currentStabDmg + 1);
 
-                    logger.info(String.format(
-                            "Ascension 51: Slaver Red Stab damage increased from %d to %d",
-                            currentStabDmg, currentStabDmg + 1));
-                } catch (Exception e) {
-                    logger.error("Failed to modify Slaver Red damage", e);
-                }
+            // Also increase damage.get(0).base for consistency
+            if (!monster.damage.isEmpty()) {
+                DamageInfo stabDamage = monster.damage.get(0);
+                stabDamage.base += 1;
+            }
+
+            if (AscensionLog.isTracing()) {
+                logger.info(String.format(
+                        "Ascension 51: Slaver Red Stab damage increased from %d to %d",
+                        currentStabDmg, currentStabDmg + 1));
             }
+        } catch (Exception e) {
+            logger.error("Failed to modify Slaver Red damage", e);
         }
     }
 
@@ -265,43 +305,32 @@ public class Level51 {
      * IMPORTANT: Must modify goldAmt field BEFORE usePreBattleAction creates
      * ThieveryPower
      */
-    @SpirePatch(clz = Mugger.class, method = "usePreBattleAction")
     public static class MuggerThieveryIncrease {
-        @SpirePrefixPatch
-        public static void Prefix(Mugger __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 51) {
-                return;
-            }
-
+        public static void beforePreBattle(Mugger monster) {
             try {
                 // Increase goldAmt BEFORE ThieveryPower is created
-                java.lang.reflect.Field goldAmtField = Mugger.class.getDeclaredField("goldAmt");
-                goldAmtField.setAccessible(true);
-                int currentGoldAmt = goldAmtField.getInt(__instance);
-                goldAmtField.setInt(__instance, currentGoldAmt + 5);
+                FieldAccessor goldAmtField = ReflectionCache.MUGGER_GOLD_AMT;
+                int currentGoldAmt = goldAmtField.getInt(monster);
+                goldAmtField.setInt(monster, currentGoldAmt + 5);
 
-                logger.info(String.format(
-                        "Ascension 51: Mugger goldAmt increased from %d to %d (Thievery will be %d)",
-                        currentGoldAmt, currentGoldAmt + 5, currentGoldAmt + 5));
+                if (AscensionLog.isTracing()) {
+                    logger.info(String.format(
+                            "Ascension 51: Mugger goldAmt increased from %d to %d (Thievery will be %d)",
+                            currentGoldAmt, currentGoldAmt + 5, currentGoldAmt + 5));
+                }
             } catch (Exception e) {
                 logger.error("Failed to modify Mugger goldAmt", e);
             }
         }
 
-        @SpirePostfixPatch
-        public static void Postfix(Mugger __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 51) {
-                return;
-            }
-
+        public static void afterPreBattle(Mugger monster) {
             try {
                 // Reset goldAmt back to original after ThieveryPower is created
-                java.lang.reflect.Field goldAmtField = Mugger.class.getDeclaredField("goldAmt");
-                goldAmtField.setAccessible(true);
-                int currentGoldAmt = goldAmtField.getInt(__instance);
-                goldAmtField.setInt(__instance, currentGoldAmt - 5);
+                FieldAccessor goldAmtField = ReflectionCache.MUGGER_GOLD_AMT;
+                int currentGoldAmt = goldAmtField.getInt(monster);
+                goldAmtField.setInt(monster, currentGoldAmt - 5);
 
-                logger.info("Ascension 51: Mugger goldAmt reset to original (Thievery amount remains increased)");
+                AscensionLog.trace(logger, "Ascension 51: Mugger goldAmt reset to original (Thievery amount remains increased)");
             } catch (Exception e) {
                 logger.error("Failed to reset Mugger goldAmt", e);
             }
@@ -318,7 +347,7 @@ public class Level51 {
         @SpirePostfixPatch
         public static void Postfix(com.megacrit.cardcrawl.powers.MalleablePower __instance,
                 com.megacrit.cardcrawl.core.AbstractCreature owner) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 51) {
+            if (!AscensionRuleSet.isActive(51)) {
                 return;
             }
 
@@ -327,18 +356,18 @@ public class Level51 {
                 // Increase both amount and basePower by 1
                 __instance.amount += 1;
                 try {
-                    java.lang.reflect.Field basePowerField = com.megacrit.cardcrawl.powers.MalleablePower.class
-                            .getDeclaredField("basePower");
-                    basePowerField.setAccessible(true);
+                    FieldAccessor basePowerField = ReflectionCache.MALLEABLE_POWER_BASE_POWER;
                     int currentBasePower = basePowerField.getInt(__instance);
                     basePowerField.setInt(__instance, currentBasePower + 1);
                 } catch (Exception e) {
                     logger.error("Failed to modify MalleablePower basePower for Level 51", e);
                 }
                 __instance.updateDescription();
-                logger.info(String.format(
-                        "Ascension 51: Snake Plant Malleable increased to %d (base: %d)",
-                        __instance.amount, __instance.amount));
+                if (AscensionLog.isTracing()) {
+                    logger.info(String.format(
+                            "Ascension 51: Snake Plant Malleable increased to %d (base: %d)",
+                            __instance.amount, __instance.amount));
+                }
             }
         }
     }
@@ -346,31 +375,24 @@ public class Level51 {
     /**
      * Looter (도적): Smoke Bomb block +4
      */
-    @SpirePatch(clz = com.megacrit.cardcrawl.monsters.exordium.Looter.class, method = "takeTurn")
     public static class LooterSmokeBombBlockIncrease {
-        @SpirePostfixPatch
-        public static void Postfix(com.megacrit.cardcrawl.monsters.exordium.Looter __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 51) {
-                return;
-            }
-
+        public static void afterTurn(com.megacrit.cardcrawl.monsters.exordium.Looter monster) {
             try {
                 // Check if Smoke Bomb move (ESCAPE move)
-                java.lang.reflect.Field nextMoveField = AbstractMonster.class.getDeclaredField("nextMove");
-                nextMoveField.setAccessible(true);
-                byte move = nextMoveField.getByte(__instance);
+                FieldAccessor nextMoveField = ReflectionCache.ABSTRACT_MONSTER_NEXT_MOVE;
+                byte move = nextMoveField.getByte(monster);
 
                 if (move == 2) { // ESCAPE (Smoke Bomb) move
                     // Increase escapeDef by 4
-                    java.lang.reflect.Field escapeDefField = com.megacrit.cardcrawl.monsters.exordium.Looter.class
-                            .getDeclaredField("escapeDef");
-                    escapeDefField.setAccessible(true);
-                    int currentEscapeDef = escapeDefField.getInt(__instance);
-                    escapeDefField.setInt(__instance, currentEscapeDef + 4);
-
-                    logger.info(String.format(
-                            "Ascension 51: Looter Smoke Bomb block increased by 4 to %d",
-                            currentEscapeDef + 4));
+                    FieldAccessor escapeDefField = ReflectionCache.LOOTER_ESCAPE_DEF;
+                    int currentEscapeDef = escapeDefField.getInt(monster);
+                    escapeDefField.setInt(monster, currentEscapeDef + 4);
+
+                    if (AscensionLog.isTracing()) {
+                        logger.info(String.format(
+                                "Ascension 51: Looter Smoke Bomb block increased by 4 to %d",
+                                currentEscapeDef + 4));
+                    }
                 }
             } catch (Exception e) {
                 logger.error("Failed to modify Looter Smoke Bomb block", e);
@@ -381,30 +403,24 @@ public class Level51 {
     /**
      * Mugger (강도): Smoke Bomb block +3
      */
-    @SpirePatch(clz = Mugger.class, method = "takeTurn")
     public static class MuggerSmokeBombBlockIncrease {
-        @SpirePostfixPatch
-        public static void Postfix(Mugger __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 51) {
-                return;
-            }
-
+        public static void afterTurn(Mugger monster) {
             try {
                 // Check if Smoke Bomb move (LUNGE move)
-                java.lang.reflect.Field nextMoveField = AbstractMonster.class.getDeclaredField("nextMove");
-                nextMoveField.setAccessible(true);
-                byte move = nextMoveField.getByte(__instance);
+                FieldAccessor nextMoveField = ReflectionCache.ABSTRACT_MONSTER_NEXT_MOVE;
+                byte move = nextMoveField.getByte(monster);
 
                 if (move == 3) { // LUNGE (Smoke Bomb) move
                     // Increase escapeDef by 3
-                    java.lang.reflect.Field escapeDefField = Mugger.class.getDeclaredField("escapeDef");
-                    escapeDefField.setAccessible(true);
-                    int currentEscapeDef = escapeDefField.getInt(__instance);
-                    escapeDefField.setInt(__instance, currentEscapeDef + 3);
-
-                    logger.info(String.format(
-                            "Ascension 51: Mugger Smoke Bomb block increased by 3 to %d",
-                            currentEscapeDef + 3));
+                    FieldAccessor escapeDefField = ReflectionCache.MUGGER_ESCAPE_DEF;
+                    int currentEscapeDef = escapeDefField.getInt(monster);
+                    escapeDefField.setInt(monster, currentEscapeDef + 3);
+
+                    if (AscensionLog.isTracing()) {
+                        logger.info(String.format(
+                                "Ascension 51: Mugger Smoke Bomb block increased by 3 to %d",
+                                currentEscapeDef + 3));
+                    }
                 }
             } catch (Exception e) {
                 logger.error("Failed to modify Mugger Smoke Bomb block", e);
@@ -415,56 +431,42 @@ public class Level51 {
     /**
      * Healer (신비주의자/Mystic): Heal pattern +5 heal amount
      */
-    @SpirePatch(clz = com.megacrit.cardcrawl.monsters.city.Healer.class, method = "takeTurn")
     public static class HealerHealAmountIncrease {
         private static final ThreadLocal<Byte> lastMove = new ThreadLocal<>();
 
-        @SpirePrefixPatch
-        public static void Prefix(com.megacrit.cardcrawl.monsters.city.Healer __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 51) {
-                return;
-            }
-
+        public static void beforeTurn(com.megacrit.cardcrawl.monsters.city.Healer monster) {
             try {
-                java.lang.reflect.Field nextMoveField = AbstractMonster.class.getDeclaredField("nextMove");
-                nextMoveField.setAccessible(true);
-                byte move = nextMoveField.getByte(__instance);
+                FieldAccessor nextMoveField = ReflectionCache.ABSTRACT_MONSTER_NEXT_MOVE;
+                byte move = nextMoveField.getByte(monster);
                 lastMove.set(move);
 
                 if (move == 2) { // HEAL move
                     // Increase healAmt by 5 BEFORE takeTurn executes
-                    java.lang.reflect.Field healAmtField = com.megacrit.cardcrawl.monsters.city.Healer.class
-                            .getDeclaredField("healAmt");
-                    healAmtField.setAccessible(true);
-                    int currentHealAmt = healAmtField.getInt(__instance);
-                    healAmtField.setInt(__instance, currentHealAmt + 5);
-
-                    logger.info(String.format(
-                            "Ascension 51: Healer heal amount increased by 5 to %d",
-                            currentHealAmt + 5));
+                    FieldAccessor healAmtField = ReflectionCache.HEALER_HEAL_AMT;
+                    int currentHealAmt = healAmtField.getInt(monster);
+                    healAmtField.setInt(monster, currentHealAmt + 5);
+
+                    if (AscensionLog.isTracing()) {
+                        logger.info(String.format(
+                                "Ascension 51: Healer heal amount increased by 5 to %d",
+                                currentHealAmt + 5));
+                    }
                 }
             } catch (Exception e) {
                 logger.error("Failed to increase Healer heal amount", e);
             }
         }
 
-        @SpirePostfixPatch
-        public static void Postfix(com.megacrit.cardcrawl.monsters.city.Healer __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 51) {
-                return;
-            }
-
+        public static void afterTurn(com.megacrit.cardcrawl.monsters.city.Healer monster) {
             Byte move = lastMove.get();
             if (move != null && move == 2) { // HEAL move
                 try {
                     // Reset healAmt back to original after HEAL
-                    java.lang.reflect.Field healAmtField = com.megacrit.cardcrawl.monsters.city.Healer.class
-                            .getDeclaredField("healAmt");
-                    healAmtField.setAccessible(true);
-                    int currentHealAmt = healAmtField.getInt(__instance);
-                    healAmtField.setInt(__instance, currentHealAmt - 5);
+                    FieldAccessor healAmtField = ReflectionCache.HEALER_HEAL_AMT;
+                    int currentHealAmt = healAmtField.getInt(monster);
+                    healAmtField.setInt(monster, currentHealAmt - 5);
 
-                    logger.info("Ascension 51: Healer heal amount reset to original");
+                    AscensionLog.trace(logger, "Ascension 51: Healer heal amount reset to original");
                 } catch (Exception e) {
                     logger.error("Failed to reset Healer heal amount", e);
                 }
@@ -476,30 +478,23 @@ public class Level51 {
     /**
      * BanditBear (곰): Bear Hug dexterity reduction +1
      */
-    @SpirePatch(clz = com.megacrit.cardcrawl.monsters.city.BanditBear.class, method = "takeTurn")
     public static class BanditBearBearHugDebuffIncrease {
-        @SpirePostfixPatch
-        public static void Postfix(com.megacrit.cardcrawl.monsters.city.BanditBear __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 51) {
-                return;
-            }
-
+        public static void afterTurn(com.megacrit.cardcrawl.monsters.city.BanditBear monster) {
             try {
                 // Check if Bear Hug move
-                java.lang.reflect.Field nextMoveField = AbstractMonster.class.getDeclaredField("nextMove");
-                nextMoveField.setAccessible(true);
-                byte move = nextMoveField.getByte(__instance);
+                FieldAccessor nextMoveField = ReflectionCache.ABSTRACT_MONSTER_NEXT_MOVE;
+                byte move = nextMoveField.getByte(monster);
 
                 if (move == 2) { // BEAR_HUG move
                     // Apply additional -1 Dexterity
                     AbstractDungeon.actionManager.addToBottom(
                             new com.megacrit.cardcrawl.actions.common.ApplyPowerAction(
                                     AbstractDungeon.player,
-                                    __instance,
+                                    monster,
                                     new com.megacrit.cardcrawl.powers.DexterityPower(AbstractDungeon.player, -1),
                                     -1));
 
-                    logger.info("Ascension 51: BanditBear Bear Hug applied -1 additional Dexterity");
+                    AscensionLog.trace(logger, "Ascension 51: BanditBear Bear Hug applied -1 additional Dexterity");
                 }
             } catch (Exception e) {
                 logger.error("Failed to modify BanditBear Bear Hug", e);
@@ -510,33 +505,21 @@ public class Level51 {
     /**
      * Spiker (반사기): Power pattern Thorns +1
      */
-    @SpirePatch(clz = com.megacrit.cardcrawl.monsters.beyond.Spiker.class, method = "takeTurn")
     public static class SpikerThornsPowerIncrease {
         private static final ThreadLocal<Byte> lastMove = new ThreadLocal<>();
 
-        @com.evacipated.cardcrawl.modthespire.lib.SpirePrefixPatch
-        public static void Prefix(com.megacrit.cardcrawl.monsters.beyond.Spiker __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 51) {
-                return;
-            }
-
+        public static void beforeTurn(com.megacrit.cardcrawl.monsters.beyond.Spiker monster) {
             try {
                 // Store current move before it changes
-                java.lang.reflect.Field nextMoveField = AbstractMonster.class.getDeclaredField("nextMove");
-                nextMoveField.setAccessible(true);
-                byte move = nextMoveField.getByte(__instance);
+                FieldAccessor nextMoveField = ReflectionCache.ABSTRACT_MONSTER_NEXT_MOVE;
+                byte move = nextMoveField.getByte(monster);
                 lastMove.set(move);
             } catch (Exception e) {
                 logger.error("Failed to get Spiker move", e);
             }
         }
 
-        @com.evacipated.cardcrawl.modthespire.lib.SpirePostfixPatch
-        public static void Postfix(com.megacrit.cardcrawl.monsters.beyond.Spiker __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 51) {
-                return;
-            }
-
+        public static void afterTurn(com.megacrit.cardcrawl.monsters.beyond.Spiker monster) {
             Byte move = lastMove.get();
             if (move != null && move == 2) { // BUFF_THORNS move
                 // Find and modify the last ApplyPowerAction with ThornsPower
@@ -546,25 +529,23 @@ public class Level51 {
                                 .get(i);
 
                         if (action instanceof com.megacrit.cardcrawl.actions.common.ApplyPowerAction) {
-                            java.lang.reflect.Field powerToApplyField = com.megacrit.cardcrawl.actions.common.ApplyPowerAction.class
-                                    .getDeclaredField("powerToApply");
-                            powerToApplyField.setAccessible(true);
+                            FieldAccessor powerToApplyField = ReflectionCache.APPLY_POWER_ACTION_POWER_TO_APPLY;
                             com.megacrit.cardcrawl.powers.AbstractPower power = (com.megacrit.cardcrawl.powers.AbstractPower) powerToApplyField
                                     .get(action);
 
                             if (power instanceof com.megacrit.cardcrawl.powers.ThornsPower
-                                    && power.owner == __instance) {
+                                    && power.owner == monster) {
                                 power.amount += 1;
 
-                                java.lang.reflect.Field amountField = com.megacrit.cardcrawl.actions.common.ApplyPowerAction.class
-                                        .getDeclaredField("amount");
-                                amountField.setAccessible(true);
+                                FieldAccessor amountField = ReflectionCache.APPLY_POWER_ACTION_AMOUNT;
                                 int currentAmount = amountField.getInt(action);
                                 amountField.setInt(action, currentAmount + 1);
 
-                                logger.info(String.format(
-                                        "Ascension 51: Spiker Thorns increased by +1 (total: %d)",
-                                        power.amount));
+                                if (AscensionLog.isTracing()) {
+                                    logger.info(String.format(
+                                            "Ascension 51: Spiker Thorns increased by +1 (total: %d)",
+                                            power.amount));
+                                }
                                 break;
                             }
                         }
@@ -581,30 +562,23 @@ public class Level51 {
     /**
      * Darkling (어두미): Revive grants Strength +2
      */
-    @SpirePatch(clz = com.megacrit.cardcrawl.monsters.beyond.Darkling.class, method = "takeTurn")
     public static class DarklingReviveStrengthGain {
-        @SpirePostfixPatch
-        public static void Postfix(com.megacrit.cardcrawl.monsters.beyond.Darkling __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 51) {
-                return;
-            }
-
+        public static void afterTurn(com.megacrit.cardcrawl.monsters.beyond.Darkling monster) {
             try {
                 // Check if Revive move
-                java.lang.reflect.Field nextMoveField = AbstractMonster.class.getDeclaredField("nextMove");
-                nextMoveField.setAccessible(true);
-                byte move = nextMoveField.getByte(__instance);
+                FieldAccessor nextMoveField = ReflectionCache.ABSTRACT_MONSTER_NEXT_MOVE;
+                byte move = nextMoveField.getByte(monster);
 
                 if (move == 5) { // REINCARNATE move
                     // Apply +2 Strength on revive
                     AbstractDungeon.actionManager.addToBottom(
                             new com.megacrit.cardcrawl.actions.common.ApplyPowerAction(
-                                    __instance,
-                                    __instance,
-                                    new com.megacrit.cardcrawl.powers.StrengthPower(__instance, 2),
+                                    monster,
+                                    monster,
+                                    new com.megacrit.cardcrawl.powers.StrengthPower(monster, 2),
                                     2));
 
-                    logger.info("Ascension 51: Darkling gained +2 Strength on revive");
+                    AscensionLog.trace(logger, "Ascension 51: Darkling gained +2 Strength on revive");
                 }
             } catch (Exception e) {
                 logger.error("Failed to modify Darkling revive", e);
@@ -615,36 +589,29 @@ public class Level51 {
     /**
      * Maw (아귀): Roar pattern Weak and Frail +1
      */
-    @SpirePatch(clz = com.megacrit.cardcrawl.monsters.beyond.Maw.class, method = "takeTurn")
     public static class MawRoarDebuffIncrease {
-        @SpirePostfixPatch
-        public static void Postfix(com.megacrit.cardcrawl.monsters.beyond.Maw __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 51) {
-                return;
-            }
-
+        public static void afterTurn(com.megacrit.cardcrawl.monsters.beyond.Maw monster) {
             try {
                 // Check if Roar move
-                java.lang.reflect.Field nextMoveField = AbstractMonster.class.getDeclaredField("nextMove");
-                nextMoveField.setAccessible(true);
-                byte move = nextMoveField.getByte(__instance);
+                FieldAccessor nextMoveField = ReflectionCache.ABSTRACT_MONSTER_NEXT_MOVE;
+                byte move = nextMoveField.getByte(monster);
 
                 if (move == 3) { // ROAR move
                     // Apply additional Weak +1 and Frail +1
                     AbstractDungeon.actionManager.addToBottom(
                             new com.megacrit.cardcrawl.actions.common.ApplyPowerAction(
                                     AbstractDungeon.player,
-                                    __instance,
+                                    monster,
                                     new com.megacrit.cardcrawl.powers.WeakPower(AbstractDungeon.player, 1, true),
                                     1));
                     AbstractDungeon.actionManager.addToBottom(
                             new com.megacrit.cardcrawl.actions.common.ApplyPowerAction(
                                     AbstractDungeon.player,
-                                    __instance,
+                                    monster,
                                     new com.megacrit.cardcrawl.powers.FrailPower(AbstractDungeon.player, 1, true),
                                     1));
 
-                    logger.info("Ascension 51: Maw Roar applied +1 additional Weak and Frail");
+                    AscensionLog.trace(logger, "Ascension 51: Maw Roar applied +1 additional Weak and Frail");
                 }
             } catch (Exception e) {
                 logger.error("Failed to modify Maw Roar", e);
@@ -656,32 +623,20 @@ public class Level51 {
      * Louse Normal: Grow pattern +1 additional Strength
      * 공벌레(일반): 힘 증가 패턴에서 추가적으로 힘을 1 증가
      */
-    @SpirePatch(clz = LouseNormal.class, method = "takeTurn")
     public static class LouseNormalGrowStrengthBonus {
         private static final ThreadLocal<Byte> lastMove = new ThreadLocal<>();
 
-        @SpirePrefixPatch
-        public static void Prefix(LouseNormal __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 51) {
-                return;
-            }
-
+        public static void beforeTurn(LouseNormal monster) {
             try {
-                Field nextMoveField = AbstractMonster.class.getDeclaredField("nextMove");
-                nextMoveField.setAccessible(true);
-                byte move = nextMoveField.getByte(__instance);
+                FieldAccessor nextMoveField = ReflectionCache.ABSTRACT_MONSTER_NEXT_MOVE;
+                byte move = nextMoveField.getByte(monster);
                 lastMove.set(move);
             } catch (Exception e) {
                 logger.error("Failed to get Louse Normal move", e);
             }
         }
 
-        @SpirePostfixPatch
-        public static void Postfix(LouseNormal __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 51) {
-                return;
-            }
-
+        public static void afterTurn(LouseNormal monster) {
             Byte move = lastMove.get();
             if (move != null && move == 3) { // GROW move (byte 3)
                 // Find and modify the StrengthPower in action queue
@@ -690,15 +645,16 @@ public class Level51 {
                         AbstractGameAction action = AbstractDungeon.actionManager.actions.get(i);
 
                         if (action instanceof ApplyPowerAction) {
-                            Field powerToApplyField = ApplyPowerAction.class.getDeclaredField("powerToApply");
-                            powerToApplyField.setAccessible(true);
+                            FieldAccessor powerToApplyField = ReflectionCache.APPLY_POWER_ACTION_POWER_TO_APPLY;
                             AbstractPower power = (AbstractPower) powerToApplyField.get(action);
 
-                            if (power instanceof StrengthPower && power.owner == __instance) {
+                            if (power instanceof StrengthPower && power.owner == monster) {
                                 power.amount += 1;
-                                logger.info(String.format(
-                                        "Ascension 51: Louse Normal Grow pattern strength increased by +1 to %d",
-                                        power.amount));
+                                if (AscensionLog.isTracing()) {
+                                    logger.info(String.format(
+                                            "Ascension 51: Louse Normal Grow pattern strength increased by +1 to %d",
+                                            power.amount));
+                                }
                                 break;
                             }
                         }
@@ -716,32 +672,20 @@ public class Level51 {
      * Louse Defensive: Grow pattern +1 additional Strength
      * 공벌레(방어): 힘 증가 패턴에서 추가적으로 힘을 1 증가
      */
-    @SpirePatch(clz = LouseDefensive.class, method = "takeTurn")
     public static class LouseDefensiveGrowStrengthBonus {
         private static final ThreadLocal<Byte> lastMove = new ThreadLocal<>();
 
-        @SpirePrefixPatch
-        public static void Prefix(LouseDefensive __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 51) {
-                return;
-            }
-
+        public static void beforeTurn(LouseDefensive monster) {
             try {
-                Field nextMoveField = AbstractMonster.class.getDeclaredField("nextMove");
-                nextMoveField.setAccessible(true);
-                byte move = nextMoveField.getByte(__instance);
+                FieldAccessor nextMoveField = ReflectionCache.ABSTRACT_MONSTER_NEXT_MOVE;
+                byte move = nextMoveField.getByte(monster);
                 lastMove.set(move);
             } catch (Exception e) {
                 logger.error("Failed to get Louse Defensive move", e);
             }
         }
 
-        @SpirePostfixPatch
-        public static void Postfix(LouseDefensive __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 51) {
-                return;
-            }
-
+        public static void afterTurn(LouseDefensive monster) {
             Byte move = lastMove.get();
             if (move != null && move == 3) { // GROW move (byte 3)
                 // Find and modify the StrengthPower in action queue
@@ -750,15 +694,16 @@ public class Level51 {
                         AbstractGameAction action = AbstractDungeon.actionManager.actions.get(i);
 
                         if (action instanceof ApplyPowerAction) {
-                            Field powerToApplyField = ApplyPowerAction.class.getDeclaredField("powerToApply");
-                            powerToApplyField.setAccessible(true);
+                            FieldAccessor powerToApplyField = ReflectionCache.APPLY_POWER_ACTION_POWER_TO_APPLY;
                             AbstractPower power = (AbstractPower) powerToApplyField.get(action);
 
-                            if (power instanceof StrengthPower && power.owner == __instance) {
+                            if (power instanceof StrengthPower && power.owner == monster) {
                                 power.amount += 1;
-                                logger.info(String.format(
-                                        "Ascension 51: Louse Defensive Grow pattern strength increased by +1 to %d",
-                                        power.amount));
+                                if (AscensionLog.isTracing()) {
+                                    logger.info(String.format(
+                                            "Ascension 51: Louse Defensive Grow pattern strength increased by +1 to %d",
+                                            power.amount));
+                                }
                                 break;
                             }
                         }
@@ -775,79 +720,59 @@ public class Level51 {
     /**
      * GremlinTsundere (방패 그렘린): Block amount +3
      */
-    @SpirePatch(clz = GremlinTsundere.class, method = SpirePatch.CONSTRUCTOR, paramtypez = { float.class, float.class })
-    public static class GremlinTsundereBlockPatch {
-        @SpirePostfixPatch
-        public static void Postfix(GremlinTsundere __instance, float x, float y) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 51) {
-                return;
-            }
-
-            try {
-                // Increase blockAmt field by 3
-                Field blockAmtField = GremlinTsundere.class.getDeclaredField("blockAmt");
-                blockAmtField.setAccessible(true);
-                int currentBlockAmt = blockAmtField.getInt(__instance);
-                blockAmtField.setInt(__instance, currentBlockAmt + 3);
-
+    private static void gremlinTsundereBlock(GremlinTsundere monster) {
+        try {
+            // Increase blockAmt field by 3
+            FieldAccessor blockAmtField = ReflectionCache.GREMLIN_TSUNDERE_BLOCK_AMT;
+            int currentBlockAmt = blockAmtField.getInt(monster);
+            blockAmtField.setInt(monster, currentBlockAmt + 3);
+
+            if (AscensionLog.isTracing()) {
                 logger.info(String.format(
                         "Ascension 51: GremlinTsundere blockAmt increased from %d to %d (+3)",
                         currentBlockAmt, currentBlockAmt + 3));
-            } catch (Exception e) {
-                logger.error("Failed to modify GremlinTsundere blockAmt", e);
             }
+        } catch (Exception e) {
+            logger.error("Failed to modify GremlinTsundere blockAmt", e);
         }
     }
 
     /**
      * GremlinThief (교활한 그렘린): Damage +2
      */
-    @SpirePatch(clz = GremlinThief.class, method = SpirePatch.CONSTRUCTOR, paramtypez = { float.class, float.class })
-    public static class GremlinThiefDamagePatch51 {
-        @SpirePostfixPatch
-        public static void Postfix(GremlinThief __instance, float x, float y) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 51) {
-                return;
-            }
+    private static void gremlinThiefDamage(GremlinThief monster) {
+        try {
+            // Increase thiefDamage field by 2
+            FieldAccessor thiefDamageField = ReflectionCache.GREMLIN_THIEF_THIEF_DAMAGE;
+            int currentDamage = thiefDamageField.getInt(monster);
+            thiefDamageField.setInt(monster, currentDamage + 2);
 
-            try {
-                // Increase thiefDamage field by 2
-                Field thiefDamageField = GremlinThief.class.getDeclaredField("thiefDamage");
-                thiefDamageField.setAccessible(true);
-                int currentDamage = thiefDamageField.getInt(__instance);
-                thiefDamageField.setInt(__instance, currentDamage + 2);
-
-                // Update damage info
-                if (!__instance.damage.isEmpty()) {
-                    DamageInfo damageInfo = __instance.damage.get(0);
-                    damageInfo.base += 2;
-                }
+            // Update damage info
+            if (!monster.damage.isEmpty()) {
+                DamageInfo damageInfo = monster.damage.get(0);
+                damageInfo.base += 2;
+            }
 
+            if (AscensionLog.isTracing()) {
                 logger.info(String.format(
                         "Ascension 51: GremlinThief damage increased from %d to %d (+2)",
                         currentDamage, currentDamage + 2));
-            } catch (Exception e) {
-                logger.error("Failed to modify GremlinThief damage", e);
             }
+        } catch (Exception e) {
+            logger.error("Failed to modify GremlinThief damage", e);
         }
     }
 
     /**
      * GremlinWizard (마법사 그렘린): Damage +5
      */
-    @SpirePatch(clz = GremlinWizard.class, method = SpirePatch.CONSTRUCTOR, paramtypez = { float.class, float.class })
-    public static class GremlinWizardDamagePatch {
-        @SpirePostfixPatch
-        public static void Postfix(GremlinWizard __instance, float x, float y) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 51) {
-                return;
-            }
-
-            // Increase damage by 5
-            if (!__instance.damage.isEmpty()) {
-                int originalDamage = __instance.damage.get(0).base;
-                __instance.damage.get(0).base += 5;
+    private static void gremlinWizardDamage(GremlinWizard monster) {
+        // Increase damage by 5
+        if (!monster.damage.isEmpty()) {
+            int originalDamage = monster.damage.get(0).base;
+            monster.damage.get(0).base += 5;
 
+            if (AscensionLog.isTracing()) {
                 logger.info(String.format(
                         "Ascension 51: GremlinWizard damage increased from %d to %d (+5)",
                         originalDamage, originalDamage + 5));
@@ -858,42 +783,30 @@ public class Level51 {
     /**
      * GremlinWarrior (화난 그렘린): HP +10
      */
-    @SpirePatch(clz = GremlinWarrior.class, method = SpirePatch.CONSTRUCTOR, paramtypez = { float.class, float.class })
-    public static class GremlinWarriorHPPatch {
-        @SpirePostfixPatch
-        public static void Postfix(GremlinWarrior __instance, float x, float y) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 51) {
-                return;
-            }
-
-            int originalHP = __instance.maxHealth;
-            __instance.maxHealth += 10;
-            __instance.currentHealth += 10;
+    private static void gremlinWarriorHP(GremlinWarrior monster) {
+        int originalHP = monster.maxHealth;
+        monster.maxHealth += 10;
+        monster.currentHealth += 10;
 
+        if (AscensionLog.isTracing()) {
             logger.info(String.format(
                     "Ascension 51: GremlinWarrior HP increased from %d to %d (+10)",
-                    originalHP, __instance.maxHealth));
+                    originalHP, monster.maxHealth));
         }
     }
 
     /**
      * GremlinFat (뚱뚱한 그렘린): HP +2
      */
-    @SpirePatch(clz = GremlinFat.class, method = SpirePatch.CONSTRUCTOR, paramtypez = { float.class, float.class })
-    public static class GremlinFatHPPatch {
-        @SpirePostfixPatch
-        public static void Postfix(GremlinFat __instance, float x, float y) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 51) {
-                return;
-            }
-
-            int originalHP = __instance.maxHealth;
-            __instance.maxHealth += 2;
-            __instance.currentHealth += 2;
+    private static void gremlinFatHP(GremlinFat monster) {
+        int originalHP = monster.maxHealth;
+        monster.maxHealth += 2;
+        monster.currentHealth += 2;
 
+        if (AscensionLog.isTracing()) {
             logger.info(String.format(
                     "Ascension 51: GremlinFat HP increased from %d to %d (+2)",
-                    originalHP, __instance.maxHealth));
+                    originalHP, monster.maxHealth));
         }
     }
 
@@ -901,18 +814,12 @@ public class Level51 {
      * JawWorm (턱벌레): First turn block +3
      * 첫턴에서 방어도를 3 얻은상태로 시작
      */
-    @SpirePatch(clz = JawWorm.class, method = "usePreBattleAction")
     public static class JawWormFirstTurnBlock {
-        @SpirePostfixPatch
-        public static void Postfix(JawWorm __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 51) {
-                return;
-            }
-
+        public static void afterPreBattle(JawWorm monster) {
             AbstractDungeon.actionManager.addToBottom(
-                    new GainBlockAction(__instance, __instance, 3));
+                    new GainBlockAction(monster, monster, 3));
 
-            logger.info("Ascension 51: JawWorm gained 3 block at battle start");
+            AscensionLog.trace(logger, "Ascension 51: JawWorm gained 3 block at battle start");
         }
     }
 
@@ -924,7 +831,7 @@ public class Level51 {
     public static class FungiBeastSporeCloudReduction {
         @SpirePostfixPatch
         public static void Postfix(SporeCloudPower __instance, AbstractCreature owner, int amount) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 51) {
+            if (!AscensionRuleSet.isActive(51)) {
                 return;
             }
 
@@ -932,9 +839,11 @@ public class Level51 {
             if (owner instanceof com.megacrit.cardcrawl.monsters.exordium.FungiBeast) {
                 __instance.amount = Math.max(1, __instance.amount - 1);
                 __instance.updateDescription();
-                logger.info(String.format(
-                        "Ascension 51: FungiBeast SporeCloud reduced from %d to %d",
-                        amount, __instance.amount));
+                if (AscensionLog.isTracing()) {
+                    logger.info(String.format(
+                            "Ascension 51: FungiBeast SporeCloud reduced from %d to %d",
+                            amount, __instance.amount));
+                }
             }
         }
     }
@@ -946,7 +855,7 @@ public class Level51 {
     public static class FungiBeastSporeCloudFrail {
         @SpirePostfixPatch
         public static void Postfix(SporeCloudPower __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 51) {
+            if (!AscensionRuleSet.isActive(51)) {
                 return;
             }
 
@@ -962,9 +871,11 @@ public class Level51 {
                                         __instance.amount,
                                         true),
                                 __instance.amount));
-                logger.info(String.format(
-                        "Ascension 51: FungiBeast death also applies %d Frail (in addition to Vulnerable)",
-                        __instance.amount));
+                if (AscensionLog.isTracing()) {
+                    logger.info(String.format(
+                            "Ascension 51: FungiBeast death also applies %d Frail (in addition to Vulnerable)",
+                            __instance.amount));
+                }
             }
         }
     }
@@ -976,7 +887,7 @@ public class Level51 {
     public static class SporeCloudPowerDescriptionPatch {
         @SpirePostfixPatch
         public static void Postfix(SporeCloudPower __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 51) {
+            if (!AscensionRuleSet.isActive(51)) {
                 return;
             }
 
@@ -995,221 +906,145 @@ public class Level51 {
     /**
      * ShelledParasite (갑각기생충): Plated Armor +2
      */
-    @SpirePatch(clz = ShelledParasite.class, method = "usePreBattleAction")
     public static class ShelledParasitePlatedArmorIncrease {
-        @SpirePostfixPatch
-        public static void Postfix(ShelledParasite __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 51) {
-                return;
-            }
-
+        public static void afterPreBattle(ShelledParasite monster) {
             AbstractDungeon.actionManager.addToBottom(
-                    new ApplyPowerAction(__instance, __instance,
-                            new PlatedArmorPower(__instance, 2), 2));
+                    new ApplyPowerAction(monster, monster,
+                            new PlatedArmorPower(monster, 2), 2));
 
-            logger.info("Ascension 51: ShelledParasite gained +2 Plated Armor");
+            AscensionLog.trace(logger, "Ascension 51: ShelledParasite gained +2 Plated Armor");
         }
     }
 
     /**
      * Chosen (선택받은 자): Damage +2
      */
-    @SpirePatch(clz = Chosen.class, method = SpirePatch.CONSTRUCTOR, paramtypez = { float.class, float.class })
-    public static class ChosenDamagePatch {
-        @SpirePostfixPatch
-        public static void Postfix(Chosen __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 51) {
-                return;
-            }
-
-            // Increase all damage by 2
-            for (DamageInfo damage : __instance.damage) {
-                damage.base += 2;
-            }
-
-            logger.info("Ascension 51: Chosen damage increased by +2");
+    private static void chosenDamage(Chosen monster) {
+        // Increase all damage by 2
+        for (DamageInfo damage : monster.damage) {
+            damage.base += 2;
         }
+
+        AscensionLog.trace(logger, "Ascension 51: Chosen damage increased by +2");
     }
 
     /**
      * Centurion (백부장): HP +6
      */
-    @SpirePatch(clz = Centurion.class, method = SpirePatch.CONSTRUCTOR, paramtypez = { float.class, float.class })
-    public static class CenturionHPPatch {
-        @SpirePostfixPatch
-        public static void Postfix(Centurion __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 51) {
-                return;
-            }
-
-            int originalHP = __instance.maxHealth;
-            __instance.maxHealth += 6;
-            __instance.currentHealth += 6;
+    private static void centurionHP(Centurion monster) {
+        int originalHP = monster.maxHealth;
+        monster.maxHealth += 6;
+        monster.currentHealth += 6;
 
+        if (AscensionLog.isTracing()) {
             logger.info(String.format(
                     "Ascension 51: Centurion HP increased from %d to %d (+6)",
-                    originalHP, __instance.maxHealth));
+                    originalHP, monster.maxHealth));
         }
     }
 
     /**
      * Snecko (스네코): Damage +2
      */
-    @SpirePatch(clz = Snecko.class, method = SpirePatch.CONSTRUCTOR, paramtypez = { float.class, float.class })
-    public static class SneckoDamagePatch {
-        @SpirePostfixPatch
-        public static void Postfix(Snecko __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 51) {
-                return;
-            }
-
-            // Increase all damage by 2
-            for (DamageInfo damage : __instance.damage) {
-                damage.base += 2;
-            }
-
-            logger.info("Ascension 51: Snecko damage increased by +2");
+    private static void sneckoDamage(Snecko monster) {
+        // Increase all damage by 2
+        for (DamageInfo damage : monster.damage) {
+            damage.base += 2;
         }
+
+        AscensionLog.trace(logger, "Ascension 51: Snecko damage increased by +2");
     }
 
     /**
      * SphericGuardian (구체형 수호기): Block +15
      */
-    @SpirePatch(clz = SphericGuardian.class, method = "usePreBattleAction")
     public static class SphericGuardianBlockIncrease {
-        @SpirePostfixPatch
-        public static void Postfix(SphericGuardian __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 51) {
-                return;
-            }
-
+        public static void afterPreBattle(SphericGuardian monster) {
             AbstractDungeon.actionManager.addToBottom(
-                    new GainBlockAction(__instance, __instance, 15));
+                    new GainBlockAction(monster, monster, 15));
 
-            logger.info("Ascension 51: SphericGuardian gained +15 block at battle start");
+            AscensionLog.trace(logger, "Ascension 51: SphericGuardian gained +15 block at battle start");
         }
     }
 
     /**
      * BanditPointy (촉새): Damage +1
      */
-    @SpirePatch(clz = BanditPointy.class, method = SpirePatch.CONSTRUCTOR, paramtypez = { float.class, float.class })
-    public static class BanditPointyDamagePatch {
-        @SpirePostfixPatch
-        public static void Postfix(BanditPointy __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 51) {
-                return;
-            }
-
-            // Increase all damage by 1
-            for (DamageInfo damage : __instance.damage) {
-                damage.base += 1;
-            }
-
-            logger.info("Ascension 51: BanditPointy damage increased by +1");
+    private static void banditPointyDamage(BanditPointy monster) {
+        // Increase all damage by 1
+        for (DamageInfo damage : monster.damage) {
+            damage.base += 1;
         }
+
+        AscensionLog.trace(logger, "Ascension 51: BanditPointy damage increased by +1");
     }
 
     /**
      * BanditLeader (로미오): HP +5
      */
-    @SpirePatch(clz = BanditLeader.class, method = SpirePatch.CONSTRUCTOR, paramtypez = { float.class, float.class })
-    public static class BanditLeaderHPPatch {
-        @SpirePostfixPatch
-        public static void Postfix(BanditLeader __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 51) {
-                return;
-            }
-
-            int originalHP = __instance.maxHealth;
-            __instance.maxHealth += 5;
-            __instance.currentHealth += 5;
+    private static void banditLeaderHP(BanditLeader monster) {
+        int originalHP = monster.maxHealth;
+        monster.maxHealth += 5;
+        monster.currentHealth += 5;
 
+        if (AscensionLog.isTracing()) {
             logger.info(String.format(
                     "Ascension 51: BanditLeader HP increased from %d to %d (+5)",
-                    originalHP, __instance.maxHealth));
+                    originalHP, monster.maxHealth));
         }
     }
 
     /**
      * Repulsor (현혹기): Damage +2
      */
-    @SpirePatch(clz = Repulsor.class, method = SpirePatch.CONSTRUCTOR, paramtypez = { float.class, float.class })
-    public static class RepulsorDamagePatch {
-        @SpirePostfixPatch
-        public static void Postfix(Repulsor __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 51) {
-                return;
-            }
-
-            // Increase all damage by 2
-            for (DamageInfo damage : __instance.damage) {
-                damage.base += 2;
-            }
-
-            logger.info("Ascension 51: Repulsor damage increased by +2");
+    private static void repulsorDamage(Repulsor monster) {
+        // Increase all damage by 2
+        for (DamageInfo damage : monster.damage) {
+            damage.base += 2;
         }
+
+        AscensionLog.trace(logger, "Ascension 51: Repulsor damage increased by +2");
     }
 
     /**
      * OrbWalker (구체 순찰기): HP +10
      */
-    @SpirePatch(clz = OrbWalker.class, method = SpirePatch.CONSTRUCTOR, paramtypez = { float.class, float.class })
-    public static class OrbWalkerHPPatch {
-        @SpirePostfixPatch
-        public static void Postfix(OrbWalker __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 51) {
-                return;
-            }
-
-            int originalHP = __instance.maxHealth;
-            __instance.maxHealth += 10;
-            __instance.currentHealth += 10;
+    private static void orbWalkerHP(OrbWalker monster) {
+        int originalHP = monster.maxHealth;
+        monster.maxHealth += 10;
+        monster.currentHealth += 10;
 
+        if (AscensionLog.isTracing()) {
             logger.info(String.format(
                     "Ascension 51: OrbWalker HP increased from %d to %d (+10)",
-                    originalHP, __instance.maxHealth));
+                    originalHP, monster.maxHealth));
         }
     }
 
     /**
      * Transient (과도자): Damage +5
      */
-    @SpirePatch(clz = Transient.class, method = SpirePatch.CONSTRUCTOR, paramtypez = {})
-    public static class TransientDamagePatch {
-        @SpirePostfixPatch
-        public static void Postfix(Transient __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 51) {
-                return;
-            }
-
-            // Increase all damage by 5
-            for (DamageInfo damage : __instance.damage) {
-                damage.base += 5;
-            }
-
-            logger.info("Ascension 51: Transient damage increased by +5");
+    private static void transientDamage(Transient monster) {
+        // Increase all damage by 5
+        for (DamageInfo damage : monster.damage) {
+            damage.base += 5;
         }
+
+        AscensionLog.trace(logger, "Ascension 51: Transient damage increased by +5");
     }
 
     /**
      * SpireGrowth (첨탑 암종): HP +15
      */
-    @SpirePatch(clz = SpireGrowth.class, method = SpirePatch.CONSTRUCTOR)
-    public static class SpireGrowthHPPatch {
-        @SpirePostfixPatch
-        public static void Postfix(SpireGrowth __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 51) {
-                return;
-            }
-
-            int originalHP = __instance.maxHealth;
-            __instance.maxHealth += 15;
-            __instance.currentHealth += 15;
+    private static void spireGrowthHP(SpireGrowth monster) {
+        int originalHP = monster.maxHealth;
+        monster.maxHealth += 15;
+        monster.currentHealth += 15;
 
+        if (AscensionLog.isTracing()) {
             logger.info(String.format(
                     "Ascension 51: SpireGrowth HP increased from %d to %d (+15)",
-                    originalHP, __instance.maxHealth));
+                    originalHP, monster.maxHealth));
         }
     }
 }
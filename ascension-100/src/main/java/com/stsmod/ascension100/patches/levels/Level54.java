@@ -26,6 +26,10 @@ import com.megacrit.cardcrawl.powers.PlatedArmorPower;
 import com.megacrit.cardcrawl.powers.SharpHidePower;
 import com.megacrit.cardcrawl.actions.common.ApplyPowerAction;
 import com.megacrit.cardcrawl.actions.common.SpawnMonsterAction;
+import com.stsmod.ascension100.util.AscensionLog;
+import com.stsmod.ascension100.util.AscensionRuleSet;
+import com.stsmod.ascension100.util.FieldAccessor;
+import com.stsmod.ascension100.util.ReflectionCache;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -56,7 +60,7 @@ public class Level54 {
     public static class GuardianSharpHideIncrease {
         @SpirePostfixPatch
         public static void Postfix(TheGuardian __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 54) {
+            if (!AscensionRuleSet.isActive(54)) {
                 return;
             }
 
@@ -65,7 +69,7 @@ public class Level54 {
                     new ApplyPowerAction(__instance, __instance,
                             new SharpHidePower(__instance, 1), 1));
 
-            logger.info("Ascension 54: Guardian gained +1 additional Sharp Hide in defensive mode");
+            AscensionLog.trace(logger, "Ascension 54: Guardian gained +1 additional Sharp Hide in defensive mode");
         }
     }
 
@@ -80,13 +84,12 @@ public class Level54 {
 
         @SpirePrefixPatch
         public static void Prefix(Hexaghost __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 54) {
+            if (!AscensionRuleSet.isActive(54)) {
                 return;
             }
 
             try {
-                java.lang.reflect.Field nextMoveField = AbstractMonster.class.getDeclaredField("nextMove");
-                nextMoveField.setAccessible(true);
+                FieldAccessor nextMoveField = ReflectionCache.ABSTRACT_MONSTER_NEXT_MOVE;
                 byte move = nextMoveField.getByte(__instance);
                 lastMove.set(move);
             } catch (Exception e) {
@@ -96,7 +99,7 @@ public class Level54 {
 
         @SpirePostfixPatch
         public static void Postfix(Hexaghost __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 54) {
+            if (!AscensionRuleSet.isActive(54)) {
                 return;
             }
 
@@ -113,7 +116,7 @@ public class Level54 {
                 AbstractDungeon.actionManager.addToBottom(
                         new MakeTempCardInDiscardAction((AbstractCard) burn2, 1));
 
-                logger.info("Ascension 54: Hexaghost Inferno added 2 extra Burns to discard pile");
+                AscensionLog.trace(logger, "Ascension 54: Hexaghost Inferno added 2 extra Burns to discard pile");
             }
 
             lastMove.remove();
@@ -127,7 +130,7 @@ public class Level54 {
     public static class AwakenedOnePhase1HPIncrease {
         @SpirePostfixPatch
         public static void Postfix(AwakenedOne __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 54) {
+            if (!AscensionRuleSet.isActive(54)) {
                 return;
             }
 
@@ -136,10 +139,12 @@ public class Level54 {
             __instance.maxHealth += 25;
             __instance.currentHealth += 25;
 
-            logger.info(String.format(
-                    "Ascension 54: AwakenedOne Phase 1 HP increased from %d to %d (+25)",
-                    originalHP,
-                    __instance.maxHealth));
+            if (AscensionLog.isTracing()) {
+                logger.info(String.format(
+                        "Ascension 54: AwakenedOne Phase 1 HP increased from %d to %d (+25)",
+                        originalHP,
+                        __instance.maxHealth));
+            }
         }
     }
 
@@ -150,7 +155,7 @@ public class Level54 {
     public static class SlimeBossSlamDamageIncrease {
         @SpirePostfixPatch
         public static void Postfix(SlimeBoss __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 54) {
+            if (!AscensionRuleSet.isActive(54)) {
                 return;
             }
 
@@ -161,7 +166,7 @@ public class Level54 {
                 }
             }
 
-            logger.info("Ascension 54: Slime Boss Slam damage increased by +17");
+            AscensionLog.trace(logger, "Ascension 54: Slime Boss Slam damage increased by +17");
         }
     }
 
@@ -172,7 +177,7 @@ public class Level54 {
     public static class BronzeOrbArtifactBonus {
         @SpirePostfixPatch
         public static void Postfix(BronzeOrb __instance, float x, float y, int count) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 54) {
+            if (!AscensionRuleSet.isActive(54)) {
                 return;
             }
 
@@ -181,7 +186,7 @@ public class Level54 {
                     new ApplyPowerAction(__instance, __instance,
                             new ArtifactPower(__instance, 2), 2));
 
-            logger.info("Ascension 54: Bronze Orb spawned with +2 Artifact");
+            AscensionLog.trace(logger, "Ascension 54: Bronze Orb spawned with +2 Artifact");
         }
     }
 
@@ -194,13 +199,12 @@ public class Level54 {
 
         @SpirePrefixPatch
         public static void Prefix(Champ __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 54) {
+            if (!AscensionRuleSet.isActive(54)) {
                 return;
             }
 
             try {
-                java.lang.reflect.Field nextMoveField = AbstractMonster.class.getDeclaredField("nextMove");
-                nextMoveField.setAccessible(true);
+                FieldAccessor nextMoveField = ReflectionCache.ABSTRACT_MONSTER_NEXT_MOVE;
                 byte move = nextMoveField.getByte(__instance);
                 lastMove.set(move);
             } catch (Exception e) {
@@ -210,7 +214,7 @@ public class Level54 {
 
         @SpirePostfixPatch
         public static void Postfix(Champ __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 54) {
+            if (!AscensionRuleSet.isActive(54)) {
                 return;
             }
 
@@ -221,9 +225,11 @@ public class Level54 {
                 AbstractDungeon.actionManager.addToBottom(
                         new HealAction(__instance, __instance, healAmount));
 
-                logger.info(String.format(
-                        "Ascension 54: Champ Anger pattern healed for %d (10%% max HP)",
-                        healAmount));
+                if (AscensionLog.isTracing()) {
+                    logger.info(String.format(
+                            "Ascension 54: Champ Anger pattern healed for %d (10%% max HP)",
+                            healAmount));
+                }
             }
 
             lastMove.remove();
@@ -240,13 +246,12 @@ public class Level54 {
 
         @SpirePrefixPatch
         public static void Prefix(TheCollector __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 54) {
+            if (!AscensionRuleSet.isActive(54)) {
                 return;
             }
 
             try {
-                java.lang.reflect.Field nextMoveField = AbstractMonster.class.getDeclaredField("nextMove");
-                nextMoveField.setAccessible(true);
+                FieldAccessor nextMoveField = ReflectionCache.ABSTRACT_MONSTER_NEXT_MOVE;
                 byte move = nextMoveField.getByte(__instance);
                 lastMove.set(move);
 
@@ -265,7 +270,7 @@ public class Level54 {
 
         @SpirePostfixPatch
         public static void Postfix(TheCollector __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 54) {
+            if (!AscensionRuleSet.isActive(54)) {
                 return;
             }
 
@@ -281,7 +286,7 @@ public class Level54 {
                                 new com.megacrit.cardcrawl.monsters.city.TorchHead(xPos, 0.0f),
                                 true));
 
-                logger.info("Ascension 54: Collector spawned additional TorchHead (2 total instead of making it 2)");
+                AscensionLog.trace(logger, "Ascension 54: Collector spawned additional TorchHead (2 total instead of making it 2)");
             }
 
             lastMove.remove();
@@ -308,13 +313,12 @@ public class Level54 {
 
         @SpirePrefixPatch
         public static void Prefix(TimeEater __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 54) {
+            if (!AscensionRuleSet.isActive(54)) {
                 return;
             }
 
             try {
-                java.lang.reflect.Field nextMoveField = AbstractMonster.class.getDeclaredField("nextMove");
-                nextMoveField.setAccessible(true);
+                FieldAccessor nextMoveField = ReflectionCache.ABSTRACT_MONSTER_NEXT_MOVE;
                 byte move = nextMoveField.getByte(__instance);
                 lastMove.set(move);
             } catch (Exception e) {
@@ -324,7 +328,7 @@ public class Level54 {
 
         @SpirePostfixPatch
         public static void Postfix(TimeEater __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 54) {
+            if (!AscensionRuleSet.isActive(54)) {
                 return;
             }
 
@@ -347,7 +351,7 @@ public class Level54 {
                                 new com.megacrit.cardcrawl.powers.FrailPower(AbstractDungeon.player, 1, true),
                                 1));
 
-                logger.info("Ascension 54: Time Eater Ripple pattern added +1 Weak and +1 Frail (total 2 each)");
+                AscensionLog.trace(logger, "Ascension 54: Time Eater Ripple pattern added +1 Weak and +1 Frail (total 2 each)");
             }
 
             lastMove.remove();
@@ -363,13 +367,12 @@ public class Level54 {
 
         @SpirePrefixPatch
         public static void Prefix(Deca __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 54) {
+            if (!AscensionRuleSet.isActive(54)) {
                 return;
             }
 
             try {
-                java.lang.reflect.Field nextMoveField = AbstractMonster.class.getDeclaredField("nextMove");
-                nextMoveField.setAccessible(true);
+                FieldAccessor nextMoveField = ReflectionCache.ABSTRACT_MONSTER_NEXT_MOVE;
                 byte move = nextMoveField.getByte(__instance);
                 lastMove.set(move);
             } catch (Exception e) {
@@ -379,7 +382,7 @@ public class Level54 {
 
         @SpirePostfixPatch
         public static void Postfix(Deca __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 54) {
+            if (!AscensionRuleSet.isActive(54)) {
                 return;
             }
 
@@ -390,7 +393,7 @@ public class Level54 {
                         new ApplyPowerAction(__instance, __instance,
                                 new PlatedArmorPower(__instance, 1), 1));
 
-                logger.info("Ascension 54: Deca buff pattern added +1 Plated Armor");
+                AscensionLog.trace(logger, "Ascension 54: Deca buff pattern added +1 Plated Armor");
             }
 
             lastMove.remove();
@@ -404,7 +407,7 @@ public class Level54 {
     public static class CorruptHeartMetallicize {
         @SpirePostfixPatch
         public static void Postfix(CorruptHeart __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 54) {
+            if (!AscensionRuleSet.isActive(54)) {
                 return;
             }
 
@@ -412,7 +415,7 @@ public class Level54 {
                     new ApplyPowerAction(__instance, __instance,
                             new MetallicizePower(__instance, 20), 20));
 
-            logger.info("Ascension 54: Corrupt Heart gained +20 Metallicize");
+            AscensionLog.trace(logger, "Ascension 54: Corrupt Heart gained +20 Metallicize");
         }
     }
 }
@@ -12,6 +12,9 @@ import com.megacrit.cardcrawl.powers.MetallicizePower;
 import com.megacrit.cardcrawl.powers.RegenerateMonsterPower;
 import com.megacrit.cardcrawl.powers.StrengthPower;
 import com.megacrit.cardcrawl.rooms.MonsterRoomElite;
+import com.stsmod.ascension100.util.AscensionLog;
+import com.stsmod.ascension100.util.AscensionRuleSet;
+import com.stsmod.ascension100.util.RngRecorder;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -28,6 +31,9 @@ import org.apache.logging.log4j.Logger;
 public class Level55 {
     private static final Logger logger = LogManager.getLogger(Level55.class.getName());
 
+    // RNG call sites (see RngRecorder)
+    private static final int BURNING_ELITE_BUFF = RngRecorder.site("Level55.burningEliteBuff", RngRecorder.Stream.MAP);
+
     /**
      * Patch Burning Elite buff application to enhance the bonuses
      */
@@ -35,7 +41,7 @@ public class Level55 {
     public static class EnhancedBurningElite {
         @SpirePrefixPatch
         public static SpireReturn<Void> Prefix(MonsterRoomElite __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 55) {
+            if (!AscensionRuleSet.isActive(55)) {
                 return SpireReturn.Continue();
             }
 
@@ -43,12 +49,14 @@ public class Level55 {
             if (Settings.isFinalActAvailable &&
                     AbstractDungeon.getCurrMapNode().hasEmeraldKey) {
 
-                int randomBuff = AbstractDungeon.mapRng.random(0, 3);
+                int randomBuff = RngRecorder.random(BURNING_ELITE_BUFF, AbstractDungeon.mapRng, 0, 3);
                 int actNum = AbstractDungeon.actNum;
 
-                logger.info(String.format(
-                        "[Asc55] Applying enhanced Burning Elite buff %d in Act %d",
-                        randomBuff, actNum));
+                if (AscensionLog.isTracing()) {
+                    logger.info(String.format(
+                            "[Asc55] Applying enhanced Burning Elite buff %d in Act %d",
+                            randomBuff, actNum));
+                }
 
                 for (AbstractMonster m : __instance.monsters.monsters) {
                     switch (randomBuff) {
@@ -59,18 +67,22 @@ public class Level55 {
                             AbstractDungeon.actionManager.addToBottom(
                                     new ApplyPowerAction(m, m,
                                             new StrengthPower(m, enhancedStr), enhancedStr));
-                            logger.info(String.format(
-                                    "[Asc55] %s gained Strength %d (base: %d, +2 bonus)",
-                                    m.name, enhancedStr, baseStr));
+                            if (AscensionLog.isTracing()) {
+                                logger.info(String.format(
+                                        "[Asc55] %s gained Strength %d (base: %d, +2 bonus)",
+                                        m.name, enhancedStr, baseStr));
+                            }
                             break;
 
                         case 1:
                             // Max HP: 25% → 40% (15% additional)
                             AbstractDungeon.actionManager.addToBottom(
                                     new IncreaseMaxHpAction(m, 0.40F, true));
-                            logger.info(String.format(
-                                    "[Asc55] %s max HP increased by 40%% (base: 25%%, +15%% bonus)",
-                                    m.name));
+                            if (AscensionLog.isTracing()) {
+                                logger.info(String.format(
+                                        "[Asc55] %s max HP increased by 40%% (base: 25%%, +15%% bonus)",
+                                        m.name));
+                            }
                             break;
 
                         case 2:
@@ -81,9 +93,11 @@ public class Level55 {
                                     new ApplyPowerAction(m, m,
                                             new MetallicizePower(m, enhancedMetallicize),
                                             enhancedMetallicize));
-                            logger.info(String.format(
-                                    "[Asc55] %s gained Metallicize %d (base: %d, +4 bonus)",
-                                    m.name, enhancedMetallicize, baseMetallicize));
+                            if (AscensionLog.isTracing()) {
+                                logger.info(String.format(
+                                        "[Asc55] %s gained Metallicize %d (base: %d, +4 bonus)",
+                                        m.name, enhancedMetallicize, baseMetallicize));
+                            }
                             break;
 
                         case 3:
@@ -94,9 +108,11 @@ public class Level55 {
                                     new ApplyPowerAction(m, m,
                                             new RegenerateMonsterPower(m, enhancedRegen),
                                             enhancedRegen));
-                            logger.info(String.format(
-                                    "[Asc55] %s gained Regeneration %d (base: %d, +3 bonus)",
-                                    m.name, enhancedRegen, baseRegen));
+                            if (AscensionLog.isTracing()) {
+                                logger.info(String.format(
+                                        "[Asc55] %s gained Regeneration %d (base: %d, +3 bonus)",
+                                        m.name, enhancedRegen, baseRegen));
+                            }
                             break;
                     }
                 }
@@ -1,13 +1,19 @@
 package com.stsmod.ascension100.patches.levels;
 
+import com.evacipated.cardcrawl.modthespire.lib.SpireInstrumentPatch;
 import com.evacipated.cardcrawl.modthespire.lib.SpirePatch;
-import com.evacipated.cardcrawl.modthespire.lib.SpirePrefixPatch;
-import com.evacipated.cardcrawl.modthespire.lib.SpireReturn;
+import com.evacipated.cardcrawl.modthespire.lib.SpirePostfixPatch;
 import com.megacrit.cardcrawl.cards.DamageInfo;
+import com.megacrit.cardcrawl.characters.AbstractPlayer;
 import com.megacrit.cardcrawl.dungeons.AbstractDungeon;
 import com.megacrit.cardcrawl.powers.FrailPower;
 import com.megacrit.cardcrawl.powers.VulnerablePower;
 import com.megacrit.cardcrawl.powers.WeakPower;
+import com.megacrit.cardcrawl.relics.AbstractRelic;
+import com.stsmod.ascension100.util.AscensionRuleSet;
+import javassist.CannotCompileException;
+import javassist.expr.ExprEditor;
+import javassist.expr.MethodCall;
 
 /**
  * Ascension Level 56: Debuff effects enhanced
@@ -18,34 +24,41 @@ import com.megacrit.cardcrawl.powers.WeakPower;
  * - 약화: 25% → 35% (10% 추가)
  * * Paper Crane 유물 효과는 원본 수치 유지
  * - 손상: 25% → 35% (10% 추가)
+ *
+ * These powers are evaluated for every card in hand on every frame while a
+ * card is hovered, so the patches are allocation-free: a primitive float
+ * Postfix (no SpireReturn<Float>) reads multipliers that are precomputed from
+ * a relic snapshot, and the originals' hasRelic scans are redirected to the
+ * same snapshot. The snapshot is rebuilt only when the relic list changes.
  */
 public class Level56 {
+    // Enhanced: 1.5F → 1.6F (50% → 60%)
+    public static final float VULNERABLE_MULTIPLIER = 1.6F;
+    // Enhanced: 0.75F → 0.65F (25% → 35% reduction)
+    public static final float WEAK_MULTIPLIER = 0.65F;
+    // Enhanced: 0.75F → 0.65F (25% → 35% reduction)
+    public static final float FRAIL_MULTIPLIER = 0.65F;
+
     /**
      * Patch VulnerablePower: 50% → 60% damage increase
      */
     @SpirePatch(clz = VulnerablePower.class, method = "atDamageReceive")
     public static class EnhancedVulnerable {
-        @SpirePrefixPatch
-        public static SpireReturn<Float> Prefix(VulnerablePower __instance, float damage, DamageInfo.DamageType type) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 56) {
-                return SpireReturn.Continue();
-            }
+        @SpireInstrumentPatch
+        public static ExprEditor Instrument() {
+            return new RelicCheckEditor();
+        }
 
-            if (type == DamageInfo.DamageType.NORMAL) {
-                // Check for relics (same logic as original)
-                if (__instance.owner.isPlayer && AbstractDungeon.player.hasRelic("Odd Mushroom")) {
-                    return SpireReturn.Return(damage * 1.25F);
-                }
-                if (__instance.owner != null && !__instance.owner.isPlayer
-                        && AbstractDungeon.player.hasRelic("Paper Frog")) {
-                    return SpireReturn.Return(damage * 1.75F);
-                }
-
-                // Enhanced: 1.5F → 1.6F (50% → 60%)
-                return SpireReturn.Return(damage * 1.6F);
+        @SpirePostfixPatch
+        public static float Postfix(float __result, VulnerablePower __instance, float damage, DamageInfo.DamageType type) {
+            if (!AscensionRuleSet.isActive(56) || type != DamageInfo.DamageType.NORMAL) {
+                return __result;
             }
 
-            return SpireReturn.Return(damage);
+            // Odd Mushroom / Paper Frog: same logic as original
+            RelicFlags flags = RelicFlags.get();
+            return damage * (__instance.owner.isPlayer
+                ? flags.vulnerableOnPlayer : flags.vulnerableOnMonster);
         }
     }
 
@@ -54,24 +67,22 @@ public class Level56 {
      */
     @SpirePatch(clz = WeakPower.class, method = "atDamageGive")
     public static class EnhancedWeak {
-        @SpirePrefixPatch
-        public static SpireReturn<Float> Prefix(WeakPower __instance, float damage, DamageInfo.DamageType type) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 56) {
-                return SpireReturn.Continue();
-            }
-
-            if (type == DamageInfo.DamageType.NORMAL) {
-                // Check for Paper Crane relic (same logic as original)
-                if (__instance.owner != null && !__instance.owner.isPlayer &&
-                        AbstractDungeon.player.hasRelic("Paper Crane")) {
-                    return SpireReturn.Return(damage * 0.6F);
-                }
+        @SpireInstrumentPatch
+        public static ExprEditor Instrument() {
+            return new RelicCheckEditor();
+        }
 
-                // Enhanced: 0.75F → 0.65F (25% → 35% reduction)
-                return SpireReturn.Return(damage * 0.65F);
+        @SpirePostfixPatch
+        public static float Postfix(float __result, WeakPower __instance, float damage, DamageInfo.DamageType type) {
+            if (!AscensionRuleSet.isActive(56) || type != DamageInfo.DamageType.NORMAL) {
+                return __result;
             }
 
-            return SpireReturn.Return(damage);
+            // Paper Crane: same logic as original
+            if (__instance.owner != null && !__instance.owner.isPlayer) {
+                return damage * RelicFlags.get().weakOnMonster;
+            }
+            return damage * WEAK_MULTIPLIER;
         }
     }
 
@@ -80,14 +91,148 @@ public class Level56 {
      */
     @SpirePatch(clz = FrailPower.class, method = "modifyBlock")
     public static class EnhancedFrail {
-        @SpirePrefixPatch
-        public static SpireReturn<Float> Prefix(FrailPower __instance, float blockAmount) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 56) {
-                return SpireReturn.Continue();
+        @SpirePostfixPatch
+        public static float Postfix(float __result, FrailPower __instance, float blockAmount) {
+            if (!AscensionRuleSet.isActive(56)) {
+                return __result;
+            }
+
+            return blockAmount * FRAIL_MULTIPLIER;
+        }
+    }
+
+    /**
+     * Redirect the originals' AbstractDungeon.player.hasRelic(...) calls to
+     * the relic snapshot while Level 56 is active
+     */
+    private static class RelicCheckEditor extends ExprEditor {
+        @Override
+        public void edit(MethodCall m) throws CannotCompileException {
+            if (m.getClassName().equals(AbstractPlayer.class.getName()) && m.getMethodName().equals("hasRelic")) {
+                m.replace("{ " +
+                    "if (com.stsmod.ascension100.util.AscensionRuleSet.isActive(56)) { " +
+                    "  $_ = com.stsmod.ascension100.patches.levels.Level56.RelicFlags.has($0, $1); " +
+                    "} else { " +
+                    "  $_ = $proceed($$); " +
+                    "} " +
+                    "}");
+            }
+        }
+    }
+
+    /**
+     * Snapshot of the debuff-related relics and the multipliers they imply
+     *
+     * Checked against the player instance and relic count on every get();
+     * relic changes that keep the count (slot replacement, lose + obtain in
+     * one frame) invalidate it through the patches below.
+     */
+    public static final class RelicFlags {
+        private static final RelicFlags EMPTY = new RelicFlags(null, false, false, false);
+
+        private static RelicFlags current = EMPTY;
+        private static boolean dirty = true;
+
+        private final AbstractPlayer player;
+        private final int relicCount;
+        public final boolean oddMushroom;
+        public final boolean paperFrog;
+        public final boolean paperCrane;
+        public final float vulnerableOnPlayer;
+        public final float vulnerableOnMonster;
+        public final float weakOnMonster;
+
+        private RelicFlags(AbstractPlayer player, boolean oddMushroom, boolean paperFrog, boolean paperCrane) {
+            this.player = player;
+            this.relicCount = player != null ? player.relics.size() : 0;
+            this.oddMushroom = oddMushroom;
+            this.paperFrog = paperFrog;
+            this.paperCrane = paperCrane;
+            this.vulnerableOnPlayer = vulnerableMultiplier(true, oddMushroom, paperFrog);
+            this.vulnerableOnMonster = vulnerableMultiplier(false, oddMushroom, paperFrog);
+            this.weakOnMonster = weakMultiplier(paperCrane);
+        }
+
+        public static RelicFlags get() {
+            AbstractPlayer player = AbstractDungeon.player;
+            RelicFlags flags = current;
+            if (dirty || flags.player != player || (player != null && flags.relicCount != player.relics.size())) {
+                flags = player == null ? EMPTY : new RelicFlags(player,
+                    player.hasRelic("Odd Mushroom"), player.hasRelic("Paper Frog"), player.hasRelic("Paper Crane"));
+                current = flags;
+                dirty = false;
             }
+            return flags;
+        }
 
-            // Enhanced: 0.75F → 0.65F (25% → 35% reduction)
-            return SpireReturn.Return(blockAmount * 0.65F);
+        /**
+         * Snapshot-backed replacement for player.hasRelic(id)
+         */
+        public static boolean has(AbstractPlayer player, String relicId) {
+            if (player != AbstractDungeon.player) {
+                return player.hasRelic(relicId);
+            }
+            switch (relicId) {
+                case "Odd Mushroom":
+                    return get().oddMushroom;
+                case "Paper Frog":
+                    return get().paperFrog;
+                case "Paper Crane":
+                    return get().paperCrane;
+                default:
+                    return player.hasRelic(relicId);
+            }
         }
+
+        public static void invalidate() {
+            dirty = true;
+        }
+    }
+
+    @SpirePatch(clz = AbstractRelic.class, method = "instantObtain",
+        paramtypez = {AbstractPlayer.class, int.class, boolean.class})
+    public static class InvalidateOnInstantObtain {
+        @SpirePostfixPatch
+        public static void Postfix(AbstractRelic __instance, AbstractPlayer p, int slot, boolean callOnEquip) {
+            RelicFlags.invalidate();
+        }
+    }
+
+    @SpirePatch(clz = AbstractRelic.class, method = "obtain")
+    public static class InvalidateOnObtain {
+        @SpirePostfixPatch
+        public static void Postfix(AbstractRelic __instance) {
+            RelicFlags.invalidate();
+        }
+    }
+
+    @SpirePatch(clz = AbstractPlayer.class, method = "loseRelic")
+    public static class InvalidateOnLoseRelic {
+        @SpirePostfixPatch
+        public static void Postfix(AbstractPlayer __instance, String targetID) {
+            RelicFlags.invalidate();
+        }
+    }
+
+    /**
+     * Damage multiplier of an enhanced Vulnerable (NORMAL damage only)
+     * Odd Mushroom / Paper Frog keep their original values.
+     */
+    public static float vulnerableMultiplier(boolean ownerIsPlayer, boolean oddMushroom, boolean paperFrog) {
+        if (ownerIsPlayer && oddMushroom) {
+            return 1.25F;
+        }
+        if (!ownerIsPlayer && paperFrog) {
+            return 1.75F;
+        }
+        return VULNERABLE_MULTIPLIER;
+    }
+
+    /**
+     * Damage multiplier of an enhanced Weak (NORMAL damage only)
+     * Paper Crane keeps its original value.
+     */
+    public static float weakMultiplier(boolean paperCrane) {
+        return paperCrane ? 0.6F : WEAK_MULTIPLIER;
     }
 }
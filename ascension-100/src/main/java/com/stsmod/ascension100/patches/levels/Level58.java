@@ -3,16 +3,16 @@ package com.stsmod.ascension100.patches.levels;
 import com.evacipated.cardcrawl.modthespire.lib.SpirePatch;
 import com.evacipated.cardcrawl.modthespire.lib.SpirePostfixPatch;
 import com.evacipated.cardcrawl.modthespire.lib.SpirePrefixPatch;
-import com.megacrit.cardcrawl.cards.DamageInfo;
-import com.megacrit.cardcrawl.dungeons.AbstractDungeon;
-import com.megacrit.cardcrawl.monsters.AbstractMonster;
 import com.megacrit.cardcrawl.monsters.city.Byrd;
-import com.megacrit.cardcrawl.monsters.exordium.SlaverRed;
+import com.stsmod.ascension100.patches.unified.MonsterStatContext;
+import com.stsmod.ascension100.patches.unified.MonsterStatModifier;
+import com.stsmod.ascension100.util.AscensionLog;
+import com.stsmod.ascension100.util.AscensionRuleSet;
+import com.stsmod.ascension100.util.FieldAccessor;
+import com.stsmod.ascension100.util.ReflectionCache;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
-import java.lang.reflect.Field;
-
 /**
  * Ascension Level 58: Normal enemies deal +1 damage (except Byrd)
  *
@@ -24,72 +24,17 @@ public class Level58 {
 
     /**
      * Normal enemies (except Byrd) get +1 damage
+     * Applied by MonsterStatPipeline (also updates SlaverRed stabDmg / GremlinThief thiefDamage)
      */
-    @SpirePatch(
-        clz = AbstractMonster.class,
-        method = "init",
-        paramtypez = {}
-    )
-    public static class NormalDamageIncrease {
-        @SpirePrefixPatch
-        public static void Prefix(AbstractMonster __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 58) {
+    public static void modifyStats(MonsterStatContext ctx, MonsterStatModifier mod) {
+        // Only apply to NORMAL enemies, exclude Byrd and elite minions
+        if (ctx.isNormal() && !ctx.isMonster(Byrd.ID)) {
+            // Skip elite minions (they should not get normal enemy bonuses)
+            if (ctx.isMonster("Dagger")) {
                 return;
             }
 
-            // Only apply to NORMAL enemies, exclude Byrd and elite minions
-            if (__instance.type == AbstractMonster.EnemyType.NORMAL && !(__instance instanceof Byrd)) {
-                // Skip elite minions (they should not get normal enemy bonuses)
-                if (__instance.id != null && __instance.id.equals("Dagger")) {
-                    return;
-                }
-
-                int damageIncrease = 1;
-
-                for (DamageInfo damageInfo : __instance.damage) {
-                    if (damageInfo != null && damageInfo.base > 0) {
-                        damageInfo.base += damageIncrease;
-                        damageInfo.output = damageInfo.base;  // Update output to match base
-                    }
-                }
-
-                // Special handling for SlaverRed: update stabDmg field for first turn Intent
-                if (__instance instanceof SlaverRed) {
-                    try {
-                        Field stabDmgField = SlaverRed.class.getDeclaredField("stabDmg");
-                        stabDmgField.setAccessible(true);
-                        int currentStabDmg = stabDmgField.getInt(__instance);
-                        stabDmgField.setInt(__instance, currentStabDmg + damageIncrease);
-                        logger.info(String.format(
-                            "Ascension 58: SlaverRed stabDmg field updated from %d to %d",
-                            currentStabDmg, currentStabDmg + damageIncrease
-                        ));
-                    } catch (Exception e) {
-                        logger.error("Failed to update SlaverRed stabDmg field", e);
-                    }
-                }
-
-                // Special handling for GremlinThief: update thiefDamage field for SetMoveAction
-                if (__instance.id != null && __instance.id.equals("GremlinThief")) {
-                    try {
-                        Field thiefDamageField = __instance.getClass().getDeclaredField("thiefDamage");
-                        thiefDamageField.setAccessible(true);
-                        int currentThiefDamage = thiefDamageField.getInt(__instance);
-                        thiefDamageField.setInt(__instance, currentThiefDamage + damageIncrease);
-                        logger.info(String.format(
-                            "Ascension 58: GremlinThief thiefDamage field updated from %d to %d",
-                            currentThiefDamage, currentThiefDamage + damageIncrease
-                        ));
-                    } catch (Exception e) {
-                        logger.error("Failed to update GremlinThief thiefDamage field", e);
-                    }
-                }
-
-                logger.info(String.format(
-                    "Ascension 58: Normal %s damage increased by %d [init prefix]",
-                    __instance.name, damageIncrease
-                ));
-            }
+            mod.addDamage(58, 1);
         }
     }
 
@@ -105,13 +50,12 @@ public class Level58 {
 
         @SpirePrefixPatch
         public static void Prefix(Byrd __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 58) {
+            if (!AscensionRuleSet.isActive(58)) {
                 return;
             }
 
             try {
-                Field nextMoveField = AbstractMonster.class.getDeclaredField("nextMove");
-                nextMoveField.setAccessible(true);
+                FieldAccessor nextMoveField = ReflectionCache.ABSTRACT_MONSTER_NEXT_MOVE;
                 byte move = nextMoveField.getByte(__instance);
                 lastMove.set(move);
             } catch (Exception e) {
@@ -121,7 +65,7 @@ public class Level58 {
 
         @SpirePostfixPatch
         public static void Postfix(Byrd __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 58) {
+            if (!AscensionRuleSet.isActive(58)) {
                 return;
             }
 
@@ -131,7 +75,7 @@ public class Level58 {
                     // Apply +2 damage to Headbutt pattern (damage index 2)
                     if (__instance.damage.size() > 2 && __instance.damage.get(2) != null) {
                         __instance.damage.get(2).base += 2;
-                        logger.info("Ascension 58: Byrd Headbutt damage +2");
+                        AscensionLog.trace(logger, "Ascension 58: Byrd Headbutt damage +2");
                     }
                 }
             } catch (Exception e) {
@@ -6,6 +6,8 @@ import com.megacrit.cardcrawl.core.Settings;
 import com.megacrit.cardcrawl.dungeons.AbstractDungeon;
 import com.megacrit.cardcrawl.monsters.AbstractMonster;
 import com.megacrit.cardcrawl.rooms.MonsterRoomElite;
+import com.stsmod.ascension100.util.AscensionLog;
+import com.stsmod.ascension100.util.AscensionRuleSet;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -30,7 +32,7 @@ public class Level60 {
     public static class BurningEliteActScaling {
         @SpirePostfixPatch
         public static void Postfix(MonsterRoomElite __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 60) {
+            if (!AscensionRuleSet.isActive(60)) {
                 return;
             }
 
@@ -63,10 +65,12 @@ public class Level60 {
                         return;
                 }
 
-                logger.info(String.format(
-                    "[Asc60] Applying Burning Elite act-based scaling in Act %d: +%d HP, +%d damage",
-                    actNum, hpBonus, damageBonus
-                ));
+                if (AscensionLog.isTracing()) {
+                    logger.info(String.format(
+                        "[Asc60] Applying Burning Elite act-based scaling in Act %d: +%d HP, +%d damage",
+                        actNum, hpBonus, damageBonus
+                    ));
+                }
 
                 // Apply bonuses to all monsters in the room
                 for (AbstractMonster m : __instance.monsters.monsters) {
@@ -87,16 +91,20 @@ public class Level60 {
                                 damageInfo.output = damageInfo.base;
                             }
                         }
+                        if (AscensionLog.isTracing()) {
+                            logger.info(String.format(
+                                "[Asc60] %s damage increased by +%d for %d attack patterns",
+                                m.name, damageBonus, m.damage.size()
+                            ));
+                        }
+                    }
+
+                    if (AscensionLog.isTracing()) {
                         logger.info(String.format(
-                            "[Asc60] %s damage increased by +%d for %d attack patterns",
-                            m.name, damageBonus, m.damage.size()
+                            "[Asc60] %s stats increased: HP %d → %d (+%d), Damage +%d",
+                            m.name, originalMaxHP, m.maxHealth, hpBonus, damageBonus
                         ));
                     }
-
-                    logger.info(String.format(
-                        "[Asc60] %s stats increased: HP %d → %d (+%d), Damage +%d",
-                        m.name, originalMaxHP, m.maxHealth, hpBonus, damageBonus
-                    ));
                 }
             }
         }
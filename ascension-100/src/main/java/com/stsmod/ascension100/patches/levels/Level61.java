@@ -1,13 +1,8 @@
 package com.stsmod.ascension100.patches.levels;
 
-import com.badlogic.gdx.math.MathUtils;
-import com.evacipated.cardcrawl.modthespire.lib.SpirePatch;
-import com.evacipated.cardcrawl.modthespire.lib.SpirePostfixPatch;
-import com.megacrit.cardcrawl.dungeons.AbstractDungeon;
-import com.megacrit.cardcrawl.monsters.AbstractMonster;
-import com.stsmod.ascension100.util.EncounterHelper;
-import org.apache.logging.log4j.LogManager;
-import org.apache.logging.log4j.Logger;
+import com.stsmod.ascension100.patches.unified.MonsterStatContext;
+import com.stsmod.ascension100.patches.unified.MonsterStatModifier;
+import com.stsmod.ascension100.util.EncounterClass;
 
 /**
  * Ascension Level 61: Enemies have more HP by act and encounter type
@@ -16,66 +11,48 @@ import org.apache.logging.log4j.Logger;
  * 1막의 strong enemies 전투에서 적들의 체력이 3% 증가합니다.
  * 2막의 weak enemies 전투에서 적들의 체력이 3% 증가합니다. strong enemies 전투에서 적들의 체력이 5% 증가합니다.
  * 3막의 weak enemies 전투에서 적들의 체력이 5% 증가합니다. strong enemies 전투에서 적들의 체력이 7% 증가합니다.
+ *
+ * Applied by MonsterStatPipeline
  */
 public class Level61 {
-    private static final Logger logger = LogManager.getLogger(Level61.class.getName());
 
-    @SpirePatch(
-        clz = AbstractMonster.class,
-        method = "init"
-    )
-    public static class EnemiesHealthByActIncrease {
-        @SpirePostfixPatch
-        public static void Postfix(AbstractMonster __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 61) {
-                return;
-            }
+    public static void modifyStats(MonsterStatContext ctx, MonsterStatModifier mod) {
+        int actNum = ctx.getActNum();
 
-            // Skip bosses and elites
-            if (__instance.type == AbstractMonster.EnemyType.BOSS ||
-                __instance.type == AbstractMonster.EnemyType.ELITE) {
-                return;
-            }
+        // Skip bosses and elites
+        if (ctx.isBoss() || ctx.isElite()) {
+            return;
+        }
 
-            int actNum = AbstractDungeon.actNum;
-            float multiplier = 1.0f;
+        float multiplier = 1.0f;
 
-            boolean isWeak = EncounterHelper.isWeakEncounter();
-            boolean isStrong = EncounterHelper.isStrongEncounter();
+        EncounterClass encounter = ctx.getEncounter();
+        boolean isWeak = encounter.isWeak();
+        boolean isStrong = encounter.isStrong();
 
-            if (actNum == 1) {
-                // Act 1: Only strong enemies get +3%
-                if (isStrong) {
-                    multiplier = 1.03f;
-                }
-            } else if (actNum == 2) {
-                // Act 2: Weak +3%, Strong +5%
-                if (isWeak) {
-                    multiplier = 1.03f;
-                } else if (isStrong) {
-                    multiplier = 1.05f;
-                }
-            } else if (actNum >= 3) {
-                // Act 3: Weak +5%, Strong +7%
-                if (isWeak) {
-                    multiplier = 1.05f;
-                } else if (isStrong) {
-                    multiplier = 1.07f;
-                }
+        if (actNum == 1) {
+            // Act 1: Only strong enemies get +3%
+            if (isStrong) {
+                multiplier = 1.03f;
             }
-
-            if (multiplier > 1.0f) {
-                int originalMaxHP = __instance.maxHealth;
-                __instance.maxHealth = MathUtils.ceil(__instance.maxHealth * multiplier);
-                __instance.currentHealth = MathUtils.ceil(__instance.currentHealth * multiplier);
-
-                logger.info(String.format(
-                    "Ascension 61: %s (Act %d, %s, encounter: %s) HP increased from %d to %d (%.0f%%)",
-                    __instance.name, actNum, EncounterHelper.getEncounterType(),
-                    AbstractDungeon.lastCombatMetricKey,
-                    originalMaxHP, __instance.maxHealth, (multiplier - 1.0f) * 100
-                ));
+        } else if (actNum == 2) {
+            // Act 2: Weak +3%, Strong +5%
+            if (isWeak) {
+                multiplier = 1.03f;
+            } else if (isStrong) {
+                multiplier = 1.05f;
+            }
+        } else if (actNum >= 3) {
+            // Act 3: Weak +5%, Strong +7%
+            if (isWeak) {
+                multiplier = 1.05f;
+            } else if (isStrong) {
+                multiplier = 1.07f;
             }
         }
+
+        if (multiplier > 1.0f) {
+            mod.multiplyHealth(61, multiplier);
+        }
     }
 }
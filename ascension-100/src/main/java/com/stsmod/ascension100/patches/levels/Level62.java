@@ -2,20 +2,16 @@ package com.stsmod.ascension100.patches.levels;
 
 import com.evacipated.cardcrawl.modthespire.lib.SpirePatch;
 import com.evacipated.cardcrawl.modthespire.lib.SpirePostfixPatch;
-import com.evacipated.cardcrawl.modthespire.lib.SpirePrefixPatch;
-import com.megacrit.cardcrawl.cards.DamageInfo;
-import com.megacrit.cardcrawl.dungeons.AbstractDungeon;
-import com.megacrit.cardcrawl.monsters.AbstractMonster;
 import com.megacrit.cardcrawl.monsters.city.Byrd;
-import com.megacrit.cardcrawl.monsters.exordium.SlaverRed;
+import com.stsmod.ascension100.patches.unified.MonsterStatContext;
+import com.stsmod.ascension100.patches.unified.MonsterStatModifier;
+import com.stsmod.ascension100.util.AscensionLog;
+import com.stsmod.ascension100.util.AscensionRuleSet;
+import com.stsmod.ascension100.util.FieldAccessor;
+import com.stsmod.ascension100.util.ReflectionCache;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
-import java.lang.reflect.Field;
-import java.util.Collections;
-import java.util.Set;
-import java.util.WeakHashMap;
-
 /**
  * Ascension Level 62: Enemies deal more damage (with Byrd special handling)
  *
@@ -28,92 +24,21 @@ public class Level62 {
 
     /**
      * Increase normal enemies' damage by +1, skip Byrd
+     * Applied by MonsterStatPipeline (also updates SlaverRed stabDmg / GremlinThief thiefDamage)
      */
-    @SpirePatch(
-        clz = AbstractMonster.class,
-        method = "init"
-    )
-    public static class NormalEnemiesDamageIncrease {
-        // Track which monsters have already been patched to prevent duplicate application
-        private static final Set<AbstractMonster> patchedMonsters = Collections.newSetFromMap(new WeakHashMap<>());
-
-        @SpirePrefixPatch
-        public static void Prefix(AbstractMonster __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 62) {
-                return;
-            }
-
-            // Skip bosses, elites, and Byrd (handled separately)
-            if (__instance.type == AbstractMonster.EnemyType.BOSS ||
-                __instance.type == AbstractMonster.EnemyType.ELITE ||
-                __instance instanceof Byrd) {
-                return;
-            }
-
-            // Skip elite minions (they should not get normal enemy bonuses)
-            if (__instance.id != null && __instance.id.equals("Dagger")) {
-                return;
-            }
-
-            // Check if already patched
-            if (patchedMonsters.contains(__instance)) {
-                logger.warn(String.format(
-                    "Ascension 62: Skipping duplicate damage increase for %s (already patched)",
-                    __instance.name
-                ));
-                return;
-            }
-
-            int damageIncrease = 1;
-
-            for (DamageInfo damageInfo : __instance.damage) {
-                if (damageInfo != null && damageInfo.base > 0) {
-                    int originalDamage = damageInfo.base;
-                    damageInfo.base += damageIncrease;
-                    damageInfo.output = damageInfo.base;  // Update output to match base
-
-                    logger.info(String.format(
-                        "Ascension 62: %s (%s) damage increased from %d to %d",
-                        __instance.name, __instance.type, originalDamage, damageInfo.base
-                    ));
-                }
-            }
-
-            // Special handling for SlaverRed: update stabDmg field for first turn Intent
-            if (__instance instanceof SlaverRed) {
-                try {
-                    Field stabDmgField = SlaverRed.class.getDeclaredField("stabDmg");
-                    stabDmgField.setAccessible(true);
-                    int currentStabDmg = stabDmgField.getInt(__instance);
-                    stabDmgField.setInt(__instance, currentStabDmg + damageIncrease);
-                    logger.info(String.format(
-                        "Ascension 62: SlaverRed stabDmg field updated from %d to %d",
-                        currentStabDmg, currentStabDmg + damageIncrease
-                    ));
-                } catch (Exception e) {
-                    logger.error("Failed to update SlaverRed stabDmg field", e);
-                }
-            }
-
-            // Special handling for GremlinThief: update thiefDamage field for SetMoveAction
-            if (__instance.id != null && __instance.id.equals("GremlinThief")) {
-                try {
-                    Field thiefDamageField = __instance.getClass().getDeclaredField("thiefDamage");
-                    thiefDamageField.setAccessible(true);
-                    int currentThiefDamage = thiefDamageField.getInt(__instance);
-                    thiefDamageField.setInt(__instance, currentThiefDamage + damageIncrease);
-                    logger.info(String.format(
-                        "Ascension 62: GremlinThief thiefDamage field updated from %d to %d",
-                        currentThiefDamage, currentThiefDamage + damageIncrease
-                    ));
-                } catch (Exception e) {
-                    logger.error("Failed to update GremlinThief thiefDamage field", e);
-                }
-            }
+    public static void modifyStats(MonsterStatContext ctx, MonsterStatModifier mod) {
+        // Skip bosses, elites, and Byrd (handled separately)
+        if (ctx.isBoss() || ctx.isElite() ||
+            ctx.isMonster(Byrd.ID)) {
+            return;
+        }
 
-            // Mark as patched
-            patchedMonsters.add(__instance);
+        // Skip elite minions (they should not get normal enemy bonuses)
+        if (ctx.isMonster("Dagger")) {
+            return;
         }
+
+        mod.addDamage(62, 1);
     }
 
     /**
@@ -127,24 +52,25 @@ public class Level62 {
     public static class ByrdFlightIncrease {
         @SpirePostfixPatch
         public static void Postfix(Byrd __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 62) {
+            if (!AscensionRuleSet.isActive(62)) {
                 return;
             }
 
             try {
                 // Access flightAmt field via reflection
-                Field flightAmtField = Byrd.class.getDeclaredField("flightAmt");
-                flightAmtField.setAccessible(true);
+                FieldAccessor flightAmtField = ReflectionCache.BYRD_FLIGHT_AMT;
 
                 int originalFlightAmt = flightAmtField.getInt(__instance);
                 int newFlightAmt = originalFlightAmt + 1;
                 flightAmtField.setInt(__instance, newFlightAmt);
 
-                logger.info(String.format(
-                    "Ascension 62: Byrd flightAmt increased from %d to %d (+1)",
-                    originalFlightAmt, newFlightAmt
-                ));
-            } catch (NoSuchFieldException | IllegalAccessException e) {
+                if (AscensionLog.isTracing()) {
+                    logger.info(String.format(
+                        "Ascension 62: Byrd flightAmt increased from %d to %d (+1)",
+                        originalFlightAmt, newFlightAmt
+                    ));
+                }
+            } catch (IllegalStateException e) {
                 logger.error("Ascension 62: Failed to modify Byrd flightAmt", e);
             }
         }
@@ -12,6 +12,8 @@ import com.megacrit.cardcrawl.monsters.city.BronzeAutomaton;
 import com.megacrit.cardcrawl.monsters.beyond.Donu;
 import com.megacrit.cardcrawl.monsters.beyond.Deca;
 import com.megacrit.cardcrawl.powers.ArtifactPower;
+import com.stsmod.ascension100.util.AscensionLog;
+import com.stsmod.ascension100.util.AscensionRuleSet;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -39,7 +41,7 @@ public class Level65 {
     public static class SentryArtifactPatch {
         @SpirePostfixPatch
         public static void Postfix(Sentry __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 65) {
+            if (!AscensionRuleSet.isActive(65)) {
                 return;
             }
 
@@ -50,7 +52,7 @@ public class Level65 {
                     new ArtifactPower(__instance, 1), 1)
             );
 
-            logger.info("Ascension 65: Sentry gained +1 Artifact (stacks with Level 31)");
+            AscensionLog.trace(logger, "Ascension 65: Sentry gained +1 Artifact (stacks with Level 31)");
         }
     }
 
@@ -64,7 +66,7 @@ public class Level65 {
     public static class SpireSpearArtifactPatch {
         @SpirePostfixPatch
         public static void Postfix(SpireSpear __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 65) {
+            if (!AscensionRuleSet.isActive(65)) {
                 return;
             }
 
@@ -74,7 +76,7 @@ public class Level65 {
                     new ArtifactPower(__instance, 1), 1)
             );
 
-            logger.info("Ascension 65: Spire Spear gained +1 Artifact (stacks with Level 31)");
+            AscensionLog.trace(logger, "Ascension 65: Spire Spear gained +1 Artifact (stacks with Level 31)");
         }
     }
 
@@ -88,7 +90,7 @@ public class Level65 {
     public static class SpireShieldArtifactPatch {
         @SpirePostfixPatch
         public static void Postfix(SpireShield __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 65) {
+            if (!AscensionRuleSet.isActive(65)) {
                 return;
             }
 
@@ -98,7 +100,7 @@ public class Level65 {
                     new ArtifactPower(__instance, 1), 1)
             );
 
-            logger.info("Ascension 65: Spire Shield gained +1 Artifact (stacks with Level 31)");
+            AscensionLog.trace(logger, "Ascension 65: Spire Shield gained +1 Artifact (stacks with Level 31)");
         }
     }
 
@@ -112,7 +114,7 @@ public class Level65 {
     public static class SphericGuardianArtifactPatch {
         @SpirePostfixPatch
         public static void Postfix(SphericGuardian __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 65) {
+            if (!AscensionRuleSet.isActive(65)) {
                 return;
             }
 
@@ -122,7 +124,7 @@ public class Level65 {
                     new ArtifactPower(__instance, 1), 1)
             );
 
-            logger.info("Ascension 65: Spheric Guardian gained +1 Artifact (total: 5 at A65+)");
+            AscensionLog.trace(logger, "Ascension 65: Spheric Guardian gained +1 Artifact (total: 5 at A65+)");
         }
     }
 
@@ -136,7 +138,7 @@ public class Level65 {
     public static class BronzeAutomatonArtifactPatch {
         @SpirePostfixPatch
         public static void Postfix(BronzeAutomaton __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 65) {
+            if (!AscensionRuleSet.isActive(65)) {
                 return;
             }
 
@@ -147,7 +149,7 @@ public class Level65 {
                     new ArtifactPower(__instance, 1), 1)
             );
 
-            logger.info("Ascension 65: Bronze Automaton gained +1 Artifact (total: 6 at A65+)");
+            AscensionLog.trace(logger, "Ascension 65: Bronze Automaton gained +1 Artifact (total: 6 at A65+)");
         }
     }
 
@@ -161,7 +163,7 @@ public class Level65 {
     public static class DonuArtifactPatch {
         @SpirePostfixPatch
         public static void Postfix(Donu __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 65) {
+            if (!AscensionRuleSet.isActive(65)) {
                 return;
             }
 
@@ -171,7 +173,7 @@ public class Level65 {
                     new ArtifactPower(__instance, 1), 1)
             );
 
-            logger.info("Ascension 65: Donu gained +1 Artifact (total: 5 at A65+)");
+            AscensionLog.trace(logger, "Ascension 65: Donu gained +1 Artifact (total: 5 at A65+)");
         }
     }
 
@@ -185,7 +187,7 @@ public class Level65 {
     public static class DecaArtifactPatch {
         @SpirePostfixPatch
         public static void Postfix(Deca __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 65) {
+            if (!AscensionRuleSet.isActive(65)) {
                 return;
             }
 
@@ -195,7 +197,7 @@ public class Level65 {
                     new ArtifactPower(__instance, 1), 1)
             );
 
-            logger.info("Ascension 65: Deca gained +1 Artifact (total: 5 at A65+)");
+            AscensionLog.trace(logger, "Ascension 65: Deca gained +1 Artifact (total: 5 at A65+)");
         }
     }
 }
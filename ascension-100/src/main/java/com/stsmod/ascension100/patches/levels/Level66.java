@@ -1,14 +1,14 @@
 package com.stsmod.ascension100.patches.levels;
 
 import com.badlogic.gdx.math.MathUtils;
-import com.evacipated.cardcrawl.modthespire.lib.SpirePatch;
-import com.evacipated.cardcrawl.modthespire.lib.SpirePostfixPatch;
 import com.megacrit.cardcrawl.actions.common.ApplyPowerAction;
 import com.megacrit.cardcrawl.dungeons.AbstractDungeon;
 import com.megacrit.cardcrawl.monsters.AbstractMonster;
 import com.megacrit.cardcrawl.powers.MetallicizePower;
 import com.megacrit.cardcrawl.powers.RegenerateMonsterPower;
 import com.megacrit.cardcrawl.powers.StrengthPower;
+import com.stsmod.ascension100.patches.unified.SharedHooks;
+import com.stsmod.ascension100.util.AscensionLog;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -24,103 +24,113 @@ import org.apache.logging.log4j.Logger;
 public class Level66 {
     private static final Logger logger = LogManager.getLogger(Level66.class.getName());
 
-    @SpirePatch(
-        clz = AbstractMonster.class,
-        method = "usePreBattleAction"
-    )
-    public static class RandomStartingBuffs {
-        @SpirePostfixPatch
-        public static void Postfix(AbstractMonster __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 66) {
-                return;
-            }
+    /**
+     * Listeners for SharedHooks, linked only while this level is active
+     */
+    public static void registerHooks() {
+        SharedHooks.MONSTER_PRE_BATTLE.register(66, Level66::randomStartingBuffs);
+    }
 
-            // 5% chance to get a random buff
-            if (MathUtils.randomBoolean(0.05f)) {
-                int actNum = AbstractDungeon.actNum;
-                int randomBuff = MathUtils.random(2); // 0, 1, or 2
+    private static void randomStartingBuffs(AbstractMonster monster) {
+        // 5% chance to get a random buff
+        if (MathUtils.randomBoolean(0.05f)) {
+            int actNum = AbstractDungeon.actNum;
+            int randomBuff = MathUtils.random(2); // 0, 1, or 2
 
-                if (actNum == 1) {
-                    int act1Buff = MathUtils.random(1); // 0 or 1
-                    switch (act1Buff) {
-                        case 0: // Strength 1
-                            AbstractDungeon.actionManager.addToBottom(
-                                new ApplyPowerAction(__instance, __instance,
-                                    new StrengthPower(__instance, 1), 1)
-                            );
+            if (actNum == 1) {
+                int act1Buff = MathUtils.random(1); // 0 or 1
+                switch (act1Buff) {
+                    case 0: // Strength 1
+                        AbstractDungeon.actionManager.addToBottom(
+                            new ApplyPowerAction(monster, monster,
+                                new StrengthPower(monster, 1), 1)
+                        );
+                        if (AscensionLog.isTracing()) {
                             logger.info(String.format(
                                 "Ascension 66: %s started with Strength 1 (Act 1)",
-                                __instance.name
+                                monster.name
                             ));
-                            break;
-                        case 1: // Metallicize 2
-                            AbstractDungeon.actionManager.addToBottom(
-                                new ApplyPowerAction(__instance, __instance,
-                                    new MetallicizePower(__instance, 2), 2)
-                            );
+                        }
+                        break;
+                    case 1: // Metallicize 2
+                        AbstractDungeon.actionManager.addToBottom(
+                            new ApplyPowerAction(monster, monster,
+                                new MetallicizePower(monster, 2), 2)
+                        );
+                        if (AscensionLog.isTracing()) {
                             logger.info(String.format(
                                 "Ascension 66: %s started with Metallicize 2 (Act 1)",
-                                __instance.name
+                                monster.name
                             ));
-                            break;
-                    }
-                } else if (actNum == 2) {
-                    int act2Buff = MathUtils.random(1); // 0 or 1
-                    switch (act2Buff) {
-                        case 0: // Metallicize 4
-                            AbstractDungeon.actionManager.addToBottom(
-                                new ApplyPowerAction(__instance, __instance,
-                                    new MetallicizePower(__instance, 4), 4)
-                            );
+                        }
+                        break;
+                }
+            } else if (actNum == 2) {
+                int act2Buff = MathUtils.random(1); // 0 or 1
+                switch (act2Buff) {
+                    case 0: // Metallicize 4
+                        AbstractDungeon.actionManager.addToBottom(
+                            new ApplyPowerAction(monster, monster,
+                                new MetallicizePower(monster, 4), 4)
+                        );
+                        if (AscensionLog.isTracing()) {
                             logger.info(String.format(
                                 "Ascension 66: %s started with Metallicize 4 (Act 2)",
-                                __instance.name
+                                monster.name
                             ));
-                            break;
-                        case 1: // Regeneration 3
-                            AbstractDungeon.actionManager.addToBottom(
-                                new ApplyPowerAction(__instance, __instance,
-                                    new RegenerateMonsterPower(__instance, 3), 3)
-                            );
+                        }
+                        break;
+                    case 1: // Regeneration 3
+                        AbstractDungeon.actionManager.addToBottom(
+                            new ApplyPowerAction(monster, monster,
+                                new RegenerateMonsterPower(monster, 3), 3)
+                        );
+                        if (AscensionLog.isTracing()) {
                             logger.info(String.format(
                                 "Ascension 66: %s started with Regeneration 3 (Act 2)",
-                                __instance.name
+                                monster.name
                             ));
-                            break;
-                    }
-                } else if (actNum >= 3) {
-                    switch (randomBuff) {
-                        case 0: // Strength 6
-                            AbstractDungeon.actionManager.addToBottom(
-                                new ApplyPowerAction(__instance, __instance,
-                                    new StrengthPower(__instance, 6), 6)
-                            );
+                        }
+                        break;
+                }
+            } else if (actNum >= 3) {
+                switch (randomBuff) {
+                    case 0: // Strength 6
+                        AbstractDungeon.actionManager.addToBottom(
+                            new ApplyPowerAction(monster, monster,
+                                new StrengthPower(monster, 6), 6)
+                        );
+                        if (AscensionLog.isTracing()) {
                             logger.info(String.format(
                                 "Ascension 66: %s started with Strength 6 (Act 3)",
-                                __instance.name
+                                monster.name
                             ));
-                            break;
-                        case 1: // Metallicize 8
-                            AbstractDungeon.actionManager.addToBottom(
-                                new ApplyPowerAction(__instance, __instance,
-                                    new MetallicizePower(__instance, 8), 8)
-                            );
+                        }
+                        break;
+                    case 1: // Metallicize 8
+                        AbstractDungeon.actionManager.addToBottom(
+                            new ApplyPowerAction(monster, monster,
+                                new MetallicizePower(monster, 8), 8)
+                        );
+                        if (AscensionLog.isTracing()) {
                             logger.info(String.format(
                                 "Ascension 66: %s started with Metallicize 8 (Act 3)",
-                                __instance.name
+                                monster.name
                             ));
-                            break;
-                        case 2: // Regeneration 6
-                            AbstractDungeon.actionManager.addToBottom(
-                                new ApplyPowerAction(__instance, __instance,
-                                    new RegenerateMonsterPower(__instance, 6), 6)
-                            );
+                        }
+                        break;
+                    case 2: // Regeneration 6
+                        AbstractDungeon.actionManager.addToBottom(
+                            new ApplyPowerAction(monster, monster,
+                                new RegenerateMonsterPower(monster, 6), 6)
+                        );
+                        if (AscensionLog.isTracing()) {
                             logger.info(String.format(
                                 "Ascension 66: %s started with Regeneration 6 (Act 3)",
-                                __instance.name
+                                monster.name
                             ));
-                            break;
-                    }
+                        }
+                        break;
                 }
             }
         }
@@ -1,21 +1,20 @@
 package com.stsmod.ascension100.patches.levels;
 
-import com.evacipated.cardcrawl.modthespire.lib.SpirePatch;
-import com.evacipated.cardcrawl.modthespire.lib.SpirePostfixPatch;
-import com.evacipated.cardcrawl.modthespire.lib.SpirePrefixPatch;
 import com.megacrit.cardcrawl.cards.DamageInfo;
 import com.megacrit.cardcrawl.dungeons.AbstractDungeon;
 import com.megacrit.cardcrawl.monsters.AbstractMonster;
+import com.megacrit.cardcrawl.monsters.city.Byrd;
 import com.megacrit.cardcrawl.monsters.beyond.GiantHead;
-import com.megacrit.cardcrawl.monsters.exordium.SlaverRed;
+import com.stsmod.ascension100.patches.unified.MonsterStatContext;
+import com.stsmod.ascension100.patches.unified.MonsterStatModifier;
+import com.stsmod.ascension100.patches.unified.SharedHooks;
+import com.stsmod.ascension100.util.AscensionLog;
+import com.stsmod.ascension100.util.AscensionRuleSet;
+import com.stsmod.ascension100.util.FieldAccessor;
+import com.stsmod.ascension100.util.ReflectionCache;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
-import java.lang.reflect.Field;
-import java.util.Collections;
-import java.util.Set;
-import java.util.WeakHashMap;
-
 /**
  * Ascension Level 68: Enemy damage increased by act
  *
@@ -27,128 +26,48 @@ import java.util.WeakHashMap;
 public class Level68 {
     private static final Logger logger = LogManager.getLogger(Level68.class.getName());
 
-    @SpirePatch(
-        clz = AbstractMonster.class,
-        method = "init"
-    )
-    public static class DamageByActIncrease {
-        // Track which monsters have already been patched to prevent duplicate application
-        private static final Set<AbstractMonster> patchedMonsters = Collections.newSetFromMap(new WeakHashMap<>());
-
-        @SpirePrefixPatch
-        public static void Prefix(AbstractMonster __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 68) {
-                return;
-            }
-
-            // Skip bosses (Level 68 is for normal enemies only, not bosses)
-            if (__instance.type == AbstractMonster.EnemyType.BOSS) {
-                return;
-            }
-
-            // Skip elite minions (they should not get normal enemy bonuses)
-            if (__instance.id != null && __instance.id.equals("Dagger")) {
-                logger.info("Ascension 68: Skipping Dagger (elite minion, not a normal enemy)");
-                return;
-            }
-
-            // Skip Byrd completely (handled by Level 62 Flight increase and Level 58 Headbutt increase)
-            if (__instance.id != null && __instance.id.equals("Byrd")) {
-                logger.info("Ascension 68: Skipping Byrd (handled by other levels)");
-                return;
-            }
-
-            // Alternative check using instanceof
-            if (__instance instanceof com.megacrit.cardcrawl.monsters.city.Byrd) {
-                logger.info("Ascension 68: Skipping Byrd via instanceof check");
-                return;
-            }
-
-            // Check if already patched
-            if (patchedMonsters.contains(__instance)) {
-                logger.warn(String.format(
-                    "Ascension 68: Skipping duplicate damage increase for %s (already patched)",
-                    __instance.name
-                ));
-                return;
-            }
-
-            int actNum = AbstractDungeon.actNum;
-            int damageIncrease = 0;
+    /**
+     * Listeners for SharedHooks, linked only while this level is active
+     */
+    public static void registerHooks() {
+        SharedHooks.MONSTER_APPLY_POWERS.register(68, Level68::genericApplyPowersFix);
+        SharedHooks.MONSTER_CREATE_INTENT.register(68, Level68::genericCreateIntentFix);
+    }
 
-            if (actNum == 1) {
-                damageIncrease = 1;
-            } else if (actNum == 2) {
-                damageIncrease = 2;
-            } else if (actNum >= 3) {
-                damageIncrease = 5;
-            }
+    /**
+     * Applied by MonsterStatPipeline
+     * (also updates SlaverRed stabDmg / GremlinThief thiefDamage / GremlinLeader STAB_DMG)
+     */
+    public static void modifyStats(MonsterStatContext ctx, MonsterStatModifier mod) {
+        int actNum = ctx.getActNum();
 
-            if (damageIncrease > 0) {
-                for (DamageInfo damageInfo : __instance.damage) {
-                    if (damageInfo != null && damageInfo.base > 0) {
-                        int originalDamage = damageInfo.base;
-                        damageInfo.base += damageIncrease;
-                        damageInfo.output = damageInfo.base;  // Update output to match base
+        // Skip bosses (Level 68 is for normal enemies only, not bosses)
+        if (ctx.isBoss()) {
+            return;
+        }
 
-                        logger.info(String.format(
-                            "Ascension 68: %s (%s) damage increased from %d to %d (Act %d)",
-                            __instance.name, __instance.type, originalDamage, damageInfo.base, actNum
-                        ));
-                    }
-                }
+        // Skip elite minions (they should not get normal enemy bonuses)
+        if (ctx.isMonster("Dagger")) {
+            return;
+        }
 
-                // Special handling for SlaverRed: update stabDmg field for first turn Intent
-                if (__instance instanceof SlaverRed) {
-                    try {
-                        Field stabDmgField = SlaverRed.class.getDeclaredField("stabDmg");
-                        stabDmgField.setAccessible(true);
-                        int currentStabDmg = stabDmgField.getInt(__instance);
-                        stabDmgField.setInt(__instance, currentStabDmg + damageIncrease);
-                        logger.info(String.format(
-                            "Ascension 68: SlaverRed stabDmg field updated from %d to %d (Act %d)",
-                            currentStabDmg, currentStabDmg + damageIncrease, actNum
-                        ));
-                    } catch (Exception e) {
-                        logger.error("Failed to update SlaverRed stabDmg field", e);
-                    }
-                }
+        // Skip Byrd completely (handled by Level 62 Flight increase and Level 58 Headbutt increase)
+        if (ctx.isMonster(Byrd.ID)) {
+            return;
+        }
 
-                // Special handling for GremlinThief: update thiefDamage field for SetMoveAction
-                if (__instance.id != null && __instance.id.equals("GremlinThief")) {
-                    try {
-                        Field thiefDamageField = __instance.getClass().getDeclaredField("thiefDamage");
-                        thiefDamageField.setAccessible(true);
-                        int currentThiefDamage = thiefDamageField.getInt(__instance);
-                        thiefDamageField.setInt(__instance, currentThiefDamage + damageIncrease);
-                        logger.info(String.format(
-                            "Ascension 68: GremlinThief thiefDamage field updated from %d to %d (Act %d)",
-                            currentThiefDamage, currentThiefDamage + damageIncrease, actNum
-                        ));
-                    } catch (Exception e) {
-                        logger.error("Failed to update GremlinThief thiefDamage field", e);
-                    }
-                }
+        int damageIncrease = 0;
 
-                // Special handling for GremlinLeader: update STAB_DMG field for getMove() intent calculation
-                if (__instance.id != null && __instance.id.equals("GremlinLeader")) {
-                    try {
-                        Field stabDmgField = __instance.getClass().getDeclaredField("STAB_DMG");
-                        stabDmgField.setAccessible(true);
-                        int currentStabDmg = stabDmgField.getInt(__instance);
-                        stabDmgField.setInt(__instance, currentStabDmg + damageIncrease);
-                        logger.info(String.format(
-                            "Ascension 68: GremlinLeader STAB_DMG field updated from %d to %d (Act %d)",
-                            currentStabDmg, currentStabDmg + damageIncrease, actNum
-                        ));
-                    } catch (Exception e) {
-                        logger.error("Failed to update GremlinLeader STAB_DMG field", e);
-                    }
-                }
+        if (actNum == 1) {
+            damageIncrease = 1;
+        } else if (actNum == 2) {
+            damageIncrease = 2;
+        } else if (actNum >= 3) {
+            damageIncrease = 5;
+        }
 
-                // Mark as patched
-                patchedMonsters.add(__instance);
-            }
+        if (damageIncrease > 0) {
+            mod.addDamage(68, damageIncrease);
         }
     }
 
@@ -160,79 +79,67 @@ public class Level68 {
      *
      * Level 68 applies to normal enemies only, not bosses.
      */
-    @SpirePatch(
-        clz = AbstractMonster.class,
-        method = "createIntent"
-    )
-    public static class GenericCreateIntentFix {
-        @SpirePostfixPatch
-        public static void Postfix(AbstractMonster __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 68) {
-                return;
-            }
+    private static void genericCreateIntentFix(AbstractMonster monster) {
+        // Skip bosses (Level 68 applies to normal enemies only)
+        if (monster.type == AbstractMonster.EnemyType.BOSS) {
+            return;
+        }
 
-            // Skip bosses (Level 68 applies to normal enemies only)
-            if (__instance.type == AbstractMonster.EnemyType.BOSS) {
+        try {
+            // Only fix attack intents
+            FieldAccessor intentField = ReflectionCache.ABSTRACT_MONSTER_INTENT;
+            AbstractMonster.Intent intent = (AbstractMonster.Intent) intentField.get(monster);
+
+            if (intent != AbstractMonster.Intent.ATTACK &&
+                intent != AbstractMonster.Intent.ATTACK_BUFF &&
+                intent != AbstractMonster.Intent.ATTACK_DEFEND &&
+                intent != AbstractMonster.Intent.ATTACK_DEBUFF) {
                 return;
             }
 
-            try {
-                // Only fix attack intents
-                Field intentField = AbstractMonster.class.getDeclaredField("intent");
-                intentField.setAccessible(true);
-                AbstractMonster.Intent intent = (AbstractMonster.Intent) intentField.get(__instance);
-
-                if (intent != AbstractMonster.Intent.ATTACK &&
-                    intent != AbstractMonster.Intent.ATTACK_BUFF &&
-                    intent != AbstractMonster.Intent.ATTACK_DEFEND &&
-                    intent != AbstractMonster.Intent.ATTACK_DEBUFF) {
-                    return;
-                }
-
-                // Get intentBaseDmg (what setMove() hardcoded)
-                Field intentBaseDmgField = AbstractMonster.class.getDeclaredField("intentBaseDmg");
-                intentBaseDmgField.setAccessible(true);
-                int intentBaseDmg = intentBaseDmgField.getInt(__instance);
+            // Get intentBaseDmg (what setMove() hardcoded)
+            FieldAccessor intentBaseDmgField = ReflectionCache.ABSTRACT_MONSTER_INTENT_BASE_DMG;
+            int intentBaseDmg = intentBaseDmgField.getInt(monster);
 
-                if (intentBaseDmg <= 0) {
-                    return;  // No damage intent
-                }
+            if (intentBaseDmg <= 0) {
+                return;  // No damage intent
+            }
 
-                // Find matching damage in damage array
-                for (int i = 0; i < __instance.damage.size(); i++) {
-                    DamageInfo dmg = __instance.damage.get(i);
-                    if (dmg != null && dmg.base > 0) {
-                        // Check if this damage matches the hardcoded base
-                        // Level 68: normal enemies only (+1/+2/+5)
-                        // This patch only applies to normal enemies (bosses are excluded above)
-                        int actNum = AbstractDungeon.actNum;
-                        int expectedIncrease = 0;
-                        if (actNum == 1) {
-                            expectedIncrease = 1;
-                        } else if (actNum == 2) {
-                            expectedIncrease = 2;
-                        } else if (actNum >= 3) {
-                            expectedIncrease = 5;
-                        }
+            // Find matching damage in damage array
+            for (int i = 0; i < monster.damage.size(); i++) {
+                DamageInfo dmg = monster.damage.get(i);
+                if (dmg != null && dmg.base > 0) {
+                    // Check if this damage matches the hardcoded base
+                    // Level 68: normal enemies only (+1/+2/+5)
+                    // This patch only applies to normal enemies (bosses are excluded above)
+                    int actNum = AbstractDungeon.actNum;
+                    int expectedIncrease = 0;
+                    if (actNum == 1) {
+                        expectedIncrease = 1;
+                    } else if (actNum == 2) {
+                        expectedIncrease = 2;
+                    } else if (actNum >= 3) {
+                        expectedIncrease = 5;
+                    }
 
-                        // If dmg.base - expectedIncrease == intentBaseDmg, this is the right damage
-                        if (dmg.base - expectedIncrease == intentBaseDmg) {
-                            // Update intentDmg to use actual damage
-                            Field intentDmgField = AbstractMonster.class.getDeclaredField("intentDmg");
-                            intentDmgField.setAccessible(true);
-                            intentDmgField.setInt(__instance, dmg.base);
+                    // If dmg.base - expectedIncrease == intentBaseDmg, this is the right damage
+                    if (dmg.base - expectedIncrease == intentBaseDmg) {
+                        // Update intentDmg to use actual damage
+                        FieldAccessor intentDmgField = ReflectionCache.ABSTRACT_MONSTER_INTENT_DMG;
+                        intentDmgField.setInt(monster, dmg.base);
 
+                        if (AscensionLog.isTracing()) {
                             logger.info(String.format(
                                 "Ascension 68: %s Intent fixed in createIntent from %d to %d (index %d)",
-                                __instance.name, intentBaseDmg, dmg.base, i
+                                monster.name, intentBaseDmg, dmg.base, i
                             ));
-                            break;  // Found the match, stop
                         }
+                        break;  // Found the match, stop
                     }
                 }
-            } catch (Exception e) {
-                logger.error("Failed to fix generic Intent in createIntent", e);
             }
+        } catch (Exception e) {
+            logger.error("Failed to fix generic Intent in createIntent", e);
         }
     }
 
@@ -242,88 +149,76 @@ public class Level68 {
      * This is called every turn after player ends turn
      * Level 68 applies to normal enemies only, not bosses.
      */
-    @SpirePatch(
-        clz = AbstractMonster.class,
-        method = "applyPowers"
-    )
-    public static class GenericApplyPowersFix {
-        @SpirePostfixPatch
-        public static void Postfix(AbstractMonster __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 68) {
-                return;
-            }
+    private static void genericApplyPowersFix(AbstractMonster monster) {
+        // Skip bosses (Level 68 applies to normal enemies only)
+        if (monster.type == AbstractMonster.EnemyType.BOSS) {
+            return;
+        }
+
+        try {
+            // Only fix attack intents
+            FieldAccessor intentField = ReflectionCache.ABSTRACT_MONSTER_INTENT;
+            AbstractMonster.Intent intent = (AbstractMonster.Intent) intentField.get(monster);
 
-            // Skip bosses (Level 68 applies to normal enemies only)
-            if (__instance.type == AbstractMonster.EnemyType.BOSS) {
+            if (intent != AbstractMonster.Intent.ATTACK &&
+                intent != AbstractMonster.Intent.ATTACK_BUFF &&
+                intent != AbstractMonster.Intent.ATTACK_DEFEND &&
+                intent != AbstractMonster.Intent.ATTACK_DEBUFF) {
                 return;
             }
 
-            try {
-                // Only fix attack intents
-                Field intentField = AbstractMonster.class.getDeclaredField("intent");
-                intentField.setAccessible(true);
-                AbstractMonster.Intent intent = (AbstractMonster.Intent) intentField.get(__instance);
+            // Get intentBaseDmg (what setMove() hardcoded)
+            FieldAccessor intentBaseDmgField = ReflectionCache.ABSTRACT_MONSTER_INTENT_BASE_DMG;
+            int intentBaseDmg = intentBaseDmgField.getInt(monster);
 
-                if (intent != AbstractMonster.Intent.ATTACK &&
-                    intent != AbstractMonster.Intent.ATTACK_BUFF &&
-                    intent != AbstractMonster.Intent.ATTACK_DEFEND &&
-                    intent != AbstractMonster.Intent.ATTACK_DEBUFF) {
-                    return;
-                }
-
-                // Get intentBaseDmg (what setMove() hardcoded)
-                Field intentBaseDmgField = AbstractMonster.class.getDeclaredField("intentBaseDmg");
-                intentBaseDmgField.setAccessible(true);
-                int intentBaseDmg = intentBaseDmgField.getInt(__instance);
+            if (intentBaseDmg <= 0) {
+                return;  // No damage intent
+            }
 
-                if (intentBaseDmg <= 0) {
-                    return;  // No damage intent
-                }
+            // Find matching damage in damage array
+            for (int i = 0; i < monster.damage.size(); i++) {
+                DamageInfo dmg = monster.damage.get(i);
+                if (dmg != null && dmg.base > 0) {
+                    // Check if this damage matches the hardcoded base
+                    int actNum = AbstractDungeon.actNum;
+                    int expectedIncrease = 0;
+                    if (actNum == 1) {
+                        expectedIncrease = 1;
+                    } else if (actNum == 2) {
+                        expectedIncrease = 2;
+                    } else if (actNum >= 3) {
+                        expectedIncrease = 5;
+                    }
 
-                // Find matching damage in damage array
-                for (int i = 0; i < __instance.damage.size(); i++) {
-                    DamageInfo dmg = __instance.damage.get(i);
-                    if (dmg != null && dmg.base > 0) {
-                        // Check if this damage matches the hardcoded base
-                        int actNum = AbstractDungeon.actNum;
-                        int expectedIncrease = 0;
+                    // Add Level 69 boss damage increase if applicable
+                    if (AscensionRuleSet.isActive(69) && monster.type == AbstractMonster.EnemyType.BOSS) {
                         if (actNum == 1) {
-                            expectedIncrease = 1;
+                            expectedIncrease += 1;  // Level 69: +1 for Act 1 bosses
                         } else if (actNum == 2) {
-                            expectedIncrease = 2;
-                        } else if (actNum >= 3) {
-                            expectedIncrease = 5;
-                        }
-
-                        // Add Level 69 boss damage increase if applicable
-                        if (AbstractDungeon.ascensionLevel >= 69 && __instance.type == AbstractMonster.EnemyType.BOSS) {
-                            if (actNum == 1) {
-                                expectedIncrease += 1;  // Level 69: +1 for Act 1 bosses
-                            } else if (actNum == 2) {
-                                expectedIncrease += 3;  // Level 69: +3 for Act 2 bosses
-                            } else if (actNum == 3) {
-                                expectedIncrease += 6;  // Level 69: +6 for Act 3 bosses
-                            }
+                            expectedIncrease += 3;  // Level 69: +3 for Act 2 bosses
+                        } else if (actNum == 3) {
+                            expectedIncrease += 6;  // Level 69: +6 for Act 3 bosses
                         }
+                    }
 
-                        // If dmg.base - expectedIncrease == intentBaseDmg, this is the right damage
-                        if (dmg.base - expectedIncrease == intentBaseDmg) {
-                            // Update intentDmg to use actual damage (after powers)
-                            Field intentDmgField = AbstractMonster.class.getDeclaredField("intentDmg");
-                            intentDmgField.setAccessible(true);
-                            intentDmgField.setInt(__instance, dmg.output);
+                    // If dmg.base - expectedIncrease == intentBaseDmg, this is the right damage
+                    if (dmg.base - expectedIncrease == intentBaseDmg) {
+                        // Update intentDmg to use actual damage (after powers)
+                        FieldAccessor intentDmgField = ReflectionCache.ABSTRACT_MONSTER_INTENT_DMG;
+                        intentDmgField.setInt(monster, dmg.output);
 
+                        if (AscensionLog.isTracing()) {
                             logger.info(String.format(
                                 "Ascension 68: %s Intent fixed in applyPowers from %d to %d (index %d)",
-                                __instance.name, intentBaseDmg, dmg.output, i
+                                monster.name, intentBaseDmg, dmg.output, i
                             ));
-                            break;  // Found the match, stop
                         }
+                        break;  // Found the match, stop
                     }
                 }
-            } catch (Exception e) {
-                logger.error("Failed to fix generic Intent in applyPowers", e);
             }
+        } catch (Exception e) {
+            logger.error("Failed to fix generic Intent in applyPowers", e);
         }
     }
 
@@ -1,13 +1,13 @@
 package com.stsmod.ascension100.patches.levels;
 
-import com.evacipated.cardcrawl.modthespire.lib.SpirePatch;
-import com.evacipated.cardcrawl.modthespire.lib.SpirePostfixPatch;
 import com.megacrit.cardcrawl.actions.common.ApplyPowerAction;
 import com.megacrit.cardcrawl.dungeons.AbstractDungeon;
 import com.megacrit.cardcrawl.monsters.AbstractMonster;
 import com.megacrit.cardcrawl.powers.IntangiblePower;
 import com.megacrit.cardcrawl.powers.MetallicizePower;
 import com.megacrit.cardcrawl.powers.StrengthPower;
+import com.stsmod.ascension100.patches.unified.SharedHooks;
+import com.stsmod.ascension100.util.AscensionLog;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -22,49 +22,51 @@ import org.apache.logging.log4j.Logger;
 public class Level70 {
     private static final Logger logger = LogManager.getLogger(Level70.class.getName());
 
-    @SpirePatch(
-        clz = AbstractMonster.class,
-        method = "usePreBattleAction"
-    )
-    public static class EliteAdvantagesByAct {
-        @SpirePostfixPatch
-        public static void Postfix(AbstractMonster __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 70) {
-                return;
-            }
+    /**
+     * Listeners for SharedHooks, linked only while this level is active
+     */
+    public static void registerHooks() {
+        SharedHooks.MONSTER_PRE_BATTLE.register(70, Level70::eliteAdvantagesByAct);
+    }
 
-            if (__instance.type == AbstractMonster.EnemyType.ELITE) {
-                int actNum = AbstractDungeon.actNum;
+    private static void eliteAdvantagesByAct(AbstractMonster monster) {
+        if (monster.type == AbstractMonster.EnemyType.ELITE) {
+            int actNum = AbstractDungeon.actNum;
 
-                if (actNum == 1) {
-                    // Act 1: Metallicize 2
-                    AbstractDungeon.actionManager.addToBottom(
-                        new ApplyPowerAction(__instance, __instance,
-                            new MetallicizePower(__instance, 2), 2)
-                    );
+            if (actNum == 1) {
+                // Act 1: Metallicize 2
+                AbstractDungeon.actionManager.addToBottom(
+                    new ApplyPowerAction(monster, monster,
+                        new MetallicizePower(monster, 2), 2)
+                );
+                if (AscensionLog.isTracing()) {
                     logger.info(String.format(
                         "Ascension 70: Elite %s gained Metallicize 2 (Act 1)",
-                        __instance.name
+                        monster.name
                     ));
-                } else if (actNum == 2) {
-                    // Act 2: Strength 2
-                    AbstractDungeon.actionManager.addToBottom(
-                        new ApplyPowerAction(__instance, __instance,
-                            new StrengthPower(__instance, 2), 2)
-                    );
+                }
+            } else if (actNum == 2) {
+                // Act 2: Strength 2
+                AbstractDungeon.actionManager.addToBottom(
+                    new ApplyPowerAction(monster, monster,
+                        new StrengthPower(monster, 2), 2)
+                );
+                if (AscensionLog.isTracing()) {
                     logger.info(String.format(
                         "Ascension 70: Elite %s gained Strength 2 (Act 2)",
-                        __instance.name
+                        monster.name
                     ));
-                } else if (actNum >= 3) {
-                    // Act 3: Intangible 1
-                    AbstractDungeon.actionManager.addToBottom(
-                        new ApplyPowerAction(__instance, __instance,
-                            new IntangiblePower(__instance, 1), 1)
-                    );
+                }
+            } else if (actNum >= 3) {
+                // Act 3: Intangible 1
+                AbstractDungeon.actionManager.addToBottom(
+                    new ApplyPowerAction(monster, monster,
+                        new IntangiblePower(monster, 1), 1)
+                );
+                if (AscensionLog.isTracing()) {
                     logger.info(String.format(
                         "Ascension 70: Elite %s gained Intangible 1 (Act 3)",
-                        __instance.name
+                        monster.name
                     ));
                 }
             }
@@ -13,6 +13,8 @@ import com.megacrit.cardcrawl.monsters.city.BanditLeader;
 import com.megacrit.cardcrawl.powers.ConstrictedPower;
 import com.megacrit.cardcrawl.powers.VulnerablePower;
 import com.megacrit.cardcrawl.powers.WeakPower;
+import com.stsmod.ascension100.util.AscensionLog;
+import com.stsmod.ascension100.util.AscensionRuleSet;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -39,7 +41,7 @@ public class Level71 {
     public static class RomeoCrossSlashVulnerable {
         @SpirePostfixPatch
         public static void Postfix(BanditLeader __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 71) {
+            if (!AscensionRuleSet.isActive(71)) {
                 return;
             }
 
@@ -60,7 +62,7 @@ public class Level71 {
                     )
                 );
 
-                logger.info("Ascension 71: Romeo's Cross Slash applied Vulnerable 1");
+                AscensionLog.trace(logger, "Ascension 71: Romeo's Cross Slash applied Vulnerable 1");
             }
         }
     }
@@ -76,7 +78,7 @@ public class Level71 {
     public static class DarklingChompWeak {
         @SpirePostfixPatch
         public static void Postfix(Darkling __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 71) {
+            if (!AscensionRuleSet.isActive(71)) {
                 return;
             }
 
@@ -94,7 +96,7 @@ public class Level71 {
                     )
                 );
 
-                logger.info("Ascension 71: Darkling's Chomp applied Weak 1");
+                AscensionLog.trace(logger, "Ascension 71: Darkling's Chomp applied Weak 1");
             }
         }
     }
@@ -110,7 +112,7 @@ public class Level71 {
     public static class SpireGrowthQuickTackleConstrict {
         @SpirePostfixPatch
         public static void Postfix(SpireGrowth __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 71) {
+            if (!AscensionRuleSet.isActive(71)) {
                 return;
             }
 
@@ -129,7 +131,7 @@ public class Level71 {
                         )
                     );
 
-                    logger.info("Ascension 71: SpireGrowth's Quick Tackle applied Constricted 2 (player already constricted)");
+                    AscensionLog.trace(logger, "Ascension 71: SpireGrowth's Quick Tackle applied Constricted 2 (player already constricted)");
                 }
             }
         }
@@ -13,6 +13,8 @@ import com.megacrit.cardcrawl.core.AbstractCreature;
 import com.megacrit.cardcrawl.dungeons.AbstractDungeon;
 import com.megacrit.cardcrawl.monsters.AbstractMonster;
 import com.megacrit.cardcrawl.monsters.city.Healer;
+import com.stsmod.ascension100.util.AscensionLog;
+import com.stsmod.ascension100.util.AscensionRuleSet;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -39,7 +41,7 @@ public class Level72 {
     public static class HealerVampireGetMove {
         @SpirePrefixPatch
         public static SpireReturn<Void> Prefix(Healer __instance, int num) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 72) {
+            if (!AscensionRuleSet.isActive(72)) {
                 return SpireReturn.Continue();
             }
 
@@ -68,10 +70,12 @@ public class Level72 {
                     AbstractMonster.Intent.ATTACK_BUFF,
                     tempDamage.output  // Use calculated damage for intent
                 );
-                logger.info(String.format(
-                    "Ascension 72: Healer using Vampire Attack (no Centurion present) - Intent: %d damage",
-                    tempDamage.output
-                ));
+                if (AscensionLog.isTracing()) {
+                    logger.info(String.format(
+                        "Ascension 72: Healer using Vampire Attack (no Centurion present) - Intent: %d damage",
+                        tempDamage.output
+                    ));
+                }
                 return SpireReturn.Return(null);  // Skip original getMove logic
             }
 
@@ -89,7 +93,7 @@ public class Level72 {
     public static class HealerVampireTakeTurn {
         @SpirePrefixPatch
         public static SpireReturn<Void> Prefix(Healer __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 72) {
+            if (!AscensionRuleSet.isActive(72)) {
                 return SpireReturn.Continue();
             }
 
@@ -136,12 +140,14 @@ public class Level72 {
                     new RollMoveAction(__instance)
                 );
 
-                logger.info(String.format(
-                    "Ascension 72: Healer executed Vampire Attack (%d base damage → %d after powers, heal %d HP)",
-                    VAMPIRE_DAMAGE,
-                    vampireDamage.output,
-                    VAMPIRE_HEAL
-                ));
+                if (AscensionLog.isTracing()) {
+                    logger.info(String.format(
+                        "Ascension 72: Healer executed Vampire Attack (%d base damage → %d after powers, heal %d HP)",
+                        VAMPIRE_DAMAGE,
+                        vampireDamage.output,
+                        VAMPIRE_HEAL
+                    ));
+                }
 
                 // Skip original takeTurn logic
                 return SpireReturn.Return(null);
@@ -2,10 +2,11 @@ package com.stsmod.ascension100.patches.levels;
 
 import com.evacipated.cardcrawl.modthespire.lib.SpirePatch;
 import com.evacipated.cardcrawl.modthespire.lib.SpirePostfixPatch;
-import com.megacrit.cardcrawl.dungeons.AbstractDungeon;
 import com.megacrit.cardcrawl.rooms.AbstractRoom;
 import com.megacrit.cardcrawl.rooms.MonsterRoom;
 import com.megacrit.cardcrawl.rooms.MonsterRoomElite;
+import com.stsmod.ascension100.util.AscensionLog;
+import com.stsmod.ascension100.util.AscensionRuleSet;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -34,7 +35,7 @@ public class Level74 {
     public static class ReduceRareCardChanceNormal {
         @SpirePostfixPatch
         public static void Postfix(MonsterRoom __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 74) {
+            if (!AscensionRuleSet.isActive(74)) {
                 return;
             }
 
@@ -44,7 +45,7 @@ public class Level74 {
             // Increase uncommon card chance from 37% to 38%
             __instance.baseUncommonCardChance = 38;
 
-            logger.info("Ascension 74: Adjusted card rarity chances for normal combat (Rare: 2%, Uncommon: 38%)");
+            AscensionLog.trace(logger, "Ascension 74: Adjusted card rarity chances for normal combat (Rare: 2%, Uncommon: 38%)");
         }
     }
 
@@ -58,7 +59,7 @@ public class Level74 {
     public static class ReduceRareCardChanceElite {
         @SpirePostfixPatch
         public static void Postfix(MonsterRoomElite __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 74) {
+            if (!AscensionRuleSet.isActive(74)) {
                 return;
             }
 
@@ -68,7 +69,7 @@ public class Level74 {
             // Increase uncommon card chance from 37% to 38%
             __instance.baseUncommonCardChance = 38;
 
-            logger.info("Ascension 74: Adjusted card rarity chances for elite combat (Rare: 2%, Uncommon: 38%)");
+            AscensionLog.trace(logger, "Ascension 74: Adjusted card rarity chances for elite combat (Rare: 2%, Uncommon: 38%)");
         }
     }
 }
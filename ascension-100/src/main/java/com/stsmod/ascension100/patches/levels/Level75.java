@@ -10,6 +10,10 @@ import com.megacrit.cardcrawl.monsters.MonsterGroup;
 import com.megacrit.cardcrawl.monsters.MonsterInfo;
 import com.megacrit.cardcrawl.monsters.city.Chosen;
 import com.megacrit.cardcrawl.monsters.city.Mugger;
+import com.stsmod.ascension100.util.AscensionLog;
+import com.stsmod.ascension100.util.AscensionRuleSet;
+import com.stsmod.ascension100.util.MethodAccessor;
+import com.stsmod.ascension100.util.ReflectionCache;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -36,7 +40,7 @@ public class Level75 {
     public static class AddMuggerChosenEncounter {
         @SpirePrefixPatch
         public static SpireReturn<Void> Prefix(TheCity __instance, int count) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 75) {
+            if (!AscensionRuleSet.isActive(75)) {
                 return SpireReturn.Continue();
             }
 
@@ -58,24 +62,17 @@ public class Level75 {
                 MonsterInfo.normalizeWeights(monsters);
 
                 // Use reflection to call protected methods
-                java.lang.reflect.Method populateFirstStrongEnemy = TheCity.class.getDeclaredMethod(
-                    "populateFirstStrongEnemy", ArrayList.class, ArrayList.class
-                );
-                populateFirstStrongEnemy.setAccessible(true);
+                MethodAccessor populateFirstStrongEnemy = ReflectionCache.THE_CITY_POPULATE_FIRST_STRONG_ENEMY;
 
-                java.lang.reflect.Method generateExclusions = TheCity.class.getDeclaredMethod("generateExclusions");
-                generateExclusions.setAccessible(true);
+                MethodAccessor generateExclusions = ReflectionCache.THE_CITY_GENERATE_EXCLUSIONS;
                 ArrayList<String> exclusions = (ArrayList<String>) generateExclusions.invoke(__instance);
 
                 populateFirstStrongEnemy.invoke(__instance, monsters, exclusions);
 
-                java.lang.reflect.Method populateMonsterList = AbstractDungeon.class.getDeclaredMethod(
-                    "populateMonsterList", ArrayList.class, int.class, boolean.class
-                );
-                populateMonsterList.setAccessible(true);
+                MethodAccessor populateMonsterList = ReflectionCache.ABSTRACT_DUNGEON_POPULATE_MONSTER_LIST;
                 populateMonsterList.invoke(__instance, monsters, count, false);
 
-                logger.info("Ascension 75: Added 'Mugger and Chosen' encounter to TheCity strong enemies");
+                AscensionLog.trace(logger, "Ascension 75: Added 'Mugger and Chosen' encounter to TheCity strong enemies");
 
                 return SpireReturn.Return(null);
             } catch (Exception e) {
@@ -95,12 +92,12 @@ public class Level75 {
     public static class GetMuggerChosenEncounter {
         @SpirePrefixPatch
         public static SpireReturn<MonsterGroup> Prefix(String key) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 75) {
+            if (!AscensionRuleSet.isActive(75)) {
                 return SpireReturn.Continue();
             }
 
             if (ENCOUNTER_NAME.equals(key)) {
-                logger.info("Ascension 75: Creating Mugger and Chosen encounter");
+                AscensionLog.trace(logger, "Ascension 75: Creating Mugger and Chosen encounter");
                 return SpireReturn.Return(
                     new MonsterGroup(new AbstractMonster[] {
                         new Mugger(-200.0F, 0.0F),
@@ -123,7 +120,7 @@ public class Level75 {
     public static class GetMuggerChosenEncounterName {
         @SpirePrefixPatch
         public static SpireReturn<String> Prefix(String key) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 75) {
+            if (!AscensionRuleSet.isActive(75)) {
                 return SpireReturn.Continue();
             }
 
@@ -15,7 +15,11 @@ import com.megacrit.cardcrawl.relics.AbstractRelic;
 import com.megacrit.cardcrawl.rooms.AbstractRoom;
 import com.megacrit.cardcrawl.rooms.MonsterRoom;
 import com.megacrit.cardcrawl.rooms.MonsterRoomElite;
+import com.stsmod.ascension100.patches.unified.SharedHooks;
+import com.stsmod.ascension100.util.AscensionLog;
 import com.stsmod.ascension100.util.EncounterHelper;
+import com.stsmod.ascension100.util.RngRecorder;
+import com.stsmod.ascension100.util.Telemetry;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -36,6 +40,17 @@ import org.apache.logging.log4j.Logger;
 public class Level76 {
     private static final Logger logger = LogManager.getLogger(Level76.class.getName());
 
+    // RNG call sites (see RngRecorder)
+    private static final int SPECIAL_BATTLE_ROLL = RngRecorder.site("Level76.specialBattleRoll", RngRecorder.Stream.MISC);
+
+    /**
+     * Listeners for SharedHooks, linked only while this level is active
+     */
+    public static void registerHooks() {
+        SharedHooks.GROUP_PRE_BATTLE.register(76, Level76::applySpecialBattleBuffs);
+        SharedHooks.GROUP_INIT.register(76, Level76::triggerSpecialBattle);
+    }
+
     /**
      * Special battle tracker
      */
@@ -50,56 +65,56 @@ public class Level76 {
      * Determine if current battle should be a special battle
      * Check AFTER monster group is initialized to ensure lastCombatMetricKey is set
      */
-    @SpirePatch(
-        clz = MonsterGroup.class,
-        method = "init"
-    )
-    public static class TriggerSpecialBattle {
-        @SpirePostfixPatch
-        public static void Postfix(MonsterGroup __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 76) {
-                return;
-            }
-
-            // Only trigger in MonsterRoom (not elite/boss rooms)
-            if (!(AbstractDungeon.getCurrRoom() instanceof MonsterRoom) ||
-                AbstractDungeon.getCurrRoom() instanceof MonsterRoomElite) {
-                return;
-            }
+    private static void triggerSpecialBattle(MonsterGroup group) {
+        // Only trigger in MonsterRoom (not elite/boss rooms)
+        if (!(AbstractDungeon.getCurrRoom() instanceof MonsterRoom) ||
+            AbstractDungeon.getCurrRoom() instanceof MonsterRoomElite) {
+            return;
+        }
 
-            // Check if this is a Strong Enemy encounter
-            // lastCombatMetricKey is now properly set after init()
-            if (!EncounterHelper.isStrongEncounter()) {
+        // Check if this is a Strong Enemy encounter
+        // lastCombatMetricKey is now properly set after init()
+        if (!EncounterHelper.isStrongEncounter()) {
+            if (AscensionLog.isTracing()) {
                 logger.info(String.format("Ascension 76: Not a strong encounter (%s), skipping special battle check",
                     AbstractDungeon.lastCombatMetricKey));
-                return;
             }
+            return;
+        }
 
-            // Special battles cannot occur before floor 10
-            int currentFloor = AbstractDungeon.floorNum;
-            if (currentFloor < 10) {
+        // Special battles cannot occur before floor 10
+        int currentFloor = AbstractDungeon.floorNum;
+        if (currentFloor < 10) {
+            if (AscensionLog.isTracing()) {
                 logger.info(String.format("Ascension 76: Special Battle cannot occur before floor 10 (Current floor: %d)",
                     currentFloor));
-                return;
             }
+            return;
+        }
 
-            // Check cooldown - special battles cannot occur within 10 floors of each other
-            int floorsSinceLastSpecial = currentFloor - SpecialBattleTracker.lastSpecialBattleFloor;
+        // Check cooldown - special battles cannot occur within 10 floors of each other
+        int floorsSinceLastSpecial = currentFloor - SpecialBattleTracker.lastSpecialBattleFloor;
 
-            if (floorsSinceLastSpecial < SpecialBattleTracker.SPECIAL_BATTLE_COOLDOWN) {
+        if (floorsSinceLastSpecial < SpecialBattleTracker.SPECIAL_BATTLE_COOLDOWN) {
+            if (AscensionLog.isTracing()) {
                 logger.info(String.format("Ascension 76: Special Battle on cooldown (Floor %d, last was %d, need %d floors apart)",
                     currentFloor, SpecialBattleTracker.lastSpecialBattleFloor, SpecialBattleTracker.SPECIAL_BATTLE_COOLDOWN));
-                return;
             }
+            return;
+        }
 
-            // Roll for special battle
-            int roll = AbstractDungeon.miscRng.random(0, 99);
-            if (roll < SpecialBattleTracker.specialBattleChance) {
-                SpecialBattleTracker.isSpecialBattle = true;
-                SpecialBattleTracker.lastSpecialBattleFloor = currentFloor;
+        // Roll for special battle
+        int roll = RngRecorder.random(SPECIAL_BATTLE_ROLL, AbstractDungeon.miscRng, 0, 99);
+        Telemetry.record(Telemetry.Event.ROLL, 76, roll, SpecialBattleTracker.specialBattleChance);
+        if (roll < SpecialBattleTracker.specialBattleChance) {
+            SpecialBattleTracker.isSpecialBattle = true;
+            SpecialBattleTracker.lastSpecialBattleFloor = currentFloor;
+            if (AscensionLog.isTracing()) {
                 logger.info(String.format("Ascension 76: Special Battle triggered! (Floor: %d, Roll: %d < %d, Encounter: %s)",
                     currentFloor, roll, SpecialBattleTracker.specialBattleChance, AbstractDungeon.lastCombatMetricKey));
-            } else {
+            }
+        } else {
+            if (AscensionLog.isTracing()) {
                 logger.info(String.format("Ascension 76: Special Battle NOT triggered (Floor: %d, Roll: %d >= %d, Encounter: %s)",
                     currentFloor, roll, SpecialBattleTracker.specialBattleChance, AbstractDungeon.lastCombatMetricKey));
             }
@@ -131,77 +146,72 @@ public class Level76 {
 
             // Change BGM key to elite BGM (ELITE - STS_EliteBoss_NewMix_v1.ogg)
             key[0] = "ELITE";
-            logger.info("Ascension 76: Changed BGM to ELITE for Special Battle");
+            AscensionLog.trace(logger, "Ascension 76: Changed BGM to ELITE for Special Battle");
         }
     }
 
     /**
      * Apply buffs to monsters at battle start
      */
-    @SpirePatch(
-        clz = MonsterGroup.class,
-        method = "usePreBattleAction"
-    )
-    public static class ApplySpecialBattleBuffs {
-        @SpirePostfixPatch
-        public static void Postfix(MonsterGroup __instance) {
-            if (!SpecialBattleTracker.isSpecialBattle) {
-                return;
-            }
+    private static void applySpecialBattleBuffs(MonsterGroup group) {
+        if (!SpecialBattleTracker.isSpecialBattle) {
+            return;
+        }
 
-            int actNum = AbstractDungeon.actNum;
-            int plating, regen, block;
+        int actNum = AbstractDungeon.actNum;
+        int plating, regen, block;
 
-            // Determine buff amounts by act
-            switch (actNum) {
-                case 1:
-                    plating = 2;
-                    regen = 2;
-                    block = 6;
-                    break;
-                case 2:
-                    plating = 5;
-                    regen = 3;
-                    block = 10;
-                    break;
-                case 3:
-                default:
-                    plating = 8;
-                    regen = 5;
-                    block = 25;
-                    break;
-            }
+        // Determine buff amounts by act
+        switch (actNum) {
+            case 1:
+                plating = 2;
+                regen = 2;
+                block = 6;
+                break;
+            case 2:
+                plating = 5;
+                regen = 3;
+                block = 10;
+                break;
+            case 3:
+            default:
+                plating = 8;
+                regen = 5;
+                block = 25;
+                break;
+        }
 
-            // Apply buffs to all monsters
-            for (AbstractMonster m : __instance.monsters) {
-                if (m != null && !m.isDying && !m.isDead) {
-                    // Apply Plated Armor (금속화)
-                    AbstractDungeon.actionManager.addToBottom(
-                        new ApplyPowerAction(
-                            (AbstractCreature)m,
-                            (AbstractCreature)m,
-                            new PlatedArmorPower((AbstractCreature)m, plating),
-                            plating
-                        )
-                    );
+        // Apply buffs to all monsters
+        for (AbstractMonster m : group.monsters) {
+            if (m != null && !m.isDying && !m.isDead) {
+                // Apply Plated Armor (금속화)
+                AbstractDungeon.actionManager.addToBottom(
+                    new ApplyPowerAction(
+                        (AbstractCreature)m,
+                        (AbstractCreature)m,
+                        new PlatedArmorPower((AbstractCreature)m, plating),
+                        plating
+                    )
+                );
 
-                    // Apply Regeneration (재생)
-                    AbstractDungeon.actionManager.addToBottom(
-                        new ApplyPowerAction(
-                            (AbstractCreature)m,
-                            (AbstractCreature)m,
-                            new RegenerateMonsterPower(m, regen),
-                            regen
-                        )
-                    );
+                // Apply Regeneration (재생)
+                AbstractDungeon.actionManager.addToBottom(
+                    new ApplyPowerAction(
+                        (AbstractCreature)m,
+                        (AbstractCreature)m,
+                        new RegenerateMonsterPower(m, regen),
+                        regen
+                    )
+                );
 
-                    // Apply starting block (시작시 방어도)
-                    AbstractDungeon.actionManager.addToBottom(
-                        new GainBlockAction(m, m, block)
-                    );
-                }
+                // Apply starting block (시작시 방어도)
+                AbstractDungeon.actionManager.addToBottom(
+                    new GainBlockAction(m, m, block)
+                );
             }
+        }
 
+        if (AscensionLog.isTracing()) {
             logger.info(String.format("Ascension 76: Applied Special Battle buffs - Plating: %d, Regen: %d, Block: %d (Act %d)",
                 plating, regen, block, actNum));
         }
@@ -225,24 +235,19 @@ public class Level76 {
             AbstractRelic.RelicTier tier = AbstractDungeon.returnRandomRelicTier();
             __instance.addRelicToRewards(tier);
 
-            logger.info(String.format("Ascension 76: Added relic reward (%s tier) to Special Battle", tier));
+            if (AscensionLog.isTracing()) {
+                logger.info(String.format("Ascension 76: Added relic reward (%s tier) to Special Battle", tier));
+            }
         }
     }
 
     /**
      * Reset special battle cooldown when starting a new game
+     * Called by MapMutationPipeline after every generateMap (each act/run)
      */
-    @SpirePatch(
-        clz = com.megacrit.cardcrawl.dungeons.AbstractDungeon.class,
-        method = "generateMap"
-    )
-    public static class ResetCooldownOnNewGame {
-        @SpirePostfixPatch
-        public static void Postfix() {
-            // Reset cooldown at start of each act/run
-            SpecialBattleTracker.lastSpecialBattleFloor = -999;
-            logger.info("Ascension 76: Reset special battle cooldown for new game/act");
-        }
+    public static void onMapGenerated() {
+        SpecialBattleTracker.lastSpecialBattleFloor = -999;
+        AscensionLog.trace(logger, "Ascension 76: Reset special battle cooldown for new game/act");
     }
 
     /**
@@ -256,7 +261,7 @@ public class Level76 {
         @SpirePostfixPatch
         public static void Postfix(AbstractRoom __instance) {
             if (SpecialBattleTracker.isSpecialBattle) {
-                logger.info("Ascension 76: Resetting Special Battle flag");
+                AscensionLog.trace(logger, "Ascension 76: Resetting Special Battle flag");
                 SpecialBattleTracker.isSpecialBattle = false;
             }
         }
@@ -1,7 +1,5 @@
 package com.stsmod.ascension100.patches.levels;
 
-import com.evacipated.cardcrawl.modthespire.lib.SpirePatch;
-import com.evacipated.cardcrawl.modthespire.lib.SpirePostfixPatch;
 import com.megacrit.cardcrawl.actions.common.ApplyPowerAction;
 import com.megacrit.cardcrawl.core.AbstractCreature;
 import com.megacrit.cardcrawl.dungeons.AbstractDungeon;
@@ -10,6 +8,8 @@ import com.megacrit.cardcrawl.monsters.MonsterGroup;
 import com.megacrit.cardcrawl.powers.BufferPower;
 import com.megacrit.cardcrawl.powers.RitualPower;
 import com.megacrit.cardcrawl.powers.TimeWarpPower;
+import com.stsmod.ascension100.patches.unified.SharedHooks;
+import com.stsmod.ascension100.util.AscensionLog;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -27,77 +27,79 @@ public class Level77 {
     private static final Logger logger = LogManager.getLogger(Level77.class.getName());
 
     /**
-     * Apply additional buffs to special battles
+     * Listeners for SharedHooks, linked only while this level is active
      */
-    @SpirePatch(
-        clz = MonsterGroup.class,
-        method = "usePreBattleAction"
-    )
-    public static class ApplyAdditionalBuffs {
-        @SpirePostfixPatch
-        public static void Postfix(MonsterGroup __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 77) {
-                return;
-            }
+    public static void registerHooks() {
+        SharedHooks.GROUP_PRE_BATTLE.register(77, Level77::applyAdditionalBuffs);
+    }
 
-            if (!Level76.SpecialBattleTracker.isSpecialBattle) {
-                return;
-            }
+    /**
+     * Apply additional buffs to special battles
+     */
+    private static void applyAdditionalBuffs(MonsterGroup group) {
+        if (!Level76.SpecialBattleTracker.isSpecialBattle) {
+            return;
+        }
 
-            int actNum = AbstractDungeon.actNum;
+        int actNum = AbstractDungeon.actNum;
 
-            // Apply additional buffs based on act
-            for (AbstractMonster m : __instance.monsters) {
-                if (m != null && !m.isDying && !m.isDead) {
-                    switch (actNum) {
-                        case 1:
-                            // Act 1: Ritual 1 (Gain 1 Strength at end of turn)
-                            AbstractDungeon.actionManager.addToBottom(
-                                new ApplyPowerAction(
-                                    (AbstractCreature)m,
-                                    (AbstractCreature)m,
-                                    new RitualPower((AbstractCreature)m, 1, false),
-                                    1
-                                )
-                            );
+        // Apply additional buffs based on act
+        for (AbstractMonster m : group.monsters) {
+            if (m != null && !m.isDying && !m.isDead) {
+                switch (actNum) {
+                    case 1:
+                        // Act 1: Ritual 1 (Gain 1 Strength at end of turn)
+                        AbstractDungeon.actionManager.addToBottom(
+                            new ApplyPowerAction(
+                                (AbstractCreature)m,
+                                (AbstractCreature)m,
+                                new RitualPower((AbstractCreature)m, 1, false),
+                                1
+                            )
+                        );
+                        if (AscensionLog.isTracing()) {
                             logger.info(String.format(
                                 "Ascension 77: Applied Ritual 1 to %s (Act 1 Special Battle)",
                                 m.name
                             ));
-                            break;
+                        }
+                        break;
 
-                        case 2:
-                            // Act 2: Buffer 1 (Prevent HP loss from next attack)
-                            AbstractDungeon.actionManager.addToBottom(
-                                new ApplyPowerAction(
-                                    (AbstractCreature)m,
-                                    (AbstractCreature)m,
-                                    new BufferPower((AbstractCreature)m, 1),
-                                    1
-                                )
-                            );
+                    case 2:
+                        // Act 2: Buffer 1 (Prevent HP loss from next attack)
+                        AbstractDungeon.actionManager.addToBottom(
+                            new ApplyPowerAction(
+                                (AbstractCreature)m,
+                                (AbstractCreature)m,
+                                new BufferPower((AbstractCreature)m, 1),
+                                1
+                            )
+                        );
+                        if (AscensionLog.isTracing()) {
                             logger.info(String.format(
                                 "Ascension 77: Applied Buffer 1 to %s (Act 2 Special Battle)",
                                 m.name
                             ));
-                            break;
+                        }
+                        break;
 
-                        case 3:
-                            // Act 3: Time Warp (when player plays 12 cards in a turn, end turn and gain 1 Strength)
-                            AbstractDungeon.actionManager.addToBottom(
-                                new ApplyPowerAction(
-                                    (AbstractCreature)m,
-                                    (AbstractCreature)m,
-                                    new TimeWarpPower((AbstractCreature)m),
-                                    1
-                                )
-                            );
+                    case 3:
+                        // Act 3: Time Warp (when player plays 12 cards in a turn, end turn and gain 1 Strength)
+                        AbstractDungeon.actionManager.addToBottom(
+                            new ApplyPowerAction(
+                                (AbstractCreature)m,
+                                (AbstractCreature)m,
+                                new TimeWarpPower((AbstractCreature)m),
+                                1
+                            )
+                        );
+                        if (AscensionLog.isTracing()) {
                             logger.info(String.format(
                                 "Ascension 77: Applied Time Warp to %s (Act 3 Special Battle)",
                                 m.name
                             ));
-                            break;
-                    }
+                        }
+                        break;
                 }
             }
         }
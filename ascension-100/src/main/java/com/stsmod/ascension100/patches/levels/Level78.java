@@ -2,9 +2,10 @@ package com.stsmod.ascension100.patches.levels;
 
 import com.evacipated.cardcrawl.modthespire.lib.SpirePatch;
 import com.evacipated.cardcrawl.modthespire.lib.SpirePostfixPatch;
-import com.megacrit.cardcrawl.dungeons.AbstractDungeon;
 import com.megacrit.cardcrawl.rooms.MonsterRoom;
 import com.megacrit.cardcrawl.rooms.MonsterRoomElite;
+import com.stsmod.ascension100.util.AscensionLog;
+import com.stsmod.ascension100.util.AscensionRuleSet;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -28,14 +29,14 @@ public class Level78 {
     public static class IncreaseSpecialBattleProbability {
         @SpirePostfixPatch
         public static void Postfix(MonsterRoom __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 78) {
+            if (!AscensionRuleSet.isActive(78)) {
                 return;
             }
 
             // Increase probability to 20%
             if (!(__instance instanceof MonsterRoomElite)) {
                 Level76.SpecialBattleTracker.specialBattleChance = 20;
-                logger.info("Ascension 78: Special Battle probability increased to 20%");
+                AscensionLog.trace(logger, "Ascension 78: Special Battle probability increased to 20%");
             }
         }
     }
@@ -1,9 +1,11 @@
 package com.stsmod.ascension100.patches.levels;
 
-import com.evacipated.cardcrawl.modthespire.lib.SpirePatch;
-import com.evacipated.cardcrawl.modthespire.lib.SpirePostfixPatch;
 import com.megacrit.cardcrawl.dungeons.AbstractDungeon;
 import com.megacrit.cardcrawl.monsters.MonsterGroup;
+import com.stsmod.ascension100.patches.unified.SharedHooks;
+import com.stsmod.ascension100.util.AscensionLog;
+import com.stsmod.ascension100.util.RngRecorder;
+import com.stsmod.ascension100.util.Telemetry;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -17,28 +19,30 @@ import org.apache.logging.log4j.Logger;
 public class Level79 {
     private static final Logger logger = LogManager.getLogger(Level79.class.getName());
 
+    // RNG call sites (see RngRecorder)
+    private static final int SPECIAL_BATTLE_ROLL = RngRecorder.site("Level79.specialBattleRoll", RngRecorder.Stream.MISC);
+
     /**
-     * Enable special battles in ? room (EventRoom) combats
+     * Listeners for SharedHooks, linked only while this level is active
      */
-    @SpirePatch(
-        clz = MonsterGroup.class,
-        method = "init"
-    )
-    public static class EnableSpecialBattleInEventRoom {
-        @SpirePostfixPatch
-        public static void Postfix(MonsterGroup __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 79) {
-                return;
-            }
+    public static void registerHooks() {
+        SharedHooks.GROUP_INIT.register(79, Level79::enableSpecialBattleInEventRoom);
+    }
 
-            // Check if we're in an EventRoom (? room)
-            if (AbstractDungeon.getCurrRoom() instanceof com.megacrit.cardcrawl.rooms.EventRoom) {
-                // Check if special battle hasn't been triggered yet
-                if (!Level76.SpecialBattleTracker.isSpecialBattle) {
-                    // Roll for special battle with the current probability
-                    int roll = AbstractDungeon.miscRng.random(0, 99);
-                    if (roll < Level76.SpecialBattleTracker.specialBattleChance) {
-                        Level76.SpecialBattleTracker.isSpecialBattle = true;
+    /**
+     * Enable special battles in ? room (EventRoom) combats
+     */
+    private static void enableSpecialBattleInEventRoom(MonsterGroup group) {
+        // Check if we're in an EventRoom (? room)
+        if (AbstractDungeon.getCurrRoom() instanceof com.megacrit.cardcrawl.rooms.EventRoom) {
+            // Check if special battle hasn't been triggered yet
+            if (!Level76.SpecialBattleTracker.isSpecialBattle) {
+                // Roll for special battle with the current probability
+                int roll = RngRecorder.random(SPECIAL_BATTLE_ROLL, AbstractDungeon.miscRng, 0, 99);
+                Telemetry.record(Telemetry.Event.ROLL, 79, roll, Level76.SpecialBattleTracker.specialBattleChance);
+                if (roll < Level76.SpecialBattleTracker.specialBattleChance) {
+                    Level76.SpecialBattleTracker.isSpecialBattle = true;
+                    if (AscensionLog.isTracing()) {
                         logger.info(String.format("Ascension 79: Special Battle triggered in ? room! (Roll: %d < %d)",
                             roll, Level76.SpecialBattleTracker.specialBattleChance));
                     }
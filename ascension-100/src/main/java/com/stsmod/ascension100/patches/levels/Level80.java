@@ -4,7 +4,11 @@ import com.evacipated.cardcrawl.modthespire.lib.SpirePatch;
 import com.evacipated.cardcrawl.modthespire.lib.SpirePostfixPatch;
 import com.megacrit.cardcrawl.cards.AbstractCard;
 import com.megacrit.cardcrawl.cards.curses.AscendersBane;
-import com.megacrit.cardcrawl.dungeons.AbstractDungeon;
+import com.stsmod.ascension100.util.AscensionLog;
+import com.stsmod.ascension100.util.AscensionRuleSet;
+import com.stsmod.ascension100.util.FieldAccessor;
+import com.stsmod.ascension100.util.ModStrings;
+import com.stsmod.ascension100.util.ReflectionCache;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -29,7 +33,7 @@ public class Level80 {
     public static class ModifyAscendersBane {
         @SpirePostfixPatch
         public static void Postfix(AscendersBane __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 80) {
+            if (!AscensionRuleSet.isActive(80)) {
                 return;
             }
 
@@ -43,19 +47,10 @@ public class Level80 {
             // Make it Exhaust when played (only disappears when used)
             __instance.exhaust = true;
 
-            // Update card text based on language
+            // Update card text (localized, resolved once by ModStrings)
             try {
-                java.lang.reflect.Field rawDescriptionField = AbstractCard.class.getDeclaredField("rawDescription");
-                rawDescriptionField.setAccessible(true);
-
-                String newDescription;
-                if (com.megacrit.cardcrawl.core.Settings.language == com.megacrit.cardcrawl.core.Settings.GameLanguage.KOR) {
-                    newDescription = "소멸.";  // Korean: Exhaust.
-                } else {
-                    newDescription = "Exhaust.";  // English and other languages
-                }
-
-                rawDescriptionField.set(__instance, newDescription);
+                FieldAccessor rawDescriptionField = ReflectionCache.ABSTRACT_CARD_RAW_DESCRIPTION;
+                rawDescriptionField.set(__instance, ModStrings.ascendersBane80Description);
             } catch (Exception e) {
                 logger.error("Failed to update AscendersBane description", e);
             }
@@ -63,7 +58,7 @@ public class Level80 {
             // Reinitialize description - exhaust keyword will be added automatically
             __instance.initializeDescription();
 
-            logger.info("Ascension 80: Modified AscendersBane - Cost: 1, Exhaust (removed Ethereal)");
+            AscensionLog.trace(logger, "Ascension 80: Modified AscendersBane - Cost: 1, Exhaust (removed Ethereal)");
         }
     }
 }
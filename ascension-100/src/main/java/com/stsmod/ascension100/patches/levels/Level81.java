@@ -1,8 +1,6 @@
 package com.stsmod.ascension100.patches.levels;
 
 import com.badlogic.gdx.math.MathUtils;
-import com.evacipated.cardcrawl.modthespire.lib.SpirePatch;
-import com.evacipated.cardcrawl.modthespire.lib.SpirePostfixPatch;
 import com.megacrit.cardcrawl.actions.common.ApplyPowerAction;
 import com.megacrit.cardcrawl.dungeons.AbstractDungeon;
 import com.megacrit.cardcrawl.monsters.AbstractMonster;
@@ -10,6 +8,8 @@ import com.megacrit.cardcrawl.monsters.MonsterGroup;
 import com.megacrit.cardcrawl.powers.MetallicizePower;
 import com.megacrit.cardcrawl.powers.RegenerateMonsterPower;
 import com.megacrit.cardcrawl.powers.StrengthPower;
+import com.stsmod.ascension100.patches.unified.SharedHooks;
+import com.stsmod.ascension100.util.AscensionLog;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -25,64 +25,67 @@ public class Level81 {
     private static final Logger logger = LogManager.getLogger(Level81.class.getName());
     private static boolean buffAppliedThisCombat = false;
 
-    @SpirePatch(
-        clz = AbstractMonster.class,
-        method = "usePreBattleAction"
-    )
-    public static class RandomStartingBuffsForNormalEnemies {
-        @SpirePostfixPatch
-        public static void Postfix(AbstractMonster __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 81) {
-                return;
-            }
+    /**
+     * Listeners for SharedHooks, linked only while this level is active
+     */
+    public static void registerHooks() {
+        SharedHooks.GROUP_INIT.register(81, Level81::resetBuffFlagOnNewCombat);
+        SharedHooks.MONSTER_PRE_BATTLE.register(81, Level81::randomStartingBuffsForNormalEnemies);
+    }
 
-            // Only apply to normal enemies (not elites or bosses)
-            if (__instance.type != AbstractMonster.EnemyType.NORMAL) {
-                return;
-            }
+    private static void randomStartingBuffsForNormalEnemies(AbstractMonster monster) {
+        // Only apply to normal enemies (not elites or bosses)
+        if (monster.type != AbstractMonster.EnemyType.NORMAL) {
+            return;
+        }
 
-            // Only one enemy per combat can receive a buff
-            if (buffAppliedThisCombat) {
-                return;
-            }
+        // Only one enemy per combat can receive a buff
+        if (buffAppliedThisCombat) {
+            return;
+        }
 
-            // 15% chance to get a random buff
-            if (MathUtils.randomBoolean(0.15f)) {
-                buffAppliedThisCombat = true; // Mark that a buff has been applied this combat
-                int randomBuff = MathUtils.random(2); // 0, 1, or 2
+        // 15% chance to get a random buff
+        if (MathUtils.randomBoolean(0.15f)) {
+            buffAppliedThisCombat = true; // Mark that a buff has been applied this combat
+            int randomBuff = MathUtils.random(2); // 0, 1, or 2
 
-                switch (randomBuff) {
-                    case 0: // Strength 1
-                        AbstractDungeon.actionManager.addToBottom(
-                            new ApplyPowerAction(__instance, __instance,
-                                new StrengthPower(__instance, 1), 1)
-                        );
+            switch (randomBuff) {
+                case 0: // Strength 1
+                    AbstractDungeon.actionManager.addToBottom(
+                        new ApplyPowerAction(monster, monster,
+                            new StrengthPower(monster, 1), 1)
+                    );
+                    if (AscensionLog.isTracing()) {
                         logger.info(String.format(
                             "Ascension 81: Normal enemy %s gained Strength 1",
-                            __instance.name
+                            monster.name
                         ));
-                        break;
-                    case 1: // Metallicize 2
-                        AbstractDungeon.actionManager.addToBottom(
-                            new ApplyPowerAction(__instance, __instance,
-                                new MetallicizePower(__instance, 2), 2)
-                        );
+                    }
+                    break;
+                case 1: // Metallicize 2
+                    AbstractDungeon.actionManager.addToBottom(
+                        new ApplyPowerAction(monster, monster,
+                            new MetallicizePower(monster, 2), 2)
+                    );
+                    if (AscensionLog.isTracing()) {
                         logger.info(String.format(
                             "Ascension 81: Normal enemy %s gained Metallicize 2",
-                            __instance.name
+                            monster.name
                         ));
-                        break;
-                    case 2: // Regeneration 1
-                        AbstractDungeon.actionManager.addToBottom(
-                            new ApplyPowerAction(__instance, __instance,
-                                new RegenerateMonsterPower(__instance, 1), 1)
-                        );
+                    }
+                    break;
+                case 2: // Regeneration 1
+                    AbstractDungeon.actionManager.addToBottom(
+                        new ApplyPowerAction(monster, monster,
+                            new RegenerateMonsterPower(monster, 1), 1)
+                    );
+                    if (AscensionLog.isTracing()) {
                         logger.info(String.format(
                             "Ascension 81: Normal enemy %s gained Regeneration 1",
-                            __instance.name
+                            monster.name
                         ));
-                        break;
-                }
+                    }
+                    break;
             }
         }
     }
@@ -90,15 +93,10 @@ public class Level81 {
     /**
      * Reset the buff flag when a new combat starts
      */
-    @SpirePatch(
-        clz = MonsterGroup.class,
-        method = "init"
-    )
-    public static class ResetBuffFlagOnNewCombat {
-        @SpirePostfixPatch
-        public static void Postfix(MonsterGroup __instance) {
-            // Reset the flag at the start of each new combat
-            buffAppliedThisCombat = false;
+    private static void resetBuffFlagOnNewCombat(MonsterGroup group) {
+        // Reset the flag at the start of each new combat
+        buffAppliedThisCombat = false;
+        if (AscensionLog.isTracing()) {
             logger.debug("Ascension 81: Reset buff flag for new combat");
         }
     }
@@ -8,6 +8,8 @@ import com.megacrit.cardcrawl.dungeons.AbstractDungeon;
 import com.megacrit.cardcrawl.monsters.ending.CorruptHeart;
 import com.megacrit.cardcrawl.powers.BeatOfDeathPower;
 import com.megacrit.cardcrawl.powers.MetallicizePower;
+import com.stsmod.ascension100.util.AscensionLog;
+import com.stsmod.ascension100.util.AscensionRuleSet;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -29,7 +31,7 @@ public class Level82 {
     public static class BuffCorruptHeart {
         @SpirePostfixPatch
         public static void Postfix(CorruptHeart __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 82) {
+            if (!AscensionRuleSet.isActive(82)) {
                 return;
             }
 
@@ -45,7 +47,7 @@ public class Level82 {
                     new BeatOfDeathPower((AbstractCreature)__instance, 1), 1)
             );
 
-            logger.info("Ascension 82: Corrupt Heart gained Metallicize 20 and Beat of Death +1");
+            AscensionLog.trace(logger, "Ascension 82: Corrupt Heart gained Metallicize 20 and Beat of Death +1");
         }
     }
 }
@@ -4,8 +4,9 @@ import com.evacipated.cardcrawl.modthespire.lib.SpirePatch;
 import com.evacipated.cardcrawl.modthespire.lib.SpirePostfixPatch;
 import com.megacrit.cardcrawl.actions.common.GainBlockAction;
 import com.megacrit.cardcrawl.core.AbstractCreature;
-import com.megacrit.cardcrawl.dungeons.AbstractDungeon;
 import com.megacrit.cardcrawl.monsters.AbstractMonster;
+import com.stsmod.ascension100.util.AscensionLog;
+import com.stsmod.ascension100.util.AscensionRuleSet;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -30,22 +31,7 @@ public class Level83 {
     public static class IncreaseMonsterBlockAmount1 {
         @SpirePostfixPatch
         public static void Postfix(GainBlockAction __instance, AbstractCreature target, int amount) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 83) {
-                return;
-            }
-
-            // Only increase block for monsters
-            if (target instanceof AbstractMonster) {
-                int originalAmount = __instance.amount;
-                __instance.amount = (int) Math.ceil(originalAmount * 1.10f);
-
-                logger.info(String.format(
-                    "Ascension 83: Increased %s's block from %d to %d (+10%%)",
-                    ((AbstractMonster) target).name,
-                    originalAmount,
-                    __instance.amount
-                ));
-            }
+            increaseBlock(__instance, target);
         }
     }
 
@@ -57,22 +43,7 @@ public class Level83 {
     public static class IncreaseMonsterBlockAmount2 {
         @SpirePostfixPatch
         public static void Postfix(GainBlockAction __instance, AbstractCreature target, AbstractCreature source, int amount) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 83) {
-                return;
-            }
-
-            // Only increase block for monsters
-            if (target instanceof AbstractMonster) {
-                int originalAmount = __instance.amount;
-                __instance.amount = (int) Math.ceil(originalAmount * 1.10f);
-
-                logger.info(String.format(
-                    "Ascension 83: Increased %s's block from %d to %d (+10%%)",
-                    ((AbstractMonster) target).name,
-                    originalAmount,
-                    __instance.amount
-                ));
-            }
+            increaseBlock(__instance, target);
         }
     }
 
@@ -84,22 +55,7 @@ public class Level83 {
     public static class IncreaseMonsterBlockAmount3 {
         @SpirePostfixPatch
         public static void Postfix(GainBlockAction __instance, AbstractCreature target, int amount, boolean superFast) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 83) {
-                return;
-            }
-
-            // Only increase block for monsters
-            if (target instanceof AbstractMonster) {
-                int originalAmount = __instance.amount;
-                __instance.amount = (int) Math.ceil(originalAmount * 1.10f);
-
-                logger.info(String.format(
-                    "Ascension 83: Increased %s's block from %d to %d (+10%%)",
-                    ((AbstractMonster) target).name,
-                    originalAmount,
-                    __instance.amount
-                ));
-            }
+            increaseBlock(__instance, target);
         }
     }
 
@@ -111,22 +67,38 @@ public class Level83 {
     public static class IncreaseMonsterBlockAmount4 {
         @SpirePostfixPatch
         public static void Postfix(GainBlockAction __instance, AbstractCreature target, AbstractCreature source, int amount, boolean superFast) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 83) {
-                return;
-            }
+            increaseBlock(__instance, target);
+        }
+    }
+
+    /**
+     * Shared body of the four constructor postfixes
+     */
+    private static void increaseBlock(GainBlockAction action, AbstractCreature target) {
+        if (!AscensionRuleSet.isActive(83)) {
+            return;
+        }
 
-            // Only increase block for monsters
-            if (target instanceof AbstractMonster) {
-                int originalAmount = __instance.amount;
-                __instance.amount = (int) Math.ceil(originalAmount * 1.10f);
+        // Only increase block for monsters
+        if (target instanceof AbstractMonster) {
+            int originalAmount = action.amount;
+            action.amount = scaleBlock(originalAmount);
 
+            if (AscensionLog.isTracing()) {
                 logger.info(String.format(
                     "Ascension 83: Increased %s's block from %d to %d (+10%%)",
                     ((AbstractMonster) target).name,
                     originalAmount,
-                    __instance.amount
+                    action.amount
                 ));
             }
         }
     }
+
+    /**
+     * Monster block amount with the +10% bonus (rounded up)
+     */
+    public static int scaleBlock(int amount) {
+        return (int) Math.ceil(amount * 1.10f);
+    }
 }
@@ -7,6 +7,8 @@ import com.megacrit.cardcrawl.core.AbstractCreature;
 import com.megacrit.cardcrawl.dungeons.AbstractDungeon;
 import com.megacrit.cardcrawl.monsters.AbstractMonster;
 import com.megacrit.cardcrawl.rooms.AbstractRoom;
+import com.stsmod.ascension100.util.AscensionLog;
+import com.stsmod.ascension100.util.AscensionRuleSet;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -46,7 +48,7 @@ public class Level84 {
     public static class AdjustPotionBlizzardMod {
         @SpirePostfixPatch
         public static void Postfix(AbstractMonster __instance, boolean triggerRelics) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 84) {
+            if (!AscensionRuleSet.isActive(84)) {
                 return;
             }
 
@@ -72,7 +74,7 @@ public class Level84 {
                     // This will be applied before the potion drop roll
                     com.megacrit.cardcrawl.rooms.AbstractRoom.blizzardPotionMod -= 10;
 
-                    logger.info("Ascension 84: Reduced potion drop chance by 10% (blizzardPotionMod adjusted)");
+                    AscensionLog.trace(logger, "Ascension 84: Reduced potion drop chance by 10% (blizzardPotionMod adjusted)");
                 }
             }
         }
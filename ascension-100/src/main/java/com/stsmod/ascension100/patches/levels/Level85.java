@@ -5,6 +5,10 @@ import com.megacrit.cardcrawl.cards.AbstractCard;
 import com.megacrit.cardcrawl.dungeons.AbstractDungeon;
 import com.megacrit.cardcrawl.events.exordium.ScrapOoze;
 import com.megacrit.cardcrawl.events.shrines.*;
+import com.stsmod.ascension100.util.AscensionLog;
+import com.stsmod.ascension100.util.AscensionRuleSet;
+import com.stsmod.ascension100.util.FieldAccessor;
+import com.stsmod.ascension100.util.ReflectionCache;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -34,7 +38,7 @@ public class Level85 {
     public static class ModifyMatchAndKeepCards {
         @SpirePrefixPatch
         public static SpireReturn<ArrayList<AbstractCard>> Prefix(GremlinMatchGame __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 85) {
+            if (!AscensionRuleSet.isActive(85)) {
                 return SpireReturn.Continue();
             }
 
@@ -69,7 +73,7 @@ public class Level85 {
                 c.target_y = c.current_y;
             }
 
-            logger.info("Ascension 85: Modified Match and Keep card pool");
+            AscensionLog.trace(logger, "Ascension 85: Modified Match and Keep card pool");
             return SpireReturn.Return(retVal);
         }
     }
@@ -84,14 +88,13 @@ public class Level85 {
     public static class IncreaseFaceTraderDamage {
         @SpirePostfixPatch
         public static void Postfix(FaceTrader __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 85) {
+            if (!AscensionRuleSet.isActive(85)) {
                 return;
             }
 
             try {
                 // Access private damage field using reflection
-                java.lang.reflect.Field damageField = FaceTrader.class.getDeclaredField("damage");
-                damageField.setAccessible(true);
+                FieldAccessor damageField = ReflectionCache.FACE_TRADER_DAMAGE;
 
                 // Recalculate damage to 15% (was 10%)
                 int newDamage = AbstractDungeon.player.maxHealth * 15 / 100;
@@ -100,7 +103,9 @@ public class Level85 {
                 }
                 damageField.setInt(__instance, newDamage);
 
-                logger.info(String.format("Ascension 85: Increased FaceTrader damage to %d (15%% of max HP)", newDamage));
+                if (AscensionLog.isTracing()) {
+                    logger.info(String.format("Ascension 85: Increased FaceTrader damage to %d (15%% of max HP)", newDamage));
+                }
             } catch (Exception e) {
                 logger.error("Failed to modify FaceTrader damage", e);
             }
@@ -117,7 +122,7 @@ public class Level85 {
     public static class ReduceBonfireSpecialHealing {
         @SpirePrefixPatch
         public static SpireReturn<Void> Prefix(Bonfire __instance, AbstractCard.CardRarity rarity) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 85) {
+            if (!AscensionRuleSet.isActive(85)) {
                 return SpireReturn.Continue();
             }
 
@@ -131,8 +136,7 @@ public class Level85 {
                     AbstractDungeon.player.heal(healAmount);
 
                     // Update dialog
-                    java.lang.reflect.Field descField = com.megacrit.cardcrawl.events.shrines.Bonfire.class.getDeclaredField("DESCRIPTIONS");
-                    descField.setAccessible(true);
+                    FieldAccessor descField = ReflectionCache.BONFIRE_DESCRIPTIONS;
                     String[] descriptions = (String[]) descField.get(null);
 
                     String dialog = descriptions[2] + descriptions[6]; // DIALOG_3 + DESCRIPTIONS[6]
@@ -140,9 +144,11 @@ public class Level85 {
                     // Update image event text
                     __instance.imageEventText.updateBodyText(dialog);
                     __instance.imageEventText.updateDialogOption(0,
-                        ((String[])com.megacrit.cardcrawl.events.shrines.Bonfire.class.getDeclaredField("OPTIONS").get(null))[1]);
+                        ((String[]) ReflectionCache.BONFIRE_OPTIONS.get(null))[1]);
 
-                    logger.info(String.format("Ascension 85: Bonfire Special healing reduced to %d (80%% of missing HP)", healAmount));
+                    if (AscensionLog.isTracing()) {
+                        logger.info(String.format("Ascension 85: Bonfire Special healing reduced to %d (80%% of missing HP)", healAmount));
+                    }
 
                     return SpireReturn.Return(null);
                 } catch (Exception e) {
@@ -165,26 +171,23 @@ public class Level85 {
     public static class IncreaseWomanInBlueCosts {
         @SpirePostfixPatch
         public static void Postfix(WomanInBlue __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 85) {
+            if (!AscensionRuleSet.isActive(85)) {
                 return;
             }
 
             try {
                 // Modify the constant costs using reflection
-                java.lang.reflect.Field cost1Field = WomanInBlue.class.getDeclaredField("cost1");
-                java.lang.reflect.Field cost2Field = WomanInBlue.class.getDeclaredField("cost2");
-                java.lang.reflect.Field cost3Field = WomanInBlue.class.getDeclaredField("cost3");
+                FieldAccessor cost1Field = ReflectionCache.WOMAN_IN_BLUE_COST1;
+                FieldAccessor cost2Field = ReflectionCache.WOMAN_IN_BLUE_COST2;
+                FieldAccessor cost3Field = ReflectionCache.WOMAN_IN_BLUE_COST3;
 
-                cost1Field.setAccessible(true);
-                cost2Field.setAccessible(true);
-                cost3Field.setAccessible(true);
 
                 // Increase each by 10 (20→30, 30→40, 40→50)
                 cost1Field.setInt(null, 30);
                 cost2Field.setInt(null, 40);
                 cost3Field.setInt(null, 50);
 
-                logger.info("Ascension 85: Increased WomanInBlue costs (+10 each)");
+                AscensionLog.trace(logger, "Ascension 85: Increased WomanInBlue costs (+10 each)");
             } catch (Exception e) {
                 logger.error("Failed to modify WomanInBlue costs", e);
             }
@@ -201,27 +204,27 @@ public class Level85 {
     public static class ModifyScrapOoze {
         @SpirePostfixPatch
         public static void Postfix(ScrapOoze __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 85) {
+            if (!AscensionRuleSet.isActive(85)) {
                 return;
             }
 
             try {
                 // Increase damage by 1
-                java.lang.reflect.Field dmgField = ScrapOoze.class.getDeclaredField("dmg");
-                dmgField.setAccessible(true);
+                FieldAccessor dmgField = ReflectionCache.SCRAP_OOZE_DMG;
                 int currentDmg = dmgField.getInt(__instance);
                 dmgField.setInt(__instance, currentDmg + 1);
 
                 // Increase relic obtain chance by 10%
-                java.lang.reflect.Field relicChanceField = ScrapOoze.class.getDeclaredField("relicObtainChance");
-                relicChanceField.setAccessible(true);
+                FieldAccessor relicChanceField = ReflectionCache.SCRAP_OOZE_RELIC_OBTAIN_CHANCE;
                 int currentChance = relicChanceField.getInt(__instance);
                 relicChanceField.setInt(__instance, currentChance + 10);
 
-                logger.info(String.format(
-                    "Ascension 85: Modified ScrapOoze - Damage: %d (+1), Relic chance: %d%% (+10%%)",
-                    currentDmg + 1, currentChance + 10
-                ));
+                if (AscensionLog.isTracing()) {
+                    logger.info(String.format(
+                        "Ascension 85: Modified ScrapOoze - Damage: %d (+1), Relic chance: %d%% (+10%%)",
+                        currentDmg + 1, currentChance + 10
+                    ));
+                }
             } catch (Exception e) {
                 logger.error("Failed to modify ScrapOoze", e);
             }
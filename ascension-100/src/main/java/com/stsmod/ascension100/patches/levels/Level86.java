@@ -3,6 +3,11 @@ package com.stsmod.ascension100.patches.levels;
 import com.evacipated.cardcrawl.modthespire.lib.*;
 import com.megacrit.cardcrawl.dungeons.AbstractDungeon;
 import com.megacrit.cardcrawl.monsters.AbstractMonster;
+import com.stsmod.ascension100.patches.unified.MonsterDispatch;
+import com.stsmod.ascension100.util.AscensionLog;
+import com.stsmod.ascension100.util.AscensionRuleSet;
+import com.stsmod.ascension100.util.FieldAccessor;
+import com.stsmod.ascension100.util.ReflectionCache;
 import javassist.CtBehavior;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -35,6 +40,33 @@ import org.apache.logging.log4j.Logger;
 public class Level86 {
     private static final Logger logger = LogManager.getLogger(Level86.class.getName());
 
+    /**
+     * Per-class monster changes, applied by MonsterDispatch at init,
+     * around usePreBattleAction and around takeTurn
+     */
+    public static void registerMonsterModifiers(MonsterDispatch.Registry registry) {
+        registry.add(86, com.megacrit.cardcrawl.monsters.exordium.GremlinTsundere.class, Level86::gremlinTsundereBlockBoost);
+        registry.add(86, com.megacrit.cardcrawl.monsters.exordium.GremlinWizard.class, Level86::gremlinWizardDamageBoost);
+        registry.add(86, com.megacrit.cardcrawl.monsters.exordium.GremlinWarrior.class, Level86::gremlinWarriorHPBoost);
+        registry.add(86, com.megacrit.cardcrawl.monsters.exordium.GremlinFat.class, Level86::gremlinFatHPBoost);
+        registry.add(86, com.megacrit.cardcrawl.monsters.exordium.GremlinThief.class, Level86::gremlinThiefDamageBoost);
+        registry.add(86, com.megacrit.cardcrawl.monsters.city.Mugger.class, Level86::muggerSmokeBombDefenseBoost);
+        registry.add(86, com.megacrit.cardcrawl.monsters.city.Healer.class, Level86::healerHealAmountBoost);
+
+        registry.beforePreBattle(86, com.megacrit.cardcrawl.monsters.exordium.Looter.class, LooterThieveryBoost::beforePreBattle);
+        registry.afterPreBattle(86, com.megacrit.cardcrawl.monsters.exordium.Looter.class, LooterThieveryBoost::afterPreBattle);
+        registry.afterTurn(86, com.megacrit.cardcrawl.monsters.exordium.Looter.class, LooterSmokeBombDefenseBoost::afterTurn);
+        registry.afterPreBattle(86, com.megacrit.cardcrawl.monsters.city.ShelledParasite.class, ShelledParasitePlatedArmorBoost::afterPreBattle);
+        registry.beforePreBattle(86, com.megacrit.cardcrawl.monsters.city.Mugger.class, MuggerThieveryBoost::beforePreBattle);
+        registry.afterPreBattle(86, com.megacrit.cardcrawl.monsters.city.Mugger.class, MuggerThieveryBoost::afterPreBattle);
+        registry.afterPreBattle(86, com.megacrit.cardcrawl.monsters.city.SnakePlant.class, SnakePlantMalleableBoost::afterPreBattle);
+        registry.replaceTurn(86, com.megacrit.cardcrawl.monsters.city.SphericGuardian.class, SphericGuardianHardenBoost::replaceTurn);
+        registry.afterTurn(86, com.megacrit.cardcrawl.monsters.city.BanditBear.class, BanditBearBearHugBoost::afterTurn);
+        registry.beforeTurn(86, com.megacrit.cardcrawl.monsters.beyond.Spiker.class, SpikerThornsBoost::beforeTurn);
+        registry.afterTurn(86, com.megacrit.cardcrawl.monsters.beyond.Spiker.class, SpikerThornsBoost::afterTurn);
+        registry.afterTurn(86, com.megacrit.cardcrawl.monsters.beyond.Maw.class, MawRoarBoost::afterTurn);
+    }
+
     /**
      * Louse (LouseNormal, LouseDefensive): Curl Up +6
      * MOVED TO: LouseCurlUpPatch.java (unified patch)
@@ -45,81 +77,58 @@ public class Level86 {
      *
      * IMPORTANT: Must modify goldAmt field BEFORE usePreBattleAction creates ThieveryPower
      */
-    @SpirePatch(
-        clz = com.megacrit.cardcrawl.monsters.exordium.Looter.class,
-        method = "usePreBattleAction"
-    )
     public static class LooterThieveryBoost {
-        @SpirePrefixPatch
-        public static void Prefix(com.megacrit.cardcrawl.monsters.exordium.Looter __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 86) {
-                return;
-            }
-
+        public static void beforePreBattle(com.megacrit.cardcrawl.monsters.exordium.Looter monster) {
             try {
                 // Increase goldAmt BEFORE ThieveryPower is created
-                java.lang.reflect.Field goldAmtField = com.megacrit.cardcrawl.monsters.exordium.Looter.class.getDeclaredField("goldAmt");
-                goldAmtField.setAccessible(true);
-                int currentGoldAmt = goldAmtField.getInt(__instance);
-                goldAmtField.setInt(__instance, currentGoldAmt + 10);
+                FieldAccessor goldAmtField = ReflectionCache.LOOTER_GOLD_AMT;
+                int currentGoldAmt = goldAmtField.getInt(monster);
+                goldAmtField.setInt(monster, currentGoldAmt + 10);
 
-                logger.info(String.format(
-                    "Ascension 86: Looter goldAmt increased from %d to %d (Thievery will be %d)",
-                    currentGoldAmt, currentGoldAmt + 10, currentGoldAmt + 10
-                ));
+                if (AscensionLog.isTracing()) {
+                    logger.info(String.format(
+                        "Ascension 86: Looter goldAmt increased from %d to %d (Thievery will be %d)",
+                        currentGoldAmt, currentGoldAmt + 10, currentGoldAmt + 10
+                    ));
+                }
             } catch (Exception e) {
                 logger.error("Failed to modify Looter goldAmt", e);
             }
         }
 
-        @SpirePostfixPatch
-        public static void Postfix(com.megacrit.cardcrawl.monsters.exordium.Looter __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 86) {
-                return;
-            }
-
+        public static void afterPreBattle(com.megacrit.cardcrawl.monsters.exordium.Looter monster) {
             try {
                 // Reset goldAmt back to original after ThieveryPower is created
-                java.lang.reflect.Field goldAmtField = com.megacrit.cardcrawl.monsters.exordium.Looter.class.getDeclaredField("goldAmt");
-                goldAmtField.setAccessible(true);
-                int currentGoldAmt = goldAmtField.getInt(__instance);
-                goldAmtField.setInt(__instance, currentGoldAmt - 10);
+                FieldAccessor goldAmtField = ReflectionCache.LOOTER_GOLD_AMT;
+                int currentGoldAmt = goldAmtField.getInt(monster);
+                goldAmtField.setInt(monster, currentGoldAmt - 10);
 
-                logger.info("Ascension 86: Looter goldAmt reset to original (Thievery amount remains increased)");
+                AscensionLog.trace(logger, "Ascension 86: Looter goldAmt reset to original (Thievery amount remains increased)");
             } catch (Exception e) {
                 logger.error("Failed to reset Looter goldAmt", e);
             }
         }
     }
 
-    @SpirePatch(
-        clz = com.megacrit.cardcrawl.monsters.exordium.Looter.class,
-        method = "takeTurn"
-    )
     public static class LooterSmokeBombDefenseBoost {
-        @SpirePostfixPatch
-        public static void Postfix(com.megacrit.cardcrawl.monsters.exordium.Looter __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 86) {
-                return;
-            }
-
+        public static void afterTurn(com.megacrit.cardcrawl.monsters.exordium.Looter monster) {
             try {
                 // Check if Smoke Bomb move (ESCAPE move)
-                java.lang.reflect.Field nextMoveField = com.megacrit.cardcrawl.monsters.AbstractMonster.class.getDeclaredField("nextMove");
-                nextMoveField.setAccessible(true);
-                byte move = nextMoveField.getByte(__instance);
+                FieldAccessor nextMoveField = ReflectionCache.ABSTRACT_MONSTER_NEXT_MOVE;
+                byte move = nextMoveField.getByte(monster);
 
                 if (move == 2) { // ESCAPE (Smoke Bomb) move
                     // Increase escapeDef by 5 (in addition to Level53's +4)
-                    java.lang.reflect.Field escapeDefField = com.megacrit.cardcrawl.monsters.exordium.Looter.class.getDeclaredField("escapeDef");
-                    escapeDefField.setAccessible(true);
-                    int escapeDef = escapeDefField.getInt(__instance);
-                    escapeDefField.setInt(__instance, escapeDef + 5);
-
-                    logger.info(String.format(
-                        "Ascension 86: Looter Smoke Bomb defense increased by 5 to %d",
-                        escapeDef + 5
-                    ));
+                    FieldAccessor escapeDefField = ReflectionCache.LOOTER_ESCAPE_DEF;
+                    int escapeDef = escapeDefField.getInt(monster);
+                    escapeDefField.setInt(monster, escapeDef + 5);
+
+                    if (AscensionLog.isTracing()) {
+                        logger.info(String.format(
+                            "Ascension 86: Looter Smoke Bomb defense increased by 5 to %d",
+                            escapeDef + 5
+                        ));
+                    }
                 }
             } catch (Exception e) {
                 logger.error("Failed to modify Looter escapeDef", e);
@@ -138,7 +147,7 @@ public class Level86 {
         @SpirePostfixPatch
         public static void Postfix(com.megacrit.cardcrawl.powers.SporeCloudPower __instance,
                                     com.megacrit.cardcrawl.core.AbstractCreature owner, int amount) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 86) {
+            if (!AscensionRuleSet.isActive(86)) {
                 return;
             }
 
@@ -146,10 +155,12 @@ public class Level86 {
             if (owner instanceof com.megacrit.cardcrawl.monsters.exordium.FungiBeast) {
                 __instance.amount += 1;
                 __instance.updateDescription();
-                logger.info(String.format(
-                    "Ascension 86: FungiBeast SporeCloud constructor intercepted, increased from %d to %d",
-                    amount, __instance.amount
-                ));
+                if (AscensionLog.isTracing()) {
+                    logger.info(String.format(
+                        "Ascension 86: FungiBeast SporeCloud constructor intercepted, increased from %d to %d",
+                        amount, __instance.amount
+                    ));
+                }
             }
 
             // Note: Weak debuff is added in die() method
@@ -169,7 +180,7 @@ public class Level86 {
                 return;
             }
 
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 86) {
+            if (!AscensionRuleSet.isActive(86)) {
                 return;
             }
 
@@ -187,61 +198,42 @@ public class Level86 {
                 )
             );
 
-            logger.info("Ascension 86: FungiBeast applied Weak 1 on death");
+            AscensionLog.trace(logger, "Ascension 86: FungiBeast applied Weak 1 on death");
         }
     }
 
     /**
      * GremlinTsundere (Shield Gremlin): Block amount +3
      */
-    @SpirePatch(
-        clz = com.megacrit.cardcrawl.monsters.exordium.GremlinTsundere.class,
-        method = SpirePatch.CONSTRUCTOR
-    )
-    public static class GremlinTsundereBlockBoost {
-        @SpirePostfixPatch
-        public static void Postfix(com.megacrit.cardcrawl.monsters.exordium.GremlinTsundere __instance, float x, float y) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 86) {
-                return;
-            }
-
-            try {
-                // Increase blockAmt field by 3
-                java.lang.reflect.Field blockAmtField = com.megacrit.cardcrawl.monsters.exordium.GremlinTsundere.class.getDeclaredField("blockAmt");
-                blockAmtField.setAccessible(true);
-                int blockAmt = blockAmtField.getInt(__instance);
-                blockAmtField.setInt(__instance, blockAmt + 3);
-
+    private static void gremlinTsundereBlockBoost(com.megacrit.cardcrawl.monsters.exordium.GremlinTsundere monster) {
+        try {
+            // Increase blockAmt field by 3
+            FieldAccessor blockAmtField = ReflectionCache.GREMLIN_TSUNDERE_BLOCK_AMT;
+            int blockAmt = blockAmtField.getInt(monster);
+            blockAmtField.setInt(monster, blockAmt + 3);
+
+            if (AscensionLog.isTracing()) {
                 logger.info(String.format(
                     "Ascension 86: GremlinTsundere block amount increased by 3 to %d",
                     blockAmt + 3
                 ));
-            } catch (Exception e) {
-                logger.error("Failed to modify GremlinTsundere blockAmt", e);
             }
+        } catch (Exception e) {
+            logger.error("Failed to modify GremlinTsundere blockAmt", e);
         }
     }
 
     /**
      * GremlinWizard: Attack damage +5
      */
-    @SpirePatch(
-        clz = com.megacrit.cardcrawl.monsters.exordium.GremlinWizard.class,
-        method = SpirePatch.CONSTRUCTOR
-    )
-    public static class GremlinWizardDamageBoost {
-        @SpirePostfixPatch
-        public static void Postfix(com.megacrit.cardcrawl.monsters.exordium.GremlinWizard __instance, float x, float y) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 86) {
-                return;
-            }
-
-            // Increase damage by 5
-            if (!__instance.damage.isEmpty()) {
-                com.megacrit.cardcrawl.cards.DamageInfo damageInfo = __instance.damage.get(0);
-                damageInfo.base += 5;
-                damageInfo.output += 5;
-
+    private static void gremlinWizardDamageBoost(com.megacrit.cardcrawl.monsters.exordium.GremlinWizard monster) {
+        // Increase damage by 5
+        if (!monster.damage.isEmpty()) {
+            com.megacrit.cardcrawl.cards.DamageInfo damageInfo = monster.damage.get(0);
+            damageInfo.base += 5;
+            damageInfo.output += 5;
+
+            if (AscensionLog.isTracing()) {
                 logger.info(String.format(
                     "Ascension 86: GremlinWizard damage increased by 5 to %d",
                     damageInfo.base
@@ -253,25 +245,16 @@ public class Level86 {
     /**
      * GremlinWarrior (Angry Gremlin): HP +2
      */
-    @SpirePatch(
-        clz = com.megacrit.cardcrawl.monsters.exordium.GremlinWarrior.class,
-        method = SpirePatch.CONSTRUCTOR
-    )
-    public static class GremlinWarriorHPBoost {
-        @SpirePostfixPatch
-        public static void Postfix(com.megacrit.cardcrawl.monsters.exordium.GremlinWarrior __instance, float x, float y) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 86) {
-                return;
-            }
-
-            // Increase max HP by 2
-            __instance.maxHealth += 2;
-            __instance.currentHealth = __instance.maxHealth;
-            __instance.healthBarUpdatedEvent();
+    private static void gremlinWarriorHPBoost(com.megacrit.cardcrawl.monsters.exordium.GremlinWarrior monster) {
+        // Increase max HP by 2
+        monster.maxHealth += 2;
+        monster.currentHealth = monster.maxHealth;
+        monster.healthBarUpdatedEvent();
 
+        if (AscensionLog.isTracing()) {
             logger.info(String.format(
                 "Ascension 86: GremlinWarrior HP increased by 2 to %d",
-                __instance.maxHealth
+                monster.maxHealth
             ));
         }
     }
@@ -279,25 +262,16 @@ public class Level86 {
     /**
      * GremlinFat: HP +2
      */
-    @SpirePatch(
-        clz = com.megacrit.cardcrawl.monsters.exordium.GremlinFat.class,
-        method = SpirePatch.CONSTRUCTOR
-    )
-    public static class GremlinFatHPBoost {
-        @SpirePostfixPatch
-        public static void Postfix(com.megacrit.cardcrawl.monsters.exordium.GremlinFat __instance, float x, float y) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 86) {
-                return;
-            }
-
-            // Increase max HP by 2
-            __instance.maxHealth += 2;
-            __instance.currentHealth = __instance.maxHealth;
-            __instance.healthBarUpdatedEvent();
+    private static void gremlinFatHPBoost(com.megacrit.cardcrawl.monsters.exordium.GremlinFat monster) {
+        // Increase max HP by 2
+        monster.maxHealth += 2;
+        monster.currentHealth = monster.maxHealth;
+        monster.healthBarUpdatedEvent();
 
+        if (AscensionLog.isTracing()) {
             logger.info(String.format(
                 "Ascension 86: GremlinFat HP increased by 2 to %d",
-                __instance.maxHealth
+                monster.maxHealth
             ));
         }
     }
@@ -305,63 +279,46 @@ public class Level86 {
     /**
      * GremlinThief (Sneaky Gremlin): Attack damage +1
      */
-    @SpirePatch(
-        clz = com.megacrit.cardcrawl.monsters.exordium.GremlinThief.class,
-        method = SpirePatch.CONSTRUCTOR
-    )
-    public static class GremlinThiefDamageBoost {
-        @SpirePostfixPatch
-        public static void Postfix(com.megacrit.cardcrawl.monsters.exordium.GremlinThief __instance, float x, float y) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 86) {
-                return;
-            }
+    private static void gremlinThiefDamageBoost(com.megacrit.cardcrawl.monsters.exordium.GremlinThief monster) {
+        try {
+            // Increase thiefDamage field by 1
+            FieldAccessor thiefDamageField = ReflectionCache.GREMLIN_THIEF_THIEF_DAMAGE;
+            int currentDamage = thiefDamageField.getInt(monster);
+            thiefDamageField.setInt(monster, currentDamage + 1);
 
-            try {
-                // Increase thiefDamage field by 1
-                java.lang.reflect.Field thiefDamageField = com.megacrit.cardcrawl.monsters.exordium.GremlinThief.class.getDeclaredField("thiefDamage");
-                thiefDamageField.setAccessible(true);
-                int currentDamage = thiefDamageField.getInt(__instance);
-                thiefDamageField.setInt(__instance, currentDamage + 1);
-
-                // Update damage info
-                if (!__instance.damage.isEmpty()) {
-                    com.megacrit.cardcrawl.cards.DamageInfo damageInfo = __instance.damage.get(0);
-                    damageInfo.base += 1;
-                }
+            // Update damage info
+            if (!monster.damage.isEmpty()) {
+                com.megacrit.cardcrawl.cards.DamageInfo damageInfo = monster.damage.get(0);
+                damageInfo.base += 1;
+            }
 
+            if (AscensionLog.isTracing()) {
                 logger.info(String.format(
                     "Ascension 86: GremlinThief damage increased from %d to %d (+1)",
                     currentDamage, currentDamage + 1
                 ));
-            } catch (Exception e) {
-                logger.error("Failed to modify GremlinThief damage", e);
             }
+        } catch (Exception e) {
+            logger.error("Failed to modify GremlinThief damage", e);
         }
     }
 
     /**
      * ShelledParasite: Plated Armor +2
      */
-    @SpirePatch(
-        clz = com.megacrit.cardcrawl.monsters.city.ShelledParasite.class,
-        method = "usePreBattleAction"
-    )
     public static class ShelledParasitePlatedArmorBoost {
-        @SpirePostfixPatch
-        public static void Postfix(com.megacrit.cardcrawl.monsters.city.ShelledParasite __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 86) {
-                return;
-            }
-
+        public static void afterPreBattle(com.megacrit.cardcrawl.monsters.city.ShelledParasite monster) {
             // Add +2 to Plated Armor power
-            com.megacrit.cardcrawl.powers.AbstractPower platedArmorPower = __instance.getPower("Plated Armor");
+            com.megacrit.cardcrawl.powers.AbstractPower platedArmorPower = monster.getPower("Plated Armor");
             if (platedArmorPower != null) {
                 platedArmorPower.amount += 2;
                 platedArmorPower.updateDescription();
-                logger.info(String.format(
-                    "Ascension 86: ShelledParasite Plated Armor increased by 2 to %d",
-                    platedArmorPower.amount
-                ));
+                if (AscensionLog.isTracing()) {
+                    logger.info(String.format(
+                        "Ascension 86: ShelledParasite Plated Armor increased by 2 to %d",
+                        platedArmorPower.amount
+                    ));
+                }
             }
         }
     }
@@ -371,135 +328,94 @@ public class Level86 {
      *
      * IMPORTANT: Must modify goldAmt field BEFORE usePreBattleAction creates ThieveryPower
      */
-    @SpirePatch(
-        clz = com.megacrit.cardcrawl.monsters.city.Mugger.class,
-        method = "usePreBattleAction"
-    )
     public static class MuggerThieveryBoost {
-        @SpirePrefixPatch
-        public static void Prefix(com.megacrit.cardcrawl.monsters.city.Mugger __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 86) {
-                return;
-            }
-
+        public static void beforePreBattle(com.megacrit.cardcrawl.monsters.city.Mugger monster) {
             try {
                 // Increase goldAmt BEFORE ThieveryPower is created
-                java.lang.reflect.Field goldAmtField = com.megacrit.cardcrawl.monsters.city.Mugger.class.getDeclaredField("goldAmt");
-                goldAmtField.setAccessible(true);
-                int currentGoldAmt = goldAmtField.getInt(__instance);
-                goldAmtField.setInt(__instance, currentGoldAmt + 15);
+                FieldAccessor goldAmtField = ReflectionCache.MUGGER_GOLD_AMT;
+                int currentGoldAmt = goldAmtField.getInt(monster);
+                goldAmtField.setInt(monster, currentGoldAmt + 15);
 
-                logger.info(String.format(
-                    "Ascension 86: Mugger goldAmt increased from %d to %d (Thievery will be %d)",
-                    currentGoldAmt, currentGoldAmt + 15, currentGoldAmt + 15
-                ));
+                if (AscensionLog.isTracing()) {
+                    logger.info(String.format(
+                        "Ascension 86: Mugger goldAmt increased from %d to %d (Thievery will be %d)",
+                        currentGoldAmt, currentGoldAmt + 15, currentGoldAmt + 15
+                    ));
+                }
             } catch (Exception e) {
                 logger.error("Failed to modify Mugger goldAmt", e);
             }
         }
 
-        @SpirePostfixPatch
-        public static void Postfix(com.megacrit.cardcrawl.monsters.city.Mugger __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 86) {
-                return;
-            }
-
+        public static void afterPreBattle(com.megacrit.cardcrawl.monsters.city.Mugger monster) {
             try {
                 // Reset goldAmt back to original after ThieveryPower is created
-                java.lang.reflect.Field goldAmtField = com.megacrit.cardcrawl.monsters.city.Mugger.class.getDeclaredField("goldAmt");
-                goldAmtField.setAccessible(true);
-                int currentGoldAmt = goldAmtField.getInt(__instance);
-                goldAmtField.setInt(__instance, currentGoldAmt - 15);
+                FieldAccessor goldAmtField = ReflectionCache.MUGGER_GOLD_AMT;
+                int currentGoldAmt = goldAmtField.getInt(monster);
+                goldAmtField.setInt(monster, currentGoldAmt - 15);
 
-                logger.info("Ascension 86: Mugger goldAmt reset to original (Thievery amount remains increased)");
+                AscensionLog.trace(logger, "Ascension 86: Mugger goldAmt reset to original (Thievery amount remains increased)");
             } catch (Exception e) {
                 logger.error("Failed to reset Mugger goldAmt", e);
             }
         }
     }
 
-    @SpirePatch(
-        clz = com.megacrit.cardcrawl.monsters.city.Mugger.class,
-        method = SpirePatch.CONSTRUCTOR
-    )
-    public static class MuggerSmokeBombDefenseBoost {
-        @SpirePostfixPatch
-        public static void Postfix(com.megacrit.cardcrawl.monsters.city.Mugger __instance, float x, float y) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 86) {
-                return;
-            }
-
-            try {
-                // Increase escapeDef field by 3
-                java.lang.reflect.Field escapeDefField = com.megacrit.cardcrawl.monsters.city.Mugger.class.getDeclaredField("escapeDef");
-                escapeDefField.setAccessible(true);
-                int escapeDef = escapeDefField.getInt(__instance);
-                escapeDefField.setInt(__instance, escapeDef + 3);
+    private static void muggerSmokeBombDefenseBoost(com.megacrit.cardcrawl.monsters.city.Mugger monster) {
+        try {
+            // Increase escapeDef field by 3
+            FieldAccessor escapeDefField = ReflectionCache.MUGGER_ESCAPE_DEF;
+            int escapeDef = escapeDefField.getInt(monster);
+            escapeDefField.setInt(monster, escapeDef + 3);
 
+            if (AscensionLog.isTracing()) {
                 logger.info(String.format(
                     "Ascension 86: Mugger Smoke Bomb defense increased by 3 to %d",
                     escapeDef + 3
                 ));
-            } catch (Exception e) {
-                logger.error("Failed to modify Mugger escapeDef", e);
             }
+        } catch (Exception e) {
+            logger.error("Failed to modify Mugger escapeDef", e);
         }
     }
 
     /**
      * Healer (Mystic): Heal amount +3
      */
-    @SpirePatch(
-        clz = com.megacrit.cardcrawl.monsters.city.Healer.class,
-        method = SpirePatch.CONSTRUCTOR
-    )
-    public static class HealerHealAmountBoost {
-        @SpirePostfixPatch
-        public static void Postfix(com.megacrit.cardcrawl.monsters.city.Healer __instance, float x, float y) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 86) {
-                return;
-            }
-
-            try {
-                // Increase healAmt field by 3
-                java.lang.reflect.Field healAmtField = com.megacrit.cardcrawl.monsters.city.Healer.class.getDeclaredField("healAmt");
-                healAmtField.setAccessible(true);
-                int healAmt = healAmtField.getInt(__instance);
-                healAmtField.setInt(__instance, healAmt + 3);
-
+    private static void healerHealAmountBoost(com.megacrit.cardcrawl.monsters.city.Healer monster) {
+        try {
+            // Increase healAmt field by 3
+            FieldAccessor healAmtField = ReflectionCache.HEALER_HEAL_AMT;
+            int healAmt = healAmtField.getInt(monster);
+            healAmtField.setInt(monster, healAmt + 3);
+
+            if (AscensionLog.isTracing()) {
                 logger.info(String.format(
                     "Ascension 86: Healer heal amount increased by 3 to %d",
                     healAmt + 3
                 ));
-            } catch (Exception e) {
-                logger.error("Failed to modify Healer healAmt", e);
             }
+        } catch (Exception e) {
+            logger.error("Failed to modify Healer healAmt", e);
         }
     }
 
     /**
      * SnakePlant: Malleable +2
      */
-    @SpirePatch(
-        clz = com.megacrit.cardcrawl.monsters.city.SnakePlant.class,
-        method = "usePreBattleAction"
-    )
     public static class SnakePlantMalleableBoost {
-        @SpirePostfixPatch
-        public static void Postfix(com.megacrit.cardcrawl.monsters.city.SnakePlant __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 86) {
-                return;
-            }
-
+        public static void afterPreBattle(com.megacrit.cardcrawl.monsters.city.SnakePlant monster) {
             // Add +2 to Malleable power
-            com.megacrit.cardcrawl.powers.AbstractPower malleablePower = __instance.getPower("Malleable");
+            com.megacrit.cardcrawl.powers.AbstractPower malleablePower = monster.getPower("Malleable");
             if (malleablePower != null) {
                 malleablePower.amount += 2;
                 malleablePower.updateDescription();
-                logger.info(String.format(
-                    "Ascension 86: SnakePlant Malleable increased by 2 to %d",
-                    malleablePower.amount
-                ));
+                if (AscensionLog.isTracing()) {
+                    logger.info(String.format(
+                        "Ascension 86: SnakePlant Malleable increased by 2 to %d",
+                        malleablePower.amount
+                    ));
+                }
             }
         }
     }
@@ -508,92 +424,72 @@ public class Level86 {
      * SphericGuardian: Harden block +10
      * Override case 3 (HARDEN) to use 25 block instead of 15
      */
-    @SpirePatch(
-        clz = com.megacrit.cardcrawl.monsters.city.SphericGuardian.class,
-        method = "takeTurn"
-    )
     public static class SphericGuardianHardenBoost {
-        @SpirePrefixPatch
-        public static SpireReturn<Void> Prefix(com.megacrit.cardcrawl.monsters.city.SphericGuardian __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 86) {
-                return SpireReturn.Continue();
-            }
-
+        public static boolean replaceTurn(com.megacrit.cardcrawl.monsters.city.SphericGuardian monster) {
             try {
                 // Check if Harden move (byte 3) is being executed
-                java.lang.reflect.Field nextMoveField = com.megacrit.cardcrawl.monsters.city.SphericGuardian.class.getSuperclass().getDeclaredField("nextMove");
-                nextMoveField.setAccessible(true);
-                byte nextMove = nextMoveField.getByte(__instance);
+                FieldAccessor nextMoveField = ReflectionCache.ABSTRACT_MONSTER_NEXT_MOVE;
+                byte nextMove = nextMoveField.getByte(monster);
 
                 if (nextMove == 3) { // HARDEN - override entire move with increased block
                     // Original: 15 block + attack
                     // Level 86: 25 block + attack (unified action)
                     AbstractDungeon.actionManager.addToBottom(
                         new com.megacrit.cardcrawl.actions.common.GainBlockAction(
-                            __instance,
-                            __instance,
+                            monster,
+                            monster,
                             25  // 15 base + 10 bonus
                         )
                     );
                     AbstractDungeon.actionManager.addToBottom(
-                        new com.megacrit.cardcrawl.actions.animations.AnimateFastAttackAction(__instance)
+                        new com.megacrit.cardcrawl.actions.animations.AnimateFastAttackAction(monster)
                     );
                     AbstractDungeon.actionManager.addToBottom(
                         new com.megacrit.cardcrawl.actions.common.DamageAction(
                             AbstractDungeon.player,
-                            __instance.damage.get(0),
+                            monster.damage.get(0),
                             com.megacrit.cardcrawl.actions.AbstractGameAction.AttackEffect.BLUNT_HEAVY
                         )
                     );
                     AbstractDungeon.actionManager.addToBottom(
-                        new com.megacrit.cardcrawl.actions.common.RollMoveAction(__instance)
+                        new com.megacrit.cardcrawl.actions.common.RollMoveAction(monster)
                     );
 
-                    logger.info("Ascension 86: SphericGuardian Harden executed with 25 block (15 base + 10 bonus)");
+                    AscensionLog.trace(logger, "Ascension 86: SphericGuardian Harden executed with 25 block (15 base + 10 bonus)");
 
                     // Skip original takeTurn for this move
-                    return SpireReturn.Return(null);
+                    return true;
                 }
             } catch (Exception e) {
                 logger.error("Failed to override SphericGuardian Harden", e);
             }
 
-            return SpireReturn.Continue();
+            return false;
         }
     }
 
     /**
      * BanditBear: Bear Hug dexterity loss +1
      */
-    @SpirePatch(
-        clz = com.megacrit.cardcrawl.monsters.city.BanditBear.class,
-        method = "takeTurn"
-    )
     public static class BanditBearBearHugBoost {
-        @SpirePostfixPatch
-        public static void Postfix(com.megacrit.cardcrawl.monsters.city.BanditBear __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 86) {
-                return;
-            }
-
+        public static void afterTurn(com.megacrit.cardcrawl.monsters.city.BanditBear monster) {
             try {
                 // Check if Bear Hug move (byte 2) is being executed
-                java.lang.reflect.Field nextMoveField = com.megacrit.cardcrawl.monsters.city.BanditBear.class.getSuperclass().getDeclaredField("nextMove");
-                nextMoveField.setAccessible(true);
-                byte nextMove = nextMoveField.getByte(__instance);
+                FieldAccessor nextMoveField = ReflectionCache.ABSTRACT_MONSTER_NEXT_MOVE;
+                byte nextMove = nextMoveField.getByte(monster);
 
                 if (nextMove == 2) { // BEAR_HUG
                     // Add extra dexterity loss
                     AbstractDungeon.actionManager.addToBottom(
                         new com.megacrit.cardcrawl.actions.common.ApplyPowerAction(
                             AbstractDungeon.player,
-                            __instance,
+                            monster,
                             new com.megacrit.cardcrawl.powers.DexterityPower(AbstractDungeon.player, -1),
                             -1
                         )
                     );
 
-                    logger.info("Ascension 86: BanditBear Bear Hug applied -1 extra dexterity");
+                    AscensionLog.trace(logger, "Ascension 86: BanditBear Bear Hug applied -1 extra dexterity");
                 }
             } catch (Exception e) {
                 logger.error("Failed to modify BanditBear Bear Hug", e);
@@ -604,36 +500,21 @@ public class Level86 {
     /**
      * Spiker: Thorns power +1
      */
-    @SpirePatch(
-        clz = com.megacrit.cardcrawl.monsters.beyond.Spiker.class,
-        method = "takeTurn"
-    )
     public static class SpikerThornsBoost {
         private static final ThreadLocal<Byte> lastMove = new ThreadLocal<>();
 
-        @com.evacipated.cardcrawl.modthespire.lib.SpirePrefixPatch
-        public static void Prefix(com.megacrit.cardcrawl.monsters.beyond.Spiker __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 86) {
-                return;
-            }
-
+        public static void beforeTurn(com.megacrit.cardcrawl.monsters.beyond.Spiker monster) {
             try {
                 // Store current move before it changes
-                java.lang.reflect.Field nextMoveField = AbstractMonster.class.getDeclaredField("nextMove");
-                nextMoveField.setAccessible(true);
-                byte move = nextMoveField.getByte(__instance);
+                FieldAccessor nextMoveField = ReflectionCache.ABSTRACT_MONSTER_NEXT_MOVE;
+                byte move = nextMoveField.getByte(monster);
                 lastMove.set(move);
             } catch (Exception e) {
                 logger.error("Failed to get Spiker move", e);
             }
         }
 
-        @com.evacipated.cardcrawl.modthespire.lib.SpirePostfixPatch
-        public static void Postfix(com.megacrit.cardcrawl.monsters.beyond.Spiker __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 86) {
-                return;
-            }
-
+        public static void afterTurn(com.megacrit.cardcrawl.monsters.beyond.Spiker monster) {
             Byte move = lastMove.get();
             if (move != null && move == 2) { // BUFF_THORNS move
                 // Find and modify the last ApplyPowerAction with ThornsPower
@@ -642,22 +523,22 @@ public class Level86 {
                         com.megacrit.cardcrawl.actions.AbstractGameAction action = AbstractDungeon.actionManager.actions.get(i);
 
                         if (action instanceof com.megacrit.cardcrawl.actions.common.ApplyPowerAction) {
-                            java.lang.reflect.Field powerToApplyField = com.megacrit.cardcrawl.actions.common.ApplyPowerAction.class.getDeclaredField("powerToApply");
-                            powerToApplyField.setAccessible(true);
+                            FieldAccessor powerToApplyField = ReflectionCache.APPLY_POWER_ACTION_POWER_TO_APPLY;
                             com.megacrit.cardcrawl.powers.AbstractPower power = (com.megacrit.cardcrawl.powers.AbstractPower) powerToApplyField.get(action);
 
-                            if (power instanceof com.megacrit.cardcrawl.powers.ThornsPower && power.owner == __instance) {
+                            if (power instanceof com.megacrit.cardcrawl.powers.ThornsPower && power.owner == monster) {
                                 power.amount += 1;
 
-                                java.lang.reflect.Field amountField = com.megacrit.cardcrawl.actions.common.ApplyPowerAction.class.getDeclaredField("amount");
-                                amountField.setAccessible(true);
+                                FieldAccessor amountField = ReflectionCache.APPLY_POWER_ACTION_AMOUNT;
                                 int currentAmount = amountField.getInt(action);
                                 amountField.setInt(action, currentAmount + 1);
 
-                                logger.info(String.format(
-                                    "Ascension 86: Spiker Thorns increased by +1 (total: %d)",
-                                    power.amount
-                                ));
+                                if (AscensionLog.isTracing()) {
+                                    logger.info(String.format(
+                                        "Ascension 86: Spiker Thorns increased by +1 (total: %d)",
+                                        power.amount
+                                    ));
+                                }
                                 break;
                             }
                         }
@@ -685,29 +566,19 @@ public class Level86 {
     /**
      * Maw: Roar weak and frail +1
      */
-    @SpirePatch(
-        clz = com.megacrit.cardcrawl.monsters.beyond.Maw.class,
-        method = "takeTurn"
-    )
     public static class MawRoarBoost {
-        @SpirePostfixPatch
-        public static void Postfix(com.megacrit.cardcrawl.monsters.beyond.Maw __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 86) {
-                return;
-            }
-
+        public static void afterTurn(com.megacrit.cardcrawl.monsters.beyond.Maw monster) {
             try {
                 // Check if Roar move (byte 3) is being executed
-                java.lang.reflect.Field nextMoveField = com.megacrit.cardcrawl.monsters.beyond.Maw.class.getSuperclass().getDeclaredField("nextMove");
-                nextMoveField.setAccessible(true);
-                byte nextMove = nextMoveField.getByte(__instance);
+                FieldAccessor nextMoveField = ReflectionCache.ABSTRACT_MONSTER_NEXT_MOVE;
+                byte nextMove = nextMoveField.getByte(monster);
 
                 if (nextMove == 3) { // ROAR
                     // Add +1 extra Weak and Frail
                     AbstractDungeon.actionManager.addToBottom(
                         new com.megacrit.cardcrawl.actions.common.ApplyPowerAction(
                             AbstractDungeon.player,
-                            __instance,
+                            monster,
                             new com.megacrit.cardcrawl.powers.WeakPower(AbstractDungeon.player, 1, true),
                             1
                         )
@@ -715,13 +586,13 @@ public class Level86 {
                     AbstractDungeon.actionManager.addToBottom(
                         new com.megacrit.cardcrawl.actions.common.ApplyPowerAction(
                             AbstractDungeon.player,
-                            __instance,
+                            monster,
                             new com.megacrit.cardcrawl.powers.FrailPower(AbstractDungeon.player, 1, true),
                             1
                         )
                     );
 
-                    logger.info("Ascension 86: Maw Roar applied +1 extra Weak and Frail");
+                    AscensionLog.trace(logger, "Ascension 86: Maw Roar applied +1 extra Weak and Frail");
                 }
             } catch (Exception e) {
                 logger.error("Failed to modify Maw Roar", e);
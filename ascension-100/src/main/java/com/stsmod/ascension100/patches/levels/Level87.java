@@ -46,13 +46,16 @@ import com.megacrit.cardcrawl.powers.ThornsPower;
 import com.megacrit.cardcrawl.relics.AbstractRelic;
 import com.megacrit.cardcrawl.vfx.combat.GoldenSlashEffect;
 import com.stsmod.ascension100.powers.LifeLinkPower;
+import com.stsmod.ascension100.patches.unified.SharedHooks;
+import com.stsmod.ascension100.util.AscensionLog;
+import com.stsmod.ascension100.util.AscensionRuleSet;
+import com.stsmod.ascension100.util.CombatScopedState;
+import com.stsmod.ascension100.util.FieldAccessor;
+import com.stsmod.ascension100.util.ReflectionCache;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
-import java.lang.reflect.Field;
 import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.Map;
 
 /**
  * Ascension Level 87: Boss pattern enhancements
@@ -75,8 +78,16 @@ import java.util.Map;
 public class Level87 {
     private static final Logger logger = LogManager.getLogger(Level87.class.getName());
 
-    // Store powers when a boss enters half-dead state
-    private static final Map<AbstractMonster, ArrayList<AbstractPower>> storedPowers = new HashMap<>();
+    /**
+     * Listeners for SharedHooks, linked only while this level is active
+     */
+    public static void registerHooks() {
+        SharedHooks.GROUP_INIT.register(87, Level87::awakenedOneReplaceCultist);
+    }
+
+    // Store powers when a boss enters half-dead state (Donu / Deca at most)
+    private static final CombatScopedState<AbstractMonster, ArrayList<AbstractPower>> storedPowers =
+        CombatScopedState.create("Level87.storedPowers", 4);
 
     // ========================================
     // Slime Boss: Slam damage +40
@@ -92,14 +103,13 @@ public class Level87 {
     public static class SlimeBossSlamDamageIncrease {
         @SpirePostfixPatch
         public static void Postfix(SlimeBoss __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 87) {
+            if (!AscensionRuleSet.isActive(87)) {
                 return;
             }
 
             try {
                 // Access slamDmg field via reflection
-                Field slamDmgField = SlimeBoss.class.getDeclaredField("slamDmg");
-                slamDmgField.setAccessible(true);
+                FieldAccessor slamDmgField = ReflectionCache.SLIME_BOSS_SLAM_DMG;
 
                 int originalSlamDmg = slamDmgField.getInt(__instance);
                 int newSlamDmg = originalSlamDmg + 40;
@@ -111,11 +121,13 @@ public class Level87 {
                     slamDamageInfo.base = newSlamDmg;
                 }
 
-                logger.info(String.format(
-                    "Ascension 87: Slime Boss Slam damage increased from %d to %d (+40)",
-                    originalSlamDmg, newSlamDmg
-                ));
-            } catch (NoSuchFieldException | IllegalAccessException e) {
+                if (AscensionLog.isTracing()) {
+                    logger.info(String.format(
+                        "Ascension 87: Slime Boss Slam damage increased from %d to %d (+40)",
+                        originalSlamDmg, newSlamDmg
+                    ));
+                }
+            } catch (IllegalStateException e) {
                 logger.error("Ascension 87: Failed to modify Slime Boss Slam damage", e);
             }
         }
@@ -135,7 +147,7 @@ public class Level87 {
     public static class GuardianBarricade {
         @SpirePostfixPatch
         public static void Postfix(TheGuardian __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 87) {
+            if (!AscensionRuleSet.isActive(87)) {
                 return;
             }
 
@@ -145,7 +157,7 @@ public class Level87 {
                     new BarricadePower(__instance))
             );
 
-            logger.info("Ascension 87: Guardian starts with Barricade");
+            AscensionLog.trace(logger, "Ascension 87: Guardian starts with Barricade");
         }
     }
 
@@ -159,7 +171,7 @@ public class Level87 {
     public static class GuardianThornsReplace {
         @SpirePostfixPatch
         public static void Postfix(TheGuardian __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 87) {
+            if (!AscensionRuleSet.isActive(87)) {
                 return;
             }
 
@@ -174,7 +186,7 @@ public class Level87 {
                     new ThornsPower(__instance, 5), 5)
             );
 
-            logger.info("Ascension 87: Guardian gained Thorns 5 instead of Sharp Hide in defensive mode");
+            AscensionLog.trace(logger, "Ascension 87: Guardian gained Thorns 5 instead of Sharp Hide in defensive mode");
         }
     }
 
@@ -189,7 +201,7 @@ public class Level87 {
     public static class GuardianRemoveThornsOnOffensive {
         @SpirePostfixPatch
         public static void Postfix(TheGuardian __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 87) {
+            if (!AscensionRuleSet.isActive(87)) {
                 return;
             }
 
@@ -199,7 +211,7 @@ public class Level87 {
                 AbstractDungeon.actionManager.addToBottom(
                     new RemoveSpecificPowerAction(__instance, __instance, "Thorns")
                 );
-                logger.info("Ascension 87: Guardian removed Thorns when exiting defensive mode");
+                AscensionLog.trace(logger, "Ascension 87: Guardian removed Thorns when exiting defensive mode");
             }
         }
     }
@@ -218,7 +230,7 @@ public class Level87 {
     public static class HexaghostFirstTurnBlock {
         @SpirePostfixPatch
         public static void Postfix(Hexaghost __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 87) {
+            if (!AscensionRuleSet.isActive(87)) {
                 return;
             }
 
@@ -226,7 +238,7 @@ public class Level87 {
             AbstractDungeon.actionManager.addToBottom(
                 new GainBlockAction(__instance, __instance, 30)
             );
-            logger.info("Ascension 87: Hexaghost gained 30 block on first turn");
+            AscensionLog.trace(logger, "Ascension 87: Hexaghost gained 30 block on first turn");
         }
     }
 
@@ -247,7 +259,7 @@ public class Level87 {
         @SpirePrefixPatch
         public static void Prefix(AbstractMonster __instance, String moveName, byte nextMove,
                                   AbstractMonster.Intent intent, int baseDamage, @com.evacipated.cardcrawl.modthespire.lib.ByRef int[] multiplier, boolean isMultiDamage) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 87) {
+            if (!AscensionRuleSet.isActive(87)) {
                 return;
             }
 
@@ -255,7 +267,7 @@ public class Level87 {
             if (__instance instanceof Champ && nextMove == 3 && multiplier[0] == 2) {
                 // Change multiplier from 2 to 3
                 multiplier[0] = 3;
-                logger.info("Ascension 87: Champ Execute intent multiplier changed from 2 to 3");
+                AscensionLog.trace(logger, "Ascension 87: Champ Execute intent multiplier changed from 2 to 3");
             }
         }
     }
@@ -269,13 +281,12 @@ public class Level87 {
 
         @SpirePrefixPatch
         public static void Prefix(Champ __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 87) {
+            if (!AscensionRuleSet.isActive(87)) {
                 return;
             }
 
             try {
-                java.lang.reflect.Field nextMoveField = AbstractMonster.class.getDeclaredField("nextMove");
-                nextMoveField.setAccessible(true);
+                FieldAccessor nextMoveField = ReflectionCache.ABSTRACT_MONSTER_NEXT_MOVE;
                 byte move = nextMoveField.getByte(__instance);
                 lastMove.set(move);
             } catch (Exception e) {
@@ -285,7 +296,7 @@ public class Level87 {
 
         @SpirePostfixPatch
         public static void Postfix(Champ __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 87) {
+            if (!AscensionRuleSet.isActive(87)) {
                 return;
             }
 
@@ -313,7 +324,7 @@ public class Level87 {
                     )
                 );
 
-                logger.info("Ascension 87: Champ Execute gained third hit");
+                AscensionLog.trace(logger, "Ascension 87: Champ Execute gained third hit");
             }
 
             lastMove.remove();
@@ -336,13 +347,12 @@ public class Level87 {
 
         @SpirePrefixPatch
         public static void Prefix(TheCollector __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 87) {
+            if (!AscensionRuleSet.isActive(87)) {
                 return;
             }
 
             try {
-                java.lang.reflect.Field nextMoveField = AbstractMonster.class.getDeclaredField("nextMove");
-                nextMoveField.setAccessible(true);
+                FieldAccessor nextMoveField = ReflectionCache.ABSTRACT_MONSTER_NEXT_MOVE;
                 byte move = nextMoveField.getByte(__instance);
                 lastMove.set(move);
             } catch (Exception e) {
@@ -352,7 +362,7 @@ public class Level87 {
 
         @SpirePostfixPatch
         public static void Postfix(TheCollector __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 87) {
+            if (!AscensionRuleSet.isActive(87)) {
                 return;
             }
 
@@ -376,7 +386,7 @@ public class Level87 {
                     )
                 );
 
-                logger.info("Ascension 87: Collector Mega Debuff added 2 Void cards to draw pile and 2 to discard pile");
+                AscensionLog.trace(logger, "Ascension 87: Collector Mega Debuff added 2 Void cards to draw pile and 2 to discard pile");
             }
 
             lastMove.remove();
@@ -397,11 +407,11 @@ public class Level87 {
     public static class DonuLifeLink {
         @SpirePostfixPatch
         public static void Postfix(Donu __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 87) {
+            if (!AscensionRuleSet.isActive(87)) {
                 return;
             }
 
-            logger.info("Ascension 87: Life Link enabled for Donu");
+            AscensionLog.trace(logger, "Ascension 87: Life Link enabled for Donu");
         }
     }
 
@@ -415,11 +425,11 @@ public class Level87 {
     public static class DecaLifeLink {
         @SpirePostfixPatch
         public static void Postfix(Deca __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 87) {
+            if (!AscensionRuleSet.isActive(87)) {
                 return;
             }
 
-            logger.info("Ascension 87: Life Link enabled for Deca");
+            AscensionLog.trace(logger, "Ascension 87: Life Link enabled for Deca");
         }
     }
 
@@ -434,7 +444,7 @@ public class Level87 {
     public static class DonuEnableCannotLose {
         @SpirePostfixPatch
         public static void Postfix(Donu __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 87) {
+            if (!AscensionRuleSet.isActive(87)) {
                 return;
             }
 
@@ -463,7 +473,7 @@ public class Level87 {
                 }
             }
 
-            logger.info("Ascension 87: Enabled cannotLose and Life Link for Donu/Deca encounter");
+            AscensionLog.trace(logger, "Ascension 87: Enabled cannotLose and Life Link for Donu/Deca encounter");
         }
     }
 
@@ -478,7 +488,7 @@ public class Level87 {
     public static class DonuLifeLinkDamage {
         @SpirePostfixPatch
         public static void Postfix(Donu __instance, DamageInfo info) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 87) {
+            if (!AscensionRuleSet.isActive(87)) {
                 return;
             }
 
@@ -504,7 +514,7 @@ public class Level87 {
                     // Clear powers
                     __instance.powers.clear();
 
-                    logger.info("Ascension 87: Donu is now half dead");
+                    AscensionLog.trace(logger, "Ascension 87: Donu is now half dead");
 
                     // Check if Deca is also dead
                     AbstractMonster deca = null;
@@ -532,7 +542,7 @@ public class Level87 {
                         }
 
                         storedPowers.clear();
-                        logger.info("Ascension 87: Both Donu and Deca are dead - ending battle");
+                        AscensionLog.trace(logger, "Ascension 87: Both Donu and Deca are dead - ending battle");
                     } else {
                         // Set revival intent immediately (same as Darkling)
                         // Use UNKNOWN first, then BUFF on next turn via getMove()
@@ -541,7 +551,7 @@ public class Level87 {
                         AbstractDungeon.actionManager.addToBottom(
                             new SetMoveAction(__instance, (byte)99, AbstractMonster.Intent.UNKNOWN)
                         );
-                        logger.info("Ascension 87: Donu half dead, set revival intent");
+                        AscensionLog.trace(logger, "Ascension 87: Donu half dead, set revival intent");
                     }
                 }
             } catch (Exception e) {
@@ -561,7 +571,7 @@ public class Level87 {
     public static class DecaLifeLinkDamage {
         @SpirePostfixPatch
         public static void Postfix(Deca __instance, DamageInfo info) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 87) {
+            if (!AscensionRuleSet.isActive(87)) {
                 return;
             }
 
@@ -587,7 +597,7 @@ public class Level87 {
                     // Clear powers
                     __instance.powers.clear();
 
-                    logger.info("Ascension 87: Deca is now half dead");
+                    AscensionLog.trace(logger, "Ascension 87: Deca is now half dead");
 
                     // Check if Donu is also dead
                     AbstractMonster donu = null;
@@ -615,7 +625,7 @@ public class Level87 {
                         }
 
                         storedPowers.clear();
-                        logger.info("Ascension 87: Both Donu and Deca are dead - ending battle");
+                        AscensionLog.trace(logger, "Ascension 87: Both Donu and Deca are dead - ending battle");
                     } else {
                         // Set revival intent immediately (same as Darkling)
                         // Use UNKNOWN first, then BUFF on next turn via getMove()
@@ -624,7 +634,7 @@ public class Level87 {
                         AbstractDungeon.actionManager.addToBottom(
                             new SetMoveAction(__instance, (byte)99, AbstractMonster.Intent.UNKNOWN)
                         );
-                        logger.info("Ascension 87: Deca half dead, set revival intent");
+                        AscensionLog.trace(logger, "Ascension 87: Deca half dead, set revival intent");
                     }
                 }
             } catch (Exception e) {
@@ -644,13 +654,13 @@ public class Level87 {
     public static class DonuCannotLoseDie {
         @SpirePrefixPatch
         public static SpireReturn<Void> Prefix(Donu __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 87) {
+            if (!AscensionRuleSet.isActive(87)) {
                 return SpireReturn.Continue();
             }
 
             // Only die if cannotLose is false (same logic as Darkling)
             if ((AbstractDungeon.getCurrRoom()).cannotLose) {
-                logger.info("Ascension 87: Donu die() blocked by cannotLose");
+                AscensionLog.trace(logger, "Ascension 87: Donu die() blocked by cannotLose");
                 return SpireReturn.Return();
             }
 
@@ -670,13 +680,13 @@ public class Level87 {
     public static class DecaCannotLoseDie {
         @SpirePrefixPatch
         public static SpireReturn<Void> Prefix(Deca __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 87) {
+            if (!AscensionRuleSet.isActive(87)) {
                 return SpireReturn.Continue();
             }
 
             // Only die if cannotLose is false (same logic as Darkling)
             if ((AbstractDungeon.getCurrRoom()).cannotLose) {
-                logger.info("Ascension 87: Deca die() blocked by cannotLose");
+                AscensionLog.trace(logger, "Ascension 87: Deca die() blocked by cannotLose");
                 return SpireReturn.Return();
             }
 
@@ -695,15 +705,17 @@ public class Level87 {
     public static class DonuReviveTakeTurn {
         @SpirePrefixPatch
         public static SpireReturn<Void> Prefix(Donu __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 87) {
+            if (!AscensionRuleSet.isActive(87)) {
                 return SpireReturn.Continue();
             }
 
-            logger.info("Ascension 87: Donu takeTurn() called, nextMove = " + __instance.nextMove);
+            if (AscensionLog.isTracing()) {
+                logger.info("Ascension 87: Donu takeTurn() called, nextMove = " + __instance.nextMove);
+            }
 
             // Case 99: Death turn - do nothing, just wait
             if (__instance.nextMove == 99) {
-                logger.info("Ascension 87: Donu death turn - doing nothing");
+                AscensionLog.trace(logger, "Ascension 87: Donu death turn - doing nothing");
                 // Just add RollMoveAction, which will call getMove() and set move to 98
                 AbstractDungeon.actionManager.addToBottom(
                     new RollMoveAction(__instance)
@@ -713,7 +725,7 @@ public class Level87 {
 
             // Case 98: Revival turn - actually revive
             if (__instance.nextMove == 98) {
-                logger.info("Ascension 87: Donu revival turn - reviving now");
+                AscensionLog.trace(logger, "Ascension 87: Donu revival turn - reviving now");
 
                 // Revive with 50% HP
                 int healAmount = __instance.maxHealth / 2;
@@ -736,10 +748,12 @@ public class Level87 {
                             )
                         );
                     }
-                    logger.info(String.format(
-                        "Ascension 87: Restored %d powers to Donu",
-                        storedPowerList.size()
-                    ));
+                    if (AscensionLog.isTracing()) {
+                        logger.info(String.format(
+                            "Ascension 87: Restored %d powers to Donu",
+                            storedPowerList.size()
+                        ));
+                    }
                 }
 
                 // Clear halfDead state
@@ -751,10 +765,12 @@ public class Level87 {
                     new RollMoveAction(__instance)
                 );
 
-                logger.info(String.format(
-                    "Ascension 87: Donu revived with %d HP",
-                    healAmount
-                ));
+                if (AscensionLog.isTracing()) {
+                    logger.info(String.format(
+                        "Ascension 87: Donu revived with %d HP",
+                        healAmount
+                    ));
+                }
 
                 return SpireReturn.Return();
             }
@@ -773,12 +789,12 @@ public class Level87 {
     public static class DonuReviveGetMove {
         @SpirePrefixPatch
         public static SpireReturn<Void> Prefix(Donu __instance, int num) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 87) {
+            if (!AscensionRuleSet.isActive(87)) {
                 return SpireReturn.Continue();
             }
 
             if (__instance.halfDead) {
-                logger.info("Ascension 87: Donu getMove() while halfDead - setting revival intent");
+                AscensionLog.trace(logger, "Ascension 87: Donu getMove() while halfDead - setting revival intent");
                 __instance.setMove((byte)98, AbstractMonster.Intent.BUFF);
                 return SpireReturn.Return();
             }
@@ -797,15 +813,17 @@ public class Level87 {
     public static class DecaReviveTakeTurn {
         @SpirePrefixPatch
         public static SpireReturn<Void> Prefix(Deca __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 87) {
+            if (!AscensionRuleSet.isActive(87)) {
                 return SpireReturn.Continue();
             }
 
-            logger.info("Ascension 87: Deca takeTurn() called, nextMove = " + __instance.nextMove);
+            if (AscensionLog.isTracing()) {
+                logger.info("Ascension 87: Deca takeTurn() called, nextMove = " + __instance.nextMove);
+            }
 
             // Case 99: Death turn - do nothing, just wait
             if (__instance.nextMove == 99) {
-                logger.info("Ascension 87: Deca death turn - doing nothing");
+                AscensionLog.trace(logger, "Ascension 87: Deca death turn - doing nothing");
                 // Just add RollMoveAction, which will call getMove() and set move to 98
                 AbstractDungeon.actionManager.addToBottom(
                     new RollMoveAction(__instance)
@@ -815,7 +833,7 @@ public class Level87 {
 
             // Case 98: Revival turn - actually revive
             if (__instance.nextMove == 98) {
-                logger.info("Ascension 87: Deca revival turn - reviving now");
+                AscensionLog.trace(logger, "Ascension 87: Deca revival turn - reviving now");
 
                 // Revive with 50% HP
                 int healAmount = __instance.maxHealth / 2;
@@ -838,10 +856,12 @@ public class Level87 {
                             )
                         );
                     }
-                    logger.info(String.format(
-                        "Ascension 87: Restored %d powers to Deca",
-                        storedPowerList.size()
-                    ));
+                    if (AscensionLog.isTracing()) {
+                        logger.info(String.format(
+                            "Ascension 87: Restored %d powers to Deca",
+                            storedPowerList.size()
+                        ));
+                    }
                 }
 
                 // Clear halfDead state
@@ -853,10 +873,12 @@ public class Level87 {
                     new RollMoveAction(__instance)
                 );
 
-                logger.info(String.format(
-                    "Ascension 87: Deca revived with %d HP",
-                    healAmount
-                ));
+                if (AscensionLog.isTracing()) {
+                    logger.info(String.format(
+                        "Ascension 87: Deca revived with %d HP",
+                        healAmount
+                    ));
+                }
 
                 return SpireReturn.Return();
             }
@@ -875,12 +897,12 @@ public class Level87 {
     public static class DecaReviveGetMove {
         @SpirePrefixPatch
         public static SpireReturn<Void> Prefix(Deca __instance, int num) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 87) {
+            if (!AscensionRuleSet.isActive(87)) {
                 return SpireReturn.Continue();
             }
 
             if (__instance.halfDead) {
-                logger.info("Ascension 87: Deca getMove() while halfDead - setting revival intent");
+                AscensionLog.trace(logger, "Ascension 87: Deca getMove() while halfDead - setting revival intent");
                 __instance.setMove((byte)98, AbstractMonster.Intent.BUFF);
                 return SpireReturn.Return();
             }
@@ -905,13 +927,12 @@ public class Level87 {
 
         @SpirePrefixPatch
         public static void Prefix(TimeEater __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 87) {
+            if (!AscensionRuleSet.isActive(87)) {
                 return;
             }
 
             try {
-                java.lang.reflect.Field nextMoveField = AbstractMonster.class.getDeclaredField("nextMove");
-                nextMoveField.setAccessible(true);
+                FieldAccessor nextMoveField = ReflectionCache.ABSTRACT_MONSTER_NEXT_MOVE;
                 byte move = nextMoveField.getByte(__instance);
                 lastMove.set(move);
             } catch (Exception e) {
@@ -921,7 +942,7 @@ public class Level87 {
 
         @SpirePostfixPatch
         public static void Postfix(TimeEater __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 87) {
+            if (!AscensionRuleSet.isActive(87)) {
                 return;
             }
 
@@ -932,7 +953,7 @@ public class Level87 {
                     new GainBlockAction(__instance, __instance, 180)
                 );
 
-                logger.info("Ascension 87: Time Eater Ripple gained +180 additional block");
+                AscensionLog.trace(logger, "Ascension 87: Time Eater Ripple gained +180 additional block");
             }
 
             lastMove.remove();
@@ -947,68 +968,61 @@ public class Level87 {
      * Replace one Cultist with Chosen in Awakened One encounter
      * IMPORTANT: Must be done in MonsterGroup.init() POSTFIX to avoid ConcurrentModificationException
      */
-    @SpirePatch(
-        clz = MonsterGroup.class,
-        method = "init"
-    )
-    public static class AwakenedOneReplaceCultist {
-        @SpirePostfixPatch
-        public static void Postfix(MonsterGroup __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 87) {
-                return;
+    private static void awakenedOneReplaceCultist(MonsterGroup group) {
+        // Check if this is Awakened One encounter (has both AwakenedOne and Cultist)
+        boolean hasAwakenedOne = false;
+        boolean hasCultist = false;
+
+        for (AbstractMonster m : group.monsters) {
+            if (m instanceof AwakenedOne) {
+                hasAwakenedOne = true;
             }
-
-            // Check if this is Awakened One encounter (has both AwakenedOne and Cultist)
-            boolean hasAwakenedOne = false;
-            boolean hasCultist = false;
-
-            for (AbstractMonster m : __instance.monsters) {
-                if (m instanceof AwakenedOne) {
-                    hasAwakenedOne = true;
-                }
-                if (m instanceof Cultist) {
-                    hasCultist = true;
-                }
+            if (m instanceof Cultist) {
+                hasCultist = true;
             }
+        }
 
-            if (!hasAwakenedOne || !hasCultist) {
-                return;
-            }
+        if (!hasAwakenedOne || !hasCultist) {
+            return;
+        }
 
-            // Find and replace the first Cultist with Chosen
-            // Original spawn positions from MonsterHelper.java:556:
-            // new Cultist(-590.0F, 10.0F, false)  - left Cultist
-            // new Cultist(-298.0F, -10.0F, false) - right Cultist
-            // We replace the first one found (left Cultist) with Chosen at same position
+        // Find and replace the first Cultist with Chosen
+        // Original spawn positions from MonsterHelper.java:556:
+        // new Cultist(-590.0F, 10.0F, false)  - left Cultist
+        // new Cultist(-298.0F, -10.0F, false) - right Cultist
+        // We replace the first one found (left Cultist) with Chosen at same position
 
-            for (int i = 0; i < __instance.monsters.size(); i++) {
-                AbstractMonster m = __instance.monsters.get(i);
+        for (int i = 0; i < group.monsters.size(); i++) {
+            AbstractMonster m = group.monsters.get(i);
 
-                if (m instanceof Cultist) {
-                    // Use original spawn coordinates for left Cultist
-                    float x = -590.0F;
-                    float y = 10.0F;
+            if (m instanceof Cultist) {
+                // Use original spawn coordinates for left Cultist
+                float x = -590.0F;
+                float y = 10.0F;
 
+                if (AscensionLog.isTracing()) {
                     logger.info(String.format(
                         "Ascension 87: Replacing Cultist at index %d with Chosen at fixed position (%.1f, %.1f)",
                         i, x, y
                     ));
+                }
 
-                    // Create and initialize Chosen at original Cultist position
-                    Chosen chosen = new Chosen(x, y);
-                    chosen.init();
+                // Create and initialize Chosen at original Cultist position
+                Chosen chosen = new Chosen(x, y);
+                chosen.init();
 
-                    // Replace Cultist with Chosen
-                    __instance.monsters.set(i, chosen);
+                // Replace Cultist with Chosen
+                group.monsters.set(i, chosen);
 
+                if (AscensionLog.isTracing()) {
                     logger.info(String.format(
                         "Ascension 87: Successfully replaced Cultist with Chosen at (%.1f, %.1f)",
                         x, y
                     ));
-
-                    // Only replace one Cultist
-                    break;
                 }
+
+                // Only replace one Cultist
+                break;
             }
         }
     }
@@ -1027,14 +1041,13 @@ public class Level87 {
     public static class BronzeAutomatonExtraOrb {
         @SpirePostfixPatch
         public static void Postfix(BronzeAutomaton __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 87) {
+            if (!AscensionRuleSet.isActive(87)) {
                 return;
             }
 
             try {
                 // Access nextMove field via reflection
-                Field nextMoveField = AbstractMonster.class.getDeclaredField("nextMove");
-                nextMoveField.setAccessible(true);
+                FieldAccessor nextMoveField = ReflectionCache.ABSTRACT_MONSTER_NEXT_MOVE;
                 byte nextMove = nextMoveField.getByte(__instance);
 
                 // SPAWN_ORBS pattern is move byte 4
@@ -1046,9 +1059,9 @@ public class Level87 {
                         new SpawnMonsterAction(new BronzeOrb(-50.0F, 165.0F, 2), true)
                     );
 
-                    logger.info("Ascension 87: Bronze Automaton spawned third Bronze Orb");
+                    AscensionLog.trace(logger, "Ascension 87: Bronze Automaton spawned third Bronze Orb");
                 }
-            } catch (NoSuchFieldException | IllegalAccessException e) {
+            } catch (IllegalStateException e) {
                 logger.error("Ascension 87: Failed to access BronzeAutomaton nextMove field", e);
             }
         }
@@ -1068,7 +1081,7 @@ public class Level87 {
     public static class CorruptHeartMalleable {
         @SpirePostfixPatch
         public static void Postfix(CorruptHeart __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 87) {
+            if (!AscensionRuleSet.isActive(87)) {
                 return;
             }
 
@@ -1082,7 +1095,7 @@ public class Level87 {
                 )
             );
 
-            logger.info("Ascension 87: Corrupt Heart gained Malleable 1");
+            AscensionLog.trace(logger, "Ascension 87: Corrupt Heart gained Malleable 1");
         }
     }
 }
@@ -7,6 +7,8 @@ import com.megacrit.cardcrawl.core.Settings;
 import com.megacrit.cardcrawl.dungeons.AbstractDungeon;
 import com.megacrit.cardcrawl.monsters.AbstractMonster;
 import com.megacrit.cardcrawl.rooms.MonsterRoomElite;
+import com.stsmod.ascension100.util.AscensionLog;
+import com.stsmod.ascension100.util.AscensionRuleSet;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -27,7 +29,7 @@ public class Level89 {
     public static class BurningEliteExtraHP {
         @SpirePostfixPatch
         public static void Postfix(MonsterRoomElite __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 89) {
+            if (!AscensionRuleSet.isActive(89)) {
                 return;
             }
 
@@ -59,10 +61,12 @@ public class Level89 {
                         m.maxHealth += hpIncrease;
                         m.currentHealth += hpIncrease;
 
-                        logger.info(String.format(
-                            "Ascension 89: %s gained %d max HP (%.0f%% bonus) in Act %d - Total: %d HP",
-                            m.name, hpIncrease, hpBonus * 100, actNum, m.maxHealth
-                        ));
+                        if (AscensionLog.isTracing()) {
+                            logger.info(String.format(
+                                "Ascension 89: %s gained %d max HP (%.0f%% bonus) in Act %d - Total: %d HP",
+                                m.name, hpIncrease, hpBonus * 100, actNum, m.maxHealth
+                            ));
+                        }
                     }
                 }
             }
@@ -1,12 +1,14 @@
 package com.stsmod.ascension100.patches.levels;
 
-import com.evacipated.cardcrawl.modthespire.lib.SpirePatch;
-import com.evacipated.cardcrawl.modthespire.lib.SpirePostfixPatch;
 import com.megacrit.cardcrawl.dungeons.AbstractDungeon;
 import com.megacrit.cardcrawl.monsters.AbstractMonster;
 import com.megacrit.cardcrawl.monsters.MonsterGroup;
 import com.megacrit.cardcrawl.monsters.exordium.GremlinFat;
 import com.megacrit.cardcrawl.monsters.exordium.Looter;
+import com.stsmod.ascension100.patches.unified.SharedHooks;
+import com.stsmod.ascension100.util.AscensionLog;
+import com.stsmod.ascension100.util.RngRecorder;
+import com.stsmod.ascension100.util.Telemetry;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -21,54 +23,58 @@ import org.apache.logging.log4j.Logger;
 public class Level90 {
     private static final Logger logger = LogManager.getLogger(Level90.class.getName());
 
-    @SpirePatch(
-        clz = MonsterGroup.class,
-        method = "init"
-    )
-    public static class AddExtraMonster {
-        @SpirePostfixPatch
-        public static void Postfix(MonsterGroup __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 90) {
-                return;
-            }
+    // RNG call sites (see RngRecorder)
+    private static final int EXTRA_MONSTER_ROLL = RngRecorder.site("Level90.extraMonsterRoll", RngRecorder.Stream.MONSTER);
+
+    /**
+     * Listeners for SharedHooks, linked only while this level is active
+     */
+    public static void registerHooks() {
+        SharedHooks.GROUP_INIT.register(90, Level90::addExtraMonster);
+    }
 
-            int actNum = AbstractDungeon.actNum;
-            int roll = AbstractDungeon.monsterRng.random(0, 99);
+    private static void addExtraMonster(MonsterGroup group) {
+        int actNum = AbstractDungeon.actNum;
+        int roll = RngRecorder.random(EXTRA_MONSTER_ROLL, AbstractDungeon.monsterRng, 0, 99);
+        Telemetry.record(Telemetry.Event.ROLL, 90, roll, 10);
 
-            // 10% chance to add extra monster
-            if (roll < 10) {
-                AbstractMonster extraMonster = null;
-                float xPos = 0.0f;
+        // 10% chance to add extra monster
+        if (roll < 10) {
+            AbstractMonster extraMonster = null;
+            float xPos = 0.0f;
 
-                switch (actNum) {
-                    case 2:
-                        // Add Fat Gremlin in Act 2
-                        // Position: Place to the right of existing monsters
-                        xPos = 200.0f;
-                        extraMonster = new GremlinFat(xPos, 0.0f);
+            switch (actNum) {
+                case 2:
+                    // Add Fat Gremlin in Act 2
+                    // Position: Place to the right of existing monsters
+                    xPos = 200.0f;
+                    extraMonster = new GremlinFat(xPos, 0.0f);
+                    if (AscensionLog.isTracing()) {
                         logger.info(String.format(
                             "Ascension 90: Adding Fat Gremlin to Act 2 battle (Roll: %d < 10)",
                             roll
                         ));
-                        break;
+                    }
+                    break;
 
-                    case 3:
-                        // Add Looter in Act 3
-                        // Position: Place to the right of existing monsters
-                        xPos = 200.0f;
-                        extraMonster = new Looter(xPos, 0.0f);
+                case 3:
+                    // Add Looter in Act 3
+                    // Position: Place to the right of existing monsters
+                    xPos = 200.0f;
+                    extraMonster = new Looter(xPos, 0.0f);
+                    if (AscensionLog.isTracing()) {
                         logger.info(String.format(
                             "Ascension 90: Adding Looter to Act 3 battle (Roll: %d < 10)",
                             roll
                         ));
-                        break;
-                }
+                    }
+                    break;
+            }
 
-                if (extraMonster != null) {
-                    __instance.addMonster(extraMonster);
-                    extraMonster.init();
-                    extraMonster.applyPowers();
-                }
+            if (extraMonster != null) {
+                group.addMonster(extraMonster);
+                extraMonster.init();
+                extraMonster.applyPowers();
             }
         }
     }
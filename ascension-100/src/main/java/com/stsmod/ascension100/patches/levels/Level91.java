@@ -10,6 +10,10 @@ import com.megacrit.cardcrawl.dungeons.AbstractDungeon;
 import com.megacrit.cardcrawl.monsters.city.TorchHead;
 import com.megacrit.cardcrawl.monsters.ending.CorruptHeart;
 import com.megacrit.cardcrawl.powers.FrailPower;
+import com.stsmod.ascension100.util.AscensionLog;
+import com.stsmod.ascension100.util.AscensionRuleSet;
+import com.stsmod.ascension100.util.FieldAccessor;
+import com.stsmod.ascension100.util.ReflectionCache;
 import javassist.CtBehavior;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -35,14 +39,13 @@ public class Level91 {
     public static class TorchHeadTackleAppliesFrail {
         @SpirePostfixPatch
         public static void Postfix(TorchHead __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 91) {
+            if (!AscensionRuleSet.isActive(91)) {
                 return;
             }
 
             // Check if current move is TACKLE (byte 1)
             try {
-                java.lang.reflect.Field nextMoveField = TorchHead.class.getSuperclass().getDeclaredField("nextMove");
-                nextMoveField.setAccessible(true);
+                FieldAccessor nextMoveField = ReflectionCache.ABSTRACT_MONSTER_NEXT_MOVE;
                 byte nextMove = nextMoveField.getByte(__instance);
 
                 if (nextMove == 1) { // TACKLE
@@ -55,7 +58,7 @@ public class Level91 {
                         )
                     );
 
-                    logger.info("Ascension 91: TorchHead TACKLE applied Frail 1");
+                    AscensionLog.trace(logger, "Ascension 91: TorchHead TACKLE applied Frail 1");
                 }
             } catch (Exception e) {
                 logger.error("Failed to modify TorchHead TACKLE pattern", e);
@@ -73,14 +76,13 @@ public class Level91 {
     public static class CorruptHeartDebilitateAddsCurses {
         @SpirePostfixPatch
         public static void Postfix(CorruptHeart __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 91) {
+            if (!AscensionRuleSet.isActive(91)) {
                 return;
             }
 
             // Check if current move is DEBILITATE (byte 3)
             try {
-                java.lang.reflect.Field nextMoveField = CorruptHeart.class.getSuperclass().getDeclaredField("nextMove");
-                nextMoveField.setAccessible(true);
+                FieldAccessor nextMoveField = ReflectionCache.ABSTRACT_MONSTER_NEXT_MOVE;
                 byte nextMove = nextMoveField.getByte(__instance);
 
                 if (nextMove == 3) { // DEBILITATE
@@ -94,7 +96,7 @@ public class Level91 {
                         new MakeTempCardInDiscardAction(new Writhe(), 1)
                     );
 
-                    logger.info("Ascension 91: CorruptHeart DEBILITATE added AscendersBane, Writhe");
+                    AscensionLog.trace(logger, "Ascension 91: CorruptHeart DEBILITATE added AscendersBane, Writhe");
                 }
             } catch (Exception e) {
                 logger.error("Failed to modify CorruptHeart DEBILITATE pattern", e);
@@ -49,11 +49,18 @@ import com.megacrit.cardcrawl.actions.common.SpawnMonsterAction;
 import com.megacrit.cardcrawl.cards.status.Burn;
 import com.megacrit.cardcrawl.cards.status.Dazed;
 import com.megacrit.cardcrawl.cards.status.Wound;
+import com.stsmod.ascension100.patches.unified.MonsterDispatch;
+import com.stsmod.ascension100.patches.unified.MonsterStatContext;
+import com.stsmod.ascension100.patches.unified.MonsterStatModifier;
+import com.stsmod.ascension100.patches.unified.SharedHooks;
+import com.stsmod.ascension100.util.AscensionLog;
+import com.stsmod.ascension100.util.AscensionRuleSet;
+import com.stsmod.ascension100.util.CombatScopedState;
+import com.stsmod.ascension100.util.FieldAccessor;
+import com.stsmod.ascension100.util.ReflectionCache;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
-import java.lang.reflect.Field;
-
 /**
  * Ascension Level 92: Enemy mechanics enhanced
  *
@@ -72,60 +79,86 @@ public class Level92 {
     private static final Logger logger = LogManager.getLogger(Level92.class.getName());
 
     /**
-     * Common stat and power increases for various monsters at A92+
-     * Applied at monster initialization
-     *
-     * NOTE: Giant Head mechanics (Slow compound + HP double) moved to Level25
+     * Listeners for SharedHooks, linked only while this level is active
      */
-    @SpirePatch(
-        clz = AbstractMonster.class,
-        method = "init"
-    )
-    public static class MonsterStatIncreases {
-        @SpirePostfixPatch
-        public static void Postfix(AbstractMonster __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 92) {
-                return;
-            }
+    public static void registerHooks() {
+        SharedHooks.MONSTER_PRE_BATTLE.register(92, Level92::monsterDamageIncreases);
+        SharedHooks.MONSTER_PRE_BATTLE.register(92, Level92::shelledParasiteAndOthers);
+    }
 
-            String id = __instance.id;
-            if (id == null) return;
-
-            int hpBonus = 0;
-
-            // Apply HP bonuses for specific monsters
-            switch (id) {
-                case "Louse": hpBonus = 2; break;
-                case "Chosen": hpBonus = 20; break;
-                case "Centurion": hpBonus = 15; break;
-                case "Pointy": hpBonus = 5; break;
-                case "Bear": hpBonus = 5; break;
-                case "Exploder": hpBonus = 5; break;
-                case "Spire Growth": hpBonus = 20; break;
-                case "GiantHead":
-                    // Giant Head gets additional 20% HP increase at A92
-                    // (On top of 100% increase from Level25)
-                    int originalHP = __instance.maxHealth;
-                    float multiplier = 1.20f;
-                    __instance.maxHealth = (int)(__instance.maxHealth * multiplier);
-                    __instance.currentHealth = (int)(__instance.currentHealth * multiplier);
-                    logger.info(String.format(
-                        "Ascension 92: %s HP increased by 20%% from %d to %d",
-                        __instance.name, originalHP, __instance.maxHealth
-                    ));
-                    return; // Skip regular HP bonus processing
-            }
+    /**
+     * Per-class monster changes, applied by MonsterDispatch at init,
+     * around usePreBattleAction and around takeTurn
+     */
+    public static void registerMonsterModifiers(MonsterDispatch.Registry registry) {
+        registry.add(92, GremlinLeader.class, Level92::gremlinLeaderExtraStrength);
+        registry.add(92, GremlinThief.class, Level92::gremlinThiefDamage);
+
+        registry.beforeTurn(92, GremlinFat.class, FatGremlinVulnerable::beforeTurn);
+        registry.afterTurn(92, GremlinFat.class, FatGremlinVulnerable::afterTurn);
+        registry.beforeTurn(92, JawWorm.class, JawWormExtraStrength::beforeTurn);
+        registry.afterTurn(92, JawWorm.class, JawWormExtraStrength::afterTurn);
+        registry.beforeTurn(92, FungiBeast.class, FungiBeastExtraStrength::beforeTurn);
+        registry.afterTurn(92, FungiBeast.class, FungiBeastExtraStrength::afterTurn);
+        registry.beforeTurn(92, Spiker.class, SpikerExtraThorns::beforeTurn);
+        registry.afterTurn(92, Spiker.class, SpikerExtraThorns::afterTurn);
+        registry.beforeTurn(92, OrbWalker.class, OrbWalkerExtraBurns::beforeTurn);
+        registry.afterTurn(92, OrbWalker.class, OrbWalkerExtraBurns::afterTurn);
+        registry.beforeTurn(92, Darkling.class, DarklingRegeneration::beforeTurn);
+        registry.afterTurn(92, Darkling.class, DarklingRegeneration::afterTurn);
+        registry.beforeTurn(92, Healer.class, HealerExtraWeak::beforeTurn);
+        registry.afterTurn(92, Healer.class, HealerExtraWeak::afterTurn);
+        registry.beforeTurn(92, GremlinNob.class, GremlinNobExtraAnger::beforeTurn);
+        registry.afterTurn(92, GremlinNob.class, GremlinNobExtraAnger::afterTurn);
+        registry.beforeTurn(92, Sentry.class, SentryExtraDazed::beforeTurn);
+        registry.afterTurn(92, Sentry.class, SentryExtraDazed::afterTurn);
+        registry.beforeTurn(92, Taskmaster.class, TaskmasterExtraWound::beforeTurn);
+        registry.afterTurn(92, Taskmaster.class, TaskmasterExtraWound::afterTurn);
+        registry.beforeTurn(92, Nemesis.class, NemesisExtraBurns::beforeTurn);
+        registry.afterTurn(92, Nemesis.class, NemesisExtraBurns::afterTurn);
+        registry.beforeTurn(92, BookOfStabbing.class, BookOfStabbingExtraStabExecution::beforeTurn);
+        registry.afterTurn(92, BookOfStabbing.class, BookOfStabbingExtraStabExecution::afterTurn);
+        registry.afterTurn(92, Lagavulin.class, LagavulinEnhancedDebuff::afterTurn);
+        registry.beforeTurn(92, Snecko.class, SneckoConfusionBypassArtifact::beforeTurn);
+        registry.afterTurn(92, Snecko.class, SneckoConfusionBypassArtifact::afterTurn);
+        registry.beforeTurn(92, Reptomancer.class, ReptomancerGuaranteedDaggers::beforeTurn);
+        registry.afterTurn(92, Reptomancer.class, ReptomancerGuaranteedDaggers::afterTurn);
+        registry.beforeTurn(92, com.megacrit.cardcrawl.monsters.exordium.Hexaghost.class, HexaghostInfernoExtraBurns::beforeTurn);
+        registry.afterTurn(92, com.megacrit.cardcrawl.monsters.exordium.Hexaghost.class, HexaghostInfernoExtraBurns::afterTurn);
+        registry.beforeTurn(92, TheGuardian.class, GuardianFierceBashDamageIncrease::beforeTurn);
+        registry.afterTurn(92, TheGuardian.class, GuardianFierceBashDamageIncrease::afterTurn);
+        registry.afterPreBattle(92, AwakenedOne.class, AwakenedOneCuriosityPatch::afterPreBattle);
+        registry.afterTurn(92, Mugger.class, MuggerSmokeBombBlockIncrease::afterTurn);
+        registry.beforePreBattle(92, com.megacrit.cardcrawl.monsters.exordium.Looter.class, LooterThieveryIncrease::beforePreBattle);
+        registry.afterPreBattle(92, com.megacrit.cardcrawl.monsters.exordium.Looter.class, LooterThieveryIncrease::afterPreBattle);
+        registry.beforePreBattle(92, com.megacrit.cardcrawl.monsters.city.Mugger.class, MuggerThieveryIncrease::beforePreBattle);
+        registry.afterPreBattle(92, com.megacrit.cardcrawl.monsters.city.Mugger.class, MuggerThieveryIncrease::afterPreBattle);
+    }
 
-            if (hpBonus > 0) {
-                int originalHP = __instance.maxHealth;
-                __instance.maxHealth += hpBonus;
-                __instance.currentHealth += hpBonus;
+    /**
+     * HP increases for various monsters at A92+
+     * Applied by MonsterStatPipeline
+     *
+     * NOTE: Giant Head mechanics (Slow compound + HP double) moved to Level25
+     */
+    public static void modifyStats(MonsterStatContext ctx, MonsterStatModifier mod) {
+        String id = ctx.getMonsterId();
+        if (id == null) return;
 
-                logger.info(String.format(
-                    "Ascension 92: %s HP increased from %d to %d (+%d)",
-                    __instance.name, originalHP, __instance.maxHealth, hpBonus
-                ));
-            }
+        // Apply HP bonuses for specific monsters
+        switch (id) {
+            case "Louse": mod.addHealth(92, 2); break;
+            case "Chosen": mod.addHealth(92, 20); break;
+            case "Centurion": mod.addHealth(92, 15); break;
+            case "Pointy": mod.addHealth(92, 5); break;
+            case "Bear": mod.addHealth(92, 5); break;
+            case "Exploder": mod.addHealth(92, 5); break;
+            case "Spire Growth": mod.addHealth(92, 20); break;
+            case "GiantHead":
+                // Giant Head gets additional 20% HP increase at A92
+                // (On top of 100% increase from Level26)
+                mod.multiplyHealth(92, 1.20f);
+                break;
         }
     }
 
@@ -133,53 +166,44 @@ public class Level92 {
      * Damage increases for specific monsters at A92+
      * Applied before battle
      */
-    @SpirePatch(
-        clz = AbstractMonster.class,
-        method = "usePreBattleAction"
-    )
-    public static class MonsterDamageIncreases {
-        @SpirePostfixPatch
-        public static void Postfix(AbstractMonster __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 92) {
-                return;
-            }
+    private static void monsterDamageIncreases(AbstractMonster monster) {
+        String id = monster.id;
+        if (id == null) return;
 
-            String id = __instance.id;
-            if (id == null) return;
-
-            int damageBonus = 0;
-
-            // Apply damage bonuses for specific monsters
-            switch (id) {
-                case "Acid Slime (L)":
-                case "Acid Slime (M)":
-                case "Acid Slime (S)":
-                case "Spike Slime (L)":
-                case "Spike Slime (M)":
-                case "Spike Slime (S)":
-                    damageBonus = 1;
-                    break;
-                case "Romeo": damageBonus = 1; break;
-                case "GremlinWarrior": damageBonus = 15; break; // Wizard Gremlin
-                case "SneakyGremlin": damageBonus = 7; break; // Sneaky Gremlin
-            }
+        int damageBonus = 0;
+
+        // Apply damage bonuses for specific monsters
+        switch (id) {
+            case "Acid Slime (L)":
+            case "Acid Slime (M)":
+            case "Acid Slime (S)":
+            case "Spike Slime (L)":
+            case "Spike Slime (M)":
+            case "Spike Slime (S)":
+                damageBonus = 1;
+                break;
+            case "Romeo": damageBonus = 1; break;
+            case "GremlinWarrior": damageBonus = 15; break; // Wizard Gremlin
+            case "SneakyGremlin": damageBonus = 7; break; // Sneaky Gremlin
+        }
 
-            if (damageBonus > 0) {
-                for (DamageInfo dmg : __instance.damage) {
-                    if (dmg != null && dmg.base > 0) {
-                        dmg.base += damageBonus;
-                    }
+        if (damageBonus > 0) {
+            for (DamageInfo dmg : monster.damage) {
+                if (dmg != null && dmg.base > 0) {
+                    dmg.base += damageBonus;
                 }
+            }
 
+            if (AscensionLog.isTracing()) {
                 logger.info(String.format(
                     "Ascension 92: %s damage increased by %d",
-                    __instance.name, damageBonus
+                    monster.name, damageBonus
                 ));
             }
-
-            // Apply starting powers for specific monsters
-            applyStartingPowers(__instance);
         }
+
+        // Apply starting powers for specific monsters
+        applyStartingPowers(monster);
     }
 
     /**
@@ -199,7 +223,7 @@ public class Level92 {
                     5
                 )
             );
-            logger.info("Ascension 92: Spheric Guardian gained starting Plated Armor 5");
+            AscensionLog.trace(logger, "Ascension 92: Spheric Guardian gained starting Plated Armor 5");
         }
 
         // Transient: Intangible 200
@@ -223,214 +247,200 @@ public class Level92 {
      * Increase Louse's Curl Up power by 10
      * MOVED TO: LouseCurlUpPatch.java (unified patch)
      */
-    @SpirePatch(
-        clz = AbstractMonster.class,
-        method = "usePreBattleAction"
-    )
-    public static class ShelledParasiteAndOthers {
-        @SpirePostfixPatch
-        public static void Postfix(AbstractMonster __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 92) {
-                return;
-            }
-
-            String id = __instance.id;
-            if (id == null) return;
+    private static void shelledParasiteAndOthers(AbstractMonster monster) {
+        String id = monster.id;
+        if (id == null) return;
 
-            // Shelled Parasite: Increase Plated Armor by 4
-            if (id.equals("Shelled Parasite")) {
-                AbstractPower platedArmor = __instance.getPower("Plated Armor");
-                if (platedArmor != null) {
-                    int originalAmount = platedArmor.amount;
-                    platedArmor.amount += 4;
-                    platedArmor.updateDescription();
+        // Shelled Parasite: Increase Plated Armor by 4
+        if (id.equals("Shelled Parasite")) {
+            AbstractPower platedArmor = monster.getPower("Plated Armor");
+            if (platedArmor != null) {
+                int originalAmount = platedArmor.amount;
+                platedArmor.amount += 4;
+                platedArmor.updateDescription();
 
+                if (AscensionLog.isTracing()) {
                     logger.info(String.format(
                         "Ascension 92: %s Plated Armor increased from %d to %d (+4)",
-                        __instance.name, originalAmount, platedArmor.amount
+                        monster.name, originalAmount, platedArmor.amount
                     ));
                 }
             }
+        }
 
-            // Transient: Increase Fading by 1 (MOVED TO TransientFadingPatch.java) and add Invincible 200
-            if (id.equals("Transient")) {
-                // Fading increase moved to unified patch (TransientFadingPatch.java)
+        // Transient: Increase Fading by 1 (MOVED TO TransientFadingPatch.java) and add Invincible 200
+        if (id.equals("Transient")) {
+            // Fading increase moved to unified patch (TransientFadingPatch.java)
 
-                // Add Invincible 200 (천하무적: blocks damage above 200, like Corrupt Heart)
-                AbstractDungeon.actionManager.addToBottom(
-                    new ApplyPowerAction(
-                        (AbstractCreature)__instance,
-                        (AbstractCreature)__instance,
-                        new InvinciblePower((AbstractCreature)__instance, 200),
-                        200
-                    )
-                );
-                logger.info("Ascension 92: Transient gained Invincible 200 (천하무적)");
-            }
+            // Add Invincible 200 (천하무적: blocks damage above 200, like Corrupt Heart)
+            AbstractDungeon.actionManager.addToBottom(
+                new ApplyPowerAction(
+                    (AbstractCreature)monster,
+                    (AbstractCreature)monster,
+                    new InvinciblePower((AbstractCreature)monster, 200),
+                    200
+                )
+            );
+            AscensionLog.trace(logger, "Ascension 92: Transient gained Invincible 200 (천하무적)");
+        }
 
-            // NOTE: Looter and Mugger Thievery increases moved to separate Prefix/Postfix patches
-            // to properly modify goldAmt BEFORE ThieveryPower is created
+        // NOTE: Looter and Mugger Thievery increases moved to separate before/after pre-battle modifiers
+        // to properly modify goldAmt BEFORE ThieveryPower is created
 
-            // Looter: Increase escapeDef by 3
-            if (id.equals("Looter")) {
-                try {
-                    Field escapeDefField = __instance.getClass().getDeclaredField("escapeDef");
-                    escapeDefField.setAccessible(true);
-                    int originalDef = escapeDefField.getInt(__instance);
-                    escapeDefField.setInt(__instance, originalDef + 3);
+        // Looter: Increase escapeDef by 3
+        if (id.equals("Looter")) {
+            try {
+                FieldAccessor escapeDefField = ReflectionCache.LOOTER_ESCAPE_DEF;
+                int originalDef = escapeDefField.getInt(monster);
+                escapeDefField.setInt(monster, originalDef + 3);
 
+                if (AscensionLog.isTracing()) {
                     logger.info(String.format(
                         "Ascension 92: Looter escapeDef increased from %d to %d (+3)",
                         originalDef, originalDef + 3
                     ));
-                } catch (Exception e) {
-                    logger.error("Failed to modify Looter escapeDef", e);
                 }
+            } catch (Exception e) {
+                logger.error("Failed to modify Looter escapeDef", e);
             }
+        }
 
-            // Shield Gremlin (GremlinTsundere): Increase blockAmt by 8
-            if (id.equals("GremlinTsundere")) {
-                try {
-                    Field blockAmtField = __instance.getClass().getDeclaredField("blockAmt");
-                    blockAmtField.setAccessible(true);
-                    int originalBlock = blockAmtField.getInt(__instance);
-                    blockAmtField.setInt(__instance, originalBlock + 8);
+        // Shield Gremlin (GremlinTsundere): Increase blockAmt by 8
+        if (id.equals("GremlinTsundere")) {
+            try {
+                FieldAccessor blockAmtField = ReflectionCache.GREMLIN_TSUNDERE_BLOCK_AMT;
+                int originalBlock = blockAmtField.getInt(monster);
+                blockAmtField.setInt(monster, originalBlock + 8);
 
+                if (AscensionLog.isTracing()) {
                     logger.info(String.format(
                         "Ascension 92: Shield Gremlin blockAmt increased from %d to %d (+8)",
                         originalBlock, originalBlock + 8
                     ));
-                } catch (Exception e) {
-                    logger.error("Failed to modify Shield Gremlin stats", e);
                 }
+            } catch (Exception e) {
+                logger.error("Failed to modify Shield Gremlin stats", e);
             }
+        }
 
-            // Mad Gremlin (GremlinWarrior): Increase AngryPower by 1
-            if (id.equals("GremlinWarrior")) {
-                AbstractPower angry = __instance.getPower("Anger");
-                if (angry != null) {
-                    int originalAmount = angry.amount;
-                    angry.amount += 1;
-                    angry.updateDescription();
+        // Mad Gremlin (GremlinWarrior): Increase AngryPower by 1
+        if (id.equals("GremlinWarrior")) {
+            AbstractPower angry = monster.getPower("Anger");
+            if (angry != null) {
+                int originalAmount = angry.amount;
+                angry.amount += 1;
+                angry.updateDescription();
 
+                if (AscensionLog.isTracing()) {
                     logger.info(String.format(
                         "Ascension 92: Mad Gremlin Anger increased from %d to %d (+1)",
                         originalAmount, angry.amount
                     ));
                 }
             }
+        }
 
-            // Snake Plant: Increase Malleable by 2
-            if (id.equals("SnakePlant")) {
-                AbstractPower malleable = __instance.getPower("Malleable");
-                if (malleable != null) {
-                    int originalAmount = malleable.amount;
-                    malleable.amount += 2;
-                    malleable.updateDescription();
+        // Snake Plant: Increase Malleable by 2
+        if (id.equals("SnakePlant")) {
+            AbstractPower malleable = monster.getPower("Malleable");
+            if (malleable != null) {
+                int originalAmount = malleable.amount;
+                malleable.amount += 2;
+                malleable.updateDescription();
 
+                if (AscensionLog.isTracing()) {
                     logger.info(String.format(
                         "Ascension 92: Snake Plant Malleable increased from %d to %d (+2)",
                         originalAmount, malleable.amount
                     ));
                 }
             }
+        }
 
-            // Repulsor: Increase dazeAmt by 1
-            if (id.equals("Repulsor")) {
-                try {
-                    Field dazeAmtField = __instance.getClass().getDeclaredField("dazeAmt");
-                    dazeAmtField.setAccessible(true);
-                    int originalDaze = dazeAmtField.getInt(__instance);
-                    dazeAmtField.setInt(__instance, originalDaze + 1);
+        // Repulsor: Increase dazeAmt by 1
+        if (id.equals("Repulsor")) {
+            try {
+                FieldAccessor dazeAmtField = ReflectionCache.REPULSOR_DAZE_AMT;
+                int originalDaze = dazeAmtField.getInt(monster);
+                dazeAmtField.setInt(monster, originalDaze + 1);
 
+                if (AscensionLog.isTracing()) {
                     logger.info(String.format(
                         "Ascension 92: Repulsor dazeAmt increased from %d to %d (+1)",
                         originalDaze, originalDaze + 1
                     ));
-                } catch (Exception e) {
-                    logger.error("Failed to modify Repulsor stats", e);
                 }
+            } catch (Exception e) {
+                logger.error("Failed to modify Repulsor stats", e);
             }
+        }
 
-            // Writhing Mass: Increase Malleable by 5
-            if (id.equals("WrithingMass")) {
-                AbstractPower malleable = __instance.getPower("Malleable");
-                if (malleable != null) {
-                    int originalAmount = malleable.amount;
-                    malleable.amount += 5;
-                    malleable.updateDescription();
+        // Writhing Mass: Increase Malleable by 5
+        if (id.equals("WrithingMass")) {
+            AbstractPower malleable = monster.getPower("Malleable");
+            if (malleable != null) {
+                int originalAmount = malleable.amount;
+                malleable.amount += 5;
+                malleable.updateDescription();
 
+                if (AscensionLog.isTracing()) {
                     logger.info(String.format(
                         "Ascension 92: Writhing Mass Malleable increased from %d to %d (+5)",
                         originalAmount, malleable.amount
                     ));
                 }
             }
+        }
 
-            // Maw: Increase strUp by 3 for Drool pattern
-            if (id.equals("Maw")) {
-                try {
-                    Field strUpField = __instance.getClass().getDeclaredField("strUp");
-                    strUpField.setAccessible(true);
-                    int originalStr = strUpField.getInt(__instance);
-                    strUpField.setInt(__instance, originalStr + 3);
+        // Maw: Increase strUp by 3 for Drool pattern
+        if (id.equals("Maw")) {
+            try {
+                FieldAccessor strUpField = ReflectionCache.MAW_STR_UP;
+                int originalStr = strUpField.getInt(monster);
+                strUpField.setInt(monster, originalStr + 3);
 
+                if (AscensionLog.isTracing()) {
                     logger.info(String.format(
                         "Ascension 92: Maw strUp increased from %d to %d (+3)",
                         originalStr, originalStr + 3
                     ));
-                } catch (Exception e) {
-                    logger.error("Failed to modify Maw stats", e);
                 }
+            } catch (Exception e) {
+                logger.error("Failed to modify Maw stats", e);
             }
         }
     }
 
     /**
      * Fat Gremlin applies Vulnerable on attack at A92+
-     * We use Prefix to remember the move, then Postfix to apply Vulnerable
+     * We use beforeTurn to remember the move, then afterTurn to apply Vulnerable
      */
-    @SpirePatch(
-        clz = GremlinFat.class,
-        method = "takeTurn"
-    )
     public static class FatGremlinVulnerable {
         private static final ThreadLocal<Byte> lastMove = new ThreadLocal<>();
 
-        @SpirePrefixPatch
-        public static void Prefix(GremlinFat __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 92) {
-                return;
-            }
-
+        public static void beforeTurn(GremlinFat monster) {
             try {
-                Field nextMoveField = AbstractMonster.class.getDeclaredField("nextMove");
-                nextMoveField.setAccessible(true);
-                byte move = nextMoveField.getByte(__instance);
+                FieldAccessor nextMoveField = ReflectionCache.ABSTRACT_MONSTER_NEXT_MOVE;
+                byte move = nextMoveField.getByte(monster);
                 lastMove.set(move);
             } catch (Exception e) {
                 logger.error("Failed to get Fat Gremlin move", e);
             }
         }
 
-        @SpirePostfixPatch
-        public static void Postfix(GremlinFat __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 92) {
-                return;
-            }
-
+        public static void afterTurn(GremlinFat monster) {
             Byte move = lastMove.get();
             if (move != null && move == 2) { // BLUNT attack
                 AbstractDungeon.actionManager.addToBottom(
                     new ApplyPowerAction(
                         (AbstractCreature)AbstractDungeon.player,
-                        (AbstractCreature)__instance,
+                        (AbstractCreature)monster,
                         new VulnerablePower((AbstractCreature)AbstractDungeon.player, 1, true),
                         1
                     )
                 );
 
-                logger.info("Ascension 92: Fat Gremlin applied Vulnerable 1");
+                AscensionLog.trace(logger, "Ascension 92: Fat Gremlin applied Vulnerable 1");
             }
 
             lastMove.remove();
@@ -440,35 +450,20 @@ public class Level92 {
     /**
      * Jaw Worm gains +1 extra Strength from Bellow pattern at A92+
      */
-    @SpirePatch(
-        clz = JawWorm.class,
-        method = "takeTurn"
-    )
     public static class JawWormExtraStrength {
         private static final ThreadLocal<Byte> lastMove = new ThreadLocal<>();
 
-        @SpirePrefixPatch
-        public static void Prefix(JawWorm __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 92) {
-                return;
-            }
-
+        public static void beforeTurn(JawWorm monster) {
             try {
-                Field nextMoveField = AbstractMonster.class.getDeclaredField("nextMove");
-                nextMoveField.setAccessible(true);
-                byte move = nextMoveField.getByte(__instance);
+                FieldAccessor nextMoveField = ReflectionCache.ABSTRACT_MONSTER_NEXT_MOVE;
+                byte move = nextMoveField.getByte(monster);
                 lastMove.set(move);
             } catch (Exception e) {
                 logger.error("Failed to get Jaw Worm move", e);
             }
         }
 
-        @SpirePostfixPatch
-        public static void Postfix(JawWorm __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 92) {
-                return;
-            }
-
+        public static void afterTurn(JawWorm monster) {
             Byte move = lastMove.get();
             if (move != null && move == 2) { // BELLOW move
                 // Find and modify the last ApplyPowerAction with StrengthPower
@@ -477,22 +472,22 @@ public class Level92 {
                         AbstractGameAction action = AbstractDungeon.actionManager.actions.get(i);
 
                         if (action instanceof ApplyPowerAction) {
-                            Field powerToApplyField = ApplyPowerAction.class.getDeclaredField("powerToApply");
-                            powerToApplyField.setAccessible(true);
+                            FieldAccessor powerToApplyField = ReflectionCache.APPLY_POWER_ACTION_POWER_TO_APPLY;
                             AbstractPower power = (AbstractPower) powerToApplyField.get(action);
 
-                            if (power instanceof StrengthPower && power.owner == __instance) {
+                            if (power instanceof StrengthPower && power.owner == monster) {
                                 power.amount += 1;
 
-                                Field amountField = ApplyPowerAction.class.getDeclaredField("amount");
-                                amountField.setAccessible(true);
+                                FieldAccessor amountField = ReflectionCache.APPLY_POWER_ACTION_AMOUNT;
                                 int currentAmount = amountField.getInt(action);
                                 amountField.setInt(action, currentAmount + 1);
 
-                                logger.info(String.format(
-                                    "Ascension 92: Jaw Worm Strength increased by +1 (total: %d)",
-                                    power.amount
-                                ));
+                                if (AscensionLog.isTracing()) {
+                                    logger.info(String.format(
+                                        "Ascension 92: Jaw Worm Strength increased by +1 (total: %d)",
+                                        power.amount
+                                    ));
+                                }
                                 break;
                             }
                         }
@@ -511,66 +506,51 @@ public class Level92 {
      * Base game: Strength 3 (A2: 4, A17: 5)
      * A92+: Strength 8 total on GROW move (A17 basis: 5+3)
      *
-     * Uses Prefix to increase strAmt BEFORE takeTurn executes,
+     * Uses beforeTurn to increase strAmt BEFORE takeTurn executes,
      * so all Strength is gained at once instead of 5+3 separately
      */
-    @SpirePatch(
-        clz = FungiBeast.class,
-        method = "takeTurn"
-    )
     public static class FungiBeastExtraStrength {
-        private static boolean increased = false;
-
-        @SpirePrefixPatch
-        public static void Prefix(FungiBeast __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 92) {
-                return;
-            }
+        // Fungi Beasts whose strAmt is raised for the current takeTurn
+        private static final CombatScopedState<FungiBeast, Boolean> increased =
+            CombatScopedState.create("Level92.FungiBeastExtraStrength", 8);
 
+        public static void beforeTurn(FungiBeast monster) {
             try {
                 // Check if GROW move (2)
-                Field nextMoveField = AbstractMonster.class.getDeclaredField("nextMove");
-                nextMoveField.setAccessible(true);
-                byte move = nextMoveField.getByte(__instance);
+                FieldAccessor nextMoveField = ReflectionCache.ABSTRACT_MONSTER_NEXT_MOVE;
+                byte move = nextMoveField.getByte(monster);
 
-                if (move == 2 && !increased) { // GROW move
+                if (move == 2 && !increased.containsKey(monster)) { // GROW move
                     // Increase strAmt by 3 BEFORE takeTurn executes
-                    Field strAmtField = FungiBeast.class.getDeclaredField("strAmt");
-                    strAmtField.setAccessible(true);
-                    int originalAmt = strAmtField.getInt(__instance);
-                    strAmtField.setInt(__instance, originalAmt + 3);
-                    increased = true;
-
-                    logger.info(String.format(
-                        "Ascension 92: Fungi Beast strAmt increased from %d to %d (A17+: will gain %d total)",
-                        originalAmt, originalAmt + 3, originalAmt + 3 + 1
-                    ));
+                    FieldAccessor strAmtField = ReflectionCache.FUNGI_BEAST_STR_AMT;
+                    int originalAmt = strAmtField.getInt(monster);
+                    strAmtField.setInt(monster, originalAmt + 3);
+                    increased.put(monster, Boolean.TRUE);
+
+                    if (AscensionLog.isTracing()) {
+                        logger.info(String.format(
+                            "Ascension 92: Fungi Beast strAmt increased from %d to %d (A17+: will gain %d total)",
+                            originalAmt, originalAmt + 3, originalAmt + 3 + 1
+                        ));
+                    }
                 }
             } catch (Exception e) {
                 logger.error("Failed to increase Fungi Beast strAmt", e);
             }
         }
 
-        @SpirePostfixPatch
-        public static void Postfix(FungiBeast __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 92) {
-                return;
-            }
-
+        public static void afterTurn(FungiBeast monster) {
             try {
                 // Reset strAmt back to original after GROW move
-                Field nextMoveField = AbstractMonster.class.getDeclaredField("nextMove");
-                nextMoveField.setAccessible(true);
-                byte move = nextMoveField.getByte(__instance);
-
-                if (move == 2 && increased) { // GROW move just executed
-                    Field strAmtField = FungiBeast.class.getDeclaredField("strAmt");
-                    strAmtField.setAccessible(true);
-                    int currentAmt = strAmtField.getInt(__instance);
-                    strAmtField.setInt(__instance, currentAmt - 3);
-                    increased = false;
-
-                    logger.info("Ascension 92: Fungi Beast strAmt reset to original");
+                FieldAccessor nextMoveField = ReflectionCache.ABSTRACT_MONSTER_NEXT_MOVE;
+                byte move = nextMoveField.getByte(monster);
+
+                if (move == 2 && increased.remove(monster) != null) { // GROW move just executed
+                    FieldAccessor strAmtField = ReflectionCache.FUNGI_BEAST_STR_AMT;
+                    int currentAmt = strAmtField.getInt(monster);
+                    strAmtField.setInt(monster, currentAmt - 3);
+
+                    AscensionLog.trace(logger, "Ascension 92: Fungi Beast strAmt reset to original");
                 }
             } catch (Exception e) {
                 logger.error("Failed to reset Fungi Beast strAmt", e);
@@ -581,35 +561,20 @@ public class Level92 {
     /**
      * Spiker gains +4 extra Thorns from Buff pattern at A92+
      */
-    @SpirePatch(
-        clz = Spiker.class,
-        method = "takeTurn"
-    )
     public static class SpikerExtraThorns {
         private static final ThreadLocal<Byte> lastMove = new ThreadLocal<>();
 
-        @SpirePrefixPatch
-        public static void Prefix(Spiker __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 92) {
-                return;
-            }
-
+        public static void beforeTurn(Spiker monster) {
             try {
-                Field nextMoveField = AbstractMonster.class.getDeclaredField("nextMove");
-                nextMoveField.setAccessible(true);
-                byte move = nextMoveField.getByte(__instance);
+                FieldAccessor nextMoveField = ReflectionCache.ABSTRACT_MONSTER_NEXT_MOVE;
+                byte move = nextMoveField.getByte(monster);
                 lastMove.set(move);
             } catch (Exception e) {
                 logger.error("Failed to get Spiker move", e);
             }
         }
 
-        @SpirePostfixPatch
-        public static void Postfix(Spiker __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 92) {
-                return;
-            }
-
+        public static void afterTurn(Spiker monster) {
             Byte move = lastMove.get();
             if (move != null && move == 2) { // BUFF_THORNS move
                 // Find and modify the last ApplyPowerAction with ThornsPower
@@ -618,22 +583,22 @@ public class Level92 {
                         AbstractGameAction action = AbstractDungeon.actionManager.actions.get(i);
 
                         if (action instanceof ApplyPowerAction) {
-                            Field powerToApplyField = ApplyPowerAction.class.getDeclaredField("powerToApply");
-                            powerToApplyField.setAccessible(true);
+                            FieldAccessor powerToApplyField = ReflectionCache.APPLY_POWER_ACTION_POWER_TO_APPLY;
                             AbstractPower power = (AbstractPower) powerToApplyField.get(action);
 
-                            if (power instanceof ThornsPower && power.owner == __instance) {
+                            if (power instanceof ThornsPower && power.owner == monster) {
                                 power.amount += 4;
 
-                                Field amountField = ApplyPowerAction.class.getDeclaredField("amount");
-                                amountField.setAccessible(true);
+                                FieldAccessor amountField = ReflectionCache.APPLY_POWER_ACTION_AMOUNT;
                                 int currentAmount = amountField.getInt(action);
                                 amountField.setInt(action, currentAmount + 4);
 
-                                logger.info(String.format(
-                                    "Ascension 92: Spiker Thorns increased by +4 (total: %d)",
-                                    power.amount
-                                ));
+                                if (AscensionLog.isTracing()) {
+                                    logger.info(String.format(
+                                        "Ascension 92: Spiker Thorns increased by +4 (total: %d)",
+                                        power.amount
+                                    ));
+                                }
                                 break;
                             }
                         }
@@ -652,35 +617,20 @@ public class Level92 {
      * Base game: adds 1 Burn to discard AND draw pile
      * A92+: adds 1 MORE Burn to EACH pile (total 2 burns: 1 to draw, 1 to discard)
      */
-    @SpirePatch(
-        clz = OrbWalker.class,
-        method = "takeTurn"
-    )
     public static class OrbWalkerExtraBurns {
         private static final ThreadLocal<Byte> lastMove = new ThreadLocal<>();
 
-        @SpirePrefixPatch
-        public static void Prefix(OrbWalker __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 92) {
-                return;
-            }
-
+        public static void beforeTurn(OrbWalker monster) {
             try {
-                Field nextMoveField = AbstractMonster.class.getDeclaredField("nextMove");
-                nextMoveField.setAccessible(true);
-                byte move = nextMoveField.getByte(__instance);
+                FieldAccessor nextMoveField = ReflectionCache.ABSTRACT_MONSTER_NEXT_MOVE;
+                byte move = nextMoveField.getByte(monster);
                 lastMove.set(move);
             } catch (Exception e) {
                 logger.error("Failed to get Orb Walker move", e);
             }
         }
 
-        @SpirePostfixPatch
-        public static void Postfix(OrbWalker __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 92) {
-                return;
-            }
-
+        public static void afterTurn(OrbWalker monster) {
             Byte move = lastMove.get();
             if (move != null && move == 1) { // LASER move
                 // Add 1 extra Burn to draw pile
@@ -701,7 +651,7 @@ public class Level92 {
                     )
                 );
 
-                logger.info("Ascension 92: Orb Walker added 2 extra Burns (1 to draw pile, 1 to discard pile)");
+                AscensionLog.trace(logger, "Ascension 92: Orb Walker added 2 extra Burns (1 to draw pile, 1 to discard pile)");
             }
 
             lastMove.remove();
@@ -713,47 +663,32 @@ public class Level92 {
      * Base game: RegrowPower (Life Link) on revive
      * A92+: Additional RegenerateMonsterPower(2) on revive for HP regeneration
      */
-    @SpirePatch(
-        clz = Darkling.class,
-        method = "takeTurn"
-    )
     public static class DarklingRegeneration {
         private static final ThreadLocal<Byte> lastMove = new ThreadLocal<>();
 
-        @SpirePrefixPatch
-        public static void Prefix(Darkling __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 92) {
-                return;
-            }
-
+        public static void beforeTurn(Darkling monster) {
             try {
-                Field nextMoveField = AbstractMonster.class.getDeclaredField("nextMove");
-                nextMoveField.setAccessible(true);
-                byte move = nextMoveField.getByte(__instance);
+                FieldAccessor nextMoveField = ReflectionCache.ABSTRACT_MONSTER_NEXT_MOVE;
+                byte move = nextMoveField.getByte(monster);
                 lastMove.set(move);
             } catch (Exception e) {
                 logger.error("Failed to get Darkling move", e);
             }
         }
 
-        @SpirePostfixPatch
-        public static void Postfix(Darkling __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 92) {
-                return;
-            }
-
+        public static void afterTurn(Darkling monster) {
             Byte move = lastMove.get();
             if (move != null && move == 5) { // REINCARNATE move
                 AbstractDungeon.actionManager.addToBottom(
                     new ApplyPowerAction(
-                        (AbstractCreature)__instance,
-                        (AbstractCreature)__instance,
-                        new RegenerateMonsterPower(__instance, 2),
+                        (AbstractCreature)monster,
+                        (AbstractCreature)monster,
+                        new RegenerateMonsterPower(monster, 2),
                         2
                     )
                 );
 
-                logger.info("Ascension 92: Darkling gained Regeneration 2 on revive");
+                AscensionLog.trace(logger, "Ascension 92: Darkling gained Regeneration 2 on revive");
             }
 
             lastMove.remove();
@@ -765,47 +700,32 @@ public class Level92 {
      * Base game: ATTACK move (1) applies Frail 2
      * A92+: Additional WeakPower 2 on ATTACK move
      */
-    @SpirePatch(
-        clz = Healer.class,
-        method = "takeTurn"
-    )
     public static class HealerExtraWeak {
         private static final ThreadLocal<Byte> lastMove = new ThreadLocal<>();
 
-        @SpirePrefixPatch
-        public static void Prefix(Healer __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 92) {
-                return;
-            }
-
+        public static void beforeTurn(Healer monster) {
             try {
-                Field nextMoveField = AbstractMonster.class.getDeclaredField("nextMove");
-                nextMoveField.setAccessible(true);
-                byte move = nextMoveField.getByte(__instance);
+                FieldAccessor nextMoveField = ReflectionCache.ABSTRACT_MONSTER_NEXT_MOVE;
+                byte move = nextMoveField.getByte(monster);
                 lastMove.set(move);
             } catch (Exception e) {
                 logger.error("Failed to get Healer move", e);
             }
         }
 
-        @SpirePostfixPatch
-        public static void Postfix(Healer __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 92) {
-                return;
-            }
-
+        public static void afterTurn(Healer monster) {
             Byte move = lastMove.get();
             if (move != null && move == 1) { // ATTACK move
                 AbstractDungeon.actionManager.addToBottom(
                     new ApplyPowerAction(
                         (AbstractCreature)AbstractDungeon.player,
-                        (AbstractCreature)__instance,
+                        (AbstractCreature)monster,
                         new WeakPower((AbstractCreature)AbstractDungeon.player, 2, true),
                         2
                     )
                 );
 
-                logger.info("Ascension 92: Healer applied Weak 2 on debuff attack");
+                AscensionLog.trace(logger, "Ascension 92: Healer applied Weak 2 on debuff attack");
             }
 
             lastMove.remove();
@@ -817,35 +737,20 @@ public class Level92 {
      * Base game: Anger 2 (A18: Anger 3)
      * A92+: Total Anger 5 on BELLOW move (increases the existing ApplyPowerAction)
      */
-    @SpirePatch(
-        clz = GremlinNob.class,
-        method = "takeTurn"
-    )
     public static class GremlinNobExtraAnger {
         private static final ThreadLocal<Byte> lastMove = new ThreadLocal<>();
 
-        @SpirePrefixPatch
-        public static void Prefix(GremlinNob __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 92) {
-                return;
-            }
-
+        public static void beforeTurn(GremlinNob monster) {
             try {
-                Field nextMoveField = AbstractMonster.class.getDeclaredField("nextMove");
-                nextMoveField.setAccessible(true);
-                byte move = nextMoveField.getByte(__instance);
+                FieldAccessor nextMoveField = ReflectionCache.ABSTRACT_MONSTER_NEXT_MOVE;
+                byte move = nextMoveField.getByte(monster);
                 lastMove.set(move);
             } catch (Exception e) {
                 logger.error("Failed to get Gremlin Nob move", e);
             }
         }
 
-        @SpirePostfixPatch
-        public static void Postfix(GremlinNob __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 92) {
-                return;
-            }
-
+        public static void afterTurn(GremlinNob monster) {
             Byte move = lastMove.get();
             if (move != null && move == 3) { // BELLOW move
                 // Find and modify the last ApplyPowerAction with AngerPower
@@ -854,23 +759,23 @@ public class Level92 {
                         AbstractGameAction action = AbstractDungeon.actionManager.actions.get(i);
 
                         if (action instanceof ApplyPowerAction) {
-                            Field powerToApplyField = ApplyPowerAction.class.getDeclaredField("powerToApply");
-                            powerToApplyField.setAccessible(true);
+                            FieldAccessor powerToApplyField = ReflectionCache.APPLY_POWER_ACTION_POWER_TO_APPLY;
                             AbstractPower power = (AbstractPower) powerToApplyField.get(action);
 
-                            if (power instanceof AngerPower && power.owner == __instance) {
+                            if (power instanceof AngerPower && power.owner == monster) {
                                 // Increase the amount by 2
                                 power.amount += 2;
 
-                                Field amountField = ApplyPowerAction.class.getDeclaredField("amount");
-                                amountField.setAccessible(true);
+                                FieldAccessor amountField = ReflectionCache.APPLY_POWER_ACTION_AMOUNT;
                                 int currentAmount = amountField.getInt(action);
                                 amountField.setInt(action, currentAmount + 2);
 
-                                logger.info(String.format(
-                                    "Ascension 92: Gremlin Nob Anger increased by +2 (total: %d)",
-                                    power.amount
-                                ));
+                                if (AscensionLog.isTracing()) {
+                                    logger.info(String.format(
+                                        "Ascension 92: Gremlin Nob Anger increased by +2 (total: %d)",
+                                        power.amount
+                                    ));
+                                }
                                 break;
                             }
                         }
@@ -889,66 +794,51 @@ public class Level92 {
      * Base game: Dazed 2 (A18: Dazed 3)
      * A92+: Dazed 4 total on BOLT move
      *
-     * Uses Prefix to increase dazedAmt BEFORE takeTurn executes,
+     * Uses beforeTurn to increase dazedAmt BEFORE takeTurn executes,
      * so all 4 Dazed cards are added at once instead of 3+1 separately
      */
-    @SpirePatch(
-        clz = Sentry.class,
-        method = "takeTurn"
-    )
     public static class SentryExtraDazed {
-        private static boolean increased = false;
-
-        @SpirePrefixPatch
-        public static void Prefix(Sentry __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 92) {
-                return;
-            }
+        // Sentries whose dazedAmt is raised for the current takeTurn
+        private static final CombatScopedState<Sentry, Boolean> increased =
+            CombatScopedState.create("Level92.SentryExtraDazed", 8);
 
+        public static void beforeTurn(Sentry monster) {
             try {
                 // Check if BOLT move (3)
-                Field nextMoveField = AbstractMonster.class.getDeclaredField("nextMove");
-                nextMoveField.setAccessible(true);
-                byte move = nextMoveField.getByte(__instance);
+                FieldAccessor nextMoveField = ReflectionCache.ABSTRACT_MONSTER_NEXT_MOVE;
+                byte move = nextMoveField.getByte(monster);
 
-                if (move == 3 && !increased) { // BOLT move
+                if (move == 3 && !increased.containsKey(monster)) { // BOLT move
                     // Increase dazedAmt by 1 BEFORE takeTurn executes
-                    Field dazedAmtField = Sentry.class.getDeclaredField("dazedAmt");
-                    dazedAmtField.setAccessible(true);
-                    int originalAmt = dazedAmtField.getInt(__instance);
-                    dazedAmtField.setInt(__instance, originalAmt + 1);
-                    increased = true;
-
-                    logger.info(String.format(
-                        "Ascension 92: Sentry dazedAmt increased from %d to %d (will add all at once)",
-                        originalAmt, originalAmt + 1
-                    ));
+                    FieldAccessor dazedAmtField = ReflectionCache.SENTRY_DAZED_AMT;
+                    int originalAmt = dazedAmtField.getInt(monster);
+                    dazedAmtField.setInt(monster, originalAmt + 1);
+                    increased.put(monster, Boolean.TRUE);
+
+                    if (AscensionLog.isTracing()) {
+                        logger.info(String.format(
+                            "Ascension 92: Sentry dazedAmt increased from %d to %d (will add all at once)",
+                            originalAmt, originalAmt + 1
+                        ));
+                    }
                 }
             } catch (Exception e) {
                 logger.error("Failed to increase Sentry dazedAmt", e);
             }
         }
 
-        @SpirePostfixPatch
-        public static void Postfix(Sentry __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 92) {
-                return;
-            }
-
+        public static void afterTurn(Sentry monster) {
             try {
                 // Reset dazedAmt back to original after BOLT move
-                Field nextMoveField = AbstractMonster.class.getDeclaredField("nextMove");
-                nextMoveField.setAccessible(true);
-                byte move = nextMoveField.getByte(__instance);
-
-                if (move == 3 && increased) { // BOLT move just executed
-                    Field dazedAmtField = Sentry.class.getDeclaredField("dazedAmt");
-                    dazedAmtField.setAccessible(true);
-                    int currentAmt = dazedAmtField.getInt(__instance);
-                    dazedAmtField.setInt(__instance, currentAmt - 1);
-                    increased = false;
-
-                    logger.info("Ascension 92: Sentry dazedAmt reset to original");
+                FieldAccessor nextMoveField = ReflectionCache.ABSTRACT_MONSTER_NEXT_MOVE;
+                byte move = nextMoveField.getByte(monster);
+
+                if (move == 3 && increased.remove(monster) != null) { // BOLT move just executed
+                    FieldAccessor dazedAmtField = ReflectionCache.SENTRY_DAZED_AMT;
+                    int currentAmt = dazedAmtField.getInt(monster);
+                    dazedAmtField.setInt(monster, currentAmt - 1);
+
+                    AscensionLog.trace(logger, "Ascension 92: Sentry dazedAmt reset to original");
                 }
             } catch (Exception e) {
                 logger.error("Failed to reset Sentry dazedAmt", e);
@@ -961,35 +851,20 @@ public class Level92 {
      * Base game: Wound 1 (A3: 2, A18: 3)
      * A92+: Additional Wound 1 on SCOURING_WHIP move
      */
-    @SpirePatch(
-        clz = Taskmaster.class,
-        method = "takeTurn"
-    )
     public static class TaskmasterExtraWound {
         private static final ThreadLocal<Byte> lastMove = new ThreadLocal<>();
 
-        @SpirePrefixPatch
-        public static void Prefix(Taskmaster __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 92) {
-                return;
-            }
-
+        public static void beforeTurn(Taskmaster monster) {
             try {
-                Field nextMoveField = AbstractMonster.class.getDeclaredField("nextMove");
-                nextMoveField.setAccessible(true);
-                byte move = nextMoveField.getByte(__instance);
+                FieldAccessor nextMoveField = ReflectionCache.ABSTRACT_MONSTER_NEXT_MOVE;
+                byte move = nextMoveField.getByte(monster);
                 lastMove.set(move);
             } catch (Exception e) {
                 logger.error("Failed to get Taskmaster move", e);
             }
         }
 
-        @SpirePostfixPatch
-        public static void Postfix(Taskmaster __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 92) {
-                return;
-            }
-
+        public static void afterTurn(Taskmaster monster) {
             Byte move = lastMove.get();
             if (move != null && move == 2) { // SCOURING_WHIP move
                 AbstractDungeon.actionManager.addToBottom(
@@ -999,7 +874,7 @@ public class Level92 {
                     )
                 );
 
-                logger.info("Ascension 92: Taskmaster added 1 extra Wound from attack");
+                AscensionLog.trace(logger, "Ascension 92: Taskmaster added 1 extra Wound from attack");
             }
 
             lastMove.remove();
@@ -1011,35 +886,20 @@ public class Level92 {
      * Base game: Burn 3 (A18: Burn 5)
      * A92+: Additional Burn 2 on TRI_BURN move
      */
-    @SpirePatch(
-        clz = Nemesis.class,
-        method = "takeTurn"
-    )
     public static class NemesisExtraBurns {
         private static final ThreadLocal<Byte> lastMove = new ThreadLocal<>();
 
-        @SpirePrefixPatch
-        public static void Prefix(Nemesis __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 92) {
-                return;
-            }
-
+        public static void beforeTurn(Nemesis monster) {
             try {
-                Field nextMoveField = AbstractMonster.class.getDeclaredField("nextMove");
-                nextMoveField.setAccessible(true);
-                byte move = nextMoveField.getByte(__instance);
+                FieldAccessor nextMoveField = ReflectionCache.ABSTRACT_MONSTER_NEXT_MOVE;
+                byte move = nextMoveField.getByte(monster);
                 lastMove.set(move);
             } catch (Exception e) {
                 logger.error("Failed to get Nemesis move", e);
             }
         }
 
-        @SpirePostfixPatch
-        public static void Postfix(Nemesis __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 92) {
-                return;
-            }
-
+        public static void afterTurn(Nemesis monster) {
             Byte move = lastMove.get();
             if (move != null && move == 4) { // TRI_BURN move
                 AbstractDungeon.actionManager.addToBottom(
@@ -1049,7 +909,7 @@ public class Level92 {
                     )
                 );
 
-                logger.info("Ascension 92: Nemesis added 2 extra Burns from debuff pattern");
+                AscensionLog.trace(logger, "Ascension 92: Nemesis added 2 extra Burns from debuff pattern");
             }
 
             lastMove.remove();
@@ -1071,22 +931,23 @@ public class Level92 {
     public static class BookOfStabbingExtraStabIntent {
         @SpirePrefixPatch
         public static void Prefix(BookOfStabbing __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 92) {
+            if (!AscensionRuleSet.isActive(92)) {
                 return;
             }
 
             try {
                 // Increase stabCount by 1 BEFORE getMove executes
                 // This ensures the intent display shows the correct number of hits
-                Field stabCountField = BookOfStabbing.class.getDeclaredField("stabCount");
-                stabCountField.setAccessible(true);
+                FieldAccessor stabCountField = ReflectionCache.BOOK_OF_STABBING_STAB_COUNT;
                 int originalCount = stabCountField.getInt(__instance);
                 stabCountField.setInt(__instance, originalCount + 1);
 
-                logger.info(String.format(
-                    "Ascension 92: Book of Stabbing stabCount temporarily increased from %d to %d for getMove()",
-                    originalCount, originalCount + 1
-                ));
+                if (AscensionLog.isTracing()) {
+                    logger.info(String.format(
+                        "Ascension 92: Book of Stabbing stabCount temporarily increased from %d to %d for getMove()",
+                        originalCount, originalCount + 1
+                    ));
+                }
             } catch (Exception e) {
                 logger.error("Failed to increase Book of Stabbing stabCount", e);
             }
@@ -1094,18 +955,17 @@ public class Level92 {
 
         @SpirePostfixPatch
         public static void Postfix(BookOfStabbing __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 92) {
+            if (!AscensionRuleSet.isActive(92)) {
                 return;
             }
 
             try {
                 // Reset stabCount back to original after getMove
-                Field stabCountField = BookOfStabbing.class.getDeclaredField("stabCount");
-                stabCountField.setAccessible(true);
+                FieldAccessor stabCountField = ReflectionCache.BOOK_OF_STABBING_STAB_COUNT;
                 int currentCount = stabCountField.getInt(__instance);
                 stabCountField.setInt(__instance, currentCount - 1);
 
-                logger.info("Ascension 92: Book of Stabbing stabCount reset to original after getMove()");
+                AscensionLog.trace(logger, "Ascension 92: Book of Stabbing stabCount reset to original after getMove()");
             } catch (Exception e) {
                 logger.error("Failed to reset Book of Stabbing stabCount", e);
             }
@@ -1115,59 +975,43 @@ public class Level92 {
     /**
      * Part 2: Modifies stabCount before takeTurn() for actual execution
      */
-    @SpirePatch(
-        clz = BookOfStabbing.class,
-        method = "takeTurn"
-    )
     public static class BookOfStabbingExtraStabExecution {
-        @SpirePrefixPatch
-        public static void Prefix(BookOfStabbing __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 92) {
-                return;
-            }
-
+        public static void beforeTurn(BookOfStabbing monster) {
             try {
                 // Check if STAB move (1)
-                Field nextMoveField = AbstractMonster.class.getDeclaredField("nextMove");
-                nextMoveField.setAccessible(true);
-                byte move = nextMoveField.getByte(__instance);
+                FieldAccessor nextMoveField = ReflectionCache.ABSTRACT_MONSTER_NEXT_MOVE;
+                byte move = nextMoveField.getByte(monster);
 
                 if (move == 1) { // STAB move
                     // Increase stabCount by 1 BEFORE takeTurn executes
-                    Field stabCountField = BookOfStabbing.class.getDeclaredField("stabCount");
-                    stabCountField.setAccessible(true);
-                    int originalCount = stabCountField.getInt(__instance);
-                    stabCountField.setInt(__instance, originalCount + 1);
-
-                    logger.info(String.format(
-                        "Ascension 92: Book of Stabbing stabCount increased from %d to %d for execution",
-                        originalCount, originalCount + 1
-                    ));
+                    FieldAccessor stabCountField = ReflectionCache.BOOK_OF_STABBING_STAB_COUNT;
+                    int originalCount = stabCountField.getInt(monster);
+                    stabCountField.setInt(monster, originalCount + 1);
+
+                    if (AscensionLog.isTracing()) {
+                        logger.info(String.format(
+                            "Ascension 92: Book of Stabbing stabCount increased from %d to %d for execution",
+                            originalCount, originalCount + 1
+                        ));
+                    }
                 }
             } catch (Exception e) {
                 logger.error("Failed to increase Book of Stabbing stabCount for execution", e);
             }
         }
 
-        @SpirePostfixPatch
-        public static void Postfix(BookOfStabbing __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 92) {
-                return;
-            }
-
+        public static void afterTurn(BookOfStabbing monster) {
             try {
                 // Reset stabCount back to original after STAB move
-                Field nextMoveField = AbstractMonster.class.getDeclaredField("nextMove");
-                nextMoveField.setAccessible(true);
-                byte move = nextMoveField.getByte(__instance);
+                FieldAccessor nextMoveField = ReflectionCache.ABSTRACT_MONSTER_NEXT_MOVE;
+                byte move = nextMoveField.getByte(monster);
 
                 if (move == 1) { // STAB move just executed
-                    Field stabCountField = BookOfStabbing.class.getDeclaredField("stabCount");
-                    stabCountField.setAccessible(true);
-                    int currentCount = stabCountField.getInt(__instance);
-                    stabCountField.setInt(__instance, currentCount - 1);
+                    FieldAccessor stabCountField = ReflectionCache.BOOK_OF_STABBING_STAB_COUNT;
+                    int currentCount = stabCountField.getInt(monster);
+                    stabCountField.setInt(monster, currentCount - 1);
 
-                    logger.info("Ascension 92: Book of Stabbing stabCount reset to original after execution");
+                    AscensionLog.trace(logger, "Ascension 92: Book of Stabbing stabCount reset to original after execution");
                 }
             } catch (Exception e) {
                 logger.error("Failed to reset Book of Stabbing stabCount after execution", e);
@@ -1184,31 +1028,21 @@ public class Level92 {
      * IMPORTANT: Modify strAmt field in constructor, not action queue
      * The original game uses this.strAmt in takeTurn() case 3 (ENCOURAGE)
      */
-    @SpirePatch(
-        clz = GremlinLeader.class,
-        method = SpirePatch.CONSTRUCTOR
-    )
-    public static class GremlinLeaderExtraStrength {
-        @SpirePostfixPatch
-        public static void Postfix(GremlinLeader __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 92) {
-                return;
-            }
-
-            try {
-                // Increase strAmt field by 4
-                Field strAmtField = GremlinLeader.class.getDeclaredField("strAmt");
-                strAmtField.setAccessible(true);
-                int currentStrAmt = strAmtField.getInt(__instance);
-                strAmtField.setInt(__instance, currentStrAmt + 4);
-
+    private static void gremlinLeaderExtraStrength(GremlinLeader monster) {
+        try {
+            // Increase strAmt field by 4
+            FieldAccessor strAmtField = ReflectionCache.GREMLIN_LEADER_STR_AMT;
+            int currentStrAmt = strAmtField.getInt(monster);
+            strAmtField.setInt(monster, currentStrAmt + 4);
+
+            if (AscensionLog.isTracing()) {
                 logger.info(String.format(
                     "Ascension 92: Gremlin Leader strAmt increased from %d to %d (+4)",
                     currentStrAmt, currentStrAmt + 4
                 ));
-            } catch (Exception e) {
-                logger.error("Failed to modify Gremlin Leader strAmt", e);
             }
+        } catch (Exception e) {
+            logger.error("Failed to modify Gremlin Leader strAmt", e);
         }
     }
 
@@ -1217,34 +1051,25 @@ public class Level92 {
      * Base game: Dexterity -2, Strength -2 (A18+)
      * A92+: Additional -1 Str, -1 Dex, -1 Focus
      */
-    @SpirePatch(
-        clz = Lagavulin.class,
-        method = "takeTurn"
-    )
     public static class LagavulinEnhancedDebuff {
-        @SpirePostfixPatch
-        public static void Postfix(Lagavulin __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 92) {
-                return;
-            }
-
+        public static void afterTurn(Lagavulin monster) {
             // Siphon Soul is move 1 (DEBUFF)
-            if (__instance.nextMove == 1) {
+            if (monster.nextMove == 1) {
                 // Additional -1 Strength, -1 Dexterity, -1 Focus to player
                 AbstractDungeon.actionManager.addToBottom(
-                    new ApplyPowerAction(AbstractDungeon.player, __instance,
+                    new ApplyPowerAction(AbstractDungeon.player, monster,
                         new StrengthPower(AbstractDungeon.player, -1), -1)
                 );
                 AbstractDungeon.actionManager.addToBottom(
-                    new ApplyPowerAction(AbstractDungeon.player, __instance,
+                    new ApplyPowerAction(AbstractDungeon.player, monster,
                         new DexterityPower(AbstractDungeon.player, -1), -1)
                 );
                 AbstractDungeon.actionManager.addToBottom(
-                    new ApplyPowerAction(AbstractDungeon.player, __instance,
+                    new ApplyPowerAction(AbstractDungeon.player, monster,
                         new FocusPower(AbstractDungeon.player, -1), -1)
                 );
 
-                logger.info("Ascension 92: Lagavulin Siphon Soul enhanced - Additional Str/Dex/Focus -1");
+                AscensionLog.trace(logger, "Ascension 92: Lagavulin Siphon Soul enhanced - Additional Str/Dex/Focus -1");
             }
         }
     }
@@ -1254,35 +1079,20 @@ public class Level92 {
      * Base game: Confusion can be blocked by Artifact
      * A92+: Confusion is applied directly, bypassing Artifact
      */
-    @SpirePatch(
-        clz = Snecko.class,
-        method = "takeTurn"
-    )
     public static class SneckoConfusionBypassArtifact {
         private static final ThreadLocal<Byte> lastMove = new ThreadLocal<>();
 
-        @SpirePrefixPatch
-        public static void Prefix(Snecko __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 92) {
-                return;
-            }
-
+        public static void beforeTurn(Snecko monster) {
             try {
-                Field nextMoveField = AbstractMonster.class.getDeclaredField("nextMove");
-                nextMoveField.setAccessible(true);
-                byte move = nextMoveField.getByte(__instance);
+                FieldAccessor nextMoveField = ReflectionCache.ABSTRACT_MONSTER_NEXT_MOVE;
+                byte move = nextMoveField.getByte(monster);
                 lastMove.set(move);
             } catch (Exception e) {
                 logger.error("Failed to get Snecko move", e);
             }
         }
 
-        @SpirePostfixPatch
-        public static void Postfix(Snecko __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 92) {
-                return;
-            }
-
+        public static void afterTurn(Snecko monster) {
             Byte move = lastMove.get();
             if (move != null && move == 1) { // GLARE move
                 // Force apply Confusion, bypassing Artifact
@@ -1292,7 +1102,7 @@ public class Level92 {
                     AbstractDungeon.player.powers.add(confusion);
                     confusion.onInitialApplication();
 
-                    logger.info("Ascension 92: Snecko applied Confusion bypassing Artifact");
+                    AscensionLog.trace(logger, "Ascension 92: Snecko applied Confusion bypassing Artifact");
                 }
             }
 
@@ -1305,42 +1115,26 @@ public class Level92 {
      *
      * 소환 패턴에서 4마리 단검 보장
      */
-    @SpirePatch(
-        clz = Reptomancer.class,
-        method = "takeTurn"
-    )
     public static class ReptomancerGuaranteedDaggers {
         private static final ThreadLocal<Byte> lastMove = new ThreadLocal<>();
 
-        @SpirePrefixPatch
-        public static void Prefix(Reptomancer __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 92) {
-                return;
-            }
-
+        public static void beforeTurn(Reptomancer monster) {
             try {
-                Field nextMoveField = AbstractMonster.class.getDeclaredField("nextMove");
-                nextMoveField.setAccessible(true);
-                byte move = nextMoveField.getByte(__instance);
+                FieldAccessor nextMoveField = ReflectionCache.ABSTRACT_MONSTER_NEXT_MOVE;
+                byte move = nextMoveField.getByte(monster);
                 lastMove.set(move);
             } catch (Exception e) {
                 logger.error("Failed to get Reptomancer move", e);
             }
         }
 
-        @SpirePostfixPatch
-        public static void Postfix(Reptomancer __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 92) {
-                return;
-            }
-
+        public static void afterTurn(Reptomancer monster) {
             Byte move = lastMove.get();
             if (move != null && move == 2) { // SPAWN_DAGGER move
                 try {
                     // Access private daggers array
-                    Field daggersField = Reptomancer.class.getDeclaredField("daggers");
-                    daggersField.setAccessible(true);
-                    AbstractMonster[] daggers = (AbstractMonster[]) daggersField.get(__instance);
+                    FieldAccessor daggersField = ReflectionCache.REPTOMANCER_DAGGERS;
+                    AbstractMonster[] daggers = (AbstractMonster[]) daggersField.get(monster);
 
                     // Fill all empty dagger slots
                     for (int i = 0; i < daggers.length; i++) {
@@ -1354,10 +1148,12 @@ public class Level92 {
                                 new SpawnMonsterAction(daggerToSpawn, true)
                             );
 
-                            logger.info(String.format(
-                                "Ascension 92: Reptomancer spawned dagger at slot %d",
-                                i
-                            ));
+                            if (AscensionLog.isTracing()) {
+                                logger.info(String.format(
+                                    "Ascension 92: Reptomancer spawned dagger at slot %d",
+                                    i
+                                ));
+                            }
                         }
                     }
                 } catch (Exception e) {
@@ -1381,7 +1177,7 @@ public class Level92 {
     public static class SlaverRedEnhancedEntangle {
         @SpirePrefixPatch
         public static SpireReturn<Void> Prefix(SlaverRed __instance, int num) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 92) {
+            if (!AscensionRuleSet.isActive(92)) {
                 return SpireReturn.Continue();
             }
 
@@ -1400,29 +1196,28 @@ public class Level92 {
                 }
 
                 // Access private usedEntangle field
-                Field usedEntangleField = SlaverRed.class.getDeclaredField("usedEntangle");
-                usedEntangleField.setAccessible(true);
+                FieldAccessor usedEntangleField = ReflectionCache.SLAVER_RED_USED_ENTANGLE;
                 boolean usedEntangle = usedEntangleField.getBoolean(__instance);
 
                 // Access private firstTurn field
-                Field firstTurnField = SlaverRed.class.getDeclaredField("firstTurn");
-                firstTurnField.setAccessible(true);
+                FieldAccessor firstTurnField = ReflectionCache.SLAVER_RED_FIRST_TURN;
                 boolean firstTurn = firstTurnField.getBoolean(__instance);
 
                 // If Taskmaster present and num >= 50 (instead of 75), force Entangle
                 if (num >= 50 && num < 75 && !usedEntangle && !firstTurn) {
                     // Get ENTANGLE_NAME from MOVES array
-                    Field movesField = SlaverRed.class.getDeclaredField("MOVES");
-                    movesField.setAccessible(true);
+                    FieldAccessor movesField = ReflectionCache.SLAVER_RED_MOVES;
                     String[] moves = (String[]) movesField.get(null);
                     String entangleName = moves[1]; // ENTANGLE_NAME = MOVES[1]
 
                     __instance.setMove(entangleName, (byte)2, AbstractMonster.Intent.STRONG_DEBUFF);
 
-                    logger.info(String.format(
-                        "Ascension 92: Slaver Red enhanced Entangle chance with Taskmaster (num=%d >= 50)",
-                        num
-                    ));
+                    if (AscensionLog.isTracing()) {
+                        logger.info(String.format(
+                            "Ascension 92: Slaver Red enhanced Entangle chance with Taskmaster (num=%d >= 50)",
+                            num
+                        ));
+                    }
 
                     return SpireReturn.Return(null);
                 }
@@ -1439,35 +1234,20 @@ public class Level92 {
      * Base game: INFERNO move (6) adds 3 upgraded Burns via BurnIncreaseAction
      * A92+: Additional 2 upgraded Burns to discard pile
      */
-    @SpirePatch(
-        clz = com.megacrit.cardcrawl.monsters.exordium.Hexaghost.class,
-        method = "takeTurn"
-    )
     public static class HexaghostInfernoExtraBurns {
         private static final ThreadLocal<Byte> lastMove = new ThreadLocal<>();
 
-        @SpirePrefixPatch
-        public static void Prefix(com.megacrit.cardcrawl.monsters.exordium.Hexaghost __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 92) {
-                return;
-            }
-
+        public static void beforeTurn(com.megacrit.cardcrawl.monsters.exordium.Hexaghost monster) {
             try {
-                Field nextMoveField = AbstractMonster.class.getDeclaredField("nextMove");
-                nextMoveField.setAccessible(true);
-                byte move = nextMoveField.getByte(__instance);
+                FieldAccessor nextMoveField = ReflectionCache.ABSTRACT_MONSTER_NEXT_MOVE;
+                byte move = nextMoveField.getByte(monster);
                 lastMove.set(move);
             } catch (Exception e) {
                 logger.error("Failed to get Hexaghost move", e);
             }
         }
 
-        @SpirePostfixPatch
-        public static void Postfix(com.megacrit.cardcrawl.monsters.exordium.Hexaghost __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 92) {
-                return;
-            }
-
+        public static void afterTurn(com.megacrit.cardcrawl.monsters.exordium.Hexaghost monster) {
             Byte move = lastMove.get();
             if (move != null && move == 6) { // INFERNO move
                 // Add 2 upgraded Burns to discard pile
@@ -1483,7 +1263,7 @@ public class Level92 {
                     new MakeTempCardInDiscardAction((AbstractCard) burn2, 1)
                 );
 
-                logger.info("Ascension 92: Hexaghost Inferno added 2 extra Burns to discard pile");
+                AscensionLog.trace(logger, "Ascension 92: Hexaghost Inferno added 2 extra Burns to discard pile");
             }
 
             lastMove.remove();
@@ -1501,7 +1281,7 @@ public class Level92 {
     public static class GuardianSharpHideIncrease {
         @SpirePostfixPatch
         public static void Postfix(TheGuardian __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 92) {
+            if (!AscensionRuleSet.isActive(92)) {
                 return;
             }
 
@@ -1512,7 +1292,7 @@ public class Level92 {
                     new SharpHidePower(__instance, 2), 2)
             );
 
-            logger.info("Ascension 92: Guardian gained +2 additional Sharp Hide in defensive mode (stacks with Level 54)");
+            AscensionLog.trace(logger, "Ascension 92: Guardian gained +2 additional Sharp Hide in defensive mode (stacks with Level 54)");
         }
     }
 
@@ -1520,35 +1300,20 @@ public class Level92 {
      * Guardian: Fierce Bash damage +8
      * 수호자: 매서운 강타 패턴의 데미지가 8 증가합니다
      */
-    @SpirePatch(
-        clz = TheGuardian.class,
-        method = "takeTurn"
-    )
     public static class GuardianFierceBashDamageIncrease {
         private static final ThreadLocal<Byte> lastMove = new ThreadLocal<>();
 
-        @SpirePrefixPatch
-        public static void Prefix(TheGuardian __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 92) {
-                return;
-            }
-
+        public static void beforeTurn(TheGuardian monster) {
             try {
-                Field nextMoveField = AbstractMonster.class.getDeclaredField("nextMove");
-                nextMoveField.setAccessible(true);
-                byte move = nextMoveField.getByte(__instance);
+                FieldAccessor nextMoveField = ReflectionCache.ABSTRACT_MONSTER_NEXT_MOVE;
+                byte move = nextMoveField.getByte(monster);
                 lastMove.set(move);
             } catch (Exception e) {
                 logger.error("Failed to get Guardian move", e);
             }
         }
 
-        @SpirePostfixPatch
-        public static void Postfix(TheGuardian __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 92) {
-                return;
-            }
-
+        public static void afterTurn(TheGuardian monster) {
             Byte move = lastMove.get();
             if (move != null && move == 1) { // FIERCE_BASH move
                 // Find and increase damage for Fierce Bash attack
@@ -1557,19 +1322,20 @@ public class Level92 {
                         AbstractGameAction action = AbstractDungeon.actionManager.actions.get(i);
 
                         if (action instanceof DamageAction) {
-                            Field infoField = DamageAction.class.getDeclaredField("info");
-                            infoField.setAccessible(true);
+                            FieldAccessor infoField = ReflectionCache.DAMAGE_ACTION_INFO;
                             DamageInfo info = (DamageInfo) infoField.get(action);
 
-                            if (info != null && info.owner == __instance) {
+                            if (info != null && info.owner == monster) {
                                 int originalDamage = info.base;
                                 info.base += 8;
                                 info.output += 8;
 
-                                logger.info(String.format(
-                                    "Ascension 92: Guardian Fierce Bash damage increased from %d to %d (+8)",
-                                    originalDamage, info.base
-                                ));
+                                if (AscensionLog.isTracing()) {
+                                    logger.info(String.format(
+                                        "Ascension 92: Guardian Fierce Bash damage increased from %d to %d (+8)",
+                                        originalDamage, info.base
+                                    ));
+                                }
                                 break;
                             }
                         }
@@ -1589,55 +1355,39 @@ public class Level92 {
      * Level 27: +1 additional Curiosity (total 3)
      * Level 92: +2 additional Curiosity (total 5)
      */
-    @SpirePatch(
-        clz = AwakenedOne.class,
-        method = "usePreBattleAction"
-    )
     public static class AwakenedOneCuriosityPatch {
-        @SpirePostfixPatch
-        public static void Postfix(AwakenedOne __instance) {
-            if (AbstractDungeon.isAscensionMode && AbstractDungeon.ascensionLevel >= 92) {
-                // Add 2 Curiosity (base 2 + level 27 adds 1 = 3, then we add 2 more = 5 total)
-                AbstractDungeon.actionManager.addToBottom(
-                    new ApplyPowerAction(__instance, __instance,
-                        new CuriosityPower(__instance, 2), 2)
-                );
-                logger.info("Ascension 92: AwakenedOne Curiosity +2 (total: 5)");
-            }
+        public static void afterPreBattle(AwakenedOne monster) {
+            // Add 2 Curiosity (base 2 + level 27 adds 1 = 3, then we add 2 more = 5 total)
+            AbstractDungeon.actionManager.addToBottom(
+                new ApplyPowerAction(monster, monster,
+                    new CuriosityPower(monster, 2), 2)
+            );
+            AscensionLog.trace(logger, "Ascension 92: AwakenedOne Curiosity +2 (total: 5)");
         }
     }
 
     /**
      * Mugger: Smoke Bomb block +12
      */
-    @SpirePatch(
-        clz = Mugger.class,
-        method = "takeTurn"
-    )
     public static class MuggerSmokeBombBlockIncrease {
-        @SpirePostfixPatch
-        public static void Postfix(Mugger __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 92) {
-                return;
-            }
-
+        public static void afterTurn(Mugger monster) {
             try {
                 // Check if Smoke Bomb move (LUNGE move)
-                Field nextMoveField = AbstractMonster.class.getDeclaredField("nextMove");
-                nextMoveField.setAccessible(true);
-                byte move = nextMoveField.getByte(__instance);
+                FieldAccessor nextMoveField = ReflectionCache.ABSTRACT_MONSTER_NEXT_MOVE;
+                byte move = nextMoveField.getByte(monster);
 
                 if (move == 3) { // LUNGE (Smoke Bomb) move
                     // Increase escapeDef by 12 (in addition to Level53's +3)
-                    Field escapeDefField = Mugger.class.getDeclaredField("escapeDef");
-                    escapeDefField.setAccessible(true);
-                    int currentEscapeDef = escapeDefField.getInt(__instance);
-                    escapeDefField.setInt(__instance, currentEscapeDef + 12);
-
-                    logger.info(String.format(
-                        "Ascension 92: Mugger Smoke Bomb block increased by 12 to %d",
-                        currentEscapeDef + 12
-                    ));
+                    FieldAccessor escapeDefField = ReflectionCache.MUGGER_ESCAPE_DEF;
+                    int currentEscapeDef = escapeDefField.getInt(monster);
+                    escapeDefField.setInt(monster, currentEscapeDef + 12);
+
+                    if (AscensionLog.isTracing()) {
+                        logger.info(String.format(
+                            "Ascension 92: Mugger Smoke Bomb block increased by 12 to %d",
+                            currentEscapeDef + 12
+                        ));
+                    }
                 }
             } catch (Exception e) {
                 logger.error("Failed to modify Mugger Smoke Bomb block", e);
@@ -1649,49 +1399,35 @@ public class Level92 {
      * Looter: Thievery +10
      *
      * IMPORTANT: Must modify goldAmt field BEFORE usePreBattleAction creates ThieveryPower
-     * Separate patch required because ShelledParasiteAndOthers runs in Postfix
+     * Separate modifier required because ShelledParasiteAndOthers runs after usePreBattleAction
      */
-    @SpirePatch(
-        clz = com.megacrit.cardcrawl.monsters.exordium.Looter.class,
-        method = "usePreBattleAction"
-    )
     public static class LooterThieveryIncrease {
-        @SpirePrefixPatch
-        public static void Prefix(com.megacrit.cardcrawl.monsters.exordium.Looter __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 92) {
-                return;
-            }
-
+        public static void beforePreBattle(com.megacrit.cardcrawl.monsters.exordium.Looter monster) {
             try {
                 // Increase goldAmt BEFORE ThieveryPower is created
-                Field goldAmtField = com.megacrit.cardcrawl.monsters.exordium.Looter.class.getDeclaredField("goldAmt");
-                goldAmtField.setAccessible(true);
-                int currentGoldAmt = goldAmtField.getInt(__instance);
-                goldAmtField.setInt(__instance, currentGoldAmt + 10);
+                FieldAccessor goldAmtField = ReflectionCache.LOOTER_GOLD_AMT;
+                int currentGoldAmt = goldAmtField.getInt(monster);
+                goldAmtField.setInt(monster, currentGoldAmt + 10);
 
-                logger.info(String.format(
-                    "Ascension 92: Looter goldAmt increased from %d to %d (Thievery will be %d)",
-                    currentGoldAmt, currentGoldAmt + 10, currentGoldAmt + 10
-                ));
+                if (AscensionLog.isTracing()) {
+                    logger.info(String.format(
+                        "Ascension 92: Looter goldAmt increased from %d to %d (Thievery will be %d)",
+                        currentGoldAmt, currentGoldAmt + 10, currentGoldAmt + 10
+                    ));
+                }
             } catch (Exception e) {
                 logger.error("Failed to modify Looter goldAmt", e);
             }
         }
 
-        @SpirePostfixPatch
-        public static void Postfix(com.megacrit.cardcrawl.monsters.exordium.Looter __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 92) {
-                return;
-            }
-
+        public static void afterPreBattle(com.megacrit.cardcrawl.monsters.exordium.Looter monster) {
             try {
                 // Reset goldAmt back to original after ThieveryPower is created
-                Field goldAmtField = com.megacrit.cardcrawl.monsters.exordium.Looter.class.getDeclaredField("goldAmt");
-                goldAmtField.setAccessible(true);
-                int currentGoldAmt = goldAmtField.getInt(__instance);
-                goldAmtField.setInt(__instance, currentGoldAmt - 10);
+                FieldAccessor goldAmtField = ReflectionCache.LOOTER_GOLD_AMT;
+                int currentGoldAmt = goldAmtField.getInt(monster);
+                goldAmtField.setInt(monster, currentGoldAmt - 10);
 
-                logger.info("Ascension 92: Looter goldAmt reset to original (Thievery amount remains increased)");
+                AscensionLog.trace(logger, "Ascension 92: Looter goldAmt reset to original (Thievery amount remains increased)");
             } catch (Exception e) {
                 logger.error("Failed to reset Looter goldAmt", e);
             }
@@ -1702,49 +1438,35 @@ public class Level92 {
      * Mugger: Thievery +20
      *
      * IMPORTANT: Must modify goldAmt field BEFORE usePreBattleAction creates ThieveryPower
-     * Separate patch required because ShelledParasiteAndOthers runs in Postfix
+     * Separate modifier required because ShelledParasiteAndOthers runs after usePreBattleAction
      */
-    @SpirePatch(
-        clz = com.megacrit.cardcrawl.monsters.city.Mugger.class,
-        method = "usePreBattleAction"
-    )
     public static class MuggerThieveryIncrease {
-        @SpirePrefixPatch
-        public static void Prefix(com.megacrit.cardcrawl.monsters.city.Mugger __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 92) {
-                return;
-            }
-
+        public static void beforePreBattle(com.megacrit.cardcrawl.monsters.city.Mugger monster) {
             try {
                 // Increase goldAmt BEFORE ThieveryPower is created
-                Field goldAmtField = com.megacrit.cardcrawl.monsters.city.Mugger.class.getDeclaredField("goldAmt");
-                goldAmtField.setAccessible(true);
-                int currentGoldAmt = goldAmtField.getInt(__instance);
-                goldAmtField.setInt(__instance, currentGoldAmt + 20);
+                FieldAccessor goldAmtField = ReflectionCache.MUGGER_GOLD_AMT;
+                int currentGoldAmt = goldAmtField.getInt(monster);
+                goldAmtField.setInt(monster, currentGoldAmt + 20);
 
-                logger.info(String.format(
-                    "Ascension 92: Mugger goldAmt increased from %d to %d (Thievery will be %d)",
-                    currentGoldAmt, currentGoldAmt + 20, currentGoldAmt + 20
-                ));
+                if (AscensionLog.isTracing()) {
+                    logger.info(String.format(
+                        "Ascension 92: Mugger goldAmt increased from %d to %d (Thievery will be %d)",
+                        currentGoldAmt, currentGoldAmt + 20, currentGoldAmt + 20
+                    ));
+                }
             } catch (Exception e) {
                 logger.error("Failed to modify Mugger goldAmt", e);
             }
         }
 
-        @SpirePostfixPatch
-        public static void Postfix(com.megacrit.cardcrawl.monsters.city.Mugger __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 92) {
-                return;
-            }
-
+        public static void afterPreBattle(com.megacrit.cardcrawl.monsters.city.Mugger monster) {
             try {
                 // Reset goldAmt back to original after ThieveryPower is created
-                Field goldAmtField = com.megacrit.cardcrawl.monsters.city.Mugger.class.getDeclaredField("goldAmt");
-                goldAmtField.setAccessible(true);
-                int currentGoldAmt = goldAmtField.getInt(__instance);
-                goldAmtField.setInt(__instance, currentGoldAmt - 20);
+                FieldAccessor goldAmtField = ReflectionCache.MUGGER_GOLD_AMT;
+                int currentGoldAmt = goldAmtField.getInt(monster);
+                goldAmtField.setInt(monster, currentGoldAmt - 20);
 
-                logger.info("Ascension 92: Mugger goldAmt reset to original (Thievery amount remains increased)");
+                AscensionLog.trace(logger, "Ascension 92: Mugger goldAmt reset to original (Thievery amount remains increased)");
             } catch (Exception e) {
                 logger.error("Failed to reset Mugger goldAmt", e);
             }
@@ -1754,36 +1476,26 @@ public class Level92 {
     /**
      * GremlinThief (교활한 그렘린): Damage +7
      */
-    @SpirePatch(
-        clz = GremlinThief.class,
-        method = SpirePatch.CONSTRUCTOR
-    )
-    public static class GremlinThiefDamagePatch92 {
-        @SpirePostfixPatch
-        public static void Postfix(GremlinThief __instance, float x, float y) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 92) {
-                return;
-            }
+    private static void gremlinThiefDamage(GremlinThief monster) {
+        try {
+            // Increase thiefDamage field by 7
+            FieldAccessor thiefDamageField = ReflectionCache.GREMLIN_THIEF_THIEF_DAMAGE;
+            int currentDamage = thiefDamageField.getInt(monster);
+            thiefDamageField.setInt(monster, currentDamage + 7);
 
-            try {
-                // Increase thiefDamage field by 7
-                Field thiefDamageField = GremlinThief.class.getDeclaredField("thiefDamage");
-                thiefDamageField.setAccessible(true);
-                int currentDamage = thiefDamageField.getInt(__instance);
-                thiefDamageField.setInt(__instance, currentDamage + 7);
-
-                // Update damage info
-                if (!__instance.damage.isEmpty()) {
-                    __instance.damage.get(0).base += 7;
-                }
+            // Update damage info
+            if (!monster.damage.isEmpty()) {
+                monster.damage.get(0).base += 7;
+            }
 
+            if (AscensionLog.isTracing()) {
                 logger.info(String.format(
                     "Ascension 92: GremlinThief damage increased from %d to %d (+7)",
                     currentDamage, currentDamage + 7
                 ));
-            } catch (Exception e) {
-                logger.error("Failed to modify GremlinThief damage", e);
             }
+        } catch (Exception e) {
+            logger.error("Failed to modify GremlinThief damage", e);
         }
     }
 
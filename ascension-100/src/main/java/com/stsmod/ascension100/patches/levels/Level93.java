@@ -1,12 +1,6 @@
 package com.stsmod.ascension100.patches.levels;
 
 import com.badlogic.gdx.math.MathUtils;
-import com.evacipated.cardcrawl.modthespire.lib.SpirePatch;
-import com.evacipated.cardcrawl.modthespire.lib.SpirePostfixPatch;
-import com.megacrit.cardcrawl.dungeons.AbstractDungeon;
-import com.megacrit.cardcrawl.relics.AbstractRelic;
-import org.apache.logging.log4j.LogManager;
-import org.apache.logging.log4j.Logger;
 
 /**
  * Ascension Level 93: Shop relic prices increased
@@ -14,30 +8,12 @@ import org.apache.logging.log4j.Logger;
  * 유물의 가격이 증가합니다.
  *
  * 상점의 유물 가격이 10% 증가합니다.
+ *
+ * Applied by ShopPriceModel
  */
 public class Level93 {
-    private static final Logger logger = LogManager.getLogger(Level93.class.getName());
-
-    @SpirePatch(
-        clz = AbstractRelic.class,
-        method = "getPrice"
-    )
-    public static class RelicPriceIncrease {
-        @SpirePostfixPatch
-        public static int Postfix(int __result) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 93) {
-                return __result;
-            }
-
-            int originalPrice = __result;
-            int newPrice = MathUtils.ceil(__result * 1.10f);
-
-            logger.debug(String.format(
-                "Ascension 93: Relic price increased from %d to %d (+10%%)",
-                originalPrice, newPrice
-            ));
 
-            return newPrice;
-        }
+    public static int modifyRelicPrice(int price) {
+        return MathUtils.ceil(price * 1.10f);
     }
 }
@@ -9,6 +9,11 @@ import com.megacrit.cardcrawl.events.shrines.GoldShrine;
 import com.megacrit.cardcrawl.events.shrines.PurificationShrine;
 import com.megacrit.cardcrawl.events.shrines.WomanInBlue;
 import com.megacrit.cardcrawl.vfx.RainingGoldEffect;
+import com.stsmod.ascension100.util.AscensionLog;
+import com.stsmod.ascension100.util.AscensionRuleSet;
+import com.stsmod.ascension100.util.FieldAccessor;
+import com.stsmod.ascension100.util.ReflectionCache;
+import com.stsmod.ascension100.util.RngRecorder;
 import javassist.CtBehavior;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -26,6 +31,9 @@ import org.apache.logging.log4j.Logger;
 public class Level94 {
     private static final Logger logger = LogManager.getLogger(Level94.class.getName());
 
+    // RNG call sites (see RngRecorder)
+    private static final int GOLD_SHRINE_ROLL = RngRecorder.site("Level94.goldShrineRoll", RngRecorder.Stream.MISC);
+
     /**
      * WomanInBlue: "Leave" option now reduces current HP and max HP by 50%
      */
@@ -36,15 +44,14 @@ public class Level94 {
     public static class WomanInBlueLeaveHarsh {
         @SpirePostfixPatch
         public static void Postfix(WomanInBlue __instance, int buttonPressed) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 94) {
+            if (!AscensionRuleSet.isActive(94)) {
                 return;
             }
 
             // Only apply to "Leave" option (case 3)
             // Check screen is INTRO and buttonPressed is 3
             try {
-                java.lang.reflect.Field screenField = WomanInBlue.class.getDeclaredField("screen");
-                screenField.setAccessible(true);
+                FieldAccessor screenField = ReflectionCache.WOMAN_IN_BLUE_SCREEN;
                 Object screen = screenField.get(__instance);
 
                 if (screen.toString().equals("INTRO") && buttonPressed == 3) {
@@ -56,10 +63,12 @@ public class Level94 {
                     int maxHPLoss = MathUtils.ceil(AbstractDungeon.player.maxHealth * 0.5f);
                     AbstractDungeon.player.decreaseMaxHealth(maxHPLoss);
 
-                    logger.info(String.format(
-                        "Ascension 94: Woman in Blue 'Leave' - Lost %d current HP and %d max HP (50%%)",
-                        currentHPLoss, maxHPLoss
-                    ));
+                    if (AscensionLog.isTracing()) {
+                        logger.info(String.format(
+                            "Ascension 94: Woman in Blue 'Leave' - Lost %d current HP and %d max HP (50%%)",
+                            currentHPLoss, maxHPLoss
+                        ));
+                    }
                 }
             } catch (Exception e) {
                 logger.error("Failed to modify Woman in Blue event", e);
@@ -77,19 +86,18 @@ public class Level94 {
     public static class GoldShrinePrayFail {
         @SpirePrefixPatch
         public static SpireReturn<Void> Prefix(GoldShrine __instance, int buttonPressed) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 94) {
+            if (!AscensionRuleSet.isActive(94)) {
                 return SpireReturn.Continue();
             }
 
             // Only apply to "Pray" option (case 0)
             try {
-                java.lang.reflect.Field screenField = GoldShrine.class.getDeclaredField("screen");
-                screenField.setAccessible(true);
+                FieldAccessor screenField = ReflectionCache.GOLD_SHRINE_SCREEN;
                 Object screen = screenField.get(__instance);
 
                 if (screen.toString().equals("INTRO") && buttonPressed == 0) {
                     // 50% chance to fail
-                    int roll = AbstractDungeon.miscRng.random(0, 99);
+                    int roll = RngRecorder.random(GOLD_SHRINE_ROLL, AbstractDungeon.miscRng, 0, 99);
                     if (roll < 50) {
                         // Failed - give nothing
                         try {
@@ -99,24 +107,17 @@ public class Level94 {
                             screenField.set(__instance, completeScreen);
 
                             // Update dialog
-                            java.lang.reflect.Field imageEventTextField = __instance.getClass().getSuperclass().getDeclaredField("imageEventText");
-                            imageEventTextField.setAccessible(true);
-                            Object imageEventText = imageEventTextField.get(__instance);
+                            __instance.imageEventText.updateBodyText("The shrine does not respond to your prayer.");
 
-                            java.lang.reflect.Method updateBodyText = imageEventText.getClass().getMethod("updateBodyText", String.class);
-                            updateBodyText.invoke(imageEventText, "The shrine does not respond to your prayer.");
-
-                            java.lang.reflect.Field optionsField = GoldShrine.class.getDeclaredField("OPTIONS");
-                            optionsField.setAccessible(true);
+                            FieldAccessor optionsField = ReflectionCache.GOLD_SHRINE_OPTIONS;
                             String[] options = (String[]) optionsField.get(null);
 
-                            java.lang.reflect.Method updateDialogOption = imageEventText.getClass().getMethod("updateDialogOption", int.class, String.class);
-                            updateDialogOption.invoke(imageEventText, 0, options[3]);
-
-                            java.lang.reflect.Method clearRemainingOptions = imageEventText.getClass().getMethod("clearRemainingOptions");
-                            clearRemainingOptions.invoke(imageEventText);
+                            __instance.imageEventText.updateDialogOption(0, options[3]);
+                            __instance.imageEventText.clearRemainingOptions();
 
-                            logger.info(String.format("Ascension 94: Golden Shrine 'Pray' failed (Roll: %d < 50)", roll));
+                            if (AscensionLog.isTracing()) {
+                                logger.info(String.format("Ascension 94: Golden Shrine 'Pray' failed (Roll: %d < 50)", roll));
+                            }
 
                             return SpireReturn.Return(null);
                         } catch (Exception e2) {
@@ -142,21 +143,20 @@ public class Level94 {
     public static class DesignerPunchMaxHPLoss {
         @SpirePostfixPatch
         public static void Postfix(Designer __instance, int buttonPressed) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 94) {
+            if (!AscensionRuleSet.isActive(94)) {
                 return;
             }
 
             // Only apply to "Punch" option (case 3)
             try {
-                java.lang.reflect.Field screenField = Designer.class.getDeclaredField("curScreen");
-                screenField.setAccessible(true);
+                FieldAccessor screenField = ReflectionCache.DESIGNER_CUR_SCREEN;
                 Object screen = screenField.get(__instance);
 
                 if (screen.toString().equals("INTRO") && buttonPressed == 3) {
                     // Decrease max HP by 10 instead of damaging
                     AbstractDungeon.player.decreaseMaxHealth(10);
 
-                    logger.info("Ascension 94: Designer 'Punch' - Decreased max HP by 10");
+                    AscensionLog.trace(logger, "Ascension 94: Designer 'Punch' - Decreased max HP by 10");
                 }
             } catch (Exception e) {
                 logger.error("Failed to modify Designer event", e);
@@ -178,7 +178,7 @@ public class Level94 {
     public static class FountainOfCleansingAlwaysSpawn {
         @SpirePrefixPatch
         public static void Prefix(com.megacrit.cardcrawl.random.Random rng) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 94) {
+            if (!AscensionRuleSet.isActive(94)) {
                 return;
             }
 
@@ -190,7 +190,7 @@ public class Level94 {
 
                 // Temporarily move it to shrineList so it bypasses the isCursed check
                 AbstractDungeon.shrineList.add("Fountain of Cleansing");
-                logger.info("Ascension 94: Fountain of Cleansing added to shrine pool without curse cards");
+                AscensionLog.trace(logger, "Ascension 94: Fountain of Cleansing added to shrine pool without curse cards");
             }
         }
 
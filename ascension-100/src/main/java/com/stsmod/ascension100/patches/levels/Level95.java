@@ -1,12 +1,12 @@
 package com.stsmod.ascension100.patches.levels;
 
-import com.evacipated.cardcrawl.modthespire.lib.SpirePatch;
-import com.evacipated.cardcrawl.modthespire.lib.SpirePostfixPatch;
 import com.megacrit.cardcrawl.actions.common.ApplyPowerAction;
 import com.megacrit.cardcrawl.core.AbstractCreature;
 import com.megacrit.cardcrawl.dungeons.AbstractDungeon;
 import com.megacrit.cardcrawl.monsters.MonsterGroup;
 import com.stsmod.ascension100.powers.TurnLimitPower;
+import com.stsmod.ascension100.patches.unified.SharedHooks;
+import com.stsmod.ascension100.util.AscensionLog;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -21,30 +21,26 @@ import org.apache.logging.log4j.Logger;
 public class Level95 {
     private static final Logger logger = LogManager.getLogger(Level95.class.getName());
 
-    @SpirePatch(
-        clz = MonsterGroup.class,
-        method = "usePreBattleAction"
-    )
-    public static class ApplyTurnLimitPower {
-        @SpirePostfixPatch
-        public static void Postfix(MonsterGroup __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 95) {
-                return;
-            }
+    /**
+     * Listeners for SharedHooks, linked only while this level is active
+     */
+    public static void registerHooks() {
+        SharedHooks.GROUP_PRE_BATTLE.register(95, Level95::applyTurnLimitPower);
+    }
 
-            // Apply Turn Limit 15 to player at battle start
-            if (AbstractDungeon.player != null) {
-                AbstractDungeon.actionManager.addToBottom(
-                    new ApplyPowerAction(
-                        (AbstractCreature)AbstractDungeon.player,
-                        (AbstractCreature)AbstractDungeon.player,
-                        new TurnLimitPower((AbstractCreature)AbstractDungeon.player, 15),
-                        15
-                    )
-                );
+    private static void applyTurnLimitPower(MonsterGroup group) {
+        // Apply Turn Limit 15 to player at battle start
+        if (AbstractDungeon.player != null) {
+            AbstractDungeon.actionManager.addToBottom(
+                new ApplyPowerAction(
+                    (AbstractCreature)AbstractDungeon.player,
+                    (AbstractCreature)AbstractDungeon.player,
+                    new TurnLimitPower((AbstractCreature)AbstractDungeon.player, 15),
+                    15
+                )
+            );
 
-                logger.info("Ascension 95: Applied Turn Limit 15 to player (die on turn 15)");
-            }
+            AscensionLog.trace(logger, "Ascension 95: Applied Turn Limit 15 to player (die on turn 15)");
         }
     }
 }
@@ -2,9 +2,10 @@ package com.stsmod.ascension100.patches.levels;
 
 import com.evacipated.cardcrawl.modthespire.lib.SpirePatch;
 import com.evacipated.cardcrawl.modthespire.lib.SpirePostfixPatch;
-import com.megacrit.cardcrawl.dungeons.AbstractDungeon;
 import com.megacrit.cardcrawl.rooms.MonsterRoom;
 import com.megacrit.cardcrawl.rooms.MonsterRoomElite;
+import com.stsmod.ascension100.util.AscensionLog;
+import com.stsmod.ascension100.util.AscensionRuleSet;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -33,7 +34,7 @@ public class Level97 {
     public static class ReduceRareCardChanceNormal {
         @SpirePostfixPatch
         public static void Postfix(MonsterRoom __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 97) {
+            if (!AscensionRuleSet.isActive(97)) {
                 return;
             }
 
@@ -43,7 +44,7 @@ public class Level97 {
             // Increase uncommon card chance from 38% to 39%
             __instance.baseUncommonCardChance = 39;
 
-            logger.info("Ascension 97: Further adjusted card rarity chances for normal combat (Rare: 1%, Uncommon: 39%)");
+            AscensionLog.trace(logger, "Ascension 97: Further adjusted card rarity chances for normal combat (Rare: 1%, Uncommon: 39%)");
         }
     }
 
@@ -57,7 +58,7 @@ public class Level97 {
     public static class ReduceRareCardChanceElite {
         @SpirePostfixPatch
         public static void Postfix(MonsterRoomElite __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 97) {
+            if (!AscensionRuleSet.isActive(97)) {
                 return;
             }
 
@@ -67,7 +68,7 @@ public class Level97 {
             // Increase uncommon card chance from 38% to 39%
             __instance.baseUncommonCardChance = 39;
 
-            logger.info("Ascension 97: Further adjusted card rarity chances for elite combat (Rare: 1%, Uncommon: 39%)");
+            AscensionLog.trace(logger, "Ascension 97: Further adjusted card rarity chances for elite combat (Rare: 1%, Uncommon: 39%)");
         }
     }
 }
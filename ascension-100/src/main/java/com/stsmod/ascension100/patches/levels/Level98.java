@@ -2,8 +2,11 @@ package com.stsmod.ascension100.patches.levels;
 
 import com.evacipated.cardcrawl.modthespire.lib.SpirePatch;
 import com.evacipated.cardcrawl.modthespire.lib.SpirePostfixPatch;
-import com.megacrit.cardcrawl.dungeons.AbstractDungeon;
 import com.megacrit.cardcrawl.vfx.campfire.CampfireSleepEffect;
+import com.stsmod.ascension100.util.AscensionLog;
+import com.stsmod.ascension100.util.AscensionRuleSet;
+import com.stsmod.ascension100.util.FieldAccessor;
+import com.stsmod.ascension100.util.ReflectionCache;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -24,23 +27,24 @@ public class Level98 {
     public static class ReduceRestHealing {
         @SpirePostfixPatch
         public static void Postfix(CampfireSleepEffect __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 98) {
+            if (!AscensionRuleSet.isActive(98)) {
                 return;
             }
 
             try {
                 // Access private healAmount field using reflection
-                java.lang.reflect.Field healAmountField = CampfireSleepEffect.class.getDeclaredField("healAmount");
-                healAmountField.setAccessible(true);
+                FieldAccessor healAmountField = ReflectionCache.CAMPFIRE_SLEEP_EFFECT_HEAL_AMOUNT;
 
                 int originalHeal = healAmountField.getInt(__instance);
                 int newHeal = Math.max(1, originalHeal - 5);
                 healAmountField.setInt(__instance, newHeal);
 
-                logger.info(String.format(
-                    "Ascension 98: Campfire rest healing reduced from %d to %d (-5)",
-                    originalHeal, newHeal
-                ));
+                if (AscensionLog.isTracing()) {
+                    logger.info(String.format(
+                        "Ascension 98: Campfire rest healing reduced from %d to %d (-5)",
+                        originalHeal, newHeal
+                    ));
+                }
             } catch (Exception e) {
                 logger.error("Failed to modify campfire healing", e);
             }
@@ -1,5 +1,7 @@
 package com.stsmod.ascension100.patches.levels;
 
+import basemod.BaseMod;
+import basemod.abstracts.CustomSavable;
 import com.badlogic.gdx.math.MathUtils;
 import com.evacipated.cardcrawl.modthespire.lib.*;
 import com.megacrit.cardcrawl.characters.AbstractPlayer;
@@ -7,11 +9,20 @@ import com.megacrit.cardcrawl.core.CardCrawlGame;
 import com.megacrit.cardcrawl.dungeons.AbstractDungeon;
 import com.megacrit.cardcrawl.map.MapRoomNode;
 import com.megacrit.cardcrawl.rewards.RewardItem;
-import com.megacrit.cardcrawl.rooms.AbstractRoom;
+import com.megacrit.cardcrawl.screens.CombatRewardScreen;
+import com.stsmod.ascension100.Ascension100Mod;
+import com.stsmod.ascension100.util.AscensionLog;
+import com.stsmod.ascension100.util.AscensionRuleSet;
+import com.stsmod.ascension100.util.FieldAccessor;
+import com.stsmod.ascension100.util.ReflectionCache;
+import com.stsmod.ascension100.util.RngRecorder;
+import com.stsmod.ascension100.util.Telemetry;
 import javassist.CtBehavior;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import java.util.ArrayList;
+
 /**
  * Ascension Level 99: Unfair events occur
  *
@@ -28,79 +39,246 @@ import org.apache.logging.log4j.Logger;
 public class Level99 {
     private static final Logger logger = LogManager.getLogger(Level99.class.getName());
 
+    // RNG call sites (see RngRecorder)
+    private static final int UNFAIR_EFFECT_ROLL = RngRecorder.site("Level99.unfairEffect", RngRecorder.Stream.MISC);
+    private static final int GOLD_LOSS_ROLL = RngRecorder.site("Level99.goldLoss", RngRecorder.Stream.MISC);
+    private static final int MAX_HP_LOSS_ROLL = RngRecorder.site("Level99.maxHpLoss", RngRecorder.Stream.MISC);
+    private static final int POTION_REMOVAL_ROLL = RngRecorder.site("Level99.potionRemoval", RngRecorder.Stream.MISC);
+    private static final int RELIC_REMOVAL_ROLL = RngRecorder.site("Level99.relicRemoval", RngRecorder.Stream.MISC);
+
+    /** Rolled value when the run has no unfair event (never rolled, or below Ascension 99) */
+    public static final int NO_EVENT = -1;
+
+    /**
+     * One rolled unfair event; every callback defaults to doing nothing
+     */
+    public interface UnfairEvent {
+        default void onRunStart(AbstractPlayer player) {
+        }
+
+        /** @return combat gold after the event */
+        default int modifyCombatGold(int gold) {
+            return gold;
+        }
+
+        default void onFloorEntered(MapRoomNode node) {
+        }
+
+        default void modifyRewards(ArrayList<RewardItem> rewards) {
+        }
+    }
+
+    // Event per tens digit of the rolled value (0~49); 50~99 is a normal run
+    private static final UnfairEvent[] EVENTS = {
+        new StartingHpLoss(),
+        new CombatGoldLoss(),
+        new FloorMaxHpLoss(),
+        new PotionRewardLoss(),
+        new RelicRewardLoss()
+    };
+
     /**
-     * Tracker for Level 99 unfair events
+     * Rolled value of the current run and the event it installed
+     *
+     * The value is rolled once when a new run creates its character and saved with
+     * the run (see registerSaveField), so a continued run keeps its event.
+     * Only the rolled event is installed; a normal run installs none, and the
+     * hooks below then cost a single null check.
      */
     public static class UnfairEventTracker {
-        public static int randomValue = -1;
-        public static boolean isInitialized = false;
+        private static int randomValue = NO_EVENT;
+        private static UnfairEvent active = null;
+
+        public static int getRandomValue() {
+            return randomValue;
+        }
 
-        public static void initialize() {
-            if (!isInitialized) {
-                randomValue = AbstractDungeon.miscRng.random(0, 99);
-                isInitialized = true;
+        /**
+         * @return the installed event, or null for a normal run
+         */
+        public static UnfairEvent getActive() {
+            return active;
+        }
+
+        /**
+         * Roll the event of a new run (Ascension 99+ only)
+         */
+        public static void roll() {
+            if (!AscensionRuleSet.isActive(99)) {
+                install(NO_EVENT);
+                return;
+            }
+            install(RngRecorder.random(UNFAIR_EFFECT_ROLL, AbstractDungeon.miscRng, 0, 99));
+            if (AscensionLog.isTracing()) {
                 logger.info(String.format("Ascension 99: Unfair event initialized with random value: %d", randomValue));
             }
         }
 
-        public static void reset() {
-            randomValue = -1;
-            isInitialized = false;
+        /**
+         * Install the event for a rolled (or saved) value
+         */
+        public static void install(int value) {
+            randomValue = value;
+            active = value >= 0 && value < EVENTS.length * 10 ? EVENTS[value / 10] : null;
         }
+    }
 
-        public static boolean isEffect1Active() {
-            return randomValue >= 0 && randomValue <= 9;
+    /**
+     * Keep the rolled value in the run save (once, from receivePostInitialize)
+     * Saves from older versions have no value and continue as a normal run
+     */
+    public static void registerSaveField() {
+        BaseMod.addSaveField(Ascension100Mod.makeID("unfairEvent"), new CustomSavable<Integer>() {
+            @Override
+            public Integer onSave() {
+                return UnfairEventTracker.getRandomValue();
+            }
+
+            @Override
+            public void onLoad(Integer value) {
+                UnfairEventTracker.install(value != null ? value : NO_EVENT);
+                if (AscensionLog.isTracing()) {
+                    logger.info("Ascension 99: Unfair event value loaded from save: " + UnfairEventTracker.getRandomValue());
+                }
+            }
+        });
+    }
+
+    /**
+     * Effect 1 (0~9): Lose 30% HP at start
+     */
+    private static class StartingHpLoss implements UnfairEvent {
+        @Override
+        public void onRunStart(AbstractPlayer player) {
+            int hpLoss = MathUtils.ceil(player.maxHealth * 0.3f);
+            player.currentHealth = Math.max(1, player.currentHealth - hpLoss);
+
+            if (AscensionLog.isTracing()) {
+                logger.info(String.format(
+                    "Ascension 99 (Effect 1): Starting HP reduced by %d (30%%) - Current: %d/%d",
+                    hpLoss, player.currentHealth, player.maxHealth
+                ));
+            }
         }
+    }
 
-        public static boolean isEffect2Active() {
-            return randomValue >= 10 && randomValue <= 19;
+    /**
+     * Effect 2 (10~19): 20% chance to not gain gold from combat
+     */
+    private static class CombatGoldLoss implements UnfairEvent {
+        @Override
+        public int modifyCombatGold(int gold) {
+            int roll = RngRecorder.random(GOLD_LOSS_ROLL, AbstractDungeon.miscRng, 0, 99);
+            if (roll >= 20) {
+                return gold;
+            }
+            Telemetry.record(Telemetry.Event.GOLD_REWARD, 99, gold, 0);
+
+            if (AscensionLog.isTracing()) {
+                logger.info(String.format(
+                    "Ascension 99 (Effect 2): Combat gold blocked! (Roll: %d < 20, Original: %d)",
+                    roll, gold
+                ));
+            }
+            return 0;
         }
+    }
 
-        public static boolean isEffect3Active() {
-            return randomValue >= 20 && randomValue <= 29;
+    /**
+     * Effect 3 (20~29): 30% chance to lose 1 max HP when moving to next floor
+     */
+    private static class FloorMaxHpLoss implements UnfairEvent {
+        @Override
+        public void onFloorEntered(MapRoomNode node) {
+            // Only trigger when actually moving to a new floor (not initial map generation)
+            if (AbstractDungeon.player == null || node == null) {
+                return;
+            }
+            int roll = RngRecorder.random(MAX_HP_LOSS_ROLL, AbstractDungeon.miscRng, 0, 99);
+            if (roll < 30) {
+                AbstractDungeon.player.decreaseMaxHealth(1);
+
+                if (AscensionLog.isTracing()) {
+                    logger.info(String.format(
+                        "Ascension 99 (Effect 3): Max HP decreased by 1 when moving floor (Roll: %d < 30, Max HP: %d)",
+                        roll, AbstractDungeon.player.maxHealth
+                    ));
+                }
+            }
         }
+    }
 
-        public static boolean isEffect4Active() {
-            return randomValue >= 30 && randomValue <= 39;
+    /**
+     * Effect 4 (30~39): 50% chance to remove potion rewards
+     */
+    private static class PotionRewardLoss implements UnfairEvent {
+        @Override
+        public void modifyRewards(ArrayList<RewardItem> rewards) {
+            for (int i = rewards.size() - 1; i >= 0; i--) {
+                if (rewards.get(i).type == RewardItem.RewardType.POTION) {
+                    int roll = RngRecorder.random(POTION_REMOVAL_ROLL, AbstractDungeon.miscRng, 0, 99);
+                    if (roll < 50) {
+                        rewards.remove(i);
+                        if (AscensionLog.isTracing()) {
+                            logger.info(String.format(
+                                "Ascension 99 (Effect 4): Potion reward removed (Roll: %d < 50)",
+                                roll
+                            ));
+                        }
+                    }
+                }
+            }
         }
+    }
 
-        public static boolean isEffect5Active() {
-            return randomValue >= 40 && randomValue <= 49;
+    /**
+     * Effect 5 (40~49): 10% chance for elite to not give relic
+     */
+    private static class RelicRewardLoss implements UnfairEvent {
+        @Override
+        public void modifyRewards(ArrayList<RewardItem> rewards) {
+            for (int i = rewards.size() - 1; i >= 0; i--) {
+                if (rewards.get(i).type == RewardItem.RewardType.RELIC) {
+                    int roll = RngRecorder.random(RELIC_REMOVAL_ROLL, AbstractDungeon.miscRng, 0, 99);
+                    if (roll < 10) {
+                        rewards.remove(i);
+                        if (AscensionLog.isTracing()) {
+                            logger.info(String.format(
+                                "Ascension 99 (Effect 5): Elite relic reward removed (Roll: %d < 10)",
+                                roll
+                            ));
+                        }
+                    }
+                }
+            }
         }
     }
 
     /**
-     * Initialize random value and apply Effect 1: Lose 30% HP at start
+     * Roll the event for a new character (new run only) and apply Effect 1
+     * A loaded save restores its value instead (registerSaveField)
      */
     @SpirePatch(
-        clz = AbstractPlayer.class,
-        method = "initializeClass"
+        clz = CardCrawlGame.class,
+        method = "createCharacter"
     )
     public static class GameStartHPLoss {
         @SpirePostfixPatch
-        public static void Postfix(AbstractPlayer __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 99) {
+        public static void Postfix(AbstractPlayer __result) {
+            if (CardCrawlGame.loadingSave) {
                 return;
             }
 
-            // Initialize random value
-            UnfairEventTracker.initialize();
-
-            // Effect 1 (0~9): Lose 30% HP at start
-            if (UnfairEventTracker.isEffect1Active()) {
-                int hpLoss = MathUtils.ceil(__instance.maxHealth * 0.3f);
-                __instance.currentHealth = Math.max(1, __instance.currentHealth - hpLoss);
-
-                logger.info(String.format(
-                    "Ascension 99 (Effect 1): Starting HP reduced by %d (30%%) - Current: %d/%d",
-                    hpLoss, __instance.currentHealth, __instance.maxHealth
-                ));
+            UnfairEventTracker.roll();
+            UnfairEvent event = UnfairEventTracker.active;
+            if (event != null && __result != null) {
+                event.onRunStart(__result);
             }
         }
     }
 
     /**
-     * Effect 2: 20% chance to not gain gold from combat
+     * Effect 2: combat gold
      */
     @SpirePatch(
         clz = RewardItem.class,
@@ -112,22 +290,9 @@ public class Level99 {
             locator = GoldConstructorLocator.class
         )
         public static void Insert(RewardItem __instance, @ByRef int[] goldAmount) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 99) {
-                return;
-            }
-
-            // Effect 2 (10~19): 20% chance to not gain gold
-            if (UnfairEventTracker.isEffect2Active()) {
-                int roll = AbstractDungeon.miscRng.random(0, 99);
-                if (roll < 20) {
-                    int originalGold = goldAmount[0];
-                    goldAmount[0] = 0;
-
-                    logger.info(String.format(
-                        "Ascension 99 (Effect 2): Combat gold blocked! (Roll: %d < 20, Original: %d)",
-                        roll, originalGold
-                    ));
-                }
+            UnfairEvent event = UnfairEventTracker.active;
+            if (event != null) {
+                goldAmount[0] = event.modifyCombatGold(goldAmount[0]);
             }
         }
 
@@ -141,7 +306,7 @@ public class Level99 {
     }
 
     /**
-     * Effect 3: 30% chance to lose 1 max HP when moving to next floor
+     * Effect 3: floor transitions
      */
     @SpirePatch(
         clz = AbstractDungeon.class,
@@ -150,100 +315,37 @@ public class Level99 {
     public static class FloorTransitionMaxHPLoss {
         @SpirePostfixPatch
         public static void Postfix(MapRoomNode node) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 99) {
-                return;
-            }
-
-            // Effect 3 (20~29): 30% chance to lose 1 max HP when moving floor
-            if (UnfairEventTracker.isEffect3Active()) {
-                // Only trigger when actually moving to a new floor (not initial map generation)
-                if (AbstractDungeon.player != null && node != null) {
-                    int roll = AbstractDungeon.miscRng.random(0, 99);
-                    if (roll < 30) {
-                        AbstractDungeon.player.decreaseMaxHealth(1);
-
-                        logger.info(String.format(
-                            "Ascension 99 (Effect 3): Max HP decreased by 1 when moving floor (Roll: %d < 30, Max HP: %d)",
-                            roll, AbstractDungeon.player.maxHealth
-                        ));
-                    }
-                }
+            UnfairEvent event = UnfairEventTracker.active;
+            if (event != null) {
+                event.onFloorEntered(node);
             }
         }
     }
+
     /**
      * Effects 4 & 5: Modify combat rewards after they are generated
-     * Effect 4 (30~39): 50% chance to remove potion rewards
-     * Effect 5 (40~49): 10% chance to remove elite relic
      */
     @SpirePatch(
-        clz = com.megacrit.cardcrawl.screens.CombatRewardScreen.class,
+        clz = CombatRewardScreen.class,
         method = "setupItemReward"
     )
     public static class ModifyRewards {
         @SpirePostfixPatch
-        public static void Postfix(com.megacrit.cardcrawl.screens.CombatRewardScreen __instance) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 99) {
+        public static void Postfix(CombatRewardScreen __instance) {
+            UnfairEvent event = UnfairEventTracker.active;
+            if (event == null) {
                 return;
             }
 
             try {
                 // Access rewards list via reflection
-                java.lang.reflect.Field rewardsField = com.megacrit.cardcrawl.screens.CombatRewardScreen.class.getDeclaredField("rewards");
-                rewardsField.setAccessible(true);
+                FieldAccessor rewardsField = ReflectionCache.COMBAT_REWARD_SCREEN_REWARDS;
                 @SuppressWarnings("unchecked")
-                java.util.ArrayList<RewardItem> rewards = (java.util.ArrayList<RewardItem>) rewardsField.get(__instance);
-
-                // Effect 4 (30~39): 50% chance to remove potion from rewards
-                if (UnfairEventTracker.isEffect4Active()) {
-                    for (int i = rewards.size() - 1; i >= 0; i--) {
-                        RewardItem reward = rewards.get(i);
-                        if (reward.type == RewardItem.RewardType.POTION) {
-                            int roll = AbstractDungeon.miscRng.random(0, 99);
-                            if (roll < 50) {
-                                rewards.remove(i);
-                                logger.info(String.format(
-                                    "Ascension 99 (Effect 4): Potion reward removed (Roll: %d < 50)",
-                                    roll
-                                ));
-                            }
-                        }
-                    }
-                }
-
-                // Effect 5 (40~49): 10% chance for elite to not give relic
-                if (UnfairEventTracker.isEffect5Active()) {
-                    for (int i = rewards.size() - 1; i >= 0; i--) {
-                        RewardItem reward = rewards.get(i);
-                        if (reward.type == RewardItem.RewardType.RELIC) {
-                            int roll = AbstractDungeon.miscRng.random(0, 99);
-                            if (roll < 10) {
-                                rewards.remove(i);
-                                logger.info(String.format(
-                                    "Ascension 99 (Effect 5): Elite relic reward removed (Roll: %d < 10)",
-                                    roll
-                                ));
-                            }
-                        }
-                    }
-                }
+                ArrayList<RewardItem> rewards = (ArrayList<RewardItem>) rewardsField.get(__instance);
+                event.modifyRewards(rewards);
             } catch (Exception e) {
                 logger.error("Ascension 99: Failed to modify combat rewards", e);
             }
         }
     }
-
-    /**
-     * Reset tracker when new game starts
-     */
-    @SpirePatch(
-        clz = CardCrawlGame.class,
-        method = "create"
-    )
-    public static class ResetTracker {
-        @SpirePostfixPatch
-        public static void Postfix(CardCrawlGame __instance) {
-            UnfairEventTracker.reset();
-        }
-    }
 }
@@ -3,9 +3,10 @@ package com.stsmod.ascension100.patches.levels;
 import com.evacipated.cardcrawl.modthespire.lib.*;
 import com.megacrit.cardcrawl.actions.common.ApplyPowerAction;
 import com.megacrit.cardcrawl.core.AbstractCreature;
-import com.megacrit.cardcrawl.dungeons.AbstractDungeon;
 import com.megacrit.cardcrawl.powers.AbstractPower;
 import com.megacrit.cardcrawl.powers.CurlUpPower;
+import com.stsmod.ascension100.util.AscensionLog;
+import com.stsmod.ascension100.util.AscensionRuleSet;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -28,7 +29,7 @@ public class LouseCurlUpPatch {
     public static class IncreaseLouseCurlUp {
         @SpirePostfixPatch
         public static void Postfix(ApplyPowerAction __instance, AbstractCreature target, AbstractCreature source, AbstractPower powerToApply) {
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 25) {
+            if (!AscensionRuleSet.isActive(25)) {
                 return;
             }
 
@@ -41,31 +42,41 @@ public class LouseCurlUpPatch {
                 return;
             }
 
-            String id = target.id;
-            if (!id.equals("FuzzyLouseNormal") && !id.equals("FuzzyLouseDefensive")) {
+            if (!isLouse(target.id)) {
                 return;
             }
 
-            // Calculate total bonus based on Ascension level
-            int bonus = 0;
-            if (AbstractDungeon.ascensionLevel >= 92) {
-                bonus = 3 + 6 + 10; // Level 25 + 86 + 92
-            } else if (AbstractDungeon.ascensionLevel >= 86) {
-                bonus = 3 + 6; // Level 25 + 86
-            } else if (AbstractDungeon.ascensionLevel >= 25) {
-                bonus = 3; // Level 25
-            }
-
+            int bonus = getCurlUpBonus();
             if (bonus > 0) {
                 int originalAmount = powerToApply.amount;
                 powerToApply.amount += bonus;
                 powerToApply.updateDescription();
 
-                logger.info(String.format(
-                    "Ascension %d: %s Curl Up increased from %d to %d (+%d)",
-                    AbstractDungeon.ascensionLevel, target.name, originalAmount, powerToApply.amount, bonus
-                ));
+                if (AscensionLog.isTracing()) {
+                    logger.info(String.format(
+                        "Ascension %d: %s Curl Up increased from %d to %d (+%d)",
+                        AscensionRuleSet.level(), target.name, originalAmount, powerToApply.amount, bonus
+                    ));
+                }
             }
         }
     }
+
+    public static boolean isLouse(String id) {
+        return id.equals("FuzzyLouseNormal") || id.equals("FuzzyLouseDefensive");
+    }
+
+    /**
+     * Total Curl Up bonus for the current ascension level
+     */
+    public static int getCurlUpBonus() {
+        if (AscensionRuleSet.isActive(92)) {
+            return 3 + 6 + 10; // Level 25 + 86 + 92
+        } else if (AscensionRuleSet.isActive(86)) {
+            return 3 + 6; // Level 25 + 86
+        } else if (AscensionRuleSet.isActive(25)) {
+            return 3; // Level 25
+        }
+        return 0;
+    }
 }
@@ -7,6 +7,8 @@ import com.megacrit.cardcrawl.characters.AbstractPlayer;
 import com.megacrit.cardcrawl.core.CardCrawlGame;
 import com.megacrit.cardcrawl.dungeons.AbstractDungeon;
 import com.megacrit.cardcrawl.dungeons.Exordium;
+import com.stsmod.ascension100.util.AscensionLog;
+import com.stsmod.ascension100.util.AscensionRuleSet;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -45,17 +47,16 @@ public class PlayerHPInitPatch {
             return;
         }
 
-        if (!AbstractDungeon.isAscensionMode) {
+        if (!AscensionRuleSet.isActive(32)) {
             return;
         }
 
-        int level = AbstractDungeon.ascensionLevel;
         AbstractPlayer p = AbstractDungeon.player;
         int originalMaxHP = p.maxHealth;
         int originalCurrentHP = p.currentHealth;
 
         // Level 32: Current HP -5
-        if (level >= 32) {
+        if (AscensionRuleSet.isActive(32)) {
             int beforeReduction = p.currentHealth;
             p.currentHealth -= 5;
 
@@ -64,14 +65,16 @@ public class PlayerHPInitPatch {
                 p.currentHealth = 1;
             }
 
-            logger.info(String.format(
-                "Ascension 32: Starting HP reduced from %d to %d (-5)",
-                beforeReduction, p.currentHealth
-            ));
+            if (AscensionLog.isTracing()) {
+                logger.info(String.format(
+                    "Ascension 32: Starting HP reduced from %d to %d (-5)",
+                    beforeReduction, p.currentHealth
+                ));
+            }
         }
 
         // Level 88: Max HP -10%, Current HP = Max HP (full heal)
-        if (level >= 88) {
+        if (AscensionRuleSet.isActive(88)) {
             int beforeMaxHP = p.maxHealth;
             int reduction = MathUtils.ceil(beforeMaxHP * 0.1f);
 
@@ -84,14 +87,16 @@ public class PlayerHPInitPatch {
                 p.currentHealth = 1;
             }
 
-            logger.info(String.format(
-                "Ascension 88: Max HP reduced from %d to %d (-%d, -10%%), Current HP set to Max HP",
-                beforeMaxHP, p.maxHealth, reduction
-            ));
+            if (AscensionLog.isTracing()) {
+                logger.info(String.format(
+                    "Ascension 88: Max HP reduced from %d to %d (-%d, -10%%), Current HP set to Max HP",
+                    beforeMaxHP, p.maxHealth, reduction
+                ));
+            }
         }
 
         // Log final result
-        if (level >= 32 || level >= 88) {
+        if (AscensionLog.isTracing()) {
             logger.info(String.format(
                 "Final HP: %d/%d (from %d/%d)",
                 p.currentHealth, p.maxHealth,
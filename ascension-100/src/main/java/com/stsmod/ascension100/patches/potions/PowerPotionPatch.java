@@ -8,6 +8,8 @@ import com.megacrit.cardcrawl.core.AbstractCreature;
 import com.megacrit.cardcrawl.dungeons.AbstractDungeon;
 import com.megacrit.cardcrawl.potions.PowerPotion;
 import com.stsmod.ascension100.actions.ReducedDiscoveryAction;
+import com.stsmod.ascension100.util.AscensionRuleSet;
+import com.stsmod.ascension100.util.PotionDescriptions;
 
 /**
  * Patch for PowerPotion to reduce card choices from 3 to 2 at Ascension 25+
@@ -26,7 +28,7 @@ public class PowerPotionPatch {
     public static class UseHook {
         public static SpireReturn<Void> Prefix(PowerPotion __instance, AbstractCreature target) {
             // Only apply at Ascension 25+
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 25) {
+            if (!AscensionRuleSet.isActive(25)) {
                 return SpireReturn.Continue();
             }
 
@@ -45,7 +47,7 @@ public class PowerPotionPatch {
 
     /**
      * Update description text to show "2" instead of "3" at Ascension 25+
-     * Handles both English ("#b3" -> "#b2") and Korean ("셋" -> "둘")
+     * The rewritten text is cached per language (see PotionDescriptions)
      */
     @SpirePatch(
         clz = PowerPotion.class,
@@ -55,17 +57,11 @@ public class PowerPotionPatch {
         @SpirePostfixPatch
         public static void Postfix(PowerPotion __instance) {
             // Only apply at Ascension 25+
-            if (!AbstractDungeon.isAscensionMode || AbstractDungeon.ascensionLevel < 25) {
+            if (!AscensionRuleSet.isActive(25)) {
                 return;
             }
 
-            // Replace "3" with "2" in the description (English)
-            // Replace "셋" with "둘" (Korean)
-            if (__instance.description != null) {
-                __instance.description = __instance.description
-                    .replace("#b3", "#b2")
-                    .replace("셋", "둘");
-            }
+            PotionDescriptions.applyReducedChoices(__instance);
         }
     }
 }
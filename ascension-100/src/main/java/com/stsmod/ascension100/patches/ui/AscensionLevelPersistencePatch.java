@@ -7,6 +7,9 @@ import com.megacrit.cardcrawl.core.CardCrawlGame;
 import com.megacrit.cardcrawl.helpers.Prefs;
 import com.megacrit.cardcrawl.screens.charSelect.CharacterOption;
 import com.megacrit.cardcrawl.screens.charSelect.CharacterSelectScreen;
+import com.stsmod.ascension100.util.AscensionDescriptions;
+import com.stsmod.ascension100.util.FieldAccessor;
+import com.stsmod.ascension100.util.ReflectionCache;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -100,8 +103,7 @@ public class AscensionLevelPersistencePatch {
                 }
 
                 // Also update maxAscensionLevel field to allow 100
-                java.lang.reflect.Field maxAscField = CharacterOption.class.getDeclaredField("maxAscensionLevel");
-                maxAscField.setAccessible(true);
+                FieldAccessor maxAscField = ReflectionCache.CHARACTER_OPTION_MAX_ASCENSION_LEVEL;
                 int maxAsc = pref.getInteger("ASCENSION_LEVEL", 1);
                 int newMaxAsc = Math.min(maxAsc, MAX_ASCENSION_LEVEL);
 
@@ -177,46 +179,62 @@ public class AscensionLevelPersistencePatch {
      * Our fix:
      * - Already handled by Patch 1 (maxAscensionLevel updated to 100)
      * - This patch ensures the UI updates correctly for levels > 20
+     * - Runs every frame, so it reads the private unlock flag only once
+     *   per (level, selected character) pair; the selection is read from
+     *   the public options list
      */
     @SpirePatch(
         clz = CharacterSelectScreen.class,
         method = "updateAscensionToggle"
     )
     public static class ExtendAscensionUIRangePatch {
+        // Last (level, selected option) whose unlock flag was read, and the result
+        private static int checkedLevel = -1;
+        private static CharacterOption checkedOption = null;
+        private static boolean checkedUnlocked = false;
+
         @SpirePostfixPatch
         public static void Postfix(CharacterSelectScreen __instance) {
-            try {
-                // Access private fields using reflection
-                java.lang.reflect.Field isAscensionModeUnlockedField =
-                    CharacterSelectScreen.class.getDeclaredField("isAscensionModeUnlocked");
-                isAscensionModeUnlockedField.setAccessible(true);
-                boolean isAscensionModeUnlocked = isAscensionModeUnlockedField.getBoolean(__instance);
-
-                java.lang.reflect.Field anySelectedField =
-                    CharacterSelectScreen.class.getDeclaredField("anySelected");
-                anySelectedField.setAccessible(true);
-                boolean anySelected = anySelectedField.getBoolean(__instance);
-
-                // Ensure ascLevelInfoString is set correctly even for levels > 20
-                if (!isAscensionModeUnlocked || !anySelected) {
-                    return;
+            int currentLevel = __instance.ascensionLevel;
+
+            // Original game only has A_TEXT[0-19] for ascension 1-20
+            // For levels > 20, use the precomputed description table
+            if (currentLevel <= 20 || currentLevel > MAX_ASCENSION_LEVEL) {
+                return;
+            }
+
+            // Steady state: description already shown, no reflection needed
+            String description = AscensionDescriptions.get(currentLevel);
+            if (__instance.ascLevelInfoString == description) {
+                return;
+            }
+
+            CharacterOption selected = null;
+            for (CharacterOption o : __instance.options) {
+                if (o.selected) {
+                    selected = o;
+                    break;
                 }
+            }
+            if (selected == null) {
+                return;
+            }
 
-                int currentLevel = __instance.ascensionLevel;
-
-                // Original game only has A_TEXT[0-19] for ascension 1-20
-                // For levels > 20, we need to handle this gracefully
-                if (currentLevel > 20 && currentLevel <= MAX_ASCENSION_LEVEL) {
-                    // Check if A_TEXT array is large enough
-                    if (CharacterSelectScreen.A_TEXT.length < currentLevel) {
-                        // Fallback to showing "Ascension X" text
-                        __instance.ascLevelInfoString = "Ascension " + currentLevel;
-                    } else if (currentLevel > 0) {
-                        __instance.ascLevelInfoString = CharacterSelectScreen.A_TEXT[currentLevel - 1];
-                    }
+            if (currentLevel != checkedLevel || selected != checkedOption) {
+                try {
+                    // Private field, read only when the level or the character changed
+                    checkedUnlocked =
+                        ReflectionCache.CHARACTER_SELECT_SCREEN_IS_ASCENSION_MODE_UNLOCKED.getBoolean(__instance);
+                } catch (Exception e) {
+                    logger.error("Failed to update ascension UI for high levels", e);
+                    checkedUnlocked = false;
                 }
-            } catch (Exception e) {
-                logger.error("Failed to update ascension UI for high levels", e);
+                checkedLevel = currentLevel;
+                checkedOption = selected;
+            }
+
+            if (checkedUnlocked) {
+                __instance.ascLevelInfoString = description;
             }
         }
     }
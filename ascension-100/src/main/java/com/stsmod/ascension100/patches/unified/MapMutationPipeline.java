@@ -0,0 +1,179 @@
+package com.stsmod.ascension100.patches.unified;
+
+import com.evacipated.cardcrawl.modthespire.lib.SpirePatch;
+import com.evacipated.cardcrawl.modthespire.lib.SpirePostfixPatch;
+import com.evacipated.cardcrawl.modthespire.lib.SpirePrefixPatch;
+import com.megacrit.cardcrawl.dungeons.AbstractDungeon;
+import com.megacrit.cardcrawl.map.MapRoomNode;
+import com.megacrit.cardcrawl.random.Random;
+import com.megacrit.cardcrawl.rooms.AbstractRoom;
+import com.stsmod.ascension100.patches.levels.Level41;
+import com.stsmod.ascension100.patches.levels.Level73;
+import com.stsmod.ascension100.patches.levels.Level76;
+import com.stsmod.ascension100.patches.levels.Level96;
+import com.stsmod.ascension100.util.AscensionLog;
+import com.stsmod.ascension100.util.AscensionRuleSet;
+import com.stsmod.ascension100.util.FieldAccessor;
+import com.stsmod.ascension100.util.ReflectionCache;
+import com.stsmod.ascension100.util.Telemetry;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Unified map generation pipeline
+ *
+ * Replaces the generateMap patches of Level41 and Level76 and the
+ * initializeLevelSpecificChances patches of Level73 and Level96 (three acts
+ * each).
+ *
+ * - Before generateMap: room chances are read once, adjusted by every active
+ *   level (LevelNN.modifyRoomChances) and written back once.
+ * - After generateMap: one pass over the map applies every active room rule
+ *   (compiled once per rule set) with mapRng, in row order, so a seed always
+ *   gives the same map; the same pass counts rooms for the act's MapStats.
+ *
+ * 지도 생성 파이프라인 (방 확률 조정 + 방 변환을 한 번에 적용)
+ */
+public class MapMutationPipeline {
+    private static final Logger logger = LogManager.getLogger(MapMutationPipeline.class.getName());
+
+    private static final MapRoomRule[] NO_RULES = new MapRoomRule[0];
+
+    private static AscensionRuleSet cachedRuleSet = null;
+    private static MapRoomRule[] cachedRules = NO_RULES;
+
+    // Stats of the current run, by act number
+    private static final Map<Integer, MapStats> statsByAct = new TreeMap<>();
+
+    @SpirePatch(
+        clz = AbstractDungeon.class,
+        method = "generateMap"
+    )
+    public static class MutateMap {
+        @SpirePrefixPatch
+        public static void Prefix() {
+            applyRoomChances();
+        }
+
+        @SpirePostfixPatch
+        public static void Postfix() {
+            Level76.onMapGenerated();
+            mutateRooms();
+        }
+    }
+
+    /**
+     * Ask every active level for its room chance changes (uncached)
+     */
+    public static void collectRoomChances(MapRoomChances chances) {
+        if (AscensionRuleSet.isActive(73)) Level73.modifyRoomChances(chances);
+        if (AscensionRuleSet.isActive(96)) Level96.modifyRoomChances(chances);
+    }
+
+    /**
+     * Active room rules, in level order
+     */
+    public static MapRoomRule[] getRoomRules() {
+        AscensionRuleSet ruleSet = AscensionRuleSet.current();
+        if (cachedRuleSet != ruleSet) {
+            List<MapRoomRule> rules = new ArrayList<>();
+            if (ruleSet.has(41)) rules.add(Level41::convertRoom);
+            cachedRules = rules.toArray(NO_RULES);
+            cachedRuleSet = ruleSet;
+        }
+        return cachedRules;
+    }
+
+    /**
+     * Apply the room rules to a generated map and count its rooms
+     * Also usable on maps generated outside a running game
+     */
+    public static MapStats mutate(int act, List<? extends List<MapRoomNode>> map, Random mapRng, MapRoomRule[] rules) {
+        MapStats stats = new MapStats(act);
+        for (List<MapRoomNode> row : map) {
+            for (MapRoomNode node : row) {
+                if (node == null || node.room == null) {
+                    continue;
+                }
+
+                for (MapRoomRule rule : rules) {
+                    AbstractRoom replacement = rule.convert(node.room, mapRng);
+                    if (replacement != null) {
+                        if (AscensionLog.isTracing()) {
+                            logger.info(String.format(
+                                "Map: %s at (x=%d, y=%d) replaced by %s",
+                                node.room.getClass().getSimpleName(), node.x, node.y,
+                                replacement.getClass().getSimpleName()
+                            ));
+                        }
+                        node.room = replacement;
+                        stats.addConverted();
+                    }
+                }
+                stats.add(node.room);
+            }
+        }
+        return stats;
+    }
+
+    /**
+     * Room stats of an act in the current run, null if not generated yet
+     */
+    public static MapStats getStats(int act) {
+        return statsByAct.get(act);
+    }
+
+    private static void applyRoomChances() {
+        FieldAccessor shopField = ReflectionCache.ABSTRACT_DUNGEON_SHOP_ROOM_CHANCE;
+        FieldAccessor restField = ReflectionCache.ABSTRACT_DUNGEON_REST_ROOM_CHANCE;
+        try {
+            MapRoomChances chances = new MapRoomChances(shopField.getFloat(null), restField.getFloat(null));
+            String original = AscensionLog.isTracing() ? chances.toString() : null;
+
+            collectRoomChances(chances);
+
+            shopField.setFloat(null, chances.shop);
+            restField.setFloat(null, chances.rest);
+
+            if (original != null) {
+                logger.info(String.format("Map: Act %d room chances %s -> %s",
+                    AbstractDungeon.actNum, original, chances));
+            }
+        } catch (Exception e) {
+            logger.error("Failed to adjust room chances", e);
+        }
+    }
+
+    private static void mutateRooms() {
+        try {
+            @SuppressWarnings("unchecked")
+            ArrayList<ArrayList<MapRoomNode>> map =
+                (ArrayList<ArrayList<MapRoomNode>>) ReflectionCache.ABSTRACT_DUNGEON_MAP.get(null);
+            if (map == null) {
+                logger.warn("Map is null after generateMap, skipping map rules");
+                return;
+            }
+
+            int act = AbstractDungeon.actNum;
+            if (act <= 1) {
+                statsByAct.clear();
+            }
+
+            MapRoomRule[] rules = getRoomRules();
+            MapStats stats = mutate(act, map, AbstractDungeon.mapRng, rules);
+            statsByAct.put(act, stats);
+            if (rules.length > 0) {
+                int elites = stats.get(MapStats.RoomKind.ELITE);
+                Telemetry.record(Telemetry.Event.MAP_ELITES, 41, elites - stats.getConverted(), elites);
+            }
+            logger.info("Map generated: " + stats);
+        } catch (Exception e) {
+            logger.error("Failed to apply map rules", e);
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.stsmod.ascension100.patches.unified;
+
+/**
+ * Room type chances used by AbstractDungeon.generateMap
+ *
+ * Filled from AbstractDungeon (set by the act's initializeLevelSpecificChances),
+ * adjusted by the active levels (LevelNN.modifyRoomChances) and written back
+ * once by MapMutationPipeline before the map is generated.
+ *
+ * 지도 생성 시 방 종류별 확률
+ */
+public final class MapRoomChances {
+    public float shop;
+    public float rest;
+
+    public MapRoomChances(float shop, float rest) {
+        this.shop = shop;
+        this.rest = rest;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("shop %.1f%%, rest %.1f%%", shop * 100, rest * 100);
+    }
+}
@@ -0,0 +1,17 @@
+package com.stsmod.ascension100.patches.unified;
+
+import com.megacrit.cardcrawl.random.Random;
+import com.megacrit.cardcrawl.rooms.AbstractRoom;
+
+/**
+ * One level's room replacement rule (see MapMutationPipeline)
+ *
+ * 지도 방 변환 규칙
+ */
+public interface MapRoomRule {
+    /**
+     * @param mapRng the dungeon's map RNG, so results follow the seed
+     * @return the replacement room, or null to keep the room
+     */
+    AbstractRoom convert(AbstractRoom room, Random mapRng);
+}
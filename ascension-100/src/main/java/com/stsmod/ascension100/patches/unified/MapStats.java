@@ -0,0 +1,107 @@
+package com.stsmod.ascension100.patches.unified;
+
+import com.megacrit.cardcrawl.map.MapRoomNode;
+import com.megacrit.cardcrawl.rooms.AbstractRoom;
+import com.megacrit.cardcrawl.rooms.EventRoom;
+import com.megacrit.cardcrawl.rooms.MonsterRoom;
+import com.megacrit.cardcrawl.rooms.MonsterRoomBoss;
+import com.megacrit.cardcrawl.rooms.MonsterRoomElite;
+import com.megacrit.cardcrawl.rooms.RestRoom;
+import com.megacrit.cardcrawl.rooms.ShopRoom;
+import com.megacrit.cardcrawl.rooms.TreasureRoom;
+
+import java.util.List;
+
+/**
+ * Room counts by type for one generated act map
+ *
+ * Only depends on the map passed in, so tools can count maps generated
+ * outside a running game the same way MapMutationPipeline does.
+ *
+ * 막별 지도 방 종류 통계
+ */
+public final class MapStats {
+
+    public enum RoomKind {
+        MONSTER, ELITE, EVENT, SHOP, REST, TREASURE, BOSS, OTHER;
+
+        public static RoomKind of(AbstractRoom room) {
+            // Elite and boss rooms are MonsterRooms too, check them first
+            if (room instanceof MonsterRoomElite) return ELITE;
+            if (room instanceof MonsterRoomBoss) return BOSS;
+            if (room instanceof MonsterRoom) return MONSTER;
+            if (room instanceof EventRoom) return EVENT;
+            if (room instanceof ShopRoom) return SHOP;
+            if (room instanceof RestRoom) return REST;
+            if (room instanceof TreasureRoom) return TREASURE;
+            return OTHER;
+        }
+    }
+
+    private final int act;
+    private final int[] counts = new int[RoomKind.values().length];
+    private int rooms = 0;
+    private int converted = 0;
+
+    public MapStats(int act) {
+        this.act = act;
+    }
+
+    /**
+     * Count every room on a generated map
+     */
+    public static MapStats count(int act, List<? extends List<MapRoomNode>> map) {
+        MapStats stats = new MapStats(act);
+        for (List<MapRoomNode> row : map) {
+            for (MapRoomNode node : row) {
+                if (node != null && node.room != null) {
+                    stats.add(node.room);
+                }
+            }
+        }
+        return stats;
+    }
+
+    public void add(AbstractRoom room) {
+        counts[RoomKind.of(room).ordinal()]++;
+        rooms++;
+    }
+
+    /**
+     * Record a room replaced by a map rule
+     */
+    public void addConverted() {
+        converted++;
+    }
+
+    public int getAct() {
+        return act;
+    }
+
+    public int get(RoomKind kind) {
+        return counts[kind.ordinal()];
+    }
+
+    public int getRooms() {
+        return rooms;
+    }
+
+    public int getConverted() {
+        return converted;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("Act ").append(act).append(": ").append(rooms).append(" rooms");
+        for (RoomKind kind : RoomKind.values()) {
+            if (counts[kind.ordinal()] > 0) {
+                sb.append(", ").append(kind.name().toLowerCase()).append(' ').append(counts[kind.ordinal()]);
+            }
+        }
+        if (converted > 0) {
+            sb.append(" (").append(converted).append(" converted)");
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,297 @@
+package com.stsmod.ascension100.patches.unified;
+
+import com.evacipated.cardcrawl.modthespire.lib.SpireInstrumentPatch;
+import com.evacipated.cardcrawl.modthespire.lib.SpirePatch;
+import com.megacrit.cardcrawl.actions.GameActionManager;
+import com.megacrit.cardcrawl.actions.common.SpawnMonsterAction;
+import com.megacrit.cardcrawl.monsters.AbstractMonster;
+import com.megacrit.cardcrawl.monsters.MonsterGroup;
+import com.stsmod.ascension100.patches.levels.Level26;
+import com.stsmod.ascension100.patches.levels.Level51;
+import com.stsmod.ascension100.patches.levels.Level86;
+import com.stsmod.ascension100.patches.levels.Level92;
+import com.stsmod.ascension100.util.AscensionRuleSet;
+import javassist.CannotCompileException;
+import javassist.expr.ExprEditor;
+import javassist.expr.MethodCall;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Per-class monster modifiers, dispatched from one hook per game method
+ *
+ * Replaces the per-class constructor, takeTurn and usePreBattleAction patches
+ * of Level26, 51, 86 and 92. Each of those levels registers its modifiers by
+ * monster class and phase; this class keeps only the ones whose level is
+ * active, compiled once per rule set into a Map<Class, modifier[]> per phase,
+ * so a call costs one map lookup.
+ *
+ * - INIT: from MonsterStatPipeline.ApplyStatModifiers (init Prefix), i.e.
+ *   after the constructor and before the stat modifier, the same order as the
+ *   old constructor postfixes.
+ * - Turn: takeTurn is abstract and implemented per class, so the call is
+ *   wrapped where the game makes it (GameActionManager.getNextAction). Turn
+ *   overrides run first; when one replaces the turn, takeTurn and the after
+ *   modifiers are skipped (like a prefix returning early).
+ * - Pre-battle: the usePreBattleAction calls in MonsterGroup.usePreBattleAction
+ *   and SpawnMonsterAction.update are wrapped the same way.
+ *
+ * Modifiers target exact classes, and run in level order.
+ *
+ * 몬스터 클래스별 수정치를 게임 메서드마다 훅 하나에서 적용
+ */
+public class MonsterDispatch {
+    private static final Logger logger = LogManager.getLogger(MonsterDispatch.class.getName());
+
+    /** When a registered modifier runs */
+    public enum Phase {
+        INIT, BEFORE_PRE_BATTLE, AFTER_PRE_BATTLE, REPLACE_TURN, BEFORE_TURN, AFTER_TURN
+    }
+
+    private static final Object[] NONE = new Object[0];
+
+    // Every registration in level order, independent of the active rule set
+    private static final List<Registration> registrations = new ArrayList<>();
+
+    static {
+        Registry registry = new Registry();
+        Level26.registerMonsterModifiers(registry);
+        Level51.registerMonsterModifiers(registry);
+        Level86.registerMonsterModifiers(registry);
+        Level92.registerMonsterModifiers(registry);
+    }
+
+    // Compiled for cachedRuleSet; also caches misses (subclasses, unmodified monsters)
+    private static final Map<Phase, Map<Class<?>, Object[]>> compiled = new EnumMap<>(Phase.class);
+    private static AscensionRuleSet cachedRuleSet = null;
+
+    static {
+        for (Phase phase : Phase.values()) {
+            compiled.put(phase, new IdentityHashMap<>());
+        }
+    }
+
+    /**
+     * Collects (level, phase, class, modifier) entries from the level classes
+     */
+    public static final class Registry {
+        private Registry() {
+        }
+
+        /** Right after the constructor (init) */
+        public <T extends AbstractMonster> void add(int level, Class<T> monsterClass, MonsterModifier<T> modifier) {
+            registrations.add(new Registration(level, Phase.INIT, monsterClass, modifier));
+        }
+
+        public <T extends AbstractMonster> void beforePreBattle(int level, Class<T> monsterClass, MonsterModifier<T> modifier) {
+            registrations.add(new Registration(level, Phase.BEFORE_PRE_BATTLE, monsterClass, modifier));
+        }
+
+        public <T extends AbstractMonster> void afterPreBattle(int level, Class<T> monsterClass, MonsterModifier<T> modifier) {
+            registrations.add(new Registration(level, Phase.AFTER_PRE_BATTLE, monsterClass, modifier));
+        }
+
+        public <T extends AbstractMonster> void replaceTurn(int level, Class<T> monsterClass, MonsterTurnOverride<T> override) {
+            registrations.add(new Registration(level, Phase.REPLACE_TURN, monsterClass, override));
+        }
+
+        public <T extends AbstractMonster> void beforeTurn(int level, Class<T> monsterClass, MonsterModifier<T> modifier) {
+            registrations.add(new Registration(level, Phase.BEFORE_TURN, monsterClass, modifier));
+        }
+
+        public <T extends AbstractMonster> void afterTurn(int level, Class<T> monsterClass, MonsterModifier<T> modifier) {
+            registrations.add(new Registration(level, Phase.AFTER_TURN, monsterClass, modifier));
+        }
+    }
+
+    private static final class Registration {
+        final int level;
+        final Phase phase;
+        final Class<?> monsterClass;
+        final Object modifier;
+
+        Registration(int level, Phase phase, Class<?> monsterClass, Object modifier) {
+            this.level = level;
+            this.phase = phase;
+            this.monsterClass = monsterClass;
+            this.modifier = modifier;
+        }
+    }
+
+    /**
+     * Wraps m.takeTurn() in the monster turn loop
+     */
+    @SpirePatch(
+        clz = GameActionManager.class,
+        method = "getNextAction"
+    )
+    public static class TurnCallSite {
+        @SpireInstrumentPatch
+        public static ExprEditor Instrument() {
+            return new ExprEditor() {
+                @Override
+                public void edit(MethodCall m) throws CannotCompileException {
+                    if (m.getMethodName().equals("takeTurn")) {
+                        m.replace("{ if (!" + MonsterDispatch.class.getName() + ".beforeTurn($0)) { "
+                            + "$proceed($$); "
+                            + MonsterDispatch.class.getName() + ".afterTurn($0); "
+                            + "} }");
+                    }
+                }
+            };
+        }
+    }
+
+    /**
+     * Wraps m.usePreBattleAction() at combat start
+     */
+    @SpirePatch(
+        clz = MonsterGroup.class,
+        method = "usePreBattleAction"
+    )
+    public static class GroupPreBattleCallSite {
+        @SpireInstrumentPatch
+        public static ExprEditor Instrument() {
+            return preBattleEditor();
+        }
+    }
+
+    /**
+     * Wraps m.usePreBattleAction() for monsters spawned mid-combat
+     */
+    @SpirePatch(
+        clz = SpawnMonsterAction.class,
+        method = "update"
+    )
+    public static class SpawnPreBattleCallSite {
+        @SpireInstrumentPatch
+        public static ExprEditor Instrument() {
+            return preBattleEditor();
+        }
+    }
+
+    private static ExprEditor preBattleEditor() {
+        return new ExprEditor() {
+            @Override
+            public void edit(MethodCall m) throws CannotCompileException {
+                if (m.getMethodName().equals("usePreBattleAction")) {
+                    m.replace("{ " + MonsterDispatch.class.getName() + ".beforePreBattle($0); "
+                        + "$proceed($$); "
+                        + MonsterDispatch.class.getName() + ".afterPreBattle($0); }");
+                }
+            }
+        };
+    }
+
+    /**
+     * Apply every active INIT modifier registered for the monster's class
+     */
+    public static void apply(AbstractMonster m) {
+        run(Phase.INIT, m);
+    }
+
+    public static void beforePreBattle(AbstractMonster m) {
+        run(Phase.BEFORE_PRE_BATTLE, m);
+    }
+
+    public static void afterPreBattle(AbstractMonster m) {
+        run(Phase.AFTER_PRE_BATTLE, m);
+    }
+
+    /**
+     * @return true when an override took the turn (skip takeTurn and afterTurn)
+     */
+    @SuppressWarnings("unchecked")
+    public static boolean beforeTurn(AbstractMonster m) {
+        for (Object override : get(Phase.REPLACE_TURN, m.getClass())) {
+            try {
+                if (((MonsterTurnOverride<AbstractMonster>) override).replaceTurn(m)) {
+                    return true;
+                }
+            } catch (Exception e) {
+                logger.error("Failed to apply monster turn override to " + m.id, e);
+            }
+        }
+        run(Phase.BEFORE_TURN, m);
+        return false;
+    }
+
+    public static void afterTurn(AbstractMonster m) {
+        run(Phase.AFTER_TURN, m);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void run(Phase phase, AbstractMonster m) {
+        for (Object modifier : get(phase, m.getClass())) {
+            try {
+                ((MonsterModifier<AbstractMonster>) modifier).apply(m);
+            } catch (Exception e) {
+                logger.error("Failed to apply " + phase + " monster modifier to " + m.id, e);
+            }
+        }
+    }
+
+    /**
+     * Active modifiers (MonsterModifier, or MonsterTurnOverride for
+     * REPLACE_TURN) for a monster class under the installed rule set
+     */
+    public static Object[] get(Phase phase, Class<?> monsterClass) {
+        AscensionRuleSet ruleSet = AscensionRuleSet.current();
+        if (cachedRuleSet != ruleSet) {
+            compile(ruleSet);
+            cachedRuleSet = ruleSet;
+        }
+
+        Map<Class<?>, Object[]> byClass = compiled.get(phase);
+        Object[] modifiers = byClass.get(monsterClass);
+        if (modifiers == null) {
+            // Modifiers target exact classes (like the old per-class patches)
+            modifiers = NONE;
+            byClass.put(monsterClass, modifiers);
+        }
+        return modifiers;
+    }
+
+    private static void compile(AscensionRuleSet ruleSet) {
+        Map<Phase, Map<Class<?>, List<Object>>> active = new EnumMap<>(Phase.class);
+        int count = 0;
+        for (Registration r : registrations) {
+            if (!ruleSet.has(r.level)) {
+                continue;
+            }
+            Map<Class<?>, List<Object>> byClass = active.get(r.phase);
+            if (byClass == null) {
+                byClass = new HashMap<>();
+                active.put(r.phase, byClass);
+            }
+            List<Object> list = byClass.get(r.monsterClass);
+            if (list == null) {
+                list = new ArrayList<>();
+                byClass.put(r.monsterClass, list);
+            }
+            list.add(r.modifier);
+            count++;
+        }
+
+        for (Phase phase : Phase.values()) {
+            Map<Class<?>, Object[]> target = compiled.get(phase);
+            target.clear();
+            Map<Class<?>, List<Object>> byClass = active.get(phase);
+            if (byClass == null) {
+                continue;
+            }
+            for (Map.Entry<Class<?>, List<Object>> entry : byClass.entrySet()) {
+                target.put(entry.getKey(), entry.getValue().toArray());
+            }
+        }
+        logger.info(String.format("Monster modifiers compiled: %d of %d modifiers active",
+            count, registrations.size()));
+    }
+}
@@ -0,0 +1,12 @@
+package com.stsmod.ascension100.patches.unified;
+
+import com.megacrit.cardcrawl.monsters.AbstractMonster;
+
+/**
+ * One level's change to a specific monster class (see MonsterDispatch)
+ *
+ * 특정 몬스터 클래스에 대한 레벨별 수정
+ */
+public interface MonsterModifier<T extends AbstractMonster> {
+    void apply(T monster);
+}
@@ -0,0 +1,107 @@
+package com.stsmod.ascension100.patches.unified;
+
+import com.megacrit.cardcrawl.monsters.AbstractMonster;
+import com.stsmod.ascension100.util.EncounterClass;
+
+import java.util.Objects;
+
+/**
+ * Everything the monster stat rules (LevelNN.modifyStats) are allowed to look at
+ *
+ * Built from the live monster / dungeon by MonsterStatPipeline, or directly by
+ * tools that run the stat rules without a game (ascension-sim). Doubles as the
+ * cache key for folded modifiers, so two monsters with equal contexts always
+ * get the same MonsterStatModifier.
+ *
+ * 몬스터 스탯 규칙이 참조하는 값 묶음 (캐시 키 겸용)
+ */
+public final class MonsterStatContext {
+    // Room flags that stat rules depend on
+    public static final int ROOM_BOSS_OR_ELITE = 1;
+    public static final int ROOM_MONSTER = 1 << 1;
+    public static final int ROOM_COMBAT_EVENT = 1 << 2;
+
+    private final String monsterId;
+    private final AbstractMonster.EnemyType type;
+    private final int actNum;
+    private final EncounterClass encounter;
+    private final int roomFlags;
+    private final int hash;
+
+    public MonsterStatContext(String monsterId, AbstractMonster.EnemyType type, int actNum,
+                              EncounterClass encounter, int roomFlags) {
+        this.monsterId = monsterId;
+        this.type = type;
+        this.actNum = actNum;
+        this.encounter = encounter != null ? encounter : EncounterClass.UNKNOWN;
+        this.roomFlags = roomFlags;
+        this.hash = Objects.hash(monsterId, type, actNum, this.encounter, roomFlags);
+    }
+
+    public String getMonsterId() {
+        return monsterId;
+    }
+
+    public boolean isMonster(String id) {
+        return id.equals(monsterId);
+    }
+
+    public AbstractMonster.EnemyType getType() {
+        return type;
+    }
+
+    public boolean isNormal() {
+        return type == AbstractMonster.EnemyType.NORMAL;
+    }
+
+    public boolean isElite() {
+        return type == AbstractMonster.EnemyType.ELITE;
+    }
+
+    public boolean isBoss() {
+        return type == AbstractMonster.EnemyType.BOSS;
+    }
+
+    public int getActNum() {
+        return actNum;
+    }
+
+    public EncounterClass getEncounter() {
+        return encounter;
+    }
+
+    public boolean isBossOrEliteRoom() {
+        return (roomFlags & ROOM_BOSS_OR_ELITE) != 0;
+    }
+
+    public boolean isMonsterRoom() {
+        return (roomFlags & ROOM_MONSTER) != 0;
+    }
+
+    public boolean isCombatEvent() {
+        return (roomFlags & ROOM_COMBAT_EVENT) != 0;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof MonsterStatContext)) return false;
+        MonsterStatContext other = (MonsterStatContext) o;
+        return type == other.type &&
+            actNum == other.actNum &&
+            encounter == other.encounter &&
+            roomFlags == other.roomFlags &&
+            Objects.equals(monsterId, other.monsterId);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s (%s, Act %d, %s, room flags %d)",
+            monsterId, type, actNum, encounter.getLogName(), roomFlags);
+    }
+}
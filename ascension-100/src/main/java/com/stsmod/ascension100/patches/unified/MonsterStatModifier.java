@@ -0,0 +1,125 @@
+package com.stsmod.ascension100.patches.unified;
+
+import com.badlogic.gdx.math.MathUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Folded HP / damage modifier vector for one monster
+ *
+ * Every ascension level that changes monster stats contributes to one of these
+ * (see MonsterStatPipeline). The result is applied in a single pass:
+ *
+ *   HP     = ceil((HP + hpFlatBefore) * hpMultiplier) + hpFlatAfter
+ *   damage = ceil((ceil(damage * damageMultiplier) + damageFlat) * damageMultiplierAfter)
+ *
+ * Damage keeps the order of the old separate patches: flat bonuses are not
+ * scaled by Level24's x1.03 (init prefixes), and Level64's boss x1.08
+ * (usePreBattleAction) scaled the bonuses added before it. Level24 only
+ * applies to normal enemies and Level64 only to bosses, so a damage value is
+ * still rounded once.
+ *
+ * HP multipliers compound and are rounded once, where the old patches rounded
+ * up after each level, so a monster under several HP multipliers can end up
+ * to a few HP lower than before. Level92's Giant Head x1.20 used to truncate
+ * ((int)) and is now rounded up with the rest, so it can be 1 HP higher.
+ *
+ * 체력/공격력 수정치를 하나로 합친 벡터
+ */
+public class MonsterStatModifier {
+    private float hpMultiplier = 1.0f;
+    private int hpFlatBefore = 0;
+    private int hpFlatAfter = 0;
+    private float damageMultiplier = 1.0f;
+    private int damageFlat = 0;
+    private float damageMultiplierAfter = 1.0f;
+
+    // Ascension levels that contributed (for logging)
+    private final List<Integer> levels = new ArrayList<>();
+
+    /**
+     * Multiply HP (percentage bonuses compound, same as sequential patches did)
+     */
+    public void multiplyHealth(int level, float multiplier) {
+        hpMultiplier *= multiplier;
+        addLevel(level);
+    }
+
+    /**
+     * Flat HP bonus applied before multipliers
+     */
+    public void addHealthBeforeMultiplier(int level, int amount) {
+        hpFlatBefore += amount;
+        addLevel(level);
+    }
+
+    /**
+     * Flat HP bonus applied after multipliers
+     */
+    public void addHealth(int level, int amount) {
+        hpFlatAfter += amount;
+        addLevel(level);
+    }
+
+    /**
+     * Multiply damage before the flat bonuses (they are not scaled)
+     */
+    public void multiplyDamage(int level, float multiplier) {
+        damageMultiplier *= multiplier;
+        addLevel(level);
+    }
+
+    /**
+     * Multiply damage including the flat bonuses
+     */
+    public void multiplyDamageAfterBonuses(int level, float multiplier) {
+        damageMultiplierAfter *= multiplier;
+        addLevel(level);
+    }
+
+    public void addDamage(int level, int amount) {
+        damageFlat += amount;
+        addLevel(level);
+    }
+
+    public int applyHealth(int hp) {
+        return MathUtils.ceil((hp + hpFlatBefore) * hpMultiplier) + hpFlatAfter;
+    }
+
+    public int applyDamage(int damage) {
+        int result = MathUtils.ceil(damage * damageMultiplier) + damageFlat;
+        if (damageMultiplierAfter != 1.0f) {
+            result = MathUtils.ceil(result * damageMultiplierAfter);
+        }
+        return result;
+    }
+
+    public boolean hasHealthChange() {
+        return hpMultiplier != 1.0f || hpFlatBefore != 0 || hpFlatAfter != 0;
+    }
+
+    public boolean hasDamageChange() {
+        return damageMultiplier != 1.0f || damageFlat != 0 || damageMultiplierAfter != 1.0f;
+    }
+
+    public boolean isEmpty() {
+        return !hasHealthChange() && !hasDamageChange();
+    }
+
+    public List<Integer> getLevels() {
+        return levels;
+    }
+
+    private void addLevel(int level) {
+        if (!levels.contains(level)) {
+            levels.add(level);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return String.format("HP (+%d) x%.3f +%d, damage x%.3f +%d x%.3f, levels %s",
+            hpFlatBefore, hpMultiplier, hpFlatAfter, damageMultiplier, damageFlat, damageMultiplierAfter, levels);
+    }
+}
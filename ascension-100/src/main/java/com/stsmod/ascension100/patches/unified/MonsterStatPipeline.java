@@ -0,0 +1,225 @@
+package com.stsmod.ascension100.patches.unified;
+
+import com.evacipated.cardcrawl.modthespire.lib.SpirePatch;
+import com.evacipated.cardcrawl.modthespire.lib.SpirePrefixPatch;
+import com.megacrit.cardcrawl.cards.DamageInfo;
+import com.megacrit.cardcrawl.dungeons.AbstractDungeon;
+import com.megacrit.cardcrawl.monsters.AbstractMonster;
+import com.megacrit.cardcrawl.monsters.city.GremlinLeader;
+import com.megacrit.cardcrawl.monsters.exordium.GremlinThief;
+import com.megacrit.cardcrawl.monsters.exordium.SlaverRed;
+import com.megacrit.cardcrawl.rooms.AbstractRoom;
+import com.megacrit.cardcrawl.rooms.MonsterRoom;
+import com.megacrit.cardcrawl.rooms.MonsterRoomBoss;
+import com.megacrit.cardcrawl.rooms.MonsterRoomElite;
+import com.stsmod.ascension100.patches.levels.*;
+import com.stsmod.ascension100.util.AscensionLog;
+import com.stsmod.ascension100.util.AscensionRuleSet;
+import com.stsmod.ascension100.util.CombatScopedState;
+import com.stsmod.ascension100.util.EncounterHelper;
+import com.stsmod.ascension100.util.FieldAccessor;
+import com.stsmod.ascension100.util.ReflectionCache;
+import com.stsmod.ascension100.util.Telemetry;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Unified monster HP / damage pipeline
+ *
+ * Replaces the separate AbstractMonster.init patches of Level21, 22, 24, 26
+ * (Giant Head HP), 35, 52, 53, 57, 58, 59, 61, 62, 63, 64, 67, 68, 69 and 92.
+ * Each of those levels now only describes its modifier (LevelNN.modifyStats);
+ * this class folds all active modifiers into one MonsterStatModifier and
+ * applies it in a single pass (rounding: see MonsterStatModifier).
+ *
+ * The rules only see a MonsterStatContext (monster id, type, act, encounter
+ * class, room flags), never the live monster, so the folded modifier is cached
+ * per context and the same rules can run without a game (ascension-sim).
+ *
+ * Applied as an init Prefix so that the first intent (rollMove) already uses
+ * the modified damage values. Per-class modifiers (MonsterDispatch) run first.
+ */
+public class MonsterStatPipeline {
+    private static final Logger logger = LogManager.getLogger(MonsterStatPipeline.class.getName());
+
+    /** Lowest ascension level with a stat rule */
+    private static final int FIRST_STAT_LEVEL = 21;
+
+    /** Levels with a modifyStats rule, in collect() order */
+    public static final int[] STAT_RULE_LEVELS = {
+        21, 22, 24, 26, 35, 52, 53, 57, 58, 59, 61, 62, 63, 64, 67, 68, 69, 92
+    };
+
+    private static final Map<MonsterStatContext, MonsterStatModifier> cache = new HashMap<>();
+    private static AscensionRuleSet cachedRuleSet = null;
+
+    // Prevent duplicate application if init() runs twice on the same monster
+    private static final CombatScopedState<AbstractMonster, Boolean> appliedMonsters =
+        CombatScopedState.create("MonsterStatPipeline.appliedMonsters", 64);
+
+    @SpirePatch(
+        clz = AbstractMonster.class,
+        method = "init"
+    )
+    public static class ApplyStatModifiers {
+        @SpirePrefixPatch
+        public static void Prefix(AbstractMonster __instance) {
+            if (!AscensionRuleSet.isActive(FIRST_STAT_LEVEL)) {
+                return;
+            }
+
+            if (appliedMonsters.put(__instance, Boolean.TRUE) != null) {
+                return;
+            }
+
+            // Per-class changes that used to be constructor patches
+            MonsterDispatch.apply(__instance);
+
+            MonsterStatModifier mod = getModifier(__instance);
+            if (mod.isEmpty()) {
+                return;
+            }
+
+            apply(__instance, mod);
+        }
+    }
+
+    /**
+     * Get the folded modifier for a monster in the current act / encounter / room
+     */
+    public static MonsterStatModifier getModifier(AbstractMonster m) {
+        return getModifier(contextOf(m));
+    }
+
+    /**
+     * Get the folded modifier for a context under the installed rule set
+     * (not thread-safe: call from the game thread, or from one setup thread)
+     */
+    public static MonsterStatModifier getModifier(MonsterStatContext ctx) {
+        AscensionRuleSet ruleSet = AscensionRuleSet.current();
+        if (cachedRuleSet != ruleSet) {
+            cache.clear();
+            cachedRuleSet = ruleSet;
+        }
+
+        MonsterStatModifier mod = cache.get(ctx);
+        if (mod == null) {
+            mod = collect(ctx);
+            cache.put(ctx, mod);
+        }
+        return mod;
+    }
+
+    /**
+     * Snapshot the monster and dungeon state the stat rules depend on
+     */
+    public static MonsterStatContext contextOf(AbstractMonster m) {
+        return new MonsterStatContext(m.id, m.type, AbstractDungeon.actNum,
+            EncounterHelper.getEncounterClass(), getRoomFlags());
+    }
+
+    /**
+     * Ask every active level for its contribution (uncached, see getModifier)
+     */
+    public static MonsterStatModifier collect(MonsterStatContext ctx) {
+        MonsterStatModifier mod = new MonsterStatModifier();
+
+        if (AscensionRuleSet.isActive(21)) Level21.modifyStats(ctx, mod);
+        if (AscensionRuleSet.isActive(22)) Level22.modifyStats(ctx, mod);
+        if (AscensionRuleSet.isActive(24)) Level24.modifyStats(ctx, mod);
+        if (AscensionRuleSet.isActive(26)) Level26.modifyStats(ctx, mod);
+        if (AscensionRuleSet.isActive(35)) Level35.modifyStats(ctx, mod);
+        if (AscensionRuleSet.isActive(52)) Level52.modifyStats(ctx, mod);
+        if (AscensionRuleSet.isActive(53)) Level53.modifyStats(ctx, mod);
+        if (AscensionRuleSet.isActive(57)) Level57.modifyStats(ctx, mod);
+        if (AscensionRuleSet.isActive(58)) Level58.modifyStats(ctx, mod);
+        if (AscensionRuleSet.isActive(59)) Level59.modifyStats(ctx, mod);
+        if (AscensionRuleSet.isActive(61)) Level61.modifyStats(ctx, mod);
+        if (AscensionRuleSet.isActive(62)) Level62.modifyStats(ctx, mod);
+        if (AscensionRuleSet.isActive(63)) Level63.modifyStats(ctx, mod);
+        if (AscensionRuleSet.isActive(64)) Level64.modifyStats(ctx, mod);
+        if (AscensionRuleSet.isActive(67)) Level67.modifyStats(ctx, mod);
+        if (AscensionRuleSet.isActive(68)) Level68.modifyStats(ctx, mod);
+        if (AscensionRuleSet.isActive(69)) Level69.modifyStats(ctx, mod);
+        if (AscensionRuleSet.isActive(92)) Level92.modifyStats(ctx, mod);
+
+        return mod;
+    }
+
+    /**
+     * Apply the folded modifier in one pass
+     */
+    private static void apply(AbstractMonster m, MonsterStatModifier mod) {
+        int originalMaxHP = m.maxHealth;
+
+        if (mod.hasHealthChange()) {
+            m.maxHealth = mod.applyHealth(m.maxHealth);
+            m.currentHealth = mod.applyHealth(m.currentHealth);
+            Telemetry.record(Telemetry.Event.MONSTER_HP, Telemetry.RULE_STAT_PIPELINE, originalMaxHP, m.maxHealth);
+        }
+
+        if (mod.hasDamageChange()) {
+            for (DamageInfo damageInfo : m.damage) {
+                if (damageInfo != null && damageInfo.base > 0) {
+                    damageInfo.base = mod.applyDamage(damageInfo.base);
+                    damageInfo.output = damageInfo.base;  // Update output to match base
+                }
+            }
+
+            // Monsters that keep a hardcoded damage field for their first intent / SetMoveAction
+            if (m instanceof SlaverRed) {
+                adjustDamageField(m, ReflectionCache.SLAVER_RED_STAB_DMG, mod);
+            } else if (m instanceof GremlinThief) {
+                adjustDamageField(m, ReflectionCache.GREMLIN_THIEF_THIEF_DAMAGE, mod);
+            } else if (m instanceof GremlinLeader) {
+                adjustDamageField(m, ReflectionCache.GREMLIN_LEADER_STAB_DMG, mod);
+            }
+        }
+
+        if (AscensionLog.isTracing()) {
+            logger.info(String.format(
+                "Ascension stats: %s (Act %d, encounter: %s) HP %d -> %d [%s]",
+                m.name, AbstractDungeon.actNum, AbstractDungeon.lastCombatMetricKey,
+                originalMaxHP, m.maxHealth, mod
+            ));
+        }
+    }
+
+    private static void adjustDamageField(AbstractMonster m, FieldAccessor field, MonsterStatModifier mod) {
+        try {
+            int current = field.getInt(m);
+            int updated = mod.applyDamage(current);
+            field.setInt(m, updated);
+            if (AscensionLog.isTracing()) {
+                logger.info(String.format(
+                    "Ascension stats: %s %s field updated from %d to %d",
+                    m.name, field.getName(), current, updated
+                ));
+            }
+        } catch (Exception e) {
+            logger.error("Failed to update " + field.getName() + " field", e);
+        }
+    }
+
+    private static int getRoomFlags() {
+        AbstractRoom room = AbstractDungeon.getCurrRoom();
+        if (room == null) {
+            return 0;
+        }
+
+        int flags = 0;
+        if (room instanceof MonsterRoomBoss || room instanceof MonsterRoomElite) {
+            flags |= MonsterStatContext.ROOM_BOSS_OR_ELITE;
+        }
+        if (room instanceof MonsterRoom) {
+            flags |= MonsterStatContext.ROOM_MONSTER;
+        }
+        if (room.combatEvent) {
+            flags |= MonsterStatContext.ROOM_COMBAT_EVENT;
+        }
+        return flags;
+    }
+}
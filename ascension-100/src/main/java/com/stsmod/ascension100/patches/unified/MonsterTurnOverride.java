@@ -0,0 +1,15 @@
+package com.stsmod.ascension100.patches.unified;
+
+import com.megacrit.cardcrawl.monsters.AbstractMonster;
+
+/**
+ * One level's replacement of a monster's turn (see MonsterDispatch)
+ *
+ * 특정 몬스터 클래스의 턴 행동을 레벨별로 대체
+ */
+public interface MonsterTurnOverride<T extends AbstractMonster> {
+    /**
+     * @return true when the turn was taken here and takeTurn must not run
+     */
+    boolean replaceTurn(T monster);
+}
@@ -0,0 +1,132 @@
+package com.stsmod.ascension100.patches.unified;
+
+import com.evacipated.cardcrawl.modthespire.lib.SpirePatch;
+import com.evacipated.cardcrawl.modthespire.lib.SpirePostfixPatch;
+import com.megacrit.cardcrawl.monsters.AbstractMonster;
+import com.megacrit.cardcrawl.monsters.MonsterGroup;
+import com.stsmod.ascension100.patches.levels.*;
+import com.stsmod.ascension100.util.LevelHook;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.function.Consumer;
+
+/**
+ * Game methods hooked by several ascension levels, patched once
+ *
+ * Replaces the separate patches of:
+ * - AbstractMonster.usePreBattleAction: Level66, 70, 81, 92
+ * - AbstractMonster.createIntent / applyPowers: Level68, 69
+ * - MonsterGroup.init: Level45, 76, 79, 81, 87, 90
+ * - MonsterGroup.usePreBattleAction: Level50, 76, 77, 95
+ *
+ * Each level registers its listeners in registerHooks(); LevelHook links only
+ * the active ones when a run starts, so low ascension runs skip every level
+ * check (applyPowers / createIntent run many times per turn).
+ *
+ * 여러 레벨이 공유하는 게임 메서드 훅
+ */
+public class SharedHooks {
+    private static final Logger logger = LogManager.getLogger(SharedHooks.class.getName());
+
+    public static final LevelHook<MonsterModifier<AbstractMonster>> MONSTER_PRE_BATTLE =
+        LevelHook.create("AbstractMonster.usePreBattleAction");
+    public static final LevelHook<MonsterModifier<AbstractMonster>> MONSTER_CREATE_INTENT =
+        LevelHook.create("AbstractMonster.createIntent");
+    public static final LevelHook<MonsterModifier<AbstractMonster>> MONSTER_APPLY_POWERS =
+        LevelHook.create("AbstractMonster.applyPowers");
+    public static final LevelHook<Consumer<MonsterGroup>> GROUP_INIT =
+        LevelHook.create("MonsterGroup.init");
+    public static final LevelHook<Consumer<MonsterGroup>> GROUP_PRE_BATTLE =
+        LevelHook.create("MonsterGroup.usePreBattleAction");
+
+    /**
+     * Register every level's listeners (once, from receivePostInitialize)
+     */
+    public static void registerAll() {
+        Level45.registerHooks();
+        Level50.registerHooks();
+        Level66.registerHooks();
+        Level68.registerHooks();
+        Level69.registerHooks();
+        Level70.registerHooks();
+        Level76.registerHooks();
+        Level77.registerHooks();
+        Level79.registerHooks();
+        Level81.registerHooks();
+        Level87.registerHooks();
+        Level90.registerHooks();
+        Level92.registerHooks();
+        Level95.registerHooks();
+
+        logger.info("Shared hooks registered: " + MONSTER_PRE_BATTLE + ", " + MONSTER_CREATE_INTENT + ", "
+            + MONSTER_APPLY_POWERS + ", " + GROUP_INIT + ", " + GROUP_PRE_BATTLE);
+    }
+
+    @SpirePatch(
+        clz = AbstractMonster.class,
+        method = "usePreBattleAction"
+    )
+    public static class MonsterPreBattle {
+        @SpirePostfixPatch
+        public static void Postfix(AbstractMonster __instance) {
+            dispatchMonster(MONSTER_PRE_BATTLE, __instance);
+        }
+    }
+
+    @SpirePatch(
+        clz = AbstractMonster.class,
+        method = "createIntent"
+    )
+    public static class MonsterCreateIntent {
+        @SpirePostfixPatch
+        public static void Postfix(AbstractMonster __instance) {
+            dispatchMonster(MONSTER_CREATE_INTENT, __instance);
+        }
+    }
+
+    @SpirePatch(
+        clz = AbstractMonster.class,
+        method = "applyPowers"
+    )
+    public static class MonsterApplyPowers {
+        @SpirePostfixPatch
+        public static void Postfix(AbstractMonster __instance) {
+            dispatchMonster(MONSTER_APPLY_POWERS, __instance);
+        }
+    }
+
+    @SpirePatch(
+        clz = MonsterGroup.class,
+        method = "init"
+    )
+    public static class GroupInit {
+        @SpirePostfixPatch
+        public static void Postfix(MonsterGroup __instance) {
+            dispatchGroup(GROUP_INIT, __instance);
+        }
+    }
+
+    @SpirePatch(
+        clz = MonsterGroup.class,
+        method = "usePreBattleAction"
+    )
+    public static class GroupPreBattle {
+        @SpirePostfixPatch
+        public static void Postfix(MonsterGroup __instance) {
+            dispatchGroup(GROUP_PRE_BATTLE, __instance);
+        }
+    }
+
+    private static void dispatchMonster(LevelHook<MonsterModifier<AbstractMonster>> hook, AbstractMonster m) {
+        for (int i = 0; i < hook.size(); i++) {
+            hook.get(i).apply(m);
+        }
+    }
+
+    private static void dispatchGroup(LevelHook<Consumer<MonsterGroup>> hook, MonsterGroup group) {
+        for (int i = 0; i < hook.size(); i++) {
+            hook.get(i).accept(group);
+        }
+    }
+}
@@ -0,0 +1,210 @@
+package com.stsmod.ascension100.patches.unified;
+
+import com.evacipated.cardcrawl.modthespire.lib.SpirePatch;
+import com.evacipated.cardcrawl.modthespire.lib.SpirePostfixPatch;
+import com.evacipated.cardcrawl.modthespire.lib.SpirePrefixPatch;
+import com.megacrit.cardcrawl.cards.AbstractCard;
+import com.megacrit.cardcrawl.relics.AbstractRelic;
+import com.megacrit.cardcrawl.shop.ShopScreen;
+import com.stsmod.ascension100.patches.levels.*;
+import com.stsmod.ascension100.util.AscensionLog;
+import com.stsmod.ascension100.util.AscensionRuleSet;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.Arrays;
+
+/**
+ * Unified shop price rules
+ *
+ * Replaces the separate patches of Level42 (card removal cost), Level46 and
+ * Level93 (AbstractRelic.getPrice) and Level49 (AbstractCard.getPrice). Each
+ * level only describes its change; this class folds the active ones and
+ * caches the final price per vanilla base price, so a getter call is a short
+ * table scan. The tables are dropped when a new rule set is installed.
+ *
+ * Shop discounts (The Courier, Membership Card) are applied by the shop to
+ * the stored item prices after the getters run, so they do not affect the
+ * cache.
+ *
+ * The removal cost increase is added to ShopScreen.purgeCost only while the
+ * shop computes actualPurgeCost (init and applyDiscount, which runs when a
+ * discount relic is bought), so discounts apply on top of it and the
+ * persistent base cost (raised by each removal, saved with the run) stays
+ * vanilla.
+ *
+ * 상점 가격 규칙 통합 (기본 가격별 최종 가격 캐시)
+ */
+public class ShopPriceModel {
+    private static final Logger logger = LogManager.getLogger(ShopPriceModel.class.getName());
+
+    private static final PriceCache relicPrices = new PriceCache();
+    private static final PriceCache cardPrices = new PriceCache();
+    private static AscensionRuleSet cachedRuleSet = null;
+
+    // Purge cost increase currently added to ShopScreen.purgeCost (0 when none)
+    private static int raisedPurgeCost = 0;
+
+    @SpirePatch(
+        clz = AbstractRelic.class,
+        method = "getPrice"
+    )
+    public static class RelicPrice {
+        @SpirePostfixPatch
+        public static int Postfix(int __result) {
+            if (!AscensionRuleSet.isActive(46)) {
+                return __result;
+            }
+            return relicPrice(__result);
+        }
+    }
+
+    @SpirePatch(
+        clz = AbstractCard.class,
+        method = "getPrice"
+    )
+    public static class CardPrice {
+        @SpirePostfixPatch
+        public static int Postfix(int __result) {
+            if (!AscensionRuleSet.isActive(49)) {
+                return __result;
+            }
+            return cardPrice(__result);
+        }
+    }
+
+    @SpirePatch(
+        clz = ShopScreen.class,
+        method = "init"
+    )
+    public static class PurgeCostOnInit {
+        @SpirePrefixPatch
+        public static void Prefix(ShopScreen __instance) {
+            raisePurgeCost();
+        }
+
+        @SpirePostfixPatch
+        public static void Postfix(ShopScreen __instance) {
+            restorePurgeCost();
+        }
+    }
+
+    @SpirePatch(
+        clz = ShopScreen.class,
+        method = "applyDiscount"
+    )
+    public static class PurgeCostOnDiscount {
+        @SpirePrefixPatch
+        public static void Prefix(ShopScreen __instance) {
+            raisePurgeCost();
+        }
+
+        @SpirePostfixPatch
+        public static void Postfix(ShopScreen __instance) {
+            restorePurgeCost();
+        }
+    }
+
+    /**
+     * Final relic price for a vanilla base price under the installed rule set
+     */
+    public static int relicPrice(int base) {
+        checkRuleSet();
+        int index = relicPrices.indexOf(base);
+        if (index >= 0) {
+            return relicPrices.prices[index];
+        }
+
+        int price = base;
+        if (AscensionRuleSet.isActive(46)) price = Level46.modifyRelicPrice(price);
+        if (AscensionRuleSet.isActive(93)) price = Level93.modifyRelicPrice(price);
+        relicPrices.put(base, price);
+
+        if (AscensionLog.isTracing()) {
+            logger.info(String.format("Shop prices: relic %d -> %d", base, price));
+        }
+        return price;
+    }
+
+    /**
+     * Final card price for a vanilla base price under the installed rule set
+     */
+    public static int cardPrice(int base) {
+        checkRuleSet();
+        int index = cardPrices.indexOf(base);
+        if (index >= 0) {
+            return cardPrices.prices[index];
+        }
+
+        int price = base;
+        if (AscensionRuleSet.isActive(49)) price = Level49.modifyCardPrice(price);
+        cardPrices.put(base, price);
+
+        if (AscensionLog.isTracing()) {
+            logger.info(String.format("Shop prices: card %d -> %d", base, price));
+        }
+        return price;
+    }
+
+    private static void checkRuleSet() {
+        AscensionRuleSet ruleSet = AscensionRuleSet.current();
+        if (cachedRuleSet != ruleSet) {
+            relicPrices.clear();
+            cardPrices.clear();
+            cachedRuleSet = ruleSet;
+        }
+    }
+
+    private static void raisePurgeCost() {
+        if (raisedPurgeCost != 0 || !AscensionRuleSet.isActive(42)) {
+            return;
+        }
+        int base = ShopScreen.purgeCost;
+        ShopScreen.purgeCost = Level42.modifyPurgeCost(base);
+        raisedPurgeCost = ShopScreen.purgeCost - base;
+
+        if (AscensionLog.isTracing()) {
+            logger.info(String.format("Shop prices: card removal %d -> %d", base, ShopScreen.purgeCost));
+        }
+    }
+
+    private static void restorePurgeCost() {
+        if (raisedPurgeCost == 0) {
+            return;
+        }
+        ShopScreen.purgeCost -= raisedPurgeCost;
+        raisedPurgeCost = 0;
+    }
+
+    /**
+     * Small base price -> final price table (a run sees a handful of bases)
+     */
+    private static final class PriceCache {
+        int[] bases = new int[8];
+        int[] prices = new int[8];
+        int size = 0;
+
+        int indexOf(int base) {
+            for (int i = 0; i < size; i++) {
+                if (bases[i] == base) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        void put(int base, int price) {
+            if (size == bases.length) {
+                bases = Arrays.copyOf(bases, size * 2);
+                prices = Arrays.copyOf(prices, size * 2);
+            }
+            bases[size] = base;
+            prices[size] = price;
+            size++;
+        }
+
+        void clear() {
+            size = 0;
+        }
+    }
+}
@@ -1,22 +1,21 @@
 package com.stsmod.ascension100.patches.unified;
 
 import com.evacipated.cardcrawl.modthespire.lib.*;
-import com.megacrit.cardcrawl.actions.AbstractGameAction;
 import com.megacrit.cardcrawl.actions.common.ApplyPowerAction;
-import com.megacrit.cardcrawl.core.AbstractCreature;
 import com.megacrit.cardcrawl.dungeons.AbstractDungeon;
 import com.megacrit.cardcrawl.monsters.beyond.Transient;
 import com.megacrit.cardcrawl.powers.FadingPower;
+import com.megacrit.cardcrawl.powers.ShiftingPower;
+import com.stsmod.ascension100.util.AscensionLog;
+import com.stsmod.ascension100.util.AscensionRuleSet;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
-import java.lang.reflect.Field;
-
 /**
  * Unified patch for Transient's Fading power across multiple ascension levels
  *
- * Intercepts FadingPower creation in Transient.usePreBattleAction() and modifies
- * the initial amount parameter before it's applied.
+ * Replaces Transient.usePreBattleAction() so the FadingPower is created with
+ * the final amount; no other power application is touched.
  *
  * Ascension Level Bonuses:
  * - Level 26: +1 Fading (Base 5/6 → 6/7)
@@ -25,78 +24,68 @@ import java.lang.reflect.Field;
  * - Level 92: +1 Fading (cumulative, total +3)
  *
  * Implementation Strategy:
- * Uses SpirePrefixPatch on ApplyPowerAction constructor to intercept FadingPower
- * application from Transient and modify the amount parameter.
+ * SpirePrefixPatch on Transient.usePreBattleAction that queues the same two
+ * actions as the original (Fading, then Shifting) and skips it. The bonus is
+ * resolved once per rule set (i.e. once per run).
  */
 public class TransientFadingPatch {
     private static final Logger logger = LogManager.getLogger(TransientFadingPatch.class.getName());
 
-    /**
-     * Intercept ApplyPowerAction constructor when Transient applies FadingPower
-     * and increase the amount based on ascension level
-     */
+    // Bonus for cachedRuleSet, recomputed when a new rule set is installed
+    private static AscensionRuleSet cachedRuleSet = null;
+    private static int cachedBonus = 0;
+
     @SpirePatch(
-        clz = ApplyPowerAction.class,
-        method = SpirePatch.CONSTRUCTOR,
-        paramtypez = {AbstractCreature.class, AbstractCreature.class, com.megacrit.cardcrawl.powers.AbstractPower.class, int.class}
+        clz = Transient.class,
+        method = "usePreBattleAction"
     )
-    public static class InterceptFadingApplication {
-        @SpirePostfixPatch
-        public static void Postfix(
-            ApplyPowerAction __instance,
-            AbstractCreature target,
-            AbstractCreature source,
-            com.megacrit.cardcrawl.powers.AbstractPower powerToApply,
-            int stackAmount
-        ) {
-            // Only apply in Ascension mode
-            if (!AbstractDungeon.isAscensionMode) {
-                return;
+    public static class IncreaseFading {
+        @SpirePrefixPatch
+        public static SpireReturn<Void> Prefix(Transient __instance) {
+            int bonus = getFadingBonus();
+            if (bonus <= 0) {
+                return SpireReturn.Continue();
             }
 
-            // Check if this is FadingPower being applied to Transient
-            if (!(powerToApply instanceof FadingPower)) {
-                return;
-            }
-
-            if (!(target instanceof Transient)) {
-                return;
-            }
+            // Same as the original: Fading 6 on A17+, 5 below
+            int baseFading = AbstractDungeon.ascensionLevel >= 17 ? 6 : 5;
+            int fading = baseFading + bonus;
 
-            // Calculate bonus based on ascension level
-            int bonus = 0;
+            AbstractDungeon.actionManager.addToBottom(
+                new ApplyPowerAction(__instance, __instance, new FadingPower(__instance, fading)));
+            AbstractDungeon.actionManager.addToBottom(
+                new ApplyPowerAction(__instance, __instance, new ShiftingPower(__instance)));
 
-            if (AbstractDungeon.ascensionLevel >= 92) {
-                bonus = 3; // Level 26 (+1) + Level 86 (+1) + Level 92 (+1)
-            } else if (AbstractDungeon.ascensionLevel >= 86) {
-                bonus = 2; // Level 26 (+1) + Level 86 (+1)
-            } else if (AbstractDungeon.ascensionLevel >= 26) {
-                bonus = 1; // Level 26 only
+            if (AscensionLog.isTracing()) {
+                logger.info(String.format(
+                    "Ascension %d: Transient Fading increased by +%d to %d turns (Base: %d)",
+                    AscensionRuleSet.level(), bonus, fading, baseFading
+                ));
             }
+            return SpireReturn.Return();
+        }
+    }
 
-            if (bonus > 0) {
-                try {
-                    // Modify the power's amount
-                    powerToApply.amount += bonus;
-                    powerToApply.updateDescription();
-
-                    // Modify the action's amount field
-                    Field amountField = ApplyPowerAction.class.getDeclaredField("amount");
-                    amountField.setAccessible(true);
-                    int currentAmount = amountField.getInt(__instance);
-                    amountField.setInt(__instance, currentAmount + bonus);
+    /**
+     * Extra Fading turns for the current ascension level
+     */
+    public static int getFadingBonus() {
+        AscensionRuleSet ruleSet = AscensionRuleSet.current();
+        if (cachedRuleSet != ruleSet) {
+            cachedBonus = computeFadingBonus(ruleSet);
+            cachedRuleSet = ruleSet;
+        }
+        return cachedBonus;
+    }
 
-                    logger.info(String.format(
-                        "Ascension %d: Transient Fading increased by +%d to %d turns (Base: %d)",
-                        AbstractDungeon.ascensionLevel,
-                        bonus,
-                        powerToApply.amount,
-                        powerToApply.amount - bonus
-                    ));
-                } catch (Exception e) {
-                    logger.error("Failed to modify Transient Fading amount", e);
-                }
-            }
+    private static int computeFadingBonus(AscensionRuleSet ruleSet) {
+        if (ruleSet.has(92)) {
+            return 3; // Level 26 (+1) + Level 86 (+1) + Level 92 (+1)
+        } else if (ruleSet.has(86)) {
+            return 2; // Level 26 (+1) + Level 86 (+1)
+        } else if (ruleSet.has(26)) {
+            return 1; // Level 26 only
         }
+        return 0;
     }
 }
@@ -1,9 +1,8 @@
 package com.stsmod.ascension100.powers;
 
 import com.megacrit.cardcrawl.core.AbstractCreature;
-import com.megacrit.cardcrawl.core.CardCrawlGame;
-import com.megacrit.cardcrawl.localization.PowerStrings;
 import com.megacrit.cardcrawl.powers.AbstractPower;
+import com.stsmod.ascension100.util.ModStrings;
 
 /**
  * Life Link power - visual indicator for Donu/Deca at Ascension 87+
@@ -11,12 +10,9 @@ import com.megacrit.cardcrawl.powers.AbstractPower;
  */
 public class LifeLinkPower extends AbstractPower {
     public static final String POWER_ID = "ascension100:LifeLink";
-    private static final PowerStrings powerStrings = CardCrawlGame.languagePack.getPowerStrings(POWER_ID);
-    public static final String NAME = powerStrings.NAME;
-    public static final String[] DESCRIPTIONS = powerStrings.DESCRIPTIONS;
 
     public LifeLinkPower(AbstractCreature owner) {
-        this.name = NAME;
+        this.name = ModStrings.lifeLinkName;
         this.ID = POWER_ID;
         this.owner = owner;
         this.amount = -1; // No amount display
@@ -38,6 +34,6 @@ public class LifeLinkPower extends AbstractPower {
 
     @Override
     public void updateDescription() {
-        this.description = DESCRIPTIONS[0];
+        this.description = ModStrings.lifeLinkDescriptions[0];
     }
 }
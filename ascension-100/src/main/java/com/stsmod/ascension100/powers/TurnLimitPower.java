@@ -4,10 +4,9 @@ import com.megacrit.cardcrawl.actions.common.DamageAction;
 import com.megacrit.cardcrawl.actions.common.ReducePowerAction;
 import com.megacrit.cardcrawl.cards.DamageInfo;
 import com.megacrit.cardcrawl.core.AbstractCreature;
-import com.megacrit.cardcrawl.core.CardCrawlGame;
 import com.megacrit.cardcrawl.dungeons.AbstractDungeon;
-import com.megacrit.cardcrawl.localization.PowerStrings;
 import com.megacrit.cardcrawl.powers.AbstractPower;
+import com.stsmod.ascension100.util.ModStrings;
 
 /**
  * Turn Limit Power - Custom power for Ascension 95+
@@ -18,14 +17,11 @@ import com.megacrit.cardcrawl.powers.AbstractPower;
  */
 public class TurnLimitPower extends AbstractPower {
     public static final String POWER_ID = "ascension100:TurnLimit";
-    private static final PowerStrings powerStrings = CardCrawlGame.languagePack.getPowerStrings(POWER_ID);
-    public static final String NAME = powerStrings.NAME;
-    public static final String[] DESCRIPTIONS = powerStrings.DESCRIPTIONS;
 
     private static final int LETHAL_DAMAGE = 999;
 
     public TurnLimitPower(AbstractCreature owner, int amount) {
-        this.name = NAME;
+        this.name = ModStrings.turnLimitName;
         this.ID = POWER_ID;
         this.owner = owner;
         this.amount = amount;
@@ -37,9 +33,9 @@ public class TurnLimitPower extends AbstractPower {
     @Override
     public void updateDescription() {
         if (this.amount == 1) {
-            this.description = DESCRIPTIONS[1] + LETHAL_DAMAGE + DESCRIPTIONS[2];
+            this.description = ModStrings.turnLimitDescriptions[1] + LETHAL_DAMAGE + ModStrings.turnLimitDescriptions[2];
         } else {
-            this.description = DESCRIPTIONS[0] + this.amount + DESCRIPTIONS[3];
+            this.description = ModStrings.turnLimitDescriptions[0] + this.amount + ModStrings.turnLimitDescriptions[3];
         }
     }
 
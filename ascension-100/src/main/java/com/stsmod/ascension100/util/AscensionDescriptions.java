@@ -0,0 +1,63 @@
+package com.stsmod.ascension100.util;
+
+import com.stsmod.ascension100.Ascension100Mod;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Precomputed ascension level descriptions for the character select screen
+ *
+ * descriptions[level] is the text shown for that level ("" for level 0).
+ * Built once after localization is loaded (receivePostInitialize), so the
+ * character select patches only do an array read per frame instead of a
+ * UIStrings map lookup.
+ *
+ * 캐릭터 선택 화면의 승천 설명 문자열 테이블 (시작 시 한 번만 생성)
+ */
+public final class AscensionDescriptions {
+    private static final Logger logger = LogManager.getLogger(AscensionDescriptions.class.getName());
+
+    private static String[] descriptions = null;
+
+    private AscensionDescriptions() {
+    }
+
+    /**
+     * Build the description table from the "AscensionModeDescriptions" UI strings
+     * (already looked up by ModStrings)
+     * Levels without a localized string fall back to "Ascension N"
+     */
+    public static void build() {
+        String[] table = new String[Ascension100Mod.MAX_ASCENSION + 1];
+        table[0] = "";
+
+        String[] text = ModStrings.ascensionDescriptions;
+
+        int localized = 0;
+        for (int level = 1; level <= Ascension100Mod.MAX_ASCENSION; level++) {
+            if (text != null && level <= text.length && text[level - 1] != null) {
+                table[level] = text[level - 1];
+                localized++;
+            } else {
+                table[level] = "Ascension " + level;
+            }
+        }
+
+        descriptions = table;
+        logger.info("Ascension description table built (" + localized + "/" + Ascension100Mod.MAX_ASCENSION + " localized)");
+    }
+
+    /**
+     * @param level ascension level, clamped to 0~MAX_ASCENSION
+     * @return description shown on the character select screen
+     */
+    public static String get(int level) {
+        if (descriptions == null) {
+            build();
+        }
+        if (level <= 0) {
+            return descriptions[0];
+        }
+        return descriptions[Math.min(level, Ascension100Mod.MAX_ASCENSION)];
+    }
+}
@@ -0,0 +1,55 @@
+package com.stsmod.ascension100.util;
+
+import com.evacipated.cardcrawl.modthespire.lib.SpireConfig;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Per-event trace logging switch for level patches
+ *
+ * Level patches log every modified action, power and monster. Those lines are
+ * only written while tracing is enabled (mod settings panel, "traceEvents" in
+ * the config). Call sites that build a message guard it with isTracing(), so
+ * nothing is formatted or allocated while tracing is off; constant messages
+ * go through trace().
+ *
+ * 이벤트 단위 로그 출력 스위치 (기본값: 꺼짐)
+ */
+public final class AscensionLog {
+
+    /** SpireConfig key for the tracing toggle */
+    public static final String CONFIG_KEY = "traceEvents";
+
+    private static boolean tracing = false;
+
+    private AscensionLog() {
+    }
+
+    /**
+     * @return true when per-event trace lines should be written
+     */
+    public static boolean isTracing() {
+        return tracing;
+    }
+
+    public static void setTracing(boolean enabled) {
+        tracing = enabled;
+    }
+
+    /**
+     * Read the tracing toggle from the mod config
+     */
+    public static void load(SpireConfig config) {
+        if (config != null && config.has(CONFIG_KEY)) {
+            tracing = config.getBool(CONFIG_KEY);
+        }
+    }
+
+    /**
+     * Log a constant trace message
+     */
+    public static void trace(Logger logger, String message) {
+        if (tracing) {
+            logger.info(message);
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.stsmod.ascension100.util;
+
+import com.megacrit.cardcrawl.dungeons.AbstractDungeon;
+import com.stsmod.ascension100.Ascension100Mod;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Run-scoped table of active ascension rules
+ *
+ * Compiled once when a dungeon is created (see AscensionRuleSetPatch) from
+ * AbstractDungeon.isAscensionMode / ascensionLevel. Level patches call
+ * isActive(N) instead of re-reading both static fields on every hook.
+ *
+ * 런 시작 시(던전 생성 시) 한 번만 계산되는 승천 규칙 테이블
+ */
+public final class AscensionRuleSet {
+    private static final Logger logger = LogManager.getLogger(AscensionRuleSet.class.getName());
+
+    /** Rule set used before any run has started (nothing active) */
+    public static final AscensionRuleSet NONE = new AscensionRuleSet(false, 0);
+
+    private static AscensionRuleSet current = NONE;
+
+    private final boolean ascensionMode;
+    private final int level;
+    // active[n] == true when ascension level n applies to this run
+    private final boolean[] active;
+
+    private AscensionRuleSet(boolean ascensionMode, int level) {
+        this.ascensionMode = ascensionMode;
+        this.level = ascensionMode ? Math.max(0, Math.min(level, Ascension100Mod.MAX_ASCENSION)) : 0;
+        this.active = new boolean[Ascension100Mod.MAX_ASCENSION + 1];
+        for (int n = 1; n <= this.level; n++) {
+            this.active[n] = true;
+        }
+    }
+
+    /**
+     * Build an immutable rule set for the given mode and level
+     * Does not touch game state, so it can be used outside a running game
+     */
+    public static AscensionRuleSet compile(boolean ascensionMode, int level) {
+        if (!ascensionMode || level <= 0) {
+            return NONE;
+        }
+        return new AscensionRuleSet(true, level);
+    }
+
+    /**
+     * Recompute the current rule set from AbstractDungeon
+     * Called at run start and whenever a new act is created
+     */
+    public static void refresh() {
+        install(compile(AbstractDungeon.isAscensionMode, AbstractDungeon.ascensionLevel));
+    }
+
+    /**
+     * Replace the current rule set and relink LevelHook listeners
+     */
+    public static void install(AscensionRuleSet next) {
+        if (next.level != current.level || next.ascensionMode != current.ascensionMode) {
+            logger.info("Ascension rule set compiled: " +
+                (next.ascensionMode ? "level " + next.level : "ascension mode off"));
+        }
+        current = next;
+        LevelHook.linkAll(next);
+    }
+
+    /**
+     * @return the rule set of the current run
+     */
+    public static AscensionRuleSet current() {
+        return current;
+    }
+
+    /**
+     * Check whether the given ascension level applies to the current run
+     * @param level ascension level (1~100)
+     */
+    public static boolean isActive(int level) {
+        return current.active[level];
+    }
+
+    /**
+     * @return ascension level of the current run, 0 when ascension mode is off
+     */
+    public static int level() {
+        return current.level;
+    }
+
+    /**
+     * Instance variant of isActive, for callers holding a compiled set
+     */
+    public boolean has(int level) {
+        return active[level];
+    }
+
+    public boolean isAscensionMode() {
+        return ascensionMode;
+    }
+
+    public int getLevel() {
+        return level;
+    }
+}
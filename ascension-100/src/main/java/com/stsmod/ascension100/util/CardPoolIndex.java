@@ -0,0 +1,141 @@
+package com.stsmod.ascension100.util;
+
+import com.megacrit.cardcrawl.cards.AbstractCard;
+import com.megacrit.cardcrawl.cards.CardGroup;
+import com.megacrit.cardcrawl.dungeons.AbstractDungeon;
+import com.megacrit.cardcrawl.random.Random;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * In-combat card pools for discovery effects, indexed by type
+ *
+ * Same candidates as AbstractDungeon.returnTrulyRandomCardInCombat(type) /
+ * returnTrulyRandomColorlessCardInCombat(): the run's common, uncommon and
+ * rare source pools (colorless pool for colorless), without HEALING cards.
+ * The vanilla methods build that list on every call; here it is built once
+ * and reused until the source pools change (they are recreated per act), so
+ * a draw is one RNG call and no allocation.
+ *
+ * Game thread only.
+ *
+ * 발견 효과용 카드 풀 색인 (유형별, 풀이 바뀔 때만 재생성)
+ */
+public final class CardPoolIndex {
+    /** Pool for cards of any color type (type filter null) */
+    private static final Pool any = new Pool();
+    private static final Map<AbstractCard.CardType, Pool> byType = new EnumMap<>(AbstractCard.CardType.class);
+    private static final Pool colorless = new Pool();
+
+    // Index permutation reused by pickDistinct
+    private static int[] scratchOrder = new int[0];
+
+    private CardPoolIndex() {
+    }
+
+    /**
+     * @param type card type, or null for any type
+     * @return candidates for returnTrulyRandomCardInCombat(type), do not modify
+     */
+    public static List<AbstractCard> combatPool(AbstractCard.CardType type) {
+        Pool pool;
+        if (type == null) {
+            pool = any;
+        } else {
+            pool = byType.get(type);
+            if (pool == null) {
+                pool = new Pool();
+                byType.put(type, pool);
+            }
+        }
+        if (pool.isStale(AbstractDungeon.srcCommonCardPool, AbstractDungeon.srcUncommonCardPool,
+                AbstractDungeon.srcRareCardPool)) {
+            pool.rebuild(type, AbstractDungeon.srcCommonCardPool, AbstractDungeon.srcUncommonCardPool,
+                AbstractDungeon.srcRareCardPool);
+        }
+        return pool.cards;
+    }
+
+    /**
+     * @return candidates for returnTrulyRandomColorlessCardInCombat(), do not modify
+     */
+    public static List<AbstractCard> colorlessPool() {
+        if (colorless.isStale(AbstractDungeon.srcColorlessCardPool)) {
+            colorless.rebuild(null, AbstractDungeon.srcColorlessCardPool);
+        }
+        return colorless.cards;
+    }
+
+    /**
+     * Pick count distinct cards from the pool (fewer if the pool is smaller)
+     *
+     * Partial Fisher-Yates over a reused index array: one rng draw per pick
+     * and no rerolls, where vanilla rerolls on a duplicate card ID.
+     *
+     * @return new copies (makeCopy) of the picked cards, in pick order
+     */
+    public static ArrayList<AbstractCard> pickDistinct(List<AbstractCard> pool, int count, Random rng) {
+        int size = pool.size();
+        int picks = Math.min(count, size);
+        ArrayList<AbstractCard> result = new ArrayList<>(picks);
+
+        int[] order = scratch(size);
+        for (int i = 0; i < size; i++) {
+            order[i] = i;
+        }
+        for (int i = 0; i < picks; i++) {
+            int j = i + rng.random(size - 1 - i);
+            int picked = order[j];
+            order[j] = order[i];
+            order[i] = picked;
+            result.add(pool.get(picked).makeCopy());
+        }
+        return result;
+    }
+
+    private static int[] scratch(int size) {
+        if (scratchOrder.length < size) {
+            scratchOrder = new int[size];
+        }
+        return scratchOrder;
+    }
+
+    /** Filtered candidates plus the source pools they were built from */
+    private static final class Pool {
+        final ArrayList<AbstractCard> cards = new ArrayList<>();
+        CardGroup[] sources = new CardGroup[0];
+        int[] sizes = new int[0];
+
+        boolean isStale(CardGroup... current) {
+            if (current.length != sources.length) {
+                return true;
+            }
+            for (int i = 0; i < current.length; i++) {
+                if (current[i] != sources[i] || current[i] == null || current[i].group.size() != sizes[i]) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        void rebuild(AbstractCard.CardType type, CardGroup... current) {
+            cards.clear();
+            sources = current;
+            sizes = new int[current.length];
+            for (int i = 0; i < current.length; i++) {
+                if (current[i] == null) {
+                    continue;
+                }
+                sizes[i] = current[i].group.size();
+                for (AbstractCard c : current[i].group) {
+                    if ((type == null || c.type == type) && !c.hasTag(AbstractCard.CardTags.HEALING)) {
+                        cards.add(c);
+                    }
+                }
+            }
+        }
+    }
+}
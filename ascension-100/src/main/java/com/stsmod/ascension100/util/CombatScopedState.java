@@ -0,0 +1,138 @@
+package com.stsmod.ascension100.util;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Per-combat key / value store for mod state attached to game objects
+ *
+ * Keys are compared by identity (monsters, cards, ... never equal each other
+ * by value). Every store is cleared when a combat ends (AbstractRoom.endBattle)
+ * and when a run ends or a new one is started (see CombatScopedStatePatch), so
+ * nothing from one fight is visible in the next. Each store also has a fixed
+ * capacity: once it is full, the oldest entry is dropped, so a long fight
+ * cannot grow it without bound either.
+ *
+ * Only used from the game thread.
+ *
+ * 전투 단위로 자동 초기화되는 상태 저장소
+ */
+public final class CombatScopedState<K, V> {
+    private static final Logger logger = LogManager.getLogger(CombatScopedState.class.getName());
+
+    private static final List<CombatScopedState<?, ?>> stores = new ArrayList<>();
+
+    private final String name;
+    private final int capacity;
+    private final Map<K, V> values;
+    // Insertion order of the keys in values, oldest first
+    private final ArrayDeque<K> order;
+    private boolean overflowLogged = false;
+
+    private CombatScopedState(String name, int capacity) {
+        this.name = name;
+        this.capacity = capacity;
+        this.values = new IdentityHashMap<>(capacity);
+        this.order = new ArrayDeque<>(capacity);
+    }
+
+    /**
+     * Create and register a store
+     *
+     * @param name used in log messages
+     * @param capacity maximum number of entries kept at once
+     */
+    public static <K, V> CombatScopedState<K, V> create(String name, int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be positive: " + capacity);
+        }
+        CombatScopedState<K, V> store = new CombatScopedState<>(name, capacity);
+        stores.add(store);
+        return store;
+    }
+
+    /**
+     * Clear every registered store
+     * @param reason used in the trace log
+     */
+    public static void clearAll(String reason) {
+        int cleared = 0;
+        for (CombatScopedState<?, ?> store : stores) {
+            cleared += store.size();
+            store.clear();
+        }
+        if (cleared > 0 && AscensionLog.isTracing()) {
+            logger.info(String.format("Cleared %d combat-scoped entries (%s)", cleared, reason));
+        }
+    }
+
+    public V get(K key) {
+        return values.get(key);
+    }
+
+    public boolean containsKey(K key) {
+        return values.containsKey(key);
+    }
+
+    /**
+     * Store a value, dropping the oldest entry if the store is full
+     * @return the previous value for the key, or null
+     */
+    public V put(K key, V value) {
+        if (values.containsKey(key)) {
+            return values.put(key, value);
+        }
+
+        if (values.size() >= capacity) {
+            K oldest = order.pollFirst();
+            values.remove(oldest);
+            if (!overflowLogged) {
+                overflowLogged = true;
+                logger.warn(String.format("%s exceeded %d entries; dropping the oldest", name, capacity));
+            }
+        }
+        order.addLast(key);
+        values.put(key, value);
+        return null;
+    }
+
+    /**
+     * @return the removed value, or null
+     */
+    public V remove(K key) {
+        if (!values.containsKey(key)) {
+            return null;
+        }
+        for (Iterator<K> it = order.iterator(); it.hasNext(); ) {
+            if (it.next() == key) {
+                it.remove();
+                break;
+            }
+        }
+        return values.remove(key);
+    }
+
+    public int size() {
+        return values.size();
+    }
+
+    public boolean isEmpty() {
+        return values.isEmpty();
+    }
+
+    public void clear() {
+        values.clear();
+        order.clear();
+    }
+
+    public String getName() {
+        return name;
+    }
+}
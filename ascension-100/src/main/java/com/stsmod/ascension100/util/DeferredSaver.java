@@ -0,0 +1,164 @@
+package com.stsmod.ascension100.util;
+
+import com.badlogic.gdx.Gdx;
+import com.evacipated.cardcrawl.modthespire.lib.SpireConfig;
+import com.megacrit.cardcrawl.helpers.Prefs;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Debounced background saving of character Prefs and mod SpireConfigs
+ *
+ * The ascension level buttons used to flush a Prefs file on every click.
+ * Callers now change the values and call save(); the file is written once
+ * it has been idle for IDLE_MS, so a burst of clicks costs one write per file.
+ *
+ * - SpireConfig.save() runs on the saver thread (its Properties are
+ *   synchronized).
+ * - Prefs.flush() serializes the live HashMap, so it is posted back to the
+ *   game thread; the vanilla flush hands the file write to the game's own
+ *   async saver.
+ *
+ * flushAll() writes everything pending right away; it runs when the game is
+ * disposed (DeferredSaverPatch) and from a shutdown hook as a fallback.
+ *
+ * 설정 파일 저장을 모아서 백그라운드에서 처리 (연속 클릭 시 한 번만 저장)
+ */
+public final class DeferredSaver {
+    private static final Logger logger = LogManager.getLogger(DeferredSaver.class.getName());
+
+    /** Idle time after the last change before a file is written */
+    public static final long IDLE_MS = 750L;
+
+    // Target (Prefs or SpireConfig) -> time of the last change; guarded by itself
+    private static final Map<Object, Long> pending = new IdentityHashMap<>();
+    private static Thread saver = null;
+
+    private DeferredSaver() {
+    }
+
+    /**
+     * Write the Prefs file once it has been idle for IDLE_MS
+     */
+    public static void save(Prefs prefs) {
+        schedule(prefs);
+    }
+
+    /**
+     * Write the SpireConfig file once it has been idle for IDLE_MS
+     */
+    public static void save(SpireConfig config) {
+        schedule(config);
+    }
+
+    private static void schedule(Object target) {
+        if (target == null) {
+            return;
+        }
+        synchronized (pending) {
+            pending.put(target, System.currentTimeMillis());
+            if (saver == null) {
+                saver = new Thread(DeferredSaver::saveLoop, "Ascension100-DeferredSaver");
+                saver.setDaemon(true);
+                saver.start();
+                Runtime.getRuntime().addShutdownHook(new Thread(DeferredSaver::flushAll, "Ascension100-SaveOnExit"));
+            }
+            pending.notifyAll();
+        }
+    }
+
+    /**
+     * Write every pending file now, on the calling thread
+     * Called on game exit, when the game thread no longer changes Prefs
+     */
+    public static void flushAll() {
+        List<Object> targets;
+        synchronized (pending) {
+            targets = new ArrayList<>(pending.keySet());
+            pending.clear();
+        }
+        for (Object target : targets) {
+            if (target instanceof Prefs) {
+                flush((Prefs) target);
+            } else {
+                write((SpireConfig) target);
+            }
+        }
+        if (!targets.isEmpty()) {
+            logger.info("Saved " + targets.size() + " pending settings file(s)");
+        }
+    }
+
+    private static void saveLoop() {
+        while (true) {
+            List<Object> due = new ArrayList<>();
+            try {
+                synchronized (pending) {
+                    long wait = nextDue(due);
+                    if (due.isEmpty()) {
+                        pending.wait(wait);
+                        continue;
+                    }
+                }
+            } catch (InterruptedException e) {
+                return;
+            }
+
+            for (Object target : due) {
+                if (target instanceof Prefs) {
+                    Prefs prefs = (Prefs) target;
+                    if (Gdx.app != null) {
+                        Gdx.app.postRunnable(() -> flush(prefs));
+                    } else {
+                        flush(prefs);
+                    }
+                } else {
+                    write((SpireConfig) target);
+                }
+            }
+        }
+    }
+
+    /**
+     * Move idle targets into due (under the lock)
+     * @return ms until the next target becomes idle, 0 to wait for a change
+     */
+    private static long nextDue(List<Object> due) {
+        long now = System.currentTimeMillis();
+        long wait = 0;
+        for (Map.Entry<Object, Long> entry : pending.entrySet()) {
+            long left = entry.getValue() + IDLE_MS - now;
+            if (left <= 0) {
+                due.add(entry.getKey());
+            } else if (wait == 0 || left < wait) {
+                wait = left;
+            }
+        }
+        for (Object target : due) {
+            pending.remove(target);
+        }
+        return wait;
+    }
+
+    private static void flush(Prefs prefs) {
+        try {
+            prefs.flush();
+        } catch (Exception e) {
+            logger.error("Failed to save character prefs", e);
+        }
+    }
+
+    private static void write(SpireConfig config) {
+        try {
+            config.save();
+        } catch (IOException e) {
+            logger.error("Failed to save mod config", e);
+        }
+    }
+}
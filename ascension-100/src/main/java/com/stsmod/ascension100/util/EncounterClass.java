@@ -0,0 +1,38 @@
+package com.stsmod.ascension100.util;
+
+/**
+ * Classification of the current combat encounter
+ *
+ * Resolved once per combat by EncounterHelper (see EncounterClassPatch).
+ *
+ * 전투 종류 (약한 적 / 강한 적 / 엘리트 / 보스 / 이벤트 / 알 수 없음)
+ */
+public enum EncounterClass {
+    WEAK("weak"),
+    STRONG("strong"),
+    ELITE("elite"),
+    BOSS("boss"),
+    EVENT("event"),
+    UNKNOWN("unknown");
+
+    private final String logName;
+
+    EncounterClass(String logName) {
+        this.logName = logName;
+    }
+
+    public boolean isWeak() {
+        return this == WEAK;
+    }
+
+    public boolean isStrong() {
+        return this == STRONG;
+    }
+
+    /**
+     * @return lowercase name used in log messages
+     */
+    public String getLogName() {
+        return logName;
+    }
+}
@@ -1,143 +1,316 @@
 package com.stsmod.ascension100.util;
 
+import basemod.BaseMod;
 import com.megacrit.cardcrawl.dungeons.AbstractDungeon;
+import com.megacrit.cardcrawl.monsters.MonsterInfo;
+import com.megacrit.cardcrawl.rooms.AbstractRoom;
+import com.megacrit.cardcrawl.rooms.MonsterRoomBoss;
+import com.megacrit.cardcrawl.rooms.MonsterRoomElite;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
 
 import java.util.Arrays;
-import java.util.HashSet;
-import java.util.Set;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
 /**
  * Helper class for determining encounter difficulty (weak vs strong)
  * Based on game's internal encounter generation logic
+ *
+ * The current encounter is classified once per combat (EncounterClassPatch,
+ * MonsterGroup.init) into an EncounterClass; level patches read the cached
+ * value through getEncounterClass().
+ *
+ * Encounter keys (AbstractDungeon.lastCombatMetricKey) are interned to small
+ * integer ids, and the weak / strong table is indexed by [act][id].
+ * Modded encounters can be added with register(); encounters added through
+ * BaseMod.addMonsterEncounter / addStrongMonsterEncounter are picked up
+ * automatically the first time they are seen.
  */
 public class EncounterHelper {
+    private static final Logger logger = LogManager.getLogger(EncounterHelper.class.getName());
 
-    // Act 1 (Exordium) Weak Encounters
-    private static final Set<String> ACT1_WEAK = new HashSet<>(Arrays.asList(
-        "Cultist",
-        "Jaw Worm",
-        "2 Louse",
-        "Small Slimes"
-    ));
-
-    // Act 1 (Exordium) Strong Encounters
-    private static final Set<String> ACT1_STRONG = new HashSet<>(Arrays.asList(
-        "Blue Slaver",
-        "Gremlin Gang",
-        "Looter",
-        "Large Slime",
-        "Lots of Slimes",
-        "Exordium Thugs",
-        "Exordium Wildlife",
-        "Red Slaver",
-        "3 Louse",
-        "2 Fungi Beasts"
-    ));
-
-    // Act 2 (The City) Weak Encounters
-    private static final Set<String> ACT2_WEAK = new HashSet<>(Arrays.asList(
-        "Spheric Guardian",
-        "Chosen",
-        "Shell Parasite",
-        "3 Byrds",
-        "2 Thieves"
-    ));
-
-    // Act 2 (The City) Strong Encounters
-    private static final Set<String> ACT2_STRONG = new HashSet<>(Arrays.asList(
-        "Chosen and Byrds",
-        "Sentry and Sphere",
-        "Snecko",
-        "Looter",
-        "Mugger",
-        "Shelled Parasite and Fungus Beast",
-        "Snake Plant",
-        "Spheric Guardian",
-        "Centurion and Healer",
-        "Cultist and Chosen",
-        "3 Cultists",
-        "Shelled Parasite and Cultist"
-    ));
-
-    // Act 3 (The Beyond) Weak Encounters
-    private static final Set<String> ACT3_WEAK = new HashSet<>(Arrays.asList(
-        "Jaw Worm Horde",
-        "3 Darklings",
-        "Orb Walker"
-    ));
-
-    // Act 3 (The Beyond) Strong Encounters
-    private static final Set<String> ACT3_STRONG = new HashSet<>(Arrays.asList(
-        "Spheric Guardian",
-        "Maw",
-        "Shapes",
-        "Spire Growth",
-        "Transient",
-        "4 Shapes",
-        "Spire Growth and Transient",
-        "Writhing Mass",
-        "Giant Head",
-        "Nemesis",
-        "Repulsor"
-    ));
+    /** Act index that matches every act */
+    public static final int ANY_ACT = 0;
+
+    // Acts 1~3 have weak/strong pools, act 4 (The Ending) only for completeness
+    private static final int MAX_ACT = 4;
+
+    // Interned encounter keys: key -> id
+    private static final Map<String, Integer> keyIds = new HashMap<>();
+
+    // table[act][id], null = not classified yet
+    private static final EncounterClass[][] table = new EncounterClass[MAX_ACT + 1][];
+
+    // Classification of the current combat
+    private static String currentKey = null;
+    private static int currentAct = -1;
+    private static EncounterClass current = EncounterClass.UNKNOWN;
+
+    static {
+        for (int act = 0; act <= MAX_ACT; act++) {
+            table[act] = new EncounterClass[32];
+        }
+
+        // Strong first, then weak: an encounter listed in both pools of the same
+        // act (Spheric Guardian in act 2) is treated as weak, like the old
+        // weak-before-strong checks did.
+
+        // Act 1 (Exordium) Strong Encounters
+        registerAll(1, EncounterClass.STRONG,
+            "Blue Slaver",
+            "Gremlin Gang",
+            "Looter",
+            "Large Slime",
+            "Lots of Slimes",
+            "Exordium Thugs",
+            "Exordium Wildlife",
+            "Red Slaver",
+            "3 Louse",
+            "2 Fungi Beasts"
+        );
+
+        // Act 1 (Exordium) Weak Encounters
+        registerAll(1, EncounterClass.WEAK,
+            "Cultist",
+            "Jaw Worm",
+            "2 Louse",
+            "Small Slimes"
+        );
+
+        // Act 2 (The City) Strong Encounters
+        registerAll(2, EncounterClass.STRONG,
+            "Chosen and Byrds",
+            "Sentry and Sphere",
+            "Snecko",
+            "Looter",
+            "Mugger",
+            "Shelled Parasite and Fungus Beast",
+            "Snake Plant",
+            "Spheric Guardian",
+            "Centurion and Healer",
+            "Cultist and Chosen",
+            "3 Cultists",
+            "Shelled Parasite and Cultist"
+        );
+
+        // Act 2 (The City) Weak Encounters
+        registerAll(2, EncounterClass.WEAK,
+            "Spheric Guardian",
+            "Chosen",
+            "Shell Parasite",
+            "3 Byrds",
+            "2 Thieves"
+        );
+
+        // Act 3 (The Beyond) Strong Encounters
+        registerAll(3, EncounterClass.STRONG,
+            "Spheric Guardian",
+            "Maw",
+            "Shapes",
+            "Spire Growth",
+            "Transient",
+            "4 Shapes",
+            "Spire Growth and Transient",
+            "Writhing Mass",
+            "Giant Head",
+            "Nemesis",
+            "Repulsor"
+        );
+
+        // Act 3 (The Beyond) Weak Encounters
+        registerAll(3, EncounterClass.WEAK,
+            "Jaw Worm Horde",
+            "3 Darklings",
+            "Orb Walker"
+        );
+    }
 
     /**
-     * Check if current encounter is a "weak" encounter
-     * @return true if weak encounter, false if strong or unknown
+     * Get the interned id of an encounter key, assigning a new one if needed
      */
-    public static boolean isWeakEncounter() {
-        String encounterKey = AbstractDungeon.lastCombatMetricKey;
-        if (encounterKey == null || encounterKey.isEmpty()) {
-            return false;
+    public static int intern(String encounterKey) {
+        Integer id = keyIds.get(encounterKey);
+        if (id == null) {
+            id = keyIds.size();
+            keyIds.put(encounterKey, id);
+        }
+        return id;
+    }
+
+    /**
+     * Register (or override) the class of an encounter
+     * Intended for modded encounters; call from receivePostInitialize or later
+     *
+     * @param act act number (1~4), or ANY_ACT
+     * @param encounterKey encounter key as stored in AbstractDungeon.lastCombatMetricKey
+     * @param encounterClass classification to use
+     */
+    public static void register(int act, String encounterKey, EncounterClass encounterClass) {
+        if (act < ANY_ACT || act > MAX_ACT) {
+            act = ANY_ACT;
+        }
+        int id = intern(encounterKey);
+        if (id >= table[act].length) {
+            table[act] = Arrays.copyOf(table[act], Math.max(id + 1, table[act].length * 2));
         }
+        table[act][id] = encounterClass;
+    }
 
-        int actNum = AbstractDungeon.actNum;
-        switch (actNum) {
-            case 1:
-                return ACT1_WEAK.contains(encounterKey);
-            case 2:
-                return ACT2_WEAK.contains(encounterKey);
-            case 3:
-                return ACT3_WEAK.contains(encounterKey);
-            default:
-                return false;
+    private static void registerAll(int act, EncounterClass encounterClass, String... encounterKeys) {
+        for (String key : encounterKeys) {
+            register(act, key, encounterClass);
         }
     }
 
     /**
-     * Check if current encounter is a "strong" encounter
-     * @return true if strong encounter, false if weak or unknown
+     * Look up an encounter key in the weak / strong table
+     * @return WEAK, STRONG or UNKNOWN
      */
-    public static boolean isStrongEncounter() {
-        String encounterKey = AbstractDungeon.lastCombatMetricKey;
+    public static EncounterClass lookup(int act, String encounterKey) {
         if (encounterKey == null || encounterKey.isEmpty()) {
+            return EncounterClass.UNKNOWN;
+        }
+
+        int id = intern(encounterKey);
+        EncounterClass result = get(act, id);
+        if (result == null) {
+            result = get(ANY_ACT, id);
+        }
+        if (result == null) {
+            // First time this key is seen in this act: check BaseMod's modded pools
+            result = lookupBaseMod(encounterKey);
+            if (act > ANY_ACT && act <= MAX_ACT) {
+                register(act, encounterKey, result);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Encounters registered for one act (not including ANY_ACT entries), in
+     * interned id order. Does not consult BaseMod, so it is safe to call
+     * without a running game (used by ascension-sim).
+     */
+    public static Map<String, EncounterClass> getRegisteredEncounters(int act) {
+        Map<String, EncounterClass> result = new LinkedHashMap<>();
+        if (act < ANY_ACT || act > MAX_ACT) {
+            return result;
+        }
+
+        String[] keys = new String[keyIds.size()];
+        for (Map.Entry<String, Integer> entry : keyIds.entrySet()) {
+            keys[entry.getValue()] = entry.getKey();
+        }
+        for (int id = 0; id < keys.length; id++) {
+            EncounterClass encounterClass = get(act, id);
+            if (encounterClass != null) {
+                result.put(keys[id], encounterClass);
+            }
+        }
+        return result;
+    }
+
+    private static EncounterClass get(int act, int id) {
+        if (act < ANY_ACT || act > MAX_ACT || id >= table[act].length) {
+            return null;
+        }
+        return table[act][id];
+    }
+
+    private static EncounterClass lookupBaseMod(String encounterKey) {
+        String dungeonID = AbstractDungeon.id;
+        if (dungeonID == null) {
+            return EncounterClass.UNKNOWN;
+        }
+
+        try {
+            if (containsEncounter(BaseMod.getMonsterEncounters(dungeonID), encounterKey)) {
+                logger.info("Encounter classified from BaseMod weak pool: " + encounterKey);
+                return EncounterClass.WEAK;
+            }
+            if (containsEncounter(BaseMod.getStrongMonsterEncounters(dungeonID), encounterKey)) {
+                logger.info("Encounter classified from BaseMod strong pool: " + encounterKey);
+                return EncounterClass.STRONG;
+            }
+        } catch (Exception e) {
+            logger.warn("Could not read BaseMod encounter pools for " + dungeonID, e);
+        }
+        return EncounterClass.UNKNOWN;
+    }
+
+    private static boolean containsEncounter(List<MonsterInfo> encounters, String encounterKey) {
+        if (encounters == null) {
             return false;
         }
+        for (MonsterInfo info : encounters) {
+            if (encounterKey.equals(info.name)) {
+                return true;
+            }
+        }
+        return false;
+    }
 
+    /**
+     * Classify the current combat and cache the result
+     * Called from MonsterGroup.init, before any monster is initialized
+     */
+    public static EncounterClass classify() {
+        String encounterKey = AbstractDungeon.lastCombatMetricKey;
         int actNum = AbstractDungeon.actNum;
-        switch (actNum) {
-            case 1:
-                return ACT1_STRONG.contains(encounterKey);
-            case 2:
-                return ACT2_STRONG.contains(encounterKey);
-            case 3:
-                return ACT3_STRONG.contains(encounterKey);
-            default:
-                return false;
+        AbstractRoom room = AbstractDungeon.getCurrRoom();
+
+        EncounterClass result;
+        if (room instanceof MonsterRoomBoss) {
+            result = EncounterClass.BOSS;
+        } else if (room instanceof MonsterRoomElite) {
+            result = EncounterClass.ELITE;
+        } else if (room != null && room.combatEvent) {
+            result = EncounterClass.EVENT;
+        } else {
+            result = lookup(actNum, encounterKey);
         }
+
+        currentKey = encounterKey;
+        currentAct = actNum;
+        current = result;
+        return result;
+    }
+
+    /**
+     * Get the class of the current encounter
+     * Reclassifies only if the encounter changed without going through MonsterGroup.init
+     */
+    public static EncounterClass getEncounterClass() {
+        if (currentKey != AbstractDungeon.lastCombatMetricKey || currentAct != AbstractDungeon.actNum) {
+            return classify();
+        }
+        return current;
+    }
+
+    /**
+     * Check if current encounter is a "weak" encounter
+     * @return true if weak encounter, false if strong or unknown
+     */
+    public static boolean isWeakEncounter() {
+        return getEncounterClass() == EncounterClass.WEAK;
+    }
+
+    /**
+     * Check if current encounter is a "strong" encounter
+     * @return true if strong encounter, false if weak or unknown
+     */
+    public static boolean isStrongEncounter() {
+        return getEncounterClass() == EncounterClass.STRONG;
     }
 
     /**
      * Get encounter type for logging
-     * @return "weak", "strong", or "unknown"
+     * @return "weak", "strong", "elite", "boss", "event" or "unknown"
      */
     public static String getEncounterType() {
-        if (isWeakEncounter()) {
-            return "weak";
-        } else if (isStrongEncounter()) {
-            return "strong";
-        } else {
-            return "unknown";
-        }
+        return getEncounterClass().getLogName();
     }
 }
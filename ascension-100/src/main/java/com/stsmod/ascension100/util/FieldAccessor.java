@@ -0,0 +1,232 @@
+package com.stsmod.ascension100.util;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+
+/**
+ * Pre-resolved accessor for a private game field
+ *
+ * Wraps getter / setter MethodHandles that are looked up once (see
+ * ReflectionCache). The get / set methods mirror java.lang.reflect.Field so
+ * call sites read the same, but failures are reported as unchecked
+ * IllegalStateException instead of checked reflection exceptions.
+ *
+ * 한 번만 조회되는 private 필드 접근자
+ */
+public final class FieldAccessor {
+    private static final String WIDENING_ORDER = "byte short int long float double";
+
+    private final Class<?> owner;
+    private final String name;
+
+    // (Object)Object and (Object, Object)void, null if the field is missing
+    private MethodHandle getter;
+    private MethodHandle setter;
+
+    // Primitive variants, null if the field type does not convert
+    private MethodHandle intGetter;
+    private MethodHandle intSetter;
+    private MethodHandle byteGetter;
+    private MethodHandle booleanGetter;
+    private MethodHandle booleanSetter;
+    private MethodHandle floatGetter;
+    private MethodHandle floatSetter;
+
+    private String failure = null;
+
+    FieldAccessor(Class<?> owner, String name) {
+        this.owner = owner;
+        this.name = name;
+        resolve();
+    }
+
+    private void resolve() {
+        Field field;
+        try {
+            field = owner.getDeclaredField(name);
+            field.setAccessible(true);
+        } catch (Exception e) {
+            failure = e.toString();
+            return;
+        }
+
+        MethodHandles.Lookup lookup = MethodHandles.lookup();
+        boolean isStatic = Modifier.isStatic(field.getModifiers());
+        Class<?> type = field.getType();
+
+        try {
+            MethodHandle rawGetter = lookup.unreflectGetter(field);
+            if (isStatic) {
+                // Ignore the target argument, like Field.get(null)
+                rawGetter = MethodHandles.dropArguments(rawGetter, 0, Object.class);
+            }
+            getter = rawGetter.asType(MethodType.methodType(Object.class, Object.class));
+            intGetter = adaptGetter(rawGetter, type, int.class);
+            byteGetter = adaptGetter(rawGetter, type, byte.class);
+            booleanGetter = adaptGetter(rawGetter, type, boolean.class);
+            floatGetter = adaptGetter(rawGetter, type, float.class);
+        } catch (Exception e) {
+            failure = e.toString();
+            return;
+        }
+
+        try {
+            MethodHandle rawSetter = lookup.unreflectSetter(field);
+            if (isStatic) {
+                rawSetter = MethodHandles.dropArguments(rawSetter, 0, Object.class);
+            }
+            setter = rawSetter.asType(MethodType.methodType(void.class, Object.class, Object.class));
+            intSetter = adaptSetter(rawSetter, type, int.class);
+            booleanSetter = adaptSetter(rawSetter, type, boolean.class);
+            floatSetter = adaptSetter(rawSetter, type, float.class);
+        } catch (Exception e) {
+            // Static final fields are read-only; leave setters null
+        }
+    }
+
+    // Only primitive widening is allowed, same as Field.getInt / Field.setInt
+
+    private static MethodHandle adaptGetter(MethodHandle getter, Class<?> fieldType, Class<?> type) {
+        if (!isWidening(fieldType, type)) {
+            return null;
+        }
+        return getter.asType(MethodType.methodType(type, Object.class));
+    }
+
+    private static MethodHandle adaptSetter(MethodHandle setter, Class<?> fieldType, Class<?> type) {
+        if (!isWidening(type, fieldType)) {
+            return null;
+        }
+        return setter.asType(MethodType.methodType(void.class, Object.class, type));
+    }
+
+    private static boolean isWidening(Class<?> from, Class<?> to) {
+        if (!from.isPrimitive() || !to.isPrimitive()) {
+            return false;
+        }
+        if (from == to) {
+            return true;
+        }
+        if (from == boolean.class || to == boolean.class) {
+            return false;
+        }
+        if (from == char.class) {
+            return to == int.class || to == long.class || to == float.class || to == double.class;
+        }
+        int fromIndex = WIDENING_ORDER.indexOf(from.getName());
+        int toIndex = WIDENING_ORDER.indexOf(to.getName());
+        return fromIndex >= 0 && toIndex >= 0 && fromIndex < toIndex;
+    }
+
+    /**
+     * @return true if the field was found when the cache was built
+     */
+    public boolean isResolved() {
+        return failure == null;
+    }
+
+    /**
+     * @return reason the field could not be resolved, or null
+     */
+    public String getFailure() {
+        return failure;
+    }
+
+    public String getName() {
+        return owner.getSimpleName() + "." + name;
+    }
+
+    public Object get(Object target) {
+        try {
+            return require(getter).invokeExact(target);
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    public void set(Object target, Object value) {
+        try {
+            require(setter).invokeExact(target, value);
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    public int getInt(Object target) {
+        try {
+            return (int) require(intGetter).invokeExact(target);
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    public void setInt(Object target, int value) {
+        try {
+            require(intSetter).invokeExact(target, value);
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    public byte getByte(Object target) {
+        try {
+            return (byte) require(byteGetter).invokeExact(target);
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    public boolean getBoolean(Object target) {
+        try {
+            return (boolean) require(booleanGetter).invokeExact(target);
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    public void setBoolean(Object target, boolean value) {
+        try {
+            require(booleanSetter).invokeExact(target, value);
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    public float getFloat(Object target) {
+        try {
+            return (float) require(floatGetter).invokeExact(target);
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    public void setFloat(Object target, float value) {
+        try {
+            require(floatSetter).invokeExact(target, value);
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    private MethodHandle require(MethodHandle handle) {
+        if (handle == null) {
+            throw new IllegalStateException(failure != null
+                ? getName() + " was not resolved: " + failure
+                : getName() + " does not support this access");
+        }
+        return handle;
+    }
+
+    static RuntimeException rethrow(Throwable t) {
+        if (t instanceof RuntimeException) {
+            return (RuntimeException) t;
+        }
+        if (t instanceof Error) {
+            throw (Error) t;
+        }
+        return new IllegalStateException(t);
+    }
+}
@@ -0,0 +1,103 @@
+package com.stsmod.ascension100.util;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * One shared hook point with per-level listeners
+ *
+ * Several levels used to patch the same game method, each patch checking its
+ * own level on every call. A shared patch now owns the LevelHook and calls
+ * only the linked listeners. Linking happens when a rule set is installed
+ * (run start / new act, see AscensionRuleSet.install) and keeps listeners
+ * whose level is active; installing NONE at run end unlinks everything, so
+ * runs at ascension 0~20 only pay for an empty-array check.
+ *
+ * Listeners run in ascending level order (registration order within a level).
+ *
+ * 여러 레벨이 공유하는 훅 지점 (활성 레벨의 리스너만 연결)
+ */
+public final class LevelHook<L> {
+    private static final Object[] EMPTY = new Object[0];
+    private static final List<LevelHook<?>> hooks = new ArrayList<>();
+
+    private final String name;
+    private final List<Registration> registrations = new ArrayList<>();
+    private Object[] linked = EMPTY;
+
+    private LevelHook(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Create a hook point that follows AscensionRuleSet installs
+     */
+    public static <L> LevelHook<L> create(String name) {
+        LevelHook<L> hook = new LevelHook<>(name);
+        hooks.add(hook);
+        return hook;
+    }
+
+    /**
+     * Register a listener for the given ascension level
+     * Relinks immediately, so registering after a run started is safe
+     */
+    public void register(int level, L listener) {
+        int index = registrations.size();
+        while (index > 0 && registrations.get(index - 1).level > level) {
+            index--;
+        }
+        registrations.add(index, new Registration(level, listener));
+        link(AscensionRuleSet.current());
+    }
+
+    /**
+     * Relink every hook against a newly installed rule set
+     */
+    static void linkAll(AscensionRuleSet ruleSet) {
+        for (LevelHook<?> hook : hooks) {
+            hook.link(ruleSet);
+        }
+    }
+
+    private void link(AscensionRuleSet ruleSet) {
+        List<Object> active = new ArrayList<>();
+        for (Registration r : registrations) {
+            if (ruleSet.has(r.level)) {
+                active.add(r.listener);
+            }
+        }
+        linked = active.isEmpty() ? EMPTY : active.toArray();
+    }
+
+    /**
+     * @return number of linked listeners (0 when no registered level is active)
+     */
+    public int size() {
+        return linked.length;
+    }
+
+    @SuppressWarnings("unchecked")
+    public L get(int index) {
+        return (L) linked[index];
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public String toString() {
+        return name + " (" + linked.length + "/" + registrations.size() + " linked)";
+    }
+
+    private static final class Registration {
+        final int level;
+        final Object listener;
+
+        Registration(int level, Object listener) {
+            this.level = level;
+            this.listener = listener;
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.stsmod.ascension100.util;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+/**
+ * Pre-resolved accessor for a private / protected game method
+ *
+ * The MethodHandle is looked up once (see ReflectionCache) and adapted to
+ * (Object target, Object[] args)Object. invoke() mirrors Method.invoke but
+ * throws unchecked exceptions. Abstract methods dispatch virtually, so one
+ * accessor on AbstractMonster works for every monster subclass.
+ *
+ * 한 번만 조회되는 private 메서드 접근자
+ */
+public final class MethodAccessor {
+    private final Class<?> owner;
+    private final String name;
+    private final Class<?>[] parameterTypes;
+
+    private MethodHandle invoker;
+    private String failure = null;
+
+    MethodAccessor(Class<?> owner, String name, Class<?>... parameterTypes) {
+        this.owner = owner;
+        this.name = name;
+        this.parameterTypes = parameterTypes;
+        resolve();
+    }
+
+    private void resolve() {
+        try {
+            Method method = owner.getDeclaredMethod(name, parameterTypes);
+            method.setAccessible(true);
+
+            MethodHandle handle = MethodHandles.lookup().unreflect(method);
+            int argCount = parameterTypes.length;
+            if (Modifier.isStatic(method.getModifiers())) {
+                handle = handle.asType(MethodType.genericMethodType(argCount));
+                // Ignore the target argument, like Method.invoke(null, ...)
+                handle = MethodHandles.dropArguments(handle, 0, Object.class);
+            } else {
+                handle = handle.asType(MethodType.genericMethodType(argCount + 1));
+            }
+            invoker = handle.asSpreader(Object[].class, argCount);
+        } catch (Exception e) {
+            failure = e.toString();
+        }
+    }
+
+    /**
+     * @return true if the method was found when the cache was built
+     */
+    public boolean isResolved() {
+        return failure == null;
+    }
+
+    /**
+     * @return reason the method could not be resolved, or null
+     */
+    public String getFailure() {
+        return failure;
+    }
+
+    public String getName() {
+        return owner.getSimpleName() + "." + name + "()";
+    }
+
+    /**
+     * Invoke the method
+     * @param target instance, ignored for static methods
+     * @param args arguments (primitives are unboxed)
+     * @return return value, null for void methods
+     */
+    public Object invoke(Object target, Object... args) {
+        if (invoker == null) {
+            throw new IllegalStateException(getName() + " was not resolved: " + failure);
+        }
+        try {
+            return invoker.invokeExact(target, args);
+        } catch (Throwable t) {
+            throw FieldAccessor.rethrow(t);
+        }
+    }
+}
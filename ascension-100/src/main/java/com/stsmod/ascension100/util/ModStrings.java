@@ -0,0 +1,125 @@
+package com.stsmod.ascension100.util;
+
+import com.megacrit.cardcrawl.core.CardCrawlGame;
+import com.megacrit.cardcrawl.localization.CardStrings;
+import com.megacrit.cardcrawl.localization.PowerStrings;
+import com.megacrit.cardcrawl.localization.UIStrings;
+import com.stsmod.ascension100.powers.LifeLinkPower;
+import com.stsmod.ascension100.powers.TurnLimitPower;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Every localized string the mod uses, resolved once after loading
+ *
+ * resolve() runs at the end of receiveEditStrings, when the mod's
+ * UIStrings / PowerStrings / CardStrings are in the language pack. Patches
+ * and powers read these fields instead of calling languagePack.getXxx(), so
+ * card constructors and power class init do no map lookups. Missing keys are
+ * logged together at startup; their fields keep the English text.
+ *
+ * 모드에서 사용하는 현지화 문자열 (로드 직후 한 번만 조회)
+ */
+public final class ModStrings {
+    private static final Logger logger = LogManager.getLogger(ModStrings.class.getName());
+
+    public static final String ASCENSION_DESCRIPTIONS_ID = "AscensionModeDescriptions";
+    public static final String TURN_LIMIT_ID = TurnLimitPower.POWER_ID;
+    public static final String LIFE_LINK_ID = LifeLinkPower.POWER_ID;
+    public static final String ASCENDERS_BANE_34_ID = "Ascension100:AscendersBaneLevel30";
+    public static final String ASCENDERS_BANE_80_ID = "Ascension100:AscendersBaneLevel80";
+
+    /** Character select descriptions, index = level - 1 (null when missing) */
+    public static String[] ascensionDescriptions = null;
+
+    public static String turnLimitName = "Turn Limit";
+    public static String[] turnLimitDescriptions = {
+        "At the end of turn, if this is greater than 1, decrease by #b1. In #b",
+        "At the end of turn, take #b",
+        " damage. This effect persists until death.",
+        " turns, you will die."
+    };
+
+    public static String lifeLinkName = "Life Link";
+    public static String[] lifeLinkDescriptions = {
+        "If the other enemy is still alive, revives in #b1 turn at #b50% HP."
+    };
+
+    /** Level 34~79 Ascender's Bane text (adds Clumsy) */
+    public static String ascendersBane34Description =
+        "Unplayable. NL Ethereal. NL At the end of your turn, add a Clumsy to your discard pile.";
+    /** Level 80+ Ascender's Bane text */
+    public static String ascendersBane80Description = "Exhaust.";
+
+    private static boolean resolved = false;
+
+    private ModStrings() {
+    }
+
+    /**
+     * Look up every key once; call after the mod's strings are loaded
+     */
+    public static void resolve() {
+        List<String> missing = new ArrayList<>();
+
+        UIStrings descriptions = CardCrawlGame.languagePack.getUIString(ASCENSION_DESCRIPTIONS_ID);
+        if (descriptions != null && descriptions.TEXT != null) {
+            ascensionDescriptions = descriptions.TEXT;
+        } else {
+            missing.add(ASCENSION_DESCRIPTIONS_ID);
+        }
+
+        PowerStrings turnLimit = power(TURN_LIMIT_ID, turnLimitDescriptions.length, missing);
+        if (turnLimit != null) {
+            turnLimitName = turnLimit.NAME;
+            turnLimitDescriptions = turnLimit.DESCRIPTIONS;
+        }
+
+        PowerStrings lifeLink = power(LIFE_LINK_ID, lifeLinkDescriptions.length, missing);
+        if (lifeLink != null) {
+            lifeLinkName = lifeLink.NAME;
+            lifeLinkDescriptions = lifeLink.DESCRIPTIONS;
+        }
+
+        ascendersBane34Description = card(ASCENDERS_BANE_34_ID, ascendersBane34Description, missing);
+        ascendersBane80Description = card(ASCENDERS_BANE_80_ID, ascendersBane80Description, missing);
+
+        resolved = true;
+        if (missing.isEmpty()) {
+            logger.info("Mod strings resolved");
+        } else {
+            logger.error("Missing localized strings (English fallback used): " + missing);
+        }
+    }
+
+    public static boolean isResolved() {
+        return resolved;
+    }
+
+    private static PowerStrings power(String id, int descriptions, List<String> missing) {
+        PowerStrings strings = CardCrawlGame.languagePack.getPowerStrings(id);
+        if (strings == null || isMissing(strings.NAME)
+                || strings.DESCRIPTIONS == null || strings.DESCRIPTIONS.length < descriptions) {
+            missing.add(id);
+            return null;
+        }
+        return strings;
+    }
+
+    private static String card(String id, String fallback, List<String> missing) {
+        CardStrings strings = CardCrawlGame.languagePack.getCardStrings(id);
+        if (strings == null || isMissing(strings.DESCRIPTION)) {
+            missing.add(id);
+            return fallback;
+        }
+        return strings.DESCRIPTION;
+    }
+
+    /** The language pack returns "[MISSING_...]" placeholders for unknown keys */
+    private static boolean isMissing(String text) {
+        return text == null || text.startsWith("[MISSING");
+    }
+}
@@ -0,0 +1,86 @@
+package com.stsmod.ascension100.util;
+
+import com.megacrit.cardcrawl.core.Settings;
+import com.megacrit.cardcrawl.helpers.PowerTip;
+import com.megacrit.cardcrawl.potions.AbstractPotion;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Level 25 description table for the card choice potions (3 → 2 choices)
+ *
+ * Attack / Skill / Power / Colorless potions build their description in
+ * initializeData, and potions are created constantly (reward rolls, shop
+ * stock, Entropic Brew, tooltips). The rewritten text is computed once per
+ * distinct vanilla description and language, then every later instance just
+ * gets the cached String: one hash lookup, no allocation.
+ *
+ * The "#b3" → "#b2" rewrite covers every locale that highlights the number
+ * as a digit; WORD_REWRITES adds the locales that spell it out.
+ *
+ * 카드 선택 포션 설명 캐시 (언어별, 설명 문자열당 한 번만 변환)
+ */
+public final class PotionDescriptions {
+    private static final String DIGIT_FROM = "#b3";
+    private static final String DIGIT_TO = "#b2";
+
+    // Locales that spell "three" as a word: language -> { from, to }
+    private static final Map<Settings.GameLanguage, String[]> WORD_REWRITES = new HashMap<>();
+    static {
+        WORD_REWRITES.put(Settings.GameLanguage.KOR, new String[] { "셋", "둘" });
+    }
+
+    // Vanilla description -> Level 25 description, for the language below
+    private static final Map<String, String> table = new HashMap<>();
+    private static Settings.GameLanguage tableLanguage = null;
+
+    private PotionDescriptions() {
+    }
+
+    /**
+     * Swap the potion's description (and its main tooltip) for the reduced
+     * choice text; call from an initializeData postfix
+     */
+    public static void applyReducedChoices(AbstractPotion potion) {
+        String original = potion.description;
+        if (original == null) {
+            return;
+        }
+
+        String reduced = reducedChoices(original);
+        potion.description = reduced;
+        // initializeData adds the main tip from the vanilla text
+        for (PowerTip tip : potion.tips) {
+            if (original.equals(tip.body)) {
+                tip.body = reduced;
+            }
+        }
+    }
+
+    /**
+     * @return the cached reduced choice text for a vanilla description
+     */
+    public static String reducedChoices(String description) {
+        if (tableLanguage != Settings.language) {
+            table.clear();
+            tableLanguage = Settings.language;
+        }
+
+        String reduced = table.get(description);
+        if (reduced == null) {
+            reduced = rewrite(description, Settings.language);
+            table.put(description, reduced);
+        }
+        return reduced;
+    }
+
+    private static String rewrite(String description, Settings.GameLanguage language) {
+        String result = description.replace(DIGIT_FROM, DIGIT_TO);
+        String[] word = WORD_REWRITES.get(language);
+        if (word != null) {
+            result = result.replace(word[0], word[1]);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,319 @@
+package com.stsmod.ascension100.util;
+
+import com.megacrit.cardcrawl.actions.common.ApplyPowerAction;
+import com.megacrit.cardcrawl.actions.common.DamageAction;
+import com.megacrit.cardcrawl.actions.common.SetMoveAction;
+import com.megacrit.cardcrawl.cards.AbstractCard;
+import com.megacrit.cardcrawl.dungeons.AbstractDungeon;
+import com.megacrit.cardcrawl.dungeons.TheCity;
+import com.megacrit.cardcrawl.events.exordium.ScrapOoze;
+import com.megacrit.cardcrawl.events.shrines.Bonfire;
+import com.megacrit.cardcrawl.events.shrines.Designer;
+import com.megacrit.cardcrawl.events.shrines.FaceTrader;
+import com.megacrit.cardcrawl.events.shrines.GoldShrine;
+import com.megacrit.cardcrawl.events.shrines.GremlinWheelGame;
+import com.megacrit.cardcrawl.events.shrines.WomanInBlue;
+import com.megacrit.cardcrawl.monsters.AbstractMonster;
+import com.megacrit.cardcrawl.monsters.EnemyMoveInfo;
+import com.megacrit.cardcrawl.monsters.beyond.GiantHead;
+import com.megacrit.cardcrawl.monsters.beyond.Maw;
+import com.megacrit.cardcrawl.monsters.beyond.Nemesis;
+import com.megacrit.cardcrawl.monsters.beyond.Reptomancer;
+import com.megacrit.cardcrawl.monsters.beyond.Repulsor;
+import com.megacrit.cardcrawl.monsters.beyond.WrithingMass;
+import com.megacrit.cardcrawl.monsters.city.BookOfStabbing;
+import com.megacrit.cardcrawl.monsters.city.Byrd;
+import com.megacrit.cardcrawl.monsters.city.Centurion;
+import com.megacrit.cardcrawl.monsters.city.Champ;
+import com.megacrit.cardcrawl.monsters.city.GremlinLeader;
+import com.megacrit.cardcrawl.monsters.city.Healer;
+import com.megacrit.cardcrawl.monsters.city.Mugger;
+import com.megacrit.cardcrawl.monsters.exordium.Cultist;
+import com.megacrit.cardcrawl.monsters.exordium.FungiBeast;
+import com.megacrit.cardcrawl.monsters.exordium.GremlinThief;
+import com.megacrit.cardcrawl.monsters.exordium.GremlinTsundere;
+import com.megacrit.cardcrawl.monsters.exordium.Hexaghost;
+import com.megacrit.cardcrawl.monsters.exordium.Lagavulin;
+import com.megacrit.cardcrawl.monsters.exordium.Looter;
+import com.megacrit.cardcrawl.monsters.exordium.Sentry;
+import com.megacrit.cardcrawl.monsters.exordium.SlaverBlue;
+import com.megacrit.cardcrawl.monsters.exordium.SlaverRed;
+import com.megacrit.cardcrawl.monsters.exordium.SlimeBoss;
+import com.megacrit.cardcrawl.monsters.exordium.TheGuardian;
+import com.megacrit.cardcrawl.neow.NeowReward;
+import com.megacrit.cardcrawl.powers.AbstractPower;
+import com.megacrit.cardcrawl.powers.MalleablePower;
+import com.megacrit.cardcrawl.screens.CombatRewardScreen;
+import com.megacrit.cardcrawl.screens.charSelect.CharacterOption;
+import com.megacrit.cardcrawl.screens.charSelect.CharacterSelectScreen;
+import com.megacrit.cardcrawl.screens.stats.CharStat;
+import com.megacrit.cardcrawl.vfx.campfire.CampfireSleepEffect;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Central registry of every private game field / method the mod touches
+ *
+ * All accessors are resolved once, when this class is initialized from
+ * Ascension100Mod.receivePostInitialize (see init()). Members that cannot be
+ * found (e.g. after a game update) are listed in a single startup report and
+ * init() throws, so an incompatible game version stops the game at startup
+ * instead of failing later in some combat hook.
+ *
+ * Class literals do not run the game classes' static initializers, so
+ * resolving here has no side effects.
+ *
+ * 모드가 사용하는 모든 private 필드 / 메서드 접근자를 시작 시 한 번만 조회
+ */
+public final class ReflectionCache {
+    private static final Logger logger = LogManager.getLogger(ReflectionCache.class.getName());
+
+    // Must be declared before the accessors so it exists while they register
+    private static final List<FieldAccessor> fields = new ArrayList<>();
+    private static final List<MethodAccessor> methods = new ArrayList<>();
+
+    // ApplyPowerAction
+    public static final FieldAccessor APPLY_POWER_ACTION_AMOUNT = field(ApplyPowerAction.class, "amount");
+    public static final FieldAccessor APPLY_POWER_ACTION_POWER_TO_APPLY = field(ApplyPowerAction.class, "powerToApply");
+
+    // DamageAction
+    public static final FieldAccessor DAMAGE_ACTION_INFO = field(DamageAction.class, "info");
+
+    // SetMoveAction
+    public static final FieldAccessor SET_MOVE_ACTION_THE_NEXT_DAMAGE = field(SetMoveAction.class, "theNextDamage");
+
+    // AbstractCard
+    public static final FieldAccessor ABSTRACT_CARD_RAW_DESCRIPTION = field(AbstractCard.class, "rawDescription");
+
+    // AbstractDungeon
+    public static final FieldAccessor ABSTRACT_DUNGEON_COMMON_RELIC_CHANCE = field(AbstractDungeon.class, "commonRelicChance");
+    public static final FieldAccessor ABSTRACT_DUNGEON_MAP = field(AbstractDungeon.class, "map");
+    public static final FieldAccessor ABSTRACT_DUNGEON_RARE_RELIC_CHANCE = field(AbstractDungeon.class, "rareRelicChance");
+    public static final FieldAccessor ABSTRACT_DUNGEON_REST_ROOM_CHANCE = field(AbstractDungeon.class, "restRoomChance");
+    public static final FieldAccessor ABSTRACT_DUNGEON_SHOP_ROOM_CHANCE = field(AbstractDungeon.class, "shopRoomChance");
+    public static final FieldAccessor ABSTRACT_DUNGEON_UNCOMMON_RELIC_CHANCE = field(AbstractDungeon.class, "uncommonRelicChance");
+    public static final MethodAccessor ABSTRACT_DUNGEON_POPULATE_MONSTER_LIST = method(AbstractDungeon.class, "populateMonsterList", ArrayList.class, int.class, boolean.class);
+
+    // TheCity
+    public static final MethodAccessor THE_CITY_GENERATE_EXCLUSIONS = method(TheCity.class, "generateExclusions");
+    public static final MethodAccessor THE_CITY_POPULATE_FIRST_STRONG_ENEMY = method(TheCity.class, "populateFirstStrongEnemy", ArrayList.class, ArrayList.class);
+
+    // ScrapOoze
+    public static final FieldAccessor SCRAP_OOZE_DMG = field(ScrapOoze.class, "dmg");
+    public static final FieldAccessor SCRAP_OOZE_RELIC_OBTAIN_CHANCE = field(ScrapOoze.class, "relicObtainChance");
+
+    // Bonfire
+    public static final FieldAccessor BONFIRE_DESCRIPTIONS = field(Bonfire.class, "DESCRIPTIONS");
+    public static final FieldAccessor BONFIRE_OPTIONS = field(Bonfire.class, "OPTIONS");
+
+    // Designer
+    public static final FieldAccessor DESIGNER_CUR_SCREEN = field(Designer.class, "curScreen");
+
+    // FaceTrader
+    public static final FieldAccessor FACE_TRADER_DAMAGE = field(FaceTrader.class, "damage");
+
+    // GoldShrine
+    public static final FieldAccessor GOLD_SHRINE_OPTIONS = field(GoldShrine.class, "OPTIONS");
+    public static final FieldAccessor GOLD_SHRINE_SCREEN = field(GoldShrine.class, "screen");
+
+    // GremlinWheelGame
+    public static final FieldAccessor GREMLIN_WHEEL_GAME_RESULT = field(GremlinWheelGame.class, "result");
+    public static final FieldAccessor GREMLIN_WHEEL_GAME_RESULT_ANGLE = field(GremlinWheelGame.class, "resultAngle");
+    public static final FieldAccessor GREMLIN_WHEEL_GAME_SCREEN = field(GremlinWheelGame.class, "screen");
+
+    // WomanInBlue
+    public static final FieldAccessor WOMAN_IN_BLUE_COST1 = field(WomanInBlue.class, "cost1");
+    public static final FieldAccessor WOMAN_IN_BLUE_COST2 = field(WomanInBlue.class, "cost2");
+    public static final FieldAccessor WOMAN_IN_BLUE_COST3 = field(WomanInBlue.class, "cost3");
+    public static final FieldAccessor WOMAN_IN_BLUE_SCREEN = field(WomanInBlue.class, "screen");
+
+    // AbstractMonster
+    public static final FieldAccessor ABSTRACT_MONSTER_INTENT = field(AbstractMonster.class, "intent");
+    public static final FieldAccessor ABSTRACT_MONSTER_INTENT_BASE_DMG = field(AbstractMonster.class, "intentBaseDmg");
+    public static final FieldAccessor ABSTRACT_MONSTER_INTENT_DMG = field(AbstractMonster.class, "intentDmg");
+    public static final FieldAccessor ABSTRACT_MONSTER_MOVE = field(AbstractMonster.class, "move");
+    public static final FieldAccessor ABSTRACT_MONSTER_NEXT_MOVE = field(AbstractMonster.class, "nextMove");
+    public static final MethodAccessor ABSTRACT_MONSTER_CALCULATE_DAMAGE = method(AbstractMonster.class, "calculateDamage", int.class);
+    public static final MethodAccessor ABSTRACT_MONSTER_GET_MOVE = method(AbstractMonster.class, "getMove", int.class);
+    public static final MethodAccessor ABSTRACT_MONSTER_LAST_MOVE = method(AbstractMonster.class, "lastMove", byte.class);
+    public static final MethodAccessor ABSTRACT_MONSTER_LAST_TWO_MOVES = method(AbstractMonster.class, "lastTwoMoves", byte.class);
+
+    // EnemyMoveInfo
+    public static final FieldAccessor ENEMY_MOVE_INFO_NEXT_MOVE = field(EnemyMoveInfo.class, "nextMove");
+
+    // GiantHead
+    public static final FieldAccessor GIANT_HEAD_COUNT = field(GiantHead.class, "count");
+    public static final FieldAccessor GIANT_HEAD_STARTING_DEATH_DMG = field(GiantHead.class, "startingDeathDmg");
+
+    // Maw
+    public static final FieldAccessor MAW_STR_UP = field(Maw.class, "strUp");
+
+    // Nemesis
+    public static final FieldAccessor NEMESIS_FIRE_DMG = field(Nemesis.class, "fireDmg");
+
+    // Reptomancer
+    public static final FieldAccessor REPTOMANCER_DAGGERS = field(Reptomancer.class, "daggers");
+
+    // Repulsor
+    public static final FieldAccessor REPULSOR_DAZE_AMT = field(Repulsor.class, "dazeAmt");
+
+    // WrithingMass
+    public static final FieldAccessor WRITHING_MASS_FIRST_MOVE = field(WrithingMass.class, "firstMove");
+    public static final FieldAccessor WRITHING_MASS_USED_MEGA_DEBUFF = field(WrithingMass.class, "usedMegaDebuff");
+
+    // BookOfStabbing
+    public static final FieldAccessor BOOK_OF_STABBING_STAB_COUNT = field(BookOfStabbing.class, "stabCount");
+
+    // Byrd
+    public static final FieldAccessor BYRD_FLIGHT_AMT = field(Byrd.class, "flightAmt");
+
+    // Centurion
+    public static final FieldAccessor CENTURION_BLOCK_AMOUNT = field(Centurion.class, "blockAmount");
+
+    // Champ
+    public static final FieldAccessor CHAMP_THRESHOLD_REACHED = field(Champ.class, "thresholdReached");
+
+    // GremlinLeader
+    public static final FieldAccessor GREMLIN_LEADER_BLOCK_AMT = field(GremlinLeader.class, "blockAmt");
+    public static final FieldAccessor GREMLIN_LEADER_GREMLINS = field(GremlinLeader.class, "gremlins");
+    public static final FieldAccessor GREMLIN_LEADER_STAB_DMG = field(GremlinLeader.class, "STAB_DMG");
+    public static final FieldAccessor GREMLIN_LEADER_STR_AMT = field(GremlinLeader.class, "strAmt");
+
+    // Healer
+    public static final FieldAccessor HEALER_HEAL_AMT = field(Healer.class, "healAmt");
+
+    // Mugger
+    public static final FieldAccessor MUGGER_ESCAPE_DEF = field(Mugger.class, "escapeDef");
+    public static final FieldAccessor MUGGER_GOLD_AMT = field(Mugger.class, "goldAmt");
+
+    // Cultist
+    public static final FieldAccessor CULTIST_FIRST_MOVE = field(Cultist.class, "firstMove");
+    public static final FieldAccessor CULTIST_RITUAL_AMOUNT = field(Cultist.class, "ritualAmount");
+
+    // FungiBeast
+    public static final FieldAccessor FUNGI_BEAST_STR_AMT = field(FungiBeast.class, "strAmt");
+
+    // GremlinThief
+    public static final FieldAccessor GREMLIN_THIEF_THIEF_DAMAGE = field(GremlinThief.class, "thiefDamage");
+
+    // GremlinTsundere
+    public static final FieldAccessor GREMLIN_TSUNDERE_BLOCK_AMT = field(GremlinTsundere.class, "blockAmt");
+
+    // Hexaghost
+    public static final FieldAccessor HEXAGHOST_INFERNO_DMG = field(Hexaghost.class, "infernoDmg");
+
+    // Lagavulin
+    public static final FieldAccessor LAGAVULIN_ASLEEP = field(Lagavulin.class, "asleep");
+    public static final FieldAccessor LAGAVULIN_IDLE_COUNT = field(Lagavulin.class, "idleCount");
+
+    // Looter
+    public static final FieldAccessor LOOTER_ESCAPE_DEF = field(Looter.class, "escapeDef");
+    public static final FieldAccessor LOOTER_GOLD_AMT = field(Looter.class, "goldAmt");
+
+    // Sentry
+    public static final FieldAccessor SENTRY_DAZED_AMT = field(Sentry.class, "dazedAmt");
+
+    // SlaverBlue
+    public static final FieldAccessor SLAVER_BLUE_STAB_DMG = field(SlaverBlue.class, "stabDmg");
+
+    // SlaverRed
+    public static final FieldAccessor SLAVER_RED_FIRST_TURN = field(SlaverRed.class, "firstTurn");
+    public static final FieldAccessor SLAVER_RED_MOVES = field(SlaverRed.class, "MOVES");
+    public static final FieldAccessor SLAVER_RED_STAB_DMG = field(SlaverRed.class, "stabDmg");
+    public static final FieldAccessor SLAVER_RED_USED_ENTANGLE = field(SlaverRed.class, "usedEntangle");
+
+    // SlimeBoss
+    public static final FieldAccessor SLIME_BOSS_SLAM_DMG = field(SlimeBoss.class, "slamDmg");
+    public static final FieldAccessor SLIME_BOSS_TACKLE_DMG = field(SlimeBoss.class, "tackleDmg");
+
+    // TheGuardian
+    public static final FieldAccessor THE_GUARDIAN_DMG_THRESHOLD_INCREASE = field(TheGuardian.class, "dmgThresholdIncrease");
+
+    // NeowReward
+    public static final FieldAccessor NEOW_REWARD_DRAWBACK = field(NeowReward.class, "drawback");
+    public static final FieldAccessor NEOW_REWARD_HP_BONUS = field(NeowReward.class, "hp_bonus");
+    public static final FieldAccessor NEOW_REWARD_OPTION_LABEL = field(NeowReward.class, "optionLabel");
+
+    // NeowReward.NeowRewardDef
+    public static final FieldAccessor NEOW_REWARD_DEF_DESC = field(NeowReward.NeowRewardDef.class, "desc");
+    public static final FieldAccessor NEOW_REWARD_DEF_TYPE = field(NeowReward.NeowRewardDef.class, "type");
+
+    // NeowReward.NeowRewardDrawbackDef
+    public static final FieldAccessor NEOW_REWARD_DRAWBACK_DEF_DESC = field(NeowReward.NeowRewardDrawbackDef.class, "desc");
+    public static final FieldAccessor NEOW_REWARD_DRAWBACK_DEF_TYPE = field(NeowReward.NeowRewardDrawbackDef.class, "type");
+
+    // AbstractPower
+    public static final FieldAccessor ABSTRACT_POWER_DESCRIPTION = field(AbstractPower.class, "description");
+
+    // MalleablePower
+    public static final FieldAccessor MALLEABLE_POWER_BASE_POWER = field(MalleablePower.class, "basePower");
+
+    // CombatRewardScreen
+    public static final FieldAccessor COMBAT_REWARD_SCREEN_REWARDS = field(CombatRewardScreen.class, "rewards");
+
+    // CharacterOption
+    public static final FieldAccessor CHARACTER_OPTION_C = field(CharacterOption.class, "c");
+    public static final FieldAccessor CHARACTER_OPTION_MAX_ASCENSION_LEVEL = field(CharacterOption.class, "maxAscensionLevel");
+
+    // CharacterSelectScreen
+    public static final FieldAccessor CHARACTER_SELECT_SCREEN_ASC_LEFT_HB = field(CharacterSelectScreen.class, "ascLeftHb");
+    public static final FieldAccessor CHARACTER_SELECT_SCREEN_ASC_RIGHT_HB = field(CharacterSelectScreen.class, "ascRightHb");
+    public static final FieldAccessor CHARACTER_SELECT_SCREEN_IS_ASCENSION_MODE_UNLOCKED = field(CharacterSelectScreen.class, "isAscensionModeUnlocked");
+
+    // CharStat
+    public static final FieldAccessor CHAR_STAT_PREF = field(CharStat.class, "pref");
+
+    // CampfireSleepEffect
+    public static final FieldAccessor CAMPFIRE_SLEEP_EFFECT_HEAL_AMOUNT = field(CampfireSleepEffect.class, "healAmount");
+
+    private ReflectionCache() {
+    }
+
+    private static FieldAccessor field(Class<?> owner, String name) {
+        FieldAccessor accessor = new FieldAccessor(owner, name);
+        fields.add(accessor);
+        return accessor;
+    }
+
+    private static MethodAccessor method(Class<?> owner, String name, Class<?>... parameterTypes) {
+        MethodAccessor accessor = new MethodAccessor(owner, name, parameterTypes);
+        methods.add(accessor);
+        return accessor;
+    }
+
+    /**
+     * Resolve all accessors and report missing members
+     * Called from receivePostInitialize
+     *
+     * @throws IllegalStateException if any member could not be resolved
+     */
+    public static void init() {
+        List<String> missing = new ArrayList<>();
+        for (FieldAccessor accessor : fields) {
+            if (!accessor.isResolved()) {
+                missing.add(accessor.getName() + " (" + accessor.getFailure() + ")");
+            }
+        }
+        for (MethodAccessor accessor : methods) {
+            if (!accessor.isResolved()) {
+                missing.add(accessor.getName() + " (" + accessor.getFailure() + ")");
+            }
+        }
+
+        if (missing.isEmpty()) {
+            logger.info("Reflection cache ready: " + fields.size() + " fields, " + methods.size() + " methods");
+        } else {
+            StringBuilder report = new StringBuilder();
+            report.append("Reflection cache: ").append(missing.size())
+                .append(" game member(s) not found, this game version is not supported:");
+            for (String member : missing) {
+                report.append("\n  - ").append(member);
+            }
+            logger.error(report.toString());
+            throw new IllegalStateException(report.toString());
+        }
+    }
+}
@@ -0,0 +1,346 @@
+package com.stsmod.ascension100.util;
+
+import com.evacipated.cardcrawl.modthespire.lib.SpireConfig;
+import com.megacrit.cardcrawl.random.Random;
+import com.stsmod.ascension100.Ascension100Mod;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * Recorder for every RNG draw made by level patches
+ *
+ * Level patches draw from the game's monsterRng / miscRng / mapRng / aiRng,
+ * which shifts the vanilla streams. Every such draw goes through random() /
+ * randomBoolean() here with a call site id from site(); the site id and the
+ * drawn value are packed into one long of a fixed ring buffer (the last
+ * CAPACITY draws of the run), so recording costs one array store and stays on
+ * in normal play.
+ *
+ * dump() writes the buffer to the mod config dir (rng-<time>.bin); the game's
+ * exception handler calls it on a crash (RngRecorderPatch), and every run end
+ * overwrites rng-lastrun.bin (dumpRunEnd). Starting the game with
+ * -Dascension100.rngReplay=<dump> replays the recorded values for the next
+ * new run: each draw still advances the game stream, but the recorded value
+ * is returned, and a site mismatch ends the replay with a warning.
+ *
+ * A run continued from a save starts a new buffer marked as continued: the
+ * draws before the save are not in it, so its dumps cannot be replayed.
+ *
+ * Main thread only (ascension-sim turns recording off with setRecording).
+ *
+ * 모드 RNG 사용 기록 (링 버퍼) 및 재생
+ */
+public final class RngRecorder {
+    private static final Logger logger = LogManager.getLogger(RngRecorder.class.getName());
+
+    /** System property naming a dump to replay */
+    public static final String REPLAY_PROPERTY = "ascension100.rngReplay";
+
+    /** Draws kept per run (2^16 entries, 512 KB) */
+    public static final int CAPACITY = 1 << 16;
+    private static final int MASK = CAPACITY - 1;
+
+    private static final int MAGIC = 0x41315247; // "A1RG"
+    private static final int VERSION = 2;
+
+    /** File name of the dump written at every run end */
+    public static final String RUN_END_DUMP = "rng-lastrun";
+
+    /** Game RNG stream a call site draws from */
+    public enum Stream {
+        MONSTER, MISC, MAP, AI
+    }
+
+    // Call sites in registration order; the id is the index
+    private static final List<String> siteNames = new ArrayList<>();
+    private static final List<Stream> siteStreams = new ArrayList<>();
+
+    // Ring buffer: (site << 32) | (value & 0xFFFFFFFF), draws total so far
+    private static final long[] entries = new long[CAPACITY];
+    private static long draws = 0;
+    private static boolean recording = true;
+
+    private static long runSeed = 0;
+    private static int runLevel = 0;
+    // Buffer started from a save, not from the start of the run
+    private static boolean continued = false;
+
+    // Replay state, null when not replaying
+    private static Replay replay = null;
+    private static Replay pendingReplay = null;
+
+    private RngRecorder() {
+    }
+
+    /**
+     * Register a call site; keep the id in a static final field
+     * @param name stable name written to dumps, e.g. "Level45.variantRoll"
+     */
+    public static int site(String name, Stream stream) {
+        siteNames.add(name);
+        siteStreams.add(stream);
+        return siteNames.size() - 1;
+    }
+
+    /**
+     * rng.random(min, max), recorded (or replayed) under the given site
+     */
+    public static int random(int site, Random rng, int min, int max) {
+        int value = rng.random(min, max);
+        if (replay != null) {
+            value = replay.next(site, value);
+        }
+        record(site, value);
+        return value;
+    }
+
+    /**
+     * rng.randomBoolean(), recorded (or replayed) under the given site
+     */
+    public static boolean randomBoolean(int site, Random rng) {
+        return recordBoolean(site, rng.randomBoolean());
+    }
+
+    /**
+     * rng.randomBoolean(chance), recorded (or replayed) under the given site
+     */
+    public static boolean randomBoolean(int site, Random rng, float chance) {
+        return recordBoolean(site, rng.randomBoolean(chance));
+    }
+
+    private static boolean recordBoolean(int site, boolean drawn) {
+        int value = drawn ? 1 : 0;
+        if (replay != null) {
+            value = replay.next(site, value);
+        }
+        record(site, value);
+        return value != 0;
+    }
+
+    private static void record(int site, int value) {
+        if (recording) {
+            entries[(int) (draws & MASK)] = ((long) site << 32) | (value & 0xFFFFFFFFL);
+            draws++;
+        }
+    }
+
+    /**
+     * Clear the buffer for a new run; starts a pending replay
+     * Called when a new character is created (not when continuing a save)
+     */
+    public static void startRun(long seed, int level) {
+        draws = 0;
+        runSeed = seed;
+        runLevel = level;
+        continued = false;
+
+        replay = pendingReplay;
+        pendingReplay = null;
+        if (replay != null) {
+            if (replay.seed != seed || replay.level != level) {
+                logger.warn(String.format("RNG replay recorded for seed %d / level %d, run is seed %d / level %d",
+                    replay.seed, replay.level, seed, level));
+            }
+            logger.info(String.format("RNG replay started (%d draws)", replay.values.length));
+        }
+    }
+
+    /**
+     * Clear the buffer for a run loaded from a save
+     * Draws made before the save are unknown, so the buffer is marked as
+     * continued and an active replay (which counts from run start) ends;
+     * a pending replay stays pending for the next new run
+     */
+    public static void continueRun(long seed, int level) {
+        draws = 0;
+        runSeed = seed;
+        runLevel = level;
+        continued = true;
+
+        if (replay != null) {
+            logger.warn("RNG replay stopped: run continued from a save");
+            replay = null;
+        }
+    }
+
+    public static void setRecording(boolean enabled) {
+        recording = enabled;
+    }
+
+    /**
+     * @return draws recorded in the current run (may exceed CAPACITY)
+     */
+    public static long getDraws() {
+        return draws;
+    }
+
+    public static boolean isReplaying() {
+        return replay != null;
+    }
+
+    /**
+     * Write the buffer to rng-<time>.bin in the mod config dir
+     * @return the written file, or null on failure / nothing recorded
+     */
+    public static File dump(String reason) {
+        return dump(reason, "rng-" + new SimpleDateFormat("yyyyMMdd-HHmmss").format(new Date()));
+    }
+
+    /**
+     * Write the buffer to rng-lastrun.bin, replacing the previous run's dump
+     * Called when the run ends (back to the main menu)
+     */
+    public static File dumpRunEnd() {
+        return dump("run end", RUN_END_DUMP);
+    }
+
+    private static File dump(String reason, String name) {
+        if (draws == 0) {
+            return null;
+        }
+
+        File file = new File(SpireConfig.makeFilePath(Ascension100Mod.MOD_ID, name, "bin"));
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file.toPath())))) {
+            write(out);
+            logger.info(String.format("RNG dump (%s): %d draws written to %s", reason, draws, file.getPath()));
+            return file;
+        } catch (IOException e) {
+            logger.error("Failed to write RNG dump", e);
+            return null;
+        }
+    }
+
+    /**
+     * Layout: magic, version, seed, level, continued flag, total draws, site table
+     * (count, then name + stream ordinal each), entry count, entries oldest first
+     */
+    private static void write(DataOutputStream out) throws IOException {
+        out.writeInt(MAGIC);
+        out.writeShort(VERSION);
+        out.writeLong(runSeed);
+        out.writeInt(runLevel);
+        out.writeBoolean(continued);
+        out.writeLong(draws);
+
+        out.writeShort(siteNames.size());
+        for (int i = 0; i < siteNames.size(); i++) {
+            out.writeUTF(siteNames.get(i));
+            out.writeByte(siteStreams.get(i).ordinal());
+        }
+
+        int count = (int) Math.min(draws, CAPACITY);
+        out.writeInt(count);
+        for (long i = draws - count; i < draws; i++) {
+            out.writeLong(entries[(int) (i & MASK)]);
+        }
+    }
+
+    /**
+     * Load the dump named by -Dascension100.rngReplay for the next new run
+     */
+    public static void loadReplayFromProperty() {
+        String path = System.getProperty(REPLAY_PROPERTY);
+        if (path == null || path.isEmpty()) {
+            return;
+        }
+        try {
+            pendingReplay = Replay.read(new File(path));
+            logger.info(String.format("RNG replay loaded from %s: seed %d, level %d, %d draws",
+                path, pendingReplay.seed, pendingReplay.level, pendingReplay.values.length));
+        } catch (IOException e) {
+            logger.error("Failed to load RNG replay " + path, e);
+        }
+    }
+
+    /** Recorded draws of one run, fed back in order */
+    private static final class Replay {
+        final long seed;
+        final int level;
+        // Sites are matched by name: ids depend on class init order
+        final String[] sites;   // [dump site id] -> name
+        final int[] siteIds;    // [draw] -> dump site id
+        final int[] values;
+        int cursor = 0;
+
+        private Replay(long seed, int level, String[] sites, int[] siteIds, int[] values) {
+            this.seed = seed;
+            this.level = level;
+            this.sites = sites;
+            this.siteIds = siteIds;
+            this.values = values;
+        }
+
+        static Replay read(File file) throws IOException {
+            try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file.toPath())))) {
+                if (in.readInt() != MAGIC || in.readUnsignedShort() != VERSION) {
+                    throw new IOException("Not an RNG dump: " + file);
+                }
+                long seed = in.readLong();
+                int level = in.readInt();
+                if (in.readBoolean()) {
+                    throw new IOException("RNG dump was recorded from a continued save, cannot replay from run start");
+                }
+                long total = in.readLong();
+
+                String[] sites = new String[in.readUnsignedShort()];
+                for (int i = 0; i < sites.length; i++) {
+                    sites[i] = in.readUTF();
+                    in.readByte();
+                }
+
+                int count = in.readInt();
+                if (total != count) {
+                    throw new IOException(String.format(
+                        "RNG dump holds only the last %d of %d draws, cannot replay from run start", count, total));
+                }
+                int[] siteIds = new int[count];
+                int[] values = new int[count];
+                for (int i = 0; i < count; i++) {
+                    long entry = in.readLong();
+                    siteIds[i] = (int) (entry >>> 32);
+                    values[i] = (int) entry;
+                    if (siteIds[i] >= sites.length) {
+                        throw new IOException("Bad site id " + siteIds[i] + " at draw " + i);
+                    }
+                }
+                return new Replay(seed, level, sites, siteIds, values);
+            }
+        }
+
+        /**
+         * @return the recorded value for this draw, or drawn once the replay ended
+         */
+        int next(int site, int drawn) {
+            if (cursor >= values.length) {
+                logger.info("RNG replay finished after " + cursor + " draws");
+                replay = null;
+                return drawn;
+            }
+            String recorded = sites[siteIds[cursor]];
+            if (!recorded.equals(siteNames.get(site))) {
+                logger.warn(String.format("RNG replay diverged at draw %d: recorded %s, got %s",
+                    cursor, recorded, siteNames.get(site)));
+                replay = null;
+                return drawn;
+            }
+
+            int value = values[cursor++];
+            if (value != drawn && AscensionLog.isTracing()) {
+                logger.info(String.format("RNG replay: %s drew %d, replaying %d", recorded, drawn, value));
+            }
+            return value;
+        }
+    }
+}
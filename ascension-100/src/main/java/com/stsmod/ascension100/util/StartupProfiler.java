@@ -0,0 +1,228 @@
+package com.stsmod.ascension100.util;
+
+import com.evacipated.cardcrawl.modthespire.Loader;
+import com.evacipated.cardcrawl.modthespire.ModInfo;
+import com.evacipated.cardcrawl.modthespire.lib.SpireConfig;
+import com.evacipated.cardcrawl.modthespire.lib.SpirePatch;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.megacrit.cardcrawl.core.CardCrawlGame;
+import com.stsmod.ascension100.Ascension100Mod;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+/**
+ * Startup timings and patch counts, written to the mod config dir
+ *
+ * Records how long the mod constructor, SpireConfig loading,
+ * receiveEditStrings and receivePostInitialize take, plus how many
+ * @SpirePatch classes of this mod target each game class. Patch weaving itself
+ * happens inside ModTheSpire before the mod is initialized; jvmUptimeAtInitMs
+ * (JVM start to Ascension100Mod.initialize) is the closest number we get for it.
+ *
+ * The report goes to startup-profile.json next to the mod config so it can be
+ * compared release over release.
+ *
+ * 시작 시간 측정 및 패치 수 리포트 (설정 폴더에 JSON으로 저장)
+ */
+public final class StartupProfiler {
+    private static final Logger logger = LogManager.getLogger(StartupProfiler.class.getName());
+
+    /** Report file name inside the mod config dir */
+    public static final String REPORT_NAME = "startup-profile";
+
+    private static final String PATCH_PACKAGE = "com/stsmod/ascension100/patches/";
+
+    private static long jvmUptimeAtInitMs = -1;
+    // Phase name -> elapsed milliseconds, in the order the phases finished
+    private static final Map<String, Double> phases = new LinkedHashMap<>();
+
+    private StartupProfiler() {
+    }
+
+    /**
+     * Remember how long the JVM ran before the mod was initialized
+     */
+    public static void markInitialize() {
+        try {
+            jvmUptimeAtInitMs = ManagementFactory.getRuntimeMXBean().getUptime();
+        } catch (Exception e) {
+            logger.warn("JVM uptime unavailable", e);
+        }
+    }
+
+    /**
+     * @return start timestamp for end()
+     */
+    public static long begin() {
+        return System.nanoTime();
+    }
+
+    /**
+     * Record the time since begin() under the given phase name
+     */
+    public static void end(String phase, long start) {
+        double elapsedMs = (System.nanoTime() - start) / 1_000_000.0;
+        phases.put(phase, elapsedMs);
+        logger.info(String.format("Startup: %s took %.1f ms", phase, elapsedMs));
+    }
+
+    /**
+     * Count patches per target class and write the report
+     * Called once at the end of receivePostInitialize
+     */
+    public static void writeReport() {
+        long start = begin();
+        Map<String, Integer> patchesByTarget = new HashMap<>();
+        int patches = countPatches(patchesByTarget);
+        end("patchScan", start);
+
+        Report report = new Report();
+        report.timestamp = new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ssZ").format(new Date());
+        report.modVersion = getModVersion();
+        report.gameVersion = CardCrawlGame.TRUE_VERSION_NUM;
+        report.javaVersion = System.getProperty("java.version");
+        report.jvmUptimeAtInitMs = jvmUptimeAtInitMs;
+        report.phasesMs = phases;
+        report.patches = patches;
+        report.patchedGameClasses = patchesByTarget.size();
+        report.patchesByTarget = sortByCount(patchesByTarget);
+
+        File file = new File(SpireConfig.makeFilePath(Ascension100Mod.MOD_ID, REPORT_NAME, "json"));
+        Gson gson = new GsonBuilder().setPrettyPrinting().create();
+        try (Writer writer = new OutputStreamWriter(Files.newOutputStream(file.toPath()), StandardCharsets.UTF_8)) {
+            gson.toJson(report, writer);
+            logger.info(String.format("Startup report written to %s (%d patches on %d game classes)",
+                file.getPath(), patches, patchesByTarget.size()));
+        } catch (IOException e) {
+            logger.error("Failed to write startup report", e);
+        }
+    }
+
+    /**
+     * Scan this mod's patch classes for @SpirePatch targets
+     * @return number of patch annotations found
+     */
+    private static int countPatches(Map<String, Integer> patchesByTarget) {
+        List<String> classNames = new ArrayList<>();
+        try {
+            File source = new File(StartupProfiler.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+            if (source.isDirectory()) {
+                listDirectory(source.toPath(), classNames);
+            } else {
+                listJar(source, classNames);
+            }
+        } catch (Exception e) {
+            logger.error("Failed to list patch classes", e);
+            return 0;
+        }
+
+        ClassLoader loader = StartupProfiler.class.getClassLoader();
+        int count = 0;
+        for (String className : classNames) {
+            try {
+                Class<?> patchClass = Class.forName(className, false, loader);
+                for (SpirePatch patch : patchClass.getAnnotationsByType(SpirePatch.class)) {
+                    patchesByTarget.merge(getTargetName(patch), 1, Integer::sum);
+                    count++;
+                }
+            } catch (Throwable t) {
+                logger.warn("Skipping " + className + " in startup report: " + t);
+            }
+        }
+        return count;
+    }
+
+    private static String getTargetName(SpirePatch patch) {
+        try {
+            if (patch.clz() != void.class) {
+                return patch.clz().getName();
+            }
+        } catch (TypeNotPresentException e) {
+            return e.typeName();
+        }
+        return patch.cls();
+    }
+
+    private static void listJar(File jar, List<String> classNames) throws IOException {
+        try (ZipFile zip = new ZipFile(jar)) {
+            Enumeration<? extends ZipEntry> entries = zip.entries();
+            while (entries.hasMoreElements()) {
+                addClassName(entries.nextElement().getName(), classNames);
+            }
+        }
+    }
+
+    private static void listDirectory(Path root, List<String> classNames) throws IOException {
+        try (Stream<Path> files = Files.walk(root)) {
+            files.forEach(p -> addClassName(root.relativize(p).toString().replace(File.separatorChar, '/'), classNames));
+        }
+    }
+
+    private static void addClassName(String entry, List<String> classNames) {
+        if (entry.startsWith(PATCH_PACKAGE) && entry.endsWith(".class")) {
+            classNames.add(entry.substring(0, entry.length() - ".class".length()).replace('/', '.'));
+        }
+    }
+
+    private static Map<String, Integer> sortByCount(Map<String, Integer> counts) {
+        List<Map.Entry<String, Integer>> entries = new ArrayList<>(counts.entrySet());
+        Collections.sort(entries, (a, b) -> {
+            int byCount = Integer.compare(b.getValue(), a.getValue());
+            return byCount != 0 ? byCount : a.getKey().compareTo(b.getKey());
+        });
+
+        Map<String, Integer> sorted = new LinkedHashMap<>();
+        for (Map.Entry<String, Integer> entry : entries) {
+            sorted.put(entry.getKey(), entry.getValue());
+        }
+        return sorted;
+    }
+
+    private static String getModVersion() {
+        try {
+            for (ModInfo info : Loader.MODINFOS) {
+                if (Ascension100Mod.MOD_ID.equals(info.ID)) {
+                    return String.valueOf(info.ModVersion);
+                }
+            }
+        } catch (Exception e) {
+            logger.warn("Mod version unavailable", e);
+        }
+        return "unknown";
+    }
+
+    /** JSON layout of startup-profile.json */
+    private static final class Report {
+        String timestamp;
+        String modVersion;
+        String gameVersion;
+        String javaVersion;
+        long jvmUptimeAtInitMs;
+        Map<String, Double> phasesMs;
+        int patches;
+        int patchedGameClasses;
+        Map<String, Integer> patchesByTarget;
+    }
+}
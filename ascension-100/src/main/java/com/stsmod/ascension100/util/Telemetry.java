@@ -0,0 +1,368 @@
+package com.stsmod.ascension100.util;
+
+import com.evacipated.cardcrawl.modthespire.lib.ConfigUtils;
+import com.evacipated.cardcrawl.modthespire.lib.SpireConfig;
+import com.megacrit.cardcrawl.dungeons.AbstractDungeon;
+import com.stsmod.ascension100.Ascension100Mod;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Append-only binary telemetry of ascension rule effects
+ *
+ * Rules call record(event, rule, before, after) on the game thread; the
+ * current floor and act are added and the record goes into a single-producer
+ * ring buffer (two longs, no allocation). A daemon thread drains the ring into
+ * telemetry/run-<seed>.bin in the mod config dir, one file per run seed
+ * (continued runs append to the same file). Run open / close commands are
+ * queued with the ring position they apply at, so every record lands in the
+ * file of its run and the game thread never waits for the writer. When the
+ * ring is full, records are dropped and counted rather than blocking the
+ * game.
+ *
+ * The writer is a daemon thread, so shutdown() closes the open file and
+ * waits (at most SHUTDOWN_WAIT_MS) for the queued records; it runs when the
+ * game is disposed (DeferredSaverPatch) and from a shutdown hook as a
+ * fallback.
+ *
+ * File layout (little endian): header of HEADER_SIZE bytes
+ *   int magic, short version, short record size, long seed, int level, int 0
+ * then RECORD_SIZE byte records
+ *   short rule, byte event, byte act, short floor, short 0, int before, int after
+ * The reader is ascension-sim's TelemetryMain.
+ *
+ * Enabled by default; "telemetry" in the config / mod settings panel.
+ *
+ * 승천 규칙 효과를 이진 레코드로 기록 (게임 스레드 밖에서 파일 쓰기)
+ */
+public final class Telemetry {
+    private static final Logger logger = LogManager.getLogger(Telemetry.class.getName());
+
+    /** SpireConfig key for the telemetry toggle */
+    public static final String CONFIG_KEY = "telemetry";
+
+    public static final int MAGIC = 0x41315445; // "A1TE"
+    public static final int VERSION = 1;
+    public static final int HEADER_SIZE = 24;
+    public static final int RECORD_SIZE = 16;
+
+    /** Rule id of the folded MonsterStatPipeline modifier (all stat levels) */
+    public static final int RULE_STAT_PIPELINE = 0;
+
+    /**
+     * What before / after mean for a record
+     */
+    public enum Event {
+        /** Monster max HP before / after the stat pipeline */
+        MONSTER_HP,
+        /** Combat gold reward before / after the rule */
+        GOLD_REWARD,
+        /** Chance roll: before = roll (0~99), after = threshold; fired when before < after */
+        ROLL,
+        /** Elite rooms on the act map before / after the map rules */
+        MAP_ELITES;
+
+        private static final Event[] VALUES = values();
+
+        public static Event of(int ordinal) {
+            return ordinal >= 0 && ordinal < VALUES.length ? VALUES[ordinal] : null;
+        }
+    }
+
+    private static final int CAPACITY = 1 << 14; // records, power of two
+    private static final int MASK = CAPACITY - 1;
+    private static final long IDLE_PARK_NANOS = 50_000_000L;
+    private static final long SHUTDOWN_PARK_NANOS = 1_000_000L;
+
+    /** Longest time shutdown() waits for the writer */
+    public static final long SHUTDOWN_WAIT_MS = 2000L;
+
+    private static boolean enabled = true;
+
+    // Ring: two longs per record; head is advanced by the game thread, tail by the writer
+    private static final long[] ring = new long[CAPACITY * 2];
+    private static final AtomicLong head = new AtomicLong();
+    private static final AtomicLong tail = new AtomicLong();
+    private static long dropped = 0;
+
+    // Run open / close commands in ring order; posted counts the game thread's, done the writer's
+    private static final Queue<Command> commands = new ConcurrentLinkedQueue<>();
+    private static long commandsPosted = 0;
+    private static final AtomicLong commandsDone = new AtomicLong();
+    private static long openSeed = 0;
+    private static boolean recording = false;
+    private static Thread writer = null;
+
+    private Telemetry() {
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    public static void setEnabled(boolean value) {
+        enabled = value;
+        if (!value) {
+            endRun();
+        }
+    }
+
+    /**
+     * Read the telemetry toggle from the mod config
+     */
+    public static void load(SpireConfig config) {
+        if (config != null && config.has(CONFIG_KEY)) {
+            enabled = config.getBool(CONFIG_KEY);
+        }
+    }
+
+    /**
+     * Start (or continue) the file of a run; no-op for the run already open
+     * Called whenever a dungeon is created, so continued saves are covered too
+     */
+    public static void beginRun(long seed, int level) {
+        if (!enabled || (recording && openSeed == seed)) {
+            return;
+        }
+        startWriter();
+
+        File dir = new File(ConfigUtils.CONFIG_DIR + File.separator + Ascension100Mod.MOD_ID, "telemetry");
+        post(new RunFile(new File(dir, "run-" + Long.toUnsignedString(seed) + ".bin"), seed, level));
+        openSeed = seed;
+        recording = true;
+    }
+
+    /**
+     * Stop recording; the writer closes the file after the queued records
+     */
+    public static void endRun() {
+        if (recording) {
+            recording = false;
+            post(null);
+        }
+    }
+
+    /**
+     * End the current run and wait until its file is written and closed
+     * Called on game exit; returns after SHUTDOWN_WAIT_MS at the latest
+     */
+    public static void shutdown() {
+        endRun();
+        if (writer == null) {
+            return;
+        }
+
+        long deadline = System.nanoTime() + SHUTDOWN_WAIT_MS * 1_000_000L;
+        while (tail.get() != head.get() || commandsDone.get() != commandsPosted) {
+            if (System.nanoTime() - deadline >= 0) {
+                logger.warn(String.format("Telemetry: writer did not finish within %d ms, %d records not written",
+                    SHUTDOWN_WAIT_MS, head.get() - tail.get()));
+                return;
+            }
+            LockSupport.unpark(writer);
+            LockSupport.parkNanos(SHUTDOWN_PARK_NANOS);
+        }
+    }
+
+    /**
+     * Queue one record for the current floor / act (game thread only)
+     */
+    public static void record(Event event, int rule, int before, int after) {
+        if (!recording) {
+            return;
+        }
+
+        long h = head.get();
+        long queued = h - tail.get();
+        if (queued >= CAPACITY) {
+            dropped++;
+            return;
+        }
+        put(h, event.ordinal(), rule, AbstractDungeon.actNum, AbstractDungeon.floorNum, before, after);
+        if (queued == CAPACITY / 2) {
+            // Burst: wake the writer instead of waiting for its idle timeout
+            LockSupport.unpark(writer);
+        }
+    }
+
+    /**
+     * Queue a run open (file) or close (null) command behind the records
+     * already queued; never waits for the writer
+     */
+    private static void post(RunFile file) {
+        commands.add(new Command(head.get(), file));
+        commandsPosted++;
+        LockSupport.unpark(writer);
+    }
+
+    private static void put(long h, int event, int rule, int act, int floor, int before, int after) {
+        int slot = (int) (h & MASK) * 2;
+        ring[slot] = (rule & 0xFFFFL)
+            | (long) (event & 0xFF) << 16
+            | (long) (act & 0xFF) << 24
+            | (long) (floor & 0xFFFF) << 32;
+        ring[slot + 1] = (before & 0xFFFFFFFFL) | (long) after << 32;
+        head.lazySet(h + 1);
+    }
+
+    private static void startWriter() {
+        if (writer != null) {
+            return;
+        }
+        writer = new Thread(Telemetry::drainLoop, "Ascension100-Telemetry");
+        writer.setDaemon(true);
+        writer.setPriority(Thread.MIN_PRIORITY);
+        writer.start();
+        Runtime.getRuntime().addShutdownHook(new Thread(Telemetry::shutdown, "Ascension100-TelemetryOnExit"));
+    }
+
+    private static void drainLoop() {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(RECORD_SIZE * 1024).order(ByteOrder.LITTLE_ENDIAN);
+        RunFile run = null;
+        while (true) {
+            long t = tail.get();
+            long h = head.get();
+            Command next = commands.peek();
+            if (t == h && (next == null || next.position > t)) {
+                LockSupport.parkNanos(IDLE_PARK_NANOS);
+                continue;
+            }
+
+            for (; t < h; t++) {
+                run = applyCommands(run, buffer, t);
+                int slot = (int) (t & MASK) * 2;
+                append(run, buffer, ring[slot], ring[slot + 1]);
+            }
+            run = applyCommands(run, buffer, t);
+            write(run, buffer);
+            tail.lazySet(t);
+        }
+    }
+
+    /**
+     * Apply the commands queued before the record at the given position
+     * @return the run file open after them
+     */
+    private static RunFile applyCommands(RunFile run, ByteBuffer buffer, long position) {
+        Command command;
+        while ((command = commands.peek()) != null && command.position <= position) {
+            commands.poll();
+            write(run, buffer);
+            close(run);
+            run = open(command.file);
+            commandsDone.incrementAndGet();
+        }
+        return run;
+    }
+
+    /**
+     * Encode one record into the buffer, writing it out when full
+     */
+    private static void append(RunFile run, ByteBuffer buffer, long meta, long values) {
+        buffer.putShort((short) meta)
+            .put((byte) (meta >>> 16))
+            .put((byte) (meta >>> 24))
+            .putShort((short) (meta >>> 32))
+            .putShort((short) 0)
+            .putInt((int) values)
+            .putInt((int) (values >>> 32));
+        if (!buffer.hasRemaining()) {
+            write(run, buffer);
+        }
+    }
+
+    /**
+     * Write the buffered records to the run file (discarded when none is open)
+     */
+    private static void write(RunFile run, ByteBuffer buffer) {
+        buffer.flip();
+        if (run != null && run.channel != null) {
+            try {
+                while (buffer.hasRemaining()) {
+                    run.channel.write(buffer);
+                }
+            } catch (IOException e) {
+                logger.error("Telemetry write failed, closing " + run.file, e);
+                close(run);
+            }
+        }
+        buffer.clear();
+    }
+
+    private static RunFile open(RunFile run) {
+        if (run == null) {
+            return null;
+        }
+        try {
+            Files.createDirectories(run.file.getParentFile().toPath());
+            boolean exists = run.file.length() >= HEADER_SIZE;
+            run.channel = FileChannel.open(run.file.toPath(),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+            if (!exists) {
+                ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+                header.putInt(MAGIC).putShort((short) VERSION).putShort((short) RECORD_SIZE)
+                    .putLong(run.seed).putInt(run.level).putInt(0);
+                header.flip();
+                while (header.hasRemaining()) {
+                    run.channel.write(header);
+                }
+            }
+            logger.info("Telemetry: writing " + run.file.getPath());
+            return run;
+        } catch (IOException e) {
+            logger.error("Failed to open telemetry file " + run.file, e);
+            return null;
+        }
+    }
+
+    private static void close(RunFile run) {
+        if (run == null || run.channel == null) {
+            return;
+        }
+        try {
+            run.channel.close();
+            logger.info(String.format("Telemetry: closed %s (%d bytes, %d records dropped so far)",
+                run.file.getPath(), run.file.length(), dropped));
+        } catch (IOException e) {
+            logger.error("Failed to close telemetry file " + run.file, e);
+        }
+        run.channel = null;
+    }
+
+    /** Open (file) or close (null) the run file before the record at position */
+    private static final class Command {
+        final long position;
+        final RunFile file;
+
+        Command(long position, RunFile file) {
+            this.position = position;
+            this.file = file;
+        }
+    }
+
+    /** Target file of one run */
+    private static final class RunFile {
+        final File file;
+        final long seed;
+        final int level;
+        FileChannel channel;
+
+        RunFile(File file, long seed, int level) {
+            this.file = file;
+            this.seed = seed;
+            this.level = level;
+        }
+    }
+}
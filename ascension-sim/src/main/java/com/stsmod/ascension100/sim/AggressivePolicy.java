@@ -0,0 +1,20 @@
+package com.stsmod.ascension100.sim;
+
+/**
+ * Never blocks: every energy goes into damage
+ * Upper bound on HP loss for a deck of the modelled strength.
+ *
+ * 공격만 하는 방침
+ */
+final class AggressivePolicy implements PlayerPolicy {
+
+    @Override
+    public String getName() {
+        return "aggressive";
+    }
+
+    @Override
+    public int chooseBlockEnergy(CombatSimulator combat, int energy) {
+        return 0;
+    }
+}
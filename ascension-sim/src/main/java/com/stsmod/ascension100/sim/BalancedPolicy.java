@@ -0,0 +1,36 @@
+package com.stsmod.ascension100.sim;
+
+/**
+ * Blocks the incoming intent, unless this turn's attacks can end the fight
+ *
+ * Spends the fewest energy that covers the telegraphed damage and attacks
+ * with the rest; if all energy on attacks would kill every monster, it
+ * attacks instead. Never blocks more than 2 energy worth, so long fights
+ * still make progress, unless the intent would otherwise be lethal.
+ *
+ * 적 공격만큼 방어하고 나머지는 공격하는 방침
+ */
+final class BalancedPolicy implements PlayerPolicy {
+    private static final int MAX_BLOCK_ENERGY = 2;
+
+    @Override
+    public String getName() {
+        return "balanced";
+    }
+
+    @Override
+    public int chooseBlockEnergy(CombatSimulator combat, int energy) {
+        int incoming = combat.getIncomingDamage();
+        if (incoming <= 0) {
+            return 0;
+        }
+        if (combat.getDamagePerEnergy() * energy >= combat.getRemainingEnemyHp()) {
+            return 0;
+        }
+
+        float blockPerEnergy = combat.getBlockPerEnergy();
+        int needed = blockPerEnergy <= 0 ? energy : (int) Math.ceil(incoming / blockPerEnergy);
+        int limit = incoming >= combat.getPlayerHp() ? energy : MAX_BLOCK_ENERGY;
+        return Math.min(needed, Math.min(limit, energy));
+    }
+}
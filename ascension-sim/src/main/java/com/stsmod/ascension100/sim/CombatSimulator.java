@@ -0,0 +1,324 @@
+package com.stsmod.ascension100.sim;
+
+import com.stsmod.ascension100.patches.unified.MonsterStatModifier;
+
+import java.util.SplittableRandom;
+
+/**
+ * Turn-by-turn model of one hallway fight
+ *
+ * Monsters follow their encounters.txt script with HP and attack damage run
+ * through the folded MonsterStatModifier, exactly as MonsterStatPipeline
+ * rewrites maxHealth / DamageInfo.base in game. The player is a deck-strength
+ * model: 3 energy per turn, each worth a per-act amount of damage or block
+ * scaled by a random draw quality, split by a PlayerPolicy. Weak, Frail and
+ * Vulnerable on the player use the level's multipliers (see StatTable).
+ *
+ * One instance per worker thread; not thread-safe.
+ *
+ * 전투 한 번을 턴 단위로 계산하는 모델
+ */
+final class CombatSimulator {
+    static final int PLAYER_MAX_HP = 75;
+    static final int MAX_TURNS = 40;
+    static final int ENERGY = 3;
+
+    // Per-act deck strength (index = act): average damage / block per energy
+    private static final float[] DAMAGE_PER_ENERGY = {0f, 9.0f, 12.0f, 16.0f};
+    private static final float[] BLOCK_PER_ENERGY = {0f, 7.0f, 10.0f, 13.0f};
+
+    // Draw quality range and status card penalty
+    private static final float MIN_QUALITY = 0.75f;
+    private static final float QUALITY_SPREAD = 0.5f;
+    private static final float STATUS_PENALTY = 0.03f;
+    private static final float MIN_STATUS_FACTOR = 0.6f;
+
+    private static final int MAX_MONSTERS = 8;
+
+    private final PlayerPolicy policy;
+    private final StatTable table;
+
+    // Monsters
+    private MonsterProfile[] profiles;
+    private MonsterStatModifier[] modifiers;
+    private int monsterCount;
+    private final int[] hp = new int[MAX_MONSTERS];
+    private final int[] block = new int[MAX_MONSTERS];
+    private final int[] strength = new int[MAX_MONSTERS];
+    private final boolean[] gone = new boolean[MAX_MONSTERS];
+    // Strength lost to Shifting this round (restored after the monster acts)
+    private final int[] shifted = new int[MAX_MONSTERS];
+
+    // Player
+    private int playerHp;
+    private int playerBlock;
+    private int weak;
+    private int vulnerable;
+    private int frail;
+    private int statusCards;
+    private int act;
+    private float damagePerEnergy;
+    private float blockPerEnergy;
+
+    // Result of the last run()
+    private int turns;
+    private boolean died;
+    private boolean won;
+
+    CombatSimulator(PlayerPolicy policy, StatTable table) {
+        this.policy = policy;
+        this.table = table;
+    }
+
+    /**
+     * Fight one encounter from full HP
+     *
+     * @param modifiers folded stat modifier per monster (see StatTable)
+     * @return HP lost (PLAYER_MAX_HP if the player died)
+     */
+    int run(Encounter encounter, MonsterStatModifier[] modifiers, SplittableRandom random) {
+        if (encounter.monsters.length > MAX_MONSTERS) {
+            throw new IllegalArgumentException("Too many monsters in " + encounter);
+        }
+
+        this.profiles = encounter.monsters;
+        this.modifiers = modifiers;
+        this.monsterCount = profiles.length;
+        this.act = Math.max(1, Math.min(encounter.act, DAMAGE_PER_ENERGY.length - 1));
+
+        for (int i = 0; i < monsterCount; i++) {
+            MonsterProfile profile = profiles[i];
+            int baseHp = profile.hpMin + random.nextInt(profile.hpMax - profile.hpMin + 1);
+            hp[i] = modifiers[i].applyHealth(baseHp);
+            block[i] = profile.startBlock;
+            strength[i] = 0;
+            shifted[i] = 0;
+            gone[i] = false;
+        }
+
+        playerHp = PLAYER_MAX_HP;
+        weak = 0;
+        vulnerable = 0;
+        frail = 0;
+        statusCards = 0;
+        died = false;
+        won = false;
+
+        for (turns = 0; turns < MAX_TURNS; ) {
+            playerTurn(random);
+            if (allGone()) {
+                turns++;
+                won = true;
+                break;
+            }
+
+            monsterTurn(turns);
+            turns++;
+            if (playerHp <= 0) {
+                died = true;
+                return PLAYER_MAX_HP;
+            }
+        }
+
+        return PLAYER_MAX_HP - playerHp;
+    }
+
+    /**
+     * @return player turns taken in the last run()
+     */
+    int getTurns() {
+        return turns;
+    }
+
+    boolean died() {
+        return died;
+    }
+
+    boolean timedOut() {
+        return !died && !won;
+    }
+
+    // ===== Player view for PlayerPolicy =====
+
+    /**
+     * Damage the current intents will deal before block (Vulnerable included)
+     */
+    int getIncomingDamage() {
+        int total = 0;
+        for (int i = 0; i < monsterCount; i++) {
+            if (gone[i]) {
+                continue;
+            }
+            Move move = profiles[i].moveAt(turns);
+            for (int a = 0; a < move.size(); a++) {
+                if (move.kinds[a] == Move.ATTACK) {
+                    total += attackDamage(i, move.amounts[a]) * move.hits[a];
+                }
+            }
+        }
+        return total;
+    }
+
+    int getRemainingEnemyHp() {
+        int total = 0;
+        for (int i = 0; i < monsterCount; i++) {
+            if (!gone[i]) {
+                total += hp[i] + block[i];
+            }
+        }
+        return total;
+    }
+
+    float getDamagePerEnergy() {
+        return damagePerEnergy;
+    }
+
+    float getBlockPerEnergy() {
+        return blockPerEnergy;
+    }
+
+    int getPlayerHp() {
+        return playerHp;
+    }
+
+    // ===== Turn resolution =====
+
+    private void playerTurn(SplittableRandom random) {
+        playerBlock = 0;
+
+        float quality = MIN_QUALITY + (float) random.nextDouble() * QUALITY_SPREAD;
+        quality *= Math.max(MIN_STATUS_FACTOR, 1.0f - STATUS_PENALTY * statusCards);
+        damagePerEnergy = DAMAGE_PER_ENERGY[act] * quality * (weak > 0 ? table.weakMultiplier : 1.0f);
+        blockPerEnergy = BLOCK_PER_ENERGY[act] * quality * (frail > 0 ? table.frailMultiplier : 1.0f);
+
+        int blockEnergy = Math.max(0, Math.min(ENERGY, policy.chooseBlockEnergy(this, ENERGY)));
+        playerBlock = Math.round(blockEnergy * blockPerEnergy);
+
+        int hit = Math.round(damagePerEnergy);
+        for (int e = blockEnergy; e < ENERGY; e++) {
+            int target = pickTarget();
+            if (target < 0) {
+                break;
+            }
+            damageMonster(target, hit);
+        }
+    }
+
+    private void monsterTurn(int turn) {
+        // Debuffs tick down at the end of the round, except the ones applied
+        // this turn (the game's justApplied flag)
+        boolean weakBefore = weak > 0;
+        boolean vulnerableBefore = vulnerable > 0;
+        boolean frailBefore = frail > 0;
+
+        for (int i = 0; i < monsterCount; i++) {
+            if (gone[i]) {
+                continue;
+            }
+            if (!profiles[i].barricade) {
+                block[i] = 0;
+            }
+
+            Move move = profiles[i].moveAt(turn);
+            for (int a = 0; a < move.size(); a++) {
+                int amount = move.amounts[a];
+                switch (move.kinds[a]) {
+                    case Move.ATTACK:
+                        for (int h = 0; h < move.hits[a]; h++) {
+                            damagePlayer(attackDamage(i, amount));
+                        }
+                        break;
+                    case Move.BLOCK:
+                        block[i] += amount;
+                        break;
+                    case Move.STRENGTH:
+                        strength[i] += amount;
+                        break;
+                    case Move.STRENGTH_ALL:
+                        for (int j = 0; j < monsterCount; j++) {
+                            if (!gone[j]) {
+                                strength[j] += amount;
+                            }
+                        }
+                        break;
+                    case Move.WEAK:
+                        weak += amount;
+                        break;
+                    case Move.VULNERABLE:
+                        vulnerable += amount;
+                        break;
+                    case Move.FRAIL:
+                        frail += amount;
+                        break;
+                    case Move.STATUS:
+                        statusCards += amount;
+                        break;
+                    case Move.ESCAPE:
+                        gone[i] = true;
+                        break;
+                    default:
+                        break;
+                }
+            }
+            shifted[i] = 0;
+        }
+
+        if (weakBefore) weak--;
+        if (vulnerableBefore) vulnerable--;
+        if (frailBefore) frail--;
+    }
+
+    /**
+     * Per-hit damage of monster i: stat rules apply to the base value,
+     * Strength and Vulnerable on top (same order as in game)
+     */
+    private int attackDamage(int i, int base) {
+        int damage = Math.max(0, modifiers[i].applyDamage(base) + strength[i] - shifted[i]);
+        if (vulnerable > 0) {
+            damage = (int) (damage * table.vulnerableMultiplier);
+        }
+        return damage;
+    }
+
+    private void damagePlayer(int damage) {
+        int absorbed = Math.min(playerBlock, damage);
+        playerBlock -= absorbed;
+        playerHp -= damage - absorbed;
+    }
+
+    private void damageMonster(int i, int damage) {
+        int absorbed = Math.min(block[i], damage);
+        block[i] -= absorbed;
+        hp[i] -= damage - absorbed;
+        if (profiles[i].shifting) {
+            shifted[i] += damage - absorbed;
+        }
+        if (hp[i] <= 0) {
+            gone[i] = true;
+        }
+    }
+
+    /**
+     * Monster closest to dying (lowest HP + block)
+     */
+    private int pickTarget() {
+        int best = -1;
+        int bestValue = Integer.MAX_VALUE;
+        for (int i = 0; i < monsterCount; i++) {
+            if (!gone[i] && hp[i] + block[i] < bestValue) {
+                best = i;
+                bestValue = hp[i] + block[i];
+            }
+        }
+        return best;
+    }
+
+    private boolean allGone() {
+        for (int i = 0; i < monsterCount; i++) {
+            if (!gone[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
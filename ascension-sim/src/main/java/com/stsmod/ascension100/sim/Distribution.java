@@ -0,0 +1,73 @@
+package com.stsmod.ascension100.sim;
+
+/**
+ * Integer histogram with exact percentiles (values clamped to 0..maxValue)
+ *
+ * Cheap to merge, so every worker task fills its own and the main thread
+ * adds them together.
+ *
+ * 정수 분포 (히스토그램 + 백분위수)
+ */
+final class Distribution {
+    private final long[] counts;
+    private long total;
+    private long sum;
+
+    Distribution(int maxValue) {
+        this.counts = new long[maxValue + 1];
+    }
+
+    void add(int value) {
+        int clamped = Math.max(0, Math.min(value, counts.length - 1));
+        counts[clamped]++;
+        total++;
+        sum += clamped;
+    }
+
+    void merge(Distribution other) {
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] += other.counts[i];
+        }
+        total += other.total;
+        sum += other.sum;
+    }
+
+    long count() {
+        return total;
+    }
+
+    double mean() {
+        return total == 0 ? 0.0 : (double) sum / total;
+    }
+
+    /**
+     * Smallest value v such that at least p (0~1) of the samples are <= v
+     */
+    int percentile(double p) {
+        if (total == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(p * total));
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return i;
+            }
+        }
+        return counts.length - 1;
+    }
+
+    int max() {
+        for (int i = counts.length - 1; i >= 0; i--) {
+            if (counts[i] > 0) {
+                return i;
+            }
+        }
+        return 0;
+    }
+
+    long[] histogram() {
+        return counts.clone();
+    }
+}
@@ -0,0 +1,27 @@
+package com.stsmod.ascension100.sim;
+
+import com.stsmod.ascension100.util.EncounterClass;
+
+/**
+ * One EncounterHelper encounter (act + key) with its monsters
+ *
+ * 인카운터 하나 (막 / 키 / 몬스터 목록)
+ */
+final class Encounter {
+    final int act;
+    final String key;
+    final EncounterClass encounterClass;
+    final MonsterProfile[] monsters;
+
+    Encounter(int act, String key, EncounterClass encounterClass, MonsterProfile[] monsters) {
+        this.act = act;
+        this.key = key;
+        this.encounterClass = encounterClass;
+        this.monsters = monsters;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Act %d %s (%s)", act, key, encounterClass.getLogName());
+    }
+}
@@ -0,0 +1,184 @@
+package com.stsmod.ascension100.sim;
+
+import com.megacrit.cardcrawl.monsters.AbstractMonster;
+import com.stsmod.ascension100.util.EncounterClass;
+import com.stsmod.ascension100.util.EncounterHelper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Encounters to simulate: every weak / strong key registered in EncounterHelper
+ *
+ * Monster compositions and base stats come from encounters.txt; the weak /
+ * strong classification always comes from EncounterHelper so the simulator
+ * sees exactly what the stat rules see in game. Keys without catalog data are
+ * reported and skipped.
+ *
+ * 시뮬레이션할 인카운터 목록 (EncounterHelper 기준)
+ */
+final class EncounterCatalog {
+    static final String RESOURCE = "/encounters.txt";
+
+    static final int FIRST_ACT = 1;
+    static final int LAST_ACT = 3;
+
+    private EncounterCatalog() {
+    }
+
+    /**
+     * Load encounters.txt and match it against EncounterHelper
+     *
+     * @param missing receives "Act N key" for registered encounters without data
+     */
+    static List<Encounter> load(List<String> missing) throws IOException {
+        Map<String, MonsterProfile[]> data = read();
+
+        List<Encounter> encounters = new ArrayList<>();
+        for (int act = FIRST_ACT; act <= LAST_ACT; act++) {
+            for (Map.Entry<String, EncounterClass> entry : EncounterHelper.getRegisteredEncounters(act).entrySet()) {
+                MonsterProfile[] monsters = data.remove(dataKey(act, entry.getKey()));
+                if (monsters == null) {
+                    missing.add("Act " + act + " " + entry.getKey());
+                    continue;
+                }
+                encounters.add(new Encounter(act, entry.getKey(), entry.getValue(), monsters));
+            }
+        }
+
+        for (String unused : data.keySet()) {
+            missing.add("Not registered in EncounterHelper: " + unused);
+        }
+        return encounters;
+    }
+
+    private static Map<String, MonsterProfile[]> read() throws IOException {
+        InputStream in = EncounterCatalog.class.getResourceAsStream(RESOURCE);
+        if (in == null) {
+            throw new IOException("Missing resource " + RESOURCE);
+        }
+
+        Map<String, MonsterProfile[]> data = new HashMap<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+            String header = null;
+            List<MonsterProfile> monsters = new ArrayList<>();
+            String line;
+            int lineNumber = 0;
+
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                line = line.trim();
+                if (line.isEmpty() || line.startsWith("#")) {
+                    continue;
+                }
+
+                try {
+                    if (line.startsWith("[")) {
+                        flush(data, header, monsters);
+                        header = parseHeader(line);
+                        monsters.clear();
+                    } else if (header == null) {
+                        throw new IllegalArgumentException("Monster before the first encounter header");
+                    } else {
+                        monsters.add(parseMonster(line));
+                    }
+                } catch (IllegalArgumentException e) {
+                    throw new IOException(RESOURCE + ":" + lineNumber + ": " + e.getMessage(), e);
+                }
+            }
+            flush(data, header, monsters);
+        }
+        return data;
+    }
+
+    private static void flush(Map<String, MonsterProfile[]> data, String header, List<MonsterProfile> monsters) {
+        if (header == null) {
+            return;
+        }
+        if (monsters.isEmpty()) {
+            throw new IllegalArgumentException("Encounter without monsters: " + header);
+        }
+        if (data.put(header, monsters.toArray(new MonsterProfile[0])) != null) {
+            throw new IllegalArgumentException("Duplicate encounter: " + header);
+        }
+    }
+
+    /** "[2] Snecko" -> "2|Snecko" */
+    private static String parseHeader(String line) {
+        int close = line.indexOf(']');
+        if (close < 0) {
+            throw new IllegalArgumentException("Bad encounter header: " + line);
+        }
+        int act = Integer.parseInt(line.substring(1, close).trim());
+        return dataKey(act, line.substring(close + 1).trim());
+    }
+
+    /** "JawWorm | NORMAL | 42-46 | A12 > S5+D9, A7+D5, A12 [| flags]" */
+    private static MonsterProfile parseMonster(String line) {
+        String[] fields = line.split("\\|");
+        if (fields.length < 4 || fields.length > 5) {
+            throw new IllegalArgumentException("Expected 'id | type | hp | moves [| flags]': " + line);
+        }
+
+        String id = fields[0].trim();
+        AbstractMonster.EnemyType type = AbstractMonster.EnemyType.valueOf(fields[1].trim());
+
+        String[] hp = fields[2].trim().split("-");
+        int hpMin = Integer.parseInt(hp[0].trim());
+        int hpMax = hp.length > 1 ? Integer.parseInt(hp[1].trim()) : hpMin;
+        if (hpMin <= 0 || hpMax < hpMin) {
+            throw new IllegalArgumentException("Bad HP range: " + fields[2].trim());
+        }
+
+        String moves = fields[3].trim();
+        int split = moves.indexOf('>');
+        Move[] opener = split >= 0 ? parseMoves(moves.substring(0, split)) : new Move[0];
+        Move[] loop = parseMoves(split >= 0 ? moves.substring(split + 1) : moves);
+        if (loop.length == 0) {
+            throw new IllegalArgumentException("No repeating moves: " + moves);
+        }
+
+        boolean barricade = false;
+        boolean shifting = false;
+        int startBlock = 0;
+        if (fields.length == 5) {
+            for (String part : fields[4].split(",")) {
+                String flag = part.trim();
+                if (flag.equals("barricade")) {
+                    barricade = true;
+                } else if (flag.equals("shifting")) {
+                    shifting = true;
+                } else if (flag.startsWith("block=")) {
+                    startBlock = Integer.parseInt(flag.substring("block=".length()));
+                } else if (!flag.isEmpty()) {
+                    throw new IllegalArgumentException("Unknown flag: " + flag);
+                }
+            }
+        }
+
+        return new MonsterProfile(id, type, hpMin, hpMax, opener, loop, barricade, shifting, startBlock);
+    }
+
+    private static Move[] parseMoves(String text) {
+        if (text.trim().isEmpty()) {
+            return new Move[0];
+        }
+        String[] parts = text.split(",");
+        Move[] moves = new Move[parts.length];
+        for (int i = 0; i < parts.length; i++) {
+            moves[i] = Move.parse(parts[i]);
+        }
+        return moves;
+    }
+
+    private static String dataKey(int act, String key) {
+        return act + "|" + key;
+    }
+}
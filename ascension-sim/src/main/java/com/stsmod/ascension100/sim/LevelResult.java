@@ -0,0 +1,47 @@
+package com.stsmod.ascension100.sim;
+
+/**
+ * HP loss / turn count distributions for one (ascension level, policy, scope)
+ *
+ * Scope is either a single encounter (one worker task) or a merged total.
+ *
+ * 승천 레벨 / 방침별 체력 손실, 턴 수 분포
+ */
+final class LevelResult {
+    final int level;
+    final String policy;
+    final Distribution hpLoss = new Distribution(CombatSimulator.PLAYER_MAX_HP);
+    final Distribution turns = new Distribution(CombatSimulator.MAX_TURNS);
+    long deaths;
+    long timeouts;
+
+    LevelResult(int level, String policy) {
+        this.level = level;
+        this.policy = policy;
+    }
+
+    void record(CombatSimulator combat, int hpLost) {
+        hpLoss.add(hpLost);
+        turns.add(combat.getTurns());
+        if (combat.died()) {
+            deaths++;
+        } else if (combat.timedOut()) {
+            timeouts++;
+        }
+    }
+
+    void merge(LevelResult other) {
+        hpLoss.merge(other.hpLoss);
+        turns.merge(other.turns);
+        deaths += other.deaths;
+        timeouts += other.timeouts;
+    }
+
+    long fights() {
+        return hpLoss.count();
+    }
+
+    double deathRate() {
+        return fights() == 0 ? 0.0 : (double) deaths / fights();
+    }
+}
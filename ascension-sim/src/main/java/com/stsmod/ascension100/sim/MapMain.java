@@ -0,0 +1,156 @@
+package com.stsmod.ascension100.sim;
+
+import com.stsmod.ascension100.util.RngRecorder;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Monte-Carlo analyzer for the Ascension map rules
+ *
+ * Generates act 1~3 maps for --seeds run seeds per ascension level with the
+ * game's map generator and the mod's MapMutationPipeline (Level41 elite
+ * conversion, Level73 shop / Level96 rest chances), spread over all cores.
+ * Every level uses the same seeds, so differences between levels come from
+ * the rules only. Maps are reduced to room counts and path statistics as
+ * they are generated; nothing per map is kept.
+ *
+ * Usage: MapMain [--levels 20,41,73,96] [--seeds 20000] [--threads N]
+ *                [--seed 1234] [--out map-analysis.json]
+ *
+ * 승천 지도 규칙 몬테카를로 분석기
+ */
+public class MapMain {
+    private static final String DEFAULT_LEVELS = "20,41,73,96";
+    private static final int DEFAULT_SEEDS = 20000;
+    private static final long DEFAULT_SEED = 1234L;
+
+    // Seeds per worker task
+    private static final int CHUNK = 500;
+
+    public static void main(String[] args) throws Exception {
+        int[] levels = SimMain.parseLevels(DEFAULT_LEVELS);
+        int seeds = DEFAULT_SEEDS;
+        int threads = Runtime.getRuntime().availableProcessors();
+        long seed = DEFAULT_SEED;
+        File out = new File("map-analysis.json");
+
+        for (int i = 0; i < args.length; i++) {
+            String arg = args[i];
+            if (i + 1 >= args.length) {
+                usage("Missing value for " + arg);
+            }
+            String value = args[++i];
+            try {
+                switch (arg) {
+                    case "--levels":
+                        levels = SimMain.parseLevels(value);
+                        break;
+                    case "--seeds":
+                        seeds = Integer.parseInt(value);
+                        break;
+                    case "--threads":
+                        threads = Math.max(1, Integer.parseInt(value));
+                        break;
+                    case "--seed":
+                        seed = Long.parseLong(value);
+                        break;
+                    case "--out":
+                        out = new File(value);
+                        break;
+                    default:
+                        usage("Unknown option " + arg);
+                }
+            } catch (IllegalArgumentException e) {
+                usage(e.getMessage());
+            }
+        }
+
+        // Level41 draws from the sampler's own Random on worker threads
+        RngRecorder.setRecording(false);
+
+        // Map rules run on this thread only (AscensionRuleSet is global)
+        MapRules[] rules = new MapRules[levels.length];
+        for (int l = 0; l < levels.length; l++) {
+            rules[l] = MapRules.build(levels[l]);
+        }
+
+        System.out.println(String.format("[map-analysis] %d levels x %d acts x %d seeds on %d threads",
+            levels.length, EncounterCatalog.LAST_ACT - EncounterCatalog.FIRST_ACT + 1, seeds, threads));
+
+        long start = System.nanoTime();
+        MapResult[][] results = run(rules, seeds, threads, seed);
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000L;
+
+        MapReport report = new MapReport(rules, results, seeds, seed);
+        report.printSummary(System.out);
+        report.writeJson(out);
+
+        long total = (long) levels.length * results[0].length * seeds;
+        System.out.println(String.format("[map-analysis] %d maps in %d ms, report: %s",
+            total, elapsedMs, out.getAbsolutePath()));
+    }
+
+    /**
+     * One task per (level, act, block of CHUNK seeds); results are merged in
+     * submission order as they finish, so they do not depend on the thread
+     * count.
+     *
+     * @return results[level index][act - FIRST_ACT]
+     */
+    static MapResult[][] run(MapRules[] rules, int seeds, int threads, long seed)
+            throws InterruptedException, ExecutionException {
+        int acts = EncounterCatalog.LAST_ACT - EncounterCatalog.FIRST_ACT + 1;
+        MapResult[][] results = new MapResult[rules.length][acts];
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<MapResult>> futures = new ArrayList<>();
+            for (int l = 0; l < rules.length; l++) {
+                for (int a = 0; a < acts; a++) {
+                    int act = EncounterCatalog.FIRST_ACT + a;
+                    MapRules levelRules = rules[l];
+                    results[l][a] = new MapResult(levelRules.level, act);
+
+                    for (int from = 0; from < seeds; from += CHUNK) {
+                        int first = from;
+                        int last = Math.min(seeds, from + CHUNK);
+                        futures.add(executor.submit(() -> {
+                            MapSampler sampler = new MapSampler();
+                            MapResult result = new MapResult(levelRules.level, act);
+                            for (int s = first; s < last; s++) {
+                                sampler.sample(levelRules, act, seed + s, result);
+                            }
+                            return result;
+                        }));
+                    }
+                }
+            }
+
+            int next = 0;
+            for (int l = 0; l < rules.length; l++) {
+                for (int a = 0; a < acts; a++) {
+                    for (int from = 0; from < seeds; from += CHUNK) {
+                        results[l][a].merge(futures.get(next).get());
+                        futures.set(next++, null);
+                    }
+                }
+            }
+            return results;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static void usage(String error) {
+        System.err.println("[map-analysis] " + error);
+        System.err.println("Usage: MapMain [--levels 20,41,73,96] [--seeds 20000] [--threads N]");
+        System.err.println("               [--seed 1234] [--out map-analysis.json]");
+        System.exit(2);
+    }
+}
@@ -0,0 +1,126 @@
+package com.stsmod.ascension100.sim;
+
+import com.stsmod.ascension100.patches.unified.MapStats;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintStream;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Locale;
+
+/**
+ * Console summary and JSON report of a map analysis run
+ *
+ * JSON layout:
+ *   { "seed", "seeds",
+ *     "results": [ { "level", "acts": [ { "act", "maps", "shopChance", "restChance",
+ *                    "rooms": { <kind>: <dist> }, "converted": <dist>,
+ *                    "paths": { <stat>: <dist> }, "eliteFreeRate" } ] } ] }
+ * where <dist> holds mean, p50, p90, max and the full histogram.
+ *
+ * 지도 분석 결과 출력 (콘솔 요약 + JSON)
+ */
+final class MapReport {
+    private final MapRules[] rules;
+    private final MapResult[][] results;
+    private final int seeds;
+    private final long seed;
+
+    MapReport(MapRules[] rules, MapResult[][] results, int seeds, long seed) {
+        this.rules = rules;
+        this.results = results;
+        this.seeds = seeds;
+        this.seed = seed;
+    }
+
+    void printSummary(PrintStream out) {
+        out.println(String.format("%5s %3s %7s %7s %7s %7s %7s %7s %9s %9s %8s",
+            "Asc", "Act", "Monster", "Elite", "Event", "Shop", "Rest", "Conv", "MinElite", "MaxRest", "NoElite%"));
+        for (int l = 0; l < results.length; l++) {
+            for (MapResult r : results[l]) {
+                out.println(String.format(Locale.ROOT, "%5d %3d %7.2f %7.2f %7.2f %7.2f %7.2f %7.2f %9.2f %9.2f %7.2f%%",
+                    r.level, r.act,
+                    r.rooms(MapStats.RoomKind.MONSTER).mean(), r.rooms(MapStats.RoomKind.ELITE).mean(),
+                    r.rooms(MapStats.RoomKind.EVENT).mean(), r.rooms(MapStats.RoomKind.SHOP).mean(),
+                    r.rooms(MapStats.RoomKind.REST).mean(), r.converted.mean(),
+                    r.paths[0].mean(), r.paths[3].mean(), r.eliteFreeRate() * 100.0));
+            }
+        }
+    }
+
+    void writeJson(File file) throws IOException {
+        File parent = file.getAbsoluteFile().getParentFile();
+        if (parent != null) {
+            Files.createDirectories(parent.toPath());
+        }
+
+        try (Writer writer = new OutputStreamWriter(Files.newOutputStream(file.toPath()), StandardCharsets.UTF_8)) {
+            StringBuilder json = new StringBuilder(1 << 16);
+            json.append("{\n");
+            json.append("  \"seed\": ").append(seed).append(",\n");
+            json.append("  \"seeds\": ").append(seeds).append(",\n");
+            json.append("  \"results\": [");
+
+            for (int l = 0; l < results.length; l++) {
+                json.append(l == 0 ? "\n" : ",\n");
+                json.append("    {\"level\": ").append(rules[l].level).append(", \"acts\": [");
+                for (int a = 0; a < results[l].length; a++) {
+                    json.append(a == 0 ? "\n" : ",\n");
+                    appendAct(json, rules[l], results[l][a]);
+                }
+                json.append("\n    ]}");
+            }
+
+            json.append("\n  ]\n}\n");
+            writer.write(json.toString());
+        }
+    }
+
+    private static void appendAct(StringBuilder json, MapRules rules, MapResult r) {
+        json.append("      {\"act\": ").append(r.act)
+            .append(", \"maps\": ").append(r.maps())
+            .append(", \"shopChance\": ").append(format(rules.get(r.act).shop))
+            .append(", \"restChance\": ").append(format(rules.get(r.act).rest))
+            .append(",\n       \"rooms\": {");
+
+        MapStats.RoomKind[] kinds = MapStats.RoomKind.values();
+        for (int i = 0; i < kinds.length; i++) {
+            json.append(i == 0 ? "" : ", ").append('"').append(kinds[i].name().toLowerCase(Locale.ROOT)).append("\": ");
+            appendDistribution(json, r.rooms(kinds[i]));
+        }
+
+        json.append("},\n       \"converted\": ");
+        appendDistribution(json, r.converted);
+
+        json.append(",\n       \"paths\": {");
+        for (int i = 0; i < MapResult.PATH_STATS.length; i++) {
+            json.append(i == 0 ? "" : ", ").append('"').append(MapResult.PATH_STATS[i]).append("\": ");
+            appendDistribution(json, r.paths[i]);
+        }
+        json.append("},\n       \"eliteFreeRate\": ").append(format(r.eliteFreeRate())).append('}');
+    }
+
+    private static void appendDistribution(StringBuilder json, Distribution d) {
+        json.append("{\"mean\": ").append(format(d.mean()))
+            .append(", \"p50\": ").append(d.percentile(0.5))
+            .append(", \"p90\": ").append(d.percentile(0.9))
+            .append(", \"max\": ").append(d.max())
+            .append(", \"histogram\": [");
+        long[] counts = d.histogram();
+        int last = d.max();
+        for (int i = 0; i <= last; i++) {
+            if (i > 0) {
+                json.append(", ");
+            }
+            json.append(counts[i]);
+        }
+        json.append("]}");
+    }
+
+    private static String format(double value) {
+        return String.format(Locale.ROOT, "%.4f", value);
+    }
+}
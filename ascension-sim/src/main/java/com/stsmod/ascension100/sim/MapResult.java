@@ -0,0 +1,70 @@
+package com.stsmod.ascension100.sim;
+
+import com.stsmod.ascension100.patches.unified.MapStats;
+
+/**
+ * Room count and path distributions for one (ascension level, act)
+ *
+ * Filled per worker task and merged on the main thread, like LevelResult;
+ * maps themselves are never kept.
+ *
+ * 승천 레벨 / 막별 지도 통계 분포
+ */
+final class MapResult {
+    static final int MAX_ROOMS = 64;
+
+    static final String[] PATH_STATS = {"minElites", "maxElites", "minRests", "maxRests", "maxShops"};
+
+    final int level;
+    final int act;
+    final Distribution[] rooms = new Distribution[MapStats.RoomKind.values().length];
+    final Distribution converted = new Distribution(MAX_ROOMS);
+    final Distribution[] paths = new Distribution[PATH_STATS.length];
+
+    MapResult(int level, int act) {
+        this.level = level;
+        this.act = act;
+        for (int i = 0; i < rooms.length; i++) {
+            rooms[i] = new Distribution(MAX_ROOMS);
+        }
+        for (int i = 0; i < paths.length; i++) {
+            paths[i] = new Distribution(MapSampler.MAP_HEIGHT);
+        }
+    }
+
+    void record(MapStats stats, int[] pathStats) {
+        for (MapStats.RoomKind kind : MapStats.RoomKind.values()) {
+            rooms[kind.ordinal()].add(stats.get(kind));
+        }
+        converted.add(stats.getConverted());
+        for (int i = 0; i < paths.length; i++) {
+            paths[i].add(pathStats[i]);
+        }
+    }
+
+    void merge(MapResult other) {
+        for (int i = 0; i < rooms.length; i++) {
+            rooms[i].merge(other.rooms[i]);
+        }
+        converted.merge(other.converted);
+        for (int i = 0; i < paths.length; i++) {
+            paths[i].merge(other.paths[i]);
+        }
+    }
+
+    long maps() {
+        return converted.count();
+    }
+
+    Distribution rooms(MapStats.RoomKind kind) {
+        return rooms[kind.ordinal()];
+    }
+
+    /**
+     * Share of maps with at least one path that avoids every elite
+     */
+    double eliteFreeRate() {
+        long[] counts = paths[0].histogram();
+        return maps() == 0 ? 0.0 : (double) counts[0] / maps();
+    }
+}
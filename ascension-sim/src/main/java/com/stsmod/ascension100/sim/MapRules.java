@@ -0,0 +1,52 @@
+package com.stsmod.ascension100.sim;
+
+import com.stsmod.ascension100.patches.unified.MapMutationPipeline;
+import com.stsmod.ascension100.patches.unified.MapRoomChances;
+import com.stsmod.ascension100.patches.unified.MapRoomRule;
+import com.stsmod.ascension100.util.AscensionRuleSet;
+
+/**
+ * Room chances and room rules of one ascension level, per act
+ *
+ * Built up front on one thread through the mod's MapMutationPipeline (the
+ * LevelNN.modifyRoomChances / convertRoom rules), like StatTable.
+ *
+ * 승천 레벨별 지도 규칙 (방 확률 + 방 변환 규칙)
+ */
+final class MapRules {
+    // Vanilla initializeLevelSpecificChances (the same in acts 1~3)
+    static final float BASE_SHOP_CHANCE = 0.05F;
+    static final float BASE_REST_CHANCE = 0.12F;
+    static final float BASE_TREASURE_CHANCE = 0.0F;
+    static final float BASE_EVENT_CHANCE = 0.22F;
+    static final float BASE_ELITE_CHANCE = 0.08F;
+
+    final int level;
+    final MapRoomChances[] chances;   // [act - FIRST_ACT]
+    final MapRoomRule[] rules;
+
+    private MapRules(int level, MapRoomChances[] chances, MapRoomRule[] rules) {
+        this.level = level;
+        this.chances = chances;
+        this.rules = rules;
+    }
+
+    MapRoomChances get(int act) {
+        return chances[act - EncounterCatalog.FIRST_ACT];
+    }
+
+    static MapRules build(int level) {
+        AscensionRuleSet previous = AscensionRuleSet.current();
+        AscensionRuleSet.install(AscensionRuleSet.compile(level > 0, level));
+        try {
+            MapRoomChances[] chances = new MapRoomChances[EncounterCatalog.LAST_ACT - EncounterCatalog.FIRST_ACT + 1];
+            for (int i = 0; i < chances.length; i++) {
+                chances[i] = new MapRoomChances(BASE_SHOP_CHANCE, BASE_REST_CHANCE);
+                MapMutationPipeline.collectRoomChances(chances[i]);
+            }
+            return new MapRules(level, chances, MapMutationPipeline.getRoomRules());
+        } finally {
+            AscensionRuleSet.install(previous);
+        }
+    }
+}
@@ -0,0 +1,173 @@
+package com.stsmod.ascension100.sim;
+
+import com.megacrit.cardcrawl.map.MapEdge;
+import com.megacrit.cardcrawl.map.MapGenerator;
+import com.megacrit.cardcrawl.map.MapRoomNode;
+import com.megacrit.cardcrawl.map.RoomTypeAssigner;
+import com.megacrit.cardcrawl.random.Random;
+import com.megacrit.cardcrawl.rooms.AbstractRoom;
+import com.megacrit.cardcrawl.rooms.EventRoom;
+import com.megacrit.cardcrawl.rooms.MonsterRoom;
+import com.megacrit.cardcrawl.rooms.MonsterRoomElite;
+import com.megacrit.cardcrawl.rooms.RestRoom;
+import com.megacrit.cardcrawl.rooms.ShopRoom;
+import com.megacrit.cardcrawl.rooms.TreasureRoom;
+import com.stsmod.ascension100.patches.unified.MapMutationPipeline;
+import com.stsmod.ascension100.patches.unified.MapRoomChances;
+import com.stsmod.ascension100.patches.unified.MapStats;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Generates act maps with the game's own generator and records their stats
+ *
+ * Mirrors AbstractDungeon.generateMap without touching its static state
+ * (map, mapRng, room chances), so one sampler per worker thread can run in
+ * parallel:
+ *   MapGenerator.generateDungeon -> room list from the chances (private
+ *   generateRoomTypes) -> fixed rows -> RoomTypeAssigner -> the mod's
+ *   MapMutationPipeline.mutate.
+ * The emerald key elite and endless blights are not simulated. Each map is
+ * reduced to counts and path statistics right away and then dropped.
+ *
+ * 게임 지도 생성기로 지도를 만들어 통계만 남기는 샘플러
+ */
+final class MapSampler {
+    static final int MAP_HEIGHT = 15;
+    static final int MAP_WIDTH = 7;
+    static final int MAP_PATH_DENSITY = 6;
+    static final int TREASURE_ROW = 8;
+
+    // A1+ elite multiplier in generateRoomTypes (every simulated level is A20+)
+    private static final float ASCENSION_ELITE_MULTIPLIER = 1.6F;
+
+    // Path DP tables, reused for every map of this sampler
+    private final int[][] minElites = new int[MAP_HEIGHT][MAP_WIDTH];
+    private final int[][] maxElites = new int[MAP_HEIGHT][MAP_WIDTH];
+    private final int[][] minRests = new int[MAP_HEIGHT][MAP_WIDTH];
+    private final int[][] maxRests = new int[MAP_HEIGHT][MAP_WIDTH];
+    private final int[][] maxShops = new int[MAP_HEIGHT][MAP_WIDTH];
+
+    /**
+     * Generate one act map for a run seed and add it to the result
+     */
+    void sample(MapRules rules, int act, long seed, MapResult result) {
+        Random mapRng = new Random(seed + actSeedOffset(act));
+        ArrayList<ArrayList<MapRoomNode>> map = MapGenerator.generateDungeon(MAP_HEIGHT, MAP_WIDTH, MAP_PATH_DENSITY, mapRng);
+
+        int available = 0;
+        for (ArrayList<MapRoomNode> row : map) {
+            for (MapRoomNode node : row) {
+                if (node.hasEdges() && node.y != map.size() - 2) {
+                    available++;
+                }
+            }
+        }
+
+        ArrayList<AbstractRoom> roomList = roomTypes(available, rules.get(act));
+        RoomTypeAssigner.assignRowAsRoomType(map.get(map.size() - 1), RestRoom.class);
+        RoomTypeAssigner.assignRowAsRoomType(map.get(0), MonsterRoom.class);
+        RoomTypeAssigner.assignRowAsRoomType(map.get(TREASURE_ROW), TreasureRoom.class);
+        map = RoomTypeAssigner.distributeRoomsAcrossMap(mapRng, map, roomList);
+
+        MapStats stats = MapMutationPipeline.mutate(act, map, mapRng, rules.rules);
+        result.record(stats, pathStats(map));
+    }
+
+    /**
+     * Same offsets the act constructors add to Settings.seed for mapRng
+     */
+    static long actSeedOffset(int act) {
+        switch (act) {
+            case 1:
+                return 1L;          // Exordium: actNum
+            case 2:
+                return 200L;        // TheCity: actNum * 100
+            default:
+                return act * 200L;  // TheBeyond: actNum * 200
+        }
+    }
+
+    /** generateRoomTypes: special rooms only, the rest become monster rooms */
+    private static ArrayList<AbstractRoom> roomTypes(int available, MapRoomChances chances) {
+        int shops = Math.round(available * chances.shop);
+        int rests = Math.round(available * chances.rest);
+        int elites = Math.round(available * MapRules.BASE_ELITE_CHANCE * ASCENSION_ELITE_MULTIPLIER);
+        int events = Math.round(available * MapRules.BASE_EVENT_CHANCE);
+
+        ArrayList<AbstractRoom> rooms = new ArrayList<>();
+        for (int i = 0; i < shops; i++) {
+            rooms.add(new ShopRoom());
+        }
+        for (int i = 0; i < rests; i++) {
+            rooms.add(new RestRoom());
+        }
+        for (int i = 0; i < elites; i++) {
+            rooms.add(new MonsterRoomElite());
+        }
+        for (int i = 0; i < events; i++) {
+            rooms.add(new EventRoom());
+        }
+        return rooms;
+    }
+
+    /**
+     * Best / worst case over every path from the first row to the boss
+     * @return {minElites, maxElites, minRests, maxRests, maxShops}
+     */
+    private int[] pathStats(List<ArrayList<MapRoomNode>> map) {
+        int height = map.size();
+        int[] best = {Integer.MAX_VALUE, 0, Integer.MAX_VALUE, 0, 0};
+
+        for (int y = height - 1; y >= 0; y--) {
+            for (MapRoomNode node : map.get(y)) {
+                if (!node.hasEdges() || node.room == null) {
+                    continue;
+                }
+                int x = node.x;
+                int elite = node.room instanceof MonsterRoomElite ? 1 : 0;
+                int rest = node.room instanceof RestRoom ? 1 : 0;
+                int shop = node.room instanceof ShopRoom ? 1 : 0;
+
+                int nMinE = Integer.MAX_VALUE, nMaxE = 0, nMinR = Integer.MAX_VALUE, nMaxR = 0, nMaxS = 0;
+                boolean hasNext = false;
+                for (MapEdge edge : node.getEdges()) {
+                    if (edge.dstY >= height || edge.dstY <= y) {
+                        continue; // boss edge
+                    }
+                    hasNext = true;
+                    nMinE = Math.min(nMinE, minElites[edge.dstY][edge.dstX]);
+                    nMaxE = Math.max(nMaxE, maxElites[edge.dstY][edge.dstX]);
+                    nMinR = Math.min(nMinR, minRests[edge.dstY][edge.dstX]);
+                    nMaxR = Math.max(nMaxR, maxRests[edge.dstY][edge.dstX]);
+                    nMaxS = Math.max(nMaxS, maxShops[edge.dstY][edge.dstX]);
+                }
+                if (!hasNext) {
+                    nMinE = 0;
+                    nMinR = 0;
+                }
+
+                minElites[y][x] = elite + nMinE;
+                maxElites[y][x] = elite + nMaxE;
+                minRests[y][x] = rest + nMinR;
+                maxRests[y][x] = rest + nMaxR;
+                maxShops[y][x] = shop + nMaxS;
+
+                if (y == 0) {
+                    best[0] = Math.min(best[0], minElites[y][x]);
+                    best[1] = Math.max(best[1], maxElites[y][x]);
+                    best[2] = Math.min(best[2], minRests[y][x]);
+                    best[3] = Math.max(best[3], maxRests[y][x]);
+                    best[4] = Math.max(best[4], maxShops[y][x]);
+                }
+            }
+        }
+
+        if (best[0] == Integer.MAX_VALUE) {
+            best[0] = 0;
+            best[2] = 0;
+        }
+        return best;
+    }
+}
@@ -0,0 +1,43 @@
+package com.stsmod.ascension100.sim;
+
+import com.megacrit.cardcrawl.monsters.AbstractMonster;
+
+/**
+ * Base (pre-Ascension 100) stats and move script of one monster
+ *
+ * 몬스터 기본 체력 / 행동 패턴
+ */
+final class MonsterProfile {
+    final String id;
+    final AbstractMonster.EnemyType type;
+    final int hpMin;
+    final int hpMax;
+    final Move[] opener;
+    final Move[] loop;
+    final boolean barricade;
+    final boolean shifting;
+    final int startBlock;
+
+    MonsterProfile(String id, AbstractMonster.EnemyType type, int hpMin, int hpMax,
+                   Move[] opener, Move[] loop, boolean barricade, boolean shifting, int startBlock) {
+        this.id = id;
+        this.type = type;
+        this.hpMin = hpMin;
+        this.hpMax = hpMax;
+        this.opener = opener;
+        this.loop = loop;
+        this.barricade = barricade;
+        this.shifting = shifting;
+        this.startBlock = startBlock;
+    }
+
+    /**
+     * Move used on the given monster turn (0 = first turn)
+     */
+    Move moveAt(int turn) {
+        if (turn < opener.length) {
+            return opener[turn];
+        }
+        return loop[(turn - opener.length) % loop.length];
+    }
+}
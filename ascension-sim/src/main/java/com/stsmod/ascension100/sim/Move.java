@@ -0,0 +1,105 @@
+package com.stsmod.ascension100.sim;
+
+/**
+ * One monster intent: a list of actions resolved in order
+ *
+ * Parsed from the encounters.txt notation ("A6x2+S5", "D9", "E", "-").
+ *
+ * 몬스터 행동 하나 (공격 / 방어 / 버프 / 디버프 조합)
+ */
+final class Move {
+    static final char ATTACK = 'A';
+    static final char BLOCK = 'D';
+    static final char STRENGTH = 'S';
+    static final char STRENGTH_ALL = 'G';
+    static final char WEAK = 'W';
+    static final char VULNERABLE = 'V';
+    static final char FRAIL = 'F';
+    static final char STATUS = 'Z';
+    static final char ESCAPE = 'E';
+
+    static final Move NOTHING = new Move(new char[0], new int[0], new int[0]);
+
+    final char[] kinds;
+    final int[] amounts;
+    final int[] hits;
+
+    private Move(char[] kinds, int[] amounts, int[] hits) {
+        this.kinds = kinds;
+        this.amounts = amounts;
+        this.hits = hits;
+    }
+
+    int size() {
+        return kinds.length;
+    }
+
+    boolean isAttack() {
+        for (char kind : kinds) {
+            if (kind == ATTACK) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    static Move parse(String text) {
+        String trimmed = text.trim();
+        if (trimmed.equals("-")) {
+            return NOTHING;
+        }
+
+        String[] parts = trimmed.split("\\+");
+        char[] kinds = new char[parts.length];
+        int[] amounts = new int[parts.length];
+        int[] hits = new int[parts.length];
+
+        for (int i = 0; i < parts.length; i++) {
+            String part = parts[i].trim();
+            if (part.isEmpty()) {
+                throw new IllegalArgumentException("Empty action in move: " + text);
+            }
+
+            char kind = part.charAt(0);
+            String rest = part.substring(1);
+            hits[i] = 1;
+
+            switch (kind) {
+                case ESCAPE:
+                    if (!rest.isEmpty()) {
+                        throw new IllegalArgumentException("Escape takes no amount: " + text);
+                    }
+                    break;
+                case ATTACK:
+                    int x = rest.indexOf('x');
+                    if (x >= 0) {
+                        hits[i] = parseAmount(rest.substring(x + 1), text);
+                        rest = rest.substring(0, x);
+                    }
+                    amounts[i] = parseAmount(rest, text);
+                    break;
+                case BLOCK:
+                case STRENGTH:
+                case STRENGTH_ALL:
+                case WEAK:
+                case VULNERABLE:
+                case FRAIL:
+                case STATUS:
+                    amounts[i] = parseAmount(rest, text);
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown action '" + kind + "' in move: " + text);
+            }
+            kinds[i] = kind;
+        }
+        return new Move(kinds, amounts, hits);
+    }
+
+    private static int parseAmount(String value, String move) {
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Bad amount '" + value + "' in move: " + move);
+        }
+    }
+}
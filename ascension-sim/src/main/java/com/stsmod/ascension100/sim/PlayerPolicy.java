@@ -0,0 +1,39 @@
+package com.stsmod.ascension100.sim;
+
+/**
+ * Scripted player: decides how much of the turn's energy goes into block
+ *
+ * The rest is spent on attacks against the monster closest to dying.
+ *
+ * 플레이어 행동 방침 (방어에 쓸 에너지 결정)
+ */
+interface PlayerPolicy {
+
+    String getName();
+
+    /**
+     * @param combat current fight (intents are already known)
+     * @param energy energy available this turn
+     * @return energy to spend on block, 0..energy
+     */
+    int chooseBlockEnergy(CombatSimulator combat, int energy);
+
+    /**
+     * @return all built-in policies
+     */
+    static PlayerPolicy[] all() {
+        return new PlayerPolicy[] { new AggressivePolicy(), new BalancedPolicy() };
+    }
+
+    /**
+     * @return the built-in policy with the given name, or null
+     */
+    static PlayerPolicy byName(String name) {
+        for (PlayerPolicy policy : all()) {
+            if (policy.getName().equalsIgnoreCase(name)) {
+                return policy;
+            }
+        }
+        return null;
+    }
+}
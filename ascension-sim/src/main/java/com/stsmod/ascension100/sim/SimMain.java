@@ -0,0 +1,218 @@
+package com.stsmod.ascension100.sim;
+
+import com.stsmod.ascension100.patches.unified.MonsterStatModifier;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Headless combat simulator for the Ascension 21~100 monster stat rules
+ *
+ * For every ascension level, every EncounterHelper encounter is fought
+ * --fights times by every scripted player policy, spread over all cores.
+ * Monster HP / damage go through the mod's own MonsterStatPipeline (the
+ * LevelNN.modifyStats rules), so a rule change shows up here without any
+ * change to the simulator. Results are HP-loss and turn-count distributions
+ * per level, per act and per encounter.
+ *
+ * No game is started: monster behaviour comes from encounters.txt.
+ *
+ * Usage: SimMain [--levels 20-100] [--fights 500] [--policy aggressive,balanced]
+ *                [--threads N] [--seed 1234] [--out ascension-sim.json]
+ *
+ * 승천 레벨별 전투 시뮬레이터 (게임 실행 없이 스탯 규칙만 적용)
+ */
+public class SimMain {
+    private static final int DEFAULT_FIRST_LEVEL = 20;
+    private static final int DEFAULT_LAST_LEVEL = 100;
+    private static final int DEFAULT_FIGHTS = 500;
+    private static final long DEFAULT_SEED = 1234L;
+
+    public static void main(String[] args) throws Exception {
+        int[] levels = range(DEFAULT_FIRST_LEVEL, DEFAULT_LAST_LEVEL);
+        int fights = DEFAULT_FIGHTS;
+        int threads = Runtime.getRuntime().availableProcessors();
+        long seed = DEFAULT_SEED;
+        PlayerPolicy[] policies = PlayerPolicy.all();
+        File out = new File("ascension-sim.json");
+
+        for (int i = 0; i < args.length; i++) {
+            String arg = args[i];
+            if (i + 1 >= args.length) {
+                usage("Missing value for " + arg);
+            }
+            String value = args[++i];
+            switch (arg) {
+                case "--levels":
+                    try {
+                        levels = parseLevels(value);
+                    } catch (IllegalArgumentException e) {
+                        usage(e.getMessage());
+                    }
+                    break;
+                case "--fights":
+                    fights = Integer.parseInt(value);
+                    break;
+                case "--threads":
+                    threads = Math.max(1, Integer.parseInt(value));
+                    break;
+                case "--seed":
+                    seed = Long.parseLong(value);
+                    break;
+                case "--policy":
+                    policies = parsePolicies(value);
+                    break;
+                case "--out":
+                    out = new File(value);
+                    break;
+                default:
+                    usage("Unknown option " + arg);
+            }
+        }
+
+        List<String> missing = new ArrayList<>();
+        List<Encounter> encounters = EncounterCatalog.load(missing);
+        for (String key : missing) {
+            System.err.println("[ascension-sim] No catalog data, skipped: " + key);
+        }
+
+        // Stat rules run on this thread only (AscensionRuleSet is global)
+        StatTable[] tables = new StatTable[levels.length];
+        for (int l = 0; l < levels.length; l++) {
+            tables[l] = StatTable.build(levels[l], encounters);
+        }
+
+        System.out.println(String.format(
+            "[ascension-sim] %d levels x %d policies x %d encounters x %d fights on %d threads",
+            levels.length, policies.length, encounters.size(), fights, threads));
+
+        long start = System.nanoTime();
+        LevelResult[][][] results = run(tables, policies, encounters, fights, threads, seed);
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000L;
+
+        SimReport report = new SimReport(levels, policies, encounters, results, fights, seed);
+        report.printSummary(System.out);
+        report.writeJson(out);
+
+        long total = (long) levels.length * policies.length * encounters.size() * fights;
+        System.out.println(String.format("[ascension-sim] %d fights in %d ms, report: %s",
+            total, elapsedMs, out.getAbsolutePath()));
+    }
+
+    /**
+     * One task per (level, policy, encounter); each task has its own
+     * simulator and a deterministic random stream, so results do not depend
+     * on the thread count.
+     *
+     * @return results[level index][policy index][encounter index]
+     */
+    static LevelResult[][][] run(StatTable[] tables, PlayerPolicy[] policies, List<Encounter> encounters,
+                                 int fights, int threads, long seed) throws InterruptedException, ExecutionException {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<LevelResult>> futures = new ArrayList<>();
+            for (int l = 0; l < tables.length; l++) {
+                for (int p = 0; p < policies.length; p++) {
+                    for (int e = 0; e < encounters.size(); e++) {
+                        StatTable table = tables[l];
+                        PlayerPolicy policy = policies[p];
+                        Encounter encounter = encounters.get(e);
+                        MonsterStatModifier[] modifiers = table.get(e);
+                        long taskSeed = mix(seed, table.level, p, e);
+
+                        futures.add(executor.submit(() -> {
+                            CombatSimulator combat = new CombatSimulator(policy, table);
+                            SplittableRandom random = new SplittableRandom(taskSeed);
+                            LevelResult result = new LevelResult(table.level, policy.getName());
+                            for (int f = 0; f < fights; f++) {
+                                result.record(combat, combat.run(encounter, modifiers, random));
+                            }
+                            return result;
+                        }));
+                    }
+                }
+            }
+
+            LevelResult[][][] results = new LevelResult[tables.length][policies.length][encounters.size()];
+            int next = 0;
+            for (int l = 0; l < tables.length; l++) {
+                for (int p = 0; p < policies.length; p++) {
+                    for (int e = 0; e < encounters.size(); e++) {
+                        results[l][p][e] = futures.get(next++).get();
+                    }
+                }
+            }
+            return results;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static long mix(long seed, int level, int policy, int encounter) {
+        long h = seed;
+        h = h * 1_000_003L + level;
+        h = h * 1_000_003L + policy;
+        h = h * 1_000_003L + encounter;
+        return h;
+    }
+
+    /** "20-100", "20,40,60,80,100" or a mix of both (also used by MapMain) */
+    static int[] parseLevels(String value) {
+        List<Integer> levels = new ArrayList<>();
+        for (String part : value.split(",")) {
+            String trimmed = part.trim();
+            int dash = trimmed.indexOf('-');
+            if (dash > 0) {
+                int from = Integer.parseInt(trimmed.substring(0, dash).trim());
+                int to = Integer.parseInt(trimmed.substring(dash + 1).trim());
+                for (int level = from; level <= to; level++) {
+                    levels.add(level);
+                }
+            } else if (!trimmed.isEmpty()) {
+                levels.add(Integer.parseInt(trimmed));
+            }
+        }
+
+        int[] result = new int[levels.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = levels.get(i);
+            if (result[i] < 0 || result[i] > DEFAULT_LAST_LEVEL) {
+                throw new IllegalArgumentException("Ascension level out of range: " + result[i]);
+            }
+        }
+        return result;
+    }
+
+    private static PlayerPolicy[] parsePolicies(String value) {
+        List<PlayerPolicy> policies = new ArrayList<>();
+        for (String name : value.split(",")) {
+            PlayerPolicy policy = PlayerPolicy.byName(name.trim());
+            if (policy == null) {
+                usage("Unknown policy " + name.trim());
+            }
+            policies.add(policy);
+        }
+        return policies.toArray(new PlayerPolicy[0]);
+    }
+
+    private static int[] range(int from, int to) {
+        int[] result = new int[to - from + 1];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = from + i;
+        }
+        return result;
+    }
+
+    private static void usage(String error) {
+        System.err.println("[ascension-sim] " + error);
+        System.err.println("Usage: SimMain [--levels 20-100] [--fights 500] [--policy aggressive,balanced]");
+        System.err.println("               [--threads N] [--seed 1234] [--out ascension-sim.json]");
+        System.exit(2);
+    }
+}
@@ -0,0 +1,197 @@
+package com.stsmod.ascension100.sim;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintStream;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Console summary and JSON report of a simulation run
+ *
+ * Both start with the rule levels the simulation models (StatTable): results
+ * only change between simulated levels where one of those levels starts, so
+ * a flat line between two levels is not "no difficulty change" in game.
+ *
+ * JSON layout:
+ *   { "seed", "fightsPerEncounter", "playerMaxHp", "maxTurns",
+ *     "modelledRuleLevels": [ levels ], "notModelled": "<rules left out>",
+ *     "results": [ { "level", "policy", <stats>,
+ *                    "acts": [ { "act", <stats> } ],
+ *                    "encounters": [ { "act", "key", "class", <stats> } ] } ] }
+ * where <stats> is fights / deaths / timeouts / deathRate / hpLoss / turns,
+ * and hpLoss / turns hold mean, p50, p90, p99, max and (totals only) the
+ * full histogram.
+ *
+ * 시뮬레이션 결과 출력 (콘솔 요약 + JSON)
+ */
+final class SimReport {
+    /** Ascension rules the simulator leaves out */
+    static final String NOT_MODELLED = "monster move / behaviour modifiers (MonsterDispatch: Level26, 51, 86, 92), "
+        + "Level45 extra monsters and every other non-stat rule";
+
+    private final int[] levels;
+    private final PlayerPolicy[] policies;
+    private final List<Encounter> encounters;
+    private final LevelResult[][][] results;
+    private final int fights;
+    private final long seed;
+
+    SimReport(int[] levels, PlayerPolicy[] policies, List<Encounter> encounters,
+              LevelResult[][][] results, int fights, long seed) {
+        this.levels = levels;
+        this.policies = policies;
+        this.encounters = encounters;
+        this.results = results;
+        this.fights = fights;
+        this.seed = seed;
+    }
+
+    void printSummary(PrintStream out) {
+        out.println("Rule levels modelled: " + joinLevels()
+            + " (LevelNN.modifyStats, Level56 debuffs)");
+        out.println("Not modelled: " + NOT_MODELLED);
+        out.println(String.format("%5s %-11s %9s %7s %5s %5s %5s %7s %7s %5s",
+            "Asc", "Policy", "Fights", "Death%", "HP50", "HP90", "HP99", "HPmean", "Turns", "T90"));
+        for (int l = 0; l < levels.length; l++) {
+            for (int p = 0; p < policies.length; p++) {
+                LevelResult total = total(l, p, 0);
+                out.println(String.format(Locale.ROOT, "%5d %-11s %9d %6.2f%% %5d %5d %5d %7.2f %7.2f %5d",
+                    levels[l], policies[p].getName(), total.fights(), total.deathRate() * 100.0,
+                    total.hpLoss.percentile(0.5), total.hpLoss.percentile(0.9), total.hpLoss.percentile(0.99),
+                    total.hpLoss.mean(), total.turns.mean(), total.turns.percentile(0.9)));
+            }
+        }
+    }
+
+    void writeJson(File file) throws IOException {
+        File parent = file.getAbsoluteFile().getParentFile();
+        if (parent != null) {
+            Files.createDirectories(parent.toPath());
+        }
+
+        try (Writer writer = new OutputStreamWriter(Files.newOutputStream(file.toPath()), StandardCharsets.UTF_8)) {
+            StringBuilder json = new StringBuilder(1 << 16);
+            json.append("{\n");
+            json.append("  \"seed\": ").append(seed).append(",\n");
+            json.append("  \"fightsPerEncounter\": ").append(fights).append(",\n");
+            json.append("  \"playerMaxHp\": ").append(CombatSimulator.PLAYER_MAX_HP).append(",\n");
+            json.append("  \"maxTurns\": ").append(CombatSimulator.MAX_TURNS).append(",\n");
+            json.append("  \"modelledRuleLevels\": [").append(joinLevels()).append("],\n");
+            json.append("  \"notModelled\": \"").append(escape(NOT_MODELLED)).append("\",\n");
+            json.append("  \"results\": [");
+
+            boolean first = true;
+            for (int l = 0; l < levels.length; l++) {
+                for (int p = 0; p < policies.length; p++) {
+                    json.append(first ? "\n" : ",\n");
+                    first = false;
+                    appendLevel(json, l, p);
+                }
+            }
+
+            json.append("\n  ]\n}\n");
+            writer.write(json.toString());
+        }
+    }
+
+    private void appendLevel(StringBuilder json, int l, int p) {
+        json.append("    {\"level\": ").append(levels[l])
+            .append(", \"policy\": \"").append(policies[p].getName()).append("\", ");
+        appendStats(json, total(l, p, 0), true);
+
+        json.append(",\n      \"acts\": [");
+        boolean first = true;
+        for (int act = EncounterCatalog.FIRST_ACT; act <= EncounterCatalog.LAST_ACT; act++) {
+            LevelResult actTotal = total(l, p, act);
+            if (actTotal.fights() == 0) {
+                continue;
+            }
+            json.append(first ? "\n" : ",\n");
+            first = false;
+            json.append("        {\"act\": ").append(act).append(", ");
+            appendStats(json, actTotal, false);
+            json.append('}');
+        }
+
+        json.append("\n      ],\n      \"encounters\": [");
+        for (int e = 0; e < encounters.size(); e++) {
+            Encounter encounter = encounters.get(e);
+            json.append(e == 0 ? "\n" : ",\n");
+            json.append("        {\"act\": ").append(encounter.act)
+                .append(", \"key\": \"").append(escape(encounter.key))
+                .append("\", \"class\": \"").append(encounter.encounterClass.getLogName()).append("\", ");
+            appendStats(json, results[l][p][e], false);
+            json.append('}');
+        }
+        json.append("\n      ]}");
+    }
+
+    private static void appendStats(StringBuilder json, LevelResult result, boolean histogram) {
+        json.append("\"fights\": ").append(result.fights())
+            .append(", \"deaths\": ").append(result.deaths)
+            .append(", \"timeouts\": ").append(result.timeouts)
+            .append(", \"deathRate\": ").append(format(result.deathRate()))
+            .append(", \"hpLoss\": ");
+        appendDistribution(json, result.hpLoss, histogram);
+        json.append(", \"turns\": ");
+        appendDistribution(json, result.turns, histogram);
+    }
+
+    private static void appendDistribution(StringBuilder json, Distribution d, boolean histogram) {
+        json.append("{\"mean\": ").append(format(d.mean()))
+            .append(", \"p50\": ").append(d.percentile(0.5))
+            .append(", \"p90\": ").append(d.percentile(0.9))
+            .append(", \"p99\": ").append(d.percentile(0.99))
+            .append(", \"max\": ").append(d.max());
+        if (histogram) {
+            json.append(", \"histogram\": [");
+            long[] counts = d.histogram();
+            for (int i = 0; i < counts.length; i++) {
+                if (i > 0) {
+                    json.append(", ");
+                }
+                json.append(counts[i]);
+            }
+            json.append(']');
+        }
+        json.append('}');
+    }
+
+    /**
+     * Merge encounter results of one level / policy
+     * @param act 0 for all acts
+     */
+    private LevelResult total(int l, int p, int act) {
+        LevelResult total = new LevelResult(levels[l], policies[p].getName());
+        for (int e = 0; e < encounters.size(); e++) {
+            if (act == 0 || encounters.get(e).act == act) {
+                total.merge(results[l][p][e]);
+            }
+        }
+        return total;
+    }
+
+    private static String joinLevels() {
+        StringBuilder text = new StringBuilder();
+        for (int level : StatTable.MODELLED_LEVELS) {
+            if (text.length() > 0) {
+                text.append(", ");
+            }
+            text.append(level);
+        }
+        return text.toString();
+    }
+
+    private static String format(double value) {
+        return String.format(Locale.ROOT, "%.4f", value);
+    }
+
+    private static String escape(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"");
+    }
+}
@@ -0,0 +1,92 @@
+package com.stsmod.ascension100.sim;
+
+import com.stsmod.ascension100.patches.levels.Level56;
+import com.stsmod.ascension100.patches.unified.MonsterStatContext;
+import com.stsmod.ascension100.patches.unified.MonsterStatModifier;
+import com.stsmod.ascension100.patches.unified.MonsterStatPipeline;
+import com.stsmod.ascension100.util.AscensionRuleSet;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Folded stat modifiers for every catalog monster at one ascension level
+ *
+ * Built up front on one thread: AscensionRuleSet and the pipeline cache are
+ * global, so the simulation threads only ever read these finished tables.
+ * The debuff multipliers on the player (Level56) are resolved under the same
+ * rule set.
+ *
+ * Only the rule levels in MODELLED_LEVELS change the simulation; monster
+ * move / behaviour modifiers (MonsterDispatch), extra monsters and the other
+ * non-stat rules are not modelled.
+ *
+ * 승천 레벨별 몬스터 스탯 수정치 표 (시뮬레이션 전에 미리 계산)
+ */
+final class StatTable {
+    /** Vanilla Vulnerable / Weak / Frail multipliers */
+    static final float BASE_VULNERABLE_MULTIPLIER = 1.5F;
+    static final float BASE_WEAK_MULTIPLIER = 0.75F;
+    static final float BASE_FRAIL_MULTIPLIER = 0.75F;
+
+    /** Ascension rule levels the simulation models: the stat rules and Level56 */
+    static final int[] MODELLED_LEVELS = modelledLevels();
+
+    final int level;
+    // Player debuffs: damage taken while Vulnerable, dealt while Weak, block while Frail
+    final float vulnerableMultiplier;
+    final float weakMultiplier;
+    final float frailMultiplier;
+
+    // modifiers[encounter index][monster index]
+    private final MonsterStatModifier[][] modifiers;
+
+    private StatTable(int level, MonsterStatModifier[][] modifiers) {
+        this.level = level;
+        this.modifiers = modifiers;
+
+        // The player owns the debuffs and carries no relics in the model
+        boolean enhanced = AscensionRuleSet.isActive(56);
+        this.vulnerableMultiplier = enhanced
+            ? Level56.vulnerableMultiplier(true, false, false) : BASE_VULNERABLE_MULTIPLIER;
+        this.weakMultiplier = enhanced ? Level56.WEAK_MULTIPLIER : BASE_WEAK_MULTIPLIER;
+        this.frailMultiplier = enhanced ? Level56.FRAIL_MULTIPLIER : BASE_FRAIL_MULTIPLIER;
+    }
+
+    MonsterStatModifier[] get(int encounterIndex) {
+        return modifiers[encounterIndex];
+    }
+
+    /**
+     * Run the mod's stat rules (MonsterStatPipeline) for every monster
+     * Catalog encounters are weak / strong hallway fights: normal monster room.
+     */
+    static StatTable build(int level, List<Encounter> encounters) {
+        AscensionRuleSet previous = AscensionRuleSet.current();
+        AscensionRuleSet.install(AscensionRuleSet.compile(level > 0, level));
+        try {
+            MonsterStatModifier[][] modifiers = new MonsterStatModifier[encounters.size()][];
+            for (int e = 0; e < encounters.size(); e++) {
+                Encounter encounter = encounters.get(e);
+                modifiers[e] = new MonsterStatModifier[encounter.monsters.length];
+                for (int m = 0; m < encounter.monsters.length; m++) {
+                    MonsterProfile monster = encounter.monsters[m];
+                    MonsterStatContext ctx = new MonsterStatContext(monster.id, monster.type, encounter.act,
+                        encounter.encounterClass, MonsterStatContext.ROOM_MONSTER);
+                    modifiers[e][m] = MonsterStatPipeline.getModifier(ctx);
+                }
+            }
+            return new StatTable(level, modifiers);
+        } finally {
+            AscensionRuleSet.install(previous);
+        }
+    }
+
+    private static int[] modelledLevels() {
+        int[] statLevels = MonsterStatPipeline.STAT_RULE_LEVELS;
+        int[] levels = Arrays.copyOf(statLevels, statLevels.length + 1);
+        levels[statLevels.length] = 56;
+        Arrays.sort(levels);
+        return levels;
+    }
+}
@@ -0,0 +1,125 @@
+package com.stsmod.ascension100.sim;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Reader for the mod's per-run Telemetry files
+ *
+ * Aggregates every run-*.bin found in the given files / directories (searched
+ * recursively) on all cores: one TelemetryStats per block of files, merged on
+ * the main thread.
+ *
+ * Usage: TelemetryMain [--threads N] [--out telemetry.json] <file or dir>...
+ *
+ * 텔레메트리 파일 집계 도구
+ */
+public class TelemetryMain {
+    // Files per worker task
+    private static final int CHUNK = 64;
+
+    public static void main(String[] args) throws Exception {
+        int threads = Runtime.getRuntime().availableProcessors();
+        File out = null;
+        List<File> inputs = new ArrayList<>();
+
+        for (int i = 0; i < args.length; i++) {
+            String arg = args[i];
+            if (!arg.startsWith("--")) {
+                inputs.add(new File(arg));
+                continue;
+            }
+            if (i + 1 >= args.length) {
+                usage("Missing value for " + arg);
+            }
+            String value = args[++i];
+            switch (arg) {
+                case "--threads":
+                    try {
+                        threads = Math.max(1, Integer.parseInt(value));
+                    } catch (NumberFormatException e) {
+                        usage("Bad thread count " + value);
+                    }
+                    break;
+                case "--out":
+                    out = new File(value);
+                    break;
+                default:
+                    usage("Unknown option " + arg);
+            }
+        }
+        if (inputs.isEmpty()) {
+            usage("No telemetry files or directories given");
+        }
+
+        List<File> files = new ArrayList<>();
+        for (File input : inputs) {
+            collect(input, files);
+        }
+
+        long start = System.nanoTime();
+        TelemetryStats stats = read(files, threads);
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000L;
+
+        stats.printSummary(System.out);
+        if (out != null) {
+            stats.writeJson(out);
+            System.out.println("[telemetry] report: " + out.getAbsolutePath());
+        }
+        System.out.println(String.format("[telemetry] %d files read in %d ms", files.size(), elapsedMs));
+    }
+
+    static TelemetryStats read(List<File> files, int threads) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<TelemetryStats>> futures = new ArrayList<>();
+            for (int from = 0; from < files.size(); from += CHUNK) {
+                List<File> block = files.subList(from, Math.min(files.size(), from + CHUNK));
+                futures.add(executor.submit(() -> {
+                    TelemetryStats stats = new TelemetryStats();
+                    for (File file : block) {
+                        try {
+                            stats.read(file);
+                        } catch (IOException e) {
+                            System.err.println("[telemetry] " + file + ": " + e.getMessage());
+                            stats.badFiles++;
+                        }
+                    }
+                    return stats;
+                }));
+            }
+
+            TelemetryStats total = new TelemetryStats();
+            for (Future<TelemetryStats> future : futures) {
+                total.merge(future.get());
+            }
+            return total;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static void collect(File input, List<File> files) {
+        if (input.isDirectory()) {
+            File[] children = input.listFiles();
+            if (children != null) {
+                for (File child : children) {
+                    collect(child, files);
+                }
+            }
+        } else if (input.getName().endsWith(".bin")) {
+            files.add(input);
+        }
+    }
+
+    private static void usage(String error) {
+        System.err.println("[telemetry] " + error);
+        System.err.println("Usage: TelemetryMain [--threads N] [--out telemetry.json] <file or dir>...");
+        System.exit(2);
+    }
+}
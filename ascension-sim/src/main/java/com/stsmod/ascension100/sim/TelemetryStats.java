@@ -0,0 +1,193 @@
+package com.stsmod.ascension100.sim;
+
+import com.stsmod.ascension100.util.Telemetry;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintStream;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Aggregated Telemetry records, keyed by event, rule and act
+ *
+ * For every key: record count, how often the rule changed something
+ * ("fired": ROLL when roll < threshold, otherwise before != after) and the
+ * sums of before / after. Files are read in large blocks; a truncated last
+ * record (game killed mid-write) is ignored.
+ *
+ * 텔레메트리 레코드 집계 (이벤트 / 규칙 / 막 단위)
+ */
+final class TelemetryStats {
+    private static final int READ_BLOCK = Telemetry.RECORD_SIZE * 8192;
+
+    /** One (event, rule, act) bucket */
+    static final class Bucket {
+        long count;
+        long fired;
+        long beforeSum;
+        long afterSum;
+
+        void merge(Bucket other) {
+            count += other.count;
+            fired += other.fired;
+            beforeSum += other.beforeSum;
+            afterSum += other.afterSum;
+        }
+    }
+
+    int files;
+    int badFiles;
+    long records;
+    // Runs by ascension level
+    final Map<Integer, Integer> runsByLevel = new TreeMap<>();
+    // (event << 24 | rule << 8 | act) -> bucket, sorted for the report
+    final Map<Integer, Bucket> buckets = new TreeMap<>();
+
+    /**
+     * Read one run file into this aggregate
+     */
+    void read(File file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            ByteBuffer buffer = ByteBuffer.allocate(READ_BLOCK).order(ByteOrder.LITTLE_ENDIAN);
+            buffer.limit(Telemetry.HEADER_SIZE);
+            int read = 0;
+            while (buffer.hasRemaining() && read >= 0) {
+                read = channel.read(buffer);
+            }
+            buffer.flip();
+            if (buffer.remaining() < Telemetry.HEADER_SIZE || buffer.getInt() != Telemetry.MAGIC
+                    || buffer.getShort() != Telemetry.VERSION || buffer.getShort() != Telemetry.RECORD_SIZE) {
+                badFiles++;
+                return;
+            }
+            buffer.getLong(); // seed
+            int level = buffer.getInt();
+            runsByLevel.merge(level, 1, Integer::sum);
+            files++;
+
+            buffer.clear();
+            while (channel.read(buffer) > 0) {
+                buffer.flip();
+                while (buffer.remaining() >= Telemetry.RECORD_SIZE) {
+                    add(buffer);
+                }
+                buffer.compact();
+            }
+        }
+    }
+
+    private void add(ByteBuffer buffer) {
+        int rule = buffer.getShort() & 0xFFFF;
+        int event = buffer.get() & 0xFF;
+        int act = buffer.get() & 0xFF;
+        buffer.getShort(); // floor
+        buffer.getShort();
+        int before = buffer.getInt();
+        int after = buffer.getInt();
+
+        Bucket bucket = buckets.computeIfAbsent(event << 24 | rule << 8 | act, k -> new Bucket());
+        bucket.count++;
+        boolean fired = event == Telemetry.Event.ROLL.ordinal() ? before < after : before != after;
+        if (fired) {
+            bucket.fired++;
+        }
+        bucket.beforeSum += before;
+        bucket.afterSum += after;
+        records++;
+    }
+
+    void merge(TelemetryStats other) {
+        files += other.files;
+        badFiles += other.badFiles;
+        records += other.records;
+        for (Map.Entry<Integer, Integer> entry : other.runsByLevel.entrySet()) {
+            runsByLevel.merge(entry.getKey(), entry.getValue(), Integer::sum);
+        }
+        for (Map.Entry<Integer, Bucket> entry : other.buckets.entrySet()) {
+            buckets.computeIfAbsent(entry.getKey(), k -> new Bucket()).merge(entry.getValue());
+        }
+    }
+
+    void printSummary(PrintStream out) {
+        out.println(String.format("[telemetry] %d runs, %d records (%d unreadable files)", files, records, badFiles));
+        out.println(String.format("%-12s %5s %3s %10s %7s %10s %10s",
+            "Event", "Rule", "Act", "Count", "Fired%", "Before", "After"));
+        for (Map.Entry<Integer, Bucket> entry : buckets.entrySet()) {
+            int key = entry.getKey();
+            Bucket b = entry.getValue();
+            out.println(String.format(Locale.ROOT, "%-12s %5d %3d %10d %6.2f%% %10.2f %10.2f",
+                eventName(key >>> 24), (key >>> 8) & 0xFFFF, key & 0xFF, b.count,
+                b.fired * 100.0 / b.count, (double) b.beforeSum / b.count, (double) b.afterSum / b.count));
+        }
+    }
+
+    /**
+     * JSON layout:
+     *   { "files", "badFiles", "records", "runsByLevel": { <level>: <runs> },
+     *     "rules": [ { "event", "rule", "act", "count", "fired", "firedRate",
+     *                  "beforeMean", "afterMean", "beforeSum", "afterSum" } ] }
+     */
+    void writeJson(File file) throws IOException {
+        File parent = file.getAbsoluteFile().getParentFile();
+        if (parent != null) {
+            Files.createDirectories(parent.toPath());
+        }
+
+        StringBuilder json = new StringBuilder(1 << 14);
+        json.append("{\n");
+        json.append("  \"files\": ").append(files).append(",\n");
+        json.append("  \"badFiles\": ").append(badFiles).append(",\n");
+        json.append("  \"records\": ").append(records).append(",\n");
+        json.append("  \"runsByLevel\": {");
+        List<String> runs = new ArrayList<>();
+        for (Map.Entry<Integer, Integer> entry : runsByLevel.entrySet()) {
+            runs.add("\"" + entry.getKey() + "\": " + entry.getValue());
+        }
+        json.append(String.join(", ", runs)).append("},\n");
+        json.append("  \"rules\": [");
+
+        boolean first = true;
+        for (Map.Entry<Integer, Bucket> entry : buckets.entrySet()) {
+            int key = entry.getKey();
+            Bucket b = entry.getValue();
+            json.append(first ? "\n" : ",\n");
+            first = false;
+            json.append("    {\"event\": \"").append(eventName(key >>> 24)).append('"')
+                .append(", \"rule\": ").append((key >>> 8) & 0xFFFF)
+                .append(", \"act\": ").append(key & 0xFF)
+                .append(", \"count\": ").append(b.count)
+                .append(", \"fired\": ").append(b.fired)
+                .append(", \"firedRate\": ").append(format((double) b.fired / b.count))
+                .append(", \"beforeMean\": ").append(format((double) b.beforeSum / b.count))
+                .append(", \"afterMean\": ").append(format((double) b.afterSum / b.count))
+                .append(", \"beforeSum\": ").append(b.beforeSum)
+                .append(", \"afterSum\": ").append(b.afterSum).append('}');
+        }
+        json.append("\n  ]\n}\n");
+
+        try (Writer writer = new OutputStreamWriter(Files.newOutputStream(file.toPath()), StandardCharsets.UTF_8)) {
+            writer.write(json.toString());
+        }
+    }
+
+    private static String eventName(int ordinal) {
+        Telemetry.Event event = Telemetry.Event.of(ordinal);
+        return event != null ? event.name() : "EVENT_" + ordinal;
+    }
+
+    private static String format(double value) {
+        return String.format(Locale.ROOT, "%.4f", value);
+    }
+}